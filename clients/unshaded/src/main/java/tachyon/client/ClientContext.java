@@ -36,6 +36,7 @@ import tachyon.worker.ClientMetrics;
  */
 public final class ClientContext {
   private static ExecutorService sExecutorService;
+  private static ExecutorService sReadAheadExecutorService;
   private static TachyonConf sTachyonConf;
   private static InetSocketAddress sMasterAddress;
   private static ClientMetrics sClientMetrics;
@@ -74,6 +75,12 @@ public final class ClientContext {
     sExecutorService = Executors.newFixedThreadPool(
         sTachyonConf.getInt(Constants.USER_BLOCK_WORKER_CLIENT_THREADS),
         ThreadFactoryUtils.build("block-worker-heartbeat-%d", true));
+    if (sReadAheadExecutorService != null) {
+      sReadAheadExecutorService.shutdown();
+    }
+    sReadAheadExecutorService = Executors.newFixedThreadPool(
+        sTachyonConf.getInt(Constants.USER_FILE_READ_AHEAD_THREADS),
+        ThreadFactoryUtils.build("file-read-ahead-%d", true));
     // If this isn't the first time setting the ClientContext, we should reset other contexts so
     // that they can see the latest changes
     if (sInitialized) {
@@ -113,6 +120,14 @@ public final class ClientContext {
     return sExecutorService;
   }
 
+  /**
+   * @return the executor service used to read ahead of sequential file readers
+   */
+  public static synchronized ExecutorService getReadAheadExecutorService() {
+    checkContextInitialized();
+    return sReadAheadExecutorService;
+  }
+
   private static void checkContextInitialized() {
     Preconditions.checkState(sInitialized, PreconditionMessage.CLIENT_CONTEXT_NOT_INITIALIZED);
   }
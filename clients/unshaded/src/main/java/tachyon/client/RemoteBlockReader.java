@@ -60,4 +60,31 @@ public interface RemoteBlockReader extends Closeable {
    */
   ByteBuffer readRemoteBlock(InetSocketAddress address, long blockId, long offset,
       long length, long lockId, long sessionId) throws IOException;
+
+  /**
+   * Opens a stream of a remote block from the given offset. The data is then received in chunks
+   * with {@link #readStreamChunk()}. Any stream previously opened by this reader is abandoned.
+   *
+   * @param address the {@link InetSocketAddress} of the data server
+   * @param blockId the id of the block trying to read
+   * @param offset the offset of the block to start streaming from
+   * @param length the number of bytes to stream
+   * @param lockId the acquired block lock id
+   * @param sessionId the session id of the client
+   * @return true if the stream was opened, or false if it was rejected because this reader or the
+   *         remote server cannot stream blocks, in which case the block should be read with
+   *         {@link #readRemoteBlock}
+   * @throws IOException if the remote server is not reachable
+   */
+  boolean openStream(InetSocketAddress address, long blockId, long offset, long length, long lockId,
+      long sessionId) throws IOException;
+
+  /**
+   * Reads the next chunk of the stream opened with {@link #openStream}. The returned buffer is
+   * only valid until the next call to this method or to {@link #close()}.
+   *
+   * @return a byte buffer containing the next chunk, or null if the stream has ended
+   * @throws IOException if no stream is open, or the remote server responds with failures
+   */
+  ByteBuffer readStreamChunk() throws IOException;
 }
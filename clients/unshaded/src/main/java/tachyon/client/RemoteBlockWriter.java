@@ -66,4 +66,13 @@ public interface RemoteBlockWriter extends Closeable {
    * @throws IOException when the operation fails
    */
   void write(byte[] bytes, int offset, int length) throws IOException;
+
+  /**
+   * Commits the data written to the remote block and closes the writer. The data server keeps the
+   * block open between writes, so the block must be committed through its writer rather than
+   * through the worker client.
+   *
+   * @throws IOException when the operation fails
+   */
+  void commit() throws IOException;
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.BlockInfo;
+
+/**
+ * A client-side cache of the {@link BlockInfo} of blocks, so that opening the blocks of a file does
+ * not ask the block master for the locations of every block. The cache is filled in bulk when a
+ * file is opened, and its entries expire after a configurable time, since blocks may be moved,
+ * evicted or freed by the workers in the meantime. Readers which fail to read a block from a cached
+ * location should evict the entry of the block. Only blocks stored in Tachyon are cached. This
+ * class is thread safe.
+ */
+public final class BlockLocationCache {
+  /** The cached block information, keyed by block id, or null if the cache is disabled. */
+  private final Cache<Long, BlockInfo> mCache;
+
+  /**
+   * Creates a block location cache configured by
+   * {@link Constants#USER_BLOCK_LOCATION_CACHE_TTL_MS} and
+   * {@link Constants#USER_BLOCK_LOCATION_CACHE_MAX_ENTRIES}.
+   *
+   * @param conf the configuration of the client
+   */
+  public BlockLocationCache(TachyonConf conf) {
+    this(conf.getLong(Constants.USER_BLOCK_LOCATION_CACHE_TTL_MS),
+        conf.getLong(Constants.USER_BLOCK_LOCATION_CACHE_MAX_ENTRIES), Ticker.systemTicker());
+  }
+
+  /**
+   * Creates a block location cache.
+   *
+   * @param ttlMs the time after which cached entries expire, or 0 to disable the cache
+   * @param maxEntries the maximum number of cached entries
+   * @param ticker the source of time of the cache
+   */
+  BlockLocationCache(long ttlMs, long maxEntries, Ticker ticker) {
+    if (ttlMs <= 0 || maxEntries <= 0) {
+      mCache = null;
+    } else {
+      mCache = CacheBuilder.newBuilder().maximumSize(maxEntries)
+          .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS).ticker(ticker).build();
+    }
+  }
+
+  /**
+   * @return whether the cache is enabled
+   */
+  public boolean isEnabled() {
+    return mCache != null;
+  }
+
+  /**
+   * @param blockId the id of the block
+   * @return the cached information of the block, or null if the block is not cached
+   */
+  public BlockInfo get(long blockId) {
+    if (mCache == null) {
+      return null;
+    }
+    return mCache.getIfPresent(blockId);
+  }
+
+  /**
+   * Caches the information of a block, replacing any previous entry. The block is not cached if it
+   * has no location in Tachyon.
+   *
+   * @param blockInfo the information of the block
+   */
+  public void put(BlockInfo blockInfo) {
+    if (mCache == null) {
+      return;
+    }
+    if (blockInfo.getLocations() == null || blockInfo.getLocations().isEmpty()) {
+      // The block may be cached by a worker at any time, so ask the master the next time.
+      mCache.invalidate(blockInfo.getBlockId());
+      return;
+    }
+    mCache.put(blockInfo.getBlockId(), blockInfo);
+  }
+
+  /**
+   * Evicts the entry of a block, e.g. because the block could not be read from a cached location.
+   *
+   * @param blockId the id of the block
+   */
+  public void invalidate(long blockId) {
+    if (mCache != null) {
+      mCache.invalidate(blockId);
+    }
+  }
+}
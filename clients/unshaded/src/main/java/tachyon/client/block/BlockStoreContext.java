@@ -16,38 +16,70 @@
 package tachyon.client.block;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 
+import tachyon.Constants;
 import tachyon.client.ClientContext;
-import tachyon.client.Utils;
+import tachyon.client.block.policy.BlockLocationPolicy;
 import tachyon.client.worker.WorkerClient;
 import tachyon.exception.ExceptionMessage;
 import tachyon.exception.PreconditionMessage;
 import tachyon.thrift.NetAddress;
 import tachyon.thrift.WorkerInfo;
 import tachyon.util.network.NetworkAddressUtils;
-import tachyon.worker.ClientMetrics;
 
 /**
  * A shared context in each client JVM for common block master client functionality such as a pool
- * of master clients and a pool of local worker clients. Any remote clients will be created and
- * destroyed on a per use basis. This class is thread safe.
+ * of master clients, pools of worker clients and a cache of block locations. The clients to each
+ * remote worker are pooled like the clients to the local worker, and the addresses of the workers
+ * are cached and refreshed in the background, so that reading from a remote worker does not
+ * query the master nor connect to the worker every time. This class is thread safe.
  */
 public enum BlockStoreContext {
   INSTANCE;
 
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
   private BlockMasterClientPool mBlockMasterClientPool;
   private BlockWorkerClientPool mLocalBlockWorkerClientPool;
+  private BlockLocationCache mBlockLocationCache;
+  private BlockLocationPolicy mBlockLocationPolicy;
+  /** The requests in flight to the workers, kept across resets for the streams still open. */
+  private final WorkerRequestCounter mWorkerRequestCounter;
 
   private boolean mLocalBlockWorkerClientPoolInitialized;
 
+  /** The pools of clients to remote workers, keyed by the address of the worker. */
+  private final ConcurrentMap<NetAddress, BlockWorkerClientPool> mRemoteBlockWorkerClientPools;
+  /** The addresses of the workers keyed by hostname, in the order returned by the master. */
+  private volatile Map<String, NetAddress> mWorkerAddresses;
+  /** The time of the last refresh of {@link #mWorkerAddresses}. */
+  private volatile long mWorkerAddressesRefreshMs;
+  /** The interval after which {@link #mWorkerAddresses} is refreshed in the background. */
+  private volatile long mWorkerAddressesRefreshIntervalMs;
+  /** Whether {@link #mWorkerAddresses} is being refreshed in the background. */
+  private final AtomicBoolean mRefreshingWorkerAddresses;
+
   /**
    * Creates a new block store context.
    */
   BlockStoreContext() {
+    mRemoteBlockWorkerClientPools = new ConcurrentHashMap<NetAddress, BlockWorkerClientPool>();
+    mRefreshingWorkerAddresses = new AtomicBoolean(false);
+    mWorkerRequestCounter = new WorkerRequestCounter();
     reset();
   }
 
@@ -69,30 +101,101 @@ public enum BlockStoreContext {
   }
 
   /**
-   * Gets the worker address based on its hostname by querying the master.
+   * Gets the worker address based on its hostname. The cached addresses of the workers are used,
+   * and refreshed in the background once they are older than the refresh interval. The master is
+   * queried directly if the worker is not among the cached addresses.
    *
    * @param hostname hostname of the worker to query, empty string denotes any worker
    * @return {@link NetAddress} of hostname, or null if no worker found
    */
-  private synchronized NetAddress getWorkerAddress(String hostname) {
+  private NetAddress getWorkerAddress(String hostname) {
+    NetAddress address = findWorkerAddress(mWorkerAddresses, hostname);
+    if (address == null) {
+      // The worker may have registered since the last refresh.
+      return findWorkerAddress(refreshWorkerAddresses(), hostname);
+    }
+    if (System.currentTimeMillis() - mWorkerAddressesRefreshMs
+        >= mWorkerAddressesRefreshIntervalMs) {
+      refreshWorkerAddressesInBackground();
+    }
+    return address;
+  }
+
+  /**
+   * @param workerAddresses the addresses of the workers keyed by hostname
+   * @param hostname hostname of the worker to find, empty string denotes any worker
+   * @return {@link NetAddress} of hostname, or null if no worker found
+   */
+  private static NetAddress findWorkerAddress(Map<String, NetAddress> workerAddresses,
+      String hostname) {
+    if (hostname.isEmpty()) {
+      // TODO(calvin): Do this in a more defined way.
+      return workerAddresses.isEmpty() ? null : workerAddresses.values().iterator().next();
+    }
+    return workerAddresses.get(hostname);
+  }
+
+  /**
+   * Queries the master for the addresses of the workers and caches them. The client pools of the
+   * remote workers which are no longer known to the master are closed.
+   *
+   * @return the addresses of the workers keyed by hostname
+   */
+  private Map<String, NetAddress> refreshWorkerAddresses() {
+    List<WorkerInfo> workers;
     BlockMasterClient masterClient = acquireMasterClient();
     try {
-      List<WorkerInfo> workers = masterClient.getWorkerInfoList();
-      if (hostname.isEmpty() && !workers.isEmpty()) {
-        // TODO(calvin): Do this in a more defined way.
-        return workers.get(0).getAddress();
-      }
-      for (WorkerInfo worker : workers) {
-        if (worker.getAddress().getHost().equals(hostname)) {
-          return worker.getAddress();
-        }
-      }
+      workers = masterClient.getWorkerInfoList();
     } catch (Exception e) {
-      Throwables.propagate(e);
+      throw Throwables.propagate(e);
     } finally {
       releaseMasterClient(masterClient);
     }
-    return null;
+    Map<String, NetAddress> workerAddresses = new LinkedHashMap<String, NetAddress>();
+    for (WorkerInfo worker : workers) {
+      // The first worker of a host is used, like before the addresses were cached.
+      if (!workerAddresses.containsKey(worker.getAddress().getHost())) {
+        workerAddresses.put(worker.getAddress().getHost(), worker.getAddress());
+      }
+    }
+    mWorkerAddresses = Collections.unmodifiableMap(workerAddresses);
+    mWorkerAddressesRefreshMs = System.currentTimeMillis();
+    for (NetAddress address : mRemoteBlockWorkerClientPools.keySet()) {
+      if (!workerAddresses.containsValue(address)) {
+        BlockWorkerClientPool pool = mRemoteBlockWorkerClientPools.remove(address);
+        if (pool != null) {
+          pool.close();
+        }
+      }
+    }
+    return mWorkerAddresses;
+  }
+
+  /**
+   * Refreshes the cached addresses of the workers in the background, unless a refresh is already
+   * in progress.
+   */
+  private void refreshWorkerAddressesInBackground() {
+    if (!mRefreshingWorkerAddresses.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      ClientContext.getExecutorService().submit(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            refreshWorkerAddresses();
+          } catch (RuntimeException e) {
+            LOG.warn("Failed to refresh the addresses of the workers: {}", e.getMessage());
+          } finally {
+            mRefreshingWorkerAddresses.set(false);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // The client context is being reset, the addresses will be refreshed on the next lookup.
+      mRefreshingWorkerAddresses.set(false);
+    }
   }
 
   /**
@@ -125,7 +228,7 @@ public enum BlockStoreContext {
    *
    * @return a {@link WorkerClient} to a worker in the Tachyon system
    */
-  public synchronized WorkerClient acquireWorkerClient() {
+  public WorkerClient acquireWorkerClient() {
     WorkerClient client = acquireLocalWorkerClient();
     if (client == null) {
       // Get a worker client for any worker in the system.
@@ -142,7 +245,7 @@ public enum BlockStoreContext {
    * @return a {@link WorkerClient} connected to the worker with the given hostname
    * @throws IOException if no Tachyon worker is available for the given hostname
    */
-  public synchronized WorkerClient acquireWorkerClient(String hostname) throws IOException {
+  public WorkerClient acquireWorkerClient(String hostname) throws IOException {
     WorkerClient client;
     if (hostname.equals(NetworkAddressUtils.getLocalHostName(ClientContext.getConf()))) {
       client = acquireLocalWorkerClient();
@@ -172,14 +275,18 @@ public enum BlockStoreContext {
   }
 
   /**
-   * Obtains a non local worker client based on the hostname. Illegal argument exception is thrown
-   * if the hostname is the local hostname. Runtime exception is thrown if the client cannot be
-   * created with a connection to the hostname.
+   * Obtains a non local worker client based on the hostname from the client pool of the worker.
+   * Illegal argument exception is thrown if the hostname is the local hostname. Runtime exception
+   * is thrown if the client cannot be created with a connection to the hostname, or if the pool of
+   * the worker is closed while waiting for a client, e.g. since the worker is no longer known.
+   *
+   * NOTE: this method does not synchronize on {@link BlockStoreContext}, since acquiring a client
+   * from a pool may block until another thread releases a client.
    *
    * @param hostname the worker hostname to connect to, empty string for any worker
    * @return a worker client with a connection to the specified hostname
    */
-  private synchronized WorkerClient acquireRemoteWorkerClient(String hostname) {
+  private WorkerClient acquireRemoteWorkerClient(String hostname) {
     Preconditions.checkArgument(
         !hostname.equals(NetworkAddressUtils.getLocalHostName(ClientContext.getConf())),
         PreconditionMessage.REMOTE_CLIENT_BUT_LOCAL_HOSTNAME);
@@ -190,14 +297,20 @@ public enum BlockStoreContext {
       // TODO(calvin): Better exception usage.
       throw new RuntimeException(ExceptionMessage.NO_WORKER_AVAILABLE.getMessage(hostname));
     }
-    long clientId = Utils.getRandomNonNegativeLong();
-    return new WorkerClient(workerAddress, ClientContext.getExecutorService(),
-        ClientContext.getConf(), clientId, false, new ClientMetrics());
+    BlockWorkerClientPool pool = mRemoteBlockWorkerClientPools.get(workerAddress);
+    if (pool == null) {
+      BlockWorkerClientPool newPool = new BlockWorkerClientPool(workerAddress, false);
+      pool = mRemoteBlockWorkerClientPools.putIfAbsent(workerAddress, newPool);
+      if (pool == null) {
+        pool = newPool;
+      }
+    }
+    return pool.acquire();
   }
 
   /**
-   * Releases the {@link WorkerClient} back to the client pool, or destroys it if it was a remote
-   * client.
+   * Releases the {@link WorkerClient} back to its client pool, or destroys it if the pool is gone,
+   * i.e. the remote worker is no longer known or the context was reset.
    *
    * NOTE: the client pool is already thread-safe. Synchronizing on {@link BlockStoreContext} will
    * lead to deadlock: thread A acquired a client and awaits for {@link BlockStoreContext} to
@@ -208,15 +321,18 @@ public enum BlockStoreContext {
    *        method is called
    */
   public void releaseWorkerClient(WorkerClient workerClient) {
-    // If the client is local and the pool exists, release the client to the pool, otherwise just
-    // close the client.
     if (workerClient.isLocal()) {
       // Return local worker client to its resource pool.
       Preconditions.checkState(mLocalBlockWorkerClientPool != null);
       mLocalBlockWorkerClientPool.release(workerClient);
     } else {
-      // Destroy remote worker client.
-      workerClient.close();
+      BlockWorkerClientPool pool =
+          mRemoteBlockWorkerClientPools.get(workerClient.getWorkerNetAddress());
+      if (pool != null) {
+        pool.release(workerClient);
+      } else {
+        workerClient.close();
+      }
     }
   }
 
@@ -235,6 +351,27 @@ public enum BlockStoreContext {
     return mLocalBlockWorkerClientPool != null;
   }
 
+  /**
+   * @return the cache of block locations shared by the client JVM
+   */
+  public synchronized BlockLocationCache getBlockLocationCache() {
+    return mBlockLocationCache;
+  }
+
+  /**
+   * @return the policy choosing the worker to read a block from
+   */
+  public synchronized BlockLocationPolicy getBlockLocationPolicy() {
+    return mBlockLocationPolicy;
+  }
+
+  /**
+   * @return the counter of the requests in flight to the workers
+   */
+  public WorkerRequestCounter getWorkerRequestCounter() {
+    return mWorkerRequestCounter;
+  }
+
   /**
    * Re-initializes the {@link BlockStoreContext}. This method should only be used in
    * {@link ClientContext}.
@@ -246,7 +383,18 @@ public enum BlockStoreContext {
     if (mLocalBlockWorkerClientPool != null) {
       mLocalBlockWorkerClientPool.close();
     }
+    for (BlockWorkerClientPool pool : mRemoteBlockWorkerClientPools.values()) {
+      pool.close();
+    }
+    mRemoteBlockWorkerClientPools.clear();
     mBlockMasterClientPool = new BlockMasterClientPool(ClientContext.getMasterAddress());
+    mBlockLocationCache = new BlockLocationCache(ClientContext.getConf());
+    mBlockLocationPolicy =
+        BlockLocationPolicy.Factory.createBlockLocationPolicy(ClientContext.getConf());
+    mWorkerAddresses = Collections.emptyMap();
+    mWorkerAddressesRefreshMs = 0;
+    mWorkerAddressesRefreshIntervalMs =
+        ClientContext.getConf().getLong(Constants.USER_BLOCK_WORKER_ADDRESS_REFRESH_INTERVAL_MS);
     // mLocalBlockWorkerClientPool is initialized in a lazy manner
     mLocalBlockWorkerClientPoolInitialized = false;
   }
@@ -24,11 +24,15 @@ import tachyon.client.Utils;
 import tachyon.client.worker.WorkerClient;
 import tachyon.resource.ResourcePool;
 import tachyon.thrift.NetAddress;
+import tachyon.worker.ClientMetrics;
 
 /**
- * Class for managing local block worker clients. After obtaining a client with
- * {@link ResourcePool#acquire()}, {@link ResourcePool#release(Object)} must be called when the
- * thread is done using the client.
+ * Class for managing the block worker clients to a worker, either the local worker or a remote
+ * one. After obtaining a client with {@link ResourcePool#acquire()},
+ * {@link ResourcePool#release(Object)} must be called when the thread is done using the client.
+ * Released clients start a new session, and keep their connection to the worker for the next
+ * user. Since each idle client keeps heartbeating to its worker, the clients to a remote worker
+ * are closed on release when the pool already holds enough idle clients.
  */
 final class BlockWorkerClientPool extends ResourcePool<WorkerClient> {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
@@ -37,24 +41,54 @@ final class BlockWorkerClientPool extends ResourcePool<WorkerClient> {
    * the block is committed at the end of the file completion.
    */
   private final NetAddress mWorkerNetAddress;
+  /** Whether the worker is local. */
+  private final boolean mIsLocal;
+  /** The maximum number of idle clients kept by the pool. */
+  private final int mMaxIdleClients;
 
   /**
-   * Creates a new block worker client pool.
+   * Creates a new block worker client pool to the local worker.
    *
    * @param workerAddress the worker address
    */
   public BlockWorkerClientPool(NetAddress workerAddress) {
+    this(workerAddress, true);
+  }
+
+  /**
+   * Creates a new block worker client pool.
+   *
+   * @param workerAddress the worker address
+   * @param isLocal whether the worker is local
+   */
+  public BlockWorkerClientPool(NetAddress workerAddress, boolean isLocal) {
     super(ClientContext.getConf().getInt(Constants.USER_BLOCK_WORKER_CLIENT_THREADS));
     mWorkerNetAddress = workerAddress;
+    mIsLocal = isLocal;
+    mMaxIdleClients = isLocal ? mMaxCapacity
+        : ClientContext.getConf().getInt(Constants.USER_BLOCK_REMOTE_WORKER_CLIENT_IDLE_MAX);
   }
 
+  /**
+   * Closes the idle clients of the pool. The clients in use are closed when they are released.
+   * The threads waiting for a client fail, since the pool is closed when its worker is gone.
+   */
   @Override
   public void close() {
-    // TODO(calvin): Consider collecting all the clients and shutting them down.
+    markClosed();
+    WorkerClient workerClient;
+    while ((workerClient = mResources.poll()) != null) {
+      workerClient.close();
+    }
   }
 
   @Override
   public void release(WorkerClient workerClient) {
+    if (isClosed() || mResources.size() >= mMaxIdleClients) {
+      workerClient.close();
+      discard();
+      return;
+    }
     try {
       // Heartbeat to send the client metrics.
       workerClient.sessionHeartbeat();
@@ -68,7 +102,9 @@ final class BlockWorkerClientPool extends ResourcePool<WorkerClient> {
   @Override
   protected WorkerClient createNewResource() {
     long clientId = Utils.getRandomNonNegativeLong();
+    // Only the clients of the local worker report the client metrics of the process.
+    ClientMetrics clientMetrics = mIsLocal ? ClientContext.getClientMetrics() : new ClientMetrics();
     return new WorkerClient(mWorkerNetAddress, ClientContext.getExecutorService(),
-        ClientContext.getConf(), clientId, true, ClientContext.getClientMetrics());
+        ClientContext.getConf(), clientId, mIsLocal, clientMetrics);
   }
 }
@@ -18,22 +18,28 @@ package tachyon.client.block;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 
+import com.google.common.base.Preconditions;
 import com.google.common.io.Closer;
 
 import tachyon.client.ClientContext;
 import tachyon.client.worker.WorkerClient;
 import tachyon.exception.ExceptionMessage;
+import tachyon.exception.PreconditionMessage;
 import tachyon.exception.TachyonException;
 import tachyon.thrift.LockBlockResult;
-import tachyon.util.io.BufferUtils;
 import tachyon.util.network.NetworkAddressUtils;
 
 /**
  * This class provides a streaming API to read a block in Tachyon. The data will be directly read
- * from the local machine's storage. The instances of this class should only be used by one thread
- * and are not thread safe.
+ * from the local machine's storage. The block file is memory-mapped once and reads are served from
+ * slices of the mapping; {@link #readBuffer(int)} returns such a slice without copying the data.
+ * Mappings are never unmapped explicitly, since the slices returned by {@link #readBuffer(int)}
+ * may outlive the stream, and touching an unmapped slice crashes the JVM. They are released by the
+ * garbage collector once neither the stream nor the callers refer to them. The instances of this
+ * class should only be used by one thread and are not thread safe.
  */
 public final class LocalBlockInStream extends BufferedBlockInStream {
   /** Helper to manage closables. */
@@ -44,6 +50,10 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
   private final WorkerClient mWorkerClient;
   /** The block store context which provides block worker clients. */
   private final BlockStoreContext mContext;
+  /** The mapping of the block file, or null until the block is first read. */
+  private MappedByteBuffer mMappedData;
+  /** The block offset at which {@link #mMappedData} starts. */
+  private long mMappedOffset;
 
   /**
    * Creates a new local block input stream.
@@ -89,32 +99,76 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
     } catch (TachyonException e) {
       throw new IOException(e);
     } finally {
+      // Drops the reference to the mapping, which is released once the callers of readBuffer drop
+      // theirs too
+      mMappedData = null;
       mContext.releaseWorkerClient(mWorkerClient);
       mCloser.close();
-      if (mBuffer != null && mBuffer.isDirect()) {
-        BufferUtils.cleanDirectBuffer(mBuffer);
-      }
     }
 
     mClosed = true;
   }
 
+  /**
+   * Reads up to len bytes of the block without copying them. The returned buffer is a read-only
+   * view of the memory-mapped block file. It stays readable after the stream is closed, but the
+   * block is no longer locked then, so its data may have changed if the block was removed.
+   *
+   * @param len the maximum number of bytes to read
+   * @return a buffer holding the bytes read, or null if the end of the block was reached
+   * @throws IOException if the block cannot be read
+   */
+  public ByteBuffer readBuffer(int len) throws IOException {
+    Preconditions.checkState(!mClosed, PreconditionMessage.ERR_CLOSED_BLOCK_IN_STREAM);
+    Preconditions.checkArgument(len >= 0, "Length cannot be negative: %s", len);
+    if (remaining() == 0) {
+      return null;
+    }
+    int toRead = (int) Math.min(len, remaining());
+    ByteBuffer data = getMappedData(getPosition(), toRead).asReadOnlyBuffer();
+    skip(toRead);
+    mBlockIsRead = true;
+    incrementBytesReadMetric(toRead);
+    return data;
+  }
+
   @Override
   protected void bufferedRead(int len) throws IOException {
-    if (mBuffer.isDirect()) { // Buffer may not be direct on initialization
-      BufferUtils.cleanDirectBuffer(mBuffer);
-    }
-    mBuffer = mLocalFileChannel.map(FileChannel.MapMode.READ_ONLY, getPosition(), len);
+    mBuffer = getMappedData(getPosition(), len);
   }
 
   @Override
   public int directRead(byte[] b, int off, int len) throws IOException {
-    ByteBuffer buf = mLocalFileChannel.map(FileChannel.MapMode.READ_ONLY, getPosition(), len);
-    buf.get(b, off, len);
-    BufferUtils.cleanDirectBuffer(buf);
+    getMappedData(getPosition(), len).get(b, off, len);
     return len;
   }
 
+  /**
+   * Returns a slice of the mapped block file. The block is mapped on the first read; it is only
+   * mapped again when a block is too large to be mapped at once and the range falls outside of the
+   * current mapping. Like the last mapping, a replaced mapping is left to the garbage collector
+   * rather than unmapped, since buffers returned by {@link #readBuffer(int)} may still refer to it.
+   *
+   * @param offset the block offset of the range
+   * @param len the length of the range
+   * @return a buffer positioned at 0 with len bytes remaining
+   * @throws IOException if the block file cannot be mapped
+   */
+  private ByteBuffer getMappedData(long offset, int len) throws IOException {
+    if (mMappedData == null || offset < mMappedOffset
+        || offset + len > mMappedOffset + mMappedData.capacity()) {
+      // Maps from the start of the block if it fits, otherwise as much as possible from offset.
+      mMappedOffset = mBlockSize <= Integer.MAX_VALUE ? 0 : offset;
+      long mappedLength = Math.min(mBlockSize - mMappedOffset, Integer.MAX_VALUE);
+      mMappedData =
+          mLocalFileChannel.map(FileChannel.MapMode.READ_ONLY, mMappedOffset, mappedLength);
+    }
+    ByteBuffer data = mMappedData.duplicate();
+    data.position((int) (offset - mMappedOffset));
+    data.limit(data.position() + len);
+    return data.slice();
+  }
+
   @Override
   protected void incrementBytesReadMetric(int bytes) {
     ClientContext.getClientMetrics().incBytesReadLocal(bytes);
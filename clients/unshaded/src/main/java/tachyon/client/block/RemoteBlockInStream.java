@@ -19,6 +19,10 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
 import tachyon.client.ClientContext;
 import tachyon.client.RemoteBlockReader;
 import tachyon.client.worker.WorkerClient;
@@ -29,8 +33,18 @@ import tachyon.exception.ExceptionMessage;
  * This class provides a streaming API to read a block in Tachyon. The data will be transferred
  * through a Tachyon worker's dataserver to the client. The instances of this class should only be
  * used by one thread and are not thread safe.
+ *
+ * When streaming is enabled, the block is read through streams from the dataserver, which sends
+ * the data in chunks while the client consumes it, instead of one request per buffer fill. A stream
+ * asks for the range being read; while the reads stay sequential, each new stream asks for twice
+ * as much as the last one, up to the rest of the block. Sequential reads therefore soon use a
+ * single stream, while positioned reads do not make the dataserver send data which is never read.
+ * A stream abandoned by a seek is cancelled. If the reader or the dataserver rejects a stream, the
+ * read is done with a single request instead.
  */
 public final class RemoteBlockInStream extends BufferedBlockInStream {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
   /** The address of the worker to read the data from. */
   private final InetSocketAddress mLocation;
   /** The returned lock id after acquiring the block lock. */
@@ -40,6 +54,19 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
   private final WorkerClient mWorkerClient;
   /** The block store context which provides block worker clients. */
   private final BlockStoreContext mContext;
+  /** The reader used to request data from the dataserver. */
+  private final RemoteBlockReader mReader;
+  /** Whether to read through a stream rather than one request per read. */
+  private final boolean mStreaming;
+
+  /** The block position of the next byte of the open stream, or -1 if no stream is open. */
+  private long mStreamPos = -1;
+  /** The block position where the range of the open stream ends, or -1 if no stream is open. */
+  private long mStreamEnd = -1;
+  /** The length of the range of the last stream opened. */
+  private long mStreamLength = 0;
+  /** The unconsumed part of the current chunk of the open stream. */
+  private ByteBuffer mChunk = null;
 
   /**
    * Creates a new remote block input stream.
@@ -56,6 +83,9 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
 
     mContext = BlockStoreContext.INSTANCE;
     mWorkerClient = mContext.acquireWorkerClient(location.getHostName());
+    mReader = RemoteBlockReader.Factory.createRemoteBlockReader(ClientContext.getConf());
+    mStreaming =
+        ClientContext.getConf().getBoolean(Constants.USER_BLOCK_REMOTE_READ_STREAMING_ENABLED);
 
     try {
       mLockId = mWorkerClient.lockBlock(blockId).lockId;
@@ -77,8 +107,15 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
     // TODO(calvin): Perhaps verify that something was read from this stream
     ClientContext.getClientMetrics().incBlocksReadRemote(1);
 
+    if (mStreamPos != -1 && mStreamPos == mStreamEnd) {
+      finishStream();
+    }
     try {
-      mWorkerClient.unlockBlock(mBlockId);
+      try {
+        mReader.close();
+      } finally {
+        mWorkerClient.unlockBlock(mBlockId);
+      }
     } catch (ConnectionFailedException e) {
       throw new IOException(e);
     } finally {
@@ -89,6 +126,21 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
 
   @Override
   protected void bufferedRead(int len) throws IOException {
+    if (mStreaming) {
+      // The unread bytes of the buffer were already received from the stream, so keep them.
+      int reused = prepareStream(len);
+      if (reused >= 0) {
+        if (reused > 0) {
+          mBuffer.compact();
+        } else {
+          mBuffer.clear();
+        }
+        readFromStream(mBuffer.array(), reused, len - reused);
+        mBuffer.position(0);
+        mBuffer.limit(len);
+        return;
+      }
+    }
     mBuffer.clear();
     int bytesRead = readFromRemote(mBuffer.array(), 0, len);
     mBuffer.limit(bytesRead);
@@ -96,6 +148,19 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
 
   @Override
   protected int directRead(byte[] b, int off, int len) throws IOException {
+    if (mStreaming) {
+      int reused = prepareStream(len);
+      if (reused >= 0) {
+        reused = Math.min(reused, len);
+        mBuffer.get(b, off, reused);
+        if (len > reused) {
+          readFromStream(b, off + reused, len - reused);
+          // The rest of the buffer no longer precedes the stream position.
+          mBuffer.position(mBuffer.limit());
+        }
+        return len;
+      }
+    }
     return readFromRemote(b, off, len);
   }
 
@@ -124,21 +189,167 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
     int toRead = (int) Math.min(len, remaining());
     int bytesLeft = toRead;
     while (bytesLeft > 0) {
-      // TODO(calvin): Fix needing to recreate reader each time.
-      RemoteBlockReader reader =
-          RemoteBlockReader.Factory.createRemoteBlockReader(ClientContext.getConf());
+      ByteBuffer data;
+      startRequest();
       try {
-        ByteBuffer data = reader.readRemoteBlock(mLocation, mBlockId, getPosition(),
-            bytesLeft, mLockId, mWorkerClient.getSessionId());
-        int bytesRead = data.remaining();
-        data.get(b, off, bytesRead);
-        bytesLeft -= bytesRead;
-        incrementBytesReadMetric(bytesRead);
+        data = mReader.readRemoteBlock(mLocation, mBlockId, getPosition(), bytesLeft, mLockId,
+            mWorkerClient.getSessionId());
+      } catch (IOException e) {
+        invalidateLocation();
+        throw e;
       } finally {
-        reader.close();
+        endRequest();
       }
+      int bytesRead = data.remaining();
+      data.get(b, off, bytesRead);
+      bytesLeft -= bytesRead;
+      incrementBytesReadMetric(bytesRead);
     }
 
     return toRead;
   }
+
+  /**
+   * Positions the stream at the current position of this instream, for a read of len bytes. The
+   * open stream is reused if its range covers the read, and it is either already there, or the
+   * position is within the current chunk; otherwise a new stream is opened at the current
+   * position. The buffer always holds the bytes which precede the stream position, so when the
+   * current position falls within the buffer, the unread bytes of the buffer are reused rather
+   * than received again.
+   *
+   * @param len the number of bytes to read
+   * @return the number of unread bytes of the buffer which can be reused, or -1 if the stream was
+   *         rejected, in which case the read should be done without streaming
+   * @throws IOException if the stream cannot be opened
+   */
+  private int prepareStream(int len) throws IOException {
+    long pos = getPosition();
+    if (pos + len <= mStreamEnd) {
+      if (pos == mStreamPos) {
+        return 0;
+      }
+      if (pos < mStreamPos && mStreamPos - pos == mBuffer.remaining()) {
+        return mBuffer.remaining();
+      }
+      if (pos > mStreamPos && mChunk != null && pos - mStreamPos <= mChunk.remaining()) {
+        mBuffer.position(mBuffer.limit());
+        mChunk.position(mChunk.position() + (int) (pos - mStreamPos));
+        mStreamPos = pos;
+        return 0;
+      }
+    }
+    mBuffer.position(mBuffer.limit());
+    if (mStreamPos != -1 && mStreamPos == mStreamEnd) {
+      finishStream();
+    }
+    long length = len;
+    if (pos == mStreamEnd) {
+      // The reads are sequential, so ask for more than the last stream did.
+      length = Math.max(len, 2 * mStreamLength);
+    }
+    length = Math.min(length, mBlockSize - pos);
+    boolean opened;
+    startRequest();
+    try {
+      opened = mReader.openStream(mLocation, mBlockId, pos, length, mLockId,
+          mWorkerClient.getSessionId());
+    } catch (IOException e) {
+      invalidateLocation();
+      throw e;
+    } finally {
+      endRequest();
+    }
+    if (!opened) {
+      resetStream();
+      return -1;
+    }
+    mStreamPos = pos;
+    mStreamEnd = pos + length;
+    mStreamLength = length;
+    mChunk = null;
+    return 0;
+  }
+
+  /**
+   * Receives the end of the open stream after its whole range was read, so that the reader gives
+   * its channel back to the pool right away instead of cancelling the stream.
+   */
+  private void finishStream() {
+    try {
+      mReader.readStreamChunk();
+    } catch (IOException e) {
+      // The data was fully read, only the channel of the stream cannot be reused.
+      LOG.warn("Failed to receive the end of the stream of block {}", mBlockId, e);
+    }
+  }
+
+  /**
+   * Reads from the open stream, receiving more chunks as needed.
+   *
+   * @param b the byte array to write the data to
+   * @param off the offset in the array to write to
+   * @param len the length of data to write into the array
+   * @throws IOException if the stream fails or ends before len bytes are read
+   */
+  private void readFromStream(byte[] b, int off, int len) throws IOException {
+    try {
+      while (len > 0) {
+        if (mChunk == null || !mChunk.hasRemaining()) {
+          startRequest();
+          try {
+            mChunk = mReader.readStreamChunk();
+          } finally {
+            endRequest();
+          }
+          if (mChunk == null) {
+            throw new IOException(
+                ExceptionMessage.UNEXPECTED_END_OF_STREAM.getMessage(mBlockId, mStreamPos));
+          }
+        }
+        int bytesRead = Math.min(len, mChunk.remaining());
+        mChunk.get(b, off, bytesRead);
+        off += bytesRead;
+        len -= bytesRead;
+        mStreamPos += bytesRead;
+      }
+    } catch (IOException e) {
+      resetStream();
+      invalidateLocation();
+      throw e;
+    }
+  }
+
+  /**
+   * Forgets the open stream after it failed or was rejected, so that the next read opens a new
+   * stream at the current position. The buffer no longer precedes a stream, so it is discarded.
+   */
+  private void resetStream() {
+    mStreamPos = -1;
+    mStreamEnd = -1;
+    mChunk = null;
+    mBuffer.position(mBuffer.limit());
+  }
+
+  /**
+   * Records the start of a request waiting on the worker, counted by the
+   * {@link WorkerRequestCounter} to balance the reads over the workers.
+   */
+  private void startRequest() {
+    mContext.getWorkerRequestCounter().increment(mLocation.getHostName());
+  }
+
+  /**
+   * Records the end of a request started with {@link #startRequest()}.
+   */
+  private void endRequest() {
+    mContext.getWorkerRequestCounter().decrement(mLocation.getHostName());
+  }
+
+  /**
+   * Evicts the block from the cache of block locations after a read from the worker failed, so
+   * that the next reader asks the master where the block is.
+   */
+  private void invalidateLocation() {
+    mContext.getBlockLocationCache().invalidate(mBlockId);
+  }
 }
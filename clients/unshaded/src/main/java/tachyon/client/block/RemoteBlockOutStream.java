@@ -95,15 +95,12 @@ public final class RemoteBlockOutStream extends BufferedBlockOutStream {
       return;
     }
     flush();
-    mRemoteWriter.close();
     if (mFlushedBytes > 0) {
-      try {
-        mWorkerClient.cacheBlock(mBlockId);
-      } catch (TachyonException e) {
-        throw new IOException(e);
-      }
+      // The data server commits the block when its writer is closed.
+      mRemoteWriter.commit();
       ClientContext.getClientMetrics().incBlocksWrittenRemote(1);
     } else {
+      mRemoteWriter.close();
       try {
         mWorkerClient.cancelBlock(mBlockId);
       } catch (TachyonException e) {
@@ -17,12 +17,16 @@ package tachyon.client.block;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import tachyon.Constants;
 import tachyon.client.ClientContext;
+import tachyon.client.block.policy.BlockLocationPolicy;
 import tachyon.client.worker.WorkerClient;
 import tachyon.exception.ConnectionFailedException;
 import tachyon.exception.ExceptionMessage;
@@ -79,6 +83,44 @@ public final class TachyonBlockStore {
     }
   }
 
+  /**
+   * Caches the locations of blocks, so that opening or promoting them does not ask the block
+   * master. Blocks without a location in Tachyon are not cached.
+   *
+   * @param blockInfos the information of the blocks
+   */
+  public void cacheInfo(Collection<BlockInfo> blockInfos) {
+    BlockLocationCache cache = mContext.getBlockLocationCache();
+    for (BlockInfo blockInfo : blockInfos) {
+      cache.put(blockInfo);
+    }
+  }
+
+  /**
+   * @return whether the locations of blocks are cached by the client
+   */
+  public boolean isLocationCacheEnabled() {
+    return mContext.getBlockLocationCache().isEnabled();
+  }
+
+  /**
+   * Gets the block info of a block from the cache of block locations, asking the block master if
+   * the block is not cached.
+   *
+   * @param blockId the blockId to obtain information about
+   * @return a {@link BlockInfo} containing the metadata of the block
+   * @throws IOException if the block does not exist
+   */
+  private BlockInfo getCachedInfo(long blockId) throws IOException {
+    BlockLocationCache cache = mContext.getBlockLocationCache();
+    BlockInfo blockInfo = cache.get(blockId);
+    if (blockInfo == null) {
+      blockInfo = getInfo(blockId);
+      cache.put(blockInfo);
+    }
+    return blockInfo;
+  }
+
   /**
    * Gets a stream to read the data of a block. The stream is backed by Tachyon storage.
    *
@@ -87,42 +129,67 @@ public final class TachyonBlockStore {
    * @throws IOException if the block does not exist
    */
   public BufferedBlockInStream getInStream(long blockId) throws IOException {
-    BlockMasterClient masterClient = mContext.acquireMasterClient();
-    BlockInfo blockInfo;
+    BlockLocationCache cache = mContext.getBlockLocationCache();
+    BlockInfo blockInfo = cache.get(blockId);
+    if (blockInfo != null) {
+      try {
+        return getInStream(blockInfo);
+      } catch (IOException e) {
+        // The block may have been moved or evicted since it was cached, ask the master.
+        LOG.debug("Failed to read block {} from its cached locations: {}", blockId,
+            e.getMessage());
+        cache.invalidate(blockId);
+      }
+    }
+    blockInfo = getInfo(blockId);
+    cache.put(blockInfo);
     try {
-      blockInfo = masterClient.getBlockInfo(blockId);
-    } catch (TachyonException e) {
-      throw new IOException(e);
-    } finally {
-      mContext.releaseMasterClient(masterClient);
+      return getInStream(blockInfo);
+    } catch (IOException e) {
+      cache.invalidate(blockId);
+      throw e;
     }
+  }
 
+  /**
+   * Gets a stream to read the data of a block from one of the given locations of the block.
+   *
+   * @param blockInfo the information of the block
+   * @return a {@link BlockInStream} which can be used to read the data in a streaming fashion
+   * @throws IOException if the block cannot be read from its locations
+   */
+  private BufferedBlockInStream getInStream(BlockInfo blockInfo) throws IOException {
+    long blockId = blockInfo.getBlockId();
     if (blockInfo.locations.isEmpty()) {
       throw new IOException("Block " + blockId + " is not available in Tachyon");
     }
-    // TODO(calvin): Get location via a policy.
-    // Although blockInfo.locations are sorted by tier, we prefer reading from the local worker.
-    // But when there is no local worker or there are no local blocks, we prefer the first
-    // location in blockInfo.locations that is nearest to memory tier.
-    // Assuming if there is no local worker, there are no local blocks in blockInfo.locations.
+    // The policy prefers the local worker. Assuming if there is no local worker, there are no
+    // local blocks in blockInfo.locations.
     // TODO(cc): Check mContext.hasLocalWorker before finding for a local block when the TODO
     // for hasLocalWorker is fixed.
+    BlockLocationPolicy policy = mContext.getBlockLocationPolicy();
+    List<BlockLocation> locations = blockInfo.getLocations();
+    NetAddress workerNetAddress = policy.getReadLocation(locations).getWorkerAddress();
     String localHostName = NetworkAddressUtils.getLocalHostName(ClientContext.getConf());
-    for (BlockLocation location : blockInfo.locations) {
-      NetAddress workerNetAddress = location.getWorkerAddress();
-      if (workerNetAddress.getHost().equals(localHostName)) {
-        // There is a local worker and the block is local.
-        try {
-          return new LocalBlockInStream(blockId, blockInfo.getLength());
-        } catch (IOException e) {
-          LOG.warn("Failed to open local stream for block " + blockId + ". " + e.getMessage());
-          // Getting a local stream failed, do not try again
-          break;
+    if (workerNetAddress.getHost().equals(localHostName)) {
+      // There is a local worker and the block is local.
+      try {
+        return new LocalBlockInStream(blockId, blockInfo.getLength());
+      } catch (IOException e) {
+        LOG.warn("Failed to open local stream for block " + blockId + ". " + e.getMessage());
+        // Getting a local stream failed, do not try again. Read from another worker if there is
+        // one, and otherwise through the data server of the local worker.
+        List<BlockLocation> remoteLocations = new ArrayList<BlockLocation>();
+        for (BlockLocation location : locations) {
+          if (!location.getWorkerAddress().getHost().equals(localHostName)) {
+            remoteLocations.add(location);
+          }
+        }
+        if (!remoteLocations.isEmpty()) {
+          workerNetAddress = policy.getReadLocation(remoteLocations).getWorkerAddress();
         }
       }
     }
-    // No local worker/block, get the first location since it's nearest to memory tier.
-    NetAddress workerNetAddress = blockInfo.locations.get(0).getWorkerAddress();
     return new RemoteBlockInStream(blockId, blockInfo.getLength(),
         new InetSocketAddress(workerNetAddress.getHost(), workerNetAddress.getDataPort()));
   }
@@ -141,14 +208,7 @@ public final class TachyonBlockStore {
   public BufferedBlockOutStream getOutStream(long blockId, long blockSize, String location)
       throws IOException {
     if (blockSize == -1) {
-      BlockMasterClient blockMasterClient = mContext.acquireMasterClient();
-      try {
-        blockSize = blockMasterClient.getBlockInfo(blockId).getLength();
-      } catch (TachyonException e) {
-        throw new IOException(e);
-      } finally {
-        mContext.releaseMasterClient(blockMasterClient);
-      }
+      blockSize = getCachedInfo(blockId).getLength();
     }
     // No specified location to write to.
     if (location == null) {
@@ -213,22 +273,14 @@ public final class TachyonBlockStore {
    * @throws IOException if the block does not exist
    */
   public void promote(long blockId) throws IOException {
-    BlockMasterClient blockMasterClient = mContext.acquireMasterClient();
-    BlockInfo info;
-    try {
-      info = blockMasterClient.getBlockInfo(blockId);
-    } catch (TachyonException e) {
-      throw new IOException(e);
-    } finally {
-      mContext.releaseMasterClient(blockMasterClient);
-    }
+    BlockInfo info = getCachedInfo(blockId);
     if (info.getLocations().isEmpty()) {
       // Nothing to promote
       return;
     }
-    // Get the first worker address for now, as this will likely be the location being read from
-    // TODO(calvin): Get this location via a policy (possibly location is a parameter to promote)
-    NetAddress workerAddr = info.getLocations().get(0).getWorkerAddress();
+    // Use the location a read of the block would likely use
+    NetAddress workerAddr =
+        mContext.getBlockLocationPolicy().getReadLocation(info.getLocations()).getWorkerAddress();
     WorkerClient workerClient = mContext.acquireWorkerClient(workerAddr.getHost());
     try {
       workerClient.promoteBlock(blockId);
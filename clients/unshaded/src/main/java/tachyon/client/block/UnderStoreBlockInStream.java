@@ -86,7 +86,7 @@ public final class UnderStoreBlockInStream extends BlockInStream {
   public void seek(long pos) throws IOException {
     long offset = mPos - mInitPos;
     if (pos < offset) {
-      setUnderStoreStream(pos);
+      setUnderStoreStream(mInitPos + pos);
     } else {
       long toSkip = pos - offset;
       if (skip(toSkip) != toSkip) {
@@ -116,10 +116,8 @@ public final class UnderStoreBlockInStream extends BlockInStream {
       mUnderStoreStream.close();
     }
     UnderFileSystem ufs = UnderFileSystem.get(mUfsPath, ClientContext.getConf());
-    mUnderStoreStream = ufs.open(mUfsPath);
-    mPos = 0;
-    if (pos != skip(pos)) {
-      throw new IOException(ExceptionMessage.FAILED_SKIP.getMessage(pos));
-    }
+    // Open the stream at the position, so the bytes before it are not read from the under storage
+    mUnderStoreStream = ufs.open(mUfsPath, pos);
+    mPos = pos;
   }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the requests in flight from the client JVM to each worker, i.e. the remote block reads
+ * waiting on the data server of the worker, so that
+ * {@link tachyon.client.block.policy.BlockLocationPolicy}s can spread reads across the workers
+ * holding a block. The remote block streams open on a worker without reading are not counted.
+ * This class is thread safe.
+ */
+public final class WorkerRequestCounter {
+  /** The number of requests in flight, keyed by the hostname of the worker. */
+  private final ConcurrentMap<String, AtomicInteger> mCounts;
+
+  /**
+   * Creates a new counter with no requests in flight.
+   */
+  public WorkerRequestCounter() {
+    mCounts = new ConcurrentHashMap<String, AtomicInteger>();
+  }
+
+  /**
+   * Records the start of a request to a worker.
+   *
+   * @param hostname the hostname of the worker
+   */
+  public void increment(String hostname) {
+    AtomicInteger count = mCounts.get(hostname);
+    if (count == null) {
+      mCounts.putIfAbsent(hostname, new AtomicInteger());
+      count = mCounts.get(hostname);
+    }
+    count.incrementAndGet();
+  }
+
+  /**
+   * Records the end of a request to a worker.
+   *
+   * @param hostname the hostname of the worker
+   */
+  public void decrement(String hostname) {
+    AtomicInteger count = mCounts.get(hostname);
+    if (count != null) {
+      count.decrementAndGet();
+    }
+  }
+
+  /**
+   * @param hostname the hostname of a worker
+   * @return the number of requests in flight to the worker
+   */
+  public int get(String hostname) {
+    AtomicInteger count = mCounts.get(hostname);
+    return count == null ? 0 : count.get();
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block.policy;
+
+import java.util.List;
+
+import com.google.common.base.Throwables;
+
+import tachyon.Constants;
+import tachyon.annotation.PublicApi;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.BlockLocation;
+import tachyon.util.CommonUtils;
+
+/**
+ * Interface for the policy choosing which of the workers holding a block a client reads the block
+ * from, or asks to promote the block.
+ */
+@PublicApi
+public interface BlockLocationPolicy {
+
+  class Factory {
+    /**
+     * @param conf {@link TachyonConf} to determine the policy type
+     * @return a new instance of {@link BlockLocationPolicy}
+     */
+    public static BlockLocationPolicy createBlockLocationPolicy(TachyonConf conf) {
+      try {
+        return CommonUtils.createNewClassInstance(
+            conf.<BlockLocationPolicy>getClass(Constants.USER_BLOCK_LOCATION_POLICY), null, null);
+      } catch (Exception e) {
+        throw Throwables.propagate(e);
+      }
+    }
+  }
+
+  /**
+   * Chooses the location to read a block from.
+   *
+   * @param locations the locations of the block, sorted by storage tier from the fastest one as
+   *        returned by the master, must not be empty
+   * @return the chosen location, one of the given locations
+   */
+  BlockLocation getReadLocation(List<BlockLocation> locations);
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block.policy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import tachyon.Constants;
+import tachyon.client.ClientContext;
+import tachyon.client.block.BlockStoreContext;
+import tachyon.client.block.WorkerRequestCounter;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.BlockLocation;
+
+/**
+ * A policy which reads a block from the local worker if it holds the block, and otherwise balances
+ * the reads over the remote workers holding the block with the power of two choices: two of the
+ * locations are picked at random, and the one with the lower cost is chosen. The cost of a location
+ * is the number of requests in flight from the client to its worker, plus one, weighted by the
+ * rank of the storage tier of the location in the global tier order, plus one, so that a faster
+ * tier is preferred unless its worker is busier. Comparing two random locations rather than all of
+ * them keeps the choice random when the loads are equal, e.g. for clients reading one block at a
+ * time, so that such clients do not all read from the same worker.
+ */
+public final class LeastLoadedPolicy implements BlockLocationPolicy {
+  private final Random mRandom = new Random();
+  /** The rank of each storage tier, keyed by alias, from 0 for the fastest tier. */
+  private final Map<String, Integer> mTierRanks = new HashMap<String, Integer>();
+
+  /**
+   * Creates a new policy ranking the storage tiers by the global tier order of the configuration.
+   */
+  public LeastLoadedPolicy() {
+    TachyonConf conf = ClientContext.getConf();
+    int levels = conf.getInt(Constants.MASTER_TIERED_STORE_GLOBAL_LEVELS);
+    for (int i = 0; i < levels; i ++) {
+      mTierRanks.put(
+          conf.get(String.format(Constants.MASTER_TIERED_STORE_GLOBAL_LEVEL_ALIAS_FORMAT, i)), i);
+    }
+  }
+
+  @Override
+  public BlockLocation getReadLocation(List<BlockLocation> locations) {
+    BlockLocation localLocation = LocalFirstPolicy.getLocalLocation(locations);
+    if (localLocation != null) {
+      return localLocation;
+    }
+    int size = locations.size();
+    if (size == 1) {
+      return locations.get(0);
+    }
+    int first = mRandom.nextInt(size);
+    int second = mRandom.nextInt(size - 1);
+    if (second >= first) {
+      second ++;
+    }
+    WorkerRequestCounter counter = BlockStoreContext.INSTANCE.getWorkerRequestCounter();
+    // Ties go to the first choice, which is random.
+    if (getCost(locations.get(second), counter) < getCost(locations.get(first), counter)) {
+      return locations.get(second);
+    }
+    return locations.get(first);
+  }
+
+  /**
+   * @param location the location of a block
+   * @param counter the counter of the requests in flight to the workers
+   * @return the cost of reading the block from the location
+   */
+  private long getCost(BlockLocation location, WorkerRequestCounter counter) {
+    // A tier missing from the configuration is ranked below all the known tiers.
+    Integer tierRank = mTierRanks.get(location.getTierAlias());
+    long tierWeight = (tierRank == null ? mTierRanks.size() : tierRank) + 1L;
+    return (counter.get(location.getWorkerAddress().getHost()) + 1L) * tierWeight;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block.policy;
+
+import java.util.List;
+
+import tachyon.client.ClientContext;
+import tachyon.thrift.BlockLocation;
+import tachyon.util.network.NetworkAddressUtils;
+
+/**
+ * A policy which reads a block from the local worker if it holds the block, and otherwise from the
+ * first location, which is on the fastest tier holding the block.
+ */
+public final class LocalFirstPolicy implements BlockLocationPolicy {
+  @Override
+  public BlockLocation getReadLocation(List<BlockLocation> locations) {
+    BlockLocation localLocation = getLocalLocation(locations);
+    return localLocation != null ? localLocation : locations.get(0);
+  }
+
+  /**
+   * @param locations the locations of a block
+   * @return the location on the local worker, or null if the local worker does not hold the block
+   */
+  static BlockLocation getLocalLocation(List<BlockLocation> locations) {
+    String localHostName = NetworkAddressUtils.getLocalHostName(ClientContext.getConf());
+    for (BlockLocation location : locations) {
+      if (location.getWorkerAddress().getHost().equals(localHostName)) {
+        return location;
+      }
+    }
+    return null;
+  }
+}
@@ -16,14 +16,20 @@
 package tachyon.client.file;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
+
 import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.annotation.PublicApi;
+import tachyon.client.ClientContext;
+import tachyon.client.block.TachyonBlockStore;
 import tachyon.client.file.options.CreateOptions;
 import tachyon.client.file.options.DeleteOptions;
 import tachyon.client.file.options.FreeOptions;
@@ -42,7 +48,10 @@ import tachyon.exception.FileDoesNotExistException;
 import tachyon.exception.InvalidPathException;
 import tachyon.exception.DirectoryNotEmptyException;
 import tachyon.exception.TachyonException;
+import tachyon.thrift.BlockInfo;
+import tachyon.thrift.FileBlockInfo;
 import tachyon.thrift.FileInfo;
+import tachyon.thrift.FileOperationResult;
 
 /**
  * Tachyon File System client. This class should be used to interface with the Tachyon File System
@@ -64,6 +73,61 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
     mContext = FileSystemContext.INSTANCE;
   }
 
+  /**
+   * Caches the locations of all the blocks of a file in the block store, with a single request to
+   * the master, so that reading the blocks does not ask the master for each block. The master does
+   * not look up the locations of the blocks in the under storage, which are not cached anyway.
+   * Nothing is done if the block store does not cache locations. Since this is only an
+   * optimization, failures are logged rather than thrown.
+   *
+   * @param info the information of the file
+   */
+  protected void cacheBlockLocations(FileInfo info) {
+    TachyonBlockStore blockStore = mContext.getTachyonBlockStore();
+    if (info.getBlockIds().isEmpty() || !blockStore.isLocationCacheEnabled()) {
+      return;
+    }
+    List<FileBlockInfo> fileBlockInfos;
+    FileSystemMasterClient masterClient = mContext.acquireMasterClient();
+    try {
+      fileBlockInfos = masterClient.getFileBlockInfoList(info.getFileId(), true);
+    } catch (IOException e) {
+      LOG.warn("Failed to cache the block locations of file {}: {}", info.getFileId(),
+          e.getMessage());
+      return;
+    } catch (TachyonException e) {
+      LOG.warn("Failed to cache the block locations of file {}: {}", info.getFileId(),
+          e.getMessage());
+      return;
+    } finally {
+      mContext.releaseMasterClient(masterClient);
+    }
+    List<BlockInfo> blockInfos = new ArrayList<BlockInfo>(fileBlockInfos.size());
+    for (FileBlockInfo fileBlockInfo : fileBlockInfos) {
+      blockInfos.add(fileBlockInfo.getBlockInfo());
+    }
+    blockStore.cacheInfo(blockInfos);
+  }
+
+  /**
+   * @return the maximum number of files sent to the master in a single batched request
+   */
+  private static int getMetadataBatchSize() {
+    return ClientContext.getConf().getInt(Constants.USER_FILE_METADATA_BATCH_SIZE);
+  }
+
+  /**
+   * @param files the handlers of the files
+   * @return the ids of the files
+   */
+  private static List<Long> getFileIds(List<TachyonFile> files) {
+    List<Long> fileIds = new ArrayList<Long>(files.size());
+    for (TachyonFile file : files) {
+      fileIds.add(file.getFileId());
+    }
+    return fileIds;
+  }
+
   @Override
   public TachyonFile create(TachyonURI path, CreateOptions options)
       throws FileAlreadyExistsException, IOException, InvalidPathException, TachyonException {
@@ -76,6 +140,34 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The files are sent to the master in batches of at most
+   * {@link Constants#USER_FILE_METADATA_BATCH_SIZE} files, each created with a single request.
+   */
+  @Override
+  public List<BatchResult<TachyonFile>> createBatch(List<TachyonURI> paths, CreateOptions options)
+      throws IOException, TachyonException {
+    List<BatchResult<TachyonFile>> results = new ArrayList<BatchResult<TachyonFile>>(paths.size());
+    FileSystemMasterClient masterClient = mContext.acquireMasterClient();
+    try {
+      for (List<TachyonURI> batch : Lists.partition(paths, getMetadataBatchSize())) {
+        List<String> batchPaths = new ArrayList<String>(batch.size());
+        for (TachyonURI path : batch) {
+          batchPaths.add(path.getPath());
+        }
+        for (FileOperationResult result : masterClient.createBatch(batchPaths,
+            Collections.nCopies(batch.size(), options))) {
+          results.add(BatchResult.fromThrift(result, new TachyonFile(result.getFileId())));
+        }
+      }
+      return results;
+    } finally {
+      mContext.releaseMasterClient(masterClient);
+    }
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -97,6 +189,36 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The files are sent to the master in batches of at most
+   * {@link Constants#USER_FILE_METADATA_BATCH_SIZE} files, each deleted with a single request.
+   */
+  @Override
+  public List<BatchResult<Boolean>> deleteBatch(List<TachyonFile> files, DeleteOptions options)
+      throws IOException, TachyonException {
+    List<BatchResult<Boolean>> results = new ArrayList<BatchResult<Boolean>>(files.size());
+    int deleted = 0;
+    FileSystemMasterClient masterClient = mContext.acquireMasterClient();
+    try {
+      for (List<TachyonFile> batch : Lists.partition(files, getMetadataBatchSize())) {
+        for (FileOperationResult result : masterClient.deleteBatch(getFileIds(batch),
+            options.isRecursive())) {
+          results.add(BatchResult.fromThrift(result, result.isSuccess()));
+          if (result.isSuccess()) {
+            deleted ++;
+          }
+        }
+      }
+      LOG.info("Deleted {} of {} files from both Tachyon Storage and under file system", deleted,
+          files.size());
+      return results;
+    } finally {
+      mContext.releaseMasterClient(masterClient);
+    }
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -131,6 +253,29 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The file infos are snapshots of the file metadata, and the locations, last modified time, and
+   * path are possibly inconsistent.
+   */
+  @Override
+  public List<BatchResult<FileInfo>> getInfoBatch(List<TachyonFile> files,
+      GetInfoOptions options) throws IOException, TachyonException {
+    List<BatchResult<FileInfo>> results = new ArrayList<BatchResult<FileInfo>>(files.size());
+    FileSystemMasterClient masterClient = mContext.acquireMasterClient();
+    try {
+      for (List<TachyonFile> batch : Lists.partition(files, getMetadataBatchSize())) {
+        for (FileOperationResult result : masterClient.getFileInfoBatch(getFileIds(batch))) {
+          results.add(BatchResult.fromThrift(result, result.getFileInfo()));
+        }
+      }
+      return results;
+    } finally {
+      mContext.releaseMasterClient(masterClient);
+    }
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.file;
+
+import java.io.IOException;
+
+import tachyon.annotation.PublicApi;
+import tachyon.exception.TachyonException;
+import tachyon.thrift.FileOperationResult;
+
+/**
+ * The result of one operation of a batch of file system operations. An operation of a batch may
+ * fail without failing the other operations, in which case its result holds the failure instead of
+ * a value.
+ *
+ * @param <T> the type of the value of a successful operation
+ */
+@PublicApi
+public final class BatchResult<T> {
+  private final T mValue;
+  private final IOException mIOException;
+  private final TachyonException mTachyonException;
+
+  private BatchResult(T value, IOException ioException, TachyonException tachyonException) {
+    mValue = value;
+    mIOException = ioException;
+    mTachyonException = tachyonException;
+  }
+
+  /**
+   * Creates the result of a successful operation.
+   *
+   * @param value the value of the operation
+   * @param <T> the type of the value
+   * @return the result
+   */
+  static <T> BatchResult<T> success(T value) {
+    return new BatchResult<T>(value, null, null);
+  }
+
+  /**
+   * Creates the result of a failed operation.
+   *
+   * @param e the failure of the operation
+   * @param <T> the type of the value of a successful operation
+   * @return the result
+   */
+  static <T> BatchResult<T> failure(IOException e) {
+    return new BatchResult<T>(null, e, null);
+  }
+
+  /**
+   * Creates the result of an operation from the result returned by the master, which is a failure
+   * if it holds an exception and a success holding the given value otherwise.
+   *
+   * @param result the result returned by the master
+   * @param value the value of the operation if it succeeded
+   * @param <T> the type of the value
+   * @return the result
+   */
+  static <T> BatchResult<T> fromThrift(FileOperationResult result, T value) {
+    if (result.isSetE()) {
+      return new BatchResult<T>(null, null, TachyonException.from(result.getE()));
+    }
+    if (result.isSetIoe()) {
+      return failure(new IOException(result.getIoe()));
+    }
+    return success(value);
+  }
+
+  /**
+   * @return true if the operation succeeded, false if it failed with an exception
+   */
+  public boolean isSuccessful() {
+    return mIOException == null && mTachyonException == null;
+  }
+
+  /**
+   * @return the value of the operation
+   * @throws IOException if the operation failed with a non-Tachyon exception
+   * @throws TachyonException if the operation failed with a Tachyon exception
+   */
+  public T getValue() throws IOException, TachyonException {
+    if (mIOException != null) {
+      throw mIOException;
+    }
+    if (mTachyonException != null) {
+      throw mTachyonException;
+    }
+    return mValue;
+  }
+
+  /**
+   * @return the exception the operation failed with, or null if it succeeded
+   */
+  public Exception getException() {
+    return mIOException != null ? mIOException : mTachyonException;
+  }
+}
@@ -17,6 +17,16 @@ package tachyon.client.file;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +59,20 @@ import tachyon.util.network.NetworkAddressUtils;
  * This class wraps the {@link tachyon.client.block.BlockInStream} for each of the blocks in the
  * file and abstracts the switching between streams. The backing streams can read from Tachyon space
  * in the local machine, remote machines, or the under storage system.
+ *
+ * <p>
+ * Positioned reads through {@link #read(long, byte[], int, int)} do not use or move the position of
+ * the stream. They keep their own block streams open across calls, so that random reads of the
+ * same blocks do not lock and unlock the blocks on every call. Unlike the other methods of this
+ * class, positioned reads are thread safe.
+ *
+ * <p>
+ * Once a whole block has been read from its start, the stream is considered sequential, and the
+ * next blocks of the file are opened in the background before the reader reaches them. The start
+ * of the blocks which are not local is also read ahead, so that moving to the next block does not
+ * wait for locking the block and connecting to its source. Blocks are not read ahead when the read
+ * type promotes them, since a block opened ahead stays locked in its tier and cannot be promoted
+ * once the reader reaches it.
  */
 @PublicApi
 public class FileInStream extends InputStream implements BoundedStream, Seekable {
@@ -77,6 +101,23 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
   /** Current {@link BufferedBlockOutStream} writing the data into Tachyon, this may be null */
   private BufferedBlockOutStream mCurrentCacheStream;
 
+  /** The number of blocks to read ahead of the current block, 0 if read-ahead is disabled */
+  private final int mReadAheadBlocks;
+  /** The number of bytes to read ahead from the start of each block which is not local */
+  private final int mReadAheadBytes;
+  /** The blocks being read ahead, keyed by their index in the file */
+  private final TreeMap<Integer, ReadAhead> mReadAheads;
+  /** Whether the current block has been read from its start, without seeking or skipping */
+  private boolean mReadFromBlockStart;
+
+  /** The maximum number of block streams kept open for positioned reads */
+  private final int mMaxPositionedReadStreams;
+  /**
+   * The block streams open for positioned reads, keyed by block id in access order. Guarded by
+   * itself, which is only held to look up, add or remove streams.
+   */
+  private final LinkedHashMap<Long, PositionedReadStream> mPositionedReadStreams;
+
   /**
    * Creates a new file input stream.
    *
@@ -91,6 +132,13 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     mTachyonStorageType = options.getTachyonStorageType();
     mShouldCacheCurrentBlock = mTachyonStorageType.isStore();
     mClosed = false;
+    mMaxPositionedReadStreams =
+        ClientContext.getConf().getInt(Constants.USER_FILE_POSITIONED_READ_MAX_OPEN_BLOCKS);
+    mPositionedReadStreams = new LinkedHashMap<Long, PositionedReadStream>(16, 0.75f, true);
+    mReadAheadBlocks = ClientContext.getConf().getInt(Constants.USER_FILE_READ_AHEAD_BLOCKS);
+    mReadAheadBytes =
+        (int) ClientContext.getConf().getBytes(Constants.USER_FILE_READ_AHEAD_BYTES);
+    mReadAheads = new TreeMap<Integer, ReadAhead>();
   }
 
   @Override
@@ -102,7 +150,20 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
       mCurrentBlockInStream.close();
     }
     closeCacheStream();
-    mClosed = true;
+    discardReadAheads(-1);
+    List<BlockInStream> unused = new ArrayList<BlockInStream>();
+    synchronized (mPositionedReadStreams) {
+      for (PositionedReadStream stream : mPositionedReadStreams.values()) {
+        if (stream.remove()) {
+          unused.add(stream.mStream);
+        }
+      }
+      mPositionedReadStreams.clear();
+      mClosed = true;
+    }
+    for (BlockInStream stream : unused) {
+      stream.close();
+    }
   }
 
   @Override
@@ -173,6 +234,57 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     return len - bytesLeftToRead;
   }
 
+  /**
+   * Reads up to len bytes of the file, starting at the given position, without changing the
+   * position of the stream. Data read this way is not cached into Tachyon storage.
+   *
+   * @param pos the position in the file to start reading at
+   * @param b the buffer into which the data is read
+   * @param off the start offset in the buffer
+   * @param len the maximum number of bytes to read
+   * @return the total number of bytes read into the buffer, or -1 if pos is at or past the end of
+   *         the file
+   * @throws IOException if the data cannot be read
+   */
+  public int read(long pos, byte[] b, int off, int len) throws IOException {
+    Preconditions.checkArgument(b != null, PreconditionMessage.ERR_READ_BUFFER_NULL);
+    Preconditions.checkArgument(off >= 0 && len >= 0 && len + off <= b.length,
+        PreconditionMessage.ERR_BUFFER_STATE, b.length, off, len);
+    Preconditions.checkArgument(pos >= 0, PreconditionMessage.ERR_SEEK_NEGATIVE, pos);
+    if (len == 0) {
+      return 0;
+    } else if (pos >= mFileLength) {
+      return -1;
+    }
+
+    int bytesRead = 0;
+    while (bytesRead < len && pos < mFileLength) {
+      PositionedReadStream stream = acquirePositionedReadStream((int) (pos / mBlockSize));
+      int n;
+      try {
+        // Only one read at a time uses the block stream, but the other blocks can be read in
+        // parallel.
+        synchronized (stream) {
+          stream.mStream.seek(pos % mBlockSize);
+          // The stream of the last block may be sized as a full block when read from under
+          // storage.
+          int bytesToRead = (int) Math.min(len - bytesRead,
+              Math.min(stream.mStream.remaining(), mFileLength - pos));
+          n = stream.mStream.read(b, off + bytesRead, bytesToRead);
+        }
+      } finally {
+        releasePositionedReadStream(stream);
+      }
+      if (n == -1) {
+        throw new IOException(ExceptionMessage.UNEXPECTED_END_OF_STREAM.getMessage(
+            getBlockId((int) (pos / mBlockSize)), pos % mBlockSize));
+      }
+      pos += n;
+      bytesRead += n;
+    }
+    return bytesRead;
+  }
+
   @Override
   public long remaining() {
     return mFileLength - mPos;
@@ -221,8 +333,14 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
   private void checkAndAdvanceBlockInStream() throws IOException {
     long currentBlockId = getCurrentBlockId();
     if (mCurrentBlockInStream == null || mCurrentBlockInStream.remaining() == 0) {
+      // The previous block was read entirely from its start, so the reader is sequential.
+      boolean sequential = mCurrentBlockInStream != null && mReadFromBlockStart;
       closeCacheStream();
       updateBlockInStream(currentBlockId);
+      mReadFromBlockStart = true;
+      if (sequential) {
+        scheduleReadAheads((int) (mPos / mBlockSize));
+      }
       if (mShouldCacheCurrentBlock) {
         try {
           mCurrentCacheStream = mContext.getTachyonBlockStore().getOutStream(currentBlockId, -1,
@@ -261,12 +379,94 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     if (mPos == mFileLength) {
       return -1;
     }
-    int index = (int) (mPos / mBlockSize);
+    return getBlockId((int) (mPos / mBlockSize));
+  }
+
+  /**
+   * @param index the index of a block in the file
+   * @return the id of the block
+   */
+  private long getBlockId(int index) {
     Preconditions.checkState(index < mFileInfo.blockIds.size(),
         PreconditionMessage.ERR_BLOCK_INDEX);
     return mFileInfo.blockIds.get(index);
   }
 
+  /**
+   * Returns the block stream used by positioned reads for a block of the file, opening it if
+   * needed, and registers the caller as one of its users. When too many blocks are open, the least
+   * recently read one is removed, and closed once it has no users, which releases its lock. The
+   * stream is opened and closed without holding the lock on {@link #mPositionedReadStreams}.
+   *
+   * @param index the index of the block in the file
+   * @return the stream of the block, to give back with {@link #releasePositionedReadStream}
+   * @throws IOException if this instream is closed or the stream cannot be opened
+   */
+  private PositionedReadStream acquirePositionedReadStream(int index) throws IOException {
+    long blockId = getBlockId(index);
+    synchronized (mPositionedReadStreams) {
+      if (mClosed) {
+        throw new IOException(ExceptionMessage.READ_CLOSED_STREAM.getMessage());
+      }
+      PositionedReadStream stream = mPositionedReadStreams.get(blockId);
+      if (stream != null) {
+        stream.mUsers ++;
+        return stream;
+      }
+    }
+    PositionedReadStream stream = new PositionedReadStream(openBlockInStream(blockId));
+    List<BlockInStream> unused = new ArrayList<BlockInStream>();
+    synchronized (mPositionedReadStreams) {
+      PositionedReadStream existing = mPositionedReadStreams.get(blockId);
+      if (mClosed || existing != null) {
+        // This instream was closed, or another read opened the block meanwhile.
+        unused.add(stream.mStream);
+        stream = existing;
+      } else {
+        Iterator<PositionedReadStream> it = mPositionedReadStreams.values().iterator();
+        while (mPositionedReadStreams.size() >= mMaxPositionedReadStreams && it.hasNext()) {
+          PositionedReadStream eldest = it.next();
+          it.remove();
+          if (eldest.remove()) {
+            unused.add(eldest.mStream);
+          }
+        }
+        mPositionedReadStreams.put(blockId, stream);
+      }
+      if (stream != null) {
+        stream.mUsers ++;
+      }
+    }
+    for (BlockInStream unusedStream : unused) {
+      try {
+        unusedStream.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close the stream of a block no longer read", e);
+      }
+    }
+    if (stream == null) {
+      throw new IOException(ExceptionMessage.READ_CLOSED_STREAM.getMessage());
+    }
+    return stream;
+  }
+
+  /**
+   * Gives back a stream obtained with {@link #acquirePositionedReadStream}, closing it if it was
+   * removed and this was its last user.
+   *
+   * @param stream the stream to give back
+   * @throws IOException if the stream cannot be closed
+   */
+  private void releasePositionedReadStream(PositionedReadStream stream) throws IOException {
+    synchronized (mPositionedReadStreams) {
+      stream.mUsers --;
+      if (!stream.mRemoved || stream.mUsers > 0) {
+        return;
+      }
+    }
+    stream.mStream.close();
+  }
+
   /**
    * Similar to {@link #checkAndAdvanceBlockInStream()}, but a specific position can be specified
    * and the stream pointer will be at that offset after this method completes.
@@ -277,6 +477,7 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
   private void seekBlockInStream(long newPos) throws IOException {
     long oldBlockId = getCurrentBlockId();
     mPos = newPos;
+    mReadFromBlockStart = false;
     closeCacheStream();
     long currentBlockId = getCurrentBlockId();
 
@@ -301,7 +502,8 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
   /**
    * Helper method to {@link #checkAndAdvanceBlockInStream()} and {@link #seekBlockInStream(long)}.
    * The current {@link BlockInStream} will be closed and a new {@link BlockInStream} for the given
-   * blockId will be opened at position 0.
+   * blockId will be opened at position 0, unless the block was read ahead. The blocks read ahead
+   * which no longer follow the new block are discarded.
    *
    * @param blockId blockId to set the {@link #mCurrentBlockInStream} to read
    * @throws IOException if the next {@link BlockInStream} cannot be obtained
@@ -310,18 +512,49 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     if (mCurrentBlockInStream != null) {
       mCurrentBlockInStream.close();
     }
-    try {
-      if (mTachyonStorageType.isPromote()) {
-        try {
-          mContext.getTachyonBlockStore().promote(blockId);
-        } catch (IOException ioe) {
-          // Failed to promote
-          LOG.warn("Promotion of block {} failed.", blockId);
-        }
+    mCurrentBlockInStream = null;
+    int index = (int) (mPos / mBlockSize);
+    ReadAhead readAhead = mReadAheads.remove(index);
+    discardReadAheads(index);
+    if (readAhead != null) {
+      mCurrentBlockInStream = readAhead.take();
+    }
+    if (mCurrentBlockInStream == null) {
+      promoteBlock(blockId);
+      mCurrentBlockInStream = openBlockInStream(blockId);
+    }
+    mShouldCacheCurrentBlock =
+        !(mCurrentBlockInStream instanceof LocalBlockInStream) && mTachyonStorageType.isStore();
+  }
+
+  /**
+   * Promotes a block to the top storage tier, if the read type of the stream asks for it.
+   *
+   * @param blockId the id of the block
+   */
+  private void promoteBlock(long blockId) {
+    if (mTachyonStorageType.isPromote()) {
+      try {
+        mContext.getTachyonBlockStore().promote(blockId);
+      } catch (IOException ioe) {
+        // Failed to promote
+        LOG.warn("Promotion of block {} failed.", blockId);
       }
-      mCurrentBlockInStream = mContext.getTachyonBlockStore().getInStream(blockId);
-      mShouldCacheCurrentBlock =
-          !(mCurrentBlockInStream instanceof LocalBlockInStream) && mTachyonStorageType.isStore();
+    }
+  }
+
+  /**
+   * Opens a stream to a block of the file, from Tachyon storage if possible and otherwise from the
+   * under storage. This method does not modify the state of the stream, and may be called by the
+   * threads reading ahead.
+   *
+   * @param blockId the id of the block
+   * @return a stream positioned at the start of the block
+   * @throws IOException if the block cannot be opened
+   */
+  private BlockInStream openBlockInStream(long blockId) throws IOException {
+    try {
+      return mContext.getTachyonBlockStore().getInStream(blockId);
     } catch (IOException ioe) {
       LOG.debug("Failed to get BlockInStream for {}, using ufs instead. Exception: ", blockId,
           ioe.getMessage());
@@ -331,9 +564,151 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
         throw ioe;
       }
       long blockStart = BlockId.getSequenceNumber(blockId) * mBlockSize;
-      mCurrentBlockInStream =
-          new UnderStoreBlockInStream(blockStart, mBlockSize, mFileInfo.getUfsPath());
-      mShouldCacheCurrentBlock = mTachyonStorageType.isStore();
+      return new UnderStoreBlockInStream(blockStart, mBlockSize, mFileInfo.getUfsPath());
+    }
+  }
+
+  /**
+   * Starts reading ahead the blocks which follow a block, up to the configured number of blocks.
+   *
+   * @param index the index of the block being read
+   */
+  private void scheduleReadAheads(int index) {
+    if (mTachyonStorageType.isPromote()) {
+      return;
+    }
+    int lastIndex = Math.min(index + mReadAheadBlocks, mFileInfo.blockIds.size() - 1);
+    for (int i = index + 1; i <= lastIndex; i ++) {
+      if (!mReadAheads.containsKey(i)) {
+        ReadAhead readAhead = new ReadAhead(getBlockId(i));
+        try {
+          ClientContext.getReadAheadExecutorService().execute(readAhead.mFuture);
+        } catch (RejectedExecutionException e) {
+          // The client context is being reset, the blocks will be opened when they are read.
+          return;
+        }
+        mReadAheads.put(i, readAhead);
+      }
+    }
+  }
+
+  /**
+   * Discards the blocks read ahead which do not follow a block, closing their streams.
+   *
+   * @param index the index of the block being read, or -1 to discard all the blocks read ahead
+   */
+  private void discardReadAheads(int index) {
+    Iterator<Map.Entry<Integer, ReadAhead>> it = mReadAheads.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Integer, ReadAhead> entry = it.next();
+      if (index == -1 || entry.getKey() <= index || entry.getKey() > index + mReadAheadBlocks) {
+        entry.getValue().discard();
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * A block stream kept open for positioned reads. A read holds the lock on the object while it
+   * uses the block stream. The other fields are guarded by the lock on
+   * {@link FileInStream#mPositionedReadStreams}.
+   */
+  private static final class PositionedReadStream {
+    private final BlockInStream mStream;
+    /** The number of reads which acquired the stream and did not release it yet */
+    private int mUsers = 0;
+    /** Whether the stream was removed from the open streams, to be closed once unused */
+    private boolean mRemoved = false;
+
+    PositionedReadStream(BlockInStream stream) {
+      mStream = stream;
+    }
+
+    /**
+     * Marks the stream as removed from the open streams.
+     *
+     * @return whether the stream is unused, and should be closed by the caller
+     */
+    boolean remove() {
+      mRemoved = true;
+      return mUsers == 0;
+    }
+  }
+
+  /**
+   * The task opening a block in the background. The stream it opens is either taken by the reader,
+   * or closed when the task is discarded.
+   */
+  private final class ReadAhead implements Callable<BlockInStream> {
+    private final long mBlockId;
+    /** The future of the task, which runs the task when it is executed */
+    private final FutureTask<BlockInStream> mFuture;
+    /** The stream opened by the task, guarded by this */
+    private BlockInStream mStream;
+    /** Whether the task was discarded, guarded by this */
+    private boolean mDiscarded;
+
+    ReadAhead(long blockId) {
+      mBlockId = blockId;
+      mFuture = new FutureTask<BlockInStream>(this);
+    }
+
+    @Override
+    public BlockInStream call() throws IOException {
+      BlockInStream stream = openBlockInStream(mBlockId);
+      try {
+        if (!(stream instanceof LocalBlockInStream) && mReadAheadBytes > 0) {
+          stream = new ReadAheadBlockInStream(stream, mReadAheadBytes);
+        }
+      } catch (IOException ioe) {
+        stream.close();
+        throw ioe;
+      }
+      synchronized (this) {
+        if (mDiscarded) {
+          stream.close();
+          return null;
+        }
+        mStream = stream;
+      }
+      return stream;
+    }
+
+    /**
+     * Waits for the task to complete and takes its stream.
+     *
+     * @return the stream of the block, or null if the block could not be read ahead
+     */
+    BlockInStream take() {
+      try {
+        return mFuture.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        discard();
+      } catch (ExecutionException e) {
+        LOG.debug("Failed to read ahead block {}: {}", mBlockId, e.getCause().getMessage());
+      }
+      return null;
+    }
+
+    /**
+     * Discards the task, closing the stream it opened if any.
+     */
+    void discard() {
+      mFuture.cancel(false);
+      BlockInStream stream;
+      synchronized (this) {
+        mDiscarded = true;
+        stream = mStream;
+        mStream = null;
+      }
+      if (stream != null) {
+        try {
+          stream.close();
+        } catch (IOException ioe) {
+          LOG.warn("Failed to close the stream of block {} read ahead", mBlockId, ioe);
+        }
+      }
     }
   }
 }
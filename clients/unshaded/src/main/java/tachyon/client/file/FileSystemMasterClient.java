@@ -17,6 +17,7 @@ package tachyon.client.file;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.thrift.TException;
@@ -31,8 +32,11 @@ import tachyon.client.file.options.SetStateOptions;
 import tachyon.conf.TachyonConf;
 import tachyon.exception.ConnectionFailedException;
 import tachyon.exception.TachyonException;
+import tachyon.thrift.CompleteFileTOptions;
+import tachyon.thrift.CreateTOptions;
 import tachyon.thrift.FileBlockInfo;
 import tachyon.thrift.FileInfo;
+import tachyon.thrift.FileOperationResult;
 import tachyon.thrift.FileSystemMasterClientService;
 import tachyon.thrift.TachyonService;
 import tachyon.thrift.TachyonTException;
@@ -108,6 +112,22 @@ public final class FileSystemMasterClient extends MasterClientBase {
     });
   }
 
+  /**
+   * @param fileIds the file ids
+   * @return the result for each file, holding either its file info or the failure
+   * @throws IOException if an I/O error occurs
+   * @throws ConnectionFailedException if network connection failed
+   */
+  public synchronized List<FileOperationResult> getFileInfoBatch(final List<Long> fileIds)
+      throws IOException, ConnectionFailedException {
+    return retryRPC(new RpcCallable<List<FileOperationResult>>() {
+      @Override
+      public List<FileOperationResult> call() throws TException {
+        return mClient.getFileInfoBatch(fileIds);
+      }
+    });
+  }
+
   /**
    * @param fileId the file id
    * @return the list of file information for the given file id
@@ -151,10 +171,23 @@ public final class FileSystemMasterClient extends MasterClientBase {
   // TODO(calvin): Not sure if this is necessary.
   public synchronized List<FileBlockInfo> getFileBlockInfoList(final long fileId)
       throws IOException, TachyonException {
+    return getFileBlockInfoList(fileId, false);
+  }
+
+  /**
+   * @param fileId the file id
+   * @param skipUfsLocations whether to skip the locations in the under storage of the blocks which
+   *        are not in Tachyon
+   * @return the list of file block information for the given file id
+   * @throws IOException if an I/O error occurs
+   * @throws TachyonException if a Tachyon error occurs
+   */
+  public synchronized List<FileBlockInfo> getFileBlockInfoList(final long fileId,
+      final boolean skipUfsLocations) throws IOException, TachyonException {
     return retryRPC(new RpcCallableThrowsTachyonTException<List<FileBlockInfo>>() {
       @Override
       public List<FileBlockInfo> call() throws TachyonTException, TException {
-        return mClient.getFileBlockInfoList(fileId);
+        return mClient.getFileBlockInfoList(fileId, skipUfsLocations);
       }
     });
   }
@@ -208,6 +241,29 @@ public final class FileSystemMasterClient extends MasterClientBase {
     });
   }
 
+  /**
+   * Creates a batch of new files.
+   *
+   * @param paths the file paths
+   * @param options the options for each file
+   * @return the result for each file, holding either its file id or the failure
+   * @throws IOException if an I/O error occurs
+   * @throws ConnectionFailedException if network connection failed
+   */
+  public synchronized List<FileOperationResult> createBatch(final List<String> paths,
+      final List<CreateOptions> options) throws IOException, ConnectionFailedException {
+    final List<CreateTOptions> tOptions = new ArrayList<CreateTOptions>(options.size());
+    for (CreateOptions option : options) {
+      tOptions.add(option.toThrift());
+    }
+    return retryRPC(new RpcCallable<List<FileOperationResult>>() {
+      @Override
+      public List<FileOperationResult> call() throws TException {
+        return mClient.createBatch(paths, tOptions);
+      }
+    });
+  }
+
   /**
    * Marks a file as completed.
    *
@@ -227,6 +283,30 @@ public final class FileSystemMasterClient extends MasterClientBase {
     });
   }
 
+  /**
+   * Marks a batch of files as completed.
+   *
+   * @param fileIds the file ids
+   * @param options the options for each file
+   * @return the result for each file, holding the failure if the file could not be completed
+   * @throws IOException if an I/O error occurs
+   * @throws ConnectionFailedException if network connection failed
+   */
+  public synchronized List<FileOperationResult> completeFileBatch(final List<Long> fileIds,
+      final List<CompleteFileOptions> options) throws IOException, ConnectionFailedException {
+    final List<CompleteFileTOptions> tOptions =
+        new ArrayList<CompleteFileTOptions>(options.size());
+    for (CompleteFileOptions option : options) {
+      tOptions.add(option.toThrift());
+    }
+    return retryRPC(new RpcCallable<List<FileOperationResult>>() {
+      @Override
+      public List<FileOperationResult> call() throws TException {
+        return mClient.completeFileBatch(fileIds, tOptions);
+      }
+    });
+  }
+
   /**
    * Deletes a file or a directory.
    *
@@ -246,6 +326,25 @@ public final class FileSystemMasterClient extends MasterClientBase {
     });
   }
 
+  /**
+   * Deletes a batch of files or directories.
+   *
+   * @param ids the ids
+   * @param recursive whether to delete the files recursively (when they are directories)
+   * @return the result for each file, holding either whether it was deleted or the failure
+   * @throws IOException if an I/O error occurs
+   * @throws ConnectionFailedException if network connection failed
+   */
+  public synchronized List<FileOperationResult> deleteBatch(final List<Long> ids,
+      final boolean recursive) throws IOException, ConnectionFailedException {
+    return retryRPC(new RpcCallable<List<FileOperationResult>>() {
+      @Override
+      public List<FileOperationResult> call() throws TException {
+        return mClient.removeBatch(ids, recursive);
+      }
+    });
+  }
+
   /**
    * Renames a file or a directory.
    *
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.file;
+
+import java.io.IOException;
+
+import com.google.common.base.Preconditions;
+
+import tachyon.client.block.BlockInStream;
+import tachyon.exception.PreconditionMessage;
+import tachyon.util.io.BufferUtils;
+
+/**
+ * A {@link BlockInStream} which reads the start of a block when it is created, so that the data is
+ * already available when the block is later read. The instance is created by a background thread
+ * of the {@link FileInStream} reading ahead, then handed over to the reader. Like the other block
+ * streams, it should only be used by one thread at a time.
+ */
+final class ReadAheadBlockInStream extends BlockInStream {
+  /** The stream of the block, positioned at {@link #mPos}, or at the end of the data read ahead */
+  private final BlockInStream mStream;
+  /** The data read ahead from the start of the block */
+  private final byte[] mData;
+  /** The number of bytes in {@link #mData} */
+  private final int mDataLength;
+  /** The position in the block */
+  private long mPos;
+
+  /**
+   * Creates a new stream which reads the start of the block right away.
+   *
+   * @param stream the stream of the block, positioned at the start of the block
+   * @param bytes the number of bytes to read ahead
+   * @throws IOException if the block cannot be read
+   */
+  ReadAheadBlockInStream(BlockInStream stream, int bytes) throws IOException {
+    mStream = stream;
+    mData = new byte[(int) Math.min(bytes, stream.remaining())];
+    int length = 0;
+    while (length < mData.length) {
+      int bytesRead = stream.read(mData, length, mData.length - length);
+      if (bytesRead == -1) {
+        break;
+      }
+      length += bytesRead;
+    }
+    mDataLength = length;
+    mPos = 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    mStream.close();
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (mPos < mDataLength) {
+      return BufferUtils.byteToInt(mData[(int) mPos ++]);
+    }
+    int data = mStream.read();
+    if (data != -1) {
+      mPos ++;
+    }
+    return data;
+  }
+
+  @Override
+  public int read(byte[] b) throws IOException {
+    return read(b, 0, b.length);
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkArgument(b != null, PreconditionMessage.ERR_READ_BUFFER_NULL);
+    Preconditions.checkArgument(off >= 0 && len >= 0 && len + off <= b.length,
+        PreconditionMessage.ERR_BUFFER_STATE, b.length, off, len);
+    if (len == 0) {
+      return 0;
+    }
+    if (mPos < mDataLength) {
+      int bytesRead = (int) Math.min(len, mDataLength - mPos);
+      System.arraycopy(mData, (int) mPos, b, off, bytesRead);
+      mPos += bytesRead;
+      return bytesRead;
+    }
+    int bytesRead = mStream.read(b, off, len);
+    if (bytesRead > 0) {
+      mPos += bytesRead;
+    }
+    return bytesRead;
+  }
+
+  @Override
+  public long remaining() {
+    return mStream.remaining() + Math.max(mDataLength - mPos, 0);
+  }
+
+  @Override
+  public void seek(long pos) throws IOException {
+    if (pos < mDataLength) {
+      if (mPos > mDataLength) {
+        mStream.seek(mDataLength);
+      }
+    } else {
+      mStream.seek(pos);
+    }
+    mPos = pos;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    if (n <= 0) {
+      return 0;
+    }
+    long toSkip = Math.min(n, remaining());
+    seek(mPos + toSkip);
+    return toSkip;
+  }
+}
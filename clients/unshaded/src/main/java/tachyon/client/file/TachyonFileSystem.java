@@ -85,6 +85,33 @@ public class TachyonFileSystem extends AbstractTachyonFileSystem {
     return create(path, CreateOptions.defaults());
   }
 
+  /**
+   * Convenience method for {@link #createBatch(List, CreateOptions)} with default options.
+   */
+  public List<BatchResult<TachyonFile>> createBatch(List<TachyonURI> paths)
+      throws IOException, TachyonException {
+    return createBatch(paths, CreateOptions.defaults());
+  }
+
+  /**
+   * Creates a batch of files to write with {@link #getOutStream(TachyonFile, OutStreamOptions)},
+   * with as few requests to the master as possible. The files are created like in
+   * {@link #getOutStream(TachyonURI, OutStreamOptions)}, but a file which cannot be created does
+   * not prevent the other files of the batch from being created. No stream is opened, so callers
+   * should open the stream of each file only when they write it.
+   *
+   * @param paths the Tachyon paths of the files
+   * @param options the set of options to write the files with, used for every file
+   * @return the result for each path, holding either the {@link TachyonFile} instance that
+   *         identifies the newly created file or the failure
+   * @throws IOException if a non-Tachyon exception occurs
+   * @throws TachyonException if an unexpected Tachyon exception is thrown
+   */
+  public List<BatchResult<TachyonFile>> createBatch(List<TachyonURI> paths,
+      OutStreamOptions options) throws IOException, TachyonException {
+    return createBatch(paths, getCreateOptions(options));
+  }
+
   /**
    * Convenience method for {@link #delete(TachyonFile, DeleteOptions)} with default options.
    */
@@ -93,6 +120,14 @@ public class TachyonFileSystem extends AbstractTachyonFileSystem {
     delete(file, DeleteOptions.defaults());
   }
 
+  /**
+   * Convenience method for {@link #deleteBatch(List, DeleteOptions)} with default options.
+   */
+  public List<BatchResult<Boolean>> deleteBatch(List<TachyonFile> files)
+      throws IOException, TachyonException {
+    return deleteBatch(files, DeleteOptions.defaults());
+  }
+
   /**
    * Convenience method for {@link #free(TachyonFile, FreeOptions)} with default options.
    */
@@ -110,6 +145,15 @@ public class TachyonFileSystem extends AbstractTachyonFileSystem {
     return getInfo(file, GetInfoOptions.defaults());
   }
 
+  /**
+   * Convenience method for {@link TachyonFileSystemCore#getInfoBatch(List, GetInfoOptions)} with
+   * default options.
+   */
+  public List<BatchResult<FileInfo>> getInfoBatch(List<TachyonFile> files)
+      throws IOException, TachyonException {
+    return getInfoBatch(files, GetInfoOptions.defaults());
+  }
+
   /**
    * Convenience method for {@link #getInStream(TachyonFile, InStreamOptions)} with default options.
    */
@@ -137,6 +181,7 @@ public class TachyonFileSystem extends AbstractTachyonFileSystem {
       throw new FileNotFoundException(
           ExceptionMessage.CANNOT_READ_DIRECTORY.getMessage(info.getName()));
     }
+    cacheBlockLocations(info);
     return new FileInStream(info, options);
   }
 
@@ -165,14 +210,7 @@ public class TachyonFileSystem extends AbstractTachyonFileSystem {
    */
   public FileOutStream getOutStream(TachyonURI path, OutStreamOptions options)
       throws IOException, TachyonException, FileAlreadyExistsException, InvalidPathException {
-    CreateOptions createOptions =
-        new CreateOptions.Builder(ClientContext.getConf())
-            .setBlockSizeBytes(options.getBlockSizeBytes())
-            .setRecursive(true)
-            .setTTL(options.getTTL())
-            .setUnderStorageType(options.getUnderStorageType())
-            .build();
-    TachyonFile tFile = create(path, createOptions);
+    TachyonFile tFile = create(path, getCreateOptions(options));
     try {
       return new FileOutStream(tFile.getFileId(), options);
     } catch (IOException e) {
@@ -185,6 +223,21 @@ public class TachyonFileSystem extends AbstractTachyonFileSystem {
     }
   }
 
+  /**
+   * Gets the {@link FileOutStream} for a file created by
+   * {@link #createBatch(List, OutStreamOptions)}. Once close is called on the output stream, the
+   * file will be completed.
+   *
+   * @param file the handler for the file to write
+   * @param options the set of options the file was created with
+   * @return an output stream to write the file
+   * @throws IOException if a non-Tachyon exception occurs
+   */
+  public FileOutStream getOutStream(TachyonFile file, OutStreamOptions options)
+      throws IOException {
+    return new FileOutStream(file.getFileId(), options);
+  }
+
   /**
    * Alternative way to get a {@link FileOutStream} to a file that has already been created. This
    * should not be used.
@@ -198,6 +251,19 @@ public class TachyonFileSystem extends AbstractTachyonFileSystem {
     return new FileOutStream(fileId, options);
   }
 
+  /**
+   * @param options the options of an output stream
+   * @return the options to create the file of the output stream with
+   */
+  private static CreateOptions getCreateOptions(OutStreamOptions options) {
+    return new CreateOptions.Builder(ClientContext.getConf())
+        .setBlockSizeBytes(options.getBlockSizeBytes())
+        .setRecursive(true)
+        .setTTL(options.getTTL())
+        .setUnderStorageType(options.getUnderStorageType())
+        .build();
+  }
+
   /**
    * Convenience method for {@link #listStatus(TachyonFile, ListStatusOptions)} with default
    * options.
@@ -60,6 +60,20 @@ interface TachyonFileSystemCore {
   TachyonFile create(TachyonURI path, CreateOptions options) throws IOException,
       FileAlreadyExistsException, InvalidPathException, TachyonException;
 
+  /**
+   * Creates a batch of files. A file which cannot be created does not prevent the other files of
+   * the batch from being created.
+   *
+   * @param paths the paths of the files to create in Tachyon space
+   * @param options method options, used for every file
+   * @return the result for each path, holding either the {@link TachyonFile} instance that
+   *         identifies the newly created file or the failure
+   * @throws IOException if a non-Tachyon exception occurs
+   * @throws TachyonException if an unexpected tachyon exception is thrown
+   */
+  List<BatchResult<TachyonFile>> createBatch(List<TachyonURI> paths, CreateOptions options)
+      throws IOException, TachyonException;
+
   /**
    * Deletes a file or a directory.
    *
@@ -73,6 +87,19 @@ interface TachyonFileSystemCore {
   void delete(TachyonFile file, DeleteOptions options) throws IOException,
       FileDoesNotExistException, DirectoryNotEmptyException, TachyonException;
 
+  /**
+   * Deletes a batch of files or directories. A file which cannot be deleted does not prevent the
+   * other files of the batch from being deleted.
+   *
+   * @param files the handlers of the files to delete
+   * @param options method options, used for every file
+   * @return the result for each file, holding either whether the file was deleted or the failure
+   * @throws IOException if a non-Tachyon exception occurs
+   * @throws TachyonException if an unexpected tachyon exception is thrown
+   */
+  List<BatchResult<Boolean>> deleteBatch(List<TachyonFile> files, DeleteOptions options)
+      throws IOException, TachyonException;
+
   /**
    * Removes the file from Tachyon, but not from UFS in case it exists there.
    *
@@ -97,6 +124,18 @@ interface TachyonFileSystemCore {
   FileInfo getInfo(TachyonFile file, GetInfoOptions options) throws IOException,
       FileDoesNotExistException, TachyonException;
 
+  /**
+   * Gets the {@link FileInfo} objects that represent the metadata of a batch of Tachyon files.
+   *
+   * @param files the handlers for the files
+   * @param options method options
+   * @return the result for each file, holding either its FileInfo or the failure
+   * @throws IOException if a non-Tachyon exception occurs
+   * @throws TachyonException if an unexpected tachyon exception is thrown
+   */
+  List<BatchResult<FileInfo>> getInfoBatch(List<TachyonFile> files, GetInfoOptions options)
+      throws IOException, TachyonException;
+
   /**
    * If the file is a directory, returns the {@link FileInfo} of all the direct entries in it.
    * Otherwise returns the {@link FileInfo} for the file.
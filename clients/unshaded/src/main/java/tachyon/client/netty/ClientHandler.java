@@ -16,8 +16,11 @@
 package tachyon.client.netty;
 
 import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +35,7 @@ import tachyon.Constants;
 import tachyon.exception.ExceptionMessage;
 import tachyon.network.protocol.RPCMessage;
 import tachyon.network.protocol.RPCResponse;
+import tachyon.network.protocol.databuffer.DataBuffer;
 
 /**
  * This handles all the messages received by the client channel.
@@ -50,15 +54,25 @@ public final class ClientHandler extends SimpleChannelInboundHandler<RPCMessage>
      * @param response the RPC response
      */
     void onResponseReceived(RPCResponse response);
+
+    /**
+     * This method will be called when the channel fails before a response is received.
+     *
+     * @param cause the cause of the failure
+     */
+    void onFailure(Throwable cause);
   }
 
   private final Set<ResponseListener> mListeners;
+  /** Listeners waiting for the response of a specific request, keyed by the request id. */
+  private final Map<Long, ResponseListener> mRequestListeners;
 
   /**
    * Creates a new {@link ClientHandler}.
    */
   public ClientHandler() {
     mListeners = new HashSet<ResponseListener>(4);
+    mRequestListeners = new ConcurrentHashMap<Long, ResponseListener>();
   }
 
   /**
@@ -70,6 +84,19 @@ public final class ClientHandler extends SimpleChannelInboundHandler<RPCMessage>
     mListeners.add(Preconditions.checkNotNull(listener));
   }
 
+  /**
+   * Adds a {@link ResponseListener} listener which only receives the responses of the request with
+   * the given id. This allows many requests to be in flight on the same channel. The listener
+   * stays registered until {@link #removeListener(long)} is called, so it may receive several
+   * responses, e.g. for a streamed request.
+   *
+   * @param requestId the id of the request
+   * @param listener the listener to add
+   */
+  public void addListener(long requestId, ResponseListener listener) {
+    mRequestListeners.put(requestId, Preconditions.checkNotNull(listener));
+  }
+
   /**
    * Removes a {@link ResponseListener} listener from the client handler.
    *
@@ -79,6 +106,15 @@ public final class ClientHandler extends SimpleChannelInboundHandler<RPCMessage>
     mListeners.remove(listener);
   }
 
+  /**
+   * Removes the {@link ResponseListener} listener of the request with the given id.
+   *
+   * @param requestId the id of the request
+   */
+  public void removeListener(long requestId) {
+    mRequestListeners.remove(requestId);
+  }
+
   @Override
   public void channelRead0(final ChannelHandlerContext ctx, final RPCMessage msg)
       throws IOException {
@@ -93,13 +129,59 @@ public final class ClientHandler extends SimpleChannelInboundHandler<RPCMessage>
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
     LOG.warn("Exception thrown while processing request", cause);
+    failRequests(cause);
     ctx.close();
   }
 
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    failRequests(new ClosedChannelException());
+    super.channelInactive(ctx);
+  }
+
   private void handleResponse(final ChannelHandlerContext ctx, final RPCResponse resp)
       throws IOException {
+    long requestId = resp.getRequestId();
+    if (requestId != RPCMessage.UNKNOWN_REQUEST_ID) {
+      ResponseListener listener = mRequestListeners.get(requestId);
+      if (listener != null) {
+        listener.onResponseReceived(resp);
+        return;
+      }
+      if (mListeners.isEmpty()) {
+        // Nobody is waiting for the response anymore (e.g. the request timed out), so release the
+        // payload here.
+        LOG.warn("Dropping response for unknown request {}", requestId);
+        DataBuffer payload = resp.getPayloadDataBuffer();
+        if (payload != null) {
+          payload.release();
+        }
+        return;
+      }
+    } else if (!mRequestListeners.isEmpty()) {
+      // A response without a request id (e.g. a decode error) cannot be matched, so every request
+      // in flight on this channel receives it.
+      for (Long id : mRequestListeners.keySet()) {
+        ResponseListener listener = mRequestListeners.remove(id);
+        if (listener != null) {
+          listener.onResponseReceived(resp);
+        }
+      }
+    }
     for (ResponseListener listener : mListeners) {
       listener.onResponseReceived(resp);
     }
   }
+
+  private void failRequests(Throwable cause) {
+    for (Long id : mRequestListeners.keySet()) {
+      ResponseListener listener = mRequestListeners.remove(id);
+      if (listener != null) {
+        listener.onFailure(cause);
+      }
+    }
+    for (ResponseListener listener : mListeners) {
+      listener.onFailure(cause);
+    }
+  }
 }
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.netty;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+
+import tachyon.Constants;
+import tachyon.client.ClientContext;
+import tachyon.network.protocol.RPCMessage;
+import tachyon.network.protocol.RPCRequest;
+import tachyon.network.protocol.RPCResponse;
+
+/**
+ * A pool of long-lived Netty channels to remote data servers, shared by all the remote block
+ * readers and writers of the client JVM. Each data server gets a bounded number of channels, and
+ * requests to the same data server are multiplexed over them. Responses are matched with their
+ * requests by the request id carried in the {@link RPCMessage}s. Streamed requests, which need
+ * flow control on their channel, instead borrow a channel for their exclusive use; such channels
+ * are kept idle in the pool between streams, and their number is capped separately for each data
+ * server. This class is thread safe.
+ */
+public enum NettyChannelPool {
+  INSTANCE;
+
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** The bootstrap used to create all the pooled channels. */
+  private final Bootstrap mBootstrap;
+  /** The source of request ids, which are unique within the client JVM. */
+  private final AtomicLong mNextRequestId;
+  /** The channels of every data server, keyed by the address of the data server. */
+  private final ConcurrentMap<InetSocketAddress, Channel[]> mChannels;
+  /** The idle channels available for streams, keyed by the address of the data server. */
+  private final ConcurrentMap<InetSocketAddress, Queue<Channel>> mIdleStreamChannels;
+  /**
+   * The permits to open stream channels, keyed by the address of the data server. Every stream
+   * channel holds a permit, whether it is borrowed or idle, until it is closed.
+   */
+  private final ConcurrentMap<InetSocketAddress, Semaphore> mStreamChannelPermits;
+  /** The maximum number of channels to open to a single data server. */
+  private final int mMaxChannels;
+  /** The maximum number of stream channels to open to a single data server. */
+  private final int mMaxStreamChannels;
+
+  NettyChannelPool() {
+    mBootstrap = NettyClient.createClientBootstrap();
+    mNextRequestId = new AtomicLong(0);
+    mChannels = new ConcurrentHashMap<InetSocketAddress, Channel[]>();
+    mIdleStreamChannels = new ConcurrentHashMap<InetSocketAddress, Queue<Channel>>();
+    mStreamChannelPermits = new ConcurrentHashMap<InetSocketAddress, Semaphore>();
+    mMaxChannels = ClientContext.getConf().getInt(Constants.USER_NETWORK_NETTY_CHANNEL_POOL_SIZE);
+    Preconditions.checkState(mMaxChannels > 0, "%s must be positive",
+        Constants.USER_NETWORK_NETTY_CHANNEL_POOL_SIZE);
+    mMaxStreamChannels =
+        ClientContext.getConf().getInt(Constants.USER_BLOCK_REMOTE_READ_STREAM_CHANNELS_MAX);
+    Preconditions.checkState(mMaxStreamChannels > 0, "%s must be positive",
+        Constants.USER_BLOCK_REMOTE_READ_STREAM_CHANNELS_MAX);
+  }
+
+  /**
+   * @return a new request id to use for a request sent through this pool
+   */
+  public long nextRequestId() {
+    return mNextRequestId.getAndIncrement();
+  }
+
+  /**
+   * Sends a request to a data server over a pooled channel and waits for its response. The request
+   * must have been created with an id obtained from {@link #nextRequestId()}.
+   *
+   * @param address the address of the data server
+   * @param request the request to send
+   * @return the response of the data server
+   * @throws IOException if the request fails or times out
+   */
+  public RPCResponse call(InetSocketAddress address, RPCRequest request) throws IOException {
+    return call(address, request, request.getRequestId());
+  }
+
+  /**
+   * Sends a request to a data server over the pooled channel selected by a key, and waits for its
+   * response. Requests sent with the same key use the same channel as long as it stays open, which
+   * lets the data server keep per-channel state across them, e.g. an open block writer.
+   *
+   * @param address the address of the data server
+   * @param request the request to send
+   * @param channelKey the key selecting the channel
+   * @return the response of the data server
+   * @throws IOException if the request fails or times out
+   */
+  public RPCResponse call(InetSocketAddress address, RPCRequest request, long channelKey)
+      throws IOException {
+    long requestId = request.getRequestId();
+    Preconditions.checkArgument(requestId != RPCMessage.UNKNOWN_REQUEST_ID,
+        "The request must have a request id");
+    Channel channel = acquireChannel(address, channelKey);
+    ClientHandler handler = channel.pipeline().get(ClientHandler.class);
+    final SingleResponseListener listener = new SingleResponseListener();
+    handler.addListener(requestId, listener);
+    try {
+      channel.writeAndFlush(request).addListener(new ChannelFutureListener() {
+        @Override
+        public void operationComplete(ChannelFuture future) {
+          if (!future.isSuccess()) {
+            listener.onFailure(future.cause());
+          }
+        }
+      });
+      return listener.get(NettyClient.TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } catch (Exception e) {
+      throw new IOException(e);
+    } finally {
+      handler.removeListener(requestId);
+    }
+  }
+
+  /**
+   * Borrows a channel to the data server at the given address for the exclusive use of a stream.
+   * An idle channel is reused if there is one; otherwise a new one is connected, unless as many
+   * stream channels as allowed are already open to the data server. The channel must be given
+   * back with {@link #releaseStreamChannel}.
+   *
+   * @param address the address of the data server
+   * @return an active channel, or null if too many stream channels are open to the data server
+   * @throws IOException if the connection cannot be established
+   */
+  public Channel acquireStreamChannel(InetSocketAddress address) throws IOException {
+    Queue<Channel> idle = getIdleStreamChannels(address);
+    Semaphore permits = getStreamChannelPermits(address);
+    Channel channel;
+    while ((channel = idle.poll()) != null) {
+      if (channel.isActive()) {
+        return channel;
+      }
+      permits.release();
+    }
+    if (!permits.tryAcquire()) {
+      return null;
+    }
+    try {
+      channel = mBootstrap.connect(address).sync().channel();
+      LOG.debug("Connected to remote machine {} for streaming", address);
+      return channel;
+    } catch (Exception e) {
+      permits.release();
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Gives back a channel borrowed with {@link #acquireStreamChannel}. The channel is kept for
+   * later streams only if it can be reused, i.e. every response of the stream on it was received;
+   * otherwise data may still be in flight, and it is closed.
+   *
+   * @param address the address of the data server
+   * @param channel the channel to give back
+   * @param reusable whether the channel is ready to carry another stream
+   */
+  public void releaseStreamChannel(InetSocketAddress address, Channel channel, boolean reusable) {
+    if (reusable && channel.isActive()) {
+      getIdleStreamChannels(address).offer(channel);
+      return;
+    }
+    channel.close();
+    getStreamChannelPermits(address).release();
+  }
+
+  private Queue<Channel> getIdleStreamChannels(InetSocketAddress address) {
+    Queue<Channel> idle = mIdleStreamChannels.get(address);
+    if (idle == null) {
+      mIdleStreamChannels.putIfAbsent(address, new ConcurrentLinkedQueue<Channel>());
+      idle = mIdleStreamChannels.get(address);
+    }
+    return idle;
+  }
+
+  private Semaphore getStreamChannelPermits(InetSocketAddress address) {
+    Semaphore permits = mStreamChannelPermits.get(address);
+    if (permits == null) {
+      mStreamChannelPermits.putIfAbsent(address, new Semaphore(mMaxStreamChannels));
+      permits = mStreamChannelPermits.get(address);
+    }
+    return permits;
+  }
+
+  /**
+   * Gets an active channel to the data server at the given address, connecting a new one if the
+   * slot for the request is empty or its channel was closed.
+   *
+   * @param address the address of the data server
+   * @param channelKey the key of the request, used to spread requests over the channels
+   * @return an active channel
+   * @throws IOException if the connection cannot be established
+   */
+  private Channel acquireChannel(InetSocketAddress address, long channelKey) throws IOException {
+    Channel[] channels = mChannels.get(address);
+    if (channels == null) {
+      mChannels.putIfAbsent(address, new Channel[mMaxChannels]);
+      channels = mChannels.get(address);
+    }
+    int slot = (int) Math.abs(channelKey % channels.length);
+    synchronized (channels) {
+      Channel channel = channels[slot];
+      if (channel != null && channel.isActive()) {
+        return channel;
+      }
+      try {
+        channel = mBootstrap.connect(address).sync().channel();
+      } catch (Exception e) {
+        throw new IOException(e);
+      }
+      LOG.info("Connected to remote machine {}", address);
+      channels[slot] = channel;
+      return channel;
+    }
+  }
+}
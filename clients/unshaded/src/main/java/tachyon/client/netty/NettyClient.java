@@ -65,25 +65,52 @@ public final class NettyClient {
    * @return the new client {@link Bootstrap}
    */
   public static Bootstrap createClientBootstrap(final ClientHandler handler) {
-    final Bootstrap boot = new Bootstrap();
-
-    boot.group(WORKER_GROUP).channel(CLIENT_CHANNEL_CLASS);
-    boot.option(ChannelOption.SO_KEEPALIVE, true);
-    boot.option(ChannelOption.TCP_NODELAY, true);
-    boot.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+    final Bootstrap boot = createBootstrap();
 
     boot.handler(new ChannelInitializer<SocketChannel>() {
       @Override
       public void initChannel(SocketChannel ch) throws Exception {
-        ChannelPipeline pipeline = ch.pipeline();
+        initPipeline(ch.pipeline(), handler);
+      }
+    });
+
+    return boot;
+  }
+
+  /**
+   * Creates and returns a new Netty client bootstrap where every new channel gets its own
+   * {@link ClientHandler}. The handler of a channel can be obtained through
+   * {@code channel.pipeline().get(ClientHandler.class)}.
+   *
+   * @return the new client {@link Bootstrap}
+   */
+  public static Bootstrap createClientBootstrap() {
+    final Bootstrap boot = createBootstrap();
 
-        pipeline.addLast(RPCMessage.createFrameDecoder());
-        pipeline.addLast(ENCODER);
-        pipeline.addLast(DECODER);
-        pipeline.addLast(handler);
+    boot.handler(new ChannelInitializer<SocketChannel>() {
+      @Override
+      public void initChannel(SocketChannel ch) throws Exception {
+        initPipeline(ch.pipeline(), new ClientHandler());
       }
     });
 
     return boot;
   }
+
+  private static Bootstrap createBootstrap() {
+    final Bootstrap boot = new Bootstrap();
+
+    boot.group(WORKER_GROUP).channel(CLIENT_CHANNEL_CLASS);
+    boot.option(ChannelOption.SO_KEEPALIVE, true);
+    boot.option(ChannelOption.TCP_NODELAY, true);
+    boot.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+    return boot;
+  }
+
+  private static void initPipeline(ChannelPipeline pipeline, ClientHandler handler) {
+    pipeline.addLast(RPCMessage.createFrameDecoder());
+    pipeline.addLast(ENCODER);
+    pipeline.addLast(DECODER);
+    pipeline.addLast(handler);
+  }
 }
@@ -18,96 +18,325 @@ package tachyon.client.netty;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
-import java.util.concurrent.TimeUnit;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 
 import tachyon.Constants;
+import tachyon.client.ClientContext;
 import tachyon.client.RemoteBlockReader;
+import tachyon.conf.TachyonConf;
 import tachyon.exception.ExceptionMessage;
 import tachyon.network.protocol.RPCBlockReadRequest;
 import tachyon.network.protocol.RPCBlockReadResponse;
+import tachyon.network.protocol.RPCBlockReadStreamCancelRequest;
+import tachyon.network.protocol.RPCBlockReadStreamRequest;
 import tachyon.network.protocol.RPCErrorResponse;
 import tachyon.network.protocol.RPCMessage;
 import tachyon.network.protocol.RPCResponse;
+import tachyon.network.protocol.databuffer.DataBuffer;
 
 /**
- * Read data from remote data server using Netty.
+ * Read data from remote data server using Netty. Requests are sent over the long-lived channels of
+ * {@link NettyChannelPool}. A stream holds a pooled channel for its exclusive use until it ends or
+ * the reader is closed. A stream abandoned before its end is cancelled, and its channel goes back
+ * to the pool once the rest of the stream has been received and discarded.
  */
 public final class NettyRemoteBlockReader implements RemoteBlockReader {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
-  private final Bootstrap mClientBootstrap;
-  private final ClientHandler mHandler;
+  private final NettyChannelPool mChannelPool;
+  /** The maximum size of the chunks requested for a stream. */
+  private final long mChunkSize;
+  /** The maximum number of chunks of a stream to buffer. */
+  private final int mWindowChunks;
+  /** The addresses of the data servers which rejected a stream because they cannot stream. */
+  private final Set<InetSocketAddress> mStreamUnsupported;
   /** A reference to read response so we can explicitly release the resource after reading. */
   private RPCBlockReadResponse mReadResponse = null;
 
+  /** The address of the data server of the open stream. */
+  private InetSocketAddress mStreamAddress = null;
+  /** The channel of the open stream, or null if no stream is open. */
+  private Channel mStreamChannel = null;
+  /** The listener receiving the chunks of the open stream. */
+  private StreamResponseListener mStreamListener = null;
+  /** The request id of the open stream. */
+  private long mStreamRequestId;
+  /** Whether the last response of the stream was received. */
+  private boolean mStreamEnded = false;
+
   /**
    * Creates a new {@link NettyRemoteBlockReader}.
-   *
-   * TODO(gene): Creating a new remote block reader may be expensive, so consider a connection pool.
    */
   public NettyRemoteBlockReader() {
-    mHandler = new ClientHandler();
-    mClientBootstrap = NettyClient.createClientBootstrap(mHandler);
+    mChannelPool = NettyChannelPool.INSTANCE;
+    TachyonConf conf = ClientContext.getConf();
+    mChunkSize = conf.getBytes(Constants.USER_BLOCK_REMOTE_READ_CHUNK_SIZE_BYTES);
+    mWindowChunks = conf.getInt(Constants.USER_BLOCK_REMOTE_READ_WINDOW_CHUNKS);
+    mStreamUnsupported = new HashSet<InetSocketAddress>();
   }
 
   @Override
   public ByteBuffer readRemoteBlock(InetSocketAddress address, long blockId, long offset,
       long length, long lockId, long sessionId) throws IOException {
+    RPCResponse response = mChannelPool.call(address, new RPCBlockReadRequest(blockId, offset,
+        length, lockId, sessionId, mChannelPool.nextRequestId()));
 
-    try {
-      ChannelFuture f = mClientBootstrap.connect(address).sync();
-
-      LOG.info("Connected to remote machine {}", address);
-      Channel channel = f.channel();
-      SingleResponseListener listener = new SingleResponseListener();
-      mHandler.addListener(listener);
-      channel.writeAndFlush(new RPCBlockReadRequest(blockId, offset, length, lockId, sessionId));
-
-      RPCResponse response = listener.get(NettyClient.TIMEOUT_MS, TimeUnit.MILLISECONDS);
-      channel.close().sync();
-
-      switch (response.getType()) {
-        case RPC_BLOCK_READ_RESPONSE:
-          RPCBlockReadResponse blockResponse = (RPCBlockReadResponse) response;
-          LOG.info("Data {} from remote machine {} received", blockId, address);
-
-          RPCResponse.Status status = blockResponse.getStatus();
-          if (status == RPCResponse.Status.SUCCESS) {
-            // always clear the previous response before reading another one
-            close();
-            mReadResponse = blockResponse;
-            return blockResponse.getPayloadDataBuffer().getReadOnlyByteBuffer();
+    switch (response.getType()) {
+      case RPC_BLOCK_READ_RESPONSE:
+        RPCBlockReadResponse blockResponse = (RPCBlockReadResponse) response;
+        LOG.debug("Data {} from remote machine {} received", blockId, address);
+
+        RPCResponse.Status status = blockResponse.getStatus();
+        if (status == RPCResponse.Status.SUCCESS) {
+          // always clear the previous response before reading another one
+          releaseReadResponse();
+          mReadResponse = blockResponse;
+          return blockResponse.getPayloadDataBuffer().getReadOnlyByteBuffer();
+        }
+        throw new IOException(status.getMessage() + " response: " + blockResponse);
+      case RPC_ERROR_RESPONSE:
+        RPCErrorResponse error = (RPCErrorResponse) response;
+        throw new IOException(error.getStatus().getMessage());
+      default:
+        throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
+            .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_READ_RESPONSE));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The stream is rejected without a request if the data server rejected a stream before, or if
+   * too many streams are open to it. Otherwise the first response of the stream is awaited here,
+   * since a data server which cannot stream blocks rejects the request in place of it. The
+   * response is kept for {@link #readStreamChunk()}.
+   */
+  @Override
+  public boolean openStream(InetSocketAddress address, long blockId, long offset, long length,
+      long lockId, long sessionId) throws IOException {
+    close();
+    if (mStreamUnsupported.contains(address)) {
+      return false;
+    }
+    Channel channel = mChannelPool.acquireStreamChannel(address);
+    if (channel == null) {
+      LOG.debug("Too many streams are open to remote machine {}", address);
+      return false;
+    }
+    mStreamEnded = false;
+    mStreamAddress = address;
+    mStreamChannel = channel;
+    mStreamListener = new StreamResponseListener(mStreamChannel, mWindowChunks);
+    mStreamRequestId = mChannelPool.nextRequestId();
+    mStreamChannel.pipeline().get(ClientHandler.class).addListener(mStreamRequestId,
+        mStreamListener);
+    final StreamResponseListener listener = mStreamListener;
+    mStreamChannel.writeAndFlush(new RPCBlockReadStreamRequest(blockId, offset, length, lockId,
+        sessionId, mChunkSize, mStreamRequestId)).addListener(new ChannelFutureListener() {
+          @Override
+          public void operationComplete(ChannelFuture future) {
+            if (!future.isSuccess()) {
+              listener.onFailure(future.cause());
+            }
           }
+        });
+    RPCResponse response;
+    try {
+      response = mStreamListener.peek(NettyClient.TIMEOUT_MS);
+    } catch (IOException e) {
+      releaseStream(false);
+      throw e;
+    }
+    if (response.getType() == RPCMessage.Type.RPC_ERROR_RESPONSE
+        && ((RPCErrorResponse) response).getStatus() == RPCResponse.Status.UNKNOWN_MESSAGE_ERROR) {
+      // The data server does not know stream requests, e.g. the NIODataServer.
+      LOG.info(ExceptionMessage.STREAM_UNSUPPORTED.getMessage(address));
+      mStreamUnsupported.add(address);
+      releaseStream(false);
+      return false;
+    }
+    LOG.debug("Opened stream of block {} at offset {} from remote machine {}", blockId, offset,
+        address);
+    return true;
+  }
+
+  @Override
+  public ByteBuffer readStreamChunk() throws IOException {
+    if (mStreamEnded) {
+      return null;
+    }
+    if (mStreamChannel == null) {
+      throw new IOException(ExceptionMessage.NO_STREAM_OPEN.getMessage());
+    }
+    releaseReadResponse();
+    RPCResponse response = mStreamListener.take(NettyClient.TIMEOUT_MS);
+    switch (response.getType()) {
+      case RPC_BLOCK_READ_RESPONSE:
+        RPCBlockReadResponse blockResponse = (RPCBlockReadResponse) response;
+        RPCResponse.Status status = blockResponse.getStatus();
+        if (status != RPCResponse.Status.SUCCESS) {
+          // The failure is the last response of the stream, so the channel can still be reused.
+          releaseStream(true);
           throw new IOException(status.getMessage() + " response: " + blockResponse);
-        case RPC_ERROR_RESPONSE:
-          RPCErrorResponse error = (RPCErrorResponse) response;
-          throw new IOException(error.getStatus().getMessage());
-        default:
-          throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
-              .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_READ_RESPONSE));
-      }
-    } catch (Exception e) {
-      throw new IOException(e);
+        }
+        if (blockResponse.getLength() == 0) {
+          mStreamEnded = true;
+          releaseStream(true);
+          return null;
+        }
+        mReadResponse = blockResponse;
+        return blockResponse.getPayloadDataBuffer().getReadOnlyByteBuffer();
+      case RPC_ERROR_RESPONSE:
+        releaseStream(false);
+        RPCErrorResponse error = (RPCErrorResponse) response;
+        throw new IOException(error.getStatus().getMessage());
+      default:
+        releaseStream(false);
+        throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
+            .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_READ_RESPONSE));
     }
   }
 
   /**
    * {@inheritDoc}
    *
-   * Release the underlying buffer of previous/current read response.
+   * Release the underlying buffer of previous/current read response, and cancel the open stream,
+   * if any.
    */
   @Override
   public void close() throws IOException {
+    releaseReadResponse();
+    if (mStreamChannel == null) {
+      return;
+    }
+    if (mStreamEnded) {
+      releaseStream(true);
+    } else {
+      cancelStream();
+    }
+  }
+
+  private void releaseReadResponse() {
     if (mReadResponse != null) {
       mReadResponse.getPayloadDataBuffer().release();
       mReadResponse = null;
     }
   }
+
+  /**
+   * Stops listening to the open stream and gives its channel back to the pool right away.
+   *
+   * @param reusable whether no response of the stream is still to come on the channel
+   */
+  private void releaseStream(boolean reusable) {
+    ClientHandler handler = mStreamChannel.pipeline().get(ClientHandler.class);
+    if (handler != null) {
+      // The handler is gone if the channel was closed.
+      handler.removeListener(mStreamRequestId);
+    }
+    mStreamListener.clear();
+    mChannelPool.releaseStreamChannel(mStreamAddress, mStreamChannel, reusable);
+    mStreamChannel = null;
+    mStreamListener = null;
+    mStreamAddress = null;
+  }
+
+  /**
+   * Cancels the open stream, whose responses are still being received. A {@link StreamDrainer}
+   * takes over the channel, and gives it back to the pool once the last response of the stream
+   * is received, so this does not wait for the data server.
+   */
+  private void cancelStream() {
+    final InetSocketAddress address = mStreamAddress;
+    final Channel channel = mStreamChannel;
+    final StreamResponseListener listener = mStreamListener;
+    final long requestId = mStreamRequestId;
+    mStreamChannel = null;
+    mStreamListener = null;
+    mStreamAddress = null;
+    // The responses are delivered on the event loop of the channel, so replacing the listener of
+    // the stream there cannot miss its last response.
+    channel.eventLoop().execute(new Runnable() {
+      @Override
+      public void run() {
+        ClientHandler handler = channel.pipeline().get(ClientHandler.class);
+        if (handler == null || !channel.isActive()) {
+          listener.clear();
+          mChannelPool.releaseStreamChannel(address, channel, false);
+          return;
+        }
+        handler.removeListener(requestId);
+        if (listener.clear()) {
+          // The last response was already received, only not read.
+          mChannelPool.releaseStreamChannel(address, channel, true);
+          return;
+        }
+        final StreamDrainer drainer = new StreamDrainer(address, channel, handler, requestId);
+        handler.addListener(requestId, drainer);
+        channel.writeAndFlush(new RPCBlockReadStreamCancelRequest(requestId))
+            .addListener(new ChannelFutureListener() {
+              @Override
+              public void operationComplete(ChannelFuture future) {
+                if (!future.isSuccess()) {
+                  drainer.onFailure(future.cause());
+                }
+              }
+            });
+      }
+    });
+  }
+
+  /**
+   * Discards the responses of a cancelled stream, and gives the channel of the stream back to the
+   * pool once the last one is received. It is only called on the event loop of the channel.
+   */
+  private final class StreamDrainer implements ClientHandler.ResponseListener {
+    private final InetSocketAddress mAddress;
+    private final Channel mChannel;
+    private final ClientHandler mHandler;
+    private final long mRequestId;
+    private boolean mDone = false;
+
+    StreamDrainer(InetSocketAddress address, Channel channel, ClientHandler handler,
+        long requestId) {
+      mAddress = address;
+      mChannel = channel;
+      mHandler = handler;
+      mRequestId = requestId;
+    }
+
+    @Override
+    public void onResponseReceived(RPCResponse response) {
+      DataBuffer payload = response.getPayloadDataBuffer();
+      if (payload != null) {
+        payload.release();
+      }
+      if (StreamResponseListener.isLastResponse(response)) {
+        // An error response may come from a data server which does not know the cancel request.
+        finish(response.getType() == RPCMessage.Type.RPC_BLOCK_READ_RESPONSE);
+      }
+    }
+
+    @Override
+    public void onFailure(Throwable cause) {
+      finish(false);
+    }
+
+    private void finish(boolean reusable) {
+      if (mDone) {
+        return;
+      }
+      mDone = true;
+      mHandler.removeListener(mRequestId);
+      mChannelPool.releaseStreamChannel(mAddress, mChannel, reusable);
+    }
+  }
 }
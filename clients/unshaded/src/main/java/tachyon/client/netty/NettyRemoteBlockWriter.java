@@ -17,33 +17,31 @@ package tachyon.client.netty;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.netty.bootstrap.Bootstrap;
-import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
-
 import tachyon.Constants;
 import tachyon.client.RemoteBlockWriter;
 import tachyon.exception.ExceptionMessage;
+import tachyon.network.protocol.RPCBlockWriteCloseRequest;
 import tachyon.network.protocol.RPCBlockWriteRequest;
 import tachyon.network.protocol.RPCBlockWriteResponse;
 import tachyon.network.protocol.RPCErrorResponse;
 import tachyon.network.protocol.RPCMessage;
+import tachyon.network.protocol.RPCRequest;
 import tachyon.network.protocol.RPCResponse;
 import tachyon.network.protocol.databuffer.DataByteArrayChannel;
 
 /**
- * Write data to a remote data server using Netty.
+ * Write data to a remote data server using Netty. All the requests for a block are sent over the
+ * same pooled channel, on which the data server keeps the block writer open until the block is
+ * committed or the writer is closed.
  */
 public final class NettyRemoteBlockWriter implements RemoteBlockWriter {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
-  private final Bootstrap mClientBootstrap;
-  private final ClientHandler mHandler;
+  private final NettyChannelPool mChannelPool;
 
   private boolean mOpen;
   private InetSocketAddress mAddress;
@@ -57,8 +55,7 @@ public final class NettyRemoteBlockWriter implements RemoteBlockWriter {
    * Creates a new {@link NettyRemoteBlockWriter}.
    */
   public NettyRemoteBlockWriter() {
-    mHandler = new ClientHandler();
-    mClientBootstrap = NettyClient.createClientBootstrap(mHandler);
+    mChannelPool = NettyChannelPool.INSTANCE;
     mOpen = false;
   }
 
@@ -76,51 +73,61 @@ public final class NettyRemoteBlockWriter implements RemoteBlockWriter {
   }
 
   @Override
-  public void close() {
-    if (mOpen) {
-      mOpen = false;
+  public void close() throws IOException {
+    if (!mOpen) {
+      return;
+    }
+    mOpen = false;
+    if (mWrittenBytes > 0) {
+      // Releases the block writer held by the data server, without committing the block.
+      send(new RPCBlockWriteCloseRequest(mSessionId, mBlockId, false,
+          mChannelPool.nextRequestId()));
     }
   }
 
+  @Override
+  public void commit() throws IOException {
+    if (!mOpen) {
+      throw new IOException(ExceptionMessage.WRITER_NOT_OPEN.getMessage(mBlockId, mSessionId));
+    }
+    mOpen = false;
+    send(new RPCBlockWriteCloseRequest(mSessionId, mBlockId, true,
+        mChannelPool.nextRequestId()));
+  }
+
   @Override
   public void write(byte[] bytes, int offset, int length) throws IOException {
-    SingleResponseListener listener = new SingleResponseListener();
-    try {
-      // TODO(hy): keep connection open across multiple write calls.
-      ChannelFuture f = mClientBootstrap.connect(mAddress).sync();
-
-      LOG.info("Connected to remote machine {}", mAddress);
-      Channel channel = f.channel();
-      mHandler.addListener(listener);
-      channel.writeAndFlush(new RPCBlockWriteRequest(mSessionId, mBlockId, mWrittenBytes, length,
-          new DataByteArrayChannel(bytes, offset, length)));
-
-      RPCResponse response = listener.get(NettyClient.TIMEOUT_MS, TimeUnit.MILLISECONDS);
-      channel.close().sync();
-
-      switch (response.getType()) {
-        case RPC_BLOCK_WRITE_RESPONSE:
-          RPCBlockWriteResponse resp = (RPCBlockWriteResponse) response;
-          RPCResponse.Status status = resp.getStatus();
-          LOG.info("status: {} from remote machine {} received", status, mAddress);
-
-          if (status != RPCResponse.Status.SUCCESS) {
-            throw new IOException(ExceptionMessage.BLOCK_WRITE_ERROR.getMessage(mBlockId,
-                mSessionId, mAddress, status.getMessage()));
-          }
-          mWrittenBytes += length;
-          break;
-        case RPC_ERROR_RESPONSE:
-          RPCErrorResponse error = (RPCErrorResponse) response;
-          throw new IOException(error.getStatus().getMessage());
-        default:
-          throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
-              .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_WRITE_RESPONSE));
-      }
-    } catch (Exception e) {
-      throw new IOException(e);
-    } finally {
-      mHandler.removeListener(listener);
+    send(new RPCBlockWriteRequest(mSessionId, mBlockId, mWrittenBytes, length,
+        new DataByteArrayChannel(bytes, offset, length), mChannelPool.nextRequestId()));
+    mWrittenBytes += length;
+  }
+
+  /**
+   * Sends a request about the block over its channel and checks that it succeeded.
+   *
+   * @param request the request to send
+   * @throws IOException if the request fails
+   */
+  private void send(RPCRequest request) throws IOException {
+    RPCResponse response = mChannelPool.call(mAddress, request, mBlockId);
+
+    switch (response.getType()) {
+      case RPC_BLOCK_WRITE_RESPONSE:
+        RPCBlockWriteResponse resp = (RPCBlockWriteResponse) response;
+        RPCResponse.Status status = resp.getStatus();
+        LOG.debug("status: {} from remote machine {} received", status, mAddress);
+
+        if (status != RPCResponse.Status.SUCCESS) {
+          throw new IOException(ExceptionMessage.BLOCK_WRITE_ERROR.getMessage(mBlockId,
+              mSessionId, mAddress, status.getMessage()));
+        }
+        break;
+      case RPC_ERROR_RESPONSE:
+        RPCErrorResponse error = (RPCErrorResponse) response;
+        throw new IOException(error.getStatus().getMessage());
+      default:
+        throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
+            .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_WRITE_RESPONSE));
     }
   }
 }
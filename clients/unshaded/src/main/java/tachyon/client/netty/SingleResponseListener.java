@@ -28,13 +28,18 @@ import tachyon.network.protocol.RPCResponse;
  */
 public final class SingleResponseListener implements ClientHandler.ResponseListener {
 
-  private SettableFuture<RPCResponse> mResponse = SettableFuture.create();
+  private final SettableFuture<RPCResponse> mResponse = SettableFuture.create();
 
   @Override
   public void onResponseReceived(RPCResponse response) {
     mResponse.set(response);
   }
 
+  @Override
+  public void onFailure(Throwable cause) {
+    mResponse.setException(cause);
+  }
+
   /**
    * Waits to receive the response and returns the response message.
    *
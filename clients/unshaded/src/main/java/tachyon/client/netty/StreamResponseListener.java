@@ -0,0 +1,159 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.netty;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.TimeoutException;
+
+import com.google.common.base.Preconditions;
+
+import io.netty.channel.Channel;
+
+import tachyon.network.protocol.RPCBlockReadResponse;
+import tachyon.network.protocol.RPCMessage;
+import tachyon.network.protocol.RPCResponse;
+import tachyon.network.protocol.databuffer.DataBuffer;
+
+/**
+ * A listener that queues the sequence of {@link RPCResponse} messages sent by the remote server for
+ * a streamed request. At most a window of responses is buffered: once the window is full, reading
+ * from the channel is suspended until the consumer catches up, which pushes back on the server
+ * through TCP flow control. The channel must therefore not be shared with other requests while the
+ * stream is open.
+ */
+public final class StreamResponseListener implements ClientHandler.ResponseListener {
+  private final Channel mChannel;
+  private final int mWindow;
+  /** The responses received but not yet taken by the consumer, guarded by this. */
+  private final Queue<RPCResponse> mResponses;
+  /** The failure of the channel, if any, guarded by this. */
+  private Throwable mFailure;
+
+  /**
+   * Creates a new {@link StreamResponseListener}.
+   *
+   * @param channel the channel the responses are received on
+   * @param window the maximum number of responses to buffer before suspending reads
+   */
+  public StreamResponseListener(Channel channel, int window) {
+    Preconditions.checkArgument(window > 0, "The window must be positive: %s", window);
+    mChannel = Preconditions.checkNotNull(channel);
+    mWindow = window;
+    mResponses = new LinkedList<RPCResponse>();
+  }
+
+  @Override
+  public synchronized void onResponseReceived(RPCResponse response) {
+    mResponses.add(response);
+    if (mResponses.size() >= mWindow) {
+      mChannel.config().setAutoRead(false);
+    }
+    notifyAll();
+  }
+
+  @Override
+  public synchronized void onFailure(Throwable cause) {
+    mFailure = cause;
+    notifyAll();
+  }
+
+  /**
+   * Waits for the next response of the stream and returns it.
+   *
+   * @param timeoutMs the maximum time to wait, in milliseconds
+   * @return the next response
+   * @throws IOException if the channel failed, the wait timed out or was interrupted
+   */
+  public synchronized RPCResponse take(long timeoutMs) throws IOException {
+    awaitResponse(timeoutMs);
+    RPCResponse response = mResponses.poll();
+    if (mResponses.size() == mWindow - 1) {
+      mChannel.config().setAutoRead(true);
+    }
+    return response;
+  }
+
+  /**
+   * Waits for the next response of the stream and returns it, without taking it. The response is
+   * still returned by the next {@link #take(long)}.
+   *
+   * @param timeoutMs the maximum time to wait, in milliseconds
+   * @return the next response
+   * @throws IOException if the channel failed, the wait timed out or was interrupted
+   */
+  public synchronized RPCResponse peek(long timeoutMs) throws IOException {
+    awaitResponse(timeoutMs);
+    return mResponses.peek();
+  }
+
+  /**
+   * Waits until a response is queued, guarded by this.
+   */
+  private void awaitResponse(long timeoutMs) throws IOException {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    while (mResponses.isEmpty()) {
+      if (mFailure != null) {
+        throw new IOException(mFailure);
+      }
+      long waitMs = deadline - System.currentTimeMillis();
+      if (waitMs <= 0) {
+        throw new IOException(new TimeoutException("Timed out waiting for the stream"));
+      }
+      try {
+        wait(waitMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+    }
+  }
+
+  /**
+   * Releases the payloads of all the responses which were received but not taken, and resumes
+   * reading from the channel.
+   *
+   * @return whether the last response of the stream was among the released responses
+   */
+  public synchronized boolean clear() {
+    boolean ended = false;
+    for (RPCResponse response : mResponses) {
+      DataBuffer payload = response.getPayloadDataBuffer();
+      if (payload != null) {
+        payload.release();
+      }
+      ended |= isLastResponse(response);
+    }
+    mResponses.clear();
+    mChannel.config().setAutoRead(true);
+    return ended;
+  }
+
+  /**
+   * A stream ends with an empty {@link RPCBlockReadResponse}, which carries an error status if the
+   * stream failed, or with an error response if the request was not understood.
+   *
+   * @param response a response of a stream
+   * @return whether no response of the stream follows the given one
+   */
+  public static boolean isLastResponse(RPCResponse response) {
+    if (response.getType() != RPCMessage.Type.RPC_BLOCK_READ_RESPONSE) {
+      return true;
+    }
+    return ((RPCBlockReadResponse) response).getLength() == 0;
+  }
+}
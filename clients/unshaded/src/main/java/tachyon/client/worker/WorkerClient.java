@@ -56,6 +56,7 @@ public final class WorkerClient extends ClientBase {
   private static final int CONNECTION_RETRY_TIMES = 5;
 
   private final boolean mIsLocal;
+  private final NetAddress mWorkerNetAddress;
 
   private WorkerService.Client mClient;
   private long mSessionId;
@@ -78,6 +79,7 @@ public final class WorkerClient extends ClientBase {
   public WorkerClient(NetAddress workerNetAddress, ExecutorService executorService,
       TachyonConf conf, long sessionId, boolean isLocal, ClientMetrics clientMetrics) {
     super(NetworkAddressUtils.getRpcPortSocketAddress(workerNetAddress), conf, "worker");
+    mWorkerNetAddress = workerNetAddress;
     mWorkerDataServerAddress = NetworkAddressUtils.getDataPortSocketAddress(workerNetAddress);
     mExecutorService = Preconditions.checkNotNull(executorService);
     mSessionId = sessionId;
@@ -243,6 +245,13 @@ public final class WorkerClient extends ClientBase {
     return mWorkerDataServerAddress;
   }
 
+  /**
+   * @return the {@link NetAddress} of the worker
+   */
+  public synchronized NetAddress getWorkerNetAddress() {
+    return mWorkerNetAddress;
+  }
+
   public synchronized long getSessionId() {
     return mSessionId;
   }
@@ -234,16 +234,11 @@ public class HdfsFileInputStream extends InputStream implements Seekable, Positi
     }
 
     if (mTachyonFileInputStream != null) {
-      try {
-        mTachyonFileInputStream.seek(position);
-        ret = mTachyonFileInputStream.read(buffer, offset, length);
-        if (mStatistics != null && ret != -1) {
-          mStatistics.incrementBytesRead(ret);
-        }
-        return ret;
-      } finally {
-        mTachyonFileInputStream.seek(oldPos);
+      ret = mTachyonFileInputStream.read(position, buffer, offset, length);
+      if (mStatistics != null && ret != -1) {
+        mStatistics.incrementBytesRead(ret);
       }
+      return ret;
     }
 
     try {
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+
+import tachyon.thrift.BlockInfo;
+import tachyon.thrift.BlockLocation;
+import tachyon.thrift.NetAddress;
+
+/**
+ * Tests for {@link BlockLocationCache}.
+ */
+public final class BlockLocationCacheTest {
+  private static final long TTL_MS = 1000L;
+  private static final BlockLocation LOCATION =
+      new BlockLocation(1L, new NetAddress("worker", 7, 9, 10), "MEM");
+
+  /** A ticker which only moves when told to. */
+  private static final class ManualTicker extends Ticker {
+    private long mNanos = 0;
+
+    @Override
+    public long read() {
+      return mNanos;
+    }
+
+    void advance(long ms) {
+      mNanos += TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+  }
+
+  private static BlockInfo blockInfo(long blockId, BlockLocation... locations) {
+    return new BlockInfo(blockId, 100L, Arrays.asList(locations));
+  }
+
+  /**
+   * Tests that cached entries are returned until they expire.
+   */
+  @Test
+  public void expirationTest() {
+    ManualTicker ticker = new ManualTicker();
+    BlockLocationCache cache = new BlockLocationCache(TTL_MS, 10, ticker);
+    BlockInfo info = blockInfo(1L, LOCATION);
+    cache.put(info);
+    Assert.assertEquals(info, cache.get(1L));
+    Assert.assertNull(cache.get(2L));
+
+    ticker.advance(TTL_MS - 1);
+    Assert.assertEquals(info, cache.get(1L));
+    ticker.advance(1);
+    Assert.assertNull(cache.get(1L));
+  }
+
+  /**
+   * Tests that invalidated entries and blocks without locations are not returned.
+   */
+  @Test
+  public void invalidateTest() {
+    BlockLocationCache cache = new BlockLocationCache(TTL_MS, 10, Ticker.systemTicker());
+    cache.put(blockInfo(1L, LOCATION));
+    cache.invalidate(1L);
+    Assert.assertNull(cache.get(1L));
+
+    // A block which is no longer in Tachyon replaces its previous entry
+    cache.put(blockInfo(2L, LOCATION));
+    cache.put(blockInfo(2L));
+    Assert.assertNull(cache.get(2L));
+  }
+
+  /**
+   * Tests that nothing is cached when the cache is disabled.
+   */
+  @Test
+  public void disabledTest() {
+    BlockLocationCache cache = new BlockLocationCache(0, 10, Ticker.systemTicker());
+    Assert.assertFalse(cache.isEnabled());
+    cache.put(blockInfo(1L, LOCATION));
+    Assert.assertNull(cache.get(1L));
+  }
+}
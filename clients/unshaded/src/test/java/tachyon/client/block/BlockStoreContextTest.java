@@ -16,19 +16,36 @@
 package tachyon.client.block;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 
 import com.google.common.collect.Lists;
 
 import tachyon.Constants;
 import tachyon.client.ClientContext;
+import tachyon.client.worker.WorkerClient;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.NetAddress;
+import tachyon.thrift.WorkerInfo;
+import tachyon.worker.ClientMetrics;
 
 /**
  * Tests {@link BlockStoreContext}.
  */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({BlockMasterClient.class, BlockMasterClientPool.class, BlockWorkerClientPool.class,
+    WorkerClient.class})
 public final class BlockStoreContextTest {
+  private static final String REMOTE_HOSTNAME = "remote";
+
   /**
    * This test ensures acquiring all the available BlockStore master clients blocks further
    * requests for clients. It also ensures clients are available for reuse after they are released
@@ -75,6 +92,44 @@ public final class BlockStoreContextTest {
     }
   }
 
+  /**
+   * Tests that the clients to a remote worker are pooled, and that the address of the worker is
+   * only queried from the master once.
+   *
+   * @throws Exception if an unexpected error occurs during the test
+   */
+  @Test
+  public void remoteWorkerClientReuseTest() throws Exception {
+    NetAddress workerAddress = new NetAddress(REMOTE_HOSTNAME, 7, 9, 10);
+    BlockMasterClient masterClient = PowerMockito.mock(BlockMasterClient.class);
+    Mockito.when(masterClient.getWorkerInfoList()).thenReturn(
+        Lists.newArrayList(new WorkerInfo(1L, workerAddress, 0, "In Service", 0L, 0L, 0L)));
+    BlockMasterClientPool masterClientPool = PowerMockito.mock(BlockMasterClientPool.class);
+    Mockito.when(masterClientPool.acquire()).thenReturn(masterClient);
+    WorkerClient workerClient = PowerMockito.mock(WorkerClient.class);
+    Mockito.when(workerClient.getWorkerNetAddress()).thenReturn(workerAddress);
+    PowerMockito.whenNew(WorkerClient.class).withAnyArguments().thenReturn(workerClient);
+
+    BlockStoreContext context = BlockStoreContext.INSTANCE;
+    context.reset();
+    Whitebox.setInternalState(context, "mBlockMasterClientPool", masterClientPool);
+    try {
+      for (int i = 0; i < 3; i ++) {
+        WorkerClient client = context.acquireWorkerClient(REMOTE_HOSTNAME);
+        Assert.assertSame(workerClient, client);
+        context.releaseWorkerClient(client);
+      }
+      Mockito.verify(masterClient).getWorkerInfoList();
+      PowerMockito.verifyNew(WorkerClient.class).withArguments(Mockito.eq(workerAddress),
+          Mockito.any(ExecutorService.class), Mockito.any(TachyonConf.class), Mockito.anyLong(),
+          Mockito.eq(false), Mockito.any(ClientMetrics.class));
+      Mockito.verify(workerClient, Mockito.times(3)).createNewSession(Mockito.anyLong());
+      Mockito.verify(workerClient, Mockito.never()).close();
+    } finally {
+      context.reset();
+    }
+  }
+
   class AcquireClient implements Runnable {
     @Override
     public void run() {
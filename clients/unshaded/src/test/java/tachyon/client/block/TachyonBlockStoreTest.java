@@ -16,6 +16,7 @@
 package tachyon.client.block;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Arrays;
 
@@ -32,6 +33,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
 
 import tachyon.client.ClientContext;
+import tachyon.client.block.policy.LocalFirstPolicy;
 import tachyon.client.worker.WorkerClient;
 import tachyon.conf.TachyonConf;
 import tachyon.thrift.BlockInfo;
@@ -84,7 +86,8 @@ public final class TachyonBlockStoreTest {
    *
    * 1. The singleton {@link BlockStoreContext} is replaced with {@link #mBlockStoreContext}<br>
    * 2. {@link #mBlockStoreContext} will return {@link #mMasterClient} and {@link #mWorkerClient}
-   *    when asked for master/worker clients<br>
+   *    when asked for master/worker clients, an empty {@link BlockLocationCache}, and a
+   *    {@link LocalFirstPolicy}<br>
    * 3. {@link #mTestFile} is created inside {@link #mTestFolder}<br>
    * 4. {@link #mWorkerClient} is made to understand that locking {@link #BLOCK_ID} should return
    *    the path to {@link #mTestFile}.
@@ -101,6 +104,11 @@ public final class TachyonBlockStoreTest {
 
     mMasterClient = PowerMockito.mock(BlockMasterClient.class);
     Mockito.when(mBlockStoreContext.acquireMasterClient()).thenReturn(mMasterClient);
+    Mockito.when(mBlockStoreContext.getBlockLocationCache())
+        .thenReturn(new BlockLocationCache(ClientContext.getConf()));
+    Mockito.when(mBlockStoreContext.getBlockLocationPolicy()).thenReturn(new LocalFirstPolicy());
+    Mockito.when(mBlockStoreContext.getWorkerRequestCounter())
+        .thenReturn(new WorkerRequestCounter());
 
     mWorkerClient = PowerMockito.mock(WorkerClient.class);
     Mockito.when(mWorkerClient.lockBlock(BLOCK_ID)).thenReturn(
@@ -150,4 +158,47 @@ public final class TachyonBlockStoreTest {
     Mockito.verify(mBlockStoreContext).acquireMasterClient();
     Mockito.verify(mBlockStoreContext).releaseMasterClient(mMasterClient);
   }
+
+  /**
+   * Tests that {@link TachyonBlockStore#getInStream(long)} uses the cached locations of a block
+   * instead of asking the master.
+   */
+  @Test
+  public void getInStreamCachedTest() throws Exception {
+    PowerMockito.mockStatic(NetworkAddressUtils.class);
+    Mockito.when(NetworkAddressUtils.getLocalHostName(Mockito.<TachyonConf>any()))
+        .thenReturn(WORKER_HOSTNAME_LOCAL);
+    mBlockStore.cacheInfo(Arrays.asList(BLOCK_INFO));
+    BufferedBlockInStream stream = mBlockStore.getInStream(BLOCK_ID);
+
+    Assert.assertTrue(stream instanceof LocalBlockInStream);
+    Mockito.verify(mBlockStoreContext, Mockito.never()).acquireMasterClient();
+  }
+
+  /**
+   * Tests that {@link TachyonBlockStore#getInStream(long)} asks the master for the locations of a
+   * block when the block cannot be read from its cached locations, and caches the new locations.
+   */
+  @Test
+  public void getInStreamStaleCacheTest() throws Exception {
+    BlockInfo localInfo =
+        new BlockInfo(BLOCK_ID, BLOCK_LENGTH, Arrays.asList(BLOCK_LOCATION_LOCAL));
+    Mockito.when(mMasterClient.getBlockInfo(BLOCK_ID)).thenReturn(localInfo);
+    PowerMockito.mockStatic(NetworkAddressUtils.class);
+    Mockito.when(NetworkAddressUtils.getLocalHostName(Mockito.<TachyonConf>any()))
+        .thenReturn(WORKER_HOSTNAME_LOCAL);
+    // The remote worker no longer has the block
+    WorkerClient remoteWorkerClient = PowerMockito.mock(WorkerClient.class);
+    Mockito.when(remoteWorkerClient.lockBlock(BLOCK_ID))
+        .thenThrow(new IOException("block not found"));
+    Mockito.when(mBlockStoreContext.acquireWorkerClient(WORKER_HOSTNAME_REMOTE))
+        .thenReturn(remoteWorkerClient);
+    mBlockStore.cacheInfo(Arrays.asList(
+        new BlockInfo(BLOCK_ID, BLOCK_LENGTH, Arrays.asList(BLOCK_LOCATION_REMOTE))));
+    BufferedBlockInStream stream = mBlockStore.getInStream(BLOCK_ID);
+
+    Assert.assertTrue(stream instanceof LocalBlockInStream);
+    Mockito.verify(mBlockStoreContext).acquireMasterClient();
+    Assert.assertEquals(localInfo, mBlockStoreContext.getBlockLocationCache().get(BLOCK_ID));
+  }
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block.policy;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.client.ClientContext;
+import tachyon.client.block.BlockStoreContext;
+import tachyon.client.block.WorkerRequestCounter;
+import tachyon.thrift.BlockLocation;
+import tachyon.thrift.NetAddress;
+import tachyon.util.network.NetworkAddressUtils;
+
+/**
+ * Tests for {@link LeastLoadedPolicy}.
+ */
+public final class LeastLoadedPolicyTest {
+  private static final int ITERATIONS = 100;
+
+  private final LeastLoadedPolicy mPolicy = new LeastLoadedPolicy();
+  private final WorkerRequestCounter mCounter =
+      BlockStoreContext.INSTANCE.getWorkerRequestCounter();
+
+  private static BlockLocation location(String hostname, String tierAlias) {
+    return new BlockLocation(1L, new NetAddress(hostname, 7, 9, 10), tierAlias);
+  }
+
+  /**
+   * Tests that the local worker is always chosen when it holds the block.
+   */
+  @Test
+  public void localTest() {
+    BlockLocation local =
+        location(NetworkAddressUtils.getLocalHostName(ClientContext.getConf()), "SSD");
+    List<BlockLocation> locations = Arrays.asList(location("remote1", "MEM"), local);
+    for (int i = 0; i < ITERATIONS; i ++) {
+      Assert.assertEquals(local, mPolicy.getReadLocation(locations));
+    }
+  }
+
+  /**
+   * Tests that the worker with fewer requests in flight is chosen.
+   */
+  @Test
+  public void requestsInFlightTest() {
+    List<BlockLocation> locations =
+        Arrays.asList(location("remote1", "MEM"), location("remote2", "MEM"));
+    mCounter.increment("remote1");
+    try {
+      for (int i = 0; i < ITERATIONS; i ++) {
+        Assert.assertEquals(locations.get(1), mPolicy.getReadLocation(locations));
+      }
+    } finally {
+      mCounter.decrement("remote1");
+    }
+  }
+
+  /**
+   * Tests that a faster tier is preferred unless its worker is busier.
+   */
+  @Test
+  public void tierTest() {
+    List<BlockLocation> locations =
+        Arrays.asList(location("remote1", "MEM"), location("remote2", "SSD"));
+    for (int i = 0; i < ITERATIONS; i ++) {
+      Assert.assertEquals(locations.get(0), mPolicy.getReadLocation(locations));
+    }
+    mCounter.increment("remote1");
+    mCounter.increment("remote1");
+    try {
+      for (int i = 0; i < ITERATIONS; i ++) {
+        Assert.assertEquals(locations.get(1), mPolicy.getReadLocation(locations));
+      }
+    } finally {
+      mCounter.decrement("remote1");
+      mCounter.decrement("remote1");
+    }
+  }
+
+  /**
+   * Tests that a tier is ranked by its position in the tier order, rather than among the tiers of
+   * the locations.
+   */
+  @Test
+  public void tierOrderTest() {
+    // HDD is the third tier, so a MEM worker with a request in flight is still cheaper
+    List<BlockLocation> locations =
+        Arrays.asList(location("remote1", "MEM"), location("remote2", "HDD"));
+    mCounter.increment("remote1");
+    try {
+      for (int i = 0; i < ITERATIONS; i ++) {
+        Assert.assertEquals(locations.get(0), mPolicy.getReadLocation(locations));
+      }
+    } finally {
+      mCounter.decrement("remote1");
+    }
+  }
+
+  /**
+   * Tests that the reads are spread over equally loaded workers.
+   */
+  @Test
+  public void spreadTest() {
+    List<BlockLocation> locations = Arrays.asList(location("remote1", "MEM"),
+        location("remote2", "MEM"), location("remote3", "MEM"));
+    Set<BlockLocation> chosen = new HashSet<BlockLocation>();
+    for (int i = 0; i < ITERATIONS; i ++) {
+      chosen.add(mPolicy.getReadLocation(locations));
+    }
+    Assert.assertEquals(new HashSet<BlockLocation>(locations), chosen);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block.policy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.client.ClientContext;
+import tachyon.thrift.BlockLocation;
+import tachyon.thrift.NetAddress;
+import tachyon.util.network.NetworkAddressUtils;
+
+/**
+ * Tests for {@link LocalFirstPolicy}.
+ */
+public final class LocalFirstPolicyTest {
+  private final LocalFirstPolicy mPolicy = new LocalFirstPolicy();
+
+  private static BlockLocation location(String hostname, String tierAlias) {
+    return new BlockLocation(1L, new NetAddress(hostname, 7, 9, 10), tierAlias);
+  }
+
+  /**
+   * Tests that the local worker is chosen when it holds the block.
+   */
+  @Test
+  public void localTest() {
+    BlockLocation local =
+        location(NetworkAddressUtils.getLocalHostName(ClientContext.getConf()), "SSD");
+    List<BlockLocation> locations = Arrays.asList(location("remote1", "MEM"), local);
+    Assert.assertEquals(local, mPolicy.getReadLocation(locations));
+  }
+
+  /**
+   * Tests that the first location is chosen when the local worker does not hold the block.
+   */
+  @Test
+  public void remoteTest() {
+    List<BlockLocation> locations =
+        Arrays.asList(location("remote1", "MEM"), location("remote2", "MEM"));
+    Assert.assertEquals(locations.get(0), mPolicy.getReadLocation(locations));
+  }
+}
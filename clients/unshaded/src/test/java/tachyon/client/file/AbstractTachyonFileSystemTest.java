@@ -45,8 +45,10 @@ import tachyon.client.file.options.RenameOptions;
 import tachyon.client.file.options.SetStateOptions;
 import tachyon.client.file.options.UnmountOptions;
 import tachyon.exception.ExceptionMessage;
+import tachyon.exception.FileAlreadyExistsException;
 import tachyon.exception.InvalidPathException;
 import tachyon.thrift.FileInfo;
+import tachyon.thrift.FileOperationResult;
 
 /**
  * Unit test for functionality in {@link AbstractTachyonFileSystem}.
@@ -107,6 +109,23 @@ public final class AbstractTachyonFileSystemTest {
     }
   }
 
+  @Test
+  public void createBatchTest() throws Exception {
+    FileOperationResult created = new FileOperationResult().setFileId(FILE_ID).setSuccess(true);
+    FileOperationResult failed = new FileOperationResult()
+        .setE(new FileAlreadyExistsException("/b").toTachyonTException());
+    CreateOptions createOptions = CreateOptions.defaults();
+    Mockito.when(mFileSystemMasterClient.createBatch(Lists.newArrayList("/a", "/b"),
+        Lists.newArrayList(createOptions, createOptions)))
+        .thenReturn(Lists.newArrayList(created, failed));
+    List<BatchResult<TachyonFile>> results = mFileSystem.createBatch(
+        Lists.newArrayList(new TachyonURI("/a"), new TachyonURI("/b")), createOptions);
+    Assert.assertEquals(2, results.size());
+    Assert.assertEquals(FILE_ID, results.get(0).getValue().getFileId());
+    Assert.assertFalse(results.get(1).isSuccessful());
+    Assert.assertTrue(results.get(1).getException() instanceof FileAlreadyExistsException);
+  }
+
   @Test
   public void deleteTest() throws Exception {
     DeleteOptions deleteOptions = new DeleteOptions.Builder().setRecursive(true).build();
@@ -126,6 +145,17 @@ public final class AbstractTachyonFileSystemTest {
     }
   }
 
+  @Test
+  public void deleteBatchTest() throws Exception {
+    DeleteOptions deleteOptions = new DeleteOptions.Builder().setRecursive(true).build();
+    Mockito.when(mFileSystemMasterClient.deleteBatch(Lists.newArrayList(FILE_ID), true))
+        .thenReturn(Lists.newArrayList(new FileOperationResult().setSuccess(true)));
+    List<BatchResult<Boolean>> results =
+        mFileSystem.deleteBatch(Lists.newArrayList(new TachyonFile(FILE_ID)), deleteOptions);
+    Assert.assertTrue(results.get(0).getValue());
+    Mockito.verify(mFileSystemMasterClient).deleteBatch(Lists.newArrayList(FILE_ID), true);
+  }
+
   @Test
   public void freeTest() throws Exception {
     FreeOptions freeOptions = new FreeOptions.Builder().setRecursive(true).build();
@@ -166,6 +196,17 @@ public final class AbstractTachyonFileSystemTest {
     }
   }
 
+  @Test
+  public void getInfoBatchTest() throws Exception {
+    FileInfo info = new FileInfo();
+    Mockito.when(mFileSystemMasterClient.getFileInfoBatch(Lists.newArrayList(FILE_ID)))
+        .thenReturn(Lists.newArrayList(new FileOperationResult().setFileInfo(info)));
+    GetInfoOptions getInfoOptions = GetInfoOptions.defaults();
+    List<BatchResult<FileInfo>> results =
+        mFileSystem.getInfoBatch(Lists.newArrayList(new TachyonFile(FILE_ID)), getInfoOptions);
+    Assert.assertSame(info, results.get(0).getValue());
+  }
+
   @Test
   public void listStatusTest() throws Exception {
     List<FileInfo> infos = Lists.newArrayList(new FileInfo());
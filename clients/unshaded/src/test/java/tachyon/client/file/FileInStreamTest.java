@@ -18,6 +18,7 @@ package tachyon.client.file;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -36,6 +37,7 @@ import org.powermock.reflect.Whitebox;
 
 import com.google.common.collect.Lists;
 
+import tachyon.Constants;
 import tachyon.client.ClientContext;
 import tachyon.client.TachyonStorageType;
 import tachyon.client.block.BlockInStream;
@@ -178,6 +180,44 @@ public class FileInStreamTest {
     verifyCacheStreams(FILE_LENGTH);
   }
 
+  /**
+   * Tests that the next blocks are opened in the background once a whole block was read
+   * sequentially, and that their data is then read correctly.
+   */
+  @Test
+  public void readAheadTest() throws IOException {
+    FileInStream stream = new FileInStream(mInfo, new InStreamOptions.Builder(
+        ClientContext.getConf()).setTachyonStorageType(TachyonStorageType.STORE).build());
+    Assert.assertEquals(0, stream.read());
+    // nothing is read ahead before a whole block was read
+    Mockito.verify(mBlockStore, Mockito.never()).getInStream(1L);
+
+    byte[] buffer = new byte[(int) BLOCK_LENGTH];
+    Assert.assertEquals(buffer.length, stream.read(buffer));
+    // the second block was entered after the first was read entirely
+    Mockito.verify(mBlockStore, Mockito.timeout(10000)).getInStream(2L);
+    Mockito.verify(mBlockStore, Mockito.never()).getInStream(3L);
+
+    buffer = new byte[(int) (FILE_LENGTH - BLOCK_LENGTH - 1)];
+    Assert.assertEquals(buffer.length, stream.read(buffer));
+    Assert.assertArrayEquals(
+        BufferUtils.getIncreasingByteArray((int) BLOCK_LENGTH + 1, buffer.length), buffer);
+    stream.close();
+  }
+
+  /**
+   * Tests that the blocks are not read ahead when they are promoted, and that they are only
+   * promoted once they are read.
+   */
+  @Test
+  public void noReadAheadWhenPromotingTest() throws IOException {
+    byte[] buffer = new byte[(int) BLOCK_LENGTH + 1];
+    Assert.assertEquals(buffer.length, mTestStream.read(buffer));
+    Mockito.verify(mBlockStore).promote(1L);
+    Mockito.verify(mBlockStore, Mockito.never()).getInStream(2L);
+    Mockito.verify(mBlockStore, Mockito.never()).promote(2L);
+  }
+
   /**
    * Tests that {@link FileInStream#remaining()} is correctly updated during reads, skips, and
    * seeks.
@@ -251,16 +291,68 @@ public class FileInStreamTest {
   }
 
   /**
-   * Tests that we promote blocks when they are read.
+   * Tests that positioned reads return the data at the given position across blocks, without
+   * moving the stream or caching the data read.
+   */
+  @Test
+  public void positionedReadTest() throws IOException {
+    Assert.assertEquals(0, mTestStream.read());
+    int pos = (int) (BLOCK_LENGTH * 1.5);
+    int len = (int) (BLOCK_LENGTH * 2);
+    byte[] buffer = new byte[len + 10];
+    Assert.assertEquals(len, mTestStream.read(pos, buffer, 10, len));
+    byte[] expected = new byte[len + 10];
+    System.arraycopy(BufferUtils.getIncreasingByteArray(pos, len), 0, expected, 10, len);
+    Assert.assertArrayEquals(expected, buffer);
+
+    // The read is cut at the end of the file
+    Assert.assertEquals(50, mTestStream.read(FILE_LENGTH - 50, buffer, 0, len));
+    Assert.assertEquals(-1, mTestStream.read(FILE_LENGTH, buffer, 0, len));
+
+    // The stream continues where it was
+    Assert.assertEquals(FILE_LENGTH - 1, mTestStream.remaining());
+    Assert.assertEquals(1, mTestStream.read());
+    for (int i = 1; i < NUM_STREAMS; i ++) {
+      Assert.assertEquals(0, mCacheStreams.get(i).getWrittenData().length);
+    }
+  }
+
+  /**
+   * Tests that positioned reads keep a bounded number of block streams open, and fail once the
+   * stream is closed.
+   */
+  @Test
+  public void positionedReadOpenBlocksTest() throws IOException {
+    ClientContext.getConf().set(Constants.USER_FILE_POSITIONED_READ_MAX_OPEN_BLOCKS, "2");
+    mTestStream = new FileInStream(mInfo, InStreamOptions.defaults());
+    byte[] buffer = new byte[10];
+    for (int i = 0; i < NUM_STREAMS; i ++) {
+      int pos = (int) (i * BLOCK_LENGTH);
+      Assert.assertEquals(10, mTestStream.read(pos, buffer, 0, 10));
+      Assert.assertArrayEquals(BufferUtils.getIncreasingByteArray(pos, 10), buffer);
+    }
+    Map<?, ?> streams = Whitebox.getInternalState(mTestStream, "mPositionedReadStreams");
+    Assert.assertEquals(2, streams.size());
+
+    mTestStream.close();
+    Assert.assertTrue(streams.isEmpty());
+    mThrown.expect(IOException.class);
+    mThrown.expectMessage(ExceptionMessage.READ_CLOSED_STREAM.getMessage());
+    mTestStream.read(0, buffer, 0, 10);
+  }
+
+  /**
+   * Tests that we promote blocks once when they are read, or when they are read ahead.
    */
   @Test
   public void testPromote() throws IOException {
     Mockito.verify(mBlockStore, Mockito.times(0)).promote(0);
     mTestStream.read();
     Mockito.verify(mBlockStore, Mockito.times(1)).promote(0);
+    // The next block is promoted in the background when it is read ahead
+    Mockito.verify(mBlockStore, Mockito.timeout(10000)).promote(1);
     mTestStream.read();
     Mockito.verify(mBlockStore, Mockito.times(1)).promote(0);
-    Mockito.verify(mBlockStore, Mockito.times(0)).promote(1);
     mTestStream.read(new byte[(int) BLOCK_LENGTH]);
     Mockito.verify(mBlockStore, Mockito.times(1)).promote(1);
   }
@@ -290,14 +382,14 @@ public class FileInStreamTest {
     Mockito.when(mBlockStore.getInStream(1L)).thenThrow(new IOException("test IOException"));
     UnderFileSystem ufs = ClientMockUtils.mockUnderFileSystem(Mockito.eq("testUfsPath"));
     InputStream stream = Mockito.mock(InputStream.class);
-    Mockito.when(ufs.open("testUfsPath")).thenReturn(stream);
-    Mockito.when(stream.skip(BLOCK_LENGTH)).thenReturn(BLOCK_LENGTH);
+    Mockito.when(ufs.open("testUfsPath", BLOCK_LENGTH)).thenReturn(stream);
     Mockito.when(stream.skip(BLOCK_LENGTH / 2)).thenReturn(BLOCK_LENGTH / 2);
 
     mTestStream.seek(BLOCK_LENGTH + (BLOCK_LENGTH / 2));
-    Mockito.verify(ufs, Mockito.times(1)).open("testUfsPath");
-    Mockito.verify(stream, Mockito.times(1)).skip(100);
-    Mockito.verify(stream, Mockito.times(1)).skip(50);
+    // The under storage stream is opened at the start of the block, instead of skipping to it
+    Mockito.verify(ufs, Mockito.times(1)).open("testUfsPath", BLOCK_LENGTH);
+    Mockito.verify(stream, Mockito.never()).skip(BLOCK_LENGTH);
+    Mockito.verify(stream, Mockito.times(1)).skip(BLOCK_LENGTH / 2);
   }
 
   /**
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.file;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import tachyon.client.block.TestBufferedBlockInStream;
+import tachyon.util.io.BufferUtils;
+
+/**
+ * Unit tests for {@link ReadAheadBlockInStream}.
+ */
+public class ReadAheadBlockInStreamTest {
+  private static final int BLOCK_LENGTH = 100;
+  private static final int READ_AHEAD_BYTES = 30;
+
+  private TestBufferedBlockInStream mBlockStream;
+  private ReadAheadBlockInStream mTestStream;
+
+  @Before
+  public void before() throws IOException {
+    mBlockStream = new TestBufferedBlockInStream(1, 0, BLOCK_LENGTH);
+    mTestStream = new ReadAheadBlockInStream(mBlockStream, READ_AHEAD_BYTES);
+  }
+
+  /**
+   * Tests that the data is read ahead when the stream is created.
+   */
+  @Test
+  public void readAheadOnCreateTest() {
+    Assert.assertEquals(BLOCK_LENGTH - READ_AHEAD_BYTES, mBlockStream.remaining());
+    Assert.assertEquals(BLOCK_LENGTH, mTestStream.remaining());
+  }
+
+  /**
+   * Tests that reads span the data read ahead and the rest of the block.
+   */
+  @Test
+  public void readTest() throws IOException {
+    Assert.assertEquals(0, mTestStream.read());
+    byte[] buffer = new byte[BLOCK_LENGTH];
+    Assert.assertEquals(READ_AHEAD_BYTES - 1, mTestStream.read(buffer, 0, buffer.length));
+    int bytesRead =
+        mTestStream.read(buffer, READ_AHEAD_BYTES - 1, buffer.length - READ_AHEAD_BYTES + 1);
+    Assert.assertEquals(BLOCK_LENGTH - READ_AHEAD_BYTES, bytesRead);
+    Assert.assertArrayEquals(BufferUtils.getIncreasingByteArray(1, BLOCK_LENGTH - 1),
+        Arrays.copyOf(buffer, BLOCK_LENGTH - 1));
+    Assert.assertEquals(0, mTestStream.remaining());
+  }
+
+  /**
+   * Tests seeking within and past the data read ahead, in both directions.
+   */
+  @Test
+  public void seekTest() throws IOException {
+    mTestStream.seek(READ_AHEAD_BYTES + 10);
+    Assert.assertEquals(READ_AHEAD_BYTES + 10, mTestStream.read());
+    mTestStream.seek(5);
+    Assert.assertEquals(5, mTestStream.read());
+    Assert.assertEquals(BLOCK_LENGTH - 6, mTestStream.remaining());
+    Assert.assertEquals(READ_AHEAD_BYTES, mTestStream.skip(READ_AHEAD_BYTES));
+    Assert.assertEquals(READ_AHEAD_BYTES + 6, mTestStream.read());
+  }
+
+  /**
+   * Tests that a block shorter than the read-ahead size is read ahead entirely.
+   */
+  @Test
+  public void shortBlockTest() throws IOException {
+    ReadAheadBlockInStream stream =
+        new ReadAheadBlockInStream(new TestBufferedBlockInStream(2, 0, 10), READ_AHEAD_BYTES);
+    byte[] buffer = new byte[10];
+    Assert.assertEquals(10, stream.read(buffer));
+    Assert.assertArrayEquals(BufferUtils.getIncreasingByteArray(10), buffer);
+    Assert.assertEquals(0, stream.remaining());
+  }
+}
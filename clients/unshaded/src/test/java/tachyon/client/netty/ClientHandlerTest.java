@@ -75,6 +75,65 @@ public class ClientHandlerTest {
     Mockito.verify(listener, Mockito.times(1)).onResponseReceived(response);
   }
 
+  /**
+   * Makes sure that a response with a request id is only delivered to the listener of that request.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void channelRead0RequestListenerTest() throws IOException {
+    final ClientHandler.ResponseListener listener1 =
+        Mockito.mock(ClientHandler.ResponseListener.class);
+    final ClientHandler.ResponseListener listener2 =
+        Mockito.mock(ClientHandler.ResponseListener.class);
+    final RPCResponse response = new RPCBlockReadResponse(0, 0, 0, null,
+        RPCResponse.Status.SUCCESS, 1);
+
+    mHandler.addListener(1, listener1);
+    mHandler.addListener(2, listener2);
+    mHandler.channelRead0(mContext, response);
+
+    Mockito.verify(listener1, Mockito.times(1)).onResponseReceived(response);
+    Mockito.verify(listener2, Mockito.never()).onResponseReceived(response);
+  }
+
+  /**
+   * Makes sure that the listener of a request receives all its responses until it is removed.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void channelRead0StreamedResponsesTest() throws IOException {
+    final ClientHandler.ResponseListener listener =
+        Mockito.mock(ClientHandler.ResponseListener.class);
+    final RPCResponse response = new RPCBlockReadResponse(0, 0, 0, null,
+        RPCResponse.Status.SUCCESS, 1);
+
+    mHandler.addListener(1, listener);
+    mHandler.channelRead0(mContext, response);
+    mHandler.channelRead0(mContext, response);
+    mHandler.removeListener(1);
+    mHandler.channelRead0(mContext, response);
+
+    Mockito.verify(listener, Mockito.times(2)).onResponseReceived(response);
+  }
+
+  /**
+   * Makes sure that pending requests fail when the channel becomes inactive.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void channelInactiveFailsRequestsTest() throws Exception {
+    final ClientHandler.ResponseListener listener =
+        Mockito.mock(ClientHandler.ResponseListener.class);
+
+    mHandler.addListener(1, listener);
+    mHandler.channelInactive(mContext);
+
+    Mockito.verify(listener, Mockito.times(1)).onFailure(Mockito.any(Throwable.class));
+  }
+
   /**
    * Makes sure that an {@link IllegalArgumentException} is thrown when the message is
    * not a {@link tachyon.network.protocol.RPCResponse}.
@@ -64,9 +64,9 @@ public final class Constants {
 
   // Service versions should be incremented every time a backwards incompatible change occurs.
   public static final long BLOCK_MASTER_CLIENT_SERVICE_VERSION = 1;
-  public static final long BLOCK_MASTER_WORKER_SERVICE_VERSION = 1;
+  public static final long BLOCK_MASTER_WORKER_SERVICE_VERSION = 2;
   public static final long BLOCK_WORKER_SERVICE_VERSION = 1;
-  public static final long FILE_SYSTEM_MASTER_CLIENT_SERVICE_VERSION = 1;
+  public static final long FILE_SYSTEM_MASTER_CLIENT_SERVICE_VERSION = 2;
   public static final long FILE_SYSTEM_MASTER_WORKER_SERVICE_VERSION = 1;
   public static final long LINEAGE_MASTER_CLIENT_SERVICE_VERSION = 1;
   public static final long LINEAGE_MASTER_WORKER_SERVICE_VERSION = 1;
@@ -128,6 +128,12 @@ public final class Constants {
   public static final String UNDERFS_S3_PROXY_HOST = "tachyon.underfs.s3.proxy.host";
   public static final String UNDERFS_S3_PROXY_PORT = "tachyon.underfs.s3.proxy.port";
   public static final String UNDERFS_S3_PROXY_HTTPS_ONLY = "tachyon.underfs.s3.proxy.https.only";
+  public static final String UNDERFS_S3_UPLOAD_MULTIPART_ENABLED =
+      "tachyon.underfs.s3.upload.multipart.enabled";
+  public static final String UNDERFS_S3_UPLOAD_MULTIPART_PART_SIZE =
+      "tachyon.underfs.s3.upload.multipart.part.size";
+  public static final String UNDERFS_S3_UPLOAD_MULTIPART_THREADS =
+      "tachyon.underfs.s3.upload.multipart.threads";
   public static final String ZOOKEEPER_ENABLED = "tachyon.zookeeper.enabled";
   public static final String ZOOKEEPER_ADDRESS = "tachyon.zookeeper.address";
   public static final String ZOOKEEPER_ELECTION_PATH = "tachyon.zookeeper.election.path";
@@ -188,6 +194,11 @@ public final class Constants {
   public static final String MASTER_KEYTAB_KEY = "tachyon.master.keytab.file";
   public static final String MASTER_PRINCIPAL_KEY = "tachyon.master.principal";
   public static final String MASTER_RETRY_COUNT = "tachyon.master.retry";
+  public static final String MASTER_RPC_HANDLER_THREADS = "tachyon.master.rpc.handler.threads";
+  public static final String MASTER_RPC_SELECTOR_THREADS = "tachyon.master.rpc.selector.threads";
+  public static final String MASTER_RPC_SERVER_TYPE = "tachyon.master.rpc.server.type";
+  public static final String MASTER_LINEAGE_CHECKPOINT_BANDWIDTH =
+      "tachyon.master.lineage.checkpoint.bandwidth";
   public static final String MASTER_LINEAGE_CHECKPOINT_CLASS =
       "tachyon.master.lineage.checkpoint.class";
   public static final String MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS =
@@ -196,6 +207,8 @@ public final class Constants {
       "tachyon.master.lineage.recompute.interval.ms";
   public static final String MASTER_LINEAGE_RECOMPUTE_LOG_PATH =
       "tachyon.master.lineage.recompute.log.path";
+  public static final String MASTER_LINEAGE_RECOMPUTE_THREADS =
+      "tachyon.master.lineage.recompute.threads";
   public static final String MASTER_TIERED_STORE_GLOBAL_LEVELS =
       "tachyon.master.tieredstore.global.levels";
   public static final String MASTER_TIERED_STORE_GLOBAL_LEVEL_ALIAS_FORMAT =
@@ -216,9 +229,14 @@ public final class Constants {
       "tachyon.worker.block.heartbeat.timeout.ms";
   public static final String WORKER_BLOCK_HEARTBEAT_INTERVAL_MS =
       "tachyon.worker.block.heartbeat.interval.ms";
+  public static final String WORKER_BLOCK_REGISTER_CHUNK_SIZE =
+      "tachyon.worker.block.register.chunk.size";
   public static final String WORKER_SESSION_TIMEOUT_MS = "tachyon.worker.session.timeout.ms";
   public static final String WORKER_WORKER_BLOCK_THREADS_MAX = "tachyon.worker.block.threads.max";
   public static final String WORKER_WORKER_BLOCK_THREADS_MIN = "tachyon.worker.block.threads.min";
+  public static final String WORKER_RPC_HANDLER_THREADS = "tachyon.worker.rpc.handler.threads";
+  public static final String WORKER_RPC_SELECTOR_THREADS = "tachyon.worker.rpc.selector.threads";
+  public static final String WORKER_RPC_SERVER_TYPE = "tachyon.worker.rpc.server.type";
   public static final String WORKER_NETWORK_NETTY_BOSS_THREADS =
       "tachyon.worker.network.netty.boss.threads";
   public static final String WORKER_NETWORK_NETTY_WORKER_THREADS =
@@ -239,6 +257,8 @@ public final class Constants {
       "tachyon.worker.network.netty.shutdown.quiet.period";
   public static final String WORKER_NETWORK_NETTY_SHUTDOWN_TIMEOUT =
       "tachyon.worker.network.netty.shutdown.timeout";
+  public static final String WORKER_NETWORK_NETTY_WRITE_RESERVATION_BYTES =
+      "tachyon.worker.network.netty.write.reservation.bytes";
   public static final String WORKER_ALLOCATOR_CLASS = "tachyon.worker.allocator.class";
   public static final String WORKER_EVICTOR_CLASS = "tachyon.worker.evictor.class";
   public static final String WORKER_EVICTOR_LRFU_STEP_FACTOR =
@@ -247,6 +267,12 @@ public final class Constants {
       "tachyon.worker.evictor.lrfu.attenuation.factor";
   public static final String WORKER_TIERED_STORE_LEVELS =
       "tachyon.worker.tieredstore.levels";
+  public static final String WORKER_LINEAGE_CHECKPOINT_BANDWIDTH =
+      "tachyon.worker.lineage.checkpoint.bandwidth";
+  public static final String WORKER_LINEAGE_CHECKPOINT_READAHEAD =
+      "tachyon.worker.lineage.checkpoint.readahead";
+  public static final String WORKER_LINEAGE_CHECKPOINT_THREADS =
+      "tachyon.worker.lineage.checkpoint.threads";
   public static final String WORKER_LINEAGE_HEARTBEAT_INTERVAL_MS =
       "tachyon.worker.lineage.heartbeat.interval.ms";
 
@@ -277,6 +303,20 @@ public final class Constants {
   public static final String WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT =
       "tachyon.worker.tieredstore.level%d.reserved.ratio";
 
+  /**
+   * This format is used as a template to generate the property name for a given level. e.g.,
+   * {@code String.format(Constants.WORKER_TIERED_STORE_LEVEL_WATERMARK_HIGH_RATIO_FORMAT, level)}
+   */
+  public static final String WORKER_TIERED_STORE_LEVEL_WATERMARK_HIGH_RATIO_FORMAT =
+      "tachyon.worker.tieredstore.level%d.watermark.high.ratio";
+
+  public static final String WORKER_TIERED_STORE_MIGRATION_DIR_CONCURRENCY =
+      "tachyon.worker.tieredstore.migration.dir.concurrency";
+  public static final String WORKER_TIERED_STORE_MIGRATION_THREADS =
+      "tachyon.worker.tieredstore.migration.threads";
+
+  public static final String WORKER_TIERED_STORE_RESERVER_BANDWIDTH =
+      "tachyon.worker.tieredstore.reserver.bandwidth";
   public static final String WORKER_TIERED_STORE_RESERVER_INTERVAL_MS =
       "tachyon.worker.tieredstore.reserver.interval.ms";
 
@@ -298,16 +338,36 @@ public final class Constants {
   public static final String USER_NETWORK_NETTY_CHANNEL = "tachyon.user.network.netty.channel";
   public static final String USER_NETWORK_NETTY_TIMEOUT_MS =
       "tachyon.user.network.netty.timeout.ms";
+  public static final String USER_NETWORK_NETTY_CHANNEL_POOL_SIZE =
+      "tachyon.user.network.netty.channel.pool.size";
   public static final String USER_BLOCK_REMOTE_READ_BUFFER_SIZE_BYTES =
       "tachyon.user.block.remote.read.buffer.size.bytes";
+  public static final String USER_BLOCK_REMOTE_READ_STREAMING_ENABLED =
+      "tachyon.user.block.remote.read.streaming.enabled";
+  public static final String USER_BLOCK_REMOTE_READ_CHUNK_SIZE_BYTES =
+      "tachyon.user.block.remote.read.chunk.size.bytes";
+  public static final String USER_BLOCK_REMOTE_READ_WINDOW_CHUNKS =
+      "tachyon.user.block.remote.read.window.chunks";
+  public static final String USER_BLOCK_REMOTE_READ_STREAM_CHANNELS_MAX =
+      "tachyon.user.block.remote.read.stream.channels.max";
   public static final String USER_FILE_WRITE_TYPE_DEFAULT = "tachyon.user.file.writetype.default";
   public static final String USER_FILE_READ_TYPE_DEFAULT = "tachyon.user.file.readtype.default";
   public static final String USER_BLOCK_REMOTE_READER =
       "tachyon.user.block.remote.reader.class";
   public static final String USER_BLOCK_REMOTE_WRITER =
       "tachyon.user.block.remote.writer.class";
+  public static final String USER_BLOCK_REMOTE_WORKER_CLIENT_IDLE_MAX =
+      "tachyon.user.block.remote.worker.client.idle.max";
+  public static final String USER_BLOCK_WORKER_ADDRESS_REFRESH_INTERVAL_MS =
+      "tachyon.user.block.worker.address.refresh.interval.ms";
   public static final String USER_BLOCK_WORKER_CLIENT_THREADS =
       "tachyon.user.block.worker.client.threads";
+  public static final String USER_BLOCK_LOCATION_CACHE_MAX_ENTRIES =
+      "tachyon.user.block.location.cache.max.entries";
+  public static final String USER_BLOCK_LOCATION_CACHE_TTL_MS =
+      "tachyon.user.block.location.cache.ttl.ms";
+  public static final String USER_BLOCK_LOCATION_POLICY =
+      "tachyon.user.block.location.policy.class";
   public static final String USER_BLOCK_MASTER_CLIENT_THREADS =
       "tachyon.user.block.master.client.threads";
   public static final String USER_FILE_MASTER_CLIENT_THREADS =
@@ -320,6 +380,14 @@ public final class Constants {
 
   public static final String USER_FILE_WAITCOMPLETED_POLL_MS =
       "tachyon.user.file.waitcompleted.poll.ms";
+  public static final String USER_FILE_METADATA_BATCH_SIZE =
+      "tachyon.user.file.metadata.batch.size";
+  public static final String USER_FILE_POSITIONED_READ_MAX_OPEN_BLOCKS =
+      "tachyon.user.file.positioned.read.max.open.blocks";
+  public static final String USER_FILE_READ_AHEAD_BLOCKS = "tachyon.user.file.read.ahead.blocks";
+  public static final String USER_FILE_READ_AHEAD_BYTES = "tachyon.user.file.read.ahead.bytes";
+  public static final String USER_FILE_READ_AHEAD_THREADS =
+      "tachyon.user.file.read.ahead.threads";
 
   /** tachyon-fuse related conf keys */
 
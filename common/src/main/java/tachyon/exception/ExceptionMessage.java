@@ -64,8 +64,12 @@ public enum ExceptionMessage {
   // netty
   BLOCK_WRITE_ERROR("Error writing blockId: {0}, sessionId: {1}, address: {2}, message: {3}"),
   NO_RPC_HANDLER("No handler implementation for rpc message type: {0}"),
+  NO_STREAM_OPEN("No remote block stream is open"),
+  STREAM_UNSUPPORTED("The data server at {0} does not support streaming remote blocks"),
+  UNEXPECTED_END_OF_STREAM("Stream of blockId: {0} ended unexpectedly at offset: {1}"),
   UNEXPECTED_RPC_RESPONSE("Unexpected response message type: {0} (expected: {1})"),
   WRITER_ALREADY_OPEN("This writer is already open for address: {0}, blockId: {1}, sessionId: {2}"),
+  WRITER_NOT_OPEN("This writer is not open for blockId: {0}, sessionId: {1}"),
 
   // storageDir
   ADD_EXISTING_BLOCK("blockId {0} exists in {1}"),
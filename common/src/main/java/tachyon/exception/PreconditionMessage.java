@@ -26,6 +26,8 @@ public final class PreconditionMessage {
   public static final String CLIENT_CONTEXT_NOT_INITIALIZED = "Client Context not initialized";
   public static final String COMMAND_LINE_LINEAGE_ONLY =
       "Only command line jobs are supported by createLineage";
+  public static final String ERR_BATCH_OPTIONS_SIZE =
+      "The batch has %s items but %s options";
   public static final String ERR_BLOCK_INDEX = "Current block index exceeds max index";
   public static final String ERR_BLOCK_REMAINING =
       "The current block still has space left, no need to get new block";
@@ -36,6 +38,7 @@ public final class PreconditionMessage {
       "Cannot do operations on a closed BlockOutStream";
   public static final String ERR_END_OF_BLOCK = "Cannot write past end of block";
   public static final String ERR_READ_BUFFER_NULL = "Read buffer cannot be null";
+  public static final String ERR_RESOURCE_POOL_CLOSED = "Cannot acquire from a closed pool";
   public static final String ERR_SEEK_NEGATIVE = "Seek position is negative: %s";
   public static final String ERR_SEEK_PAST_END_OF_BLOCK = "Seek position past end of block: %s";
   public static final String ERR_SEEK_PAST_END_OF_FILE = "Seek position past end of file: %s";
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.block;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Longs;
+
+/**
+ * This class provides a compact encoding for lists of block ids, used by workers to report their
+ * blocks to the master. The ids are sorted, and the encoding holds the number of ids followed by
+ * the difference between each id and the previous one (the first id is taken relative to 0), all
+ * as unsigned variable-length integers of 7 bits per byte. Since the blocks of a file are allocated
+ * consecutive ids in the same container, most differences fit in a single byte, instead of the 8
+ * bytes of a plain list of longs. The order of the ids is not preserved by the encoding.
+ */
+public final class BlockIdCodec {
+  /** The maximum number of bytes in the encoding of a long. */
+  private static final int MAX_VARLONG_BYTES = 10;
+
+  private BlockIdCodec() {
+    // prevent instantiation of a util class
+  }
+
+  /**
+   * @param blockIds the block ids to encode
+   * @return a buffer holding the encoded block ids, ready to be read
+   */
+  public static ByteBuffer encode(Collection<Long> blockIds) {
+    long[] ids = Longs.toArray(blockIds);
+    Arrays.sort(ids);
+    ByteBuffer buffer = ByteBuffer.allocate(MAX_VARLONG_BYTES * (ids.length + 1));
+    writeVarLong(buffer, ids.length);
+    long previous = 0;
+    for (long id : ids) {
+      // The difference may overflow, but adding it back to the previous id wraps the same way
+      writeVarLong(buffer, id - previous);
+      previous = id;
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Decodes block ids encoded by {@link #encode(Collection)}. The position of the buffer is not
+   * modified.
+   *
+   * @param buffer the buffer holding the encoded block ids
+   * @return the decoded block ids, in ascending order
+   * @throws IllegalArgumentException if the buffer does not hold validly encoded block ids
+   */
+  public static long[] decode(ByteBuffer buffer) {
+    ByteBuffer in = buffer.duplicate();
+    long count = readVarLong(in);
+    // Each id takes at least one byte
+    Preconditions.checkArgument(count >= 0 && count <= in.remaining(),
+        "Invalid number of encoded block ids: %s", count);
+    long[] ids = new long[(int) count];
+    long previous = 0;
+    for (int i = 0; i < ids.length; i ++) {
+      previous += readVarLong(in);
+      ids[i] = previous;
+    }
+    Preconditions.checkArgument(!in.hasRemaining(),
+        "%s trailing bytes after the encoded block ids", in.remaining());
+    return ids;
+  }
+
+  private static void writeVarLong(ByteBuffer buffer, long value) {
+    while ((value & ~0x7FL) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  private static long readVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 7 * MAX_VARLONG_BYTES; shift += 7) {
+      Preconditions.checkArgument(buffer.hasRemaining(), "Truncated block id encoding");
+      byte b = buffer.get();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed block id encoding");
+  }
+}
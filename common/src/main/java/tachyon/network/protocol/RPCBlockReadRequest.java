@@ -29,6 +29,7 @@ public final class RPCBlockReadRequest extends RPCRequest {
   private final long mLength;
   private final long mLockId;
   private final long mSessionId;
+  private final long mRequestId;
 
   /**
    * Constructs a new RPC request to read a block from a DataServer.
@@ -40,11 +41,27 @@ public final class RPCBlockReadRequest extends RPCRequest {
    * @param sessionId the id of the client session
    */
   public RPCBlockReadRequest(long blockId, long offset, long length, long lockId, long sessionId) {
+    this(blockId, offset, length, lockId, sessionId, UNKNOWN_REQUEST_ID);
+  }
+
+  /**
+   * Constructs a new RPC request to read a block from a DataServer.
+   *
+   * @param blockId the id of the block
+   * @param offset the block offset to begin reading at
+   * @param length the number of bytes to read
+   * @param lockId the id of the block lock that is held by the client
+   * @param sessionId the id of the client session
+   * @param requestId the id used to match the response with this request
+   */
+  public RPCBlockReadRequest(long blockId, long offset, long length, long lockId, long sessionId,
+      long requestId) {
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
     mLockId = lockId;
     mSessionId = sessionId;
+    mRequestId = requestId;
   }
 
   @Override
@@ -64,13 +81,14 @@ public final class RPCBlockReadRequest extends RPCRequest {
     long length = in.readLong();
     long lockId = in.readLong();
     long sessionId = in.readLong();
-    return new RPCBlockReadRequest(blockId, offset, length, lockId, sessionId);
+    long requestId = in.readLong();
+    return new RPCBlockReadRequest(blockId, offset, length, lockId, sessionId, requestId);
   }
 
   @Override
   public int getEncodedLength() {
-    // 5 longs (mBLockId, mOffset, mLength, mLockId, mSessionId)
-    return Longs.BYTES * 5;
+    // 6 longs (mBLockId, mOffset, mLength, mLockId, mSessionId, mRequestId)
+    return Longs.BYTES * 6;
   }
 
   @Override
@@ -80,6 +98,7 @@ public final class RPCBlockReadRequest extends RPCRequest {
     out.writeLong(mLength);
     out.writeLong(mLockId);
     out.writeLong(mSessionId);
+    out.writeLong(mRequestId);
   }
 
   @Override
@@ -91,8 +110,13 @@ public final class RPCBlockReadRequest extends RPCRequest {
 
   @Override
   public String toString() {
-    return String.format("RPCBlockReadRequest(%s, %s, %s, %s, %s)",
-        mBlockId, mOffset, mLength, mLockId, mSessionId);
+    return String.format("RPCBlockReadRequest(%s, %s, %s, %s, %s, %s)",
+        mBlockId, mOffset, mLength, mLockId, mSessionId, mRequestId);
+  }
+
+  @Override
+  public long getRequestId() {
+    return mRequestId;
   }
 
   /**
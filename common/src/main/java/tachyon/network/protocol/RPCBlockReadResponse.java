@@ -33,6 +33,7 @@ public final class RPCBlockReadResponse extends RPCResponse {
   private final long mLength;
   private final DataBuffer mData;
   private final Status mStatus;
+  private final long mRequestId;
 
   /**
    * Constructs a new RPC response of a {@link RPCBlockReadRequest}.
@@ -45,11 +46,27 @@ public final class RPCBlockReadResponse extends RPCResponse {
    */
   public RPCBlockReadResponse(long blockId, long offset, long length, DataBuffer data,
       Status status) {
+    this(blockId, offset, length, data, status, UNKNOWN_REQUEST_ID);
+  }
+
+  /**
+   * Constructs a new RPC response of a {@link RPCBlockReadRequest}.
+   *
+   * @param blockId the id of the block
+   * @param offset the block offset that the read began at
+   * @param length the number of bytes read
+   * @param data the data for the response
+   * @param status the status of the response
+   * @param requestId the id of the request this is a response to
+   */
+  public RPCBlockReadResponse(long blockId, long offset, long length, DataBuffer data,
+      Status status, long requestId) {
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
     mData = data;
     mStatus = status;
+    mRequestId = requestId;
   }
 
   @Override
@@ -70,7 +87,8 @@ public final class RPCBlockReadResponse extends RPCResponse {
       final Status status) {
     Preconditions.checkArgument(status != Status.SUCCESS);
     // The response has no payload, so length must be 0.
-    return new RPCBlockReadResponse(request.getBlockId(), request.getOffset(), 0, null, status);
+    return new RPCBlockReadResponse(request.getBlockId(), request.getOffset(), 0, null, status,
+        request.getRequestId());
   }
 
   /**
@@ -84,19 +102,21 @@ public final class RPCBlockReadResponse extends RPCResponse {
     long offset = in.readLong();
     long length = in.readLong();
     short status = in.readShort();
+    long requestId = in.readLong();
 
     DataBuffer data = null;
     if (length > 0) {
       // use DataNettyBuffer instead of DataByteBuffer to avoid copying
       data = new DataNettyBuffer(in, (int) length);
     }
-    return new RPCBlockReadResponse(blockId, offset, length, data, Status.fromShort(status));
+    return new RPCBlockReadResponse(blockId, offset, length, data, Status.fromShort(status),
+        requestId);
   }
 
   @Override
   public int getEncodedLength() {
-    // 3 longs (mBLockId, mOffset, mLength) + 1 short (mStatus)
-    return Longs.BYTES * 3 + Shorts.BYTES;
+    // 4 longs (mBLockId, mOffset, mLength, mRequestId) + 1 short (mStatus)
+    return Longs.BYTES * 4 + Shorts.BYTES;
   }
 
   @Override
@@ -105,6 +125,7 @@ public final class RPCBlockReadResponse extends RPCResponse {
     out.writeLong(mOffset);
     out.writeLong(mLength);
     out.writeShort(mStatus.getId());
+    out.writeLong(mRequestId);
     // The actual payload is not encoded here, since the RPCMessageEncoder will transfer it in a
     // more efficient way.
   }
@@ -117,7 +138,12 @@ public final class RPCBlockReadResponse extends RPCResponse {
   @Override
   public String toString() {
     return "RPCBlockReadResponse(" + mBlockId + ", " + mOffset
-        + ", " + mLength + ", " + mStatus + ")";
+        + ", " + mLength + ", " + mStatus + ", " + mRequestId + ")";
+  }
+
+  @Override
+  public long getRequestId() {
+    return mRequestId;
   }
 
   /**
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.network.protocol;
+
+import com.google.common.primitives.Longs;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * This represents the request to cancel a stream started with a {@link RPCBlockReadStreamRequest}
+ * on the same channel. The DataServer stops the stream after the chunk being sent, and ends it
+ * with the usual empty {@link RPCBlockReadResponse}, so the client knows when the channel is free
+ * for another stream. If the stream has already ended, the request is ignored.
+ */
+public final class RPCBlockReadStreamCancelRequest extends RPCRequest {
+  private final long mRequestId;
+
+  /**
+   * Constructs a new request to cancel a stream.
+   *
+   * @param requestId the id of the stream request to cancel
+   */
+  public RPCBlockReadStreamCancelRequest(long requestId) {
+    mRequestId = requestId;
+  }
+
+  @Override
+  public Type getType() {
+    return Type.RPC_BLOCK_READ_STREAM_CANCEL_REQUEST;
+  }
+
+  /**
+   * Decodes the input {@link ByteBuf} into a {@link RPCBlockReadStreamCancelRequest} object and
+   * returns it.
+   *
+   * @param in the input {@link ByteBuf}
+   * @return The decoded RPCBlockReadStreamCancelRequest object
+   */
+  public static RPCBlockReadStreamCancelRequest decode(ByteBuf in) {
+    long requestId = in.readLong();
+    return new RPCBlockReadStreamCancelRequest(requestId);
+  }
+
+  @Override
+  public int getEncodedLength() {
+    // 1 long (mRequestId)
+    return Longs.BYTES;
+  }
+
+  @Override
+  public void encode(ByteBuf out) {
+    out.writeLong(mRequestId);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("RPCBlockReadStreamCancelRequest(%s)", mRequestId);
+  }
+
+  /**
+   * @return the id of the stream request to cancel
+   */
+  @Override
+  public long getRequestId() {
+    return mRequestId;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.network.protocol;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Longs;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * This represents an RPC request to stream a range of a block from a DataServer. Unlike a
+ * {@link RPCBlockReadRequest}, which is answered with a single response holding the whole range,
+ * the DataServer answers with a sequence of {@link RPCBlockReadResponse}s, each holding at most
+ * chunk size bytes, followed by a response with an empty payload marking the end of the stream.
+ */
+public final class RPCBlockReadStreamRequest extends RPCRequest {
+  private final long mBlockId;
+  private final long mOffset;
+  private final long mLength;
+  private final long mLockId;
+  private final long mSessionId;
+  private final long mChunkSize;
+  private final long mRequestId;
+
+  /**
+   * Constructs a new RPC request to stream a block from a DataServer.
+   *
+   * @param blockId the id of the block
+   * @param offset the block offset to begin reading at
+   * @param length the number of bytes to read, or -1 to read to the end of the block
+   * @param lockId the id of the block lock that is held by the client
+   * @param sessionId the id of the client session
+   * @param chunkSize the maximum number of bytes in each response
+   * @param requestId the id used to match the responses with this request
+   */
+  public RPCBlockReadStreamRequest(long blockId, long offset, long length, long lockId,
+      long sessionId, long chunkSize, long requestId) {
+    mBlockId = blockId;
+    mOffset = offset;
+    mLength = length;
+    mLockId = lockId;
+    mSessionId = sessionId;
+    mChunkSize = chunkSize;
+    mRequestId = requestId;
+  }
+
+  @Override
+  public Type getType() {
+    return Type.RPC_BLOCK_READ_STREAM_REQUEST;
+  }
+
+  /**
+   * Decodes the input {@link ByteBuf} into a {@link RPCBlockReadStreamRequest} object and returns
+   * it.
+   *
+   * @param in the input {@link ByteBuf}
+   * @return The decoded RPCBlockReadStreamRequest object
+   */
+  public static RPCBlockReadStreamRequest decode(ByteBuf in) {
+    long blockId = in.readLong();
+    long offset = in.readLong();
+    long length = in.readLong();
+    long lockId = in.readLong();
+    long sessionId = in.readLong();
+    long chunkSize = in.readLong();
+    long requestId = in.readLong();
+    return new RPCBlockReadStreamRequest(blockId, offset, length, lockId, sessionId, chunkSize,
+        requestId);
+  }
+
+  @Override
+  public int getEncodedLength() {
+    // 7 longs (mBLockId, mOffset, mLength, mLockId, mSessionId, mChunkSize, mRequestId)
+    return Longs.BYTES * 7;
+  }
+
+  @Override
+  public void encode(ByteBuf out) {
+    out.writeLong(mBlockId);
+    out.writeLong(mOffset);
+    out.writeLong(mLength);
+    out.writeLong(mLockId);
+    out.writeLong(mSessionId);
+    out.writeLong(mChunkSize);
+    out.writeLong(mRequestId);
+  }
+
+  @Override
+  public void validate() {
+    Preconditions.checkState(mOffset >= 0, "Offset cannot be negative: %s", mOffset);
+    Preconditions.checkState(mLength >= 0 || mLength == -1,
+        "Length cannot be negative (except for -1): %s", mLength);
+    Preconditions.checkState(mChunkSize > 0, "Chunk size must be positive: %s", mChunkSize);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("RPCBlockReadStreamRequest(%s, %s, %s, %s, %s, %s, %s)",
+        mBlockId, mOffset, mLength, mLockId, mSessionId, mChunkSize, mRequestId);
+  }
+
+  @Override
+  public long getRequestId() {
+    return mRequestId;
+  }
+
+  /**
+   * @return the id of the block
+   */
+  public long getBlockId() {
+    return mBlockId;
+  }
+
+  /**
+   * @return the maximum number of bytes in each response
+   */
+  public long getChunkSize() {
+    return mChunkSize;
+  }
+
+  /**
+   * @return the number of bytes to read
+   */
+  public long getLength() {
+    return mLength;
+  }
+
+  /**
+   * @return the block offset to begin reading at
+   */
+  public long getOffset() {
+    return mOffset;
+  }
+
+  /**
+   * @return the id of the lock
+   */
+  public long getLockId() {
+    return mLockId;
+  }
+
+  /**
+   * @return the id of the session
+   */
+  public long getSessionId() {
+    return mSessionId;
+  }
+}
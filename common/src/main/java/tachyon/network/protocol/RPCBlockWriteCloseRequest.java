@@ -0,0 +1,113 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.network.protocol;
+
+import com.google.common.primitives.Longs;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * This represents the request to end the remote writes of a block to a DataServer. The DataServer
+ * closes the block writer it kept open for the earlier {@link RPCBlockWriteRequest}s, and commits
+ * the block if asked to. The DataServer answers with a {@link RPCBlockWriteResponse}.
+ */
+public final class RPCBlockWriteCloseRequest extends RPCRequest {
+  private final long mSessionId;
+  private final long mBlockId;
+  private final boolean mCommit;
+  private final long mRequestId;
+
+  /**
+   * Constructs a new request to end the writes of a block to a DataServer.
+   *
+   * @param sessionId the id of the session
+   * @param blockId the id of the block
+   * @param commit whether to commit the block
+   * @param requestId the id used to match the response with this request
+   */
+  public RPCBlockWriteCloseRequest(long sessionId, long blockId, boolean commit, long requestId) {
+    mSessionId = sessionId;
+    mBlockId = blockId;
+    mCommit = commit;
+    mRequestId = requestId;
+  }
+
+  @Override
+  public Type getType() {
+    return Type.RPC_BLOCK_WRITE_CLOSE_REQUEST;
+  }
+
+  /**
+   * Decodes the input {@link ByteBuf} into a {@link RPCBlockWriteCloseRequest} object and returns
+   * it.
+   *
+   * @param in the input {@link ByteBuf}
+   * @return The decoded RPCBlockWriteCloseRequest object
+   */
+  public static RPCBlockWriteCloseRequest decode(ByteBuf in) {
+    long sessionId = in.readLong();
+    long blockId = in.readLong();
+    boolean commit = in.readBoolean();
+    long requestId = in.readLong();
+    return new RPCBlockWriteCloseRequest(sessionId, blockId, commit, requestId);
+  }
+
+  @Override
+  public int getEncodedLength() {
+    // 3 longs (mSessionId, mBlockId, mRequestId) + 1 byte (mCommit)
+    return Longs.BYTES * 3 + 1;
+  }
+
+  @Override
+  public void encode(ByteBuf out) {
+    out.writeLong(mSessionId);
+    out.writeLong(mBlockId);
+    out.writeBoolean(mCommit);
+    out.writeLong(mRequestId);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("RPCBlockWriteCloseRequest(%s, %s, %s, %s)", mSessionId, mBlockId,
+        mCommit, mRequestId);
+  }
+
+  @Override
+  public long getRequestId() {
+    return mRequestId;
+  }
+
+  /**
+   * @return the id of the session
+   */
+  public long getSessionId() {
+    return mSessionId;
+  }
+
+  /**
+   * @return the id of the block
+   */
+  public long getBlockId() {
+    return mBlockId;
+  }
+
+  /**
+   * @return whether to commit the block
+   */
+  public boolean isCommit() {
+    return mCommit;
+  }
+}
@@ -33,6 +33,7 @@ public final class RPCBlockWriteRequest extends RPCRequest {
   private final long mOffset;
   private final long mLength;
   private final DataBuffer mData;
+  private final long mRequestId;
 
   /**
    * Constructs a new request to write a block to a DataServer.
@@ -45,11 +46,27 @@ public final class RPCBlockWriteRequest extends RPCRequest {
    */
   public RPCBlockWriteRequest(long sessionId, long blockId, long offset, long length,
       DataBuffer data) {
+    this(sessionId, blockId, offset, length, data, UNKNOWN_REQUEST_ID);
+  }
+
+  /**
+   * Constructs a new request to write a block to a DataServer.
+   *
+   * @param sessionId the id of the session
+   * @param blockId the id of the block
+   * @param offset the block offset to begin writing at
+   * @param length the number of bytes to write
+   * @param data the data
+   * @param requestId the id used to match the response with this request
+   */
+  public RPCBlockWriteRequest(long sessionId, long blockId, long offset, long length,
+      DataBuffer data, long requestId) {
     mSessionId = sessionId;
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
     mData = data;
+    mRequestId = requestId;
   }
 
   @Override
@@ -68,6 +85,7 @@ public final class RPCBlockWriteRequest extends RPCRequest {
     long blockId = in.readLong();
     long offset = in.readLong();
     long length = in.readLong();
+    long requestId = in.readLong();
     // TODO(gene): Look into accessing Netty ByteBuf directly, to avoid copying the data.
     // Length will always be greater than 0 if the request is not corrupted. If length is negative,
     // ByteBuffer.allocate will fail. If length is 0 this will become a no-op but still go through
@@ -76,13 +94,13 @@ public final class RPCBlockWriteRequest extends RPCRequest {
     ByteBuffer buffer = ByteBuffer.allocate((int) length);
     in.readBytes(buffer);
     DataByteBuffer data = new DataByteBuffer(buffer, (int) length);
-    return new RPCBlockWriteRequest(sessionId, blockId, offset, length, data);
+    return new RPCBlockWriteRequest(sessionId, blockId, offset, length, data, requestId);
   }
 
   @Override
   public int getEncodedLength() {
-    // 4 longs (mSessionId, mBlockId, mOffset, mLength)
-    return Longs.BYTES * 4;
+    // 5 longs (mSessionId, mBlockId, mOffset, mLength, mRequestId)
+    return Longs.BYTES * 5;
   }
 
   @Override
@@ -91,6 +109,7 @@ public final class RPCBlockWriteRequest extends RPCRequest {
     out.writeLong(mBlockId);
     out.writeLong(mOffset);
     out.writeLong(mLength);
+    out.writeLong(mRequestId);
     // The actual payload is not encoded here, since the RPCMessageEncoder will transfer it in a
     // more efficient way.
   }
@@ -100,6 +119,11 @@ public final class RPCBlockWriteRequest extends RPCRequest {
     return mData;
   }
 
+  @Override
+  public long getRequestId() {
+    return mRequestId;
+  }
+
   /**
    * @return the id of the session
    */
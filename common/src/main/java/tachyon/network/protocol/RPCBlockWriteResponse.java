@@ -30,6 +30,7 @@ public final class RPCBlockWriteResponse extends RPCResponse {
   private final long mOffset;
   private final long mLength;
   private final Status mStatus;
+  private final long mRequestId;
 
   /**
    * Constructs a new response to a {@link RPCBlockWriteRequest}.
@@ -42,11 +43,27 @@ public final class RPCBlockWriteResponse extends RPCResponse {
    */
   public RPCBlockWriteResponse(long sessionId, long blockId, long offset, long length,
       Status status) {
+    this(sessionId, blockId, offset, length, status, UNKNOWN_REQUEST_ID);
+  }
+
+  /**
+   * Constructs a new response to a {@link RPCBlockWriteRequest}.
+   *
+   * @param sessionId the id of the session
+   * @param blockId the id of the block
+   * @param offset the block offset that the writing began at
+   * @param length the number of bytes written
+   * @param status the status
+   * @param requestId the id of the request this is a response to
+   */
+  public RPCBlockWriteResponse(long sessionId, long blockId, long offset, long length,
+      Status status, long requestId) {
     mSessionId = sessionId;
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
     mStatus = status;
+    mRequestId = requestId;
   }
 
   /**
@@ -63,7 +80,7 @@ public final class RPCBlockWriteResponse extends RPCResponse {
     Preconditions.checkArgument(status != Status.SUCCESS);
     // The response has no payload, so length must be 0.
     return new RPCBlockWriteResponse(request.getSessionId(), request.getBlockId(),
-        request.getOffset(), request.getLength(), status);
+        request.getOffset(), request.getLength(), status, request.getRequestId());
   }
 
   @Override
@@ -83,13 +100,15 @@ public final class RPCBlockWriteResponse extends RPCResponse {
     long offset = in.readLong();
     long length = in.readLong();
     short status = in.readShort();
-    return new RPCBlockWriteResponse(sessionId, blockId, offset, length, Status.fromShort(status));
+    long requestId = in.readLong();
+    return new RPCBlockWriteResponse(sessionId, blockId, offset, length, Status.fromShort(status),
+        requestId);
   }
 
   @Override
   public int getEncodedLength() {
-    // 4 longs (mSessionId, mBlockId, mOffset, mLength) + 1 short (mStatus)
-    return Longs.BYTES * 4 + Shorts.BYTES;
+    // 5 longs (mSessionId, mBlockId, mOffset, mLength, mRequestId) + 1 short (mStatus)
+    return Longs.BYTES * 5 + Shorts.BYTES;
   }
 
   @Override
@@ -99,6 +118,12 @@ public final class RPCBlockWriteResponse extends RPCResponse {
     out.writeLong(mOffset);
     out.writeLong(mLength);
     out.writeShort(mStatus.getId());
+    out.writeLong(mRequestId);
+  }
+
+  @Override
+  public long getRequestId() {
+    return mRequestId;
   }
 
   /**
@@ -19,6 +19,7 @@ import com.google.common.primitives.Ints;
 import com.google.common.primitives.Longs;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 
@@ -29,6 +30,8 @@ import tachyon.network.protocol.databuffer.DataBuffer;
  * scheme is adapted from the implementation found in the streaming server in Apache Spark.
  */
 public abstract class RPCMessage implements EncodedMessage {
+  /** The request id of messages which are not associated with a particular request. */
+  public static final long UNKNOWN_REQUEST_ID = -1L;
 
   /**
    * The possible types of RPC messages.
@@ -38,7 +41,10 @@ public abstract class RPCMessage implements EncodedMessage {
     RPC_BLOCK_READ_REQUEST(1),
     RPC_BLOCK_READ_RESPONSE(2),
     RPC_BLOCK_WRITE_REQUEST(3),
-    RPC_BLOCK_WRITE_RESPONSE(4);
+    RPC_BLOCK_WRITE_RESPONSE(4),
+    RPC_BLOCK_READ_STREAM_REQUEST(5),
+    RPC_BLOCK_WRITE_CLOSE_REQUEST(6),
+    RPC_BLOCK_READ_STREAM_CANCEL_REQUEST(7);
 
     private final int mId;
 
@@ -91,6 +97,12 @@ public abstract class RPCMessage implements EncodedMessage {
           return RPC_BLOCK_WRITE_REQUEST;
         case 4:
           return RPC_BLOCK_WRITE_RESPONSE;
+        case 5:
+          return RPC_BLOCK_READ_STREAM_REQUEST;
+        case 6:
+          return RPC_BLOCK_WRITE_CLOSE_REQUEST;
+        case 7:
+          return RPC_BLOCK_READ_STREAM_CANCEL_REQUEST;
         default:
           throw new IllegalArgumentException("Unknown RPCMessage type id. id: " + id);
       }
@@ -104,6 +116,16 @@ public abstract class RPCMessage implements EncodedMessage {
    */
   public abstract Type getType();
 
+  /**
+   * Returns the id of the request this message belongs to. Multiple requests may be in flight on
+   * the same channel, and the id is used to match a response with its request.
+   *
+   * @return the request id, or {@link #UNKNOWN_REQUEST_ID} if the message has no request id
+   */
+  public long getRequestId() {
+    return UNKNOWN_REQUEST_ID;
+  }
+
   /**
    * Validate the message. Throws an Exception if the message is invalid.
    */
@@ -135,12 +157,24 @@ public abstract class RPCMessage implements EncodedMessage {
    * The encoding scheme is: [(long) frame length][message payload]
    * The frame length is NOT included in the output ByteBuf.
    *
+   * Each frame is copied into its own ByteBuf. Payloads may be retained after decoding (see
+   * {@link tachyon.network.protocol.databuffer.DataNettyBuffer}), and a slice would share the
+   * reference count of every other frame received in the same read.
+   *
    * @return the frame decoder for Netty
    */
   public static ByteToMessageDecoder createFrameDecoder() {
     // maxFrameLength, lengthFieldOffset, lengthFieldLength, lengthAdjustment, initialBytesToStrip
     return new LengthFieldBasedFrameDecoder(Integer.MAX_VALUE, 0, Longs.BYTES, -Longs.BYTES,
-        Longs.BYTES);
+        Longs.BYTES) {
+      @Override
+      protected ByteBuf extractFrame(ChannelHandlerContext ctx, ByteBuf buffer, int index,
+          int length) {
+        ByteBuf frame = ctx.alloc().buffer(length);
+        frame.writeBytes(buffer, index, length);
+        return frame;
+      }
+    };
   }
 
   /**
@@ -164,6 +198,12 @@ public abstract class RPCMessage implements EncodedMessage {
         return RPCBlockWriteRequest.decode(in);
       case RPC_BLOCK_WRITE_RESPONSE:
         return RPCBlockWriteResponse.decode(in);
+      case RPC_BLOCK_READ_STREAM_REQUEST:
+        return RPCBlockReadStreamRequest.decode(in);
+      case RPC_BLOCK_WRITE_CLOSE_REQUEST:
+        return RPCBlockWriteCloseRequest.decode(in);
+      case RPC_BLOCK_READ_STREAM_CANCEL_REQUEST:
+        return RPCBlockReadStreamCancelRequest.decode(in);
       default:
         throw new IllegalArgumentException("Unknown RPCMessage type. type: " + type);
     }
@@ -43,9 +43,20 @@ public final class DataFileChannel implements DataBuffer {
     mLength = length;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The returned region does not close the {@link FileChannel} once it is transferred, because
+   * the channel is owned by whoever created this buffer and may be used for further transfers.
+   */
   @Override
   public Object getNettyOutput() {
-    return new DefaultFileRegion(mFileChannel, mOffset, mLength);
+    return new DefaultFileRegion(mFileChannel, mOffset, mLength) {
+      @Override
+      protected void deallocate() {
+        // The FileChannel is closed by its owner.
+      }
+    };
   }
 
   @Override
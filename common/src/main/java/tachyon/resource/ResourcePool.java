@@ -20,6 +20,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.google.common.base.Preconditions;
+
+import tachyon.exception.PreconditionMessage;
+
 /**
  * Class representing a pool of resources to be temporarily used and returned. Inheriting classes
  * must implement the close method as well as initialize the resources in the constructor. The
@@ -34,6 +38,8 @@ public abstract class ResourcePool<T> {
   protected final int mMaxCapacity;
   protected final ConcurrentLinkedQueue<T> mResources;
   protected final AtomicInteger mCurrentCapacity;
+  /** Whether the pool was closed with {@link #markClosed()}, after which acquiring fails. */
+  private volatile boolean mClosed = false;
 
   /**
    * Creates a {@link ResourcePool} instance with the specified capacity.
@@ -65,8 +71,10 @@ public abstract class ResourcePool<T> {
    * the pool.
    *
    * @return a resource taken from the pool
+   * @throws IllegalStateException if the pool is closed, or gets closed while waiting
    */
   public T acquire() {
+    Preconditions.checkState(!mClosed, PreconditionMessage.ERR_RESOURCE_POOL_CLOSED);
     // Try to take a resource without blocking
     T resource = mResources.poll();
     if (resource != null) {
@@ -80,15 +88,21 @@ public abstract class ResourcePool<T> {
 
     mCurrentCapacity.decrementAndGet();
 
-    // Otherwise, try to take a resource from the pool, blocking if none are available.
+    // Otherwise, try to take a resource from the pool, blocking if none are available. A waiting
+    // thread is also woken up when a resource is discarded, to create a new one in its place.
     try {
       mTakeLock.lockInterruptibly();
       try {
         while (true) {
+          Preconditions.checkState(!mClosed, PreconditionMessage.ERR_RESOURCE_POOL_CLOSED);
           resource = mResources.poll();
           if (resource != null) {
             return resource;
           }
+          if (mCurrentCapacity.getAndIncrement() < mMaxCapacity) {
+            break;
+          }
+          mCurrentCapacity.decrementAndGet();
           mNotEmpty.await();
         }
       } finally {
@@ -97,6 +111,7 @@ public abstract class ResourcePool<T> {
     } catch (InterruptedException ie) {
       throw new RuntimeException(ie);
     }
+    return createNewResource();
   }
 
   /**
@@ -105,6 +120,42 @@ public abstract class ResourcePool<T> {
    */
   public abstract void close();
 
+  /**
+   * Marks the pool as closed. The threads waiting in {@link #acquire()} are woken up and fail, as
+   * does any later call. Inheriting classes call this from {@link #close()} if resources may still
+   * be acquired concurrently.
+   */
+  protected void markClosed() {
+    mClosed = true;
+    mTakeLock.lock();
+    try {
+      mNotEmpty.signalAll();
+    } finally {
+      mTakeLock.unlock();
+    }
+  }
+
+  /**
+   * @return whether the pool was closed with {@link #markClosed()}
+   */
+  protected boolean isClosed() {
+    return mClosed;
+  }
+
+  /**
+   * Gives up the capacity of a resource which was closed instead of released, and wakes up a
+   * thread waiting in {@link #acquire()} to create a new resource in its place.
+   */
+  protected void discard() {
+    mCurrentCapacity.decrementAndGet();
+    mTakeLock.lock();
+    try {
+      mNotEmpty.signal();
+    } finally {
+      mTakeLock.unlock();
+    }
+  }
+
   /**
    * Releases an object of type T, this must be called after the thread is done using a resource
    * obtained by acquire.
@@ -92,6 +92,21 @@ public class BlockMasterWorkerService {
      */
     public void registerWorker(long workerId, List<String> storageTiers, Map<String,Long> totalBytesOnTiers, Map<String,Long> usedBytesOnTiers, Map<String,List<Long>> currentBlocksOnTiers) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
 
+    /**
+     * Reports a chunk of the blocks of a worker ahead of its registration. The blocks are added to the
+     * blocks given to the next registerWorker call of the worker. The first chunk of a registration
+     * drops the blocks reported by an earlier registration which did not complete.
+     * 
+     * @param workerId the id of the worker
+     * 
+     * @param tierAlias the alias of the tier of the blocks
+     * 
+     * @param blockIds the ids of the blocks, encoded by tachyon.master.block.BlockIdCodec
+     * 
+     * @param firstChunk whether the chunk starts a new registration
+     */
+    public void registerWorkerChunk(long workerId, String tierAlias, ByteBuffer blockIds, boolean firstChunk) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface extends tachyon.thrift.TachyonService .AsyncIface {
@@ -104,6 +119,8 @@ public class BlockMasterWorkerService {
 
     public void registerWorker(long workerId, List<String> storageTiers, Map<String,Long> totalBytesOnTiers, Map<String,Long> usedBytesOnTiers, Map<String,List<Long>> currentBlocksOnTiers, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void registerWorkerChunk(long workerId, String tierAlias, ByteBuffer blockIds, boolean firstChunk, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends tachyon.thrift.TachyonService.Client implements Iface {
@@ -226,6 +243,32 @@ public class BlockMasterWorkerService {
       return;
     }
 
+    public void registerWorkerChunk(long workerId, String tierAlias, ByteBuffer blockIds, boolean firstChunk) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
+    {
+      send_registerWorkerChunk(workerId, tierAlias, blockIds, firstChunk);
+      recv_registerWorkerChunk();
+    }
+
+    public void send_registerWorkerChunk(long workerId, String tierAlias, ByteBuffer blockIds, boolean firstChunk) throws org.apache.thrift.TException
+    {
+      registerWorkerChunk_args args = new registerWorkerChunk_args();
+      args.setWorkerId(workerId);
+      args.setTierAlias(tierAlias);
+      args.setBlockIds(blockIds);
+      args.setFirstChunk(firstChunk);
+      sendBase("registerWorkerChunk", args);
+    }
+
+    public void recv_registerWorkerChunk() throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
+    {
+      registerWorkerChunk_result result = new registerWorkerChunk_result();
+      receiveBase(result, "registerWorkerChunk");
+      if (result.e != null) {
+        throw result.e;
+      }
+      return;
+    }
+
   }
   public static class AsyncClient extends tachyon.thrift.TachyonService.AsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -405,6 +448,47 @@ public class BlockMasterWorkerService {
       }
     }
 
+    public void registerWorkerChunk(long workerId, String tierAlias, ByteBuffer blockIds, boolean firstChunk, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      registerWorkerChunk_call method_call = new registerWorkerChunk_call(workerId, tierAlias, blockIds, firstChunk, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class registerWorkerChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long workerId;
+      private String tierAlias;
+      private ByteBuffer blockIds;
+      private boolean firstChunk;
+      public registerWorkerChunk_call(long workerId, String tierAlias, ByteBuffer blockIds, boolean firstChunk, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.workerId = workerId;
+        this.tierAlias = tierAlias;
+        this.blockIds = blockIds;
+        this.firstChunk = firstChunk;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("registerWorkerChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        registerWorkerChunk_args args = new registerWorkerChunk_args();
+        args.setWorkerId(workerId);
+        args.setTierAlias(tierAlias);
+        args.setBlockIds(blockIds);
+        args.setFirstChunk(firstChunk);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws tachyon.thrift.TachyonTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_registerWorkerChunk();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends tachyon.thrift.TachyonService.Processor<I> implements org.apache.thrift.TProcessor {
@@ -422,6 +506,7 @@ public class BlockMasterWorkerService {
       processMap.put("getWorkerId", new getWorkerId());
       processMap.put("heartbeat", new heartbeat());
       processMap.put("registerWorker", new registerWorker());
+      processMap.put("registerWorkerChunk", new registerWorkerChunk());
       return processMap;
     }
 
@@ -510,6 +595,30 @@ public class BlockMasterWorkerService {
       }
     }
 
+    public static class registerWorkerChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, registerWorkerChunk_args> {
+      public registerWorkerChunk() {
+        super("registerWorkerChunk");
+      }
+
+      public registerWorkerChunk_args getEmptyArgsInstance() {
+        return new registerWorkerChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public registerWorkerChunk_result getResult(I iface, registerWorkerChunk_args args) throws org.apache.thrift.TException {
+        registerWorkerChunk_result result = new registerWorkerChunk_result();
+        try {
+          iface.registerWorkerChunk(args.workerId, args.tierAlias, args.blockIds, args.firstChunk);
+        } catch (tachyon.thrift.TachyonTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
   }
 
   public static class AsyncProcessor<I extends AsyncIface> extends tachyon.thrift.TachyonService.AsyncProcessor<I> {
@@ -527,6 +636,7 @@ public class BlockMasterWorkerService {
       processMap.put("getWorkerId", new getWorkerId());
       processMap.put("heartbeat", new heartbeat());
       processMap.put("registerWorker", new registerWorker());
+      processMap.put("registerWorkerChunk", new registerWorkerChunk());
       return processMap;
     }
 
@@ -739,6 +849,62 @@ public class BlockMasterWorkerService {
       }
     }
 
+    public static class registerWorkerChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, registerWorkerChunk_args, Void> {
+      public registerWorkerChunk() {
+        super("registerWorkerChunk");
+      }
+
+      public registerWorkerChunk_args getEmptyArgsInstance() {
+        return new registerWorkerChunk_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            registerWorkerChunk_result result = new registerWorkerChunk_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            registerWorkerChunk_result result = new registerWorkerChunk_result();
+            if (e instanceof tachyon.thrift.TachyonTException) {
+                        result.e = (tachyon.thrift.TachyonTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, registerWorkerChunk_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.registerWorkerChunk(args.workerId, args.tierAlias, args.blockIds, args.firstChunk,resultHandler);
+      }
+    }
+
   }
 
   public static class commitBlock_args implements org.apache.thrift.TBase<commitBlock_args, commitBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<commitBlock_args>   {
@@ -5285,4 +5451,1094 @@ public class BlockMasterWorkerService {
 
   }
 
+
+  public static class registerWorkerChunk_args implements org.apache.thrift.TBase<registerWorkerChunk_args, registerWorkerChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<registerWorkerChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerWorkerChunk_args");
+
+    private static final org.apache.thrift.protocol.TField WORKER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("workerId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField TIER_ALIAS_FIELD_DESC = new org.apache.thrift.protocol.TField("tierAlias", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField FIRST_CHUNK_FIELD_DESC = new org.apache.thrift.protocol.TField("firstChunk", org.apache.thrift.protocol.TType.BOOL, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new registerWorkerChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new registerWorkerChunk_argsTupleSchemeFactory());
+    }
+
+    /**
+     * the id of the worker
+     */
+    public long workerId; // required
+    /**
+     * the alias of the tier of the blocks
+     */
+    public String tierAlias; // required
+    /**
+     * the ids of the blocks, encoded by tachyon.master.block.BlockIdCodec
+     */
+    public ByteBuffer blockIds; // required
+    /**
+     * whether the chunk starts a new registration
+     */
+    public boolean firstChunk; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the worker
+       */
+      WORKER_ID((short)1, "workerId"),
+      /**
+       * the alias of the tier of the blocks
+       */
+      TIER_ALIAS((short)2, "tierAlias"),
+      /**
+       * the ids of the blocks, encoded by tachyon.master.block.BlockIdCodec
+       */
+      BLOCK_IDS((short)3, "blockIds"),
+      /**
+       * whether the chunk starts a new registration
+       */
+      FIRST_CHUNK((short)4, "firstChunk");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // WORKER_ID
+            return WORKER_ID;
+          case 2: // TIER_ALIAS
+            return TIER_ALIAS;
+          case 3: // BLOCK_IDS
+            return BLOCK_IDS;
+          case 4: // FIRST_CHUNK
+            return FIRST_CHUNK;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __WORKERID_ISSET_ID = 0;
+    private static final int __FIRSTCHUNK_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.WORKER_ID, new org.apache.thrift.meta_data.FieldMetaData("workerId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.TIER_ALIAS, new org.apache.thrift.meta_data.FieldMetaData("tierAlias", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+      tmpMap.put(_Fields.FIRST_CHUNK, new org.apache.thrift.meta_data.FieldMetaData("firstChunk", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerWorkerChunk_args.class, metaDataMap);
+    }
+
+    public registerWorkerChunk_args() {
+    }
+
+    public registerWorkerChunk_args(
+      long workerId,
+      String tierAlias,
+      ByteBuffer blockIds,
+      boolean firstChunk)
+    {
+      this();
+      this.workerId = workerId;
+      setWorkerIdIsSet(true);
+      this.tierAlias = tierAlias;
+      this.blockIds = org.apache.thrift.TBaseHelper.copyBinary(blockIds);
+      this.firstChunk = firstChunk;
+      setFirstChunkIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public registerWorkerChunk_args(registerWorkerChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.workerId = other.workerId;
+      if (other.isSetTierAlias()) {
+        this.tierAlias = other.tierAlias;
+      }
+      if (other.isSetBlockIds()) {
+        this.blockIds = org.apache.thrift.TBaseHelper.copyBinary(other.blockIds);
+      }
+      this.firstChunk = other.firstChunk;
+    }
+
+    public registerWorkerChunk_args deepCopy() {
+      return new registerWorkerChunk_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setWorkerIdIsSet(false);
+      this.workerId = 0;
+      this.tierAlias = null;
+      this.blockIds = null;
+      setFirstChunkIsSet(false);
+      this.firstChunk = false;
+    }
+
+    /**
+     * the id of the worker
+     */
+    public long getWorkerId() {
+      return this.workerId;
+    }
+
+    /**
+     * the id of the worker
+     */
+    public registerWorkerChunk_args setWorkerId(long workerId) {
+      this.workerId = workerId;
+      setWorkerIdIsSet(true);
+      return this;
+    }
+
+    public void unsetWorkerId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WORKERID_ISSET_ID);
+    }
+
+    /** Returns true if field workerId is set (has been assigned a value) and false otherwise */
+    public boolean isSetWorkerId() {
+      return EncodingUtils.testBit(__isset_bitfield, __WORKERID_ISSET_ID);
+    }
+
+    public void setWorkerIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WORKERID_ISSET_ID, value);
+    }
+
+    /**
+     * the alias of the tier of the blocks
+     */
+    public String getTierAlias() {
+      return this.tierAlias;
+    }
+
+    /**
+     * the alias of the tier of the blocks
+     */
+    public registerWorkerChunk_args setTierAlias(String tierAlias) {
+      this.tierAlias = tierAlias;
+      return this;
+    }
+
+    public void unsetTierAlias() {
+      this.tierAlias = null;
+    }
+
+    /** Returns true if field tierAlias is set (has been assigned a value) and false otherwise */
+    public boolean isSetTierAlias() {
+      return this.tierAlias != null;
+    }
+
+    public void setTierAliasIsSet(boolean value) {
+      if (!value) {
+        this.tierAlias = null;
+      }
+    }
+
+    /**
+     * the ids of the blocks, encoded by tachyon.master.block.BlockIdCodec
+     */
+    public byte[] getBlockIds() {
+      setBlockIds(org.apache.thrift.TBaseHelper.rightSize(blockIds));
+      return blockIds == null ? null : blockIds.array();
+    }
+
+    public ByteBuffer bufferForBlockIds() {
+      return org.apache.thrift.TBaseHelper.copyBinary(blockIds);
+    }
+
+    /**
+     * the ids of the blocks, encoded by tachyon.master.block.BlockIdCodec
+     */
+    public registerWorkerChunk_args setBlockIds(byte[] blockIds) {
+      this.blockIds = blockIds == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(blockIds, blockIds.length));
+      return this;
+    }
+
+    public registerWorkerChunk_args setBlockIds(ByteBuffer blockIds) {
+      this.blockIds = org.apache.thrift.TBaseHelper.copyBinary(blockIds);
+      return this;
+    }
+
+    public void unsetBlockIds() {
+      this.blockIds = null;
+    }
+
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
+    }
+
+    public void setBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.blockIds = null;
+      }
+    }
+
+    /**
+     * whether the chunk starts a new registration
+     */
+    public boolean isFirstChunk() {
+      return this.firstChunk;
+    }
+
+    /**
+     * whether the chunk starts a new registration
+     */
+    public registerWorkerChunk_args setFirstChunk(boolean firstChunk) {
+      this.firstChunk = firstChunk;
+      setFirstChunkIsSet(true);
+      return this;
+    }
+
+    public void unsetFirstChunk() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FIRSTCHUNK_ISSET_ID);
+    }
+
+    /** Returns true if field firstChunk is set (has been assigned a value) and false otherwise */
+    public boolean isSetFirstChunk() {
+      return EncodingUtils.testBit(__isset_bitfield, __FIRSTCHUNK_ISSET_ID);
+    }
+
+    public void setFirstChunkIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FIRSTCHUNK_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case WORKER_ID:
+        if (value == null) {
+          unsetWorkerId();
+        } else {
+          setWorkerId((Long)value);
+        }
+        break;
+
+      case TIER_ALIAS:
+        if (value == null) {
+          unsetTierAlias();
+        } else {
+          setTierAlias((String)value);
+        }
+        break;
+
+      case BLOCK_IDS:
+        if (value == null) {
+          unsetBlockIds();
+        } else {
+          setBlockIds((ByteBuffer)value);
+        }
+        break;
+
+      case FIRST_CHUNK:
+        if (value == null) {
+          unsetFirstChunk();
+        } else {
+          setFirstChunk((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case WORKER_ID:
+        return Long.valueOf(getWorkerId());
+
+      case TIER_ALIAS:
+        return getTierAlias();
+
+      case BLOCK_IDS:
+        return getBlockIds();
+
+      case FIRST_CHUNK:
+        return Boolean.valueOf(isFirstChunk());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case WORKER_ID:
+        return isSetWorkerId();
+      case TIER_ALIAS:
+        return isSetTierAlias();
+      case BLOCK_IDS:
+        return isSetBlockIds();
+      case FIRST_CHUNK:
+        return isSetFirstChunk();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof registerWorkerChunk_args)
+        return this.equals((registerWorkerChunk_args)that);
+      return false;
+    }
+
+    public boolean equals(registerWorkerChunk_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_workerId = true;
+      boolean that_present_workerId = true;
+      if (this_present_workerId || that_present_workerId) {
+        if (!(this_present_workerId && that_present_workerId))
+          return false;
+        if (this.workerId != that.workerId)
+          return false;
+      }
+
+      boolean this_present_tierAlias = true && this.isSetTierAlias();
+      boolean that_present_tierAlias = true && that.isSetTierAlias();
+      if (this_present_tierAlias || that_present_tierAlias) {
+        if (!(this_present_tierAlias && that_present_tierAlias))
+          return false;
+        if (!this.tierAlias.equals(that.tierAlias))
+          return false;
+      }
+
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
+          return false;
+        if (!this.blockIds.equals(that.blockIds))
+          return false;
+      }
+
+      boolean this_present_firstChunk = true;
+      boolean that_present_firstChunk = true;
+      if (this_present_firstChunk || that_present_firstChunk) {
+        if (!(this_present_firstChunk && that_present_firstChunk))
+          return false;
+        if (this.firstChunk != that.firstChunk)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_workerId = true;
+      list.add(present_workerId);
+      if (present_workerId)
+        list.add(workerId);
+
+      boolean present_tierAlias = true && (isSetTierAlias());
+      list.add(present_tierAlias);
+      if (present_tierAlias)
+        list.add(tierAlias);
+
+      boolean present_blockIds = true && (isSetBlockIds());
+      list.add(present_blockIds);
+      if (present_blockIds)
+        list.add(blockIds);
+
+      boolean present_firstChunk = true;
+      list.add(present_firstChunk);
+      if (present_firstChunk)
+        list.add(firstChunk);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(registerWorkerChunk_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetWorkerId()).compareTo(other.isSetWorkerId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetWorkerId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.workerId, other.workerId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTierAlias()).compareTo(other.isSetTierAlias());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTierAlias()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tierAlias, other.tierAlias);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFirstChunk()).compareTo(other.isSetFirstChunk());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFirstChunk()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.firstChunk, other.firstChunk);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("registerWorkerChunk_args(");
+      boolean first = true;
+
+      sb.append("workerId:");
+      sb.append(this.workerId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("tierAlias:");
+      if (this.tierAlias == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tierAlias);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.blockIds, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("firstChunk:");
+      sb.append(this.firstChunk);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class registerWorkerChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public registerWorkerChunk_argsStandardScheme getScheme() {
+        return new registerWorkerChunk_argsStandardScheme();
+      }
+    }
+
+    private static class registerWorkerChunk_argsStandardScheme extends StandardScheme<registerWorkerChunk_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, registerWorkerChunk_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // WORKER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.workerId = iprot.readI64();
+                struct.setWorkerIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TIER_ALIAS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.tierAlias = iprot.readString();
+                struct.setTierAliasIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.blockIds = iprot.readBinary();
+                struct.setBlockIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // FIRST_CHUNK
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.firstChunk = iprot.readBool();
+                struct.setFirstChunkIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, registerWorkerChunk_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(WORKER_ID_FIELD_DESC);
+        oprot.writeI64(struct.workerId);
+        oprot.writeFieldEnd();
+        if (struct.tierAlias != null) {
+          oprot.writeFieldBegin(TIER_ALIAS_FIELD_DESC);
+          oprot.writeString(struct.tierAlias);
+          oprot.writeFieldEnd();
+        }
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          oprot.writeBinary(struct.blockIds);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(FIRST_CHUNK_FIELD_DESC);
+        oprot.writeBool(struct.firstChunk);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class registerWorkerChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public registerWorkerChunk_argsTupleScheme getScheme() {
+        return new registerWorkerChunk_argsTupleScheme();
+      }
+    }
+
+    private static class registerWorkerChunk_argsTupleScheme extends TupleScheme<registerWorkerChunk_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, registerWorkerChunk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetWorkerId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetTierAlias()) {
+          optionals.set(1);
+        }
+        if (struct.isSetBlockIds()) {
+          optionals.set(2);
+        }
+        if (struct.isSetFirstChunk()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetWorkerId()) {
+          oprot.writeI64(struct.workerId);
+        }
+        if (struct.isSetTierAlias()) {
+          oprot.writeString(struct.tierAlias);
+        }
+        if (struct.isSetBlockIds()) {
+          oprot.writeBinary(struct.blockIds);
+        }
+        if (struct.isSetFirstChunk()) {
+          oprot.writeBool(struct.firstChunk);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, registerWorkerChunk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.workerId = iprot.readI64();
+          struct.setWorkerIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.tierAlias = iprot.readString();
+          struct.setTierAliasIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.blockIds = iprot.readBinary();
+          struct.setBlockIdsIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.firstChunk = iprot.readBool();
+          struct.setFirstChunkIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class registerWorkerChunk_result implements org.apache.thrift.TBase<registerWorkerChunk_result, registerWorkerChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<registerWorkerChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerWorkerChunk_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new registerWorkerChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new registerWorkerChunk_resultTupleSchemeFactory());
+    }
+
+    public tachyon.thrift.TachyonTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerWorkerChunk_result.class, metaDataMap);
+    }
+
+    public registerWorkerChunk_result() {
+    }
+
+    public registerWorkerChunk_result(
+      tachyon.thrift.TachyonTException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public registerWorkerChunk_result(registerWorkerChunk_result other) {
+      if (other.isSetE()) {
+        this.e = new tachyon.thrift.TachyonTException(other.e);
+      }
+    }
+
+    public registerWorkerChunk_result deepCopy() {
+      return new registerWorkerChunk_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+    }
+
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
+    }
+
+    public registerWorkerChunk_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((tachyon.thrift.TachyonTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof registerWorkerChunk_result)
+        return this.equals((registerWorkerChunk_result)that);
+      return false;
+    }
+
+    public boolean equals(registerWorkerChunk_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(registerWorkerChunk_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("registerWorkerChunk_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class registerWorkerChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public registerWorkerChunk_resultStandardScheme getScheme() {
+        return new registerWorkerChunk_resultStandardScheme();
+      }
+    }
+
+    private static class registerWorkerChunk_resultStandardScheme extends StandardScheme<registerWorkerChunk_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, registerWorkerChunk_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, registerWorkerChunk_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class registerWorkerChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public registerWorkerChunk_resultTupleScheme getScheme() {
+        return new registerWorkerChunk_resultTupleScheme();
+      }
+    }
+
+    private static class registerWorkerChunk_resultTupleScheme extends TupleScheme<registerWorkerChunk_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, registerWorkerChunk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, registerWorkerChunk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new tachyon.thrift.TachyonTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
 }
@@ -51,6 +51,15 @@ public class FileSystemMasterClientService {
      */
     public void completeFile(long fileId, CompleteFileTOptions options) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
 
+    /**
+     * Marks the given files as completed and returns the result for each file.
+     * 
+     * @param fileIds the ids of the files
+     * 
+     * @param options the method options, one per file
+     */
+    public List<FileOperationResult> completeFileBatch(List<Long> fileIds, List<CompleteFileTOptions> options) throws org.apache.thrift.TException;
+
     /**
      * Creates a file and returns the id of the file.
      * 
@@ -60,6 +69,15 @@ public class FileSystemMasterClientService {
      */
     public long create(String path, CreateTOptions options) throws tachyon.thrift.TachyonTException, tachyon.thrift.ThriftIOException, org.apache.thrift.TException;
 
+    /**
+     * Creates the given files and returns the result for each file.
+     * 
+     * @param paths the paths of the files
+     * 
+     * @param options the method options, one per file
+     */
+    public List<FileOperationResult> createBatch(List<String> paths, List<CreateTOptions> options) throws org.apache.thrift.TException;
+
     /**
      * Frees the given file from Tachyon and returns whether the free operation succeeded.
      * 
@@ -83,7 +101,7 @@ public class FileSystemMasterClientService {
      * 
      * @param fileId the id of the file
      */
-    public List<tachyon.thrift.FileBlockInfo> getFileBlockInfoList(long fileId) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
+    public List<tachyon.thrift.FileBlockInfo> getFileBlockInfoList(long fileId, boolean skipUfsLocations) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
 
     /**
      * Returns the file id for the given path.
@@ -99,6 +117,13 @@ public class FileSystemMasterClientService {
      */
     public FileInfo getFileInfo(long fileId) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
 
+    /**
+     * Returns the file information for each of the given files.
+     * 
+     * @param fileIds the ids of the files
+     */
+    public List<FileOperationResult> getFileInfoBatch(List<Long> fileIds) throws org.apache.thrift.TException;
+
     /**
      * If the id points to a file, the method returns a singleton with its file information.
      * If the id points to a directory, the method returns a list with file information for the
@@ -158,6 +183,15 @@ public class FileSystemMasterClientService {
      */
     public boolean remove(long id, boolean recursive) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
 
+    /**
+     * Deletes the given files or directories and returns the result for each of them.
+     * 
+     * @param ids the ids of the files or directories
+     * 
+     * @param recursive whether to remove recursively
+     */
+    public List<FileOperationResult> removeBatch(List<Long> ids, boolean recursive) throws org.apache.thrift.TException;
+
     /**
      * Renames a file or a directory and returns whether the rename operation succeeded.
      * 
@@ -191,18 +225,24 @@ public class FileSystemMasterClientService {
 
     public void completeFile(long fileId, CompleteFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void completeFileBatch(List<Long> fileIds, List<CompleteFileTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void create(String path, CreateTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void createBatch(List<String> paths, List<CreateTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void free(long fileId, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getFileBlockInfo(long fileId, int fileBlockIndex, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
-    public void getFileBlockInfoList(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void getFileBlockInfoList(long fileId, boolean skipUfsLocations, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getFileId(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getFileInfo(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getFileInfoBatch(List<Long> fileIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getFileInfoList(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getNewBlockIdForFile(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -217,6 +257,8 @@ public class FileSystemMasterClientService {
 
     public void remove(long id, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void removeBatch(List<Long> ids, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void rename(long fileId, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void setState(long fileId, SetStateTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -269,6 +311,30 @@ public class FileSystemMasterClientService {
       return;
     }
 
+    public List<FileOperationResult> completeFileBatch(List<Long> fileIds, List<CompleteFileTOptions> options) throws org.apache.thrift.TException
+    {
+      send_completeFileBatch(fileIds, options);
+      return recv_completeFileBatch();
+    }
+
+    public void send_completeFileBatch(List<Long> fileIds, List<CompleteFileTOptions> options) throws org.apache.thrift.TException
+    {
+      completeFileBatch_args args = new completeFileBatch_args();
+      args.setFileIds(fileIds);
+      args.setOptions(options);
+      sendBase("completeFileBatch", args);
+    }
+
+    public List<FileOperationResult> recv_completeFileBatch() throws org.apache.thrift.TException
+    {
+      completeFileBatch_result result = new completeFileBatch_result();
+      receiveBase(result, "completeFileBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "completeFileBatch failed: unknown result");
+    }
+
     public long create(String path, CreateTOptions options) throws tachyon.thrift.TachyonTException, tachyon.thrift.ThriftIOException, org.apache.thrift.TException
     {
       send_create(path, options);
@@ -299,6 +365,30 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "create failed: unknown result");
     }
 
+    public List<FileOperationResult> createBatch(List<String> paths, List<CreateTOptions> options) throws org.apache.thrift.TException
+    {
+      send_createBatch(paths, options);
+      return recv_createBatch();
+    }
+
+    public void send_createBatch(List<String> paths, List<CreateTOptions> options) throws org.apache.thrift.TException
+    {
+      createBatch_args args = new createBatch_args();
+      args.setPaths(paths);
+      args.setOptions(options);
+      sendBase("createBatch", args);
+    }
+
+    public List<FileOperationResult> recv_createBatch() throws org.apache.thrift.TException
+    {
+      createBatch_result result = new createBatch_result();
+      receiveBase(result, "createBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "createBatch failed: unknown result");
+    }
+
     public boolean free(long fileId, boolean recursive) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
     {
       send_free(fileId, recursive);
@@ -353,16 +443,17 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getFileBlockInfo failed: unknown result");
     }
 
-    public List<tachyon.thrift.FileBlockInfo> getFileBlockInfoList(long fileId) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
+    public List<tachyon.thrift.FileBlockInfo> getFileBlockInfoList(long fileId, boolean skipUfsLocations) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
     {
-      send_getFileBlockInfoList(fileId);
+      send_getFileBlockInfoList(fileId, skipUfsLocations);
       return recv_getFileBlockInfoList();
     }
 
-    public void send_getFileBlockInfoList(long fileId) throws org.apache.thrift.TException
+    public void send_getFileBlockInfoList(long fileId, boolean skipUfsLocations) throws org.apache.thrift.TException
     {
       getFileBlockInfoList_args args = new getFileBlockInfoList_args();
       args.setFileId(fileId);
+      args.setSkipUfsLocations(skipUfsLocations);
       sendBase("getFileBlockInfoList", args);
     }
 
@@ -428,6 +519,29 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getFileInfo failed: unknown result");
     }
 
+    public List<FileOperationResult> getFileInfoBatch(List<Long> fileIds) throws org.apache.thrift.TException
+    {
+      send_getFileInfoBatch(fileIds);
+      return recv_getFileInfoBatch();
+    }
+
+    public void send_getFileInfoBatch(List<Long> fileIds) throws org.apache.thrift.TException
+    {
+      getFileInfoBatch_args args = new getFileInfoBatch_args();
+      args.setFileIds(fileIds);
+      sendBase("getFileInfoBatch", args);
+    }
+
+    public List<FileOperationResult> recv_getFileInfoBatch() throws org.apache.thrift.TException
+    {
+      getFileInfoBatch_result result = new getFileInfoBatch_result();
+      receiveBase(result, "getFileInfoBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getFileInfoBatch failed: unknown result");
+    }
+
     public List<FileInfo> getFileInfoList(long fileId) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
     {
       send_getFileInfoList(fileId);
@@ -619,6 +733,30 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "remove failed: unknown result");
     }
 
+    public List<FileOperationResult> removeBatch(List<Long> ids, boolean recursive) throws org.apache.thrift.TException
+    {
+      send_removeBatch(ids, recursive);
+      return recv_removeBatch();
+    }
+
+    public void send_removeBatch(List<Long> ids, boolean recursive) throws org.apache.thrift.TException
+    {
+      removeBatch_args args = new removeBatch_args();
+      args.setIds(ids);
+      args.setRecursive(recursive);
+      sendBase("removeBatch", args);
+    }
+
+    public List<FileOperationResult> recv_removeBatch() throws org.apache.thrift.TException
+    {
+      removeBatch_result result = new removeBatch_result();
+      receiveBase(result, "removeBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "removeBatch failed: unknown result");
+    }
+
     public boolean rename(long fileId, String dstPath) throws tachyon.thrift.TachyonTException, tachyon.thrift.ThriftIOException, org.apache.thrift.TException
     {
       send_rename(fileId, dstPath);
@@ -752,6 +890,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void completeFileBatch(List<Long> fileIds, List<CompleteFileTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      completeFileBatch_call method_call = new completeFileBatch_call(fileIds, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class completeFileBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Long> fileIds;
+      private List<CompleteFileTOptions> options;
+      public completeFileBatch_call(List<Long> fileIds, List<CompleteFileTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileIds = fileIds;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("completeFileBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        completeFileBatch_args args = new completeFileBatch_args();
+        args.setFileIds(fileIds);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<FileOperationResult> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_completeFileBatch();
+      }
+    }
+
     public void create(String path, CreateTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       create_call method_call = new create_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -787,6 +960,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void createBatch(List<String> paths, List<CreateTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      createBatch_call method_call = new createBatch_call(paths, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class createBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private List<CreateTOptions> options;
+      public createBatch_call(List<String> paths, List<CreateTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("createBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        createBatch_args args = new createBatch_args();
+        args.setPaths(paths);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<FileOperationResult> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_createBatch();
+      }
+    }
+
     public void free(long fileId, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       free_call method_call = new free_call(fileId, recursive, resultHandler, this, ___protocolFactory, ___transport);
@@ -857,24 +1065,27 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public void getFileBlockInfoList(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void getFileBlockInfoList(long fileId, boolean skipUfsLocations, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getFileBlockInfoList_call method_call = new getFileBlockInfoList_call(fileId, resultHandler, this, ___protocolFactory, ___transport);
+      getFileBlockInfoList_call method_call = new getFileBlockInfoList_call(fileId, skipUfsLocations, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
     public static class getFileBlockInfoList_call extends org.apache.thrift.async.TAsyncMethodCall {
       private long fileId;
-      public getFileBlockInfoList_call(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private boolean skipUfsLocations;
+      public getFileBlockInfoList_call(long fileId, boolean skipUfsLocations, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.fileId = fileId;
+        this.skipUfsLocations = skipUfsLocations;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
         prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getFileBlockInfoList", org.apache.thrift.protocol.TMessageType.CALL, 0));
         getFileBlockInfoList_args args = new getFileBlockInfoList_args();
         args.setFileId(fileId);
+        args.setSkipUfsLocations(skipUfsLocations);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -953,6 +1164,38 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void getFileInfoBatch(List<Long> fileIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getFileInfoBatch_call method_call = new getFileInfoBatch_call(fileIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getFileInfoBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Long> fileIds;
+      public getFileInfoBatch_call(List<Long> fileIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileIds = fileIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getFileInfoBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getFileInfoBatch_args args = new getFileInfoBatch_args();
+        args.setFileIds(fileIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<FileOperationResult> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getFileInfoBatch();
+      }
+    }
+
     public void getFileInfoList(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getFileInfoList_call method_call = new getFileInfoList_call(fileId, resultHandler, this, ___protocolFactory, ___transport);
@@ -1186,6 +1429,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void removeBatch(List<Long> ids, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      removeBatch_call method_call = new removeBatch_call(ids, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class removeBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Long> ids;
+      private boolean recursive;
+      public removeBatch_call(List<Long> ids, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.ids = ids;
+        this.recursive = recursive;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("removeBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        removeBatch_args args = new removeBatch_args();
+        args.setIds(ids);
+        args.setRecursive(recursive);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<FileOperationResult> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_removeBatch();
+      }
+    }
+
     public void rename(long fileId, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       rename_call method_call = new rename_call(fileId, dstPath, resultHandler, this, ___protocolFactory, ___transport);
@@ -1302,12 +1580,15 @@ public class FileSystemMasterClientService {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("completeFile", new completeFile());
+      processMap.put("completeFileBatch", new completeFileBatch());
       processMap.put("create", new create());
+      processMap.put("createBatch", new createBatch());
       processMap.put("free", new free());
       processMap.put("getFileBlockInfo", new getFileBlockInfo());
       processMap.put("getFileBlockInfoList", new getFileBlockInfoList());
       processMap.put("getFileId", new getFileId());
       processMap.put("getFileInfo", new getFileInfo());
+      processMap.put("getFileInfoBatch", new getFileInfoBatch());
       processMap.put("getFileInfoList", new getFileInfoList());
       processMap.put("getNewBlockIdForFile", new getNewBlockIdForFile());
       processMap.put("getUfsAddress", new getUfsAddress());
@@ -1315,6 +1596,7 @@ public class FileSystemMasterClientService {
       processMap.put("mkdir", new mkdir());
       processMap.put("mount", new mount());
       processMap.put("remove", new remove());
+      processMap.put("removeBatch", new removeBatch());
       processMap.put("rename", new rename());
       processMap.put("setState", new setState());
       processMap.put("unmount", new unmount());
@@ -1345,6 +1627,26 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class completeFileBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, completeFileBatch_args> {
+      public completeFileBatch() {
+        super("completeFileBatch");
+      }
+
+      public completeFileBatch_args getEmptyArgsInstance() {
+        return new completeFileBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public completeFileBatch_result getResult(I iface, completeFileBatch_args args) throws org.apache.thrift.TException {
+        completeFileBatch_result result = new completeFileBatch_result();
+        result.success = iface.completeFileBatch(args.fileIds, args.options);
+        return result;
+      }
+    }
+
     public static class create<I extends Iface> extends org.apache.thrift.ProcessFunction<I, create_args> {
       public create() {
         super("create");
@@ -1372,6 +1674,26 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class createBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createBatch_args> {
+      public createBatch() {
+        super("createBatch");
+      }
+
+      public createBatch_args getEmptyArgsInstance() {
+        return new createBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public createBatch_result getResult(I iface, createBatch_args args) throws org.apache.thrift.TException {
+        createBatch_result result = new createBatch_result();
+        result.success = iface.createBatch(args.paths, args.options);
+        return result;
+      }
+    }
+
     public static class free<I extends Iface> extends org.apache.thrift.ProcessFunction<I, free_args> {
       public free() {
         super("free");
@@ -1437,7 +1759,7 @@ public class FileSystemMasterClientService {
       public getFileBlockInfoList_result getResult(I iface, getFileBlockInfoList_args args) throws org.apache.thrift.TException {
         getFileBlockInfoList_result result = new getFileBlockInfoList_result();
         try {
-          result.success = iface.getFileBlockInfoList(args.fileId);
+          result.success = iface.getFileBlockInfoList(args.fileId, args.skipUfsLocations);
         } catch (tachyon.thrift.TachyonTException e) {
           result.e = e;
         }
@@ -1490,6 +1812,26 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class getFileInfoBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getFileInfoBatch_args> {
+      public getFileInfoBatch() {
+        super("getFileInfoBatch");
+      }
+
+      public getFileInfoBatch_args getEmptyArgsInstance() {
+        return new getFileInfoBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getFileInfoBatch_result getResult(I iface, getFileInfoBatch_args args) throws org.apache.thrift.TException {
+        getFileInfoBatch_result result = new getFileInfoBatch_result();
+        result.success = iface.getFileInfoBatch(args.fileIds);
+        return result;
+      }
+    }
+
     public static class getFileInfoList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getFileInfoList_args> {
       public getFileInfoList() {
         super("getFileInfoList");
@@ -1665,6 +2007,26 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class removeBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeBatch_args> {
+      public removeBatch() {
+        super("removeBatch");
+      }
+
+      public removeBatch_args getEmptyArgsInstance() {
+        return new removeBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public removeBatch_result getResult(I iface, removeBatch_args args) throws org.apache.thrift.TException {
+        removeBatch_result result = new removeBatch_result();
+        result.success = iface.removeBatch(args.ids, args.recursive);
+        return result;
+      }
+    }
+
     public static class rename<I extends Iface> extends org.apache.thrift.ProcessFunction<I, rename_args> {
       public rename() {
         super("rename");
@@ -1753,12 +2115,15 @@ public class FileSystemMasterClientService {
 
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("completeFile", new completeFile());
+      processMap.put("completeFileBatch", new completeFileBatch());
       processMap.put("create", new create());
+      processMap.put("createBatch", new createBatch());
       processMap.put("free", new free());
       processMap.put("getFileBlockInfo", new getFileBlockInfo());
       processMap.put("getFileBlockInfoList", new getFileBlockInfoList());
       processMap.put("getFileId", new getFileId());
       processMap.put("getFileInfo", new getFileInfo());
+      processMap.put("getFileInfoBatch", new getFileInfoBatch());
       processMap.put("getFileInfoList", new getFileInfoList());
       processMap.put("getNewBlockIdForFile", new getNewBlockIdForFile());
       processMap.put("getUfsAddress", new getUfsAddress());
@@ -1766,6 +2131,7 @@ public class FileSystemMasterClientService {
       processMap.put("mkdir", new mkdir());
       processMap.put("mount", new mount());
       processMap.put("remove", new remove());
+      processMap.put("removeBatch", new removeBatch());
       processMap.put("rename", new rename());
       processMap.put("setState", new setState());
       processMap.put("unmount", new unmount());
@@ -1828,6 +2194,57 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class completeFileBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, completeFileBatch_args, List<FileOperationResult>> {
+      public completeFileBatch() {
+        super("completeFileBatch");
+      }
+
+      public completeFileBatch_args getEmptyArgsInstance() {
+        return new completeFileBatch_args();
+      }
+
+      public AsyncMethodCallback<List<FileOperationResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<FileOperationResult>>() { 
+          public void onComplete(List<FileOperationResult> o) {
+            completeFileBatch_result result = new completeFileBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            completeFileBatch_result result = new completeFileBatch_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, completeFileBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileOperationResult>> resultHandler) throws TException {
+        iface.completeFileBatch(args.fileIds, args.options,resultHandler);
+      }
+    }
+
     public static class create<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, create_args, Long> {
       public create() {
         super("create");
@@ -1891,9 +2308,60 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public static class free<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, free_args, Boolean> {
-      public free() {
-        super("free");
+    public static class createBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createBatch_args, List<FileOperationResult>> {
+      public createBatch() {
+        super("createBatch");
+      }
+
+      public createBatch_args getEmptyArgsInstance() {
+        return new createBatch_args();
+      }
+
+      public AsyncMethodCallback<List<FileOperationResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<FileOperationResult>>() { 
+          public void onComplete(List<FileOperationResult> o) {
+            createBatch_result result = new createBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            createBatch_result result = new createBatch_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, createBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileOperationResult>> resultHandler) throws TException {
+        iface.createBatch(args.paths, args.options,resultHandler);
+      }
+    }
+
+    public static class free<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, free_args, Boolean> {
+      public free() {
+        super("free");
       }
 
       public free_args getEmptyArgsInstance() {
@@ -2059,7 +2527,7 @@ public class FileSystemMasterClientService {
       }
 
       public void start(I iface, getFileBlockInfoList_args args, org.apache.thrift.async.AsyncMethodCallback<List<tachyon.thrift.FileBlockInfo>> resultHandler) throws TException {
-        iface.getFileBlockInfoList(args.fileId,resultHandler);
+        iface.getFileBlockInfoList(args.fileId, args.skipUfsLocations,resultHandler);
       }
     }
 
@@ -2172,6 +2640,57 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class getFileInfoBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getFileInfoBatch_args, List<FileOperationResult>> {
+      public getFileInfoBatch() {
+        super("getFileInfoBatch");
+      }
+
+      public getFileInfoBatch_args getEmptyArgsInstance() {
+        return new getFileInfoBatch_args();
+      }
+
+      public AsyncMethodCallback<List<FileOperationResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<FileOperationResult>>() { 
+          public void onComplete(List<FileOperationResult> o) {
+            getFileInfoBatch_result result = new getFileInfoBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getFileInfoBatch_result result = new getFileInfoBatch_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getFileInfoBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileOperationResult>> resultHandler) throws TException {
+        iface.getFileInfoBatch(args.fileIds,resultHandler);
+      }
+    }
+
     public static class getFileInfoList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getFileInfoList_args, List<FileInfo>> {
       public getFileInfoList() {
         super("getFileInfoList");
@@ -2585,6 +3104,57 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class removeBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeBatch_args, List<FileOperationResult>> {
+      public removeBatch() {
+        super("removeBatch");
+      }
+
+      public removeBatch_args getEmptyArgsInstance() {
+        return new removeBatch_args();
+      }
+
+      public AsyncMethodCallback<List<FileOperationResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<FileOperationResult>>() { 
+          public void onComplete(List<FileOperationResult> o) {
+            removeBatch_result result = new removeBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            removeBatch_result result = new removeBatch_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, removeBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileOperationResult>> resultHandler) throws TException {
+        iface.removeBatch(args.ids, args.recursive,resultHandler);
+      }
+    }
+
     public static class rename<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, rename_args, Boolean> {
       public rename() {
         super("rename");
@@ -3619,35 +4189,35 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class create_args implements org.apache.thrift.TBase<create_args, create_args._Fields>, java.io.Serializable, Cloneable, Comparable<create_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("create_args");
+  public static class completeFileBatch_args implements org.apache.thrift.TBase<completeFileBatch_args, completeFileBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeFileBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFileBatch_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField FILE_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("fileIds", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new create_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new create_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completeFileBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFileBatch_argsTupleSchemeFactory());
     }
 
     /**
-     * the path of the file
+     * the ids of the files
      */
-    public String path; // required
+    public List<Long> fileIds; // required
     /**
-     * the options for completing the file
+     * the method options, one per file
      */
-    public CreateTOptions options; // required
+    public List<CompleteFileTOptions> options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file
+       * the ids of the files
        */
-      PATH((short)1, "path"),
+      FILE_IDS((short)1, "fileIds"),
       /**
-       * the options for completing the file
+       * the method options, one per file
        */
       OPTIONS((short)2, "options");
 
@@ -3664,8 +4234,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
+          case 1: // FILE_IDS
+            return FILE_IDS;
           case 2: // OPTIONS
             return OPTIONS;
           default:
@@ -3711,89 +4281,126 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.FILE_IDS, new org.apache.thrift.meta_data.FieldMetaData("fileIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateTOptions.class)));
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTOptions.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(create_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFileBatch_args.class, metaDataMap);
     }
 
-    public create_args() {
+    public completeFileBatch_args() {
     }
 
-    public create_args(
-      String path,
-      CreateTOptions options)
+    public completeFileBatch_args(
+      List<Long> fileIds,
+      List<CompleteFileTOptions> options)
     {
       this();
-      this.path = path;
+      this.fileIds = fileIds;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public create_args(create_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public completeFileBatch_args(completeFileBatch_args other) {
+      if (other.isSetFileIds()) {
+        List<Long> __this__fileIds = new ArrayList<Long>(other.fileIds);
+        this.fileIds = __this__fileIds;
       }
       if (other.isSetOptions()) {
-        this.options = new CreateTOptions(other.options);
+        List<CompleteFileTOptions> __this__options = new ArrayList<CompleteFileTOptions>(other.options.size());
+        for (CompleteFileTOptions other_element : other.options) {
+          __this__options.add(new CompleteFileTOptions(other_element));
+        }
+        this.options = __this__options;
       }
     }
 
-    public create_args deepCopy() {
-      return new create_args(this);
+    public completeFileBatch_args deepCopy() {
+      return new completeFileBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
+      this.fileIds = null;
       this.options = null;
     }
 
+    public int getFileIdsSize() {
+      return (this.fileIds == null) ? 0 : this.fileIds.size();
+    }
+
+    public java.util.Iterator<Long> getFileIdsIterator() {
+      return (this.fileIds == null) ? null : this.fileIds.iterator();
+    }
+
+    public void addToFileIds(long elem) {
+      if (this.fileIds == null) {
+        this.fileIds = new ArrayList<Long>();
+      }
+      this.fileIds.add(elem);
+    }
+
     /**
-     * the path of the file
+     * the ids of the files
      */
-    public String getPath() {
-      return this.path;
+    public List<Long> getFileIds() {
+      return this.fileIds;
     }
 
     /**
-     * the path of the file
+     * the ids of the files
      */
-    public create_args setPath(String path) {
-      this.path = path;
+    public completeFileBatch_args setFileIds(List<Long> fileIds) {
+      this.fileIds = fileIds;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetFileIds() {
+      this.fileIds = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field fileIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileIds() {
+      return this.fileIds != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setFileIdsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.fileIds = null;
+      }
+    }
+
+    public int getOptionsSize() {
+      return (this.options == null) ? 0 : this.options.size();
+    }
+
+    public java.util.Iterator<CompleteFileTOptions> getOptionsIterator() {
+      return (this.options == null) ? null : this.options.iterator();
+    }
+
+    public void addToOptions(CompleteFileTOptions elem) {
+      if (this.options == null) {
+        this.options = new ArrayList<CompleteFileTOptions>();
       }
+      this.options.add(elem);
     }
 
     /**
-     * the options for completing the file
+     * the method options, one per file
      */
-    public CreateTOptions getOptions() {
+    public List<CompleteFileTOptions> getOptions() {
       return this.options;
     }
 
     /**
-     * the options for completing the file
+     * the method options, one per file
      */
-    public create_args setOptions(CreateTOptions options) {
+    public completeFileBatch_args setOptions(List<CompleteFileTOptions> options) {
       this.options = options;
       return this;
     }
@@ -3815,11 +4422,11 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case FILE_IDS:
         if (value == null) {
-          unsetPath();
+          unsetFileIds();
         } else {
-          setPath((String)value);
+          setFileIds((List<Long>)value);
         }
         break;
 
@@ -3827,7 +4434,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CreateTOptions)value);
+          setOptions((List<CompleteFileTOptions>)value);
         }
         break;
 
@@ -3836,8 +4443,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case FILE_IDS:
+        return getFileIds();
 
       case OPTIONS:
         return getOptions();
@@ -3853,8 +4460,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
+      case FILE_IDS:
+        return isSetFileIds();
       case OPTIONS:
         return isSetOptions();
       }
@@ -3865,21 +4472,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof create_args)
-        return this.equals((create_args)that);
+      if (that instanceof completeFileBatch_args)
+        return this.equals((completeFileBatch_args)that);
       return false;
     }
 
-    public boolean equals(create_args that) {
+    public boolean equals(completeFileBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_fileIds = true && this.isSetFileIds();
+      boolean that_present_fileIds = true && that.isSetFileIds();
+      if (this_present_fileIds || that_present_fileIds) {
+        if (!(this_present_fileIds && that_present_fileIds))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.fileIds.equals(that.fileIds))
           return false;
       }
 
@@ -3899,10 +4506,10 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_fileIds = true && (isSetFileIds());
+      list.add(present_fileIds);
+      if (present_fileIds)
+        list.add(fileIds);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -3913,19 +4520,19 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(create_args other) {
+    public int compareTo(completeFileBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetFileIds()).compareTo(other.isSetFileIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetFileIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileIds, other.fileIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3957,14 +4564,14 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("create_args(");
+      StringBuilder sb = new StringBuilder("completeFileBatch_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("fileIds:");
+      if (this.fileIds == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.fileIds);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -3982,9 +4589,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (options != null) {
-        options.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4003,15 +4607,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class create_argsStandardSchemeFactory implements SchemeFactory {
-      public create_argsStandardScheme getScheme() {
-        return new create_argsStandardScheme();
+    private static class completeFileBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public completeFileBatch_argsStandardScheme getScheme() {
+        return new completeFileBatch_argsStandardScheme();
       }
     }
 
-    private static class create_argsStandardScheme extends StandardScheme<create_args> {
+    private static class completeFileBatch_argsStandardScheme extends StandardScheme<completeFileBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, create_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFileBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4021,18 +4625,38 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // FILE_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.fileIds = new ArrayList<Long>(_list24.size);
+                  long _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = iprot.readI64();
+                    struct.fileIds.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFileIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
             case 2: // OPTIONS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CreateTOptions();
-                struct.options.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list27 = iprot.readListBegin();
+                  struct.options = new ArrayList<CompleteFileTOptions>(_list27.size);
+                  CompleteFileTOptions _elem28;
+                  for (int _i29 = 0; _i29 < _list27.size; ++_i29)
+                  {
+                    _elem28 = new CompleteFileTOptions();
+                    _elem28.read(iprot);
+                    struct.options.add(_elem28);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setOptionsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -4049,18 +4673,32 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, create_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFileBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.fileIds != null) {
+          oprot.writeFieldBegin(FILE_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.fileIds.size()));
+            for (long _iter30 : struct.fileIds)
+            {
+              oprot.writeI64(_iter30);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.options != null) {
           oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
-          struct.options.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.options.size()));
+            for (CompleteFileTOptions _iter31 : struct.options)
+            {
+              _iter31.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -4069,44 +4707,74 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class create_argsTupleSchemeFactory implements SchemeFactory {
-      public create_argsTupleScheme getScheme() {
-        return new create_argsTupleScheme();
+    private static class completeFileBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public completeFileBatch_argsTupleScheme getScheme() {
+        return new completeFileBatch_argsTupleScheme();
       }
     }
 
-    private static class create_argsTupleScheme extends TupleScheme<create_args> {
+    private static class completeFileBatch_argsTupleScheme extends TupleScheme<completeFileBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, create_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFileBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetFileIds()) {
           optionals.set(0);
         }
         if (struct.isSetOptions()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetFileIds()) {
+          {
+            oprot.writeI32(struct.fileIds.size());
+            for (long _iter32 : struct.fileIds)
+            {
+              oprot.writeI64(_iter32);
+            }
+          }
         }
         if (struct.isSetOptions()) {
-          struct.options.write(oprot);
+          {
+            oprot.writeI32(struct.options.size());
+            for (CompleteFileTOptions _iter33 : struct.options)
+            {
+              _iter33.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, create_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFileBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list34 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.fileIds = new ArrayList<Long>(_list34.size);
+            long _elem35;
+            for (int _i36 = 0; _i36 < _list34.size; ++_i36)
+            {
+              _elem35 = iprot.readI64();
+              struct.fileIds.add(_elem35);
+            }
+          }
+          struct.setFileIdsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CreateTOptions();
-          struct.options.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.options = new ArrayList<CompleteFileTOptions>(_list37.size);
+            CompleteFileTOptions _elem38;
+            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            {
+              _elem38 = new CompleteFileTOptions();
+              _elem38.read(iprot);
+              struct.options.add(_elem38);
+            }
+          }
           struct.setOptionsIsSet(true);
         }
       }
@@ -4114,28 +4782,22 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class create_result implements org.apache.thrift.TBase<create_result, create_result._Fields>, java.io.Serializable, Cloneable, Comparable<create_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("create_result");
+  public static class completeFileBatch_result implements org.apache.thrift.TBase<completeFileBatch_result, completeFileBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeFileBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFileBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new create_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new create_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completeFileBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFileBatch_resultTupleSchemeFactory());
     }
 
-    public long success; // required
-    public tachyon.thrift.TachyonTException e; // required
-    public tachyon.thrift.ThriftIOException ioe; // required
+    public List<FileOperationResult> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e"),
-      IOE((short)2, "ioe");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4152,10 +4814,6 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
-          case 2: // IOE
-            return IOE;
           default:
             return null;
         }
@@ -4196,130 +4854,84 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperationResult.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(create_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFileBatch_result.class, metaDataMap);
     }
 
-    public create_result() {
+    public completeFileBatch_result() {
     }
 
-    public create_result(
-      long success,
-      tachyon.thrift.TachyonTException e,
-      tachyon.thrift.ThriftIOException ioe)
+    public completeFileBatch_result(
+      List<FileOperationResult> success)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
-      this.e = e;
-      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public create_result(create_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetE()) {
-        this.e = new tachyon.thrift.TachyonTException(other.e);
-      }
-      if (other.isSetIoe()) {
-        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
+    public completeFileBatch_result(completeFileBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<FileOperationResult> __this__success = new ArrayList<FileOperationResult>(other.success.size());
+        for (FileOperationResult other_element : other.success) {
+          __this__success.add(new FileOperationResult(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public create_result deepCopy() {
-      return new create_result(this);
+    public completeFileBatch_result deepCopy() {
+      return new completeFileBatch_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
-      this.e = null;
-      this.ioe = null;
-    }
-
-    public long getSuccess() {
-      return this.success;
-    }
-
-    public create_result setSuccess(long success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
-    public tachyon.thrift.TachyonTException getE() {
-      return this.e;
-    }
-
-    public create_result setE(tachyon.thrift.TachyonTException e) {
-      this.e = e;
-      return this;
+      this.success = null;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    public java.util.Iterator<FileOperationResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void setEIsSet(boolean value) {
-      if (!value) {
-        this.e = null;
+    public void addToSuccess(FileOperationResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileOperationResult>();
       }
+      this.success.add(elem);
     }
 
-    public tachyon.thrift.ThriftIOException getIoe() {
-      return this.ioe;
+    public List<FileOperationResult> getSuccess() {
+      return this.success;
     }
 
-    public create_result setIoe(tachyon.thrift.ThriftIOException ioe) {
-      this.ioe = ioe;
+    public completeFileBatch_result setSuccess(List<FileOperationResult> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetIoe() {
-      this.ioe = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
-    public boolean isSetIoe() {
-      return this.ioe != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setIoeIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.ioe = null;
+        this.success = null;
       }
     }
 
@@ -4329,23 +4941,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
-        }
-        break;
-
-      case E:
-        if (value == null) {
-          unsetE();
-        } else {
-          setE((tachyon.thrift.TachyonTException)value);
-        }
-        break;
-
-      case IOE:
-        if (value == null) {
-          unsetIoe();
-        } else {
-          setIoe((tachyon.thrift.ThriftIOException)value);
+          setSuccess((List<FileOperationResult>)value);
         }
         break;
 
@@ -4355,13 +4951,7 @@ public class FileSystemMasterClientService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Long.valueOf(getSuccess());
-
-      case E:
-        return getE();
-
-      case IOE:
-        return getIoe();
+        return getSuccess();
 
       }
       throw new IllegalStateException();
@@ -4376,10 +4966,6 @@ public class FileSystemMasterClientService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
-      case IOE:
-        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -4388,39 +4974,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof create_result)
-        return this.equals((create_result)that);
+      if (that instanceof completeFileBatch_result)
+        return this.equals((completeFileBatch_result)that);
       return false;
     }
 
-    public boolean equals(create_result that) {
+    public boolean equals(completeFileBatch_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
-          return false;
-      }
-
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
-          return false;
-        if (!this.e.equals(that.e))
-          return false;
-      }
-
-      boolean this_present_ioe = true && this.isSetIoe();
-      boolean that_present_ioe = true && that.isSetIoe();
-      if (this_present_ioe || that_present_ioe) {
-        if (!(this_present_ioe && that_present_ioe))
-          return false;
-        if (!this.ioe.equals(that.ioe))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -4431,26 +4999,16 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
+      boolean present_success = true && (isSetSuccess());
       list.add(present_success);
       if (present_success)
         list.add(success);
 
-      boolean present_e = true && (isSetE());
-      list.add(present_e);
-      if (present_e)
-        list.add(e);
-
-      boolean present_ioe = true && (isSetIoe());
-      list.add(present_ioe);
-      if (present_ioe)
-        list.add(ioe);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(create_result other) {
+    public int compareTo(completeFileBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4467,26 +5025,6 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetIoe()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -4500,30 +5038,18 @@ public class FileSystemMasterClientService {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-      }
+        }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("create_result(");
+      StringBuilder sb = new StringBuilder("completeFileBatch_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.e);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("ioe:");
-      if (this.ioe == null) {
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.ioe);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -4545,23 +5071,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class create_resultStandardSchemeFactory implements SchemeFactory {
-      public create_resultStandardScheme getScheme() {
-        return new create_resultStandardScheme();
+    private static class completeFileBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public completeFileBatch_resultStandardScheme getScheme() {
+        return new completeFileBatch_resultStandardScheme();
       }
     }
 
-    private static class create_resultStandardScheme extends StandardScheme<create_result> {
+    private static class completeFileBatch_resultStandardScheme extends StandardScheme<completeFileBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, create_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFileBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4572,31 +5096,24 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileOperationResult>(_list40.size);
+                  FileOperationResult _elem41;
+                  for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+                  {
+                    _elem41 = new FileOperationResult();
+                    _elem41.read(iprot);
+                    struct.success.add(_elem41);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new tachyon.thrift.TachyonTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // IOE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ioe = new tachyon.thrift.ThriftIOException();
-                struct.ioe.read(iprot);
-                struct.setIoeIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -4608,23 +5125,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, create_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFileBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.ioe != null) {
-          oprot.writeFieldBegin(IOE_FIELD_DESC);
-          struct.ioe.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileOperationResult _iter43 : struct.success)
+            {
+              _iter43.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -4633,93 +5147,87 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class create_resultTupleSchemeFactory implements SchemeFactory {
-      public create_resultTupleScheme getScheme() {
-        return new create_resultTupleScheme();
+    private static class completeFileBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public completeFileBatch_resultTupleScheme getScheme() {
+        return new completeFileBatch_resultTupleScheme();
       }
     }
 
-    private static class create_resultTupleScheme extends TupleScheme<create_result> {
+    private static class completeFileBatch_resultTupleScheme extends TupleScheme<completeFileBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, create_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFileBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        if (struct.isSetIoe()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
-        }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
-        }
-        if (struct.isSetIoe()) {
-          struct.ioe.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileOperationResult _iter44 : struct.success)
+            {
+              _iter44.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, create_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFileBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          {
+            org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileOperationResult>(_list45.size);
+            FileOperationResult _elem46;
+            for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+            {
+              _elem46 = new FileOperationResult();
+              _elem46.read(iprot);
+              struct.success.add(_elem46);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.e = new tachyon.thrift.TachyonTException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.ioe = new tachyon.thrift.ThriftIOException();
-          struct.ioe.read(iprot);
-          struct.setIoeIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class free_args implements org.apache.thrift.TBase<free_args, free_args._Fields>, java.io.Serializable, Cloneable, Comparable<free_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_args");
+  public static class create_args implements org.apache.thrift.TBase<create_args, create_args._Fields>, java.io.Serializable, Cloneable, Comparable<create_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("create_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new free_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new free_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new create_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new create_argsTupleSchemeFactory());
     }
 
     /**
-     * the id of the file
+     * the path of the file
      */
-    public long fileId; // required
+    public String path; // required
     /**
-     * whether to free recursively
+     * the options for completing the file
      */
-    public boolean recursive; // required
+    public CreateTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the id of the file
+       * the path of the file
        */
-      FILE_ID((short)1, "fileId"),
+      PATH((short)1, "path"),
       /**
-       * whether to free recursively
+       * the options for completing the file
        */
-      RECURSIVE((short)2, "recursive");
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4734,10 +5242,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
-          case 2: // RECURSIVE
-            return RECURSIVE;
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
           default:
             return null;
         }
@@ -4778,128 +5286,126 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private static final int __RECURSIVE_ISSET_ID = 1;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(create_args.class, metaDataMap);
     }
 
-    public free_args() {
+    public create_args() {
     }
 
-    public free_args(
-      long fileId,
-      boolean recursive)
+    public create_args(
+      String path,
+      CreateTOptions options)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+      this.path = path;
+      this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public free_args(free_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
-      this.recursive = other.recursive;
+    public create_args(create_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CreateTOptions(other.options);
+      }
     }
 
-    public free_args deepCopy() {
-      return new free_args(this);
+    public create_args deepCopy() {
+      return new create_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
-      setRecursiveIsSet(false);
-      this.recursive = false;
+      this.path = null;
+      this.options = null;
     }
 
     /**
-     * the id of the file
+     * the path of the file
      */
-    public long getFileId() {
-      return this.fileId;
+    public String getPath() {
+      return this.path;
     }
 
     /**
-     * the id of the file
+     * the path of the file
      */
-    public free_args setFileId(long fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public create_args setPath(String path) {
+      this.path = path;
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetPath() {
+      this.path = null;
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
     }
 
     /**
-     * whether to free recursively
+     * the options for completing the file
      */
-    public boolean isRecursive() {
-      return this.recursive;
+    public CreateTOptions getOptions() {
+      return this.options;
     }
 
     /**
-     * whether to free recursively
+     * the options for completing the file
      */
-    public free_args setRecursive(boolean recursive) {
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+    public create_args setOptions(CreateTOptions options) {
+      this.options = options;
       return this;
     }
 
-    public void unsetRecursive() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    public void unsetOptions() {
+      this.options = null;
     }
 
-    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
-    public boolean isSetRecursive() {
-      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
     }
 
-    public void setRecursiveIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case PATH:
         if (value == null) {
-          unsetFileId();
+          unsetPath();
         } else {
-          setFileId((Long)value);
+          setPath((String)value);
         }
         break;
 
-      case RECURSIVE:
+      case OPTIONS:
         if (value == null) {
-          unsetRecursive();
+          unsetOptions();
         } else {
-          setRecursive((Boolean)value);
+          setOptions((CreateTOptions)value);
         }
         break;
 
@@ -4908,11 +5414,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Long.valueOf(getFileId());
+      case PATH:
+        return getPath();
 
-      case RECURSIVE:
-        return Boolean.valueOf(isRecursive());
+      case OPTIONS:
+        return getOptions();
 
       }
       throw new IllegalStateException();
@@ -4925,10 +5431,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
-      case RECURSIVE:
-        return isSetRecursive();
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -4937,30 +5443,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof free_args)
-        return this.equals((free_args)that);
+      if (that instanceof create_args)
+        return this.equals((create_args)that);
       return false;
     }
 
-    public boolean equals(free_args that) {
+    public boolean equals(create_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
           return false;
-        if (this.fileId != that.fileId)
+        if (!this.path.equals(that.path))
           return false;
       }
 
-      boolean this_present_recursive = true;
-      boolean that_present_recursive = true;
-      if (this_present_recursive || that_present_recursive) {
-        if (!(this_present_recursive && that_present_recursive))
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
           return false;
-        if (this.recursive != that.recursive)
+        if (!this.options.equals(that.options))
           return false;
       }
 
@@ -4971,43 +5477,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_fileId = true;
-      list.add(present_fileId);
-      if (present_fileId)
-        list.add(fileId);
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
 
-      boolean present_recursive = true;
-      list.add(present_recursive);
-      if (present_recursive)
-        list.add(recursive);
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(free_args other) {
+    public int compareTo(create_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRecursive()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5029,15 +5535,23 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("free_args(");
+      StringBuilder sb = new StringBuilder("create_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("recursive:");
-      sb.append(this.recursive);
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -5046,6 +5560,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -5058,23 +5575,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class free_argsStandardSchemeFactory implements SchemeFactory {
-      public free_argsStandardScheme getScheme() {
-        return new free_argsStandardScheme();
+    private static class create_argsStandardSchemeFactory implements SchemeFactory {
+      public create_argsStandardScheme getScheme() {
+        return new create_argsStandardScheme();
       }
     }
 
-    private static class free_argsStandardScheme extends StandardScheme<free_args> {
+    private static class create_argsStandardScheme extends StandardScheme<create_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, free_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, create_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5084,18 +5599,19 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.fileId = iprot.readI64();
-                struct.setFileIdIsSet(true);
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // RECURSIVE
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.recursive = iprot.readBool();
-                struct.setRecursiveIsSet(true);
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CreateTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5111,85 +5627,93 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, free_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, create_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI64(struct.fileId);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
-        oprot.writeBool(struct.recursive);
-        oprot.writeFieldEnd();
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class free_argsTupleSchemeFactory implements SchemeFactory {
-      public free_argsTupleScheme getScheme() {
-        return new free_argsTupleScheme();
+    private static class create_argsTupleSchemeFactory implements SchemeFactory {
+      public create_argsTupleScheme getScheme() {
+        return new create_argsTupleScheme();
       }
     }
 
-    private static class free_argsTupleScheme extends TupleScheme<free_args> {
+    private static class create_argsTupleScheme extends TupleScheme<create_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, create_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetRecursive()) {
+        if (struct.isSetOptions()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetFileId()) {
-          oprot.writeI64(struct.fileId);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
         }
-        if (struct.isSetRecursive()) {
-          oprot.writeBool(struct.recursive);
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, create_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI64();
-          struct.setFileIdIsSet(true);
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.recursive = iprot.readBool();
-          struct.setRecursiveIsSet(true);
+          struct.options = new CreateTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class free_result implements org.apache.thrift.TBase<free_result, free_result._Fields>, java.io.Serializable, Cloneable, Comparable<free_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_result");
+  public static class create_result implements org.apache.thrift.TBase<create_result, create_result._Fields>, java.io.Serializable, Cloneable, Comparable<create_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("create_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new free_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new free_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new create_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new create_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
+    public long success; // required
     public tachyon.thrift.TachyonTException e; // required
+    public tachyon.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5208,6 +5732,8 @@ public class FileSystemMasterClientService {
             return SUCCESS;
           case 1: // E
             return E;
+          case 2: // IOE
+            return IOE;
           default:
             return null;
         }
@@ -5254,53 +5780,61 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(create_result.class, metaDataMap);
     }
 
-    public free_result() {
+    public create_result() {
     }
 
-    public free_result(
-      boolean success,
-      tachyon.thrift.TachyonTException e)
+    public create_result(
+      long success,
+      tachyon.thrift.TachyonTException e,
+      tachyon.thrift.ThriftIOException ioe)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
       this.e = e;
+      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public free_result(free_result other) {
+    public create_result(create_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
+      if (other.isSetIoe()) {
+        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
+      }
     }
 
-    public free_result deepCopy() {
-      return new free_result(this);
+    public create_result deepCopy() {
+      return new create_result(this);
     }
 
     @Override
     public void clear() {
       setSuccessIsSet(false);
-      this.success = false;
+      this.success = 0;
       this.e = null;
+      this.ioe = null;
     }
 
-    public boolean isSuccess() {
+    public long getSuccess() {
       return this.success;
     }
 
-    public free_result setSuccess(boolean success) {
+    public create_result setSuccess(long success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -5323,7 +5857,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public free_result setE(tachyon.thrift.TachyonTException e) {
+    public create_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -5343,13 +5877,37 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public tachyon.thrift.ThriftIOException getIoe() {
+      return this.ioe;
+    }
+
+    public create_result setIoe(tachyon.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
+      return this;
+    }
+
+    public void unsetIoe() {
+      this.ioe = null;
+    }
+
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
+    }
+
+    public void setIoeIsSet(boolean value) {
+      if (!value) {
+        this.ioe = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
+          setSuccess((Long)value);
         }
         break;
 
@@ -5361,19 +5919,30 @@ public class FileSystemMasterClientService {
         }
         break;
 
+      case IOE:
+        if (value == null) {
+          unsetIoe();
+        } else {
+          setIoe((tachyon.thrift.ThriftIOException)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
+        return Long.valueOf(getSuccess());
 
       case E:
         return getE();
 
-      }
-      throw new IllegalStateException();
+      case IOE:
+        return getIoe();
+
+      }
+      throw new IllegalStateException();
     }
 
     /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
@@ -5387,6 +5956,8 @@ public class FileSystemMasterClientService {
         return isSetSuccess();
       case E:
         return isSetE();
+      case IOE:
+        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -5395,12 +5966,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof free_result)
-        return this.equals((free_result)that);
+      if (that instanceof create_result)
+        return this.equals((create_result)that);
       return false;
     }
 
-    public boolean equals(free_result that) {
+    public boolean equals(create_result that) {
       if (that == null)
         return false;
 
@@ -5422,6 +5993,15 @@ public class FileSystemMasterClientService {
           return false;
       }
 
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
+          return false;
+      }
+
       return true;
     }
 
@@ -5439,11 +6019,16 @@ public class FileSystemMasterClientService {
       if (present_e)
         list.add(e);
 
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(free_result other) {
+    public int compareTo(create_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5470,6 +6055,16 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -5487,7 +6082,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("free_result(");
+      StringBuilder sb = new StringBuilder("create_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -5501,6 +6096,14 @@ public class FileSystemMasterClientService {
         sb.append(this.e);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("ioe:");
+      if (this.ioe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ioe);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5528,15 +6131,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class free_resultStandardSchemeFactory implements SchemeFactory {
-      public free_resultStandardScheme getScheme() {
-        return new free_resultStandardScheme();
+    private static class create_resultStandardSchemeFactory implements SchemeFactory {
+      public create_resultStandardScheme getScheme() {
+        return new create_resultStandardScheme();
       }
     }
 
-    private static class free_resultStandardScheme extends StandardScheme<free_result> {
+    private static class create_resultStandardScheme extends StandardScheme<create_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, free_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, create_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5547,8 +6150,8 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -5563,6 +6166,15 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new tachyon.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -5574,13 +6186,13 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, free_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, create_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
+          oprot.writeI64(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -5588,22 +6200,27 @@ public class FileSystemMasterClientService {
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class free_resultTupleSchemeFactory implements SchemeFactory {
-      public free_resultTupleScheme getScheme() {
-        return new free_resultTupleScheme();
+    private static class create_resultTupleSchemeFactory implements SchemeFactory {
+      public create_resultTupleScheme getScheme() {
+        return new create_resultTupleScheme();
       }
     }
 
-    private static class free_resultTupleScheme extends TupleScheme<free_result> {
+    private static class create_resultTupleScheme extends TupleScheme<create_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, create_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -5612,21 +6229,27 @@ public class FileSystemMasterClientService {
         if (struct.isSetE()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIoe()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          oprot.writeI64(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, create_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          struct.success = iprot.readI64();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -5634,42 +6257,47 @@ public class FileSystemMasterClientService {
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.ioe = new tachyon.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getFileBlockInfo_args implements org.apache.thrift.TBase<getFileBlockInfo_args, getFileBlockInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfo_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfo_args");
+  public static class createBatch_args implements org.apache.thrift.TBase<createBatch_args, createBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<createBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField FILE_BLOCK_INDEX_FIELD_DESC = new org.apache.thrift.protocol.TField("fileBlockIndex", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileBlockInfo_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileBlockInfo_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new createBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createBatch_argsTupleSchemeFactory());
     }
 
     /**
-     * the id of the file
+     * the paths of the files
      */
-    public long fileId; // required
+    public List<String> paths; // required
     /**
-     * the index of the file block
+     * the method options, one per file
      */
-    public int fileBlockIndex; // required
+    public List<CreateTOptions> options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the id of the file
+       * the paths of the files
        */
-      FILE_ID((short)1, "fileId"),
+      PATHS((short)1, "paths"),
       /**
-       * the index of the file block
+       * the method options, one per file
        */
-      FILE_BLOCK_INDEX((short)2, "fileBlockIndex");
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5684,10 +6312,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
-          case 2: // FILE_BLOCK_INDEX
-            return FILE_BLOCK_INDEX;
+          case 1: // PATHS
+            return PATHS;
+          case 2: // OPTIONS
+            return OPTIONS;
           default:
             return null;
         }
@@ -5728,128 +6356,163 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private static final int __FILEBLOCKINDEX_ISSET_ID = 1;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.FILE_BLOCK_INDEX, new org.apache.thrift.meta_data.FieldMetaData("fileBlockIndex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateTOptions.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfo_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createBatch_args.class, metaDataMap);
     }
 
-    public getFileBlockInfo_args() {
+    public createBatch_args() {
     }
 
-    public getFileBlockInfo_args(
-      long fileId,
-      int fileBlockIndex)
+    public createBatch_args(
+      List<String> paths,
+      List<CreateTOptions> options)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      this.fileBlockIndex = fileBlockIndex;
-      setFileBlockIndexIsSet(true);
+      this.paths = paths;
+      this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileBlockInfo_args(getFileBlockInfo_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
-      this.fileBlockIndex = other.fileBlockIndex;
+    public createBatch_args(createBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
+      if (other.isSetOptions()) {
+        List<CreateTOptions> __this__options = new ArrayList<CreateTOptions>(other.options.size());
+        for (CreateTOptions other_element : other.options) {
+          __this__options.add(new CreateTOptions(other_element));
+        }
+        this.options = __this__options;
+      }
     }
 
-    public getFileBlockInfo_args deepCopy() {
-      return new getFileBlockInfo_args(this);
+    public createBatch_args deepCopy() {
+      return new createBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
-      setFileBlockIndexIsSet(false);
-      this.fileBlockIndex = 0;
+      this.paths = null;
+      this.options = null;
+    }
+
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
+    }
+
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
     }
 
     /**
-     * the id of the file
+     * the paths of the files
      */
-    public long getFileId() {
-      return this.fileId;
+    public List<String> getPaths() {
+      return this.paths;
     }
 
     /**
-     * the id of the file
+     * the paths of the files
      */
-    public getFileBlockInfo_args setFileId(long fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public createBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
+      }
+    }
+
+    public int getOptionsSize() {
+      return (this.options == null) ? 0 : this.options.size();
+    }
+
+    public java.util.Iterator<CreateTOptions> getOptionsIterator() {
+      return (this.options == null) ? null : this.options.iterator();
+    }
+
+    public void addToOptions(CreateTOptions elem) {
+      if (this.options == null) {
+        this.options = new ArrayList<CreateTOptions>();
+      }
+      this.options.add(elem);
     }
 
     /**
-     * the index of the file block
+     * the method options, one per file
      */
-    public int getFileBlockIndex() {
-      return this.fileBlockIndex;
+    public List<CreateTOptions> getOptions() {
+      return this.options;
     }
 
     /**
-     * the index of the file block
+     * the method options, one per file
      */
-    public getFileBlockInfo_args setFileBlockIndex(int fileBlockIndex) {
-      this.fileBlockIndex = fileBlockIndex;
-      setFileBlockIndexIsSet(true);
+    public createBatch_args setOptions(List<CreateTOptions> options) {
+      this.options = options;
       return this;
     }
 
-    public void unsetFileBlockIndex() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEBLOCKINDEX_ISSET_ID);
+    public void unsetOptions() {
+      this.options = null;
     }
 
-    /** Returns true if field fileBlockIndex is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileBlockIndex() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEBLOCKINDEX_ISSET_ID);
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
     }
 
-    public void setFileBlockIndexIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEBLOCKINDEX_ISSET_ID, value);
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case PATHS:
         if (value == null) {
-          unsetFileId();
+          unsetPaths();
         } else {
-          setFileId((Long)value);
+          setPaths((List<String>)value);
         }
         break;
 
-      case FILE_BLOCK_INDEX:
+      case OPTIONS:
         if (value == null) {
-          unsetFileBlockIndex();
+          unsetOptions();
         } else {
-          setFileBlockIndex((Integer)value);
+          setOptions((List<CreateTOptions>)value);
         }
         break;
 
@@ -5858,11 +6521,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Long.valueOf(getFileId());
+      case PATHS:
+        return getPaths();
 
-      case FILE_BLOCK_INDEX:
-        return Integer.valueOf(getFileBlockIndex());
+      case OPTIONS:
+        return getOptions();
 
       }
       throw new IllegalStateException();
@@ -5875,10 +6538,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
-      case FILE_BLOCK_INDEX:
-        return isSetFileBlockIndex();
+      case PATHS:
+        return isSetPaths();
+      case OPTIONS:
+        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -5887,30 +6550,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileBlockInfo_args)
-        return this.equals((getFileBlockInfo_args)that);
+      if (that instanceof createBatch_args)
+        return this.equals((createBatch_args)that);
       return false;
     }
 
-    public boolean equals(getFileBlockInfo_args that) {
+    public boolean equals(createBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (this.fileId != that.fileId)
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
-      boolean this_present_fileBlockIndex = true;
-      boolean that_present_fileBlockIndex = true;
-      if (this_present_fileBlockIndex || that_present_fileBlockIndex) {
-        if (!(this_present_fileBlockIndex && that_present_fileBlockIndex))
-          return false;
-        if (this.fileBlockIndex != that.fileBlockIndex)
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
           return false;
       }
 
@@ -5921,43 +6584,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_fileId = true;
-      list.add(present_fileId);
-      if (present_fileId)
-        list.add(fileId);
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
 
-      boolean present_fileBlockIndex = true;
-      list.add(present_fileBlockIndex);
-      if (present_fileBlockIndex)
-        list.add(fileBlockIndex);
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getFileBlockInfo_args other) {
+    public int compareTo(createBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetFileBlockIndex()).compareTo(other.isSetFileBlockIndex());
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileBlockIndex()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileBlockIndex, other.fileBlockIndex);
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5979,15 +6642,23 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileBlockInfo_args(");
+      StringBuilder sb = new StringBuilder("createBatch_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("paths:");
+      if (this.paths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paths);
+      }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("fileBlockIndex:");
-      sb.append(this.fileBlockIndex);
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -6008,23 +6679,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFileBlockInfo_argsStandardSchemeFactory implements SchemeFactory {
-      public getFileBlockInfo_argsStandardScheme getScheme() {
-        return new getFileBlockInfo_argsStandardScheme();
+    private static class createBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public createBatch_argsStandardScheme getScheme() {
+        return new createBatch_argsStandardScheme();
       }
     }
 
-    private static class getFileBlockInfo_argsStandardScheme extends StandardScheme<getFileBlockInfo_args> {
+    private static class createBatch_argsStandardScheme extends StandardScheme<createBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6034,18 +6703,39 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.fileId = iprot.readI64();
-                struct.setFileIdIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list48.size);
+                  String _elem49;
+                  for (int _i50 = 0; _i50 < _list48.size; ++_i50)
+                  {
+                    _elem49 = iprot.readString();
+                    struct.paths.add(_elem49);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // FILE_BLOCK_INDEX
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileBlockIndex = iprot.readI32();
-                struct.setFileBlockIndexIsSet(true);
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list51 = iprot.readListBegin();
+                  struct.options = new ArrayList<CreateTOptions>(_list51.size);
+                  CreateTOptions _elem52;
+                  for (int _i53 = 0; _i53 < _list51.size; ++_i53)
+                  {
+                    _elem52 = new CreateTOptions();
+                    _elem52.read(iprot);
+                    struct.options.add(_elem52);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setOptionsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6061,85 +6751,131 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI64(struct.fileId);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(FILE_BLOCK_INDEX_FIELD_DESC);
-        oprot.writeI32(struct.fileBlockIndex);
-        oprot.writeFieldEnd();
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter54 : struct.paths)
+            {
+              oprot.writeString(_iter54);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.options.size()));
+            for (CreateTOptions _iter55 : struct.options)
+            {
+              _iter55.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFileBlockInfo_argsTupleSchemeFactory implements SchemeFactory {
-      public getFileBlockInfo_argsTupleScheme getScheme() {
-        return new getFileBlockInfo_argsTupleScheme();
+    private static class createBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public createBatch_argsTupleScheme getScheme() {
+        return new createBatch_argsTupleScheme();
       }
     }
 
-    private static class getFileBlockInfo_argsTupleScheme extends TupleScheme<getFileBlockInfo_args> {
+    private static class createBatch_argsTupleScheme extends TupleScheme<createBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, createBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetFileBlockIndex()) {
+        if (struct.isSetOptions()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetFileId()) {
-          oprot.writeI64(struct.fileId);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter56 : struct.paths)
+            {
+              oprot.writeString(_iter56);
+            }
+          }
         }
-        if (struct.isSetFileBlockIndex()) {
-          oprot.writeI32(struct.fileBlockIndex);
+        if (struct.isSetOptions()) {
+          {
+            oprot.writeI32(struct.options.size());
+            for (CreateTOptions _iter57 : struct.options)
+            {
+              _iter57.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, createBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI64();
-          struct.setFileIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list58 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list58.size);
+            String _elem59;
+            for (int _i60 = 0; _i60 < _list58.size; ++_i60)
+            {
+              _elem59 = iprot.readString();
+              struct.paths.add(_elem59);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.fileBlockIndex = iprot.readI32();
-          struct.setFileBlockIndexIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.options = new ArrayList<CreateTOptions>(_list61.size);
+            CreateTOptions _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = new CreateTOptions();
+              _elem62.read(iprot);
+              struct.options.add(_elem62);
+            }
+          }
+          struct.setOptionsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getFileBlockInfo_result implements org.apache.thrift.TBase<getFileBlockInfo_result, getFileBlockInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfo_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfo_result");
+  public static class createBatch_result implements org.apache.thrift.TBase<createBatch_result, createBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<createBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileBlockInfo_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileBlockInfo_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new createBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createBatch_resultTupleSchemeFactory());
     }
 
-    public tachyon.thrift.FileBlockInfo success; // required
-    public tachyon.thrift.TachyonTException e; // required
+    public List<FileOperationResult> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6156,8 +6892,6 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
           default:
             return null;
         }
@@ -6202,52 +6936,64 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, tachyon.thrift.FileBlockInfo.class)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperationResult.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfo_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createBatch_result.class, metaDataMap);
     }
 
-    public getFileBlockInfo_result() {
+    public createBatch_result() {
     }
 
-    public getFileBlockInfo_result(
-      tachyon.thrift.FileBlockInfo success,
-      tachyon.thrift.TachyonTException e)
+    public createBatch_result(
+      List<FileOperationResult> success)
     {
       this();
       this.success = success;
-      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileBlockInfo_result(getFileBlockInfo_result other) {
+    public createBatch_result(createBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new tachyon.thrift.FileBlockInfo(other.success);
-      }
-      if (other.isSetE()) {
-        this.e = new tachyon.thrift.TachyonTException(other.e);
+        List<FileOperationResult> __this__success = new ArrayList<FileOperationResult>(other.success.size());
+        for (FileOperationResult other_element : other.success) {
+          __this__success.add(new FileOperationResult(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public getFileBlockInfo_result deepCopy() {
-      return new getFileBlockInfo_result(this);
+    public createBatch_result deepCopy() {
+      return new createBatch_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
-      this.e = null;
     }
 
-    public tachyon.thrift.FileBlockInfo getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileOperationResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileOperationResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileOperationResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileOperationResult> getSuccess() {
       return this.success;
     }
 
-    public getFileBlockInfo_result setSuccess(tachyon.thrift.FileBlockInfo success) {
+    public createBatch_result setSuccess(List<FileOperationResult> success) {
       this.success = success;
       return this;
     }
@@ -6267,45 +7013,13 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public tachyon.thrift.TachyonTException getE() {
-      return this.e;
-    }
-
-    public getFileBlockInfo_result setE(tachyon.thrift.TachyonTException e) {
-      this.e = e;
-      return this;
-    }
-
-    public void unsetE() {
-      this.e = null;
-    }
-
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
-    }
-
-    public void setEIsSet(boolean value) {
-      if (!value) {
-        this.e = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((tachyon.thrift.FileBlockInfo)value);
-        }
-        break;
-
-      case E:
-        if (value == null) {
-          unsetE();
-        } else {
-          setE((tachyon.thrift.TachyonTException)value);
+          setSuccess((List<FileOperationResult>)value);
         }
         break;
 
@@ -6317,9 +7031,6 @@ public class FileSystemMasterClientService {
       case SUCCESS:
         return getSuccess();
 
-      case E:
-        return getE();
-
       }
       throw new IllegalStateException();
     }
@@ -6333,8 +7044,6 @@ public class FileSystemMasterClientService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -6343,12 +7052,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileBlockInfo_result)
-        return this.equals((getFileBlockInfo_result)that);
+      if (that instanceof createBatch_result)
+        return this.equals((createBatch_result)that);
       return false;
     }
 
-    public boolean equals(getFileBlockInfo_result that) {
+    public boolean equals(createBatch_result that) {
       if (that == null)
         return false;
 
@@ -6361,15 +7070,6 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
-          return false;
-        if (!this.e.equals(that.e))
-          return false;
-      }
-
       return true;
     }
 
@@ -6382,16 +7082,11 @@ public class FileSystemMasterClientService {
       if (present_success)
         list.add(success);
 
-      boolean present_e = true && (isSetE());
-      list.add(present_e);
-      if (present_e)
-        list.add(e);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getFileBlockInfo_result other) {
+    public int compareTo(createBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6408,16 +7103,6 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -6431,11 +7116,11 @@ public class FileSystemMasterClientService {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-      }
+        }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileBlockInfo_result(");
+      StringBuilder sb = new StringBuilder("createBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6445,14 +7130,6 @@ public class FileSystemMasterClientService {
         sb.append(this.success);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.e);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6460,9 +7137,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6481,15 +7155,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getFileBlockInfo_resultStandardSchemeFactory implements SchemeFactory {
-      public getFileBlockInfo_resultStandardScheme getScheme() {
-        return new getFileBlockInfo_resultStandardScheme();
+    private static class createBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public createBatch_resultStandardScheme getScheme() {
+        return new createBatch_resultStandardScheme();
       }
     }
 
-    private static class getFileBlockInfo_resultStandardScheme extends StandardScheme<getFileBlockInfo_result> {
+    private static class createBatch_resultStandardScheme extends StandardScheme<createBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6500,23 +7174,24 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new tachyon.thrift.FileBlockInfo();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileOperationResult>(_list64.size);
+                  FileOperationResult _elem65;
+                  for (int _i66 = 0; _i66 < _list64.size; ++_i66)
+                  {
+                    _elem65 = new FileOperationResult();
+                    _elem65.read(iprot);
+                    struct.success.add(_elem65);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new tachyon.thrift.TachyonTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6528,18 +7203,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileOperationResult _iter67 : struct.success)
+            {
+              _iter67.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -6548,74 +7225,87 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getFileBlockInfo_resultTupleSchemeFactory implements SchemeFactory {
-      public getFileBlockInfo_resultTupleScheme getScheme() {
-        return new getFileBlockInfo_resultTupleScheme();
+    private static class createBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public createBatch_resultTupleScheme getScheme() {
+        return new createBatch_resultTupleScheme();
       }
     }
 
-    private static class getFileBlockInfo_resultTupleScheme extends TupleScheme<getFileBlockInfo_result> {
+    private static class createBatch_resultTupleScheme extends TupleScheme<createBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, createBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
-        }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileOperationResult _iter68 : struct.success)
+            {
+              _iter68.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, createBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new tachyon.thrift.FileBlockInfo();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileOperationResult>(_list69.size);
+            FileOperationResult _elem70;
+            for (int _i71 = 0; _i71 < _list69.size; ++_i71)
+            {
+              _elem70 = new FileOperationResult();
+              _elem70.read(iprot);
+              struct.success.add(_elem70);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.e = new tachyon.thrift.TachyonTException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class getFileBlockInfoList_args implements org.apache.thrift.TBase<getFileBlockInfoList_args, getFileBlockInfoList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfoList_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfoList_args");
+  public static class free_args implements org.apache.thrift.TBase<free_args, free_args._Fields>, java.io.Serializable, Cloneable, Comparable<free_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_args");
 
     private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileBlockInfoList_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileBlockInfoList_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new free_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new free_argsTupleSchemeFactory());
     }
 
     /**
      * the id of the file
      */
     public long fileId; // required
+    /**
+     * whether to free recursively
+     */
+    public boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
        * the id of the file
        */
-      FILE_ID((short)1, "fileId");
+      FILE_ID((short)1, "fileId"),
+      /**
+       * whether to free recursively
+       */
+      RECURSIVE((short)2, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6632,6 +7322,8 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 1: // FILE_ID
             return FILE_ID;
+          case 2: // RECURSIVE
+            return RECURSIVE;
           default:
             return null;
         }
@@ -6673,43 +7365,52 @@ public class FileSystemMasterClientService {
 
     // isset id assignments
     private static final int __FILEID_ISSET_ID = 0;
+    private static final int __RECURSIVE_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfoList_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_args.class, metaDataMap);
     }
 
-    public getFileBlockInfoList_args() {
+    public free_args() {
     }
 
-    public getFileBlockInfoList_args(
-      long fileId)
+    public free_args(
+      long fileId,
+      boolean recursive)
     {
       this();
       this.fileId = fileId;
       setFileIdIsSet(true);
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileBlockInfoList_args(getFileBlockInfoList_args other) {
+    public free_args(free_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.fileId = other.fileId;
+      this.recursive = other.recursive;
     }
 
-    public getFileBlockInfoList_args deepCopy() {
-      return new getFileBlockInfoList_args(this);
+    public free_args deepCopy() {
+      return new free_args(this);
     }
 
     @Override
     public void clear() {
       setFileIdIsSet(false);
       this.fileId = 0;
+      setRecursiveIsSet(false);
+      this.recursive = false;
     }
 
     /**
@@ -6722,7 +7423,7 @@ public class FileSystemMasterClientService {
     /**
      * the id of the file
      */
-    public getFileBlockInfoList_args setFileId(long fileId) {
+    public free_args setFileId(long fileId) {
       this.fileId = fileId;
       setFileIdIsSet(true);
       return this;
@@ -6741,6 +7442,35 @@ public class FileSystemMasterClientService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
     }
 
+    /**
+     * whether to free recursively
+     */
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    /**
+     * whether to free recursively
+     */
+    public free_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case FILE_ID:
@@ -6751,6 +7481,14 @@ public class FileSystemMasterClientService {
         }
         break;
 
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
+        }
+        break;
+
       }
     }
 
@@ -6759,6 +7497,9 @@ public class FileSystemMasterClientService {
       case FILE_ID:
         return Long.valueOf(getFileId());
 
+      case RECURSIVE:
+        return Boolean.valueOf(isRecursive());
+
       }
       throw new IllegalStateException();
     }
@@ -6772,6 +7513,8 @@ public class FileSystemMasterClientService {
       switch (field) {
       case FILE_ID:
         return isSetFileId();
+      case RECURSIVE:
+        return isSetRecursive();
       }
       throw new IllegalStateException();
     }
@@ -6780,12 +7523,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileBlockInfoList_args)
-        return this.equals((getFileBlockInfoList_args)that);
+      if (that instanceof free_args)
+        return this.equals((free_args)that);
       return false;
     }
 
-    public boolean equals(getFileBlockInfoList_args that) {
+    public boolean equals(free_args that) {
       if (that == null)
         return false;
 
@@ -6798,6 +7541,15 @@ public class FileSystemMasterClientService {
           return false;
       }
 
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
+          return false;
+      }
+
       return true;
     }
 
@@ -6810,11 +7562,16 @@ public class FileSystemMasterClientService {
       if (present_fileId)
         list.add(fileId);
 
+      boolean present_recursive = true;
+      list.add(present_recursive);
+      if (present_recursive)
+        list.add(recursive);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getFileBlockInfoList_args other) {
+    public int compareTo(free_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6831,6 +7588,16 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -6848,12 +7615,16 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileBlockInfoList_args(");
+      StringBuilder sb = new StringBuilder("free_args(");
       boolean first = true;
 
       sb.append("fileId:");
       sb.append(this.fileId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6881,15 +7652,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getFileBlockInfoList_argsStandardSchemeFactory implements SchemeFactory {
-      public getFileBlockInfoList_argsStandardScheme getScheme() {
-        return new getFileBlockInfoList_argsStandardScheme();
+    private static class free_argsStandardSchemeFactory implements SchemeFactory {
+      public free_argsStandardScheme getScheme() {
+        return new free_argsStandardScheme();
       }
     }
 
-    private static class getFileBlockInfoList_argsStandardScheme extends StandardScheme<getFileBlockInfoList_args> {
+    private static class free_argsStandardScheme extends StandardScheme<free_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, free_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6907,6 +7678,14 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6918,66 +7697,79 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, free_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
         oprot.writeI64(struct.fileId);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFileBlockInfoList_argsTupleSchemeFactory implements SchemeFactory {
-      public getFileBlockInfoList_argsTupleScheme getScheme() {
-        return new getFileBlockInfoList_argsTupleScheme();
+    private static class free_argsTupleSchemeFactory implements SchemeFactory {
+      public free_argsTupleScheme getScheme() {
+        return new free_argsTupleScheme();
       }
     }
 
-    private static class getFileBlockInfoList_argsTupleScheme extends TupleScheme<getFileBlockInfoList_args> {
+    private static class free_argsTupleScheme extends TupleScheme<free_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRecursive()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetFileId()) {
           oprot.writeI64(struct.fileId);
         }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.fileId = iprot.readI64();
           struct.setFileIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getFileBlockInfoList_result implements org.apache.thrift.TBase<getFileBlockInfoList_result, getFileBlockInfoList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfoList_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfoList_result");
+  public static class free_result implements org.apache.thrift.TBase<free_result, free_result._Fields>, java.io.Serializable, Cloneable, Comparable<free_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileBlockInfoList_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileBlockInfoList_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new free_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new free_resultTupleSchemeFactory());
     }
 
-    public List<tachyon.thrift.FileBlockInfo> success; // required
+    public boolean success; // required
     public tachyon.thrift.TachyonTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7042,100 +7834,82 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, tachyon.thrift.FileBlockInfo.class))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfoList_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_result.class, metaDataMap);
     }
 
-    public getFileBlockInfoList_result() {
+    public free_result() {
     }
 
-    public getFileBlockInfoList_result(
-      List<tachyon.thrift.FileBlockInfo> success,
+    public free_result(
+      boolean success,
       tachyon.thrift.TachyonTException e)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileBlockInfoList_result(getFileBlockInfoList_result other) {
-      if (other.isSetSuccess()) {
-        List<tachyon.thrift.FileBlockInfo> __this__success = new ArrayList<tachyon.thrift.FileBlockInfo>(other.success.size());
-        for (tachyon.thrift.FileBlockInfo other_element : other.success) {
-          __this__success.add(new tachyon.thrift.FileBlockInfo(other_element));
-        }
-        this.success = __this__success;
-      }
+    public free_result(free_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
     }
 
-    public getFileBlockInfoList_result deepCopy() {
-      return new getFileBlockInfoList_result(this);
+    public free_result deepCopy() {
+      return new free_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = false;
       this.e = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<tachyon.thrift.FileBlockInfo> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(tachyon.thrift.FileBlockInfo elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<tachyon.thrift.FileBlockInfo>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<tachyon.thrift.FileBlockInfo> getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public getFileBlockInfoList_result setSuccess(List<tachyon.thrift.FileBlockInfo> success) {
+    public free_result setSuccess(boolean success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public tachyon.thrift.TachyonTException getE() {
       return this.e;
     }
 
-    public getFileBlockInfoList_result setE(tachyon.thrift.TachyonTException e) {
+    public free_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -7161,7 +7935,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<tachyon.thrift.FileBlockInfo>)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -7179,7 +7953,7 @@ public class FileSystemMasterClientService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Boolean.valueOf(isSuccess());
 
       case E:
         return getE();
@@ -7207,21 +7981,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileBlockInfoList_result)
-        return this.equals((getFileBlockInfoList_result)that);
+      if (that instanceof free_result)
+        return this.equals((free_result)that);
       return false;
     }
 
-    public boolean equals(getFileBlockInfoList_result that) {
+    public boolean equals(free_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -7241,7 +8015,7 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
+      boolean present_success = true;
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -7255,7 +8029,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getFileBlockInfoList_result other) {
+    public int compareTo(free_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7299,15 +8073,11 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileBlockInfoList_result(");
+      StringBuilder sb = new StringBuilder("free_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("e:");
@@ -7336,21 +8106,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFileBlockInfoList_resultStandardSchemeFactory implements SchemeFactory {
-      public getFileBlockInfoList_resultStandardScheme getScheme() {
-        return new getFileBlockInfoList_resultStandardScheme();
+    private static class free_resultStandardSchemeFactory implements SchemeFactory {
+      public free_resultStandardScheme getScheme() {
+        return new free_resultStandardScheme();
       }
     }
 
-    private static class getFileBlockInfoList_resultStandardScheme extends StandardScheme<getFileBlockInfoList_result> {
+    private static class free_resultStandardScheme extends StandardScheme<free_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, free_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7361,19 +8133,8 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-                  struct.success = new ArrayList<tachyon.thrift.FileBlockInfo>(_list8.size);
-                  tachyon.thrift.FileBlockInfo _elem9;
-                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
-                  {
-                    _elem9 = new tachyon.thrift.FileBlockInfo();
-                    _elem9.read(iprot);
-                    struct.success.add(_elem9);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -7399,20 +8160,13 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, free_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (tachyon.thrift.FileBlockInfo _iter11 : struct.success)
-            {
-              _iter11.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -7426,16 +8180,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getFileBlockInfoList_resultTupleSchemeFactory implements SchemeFactory {
-      public getFileBlockInfoList_resultTupleScheme getScheme() {
-        return new getFileBlockInfoList_resultTupleScheme();
+    private static class free_resultTupleSchemeFactory implements SchemeFactory {
+      public free_resultTupleScheme getScheme() {
+        return new free_resultTupleScheme();
       }
     }
 
-    private static class getFileBlockInfoList_resultTupleScheme extends TupleScheme<getFileBlockInfoList_result> {
+    private static class free_resultTupleScheme extends TupleScheme<free_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -7446,13 +8200,7 @@ public class FileSystemMasterClientService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (tachyon.thrift.FileBlockInfo _iter12 : struct.success)
-            {
-              _iter12.write(oprot);
-            }
-          }
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
@@ -7460,21 +8208,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<tachyon.thrift.FileBlockInfo>(_list13.size);
-            tachyon.thrift.FileBlockInfo _elem14;
-            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
-            {
-              _elem14 = new tachyon.thrift.FileBlockInfo();
-              _elem14.read(iprot);
-              struct.success.add(_elem14);
-            }
-          }
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -7487,28 +8225,37 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getFileId_args implements org.apache.thrift.TBase<getFileId_args, getFileId_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileId_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileId_args");
+  public static class getFileBlockInfo_args implements org.apache.thrift.TBase<getFileBlockInfo_args, getFileBlockInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfo_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_BLOCK_INDEX_FIELD_DESC = new org.apache.thrift.protocol.TField("fileBlockIndex", org.apache.thrift.protocol.TType.I32, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileId_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileId_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileBlockInfo_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileBlockInfo_argsTupleSchemeFactory());
     }
 
     /**
-     * the path of the file
+     * the id of the file
      */
-    public String path; // required
+    public long fileId; // required
+    /**
+     * the index of the file block
+     */
+    public int fileBlockIndex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file
+       * the id of the file
        */
-      PATH((short)1, "path");
+      FILE_ID((short)1, "fileId"),
+      /**
+       * the index of the file block
+       */
+      FILE_BLOCK_INDEX((short)2, "fileBlockIndex");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7523,8 +8270,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
+          case 1: // FILE_ID
+            return FILE_ID;
+          case 2: // FILE_BLOCK_INDEX
+            return FILE_BLOCK_INDEX;
           default:
             return null;
         }
@@ -7565,80 +8314,128 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private static final int __FILEBLOCKINDEX_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.FILE_BLOCK_INDEX, new org.apache.thrift.meta_data.FieldMetaData("fileBlockIndex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileId_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfo_args.class, metaDataMap);
     }
 
-    public getFileId_args() {
+    public getFileBlockInfo_args() {
     }
 
-    public getFileId_args(
-      String path)
+    public getFileBlockInfo_args(
+      long fileId,
+      int fileBlockIndex)
     {
       this();
-      this.path = path;
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      this.fileBlockIndex = fileBlockIndex;
+      setFileBlockIndexIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileId_args(getFileId_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
+    public getFileBlockInfo_args(getFileBlockInfo_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+      this.fileBlockIndex = other.fileBlockIndex;
     }
 
-    public getFileId_args deepCopy() {
-      return new getFileId_args(this);
+    public getFileBlockInfo_args deepCopy() {
+      return new getFileBlockInfo_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
+      setFileIdIsSet(false);
+      this.fileId = 0;
+      setFileBlockIndexIsSet(false);
+      this.fileBlockIndex = 0;
     }
 
     /**
-     * the path of the file
+     * the id of the file
      */
-    public String getPath() {
-      return this.path;
+    public long getFileId() {
+      return this.fileId;
     }
 
     /**
-     * the path of the file
+     * the id of the file
      */
-    public getFileId_args setPath(String path) {
-      this.path = path;
+    public getFileBlockInfo_args setFileId(long fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
-    }
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
 
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    /**
+     * the index of the file block
+     */
+    public int getFileBlockIndex() {
+      return this.fileBlockIndex;
+    }
+
+    /**
+     * the index of the file block
+     */
+    public getFileBlockInfo_args setFileBlockIndex(int fileBlockIndex) {
+      this.fileBlockIndex = fileBlockIndex;
+      setFileBlockIndexIsSet(true);
+      return this;
+    }
+
+    public void unsetFileBlockIndex() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEBLOCKINDEX_ISSET_ID);
+    }
+
+    /** Returns true if field fileBlockIndex is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileBlockIndex() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEBLOCKINDEX_ISSET_ID);
+    }
+
+    public void setFileBlockIndexIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEBLOCKINDEX_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case FILE_ID:
         if (value == null) {
-          unsetPath();
+          unsetFileId();
         } else {
-          setPath((String)value);
+          setFileId((Long)value);
+        }
+        break;
+
+      case FILE_BLOCK_INDEX:
+        if (value == null) {
+          unsetFileBlockIndex();
+        } else {
+          setFileBlockIndex((Integer)value);
         }
         break;
 
@@ -7647,8 +8444,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case FILE_ID:
+        return Long.valueOf(getFileId());
+
+      case FILE_BLOCK_INDEX:
+        return Integer.valueOf(getFileBlockIndex());
 
       }
       throw new IllegalStateException();
@@ -7661,8 +8461,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
+      case FILE_ID:
+        return isSetFileId();
+      case FILE_BLOCK_INDEX:
+        return isSetFileBlockIndex();
       }
       throw new IllegalStateException();
     }
@@ -7671,21 +8473,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileId_args)
-        return this.equals((getFileId_args)that);
+      if (that instanceof getFileBlockInfo_args)
+        return this.equals((getFileBlockInfo_args)that);
       return false;
     }
 
-    public boolean equals(getFileId_args that) {
+    public boolean equals(getFileBlockInfo_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
           return false;
-        if (!this.path.equals(that.path))
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      boolean this_present_fileBlockIndex = true;
+      boolean that_present_fileBlockIndex = true;
+      if (this_present_fileBlockIndex || that_present_fileBlockIndex) {
+        if (!(this_present_fileBlockIndex && that_present_fileBlockIndex))
+          return false;
+        if (this.fileBlockIndex != that.fileBlockIndex)
           return false;
       }
 
@@ -7696,28 +8507,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_fileId = true;
+      list.add(present_fileId);
+      if (present_fileId)
+        list.add(fileId);
+
+      boolean present_fileBlockIndex = true;
+      list.add(present_fileBlockIndex);
+      if (present_fileBlockIndex)
+        list.add(fileBlockIndex);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getFileId_args other) {
+    public int compareTo(getFileBlockInfo_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFileBlockIndex()).compareTo(other.isSetFileBlockIndex());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileBlockIndex()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileBlockIndex, other.fileBlockIndex);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7739,15 +8565,15 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileId_args(");
+      StringBuilder sb = new StringBuilder("getFileBlockInfo_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("fileBlockIndex:");
+      sb.append(this.fileBlockIndex);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -7768,21 +8594,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFileId_argsStandardSchemeFactory implements SchemeFactory {
-      public getFileId_argsStandardScheme getScheme() {
-        return new getFileId_argsStandardScheme();
+    private static class getFileBlockInfo_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileBlockInfo_argsStandardScheme getScheme() {
+        return new getFileBlockInfo_argsStandardScheme();
       }
     }
 
-    private static class getFileId_argsStandardScheme extends StandardScheme<getFileId_args> {
+    private static class getFileBlockInfo_argsStandardScheme extends StandardScheme<getFileBlockInfo_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7792,10 +8620,18 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.fileId = iprot.readI64();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // FILE_BLOCK_INDEX
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileBlockIndex = iprot.readI32();
+                struct.setFileBlockIndexIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7811,71 +8647,85 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfo_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI64(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(FILE_BLOCK_INDEX_FIELD_DESC);
+        oprot.writeI32(struct.fileBlockIndex);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFileId_argsTupleSchemeFactory implements SchemeFactory {
-      public getFileId_argsTupleScheme getScheme() {
-        return new getFileId_argsTupleScheme();
+    private static class getFileBlockInfo_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileBlockInfo_argsTupleScheme getScheme() {
+        return new getFileBlockInfo_argsTupleScheme();
       }
     }
 
-    private static class getFileId_argsTupleScheme extends TupleScheme<getFileId_args> {
+    private static class getFileBlockInfo_argsTupleScheme extends TupleScheme<getFileBlockInfo_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetFileBlockIndex()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFileId()) {
+          oprot.writeI64(struct.fileId);
+        }
+        if (struct.isSetFileBlockIndex()) {
+          oprot.writeI32(struct.fileBlockIndex);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          struct.fileId = iprot.readI64();
+          struct.setFileIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.fileBlockIndex = iprot.readI32();
+          struct.setFileBlockIndexIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getFileId_result implements org.apache.thrift.TBase<getFileId_result, getFileId_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileId_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileId_result");
+  public static class getFileBlockInfo_result implements org.apache.thrift.TBase<getFileBlockInfo_result, getFileBlockInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfo_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileId_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileId_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileBlockInfo_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileBlockInfo_resultTupleSchemeFactory());
     }
 
-    public long success; // required
+    public tachyon.thrift.FileBlockInfo success; // required
+    public tachyon.thrift.TachyonTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7892,6 +8742,8 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -7932,67 +8784,97 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, tachyon.thrift.FileBlockInfo.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileId_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfo_result.class, metaDataMap);
     }
 
-    public getFileId_result() {
+    public getFileBlockInfo_result() {
     }
 
-    public getFileId_result(
-      long success)
+    public getFileBlockInfo_result(
+      tachyon.thrift.FileBlockInfo success,
+      tachyon.thrift.TachyonTException e)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
+      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileId_result(getFileId_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-    }
-
-    public getFileId_result deepCopy() {
-      return new getFileId_result(this);
+    public getFileBlockInfo_result(getFileBlockInfo_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new tachyon.thrift.FileBlockInfo(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new tachyon.thrift.TachyonTException(other.e);
+      }
+    }
+
+    public getFileBlockInfo_result deepCopy() {
+      return new getFileBlockInfo_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
+      this.success = null;
+      this.e = null;
     }
 
-    public long getSuccess() {
+    public tachyon.thrift.FileBlockInfo getSuccess() {
       return this.success;
     }
 
-    public getFileId_result setSuccess(long success) {
+    public getFileBlockInfo_result setSuccess(tachyon.thrift.FileBlockInfo success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
+    }
+
+    public getFileBlockInfo_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -8001,7 +8883,15 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
+          setSuccess((tachyon.thrift.FileBlockInfo)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((tachyon.thrift.TachyonTException)value);
         }
         break;
 
@@ -8011,7 +8901,10 @@ public class FileSystemMasterClientService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Long.valueOf(getSuccess());
+        return getSuccess();
+
+      case E:
+        return getE();
 
       }
       throw new IllegalStateException();
@@ -8026,6 +8919,8 @@ public class FileSystemMasterClientService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E:
+        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -8034,21 +8929,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileId_result)
-        return this.equals((getFileId_result)that);
+      if (that instanceof getFileBlockInfo_result)
+        return this.equals((getFileBlockInfo_result)that);
       return false;
     }
 
-    public boolean equals(getFileId_result that) {
+    public boolean equals(getFileBlockInfo_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
           return false;
       }
 
@@ -8059,16 +8963,21 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
+      boolean present_success = true && (isSetSuccess());
       list.add(present_success);
       if (present_success)
         list.add(success);
 
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getFileId_result other) {
+    public int compareTo(getFileBlockInfo_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8085,6 +8994,16 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -8102,11 +9021,23 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileId_result(");
+      StringBuilder sb = new StringBuilder("getFileBlockInfo_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -8115,6 +9046,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8127,23 +9061,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFileId_resultStandardSchemeFactory implements SchemeFactory {
-      public getFileId_resultStandardScheme getScheme() {
-        return new getFileId_resultStandardScheme();
+    private static class getFileBlockInfo_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileBlockInfo_resultStandardScheme getScheme() {
+        return new getFileBlockInfo_resultStandardScheme();
       }
     }
 
-    private static class getFileId_resultStandardScheme extends StandardScheme<getFileId_result> {
+    private static class getFileBlockInfo_resultStandardScheme extends StandardScheme<getFileBlockInfo_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8154,13 +9086,23 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new tachyon.thrift.FileBlockInfo();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8172,13 +9114,18 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfo_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -8187,62 +9134,83 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getFileId_resultTupleSchemeFactory implements SchemeFactory {
-      public getFileId_resultTupleScheme getScheme() {
-        return new getFileId_resultTupleScheme();
+    private static class getFileBlockInfo_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileBlockInfo_resultTupleScheme getScheme() {
+        return new getFileBlockInfo_resultTupleScheme();
       }
     }
 
-    private static class getFileId_resultTupleScheme extends TupleScheme<getFileId_result> {
+    private static class getFileBlockInfo_resultTupleScheme extends TupleScheme<getFileBlockInfo_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          struct.success = new tachyon.thrift.FileBlockInfo();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.e = new tachyon.thrift.TachyonTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getFileInfo_args implements org.apache.thrift.TBase<getFileInfo_args, getFileInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfo_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfo_args");
+  public static class getFileBlockInfoList_args implements org.apache.thrift.TBase<getFileBlockInfoList_args, getFileBlockInfoList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfoList_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfoList_args");
 
     private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField SKIP_UFS_LOCATIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("skipUfsLocations", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileInfo_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileInfo_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileBlockInfoList_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileBlockInfoList_argsTupleSchemeFactory());
     }
 
     /**
      * the id of the file
      */
     public long fileId; // required
+    /**
+     * whether to skip the locations of the blocks in the under storage
+     */
+    public boolean skipUfsLocations; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
        * the id of the file
        */
-      FILE_ID((short)1, "fileId");
+      FILE_ID((short)1, "fileId"),
+      /**
+       * whether to skip the locations of the blocks in the under storage
+       */
+      SKIP_UFS_LOCATIONS((short)2, "skipUfsLocations");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8259,6 +9227,8 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 1: // FILE_ID
             return FILE_ID;
+          case 2: // SKIP_UFS_LOCATIONS
+            return SKIP_UFS_LOCATIONS;
           default:
             return null;
         }
@@ -8300,43 +9270,52 @@ public class FileSystemMasterClientService {
 
     // isset id assignments
     private static final int __FILEID_ISSET_ID = 0;
+    private static final int __SKIPUFSLOCATIONS_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.SKIP_UFS_LOCATIONS, new org.apache.thrift.meta_data.FieldMetaData("skipUfsLocations", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfo_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfoList_args.class, metaDataMap);
     }
 
-    public getFileInfo_args() {
+    public getFileBlockInfoList_args() {
     }
 
-    public getFileInfo_args(
-      long fileId)
+    public getFileBlockInfoList_args(
+      long fileId,
+      boolean skipUfsLocations)
     {
       this();
       this.fileId = fileId;
       setFileIdIsSet(true);
+      this.skipUfsLocations = skipUfsLocations;
+      setSkipUfsLocationsIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileInfo_args(getFileInfo_args other) {
+    public getFileBlockInfoList_args(getFileBlockInfoList_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.fileId = other.fileId;
+      this.skipUfsLocations = other.skipUfsLocations;
     }
 
-    public getFileInfo_args deepCopy() {
-      return new getFileInfo_args(this);
+    public getFileBlockInfoList_args deepCopy() {
+      return new getFileBlockInfoList_args(this);
     }
 
     @Override
     public void clear() {
       setFileIdIsSet(false);
       this.fileId = 0;
+      setSkipUfsLocationsIsSet(false);
+      this.skipUfsLocations = false;
     }
 
     /**
@@ -8349,7 +9328,7 @@ public class FileSystemMasterClientService {
     /**
      * the id of the file
      */
-    public getFileInfo_args setFileId(long fileId) {
+    public getFileBlockInfoList_args setFileId(long fileId) {
       this.fileId = fileId;
       setFileIdIsSet(true);
       return this;
@@ -8368,6 +9347,35 @@ public class FileSystemMasterClientService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
     }
 
+    /**
+     * whether to skip the locations of the blocks in the under storage
+     */
+    public boolean isSkipUfsLocations() {
+      return this.skipUfsLocations;
+    }
+
+    /**
+     * whether to skip the locations of the blocks in the under storage
+     */
+    public getFileBlockInfoList_args setSkipUfsLocations(boolean skipUfsLocations) {
+      this.skipUfsLocations = skipUfsLocations;
+      setSkipUfsLocationsIsSet(true);
+      return this;
+    }
+
+    public void unsetSkipUfsLocations() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SKIPUFSLOCATIONS_ISSET_ID);
+    }
+
+    /** Returns true if field skipUfsLocations is set (has been assigned a value) and false otherwise */
+    public boolean isSetSkipUfsLocations() {
+      return EncodingUtils.testBit(__isset_bitfield, __SKIPUFSLOCATIONS_ISSET_ID);
+    }
+
+    public void setSkipUfsLocationsIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SKIPUFSLOCATIONS_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case FILE_ID:
@@ -8378,6 +9386,14 @@ public class FileSystemMasterClientService {
         }
         break;
 
+      case SKIP_UFS_LOCATIONS:
+        if (value == null) {
+          unsetSkipUfsLocations();
+        } else {
+          setSkipUfsLocations((Boolean)value);
+        }
+        break;
+
       }
     }
 
@@ -8386,6 +9402,9 @@ public class FileSystemMasterClientService {
       case FILE_ID:
         return Long.valueOf(getFileId());
 
+      case SKIP_UFS_LOCATIONS:
+        return Boolean.valueOf(isSkipUfsLocations());
+
       }
       throw new IllegalStateException();
     }
@@ -8399,6 +9418,8 @@ public class FileSystemMasterClientService {
       switch (field) {
       case FILE_ID:
         return isSetFileId();
+      case SKIP_UFS_LOCATIONS:
+        return isSetSkipUfsLocations();
       }
       throw new IllegalStateException();
     }
@@ -8407,12 +9428,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileInfo_args)
-        return this.equals((getFileInfo_args)that);
+      if (that instanceof getFileBlockInfoList_args)
+        return this.equals((getFileBlockInfoList_args)that);
       return false;
     }
 
-    public boolean equals(getFileInfo_args that) {
+    public boolean equals(getFileBlockInfoList_args that) {
       if (that == null)
         return false;
 
@@ -8425,7 +9446,16 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      return true;
+      boolean this_present_skipUfsLocations = true;
+      boolean that_present_skipUfsLocations = true;
+      if (this_present_skipUfsLocations || that_present_skipUfsLocations) {
+        if (!(this_present_skipUfsLocations && that_present_skipUfsLocations))
+          return false;
+        if (this.skipUfsLocations != that.skipUfsLocations)
+          return false;
+      }
+
+      return true;
     }
 
     @Override
@@ -8437,11 +9467,16 @@ public class FileSystemMasterClientService {
       if (present_fileId)
         list.add(fileId);
 
+      boolean present_skipUfsLocations = true;
+      list.add(present_skipUfsLocations);
+      if (present_skipUfsLocations)
+        list.add(skipUfsLocations);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getFileInfo_args other) {
+    public int compareTo(getFileBlockInfoList_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8458,6 +9493,16 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetSkipUfsLocations()).compareTo(other.isSetSkipUfsLocations());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSkipUfsLocations()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.skipUfsLocations, other.skipUfsLocations);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -8475,12 +9520,16 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileInfo_args(");
+      StringBuilder sb = new StringBuilder("getFileBlockInfoList_args(");
       boolean first = true;
 
       sb.append("fileId:");
       sb.append(this.fileId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("skipUfsLocations:");
+      sb.append(this.skipUfsLocations);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8508,15 +9557,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getFileInfo_argsStandardSchemeFactory implements SchemeFactory {
-      public getFileInfo_argsStandardScheme getScheme() {
-        return new getFileInfo_argsStandardScheme();
+    private static class getFileBlockInfoList_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileBlockInfoList_argsStandardScheme getScheme() {
+        return new getFileBlockInfoList_argsStandardScheme();
       }
     }
 
-    private static class getFileInfo_argsStandardScheme extends StandardScheme<getFileInfo_args> {
+    private static class getFileBlockInfoList_argsStandardScheme extends StandardScheme<getFileBlockInfoList_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8534,6 +9583,14 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // SKIP_UFS_LOCATIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.skipUfsLocations = iprot.readBool();
+                struct.setSkipUfsLocationsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8545,66 +9602,79 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
         oprot.writeI64(struct.fileId);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(SKIP_UFS_LOCATIONS_FIELD_DESC);
+        oprot.writeBool(struct.skipUfsLocations);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFileInfo_argsTupleSchemeFactory implements SchemeFactory {
-      public getFileInfo_argsTupleScheme getScheme() {
-        return new getFileInfo_argsTupleScheme();
+    private static class getFileBlockInfoList_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileBlockInfoList_argsTupleScheme getScheme() {
+        return new getFileBlockInfoList_argsTupleScheme();
       }
     }
 
-    private static class getFileInfo_argsTupleScheme extends TupleScheme<getFileInfo_args> {
+    private static class getFileBlockInfoList_argsTupleScheme extends TupleScheme<getFileBlockInfoList_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSkipUfsLocations()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetFileId()) {
           oprot.writeI64(struct.fileId);
         }
+        if (struct.isSetSkipUfsLocations()) {
+          oprot.writeBool(struct.skipUfsLocations);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.fileId = iprot.readI64();
           struct.setFileIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.skipUfsLocations = iprot.readBool();
+          struct.setSkipUfsLocationsIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getFileInfo_result implements org.apache.thrift.TBase<getFileInfo_result, getFileInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfo_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfo_result");
+  public static class getFileBlockInfoList_result implements org.apache.thrift.TBase<getFileBlockInfoList_result, getFileBlockInfoList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfoList_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfoList_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileInfo_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileInfo_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileBlockInfoList_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileBlockInfoList_resultTupleSchemeFactory());
     }
 
-    public FileInfo success; // required
+    public List<tachyon.thrift.FileBlockInfo> success; // required
     public tachyon.thrift.TachyonTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -8673,18 +9743,19 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, tachyon.thrift.FileBlockInfo.class))));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfo_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfoList_result.class, metaDataMap);
     }
 
-    public getFileInfo_result() {
+    public getFileBlockInfoList_result() {
     }
 
-    public getFileInfo_result(
-      FileInfo success,
+    public getFileBlockInfoList_result(
+      List<tachyon.thrift.FileBlockInfo> success,
       tachyon.thrift.TachyonTException e)
     {
       this();
@@ -8695,17 +9766,21 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileInfo_result(getFileInfo_result other) {
+    public getFileBlockInfoList_result(getFileBlockInfoList_result other) {
       if (other.isSetSuccess()) {
-        this.success = new FileInfo(other.success);
+        List<tachyon.thrift.FileBlockInfo> __this__success = new ArrayList<tachyon.thrift.FileBlockInfo>(other.success.size());
+        for (tachyon.thrift.FileBlockInfo other_element : other.success) {
+          __this__success.add(new tachyon.thrift.FileBlockInfo(other_element));
+        }
+        this.success = __this__success;
       }
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
     }
 
-    public getFileInfo_result deepCopy() {
-      return new getFileInfo_result(this);
+    public getFileBlockInfoList_result deepCopy() {
+      return new getFileBlockInfoList_result(this);
     }
 
     @Override
@@ -8714,11 +9789,26 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public FileInfo getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<tachyon.thrift.FileBlockInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(tachyon.thrift.FileBlockInfo elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<tachyon.thrift.FileBlockInfo>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<tachyon.thrift.FileBlockInfo> getSuccess() {
       return this.success;
     }
 
-    public getFileInfo_result setSuccess(FileInfo success) {
+    public getFileBlockInfoList_result setSuccess(List<tachyon.thrift.FileBlockInfo> success) {
       this.success = success;
       return this;
     }
@@ -8742,7 +9832,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public getFileInfo_result setE(tachyon.thrift.TachyonTException e) {
+    public getFileBlockInfoList_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -8768,7 +9858,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((FileInfo)value);
+          setSuccess((List<tachyon.thrift.FileBlockInfo>)value);
         }
         break;
 
@@ -8814,12 +9904,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileInfo_result)
-        return this.equals((getFileInfo_result)that);
+      if (that instanceof getFileBlockInfoList_result)
+        return this.equals((getFileBlockInfoList_result)that);
       return false;
     }
 
-    public boolean equals(getFileInfo_result that) {
+    public boolean equals(getFileBlockInfoList_result that) {
       if (that == null)
         return false;
 
@@ -8862,7 +9952,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getFileInfo_result other) {
+    public int compareTo(getFileBlockInfoList_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8906,7 +9996,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileInfo_result(");
+      StringBuilder sb = new StringBuilder("getFileBlockInfoList_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -8931,9 +10021,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8952,15 +10039,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getFileInfo_resultStandardSchemeFactory implements SchemeFactory {
-      public getFileInfo_resultStandardScheme getScheme() {
-        return new getFileInfo_resultStandardScheme();
+    private static class getFileBlockInfoList_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileBlockInfoList_resultStandardScheme getScheme() {
+        return new getFileBlockInfoList_resultStandardScheme();
       }
     }
 
-    private static class getFileInfo_resultStandardScheme extends StandardScheme<getFileInfo_result> {
+    private static class getFileBlockInfoList_resultStandardScheme extends StandardScheme<getFileBlockInfoList_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8971,9 +10058,19 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new FileInfo();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.success = new ArrayList<tachyon.thrift.FileBlockInfo>(_list8.size);
+                  tachyon.thrift.FileBlockInfo _elem9;
+                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  {
+                    _elem9 = new tachyon.thrift.FileBlockInfo();
+                    _elem9.read(iprot);
+                    struct.success.add(_elem9);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -8999,13 +10096,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (tachyon.thrift.FileBlockInfo _iter11 : struct.success)
+            {
+              _iter11.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -9019,16 +10123,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getFileInfo_resultTupleSchemeFactory implements SchemeFactory {
-      public getFileInfo_resultTupleScheme getScheme() {
-        return new getFileInfo_resultTupleScheme();
+    private static class getFileBlockInfoList_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileBlockInfoList_resultTupleScheme getScheme() {
+        return new getFileBlockInfoList_resultTupleScheme();
       }
     }
 
-    private static class getFileInfo_resultTupleScheme extends TupleScheme<getFileInfo_result> {
+    private static class getFileBlockInfoList_resultTupleScheme extends TupleScheme<getFileBlockInfoList_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9039,7 +10143,13 @@ public class FileSystemMasterClientService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (tachyon.thrift.FileBlockInfo _iter12 : struct.success)
+            {
+              _iter12.write(oprot);
+            }
+          }
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
@@ -9047,12 +10157,21 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new FileInfo();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<tachyon.thrift.FileBlockInfo>(_list13.size);
+            tachyon.thrift.FileBlockInfo _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = new tachyon.thrift.FileBlockInfo();
+              _elem14.read(iprot);
+              struct.success.add(_elem14);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -9065,28 +10184,28 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getFileInfoList_args implements org.apache.thrift.TBase<getFileInfoList_args, getFileInfoList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfoList_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfoList_args");
+  public static class getFileId_args implements org.apache.thrift.TBase<getFileId_args, getFileId_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileId_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileId_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileInfoList_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileInfoList_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileId_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileId_argsTupleSchemeFactory());
     }
 
     /**
-     * the id of the file
+     * the path of the file
      */
-    public long fileId; // required
+    public String path; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the id of the file
+       * the path of the file
        */
-      FILE_ID((short)1, "fileId");
+      PATH((short)1, "path");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9101,8 +10220,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
+          case 1: // PATH
+            return PATH;
           default:
             return null;
         }
@@ -9143,82 +10262,80 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfoList_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileId_args.class, metaDataMap);
     }
 
-    public getFileInfoList_args() {
+    public getFileId_args() {
     }
 
-    public getFileInfoList_args(
-      long fileId)
+    public getFileId_args(
+      String path)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+      this.path = path;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileInfoList_args(getFileInfoList_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
+    public getFileId_args(getFileId_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
     }
 
-    public getFileInfoList_args deepCopy() {
-      return new getFileInfoList_args(this);
+    public getFileId_args deepCopy() {
+      return new getFileId_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
+      this.path = null;
     }
 
     /**
-     * the id of the file
+     * the path of the file
      */
-    public long getFileId() {
-      return this.fileId;
+    public String getPath() {
+      return this.path;
     }
 
     /**
-     * the id of the file
+     * the path of the file
      */
-    public getFileInfoList_args setFileId(long fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public getFileId_args setPath(String path) {
+      this.path = path;
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetPath() {
+      this.path = null;
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case PATH:
         if (value == null) {
-          unsetFileId();
+          unsetPath();
         } else {
-          setFileId((Long)value);
+          setPath((String)value);
         }
         break;
 
@@ -9227,8 +10344,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Long.valueOf(getFileId());
+      case PATH:
+        return getPath();
 
       }
       throw new IllegalStateException();
@@ -9241,8 +10358,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
+      case PATH:
+        return isSetPath();
       }
       throw new IllegalStateException();
     }
@@ -9251,21 +10368,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileInfoList_args)
-        return this.equals((getFileInfoList_args)that);
+      if (that instanceof getFileId_args)
+        return this.equals((getFileId_args)that);
       return false;
     }
 
-    public boolean equals(getFileInfoList_args that) {
+    public boolean equals(getFileId_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
           return false;
-        if (this.fileId != that.fileId)
+        if (!this.path.equals(that.path))
           return false;
       }
 
@@ -9276,28 +10393,28 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_fileId = true;
-      list.add(present_fileId);
-      if (present_fileId)
-        list.add(fileId);
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getFileInfoList_args other) {
+    public int compareTo(getFileId_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9319,11 +10436,15 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileInfoList_args(");
+      StringBuilder sb = new StringBuilder("getFileId_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -9344,23 +10465,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFileInfoList_argsStandardSchemeFactory implements SchemeFactory {
-      public getFileInfoList_argsStandardScheme getScheme() {
-        return new getFileInfoList_argsStandardScheme();
+    private static class getFileId_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileId_argsStandardScheme getScheme() {
+        return new getFileId_argsStandardScheme();
       }
     }
 
-    private static class getFileInfoList_argsStandardScheme extends StandardScheme<getFileInfoList_args> {
+    private static class getFileId_argsStandardScheme extends StandardScheme<getFileId_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfoList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileId_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9370,10 +10489,10 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.fileId = iprot.readI64();
-                struct.setFileIdIsSet(true);
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -9389,72 +10508,71 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfoList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileId_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI64(struct.fileId);
-        oprot.writeFieldEnd();
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFileInfoList_argsTupleSchemeFactory implements SchemeFactory {
-      public getFileInfoList_argsTupleScheme getScheme() {
-        return new getFileInfoList_argsTupleScheme();
+    private static class getFileId_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileId_argsTupleScheme getScheme() {
+        return new getFileId_argsTupleScheme();
       }
     }
 
-    private static class getFileInfoList_argsTupleScheme extends TupleScheme<getFileInfoList_args> {
+    private static class getFileId_argsTupleScheme extends TupleScheme<getFileId_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfoList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileId_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetPath()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFileId()) {
-          oprot.writeI64(struct.fileId);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfoList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileId_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI64();
-          struct.setFileIdIsSet(true);
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getFileInfoList_result implements org.apache.thrift.TBase<getFileInfoList_result, getFileInfoList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfoList_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfoList_result");
+  public static class getFileId_result implements org.apache.thrift.TBase<getFileId_result, getFileId_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileId_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileId_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileInfoList_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileInfoList_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileId_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileId_resultTupleSchemeFactory());
     }
 
-    public List<FileInfo> success; // required
-    public tachyon.thrift.TachyonTException e; // required
+    public long success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9471,8 +10589,6 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
           default:
             return null;
         }
@@ -9513,117 +10629,67 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class))));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfoList_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileId_result.class, metaDataMap);
     }
 
-    public getFileInfoList_result() {
+    public getFileId_result() {
     }
 
-    public getFileInfoList_result(
-      List<FileInfo> success,
-      tachyon.thrift.TachyonTException e)
+    public getFileId_result(
+      long success)
     {
       this();
       this.success = success;
-      this.e = e;
+      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileInfoList_result(getFileInfoList_result other) {
-      if (other.isSetSuccess()) {
-        List<FileInfo> __this__success = new ArrayList<FileInfo>(other.success.size());
-        for (FileInfo other_element : other.success) {
-          __this__success.add(new FileInfo(other_element));
-        }
-        this.success = __this__success;
-      }
-      if (other.isSetE()) {
-        this.e = new tachyon.thrift.TachyonTException(other.e);
-      }
+    public getFileId_result(getFileId_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
     }
 
-    public getFileInfoList_result deepCopy() {
-      return new getFileInfoList_result(this);
+    public getFileId_result deepCopy() {
+      return new getFileId_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-      this.e = null;
-    }
-
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<FileInfo> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(FileInfo elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<FileInfo>();
-      }
-      this.success.add(elem);
+      setSuccessIsSet(false);
+      this.success = 0;
     }
 
-    public List<FileInfo> getSuccess() {
+    public long getSuccess() {
       return this.success;
     }
 
-    public getFileInfoList_result setSuccess(List<FileInfo> success) {
+    public getFileId_result setSuccess(long success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
-    public tachyon.thrift.TachyonTException getE() {
-      return this.e;
-    }
-
-    public getFileInfoList_result setE(tachyon.thrift.TachyonTException e) {
-      this.e = e;
-      return this;
-    }
-
-    public void unsetE() {
-      this.e = null;
-    }
-
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
-    }
-
-    public void setEIsSet(boolean value) {
-      if (!value) {
-        this.e = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -9632,15 +10698,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<FileInfo>)value);
-        }
-        break;
-
-      case E:
-        if (value == null) {
-          unsetE();
-        } else {
-          setE((tachyon.thrift.TachyonTException)value);
+          setSuccess((Long)value);
         }
         break;
 
@@ -9650,10 +10708,7 @@ public class FileSystemMasterClientService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
-
-      case E:
-        return getE();
+        return Long.valueOf(getSuccess());
 
       }
       throw new IllegalStateException();
@@ -9668,8 +10723,6 @@ public class FileSystemMasterClientService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -9678,30 +10731,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileInfoList_result)
-        return this.equals((getFileInfoList_result)that);
+      if (that instanceof getFileId_result)
+        return this.equals((getFileId_result)that);
       return false;
     }
 
-    public boolean equals(getFileInfoList_result that) {
+    public boolean equals(getFileId_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
-          return false;
-        if (!this.e.equals(that.e))
+        if (this.success != that.success)
           return false;
       }
 
@@ -9712,21 +10756,16 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
+      boolean present_success = true;
       list.add(present_success);
       if (present_success)
         list.add(success);
 
-      boolean present_e = true && (isSetE());
-      list.add(present_e);
-      if (present_e)
-        list.add(e);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getFileInfoList_result other) {
+    public int compareTo(getFileId_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9743,16 +10782,6 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -9770,23 +10799,11 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileInfoList_result(");
+      StringBuilder sb = new StringBuilder("getFileId_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.e);
-      }
+      sb.append(this.success);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -9807,21 +10824,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFileInfoList_resultStandardSchemeFactory implements SchemeFactory {
-      public getFileInfoList_resultStandardScheme getScheme() {
-        return new getFileInfoList_resultStandardScheme();
+    private static class getFileId_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileId_resultStandardScheme getScheme() {
+        return new getFileId_resultStandardScheme();
       }
     }
 
-    private static class getFileInfoList_resultStandardScheme extends StandardScheme<getFileInfoList_result> {
+    private static class getFileId_resultStandardScheme extends StandardScheme<getFileId_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfoList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileId_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9832,33 +10851,13 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
-                  struct.success = new ArrayList<FileInfo>(_list16.size);
-                  FileInfo _elem17;
-                  for (int _i18 = 0; _i18 < _list16.size; ++_i18)
-                  {
-                    _elem17 = new FileInfo();
-                    _elem17.read(iprot);
-                    struct.success.add(_elem17);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new tachyon.thrift.TachyonTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9870,25 +10869,13 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfoList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileId_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (FileInfo _iter19 : struct.success)
-            {
-              _iter19.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+          oprot.writeI64(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -9897,76 +10884,49 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getFileInfoList_resultTupleSchemeFactory implements SchemeFactory {
-      public getFileInfoList_resultTupleScheme getScheme() {
-        return new getFileInfoList_resultTupleScheme();
+    private static class getFileId_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileId_resultTupleScheme getScheme() {
+        return new getFileId_resultTupleScheme();
       }
     }
 
-    private static class getFileInfoList_resultTupleScheme extends TupleScheme<getFileInfoList_result> {
+    private static class getFileId_resultTupleScheme extends TupleScheme<getFileId_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfoList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileId_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (FileInfo _iter20 : struct.success)
-            {
-              _iter20.write(oprot);
-            }
-          }
-        }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+          oprot.writeI64(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfoList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileId_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<FileInfo>(_list21.size);
-            FileInfo _elem22;
-            for (int _i23 = 0; _i23 < _list21.size; ++_i23)
-            {
-              _elem22 = new FileInfo();
-              _elem22.read(iprot);
-              struct.success.add(_elem22);
-            }
-          }
+          struct.success = iprot.readI64();
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.e = new tachyon.thrift.TachyonTException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class getNewBlockIdForFile_args implements org.apache.thrift.TBase<getNewBlockIdForFile_args, getNewBlockIdForFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_args");
+  public static class getFileInfo_args implements org.apache.thrift.TBase<getFileInfo_args, getFileInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfo_args");
 
     private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNewBlockIdForFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNewBlockIdForFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileInfo_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileInfo_argsTupleSchemeFactory());
     }
 
     /**
@@ -10044,13 +11004,13 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfo_args.class, metaDataMap);
     }
 
-    public getNewBlockIdForFile_args() {
+    public getFileInfo_args() {
     }
 
-    public getNewBlockIdForFile_args(
+    public getFileInfo_args(
       long fileId)
     {
       this();
@@ -10061,13 +11021,13 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNewBlockIdForFile_args(getNewBlockIdForFile_args other) {
+    public getFileInfo_args(getFileInfo_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.fileId = other.fileId;
     }
 
-    public getNewBlockIdForFile_args deepCopy() {
-      return new getNewBlockIdForFile_args(this);
+    public getFileInfo_args deepCopy() {
+      return new getFileInfo_args(this);
     }
 
     @Override
@@ -10086,7 +11046,7 @@ public class FileSystemMasterClientService {
     /**
      * the id of the file
      */
-    public getNewBlockIdForFile_args setFileId(long fileId) {
+    public getFileInfo_args setFileId(long fileId) {
       this.fileId = fileId;
       setFileIdIsSet(true);
       return this;
@@ -10144,12 +11104,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNewBlockIdForFile_args)
-        return this.equals((getNewBlockIdForFile_args)that);
+      if (that instanceof getFileInfo_args)
+        return this.equals((getFileInfo_args)that);
       return false;
     }
 
-    public boolean equals(getNewBlockIdForFile_args that) {
+    public boolean equals(getFileInfo_args that) {
       if (that == null)
         return false;
 
@@ -10178,7 +11138,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getNewBlockIdForFile_args other) {
+    public int compareTo(getFileInfo_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10212,7 +11172,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_args(");
+      StringBuilder sb = new StringBuilder("getFileInfo_args(");
       boolean first = true;
 
       sb.append("fileId:");
@@ -10245,15 +11205,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getNewBlockIdForFile_argsStandardSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_argsStandardScheme getScheme() {
-        return new getNewBlockIdForFile_argsStandardScheme();
+    private static class getFileInfo_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileInfo_argsStandardScheme getScheme() {
+        return new getFileInfo_argsStandardScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_argsStandardScheme extends StandardScheme<getNewBlockIdForFile_args> {
+    private static class getFileInfo_argsStandardScheme extends StandardScheme<getFileInfo_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10282,7 +11242,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfo_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10295,16 +11255,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getNewBlockIdForFile_argsTupleSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_argsTupleScheme getScheme() {
-        return new getNewBlockIdForFile_argsTupleScheme();
+    private static class getFileInfo_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileInfo_argsTupleScheme getScheme() {
+        return new getFileInfo_argsTupleScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_argsTupleScheme extends TupleScheme<getNewBlockIdForFile_args> {
+    private static class getFileInfo_argsTupleScheme extends TupleScheme<getFileInfo_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetFileId()) {
@@ -10317,7 +11277,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -10329,19 +11289,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getNewBlockIdForFile_result implements org.apache.thrift.TBase<getNewBlockIdForFile_result, getNewBlockIdForFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_result");
+  public static class getFileInfo_result implements org.apache.thrift.TBase<getFileInfo_result, getFileInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfo_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNewBlockIdForFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNewBlockIdForFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileInfo_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileInfo_resultTupleSchemeFactory());
     }
 
-    public long success; // required
+    public FileInfo success; // required
     public tachyon.thrift.TachyonTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -10406,82 +11366,80 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfo_result.class, metaDataMap);
     }
 
-    public getNewBlockIdForFile_result() {
+    public getFileInfo_result() {
     }
 
-    public getNewBlockIdForFile_result(
-      long success,
+    public getFileInfo_result(
+      FileInfo success,
       tachyon.thrift.TachyonTException e)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNewBlockIdForFile_result(getNewBlockIdForFile_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public getFileInfo_result(getFileInfo_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new FileInfo(other.success);
+      }
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
     }
 
-    public getNewBlockIdForFile_result deepCopy() {
-      return new getNewBlockIdForFile_result(this);
+    public getFileInfo_result deepCopy() {
+      return new getFileInfo_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
+      this.success = null;
       this.e = null;
     }
 
-    public long getSuccess() {
+    public FileInfo getSuccess() {
       return this.success;
     }
 
-    public getNewBlockIdForFile_result setSuccess(long success) {
+    public getFileInfo_result setSuccess(FileInfo success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public tachyon.thrift.TachyonTException getE() {
       return this.e;
     }
 
-    public getNewBlockIdForFile_result setE(tachyon.thrift.TachyonTException e) {
+    public getFileInfo_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -10507,7 +11465,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
+          setSuccess((FileInfo)value);
         }
         break;
 
@@ -10525,7 +11483,7 @@ public class FileSystemMasterClientService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Long.valueOf(getSuccess());
+        return getSuccess();
 
       case E:
         return getE();
@@ -10553,21 +11511,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNewBlockIdForFile_result)
-        return this.equals((getNewBlockIdForFile_result)that);
+      if (that instanceof getFileInfo_result)
+        return this.equals((getFileInfo_result)that);
       return false;
     }
 
-    public boolean equals(getNewBlockIdForFile_result that) {
+    public boolean equals(getFileInfo_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -10587,7 +11545,7 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
+      boolean present_success = true && (isSetSuccess());
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -10601,7 +11559,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getNewBlockIdForFile_result other) {
+    public int compareTo(getFileInfo_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10645,11 +11603,15 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_result(");
+      StringBuilder sb = new StringBuilder("getFileInfo_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("e:");
@@ -10666,6 +11628,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -10678,23 +11643,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getNewBlockIdForFile_resultStandardSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_resultStandardScheme getScheme() {
-        return new getNewBlockIdForFile_resultStandardScheme();
+    private static class getFileInfo_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileInfo_resultStandardScheme getScheme() {
+        return new getFileInfo_resultStandardScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_resultStandardScheme extends StandardScheme<getNewBlockIdForFile_result> {
+    private static class getFileInfo_resultStandardScheme extends StandardScheme<getFileInfo_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10705,8 +11668,9 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new FileInfo();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -10732,13 +11696,13 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfo_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -10752,16 +11716,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getNewBlockIdForFile_resultTupleSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_resultTupleScheme getScheme() {
-        return new getNewBlockIdForFile_resultTupleScheme();
+    private static class getFileInfo_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileInfo_resultTupleScheme getScheme() {
+        return new getFileInfo_resultTupleScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_resultTupleScheme extends TupleScheme<getNewBlockIdForFile_result> {
+    private static class getFileInfo_resultTupleScheme extends TupleScheme<getFileInfo_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -10772,7 +11736,7 @@ public class FileSystemMasterClientService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
@@ -10780,11 +11744,12 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          struct.success = new FileInfo();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -10797,20 +11762,28 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getUfsAddress_args implements org.apache.thrift.TBase<getUfsAddress_args, getUfsAddress_args._Fields>, java.io.Serializable, Cloneable, Comparable<getUfsAddress_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUfsAddress_args");
+  public static class getFileInfoBatch_args implements org.apache.thrift.TBase<getFileInfoBatch_args, getFileInfoBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfoBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfoBatch_args");
 
+    private static final org.apache.thrift.protocol.TField FILE_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("fileIds", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getUfsAddress_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getUfsAddress_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileInfoBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileInfoBatch_argsTupleSchemeFactory());
     }
 
+    /**
+     * the ids of the files
+     */
+    public List<Long> fileIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      /**
+       * the ids of the files
+       */
+      FILE_IDS((short)1, "fileIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10825,6 +11798,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // FILE_IDS
+            return FILE_IDS;
           default:
             return null;
         }
@@ -10863,37 +11838,110 @@ public class FileSystemMasterClientService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_IDS, new org.apache.thrift.meta_data.FieldMetaData("fileIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUfsAddress_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfoBatch_args.class, metaDataMap);
     }
 
-    public getUfsAddress_args() {
+    public getFileInfoBatch_args() {
+    }
+
+    public getFileInfoBatch_args(
+      List<Long> fileIds)
+    {
+      this();
+      this.fileIds = fileIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUfsAddress_args(getUfsAddress_args other) {
+    public getFileInfoBatch_args(getFileInfoBatch_args other) {
+      if (other.isSetFileIds()) {
+        List<Long> __this__fileIds = new ArrayList<Long>(other.fileIds);
+        this.fileIds = __this__fileIds;
+      }
     }
 
-    public getUfsAddress_args deepCopy() {
-      return new getUfsAddress_args(this);
+    public getFileInfoBatch_args deepCopy() {
+      return new getFileInfoBatch_args(this);
     }
 
     @Override
     public void clear() {
+      this.fileIds = null;
+    }
+
+    public int getFileIdsSize() {
+      return (this.fileIds == null) ? 0 : this.fileIds.size();
+    }
+
+    public java.util.Iterator<Long> getFileIdsIterator() {
+      return (this.fileIds == null) ? null : this.fileIds.iterator();
+    }
+
+    public void addToFileIds(long elem) {
+      if (this.fileIds == null) {
+        this.fileIds = new ArrayList<Long>();
+      }
+      this.fileIds.add(elem);
+    }
+
+    /**
+     * the ids of the files
+     */
+    public List<Long> getFileIds() {
+      return this.fileIds;
+    }
+
+    /**
+     * the ids of the files
+     */
+    public getFileInfoBatch_args setFileIds(List<Long> fileIds) {
+      this.fileIds = fileIds;
+      return this;
+    }
+
+    public void unsetFileIds() {
+      this.fileIds = null;
+    }
+
+    /** Returns true if field fileIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileIds() {
+      return this.fileIds != null;
+    }
+
+    public void setFileIdsIsSet(boolean value) {
+      if (!value) {
+        this.fileIds = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case FILE_IDS:
+        if (value == null) {
+          unsetFileIds();
+        } else {
+          setFileIds((List<Long>)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case FILE_IDS:
+        return getFileIds();
+
       }
       throw new IllegalStateException();
     }
@@ -10905,6 +11953,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
+      case FILE_IDS:
+        return isSetFileIds();
       }
       throw new IllegalStateException();
     }
@@ -10913,15 +11963,24 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getUfsAddress_args)
-        return this.equals((getUfsAddress_args)that);
+      if (that instanceof getFileInfoBatch_args)
+        return this.equals((getFileInfoBatch_args)that);
       return false;
     }
 
-    public boolean equals(getUfsAddress_args that) {
+    public boolean equals(getFileInfoBatch_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_fileIds = true && this.isSetFileIds();
+      boolean that_present_fileIds = true && that.isSetFileIds();
+      if (this_present_fileIds || that_present_fileIds) {
+        if (!(this_present_fileIds && that_present_fileIds))
+          return false;
+        if (!this.fileIds.equals(that.fileIds))
+          return false;
+      }
+
       return true;
     }
 
@@ -10929,17 +11988,3281 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_fileIds = true && (isSetFileIds());
+      list.add(present_fileIds);
+      if (present_fileIds)
+        list.add(fileIds);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getFileInfoBatch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileIds()).compareTo(other.isSetFileIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileIds, other.fileIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getFileInfoBatch_args(");
+      boolean first = true;
+
+      sb.append("fileIds:");
+      if (this.fileIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fileIds);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFileInfoBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileInfoBatch_argsStandardScheme getScheme() {
+        return new getFileInfoBatch_argsStandardScheme();
+      }
+    }
+
+    private static class getFileInfoBatch_argsStandardScheme extends StandardScheme<getFileInfoBatch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfoBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list72 = iprot.readListBegin();
+                  struct.fileIds = new ArrayList<Long>(_list72.size);
+                  long _elem73;
+                  for (int _i74 = 0; _i74 < _list72.size; ++_i74)
+                  {
+                    _elem73 = iprot.readI64();
+                    struct.fileIds.add(_elem73);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFileIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfoBatch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.fileIds != null) {
+          oprot.writeFieldBegin(FILE_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.fileIds.size()));
+            for (long _iter75 : struct.fileIds)
+            {
+              oprot.writeI64(_iter75);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFileInfoBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileInfoBatch_argsTupleScheme getScheme() {
+        return new getFileInfoBatch_argsTupleScheme();
+      }
+    }
+
+    private static class getFileInfoBatch_argsTupleScheme extends TupleScheme<getFileInfoBatch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfoBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileIds()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileIds()) {
+          {
+            oprot.writeI32(struct.fileIds.size());
+            for (long _iter76 : struct.fileIds)
+            {
+              oprot.writeI64(_iter76);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfoBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list77 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.fileIds = new ArrayList<Long>(_list77.size);
+            long _elem78;
+            for (int _i79 = 0; _i79 < _list77.size; ++_i79)
+            {
+              _elem78 = iprot.readI64();
+              struct.fileIds.add(_elem78);
+            }
+          }
+          struct.setFileIdsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getFileInfoBatch_result implements org.apache.thrift.TBase<getFileInfoBatch_result, getFileInfoBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfoBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfoBatch_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getFileInfoBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileInfoBatch_resultTupleSchemeFactory());
+    }
+
+    public List<FileOperationResult> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperationResult.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfoBatch_result.class, metaDataMap);
+    }
+
+    public getFileInfoBatch_result() {
+    }
+
+    public getFileInfoBatch_result(
+      List<FileOperationResult> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFileInfoBatch_result(getFileInfoBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<FileOperationResult> __this__success = new ArrayList<FileOperationResult>(other.success.size());
+        for (FileOperationResult other_element : other.success) {
+          __this__success.add(new FileOperationResult(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public getFileInfoBatch_result deepCopy() {
+      return new getFileInfoBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileOperationResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileOperationResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileOperationResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileOperationResult> getSuccess() {
+      return this.success;
+    }
+
+    public getFileInfoBatch_result setSuccess(List<FileOperationResult> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<FileOperationResult>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFileInfoBatch_result)
+        return this.equals((getFileInfoBatch_result)that);
+      return false;
+    }
+
+    public boolean equals(getFileInfoBatch_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getFileInfoBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+        }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getFileInfoBatch_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFileInfoBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileInfoBatch_resultStandardScheme getScheme() {
+        return new getFileInfoBatch_resultStandardScheme();
+      }
+    }
+
+    private static class getFileInfoBatch_resultStandardScheme extends StandardScheme<getFileInfoBatch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfoBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list80 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileOperationResult>(_list80.size);
+                  FileOperationResult _elem81;
+                  for (int _i82 = 0; _i82 < _list80.size; ++_i82)
+                  {
+                    _elem81 = new FileOperationResult();
+                    _elem81.read(iprot);
+                    struct.success.add(_elem81);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfoBatch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileOperationResult _iter83 : struct.success)
+            {
+              _iter83.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFileInfoBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileInfoBatch_resultTupleScheme getScheme() {
+        return new getFileInfoBatch_resultTupleScheme();
+      }
+    }
+
+    private static class getFileInfoBatch_resultTupleScheme extends TupleScheme<getFileInfoBatch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfoBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileOperationResult _iter84 : struct.success)
+            {
+              _iter84.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfoBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list85 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileOperationResult>(_list85.size);
+            FileOperationResult _elem86;
+            for (int _i87 = 0; _i87 < _list85.size; ++_i87)
+            {
+              _elem86 = new FileOperationResult();
+              _elem86.read(iprot);
+              struct.success.add(_elem86);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getFileInfoList_args implements org.apache.thrift.TBase<getFileInfoList_args, getFileInfoList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfoList_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfoList_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getFileInfoList_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileInfoList_argsTupleSchemeFactory());
+    }
+
+    /**
+     * the id of the file
+     */
+    public long fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the file
+       */
+      FILE_ID((short)1, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfoList_args.class, metaDataMap);
+    }
+
+    public getFileInfoList_args() {
+    }
+
+    public getFileInfoList_args(
+      long fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFileInfoList_args(getFileInfoList_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+    }
+
+    public getFileInfoList_args deepCopy() {
+      return new getFileInfoList_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    /**
+     * the id of the file
+     */
+    public long getFileId() {
+      return this.fileId;
+    }
+
+    /**
+     * the id of the file
+     */
+    public getFileInfoList_args setFileId(long fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Long.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFileInfoList_args)
+        return this.equals((getFileInfoList_args)that);
+      return false;
+    }
+
+    public boolean equals(getFileInfoList_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_fileId = true;
+      list.add(present_fileId);
+      if (present_fileId)
+        list.add(fileId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getFileInfoList_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getFileInfoList_args(");
+      boolean first = true;
+
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFileInfoList_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileInfoList_argsStandardScheme getScheme() {
+        return new getFileInfoList_argsStandardScheme();
+      }
+    }
+
+    private static class getFileInfoList_argsStandardScheme extends StandardScheme<getFileInfoList_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfoList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.fileId = iprot.readI64();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfoList_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI64(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFileInfoList_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileInfoList_argsTupleScheme getScheme() {
+        return new getFileInfoList_argsTupleScheme();
+      }
+    }
+
+    private static class getFileInfoList_argsTupleScheme extends TupleScheme<getFileInfoList_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfoList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI64(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfoList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI64();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getFileInfoList_result implements org.apache.thrift.TBase<getFileInfoList_result, getFileInfoList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileInfoList_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileInfoList_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getFileInfoList_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileInfoList_resultTupleSchemeFactory());
+    }
+
+    public List<FileInfo> success; // required
+    public tachyon.thrift.TachyonTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class))));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileInfoList_result.class, metaDataMap);
+    }
+
+    public getFileInfoList_result() {
+    }
+
+    public getFileInfoList_result(
+      List<FileInfo> success,
+      tachyon.thrift.TachyonTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFileInfoList_result(getFileInfoList_result other) {
+      if (other.isSetSuccess()) {
+        List<FileInfo> __this__success = new ArrayList<FileInfo>(other.success.size());
+        for (FileInfo other_element : other.success) {
+          __this__success.add(new FileInfo(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetE()) {
+        this.e = new tachyon.thrift.TachyonTException(other.e);
+      }
+    }
+
+    public getFileInfoList_result deepCopy() {
+      return new getFileInfoList_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileInfo elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileInfo>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileInfo> getSuccess() {
+      return this.success;
+    }
+
+    public getFileInfoList_result setSuccess(List<FileInfo> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
+    }
+
+    public getFileInfoList_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<FileInfo>)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((tachyon.thrift.TachyonTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFileInfoList_result)
+        return this.equals((getFileInfoList_result)that);
+      return false;
+    }
+
+    public boolean equals(getFileInfoList_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getFileInfoList_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getFileInfoList_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFileInfoList_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileInfoList_resultStandardScheme getScheme() {
+        return new getFileInfoList_resultStandardScheme();
+      }
+    }
+
+    private static class getFileInfoList_resultStandardScheme extends StandardScheme<getFileInfoList_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileInfoList_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileInfo>(_list16.size);
+                  FileInfo _elem17;
+                  for (int _i18 = 0; _i18 < _list16.size; ++_i18)
+                  {
+                    _elem17 = new FileInfo();
+                    _elem17.read(iprot);
+                    struct.success.add(_elem17);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileInfoList_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileInfo _iter19 : struct.success)
+            {
+              _iter19.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFileInfoList_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileInfoList_resultTupleScheme getScheme() {
+        return new getFileInfoList_resultTupleScheme();
+      }
+    }
+
+    private static class getFileInfoList_resultTupleScheme extends TupleScheme<getFileInfoList_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileInfoList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileInfo _iter20 : struct.success)
+            {
+              _iter20.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileInfoList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileInfo>(_list21.size);
+            FileInfo _elem22;
+            for (int _i23 = 0; _i23 < _list21.size; ++_i23)
+            {
+              _elem22 = new FileInfo();
+              _elem22.read(iprot);
+              struct.success.add(_elem22);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new tachyon.thrift.TachyonTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getNewBlockIdForFile_args implements org.apache.thrift.TBase<getNewBlockIdForFile_args, getNewBlockIdForFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getNewBlockIdForFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNewBlockIdForFile_argsTupleSchemeFactory());
+    }
+
+    /**
+     * the id of the file
+     */
+    public long fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the file
+       */
+      FILE_ID((short)1, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_args.class, metaDataMap);
+    }
+
+    public getNewBlockIdForFile_args() {
+    }
+
+    public getNewBlockIdForFile_args(
+      long fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getNewBlockIdForFile_args(getNewBlockIdForFile_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+    }
+
+    public getNewBlockIdForFile_args deepCopy() {
+      return new getNewBlockIdForFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    /**
+     * the id of the file
+     */
+    public long getFileId() {
+      return this.fileId;
+    }
+
+    /**
+     * the id of the file
+     */
+    public getNewBlockIdForFile_args setFileId(long fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Long.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getNewBlockIdForFile_args)
+        return this.equals((getNewBlockIdForFile_args)that);
+      return false;
+    }
+
+    public boolean equals(getNewBlockIdForFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_fileId = true;
+      list.add(present_fileId);
+      if (present_fileId)
+        list.add(fileId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getNewBlockIdForFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_args(");
+      boolean first = true;
+
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getNewBlockIdForFile_argsStandardSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_argsStandardScheme getScheme() {
+        return new getNewBlockIdForFile_argsStandardScheme();
+      }
+    }
+
+    private static class getNewBlockIdForFile_argsStandardScheme extends StandardScheme<getNewBlockIdForFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.fileId = iprot.readI64();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI64(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getNewBlockIdForFile_argsTupleSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_argsTupleScheme getScheme() {
+        return new getNewBlockIdForFile_argsTupleScheme();
+      }
+    }
+
+    private static class getNewBlockIdForFile_argsTupleScheme extends TupleScheme<getNewBlockIdForFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI64(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI64();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getNewBlockIdForFile_result implements org.apache.thrift.TBase<getNewBlockIdForFile_result, getNewBlockIdForFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getNewBlockIdForFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNewBlockIdForFile_resultTupleSchemeFactory());
+    }
+
+    public long success; // required
+    public tachyon.thrift.TachyonTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_result.class, metaDataMap);
+    }
+
+    public getNewBlockIdForFile_result() {
+    }
+
+    public getNewBlockIdForFile_result(
+      long success,
+      tachyon.thrift.TachyonTException e)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getNewBlockIdForFile_result(getNewBlockIdForFile_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetE()) {
+        this.e = new tachyon.thrift.TachyonTException(other.e);
+      }
+    }
+
+    public getNewBlockIdForFile_result deepCopy() {
+      return new getNewBlockIdForFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.e = null;
+    }
+
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public getNewBlockIdForFile_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
+    }
+
+    public getNewBlockIdForFile_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Long)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((tachyon.thrift.TachyonTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Long.valueOf(getSuccess());
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getNewBlockIdForFile_result)
+        return this.equals((getNewBlockIdForFile_result)that);
+      return false;
+    }
+
+    public boolean equals(getNewBlockIdForFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getNewBlockIdForFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getNewBlockIdForFile_resultStandardSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_resultStandardScheme getScheme() {
+        return new getNewBlockIdForFile_resultStandardScheme();
+      }
+    }
+
+    private static class getNewBlockIdForFile_resultStandardScheme extends StandardScheme<getNewBlockIdForFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getNewBlockIdForFile_resultTupleSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_resultTupleScheme getScheme() {
+        return new getNewBlockIdForFile_resultTupleScheme();
+      }
+    }
+
+    private static class getNewBlockIdForFile_resultTupleScheme extends TupleScheme<getNewBlockIdForFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new tachyon.thrift.TachyonTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getUfsAddress_args implements org.apache.thrift.TBase<getUfsAddress_args, getUfsAddress_args._Fields>, java.io.Serializable, Cloneable, Comparable<getUfsAddress_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUfsAddress_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getUfsAddress_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUfsAddress_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUfsAddress_args.class, metaDataMap);
+    }
+
+    public getUfsAddress_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getUfsAddress_args(getUfsAddress_args other) {
+    }
+
+    public getUfsAddress_args deepCopy() {
+      return new getUfsAddress_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getUfsAddress_args)
+        return this.equals((getUfsAddress_args)that);
+      return false;
+    }
+
+    public boolean equals(getUfsAddress_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getUfsAddress_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getUfsAddress_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getUfsAddress_argsStandardSchemeFactory implements SchemeFactory {
+      public getUfsAddress_argsStandardScheme getScheme() {
+        return new getUfsAddress_argsStandardScheme();
+      }
+    }
+
+    private static class getUfsAddress_argsStandardScheme extends StandardScheme<getUfsAddress_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getUfsAddress_argsTupleSchemeFactory implements SchemeFactory {
+      public getUfsAddress_argsTupleScheme getScheme() {
+        return new getUfsAddress_argsTupleScheme();
+      }
+    }
+
+    private static class getUfsAddress_argsTupleScheme extends TupleScheme<getUfsAddress_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class getUfsAddress_result implements org.apache.thrift.TBase<getUfsAddress_result, getUfsAddress_result._Fields>, java.io.Serializable, Cloneable, Comparable<getUfsAddress_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUfsAddress_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getUfsAddress_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUfsAddress_resultTupleSchemeFactory());
+    }
+
+    public String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUfsAddress_result.class, metaDataMap);
+    }
+
+    public getUfsAddress_result() {
+    }
+
+    public getUfsAddress_result(
+      String success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getUfsAddress_result(getUfsAddress_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+    }
+
+    public getUfsAddress_result deepCopy() {
+      return new getUfsAddress_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public getUfsAddress_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getUfsAddress_result)
+        return this.equals((getUfsAddress_result)that);
+      return false;
+    }
+
+    public boolean equals(getUfsAddress_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getUfsAddress_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getUfsAddress_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getUfsAddress_resultStandardSchemeFactory implements SchemeFactory {
+      public getUfsAddress_resultStandardScheme getScheme() {
+        return new getUfsAddress_resultStandardScheme();
+      }
+    }
+
+    private static class getUfsAddress_resultStandardScheme extends StandardScheme<getUfsAddress_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getUfsAddress_resultTupleSchemeFactory implements SchemeFactory {
+      public getUfsAddress_resultTupleScheme getScheme() {
+        return new getUfsAddress_resultTupleScheme();
+      }
+    }
+
+    private static class getUfsAddress_resultTupleScheme extends TupleScheme<getUfsAddress_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class loadMetadata_args implements org.apache.thrift.TBase<loadMetadata_args, loadMetadata_args._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_args");
+
+    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new loadMetadata_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new loadMetadata_argsTupleSchemeFactory());
+    }
+
+    /**
+     * the path of the under file system
+     */
+    public String ufsPath; // required
+    /**
+     * whether to load meta data recursively
+     */
+    public boolean recursive; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the under file system
+       */
+      UFS_PATH((short)1, "ufsPath"),
+      /**
+       * whether to load meta data recursively
+       */
+      RECURSIVE((short)2, "recursive");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // UFS_PATH
+            return UFS_PATH;
+          case 2: // RECURSIVE
+            return RECURSIVE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __RECURSIVE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_args.class, metaDataMap);
+    }
+
+    public loadMetadata_args() {
+    }
+
+    public loadMetadata_args(
+      String ufsPath,
+      boolean recursive)
+    {
+      this();
+      this.ufsPath = ufsPath;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public loadMetadata_args(loadMetadata_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetUfsPath()) {
+        this.ufsPath = other.ufsPath;
+      }
+      this.recursive = other.recursive;
+    }
+
+    public loadMetadata_args deepCopy() {
+      return new loadMetadata_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.ufsPath = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
+    }
+
+    /**
+     * the path of the under file system
+     */
+    public String getUfsPath() {
+      return this.ufsPath;
+    }
+
+    /**
+     * the path of the under file system
+     */
+    public loadMetadata_args setUfsPath(String ufsPath) {
+      this.ufsPath = ufsPath;
+      return this;
+    }
+
+    public void unsetUfsPath() {
+      this.ufsPath = null;
+    }
+
+    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetUfsPath() {
+      return this.ufsPath != null;
+    }
+
+    public void setUfsPathIsSet(boolean value) {
+      if (!value) {
+        this.ufsPath = null;
+      }
+    }
+
+    /**
+     * whether to load meta data recursively
+     */
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    /**
+     * whether to load meta data recursively
+     */
+    public loadMetadata_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case UFS_PATH:
+        if (value == null) {
+          unsetUfsPath();
+        } else {
+          setUfsPath((String)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case UFS_PATH:
+        return getUfsPath();
+
+      case RECURSIVE:
+        return Boolean.valueOf(isRecursive());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case UFS_PATH:
+        return isSetUfsPath();
+      case RECURSIVE:
+        return isSetRecursive();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof loadMetadata_args)
+        return this.equals((loadMetadata_args)that);
+      return false;
+    }
+
+    public boolean equals(loadMetadata_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_ufsPath = true && this.isSetUfsPath();
+      boolean that_present_ufsPath = true && that.isSetUfsPath();
+      if (this_present_ufsPath || that_present_ufsPath) {
+        if (!(this_present_ufsPath && that_present_ufsPath))
+          return false;
+        if (!this.ufsPath.equals(that.ufsPath))
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_ufsPath = true && (isSetUfsPath());
+      list.add(present_ufsPath);
+      if (present_ufsPath)
+        list.add(ufsPath);
+
+      boolean present_recursive = true;
+      list.add(present_recursive);
+      if (present_recursive)
+        list.add(recursive);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getUfsAddress_args other) {
+    public int compareTo(loadMetadata_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUfsPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -10957,9 +15280,20 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getUfsAddress_args(");
+      StringBuilder sb = new StringBuilder("loadMetadata_args(");
       boolean first = true;
 
+      sb.append("ufsPath:");
+      if (this.ufsPath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ufsPath);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10979,21 +15313,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getUfsAddress_argsStandardSchemeFactory implements SchemeFactory {
-      public getUfsAddress_argsStandardScheme getScheme() {
-        return new getUfsAddress_argsStandardScheme();
+    private static class loadMetadata_argsStandardSchemeFactory implements SchemeFactory {
+      public loadMetadata_argsStandardScheme getScheme() {
+        return new loadMetadata_argsStandardScheme();
       }
     }
 
-    private static class getUfsAddress_argsStandardScheme extends StandardScheme<getUfsAddress_args> {
+    private static class loadMetadata_argsStandardScheme extends StandardScheme<loadMetadata_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11003,6 +15339,22 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // UFS_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.ufsPath = iprot.readString();
+                struct.setUfsPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11014,53 +15366,90 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.ufsPath != null) {
+          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
+          oprot.writeString(struct.ufsPath);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getUfsAddress_argsTupleSchemeFactory implements SchemeFactory {
-      public getUfsAddress_argsTupleScheme getScheme() {
-        return new getUfsAddress_argsTupleScheme();
+    private static class loadMetadata_argsTupleSchemeFactory implements SchemeFactory {
+      public loadMetadata_argsTupleScheme getScheme() {
+        return new loadMetadata_argsTupleScheme();
       }
     }
 
-    private static class getUfsAddress_argsTupleScheme extends TupleScheme<getUfsAddress_args> {
+    private static class loadMetadata_argsTupleScheme extends TupleScheme<loadMetadata_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUfsPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetRecursive()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUfsPath()) {
+          oprot.writeString(struct.ufsPath);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.ufsPath = iprot.readString();
+          struct.setUfsPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getUfsAddress_result implements org.apache.thrift.TBase<getUfsAddress_result, getUfsAddress_result._Fields>, java.io.Serializable, Cloneable, Comparable<getUfsAddress_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUfsAddress_result");
+  public static class loadMetadata_result implements org.apache.thrift.TBase<loadMetadata_result, loadMetadata_result._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getUfsAddress_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getUfsAddress_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new loadMetadata_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new loadMetadata_resultTupleSchemeFactory());
     }
 
-    public String success; // required
+    public long success; // required
+    public tachyon.thrift.TachyonTException e; // required
+    public tachyon.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -11077,6 +15466,10 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E
+            return E;
+          case 2: // IOE
+            return IOE;
           default:
             return null;
         }
@@ -11117,64 +15510,130 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUfsAddress_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_result.class, metaDataMap);
     }
 
-    public getUfsAddress_result() {
+    public loadMetadata_result() {
     }
 
-    public getUfsAddress_result(
-      String success)
+    public loadMetadata_result(
+      long success,
+      tachyon.thrift.TachyonTException e,
+      tachyon.thrift.ThriftIOException ioe)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
+      this.e = e;
+      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUfsAddress_result(getUfsAddress_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
+    public loadMetadata_result(loadMetadata_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetE()) {
+        this.e = new tachyon.thrift.TachyonTException(other.e);
+      }
+      if (other.isSetIoe()) {
+        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
       }
     }
 
-    public getUfsAddress_result deepCopy() {
-      return new getUfsAddress_result(this);
+    public loadMetadata_result deepCopy() {
+      return new loadMetadata_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.e = null;
+      this.ioe = null;
     }
 
-    public String getSuccess() {
+    public long getSuccess() {
       return this.success;
     }
 
-    public getUfsAddress_result setSuccess(String success) {
+    public loadMetadata_result setSuccess(long success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
+    }
+
+    public loadMetadata_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.success = null;
+        this.e = null;
+      }
+    }
+
+    public tachyon.thrift.ThriftIOException getIoe() {
+      return this.ioe;
+    }
+
+    public loadMetadata_result setIoe(tachyon.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
+      return this;
+    }
+
+    public void unsetIoe() {
+      this.ioe = null;
+    }
+
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
+    }
+
+    public void setIoeIsSet(boolean value) {
+      if (!value) {
+        this.ioe = null;
       }
     }
 
@@ -11184,7 +15643,23 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
+          setSuccess((Long)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((tachyon.thrift.TachyonTException)value);
+        }
+        break;
+
+      case IOE:
+        if (value == null) {
+          unsetIoe();
+        } else {
+          setIoe((tachyon.thrift.ThriftIOException)value);
         }
         break;
 
@@ -11194,7 +15669,13 @@ public class FileSystemMasterClientService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Long.valueOf(getSuccess());
+
+      case E:
+        return getE();
+
+      case IOE:
+        return getIoe();
 
       }
       throw new IllegalStateException();
@@ -11209,6 +15690,10 @@ public class FileSystemMasterClientService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E:
+        return isSetE();
+      case IOE:
+        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -11217,21 +15702,39 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getUfsAddress_result)
-        return this.equals((getUfsAddress_result)that);
+      if (that instanceof loadMetadata_result)
+        return this.equals((loadMetadata_result)that);
       return false;
     }
 
-    public boolean equals(getUfsAddress_result that) {
+    public boolean equals(loadMetadata_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
           return false;
       }
 
@@ -11242,16 +15745,26 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
+      boolean present_success = true;
       list.add(present_success);
       if (present_success)
         list.add(success);
 
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getUfsAddress_result other) {
+    public int compareTo(loadMetadata_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11268,6 +15781,26 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -11285,14 +15818,26 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getUfsAddress_result(");
+      StringBuilder sb = new StringBuilder("loadMetadata_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        sb.append(this.e);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ioe:");
+      if (this.ioe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ioe);
       }
       first = false;
       sb.append(")");
@@ -11314,21 +15859,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getUfsAddress_resultStandardSchemeFactory implements SchemeFactory {
-      public getUfsAddress_resultStandardScheme getScheme() {
-        return new getUfsAddress_resultStandardScheme();
+    private static class loadMetadata_resultStandardSchemeFactory implements SchemeFactory {
+      public loadMetadata_resultStandardScheme getScheme() {
+        return new loadMetadata_resultStandardScheme();
       }
     }
 
-    private static class getUfsAddress_resultStandardScheme extends StandardScheme<getUfsAddress_result> {
+    private static class loadMetadata_resultStandardScheme extends StandardScheme<loadMetadata_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11339,13 +15886,31 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new tachyon.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11357,13 +15922,23 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -11372,71 +15947,93 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getUfsAddress_resultTupleSchemeFactory implements SchemeFactory {
-      public getUfsAddress_resultTupleScheme getScheme() {
-        return new getUfsAddress_resultTupleScheme();
+    private static class loadMetadata_resultTupleSchemeFactory implements SchemeFactory {
+      public loadMetadata_resultTupleScheme getScheme() {
+        return new loadMetadata_resultTupleScheme();
       }
     }
 
-    private static class getUfsAddress_resultTupleScheme extends TupleScheme<getUfsAddress_result> {
+    private static class loadMetadata_resultTupleScheme extends TupleScheme<loadMetadata_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        if (struct.isSetIoe()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          oprot.writeI64(struct.success);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = iprot.readI64();
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.e = new tachyon.thrift.TachyonTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.ioe = new tachyon.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class loadMetadata_args implements org.apache.thrift.TBase<loadMetadata_args, loadMetadata_args._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_args");
+  public static class mkdir_args implements org.apache.thrift.TBase<mkdir_args, mkdir_args._Fields>, java.io.Serializable, Cloneable, Comparable<mkdir_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mkdir_args");
 
-    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new loadMetadata_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new loadMetadata_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new mkdir_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mkdir_argsTupleSchemeFactory());
     }
 
     /**
-     * the path of the under file system
+     * the path of the directory
      */
-    public String ufsPath; // required
+    public String path; // required
     /**
-     * whether to load meta data recursively
+     * the method options
      */
-    public boolean recursive; // required
+    public MkdirTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the under file system
+       * the path of the directory
        */
-      UFS_PATH((short)1, "ufsPath"),
+      PATH((short)1, "path"),
       /**
-       * whether to load meta data recursively
+       * the method options
        */
-      RECURSIVE((short)2, "recursive");
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -11451,10 +16048,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // UFS_PATH
-            return UFS_PATH;
-          case 2: // RECURSIVE
-            return RECURSIVE;
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
           default:
             return null;
         }
@@ -11495,128 +16092,126 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __RECURSIVE_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MkdirTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mkdir_args.class, metaDataMap);
     }
 
-    public loadMetadata_args() {
+    public mkdir_args() {
     }
 
-    public loadMetadata_args(
-      String ufsPath,
-      boolean recursive)
+    public mkdir_args(
+      String path,
+      MkdirTOptions options)
     {
       this();
-      this.ufsPath = ufsPath;
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+      this.path = path;
+      this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public loadMetadata_args(loadMetadata_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetUfsPath()) {
-        this.ufsPath = other.ufsPath;
+    public mkdir_args(mkdir_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new MkdirTOptions(other.options);
       }
-      this.recursive = other.recursive;
     }
 
-    public loadMetadata_args deepCopy() {
-      return new loadMetadata_args(this);
+    public mkdir_args deepCopy() {
+      return new mkdir_args(this);
     }
 
     @Override
     public void clear() {
-      this.ufsPath = null;
-      setRecursiveIsSet(false);
-      this.recursive = false;
+      this.path = null;
+      this.options = null;
     }
 
     /**
-     * the path of the under file system
+     * the path of the directory
      */
-    public String getUfsPath() {
-      return this.ufsPath;
+    public String getPath() {
+      return this.path;
     }
 
     /**
-     * the path of the under file system
+     * the path of the directory
      */
-    public loadMetadata_args setUfsPath(String ufsPath) {
-      this.ufsPath = ufsPath;
+    public mkdir_args setPath(String path) {
+      this.path = path;
       return this;
     }
 
-    public void unsetUfsPath() {
-      this.ufsPath = null;
+    public void unsetPath() {
+      this.path = null;
     }
 
-    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetUfsPath() {
-      return this.ufsPath != null;
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
     }
 
-    public void setUfsPathIsSet(boolean value) {
+    public void setPathIsSet(boolean value) {
       if (!value) {
-        this.ufsPath = null;
+        this.path = null;
       }
     }
 
     /**
-     * whether to load meta data recursively
+     * the method options
      */
-    public boolean isRecursive() {
-      return this.recursive;
+    public MkdirTOptions getOptions() {
+      return this.options;
     }
 
     /**
-     * whether to load meta data recursively
+     * the method options
      */
-    public loadMetadata_args setRecursive(boolean recursive) {
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+    public mkdir_args setOptions(MkdirTOptions options) {
+      this.options = options;
       return this;
     }
 
-    public void unsetRecursive() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    public void unsetOptions() {
+      this.options = null;
     }
 
-    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
-    public boolean isSetRecursive() {
-      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
     }
 
-    public void setRecursiveIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case UFS_PATH:
+      case PATH:
         if (value == null) {
-          unsetUfsPath();
+          unsetPath();
         } else {
-          setUfsPath((String)value);
+          setPath((String)value);
         }
         break;
 
-      case RECURSIVE:
+      case OPTIONS:
         if (value == null) {
-          unsetRecursive();
+          unsetOptions();
         } else {
-          setRecursive((Boolean)value);
+          setOptions((MkdirTOptions)value);
         }
         break;
 
@@ -11625,11 +16220,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case UFS_PATH:
-        return getUfsPath();
+      case PATH:
+        return getPath();
 
-      case RECURSIVE:
-        return Boolean.valueOf(isRecursive());
+      case OPTIONS:
+        return getOptions();
 
       }
       throw new IllegalStateException();
@@ -11642,10 +16237,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case UFS_PATH:
-        return isSetUfsPath();
-      case RECURSIVE:
-        return isSetRecursive();
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -11654,30 +16249,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof loadMetadata_args)
-        return this.equals((loadMetadata_args)that);
+      if (that instanceof mkdir_args)
+        return this.equals((mkdir_args)that);
       return false;
     }
 
-    public boolean equals(loadMetadata_args that) {
+    public boolean equals(mkdir_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_ufsPath = true && this.isSetUfsPath();
-      boolean that_present_ufsPath = true && that.isSetUfsPath();
-      if (this_present_ufsPath || that_present_ufsPath) {
-        if (!(this_present_ufsPath && that_present_ufsPath))
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
           return false;
-        if (!this.ufsPath.equals(that.ufsPath))
+        if (!this.path.equals(that.path))
           return false;
       }
 
-      boolean this_present_recursive = true;
-      boolean that_present_recursive = true;
-      if (this_present_recursive || that_present_recursive) {
-        if (!(this_present_recursive && that_present_recursive))
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
           return false;
-        if (this.recursive != that.recursive)
+        if (!this.options.equals(that.options))
           return false;
       }
 
@@ -11688,43 +16283,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_ufsPath = true && (isSetUfsPath());
-      list.add(present_ufsPath);
-      if (present_ufsPath)
-        list.add(ufsPath);
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
 
-      boolean present_recursive = true;
-      list.add(present_recursive);
-      if (present_recursive)
-        list.add(recursive);
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(loadMetadata_args other) {
+    public int compareTo(mkdir_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUfsPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRecursive()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11746,19 +16341,23 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("loadMetadata_args(");
+      StringBuilder sb = new StringBuilder("mkdir_args(");
       boolean first = true;
 
-      sb.append("ufsPath:");
-      if (this.ufsPath == null) {
+      sb.append("path:");
+      if (this.path == null) {
         sb.append("null");
       } else {
-        sb.append(this.ufsPath);
+        sb.append(this.path);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("recursive:");
-      sb.append(this.recursive);
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -11767,6 +16366,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -11779,23 +16381,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class loadMetadata_argsStandardSchemeFactory implements SchemeFactory {
-      public loadMetadata_argsStandardScheme getScheme() {
-        return new loadMetadata_argsStandardScheme();
+    private static class mkdir_argsStandardSchemeFactory implements SchemeFactory {
+      public mkdir_argsStandardScheme getScheme() {
+        return new mkdir_argsStandardScheme();
       }
     }
 
-    private static class loadMetadata_argsStandardScheme extends StandardScheme<loadMetadata_args> {
+    private static class mkdir_argsStandardScheme extends StandardScheme<mkdir_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mkdir_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11805,18 +16405,19 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // UFS_PATH
+            case 1: // PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.ufsPath = iprot.readString();
-                struct.setUfsPathIsSet(true);
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // RECURSIVE
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.recursive = iprot.readBool();
-                struct.setRecursiveIsSet(true);
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new MkdirTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -11832,82 +16433,85 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mkdir_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.ufsPath != null) {
-          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
-          oprot.writeString(struct.ufsPath);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
-        oprot.writeBool(struct.recursive);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class loadMetadata_argsTupleSchemeFactory implements SchemeFactory {
-      public loadMetadata_argsTupleScheme getScheme() {
-        return new loadMetadata_argsTupleScheme();
+    private static class mkdir_argsTupleSchemeFactory implements SchemeFactory {
+      public mkdir_argsTupleScheme getScheme() {
+        return new mkdir_argsTupleScheme();
       }
     }
 
-    private static class loadMetadata_argsTupleScheme extends TupleScheme<loadMetadata_args> {
+    private static class mkdir_argsTupleScheme extends TupleScheme<mkdir_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, mkdir_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetUfsPath()) {
+        if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetRecursive()) {
+        if (struct.isSetOptions()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetUfsPath()) {
-          oprot.writeString(struct.ufsPath);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
         }
-        if (struct.isSetRecursive()) {
-          oprot.writeBool(struct.recursive);
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, mkdir_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.ufsPath = iprot.readString();
-          struct.setUfsPathIsSet(true);
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.recursive = iprot.readBool();
-          struct.setRecursiveIsSet(true);
+          struct.options = new MkdirTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class loadMetadata_result implements org.apache.thrift.TBase<loadMetadata_result, loadMetadata_result._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_result");
+  public static class mkdir_result implements org.apache.thrift.TBase<mkdir_result, mkdir_result._Fields>, java.io.Serializable, Cloneable, Comparable<mkdir_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mkdir_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new loadMetadata_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new loadMetadata_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new mkdir_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mkdir_resultTupleSchemeFactory());
     }
 
-    public long success; // required
+    public boolean success; // required
     public tachyon.thrift.TachyonTException e; // required
     public tachyon.thrift.ThriftIOException ioe; // required
 
@@ -11982,20 +16586,20 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mkdir_result.class, metaDataMap);
     }
 
-    public loadMetadata_result() {
+    public mkdir_result() {
     }
 
-    public loadMetadata_result(
-      long success,
+    public mkdir_result(
+      boolean success,
       tachyon.thrift.TachyonTException e,
       tachyon.thrift.ThriftIOException ioe)
     {
@@ -12009,7 +16613,7 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public loadMetadata_result(loadMetadata_result other) {
+    public mkdir_result(mkdir_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetE()) {
@@ -12020,23 +16624,23 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public loadMetadata_result deepCopy() {
-      return new loadMetadata_result(this);
+    public mkdir_result deepCopy() {
+      return new mkdir_result(this);
     }
 
     @Override
     public void clear() {
       setSuccessIsSet(false);
-      this.success = 0;
+      this.success = false;
       this.e = null;
       this.ioe = null;
     }
 
-    public long getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public loadMetadata_result setSuccess(long success) {
+    public mkdir_result setSuccess(boolean success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -12059,7 +16663,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public loadMetadata_result setE(tachyon.thrift.TachyonTException e) {
+    public mkdir_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -12083,7 +16687,7 @@ public class FileSystemMasterClientService {
       return this.ioe;
     }
 
-    public loadMetadata_result setIoe(tachyon.thrift.ThriftIOException ioe) {
+    public mkdir_result setIoe(tachyon.thrift.ThriftIOException ioe) {
       this.ioe = ioe;
       return this;
     }
@@ -12109,7 +16713,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -12135,7 +16739,7 @@ public class FileSystemMasterClientService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Long.valueOf(getSuccess());
+        return Boolean.valueOf(isSuccess());
 
       case E:
         return getE();
@@ -12168,12 +16772,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof loadMetadata_result)
-        return this.equals((loadMetadata_result)that);
+      if (that instanceof mkdir_result)
+        return this.equals((mkdir_result)that);
       return false;
     }
 
-    public boolean equals(loadMetadata_result that) {
+    public boolean equals(mkdir_result that) {
       if (that == null)
         return false;
 
@@ -12230,7 +16834,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(loadMetadata_result other) {
+    public int compareTo(mkdir_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12284,7 +16888,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("loadMetadata_result(");
+      StringBuilder sb = new StringBuilder("mkdir_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -12333,15 +16937,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class loadMetadata_resultStandardSchemeFactory implements SchemeFactory {
-      public loadMetadata_resultStandardScheme getScheme() {
-        return new loadMetadata_resultStandardScheme();
+    private static class mkdir_resultStandardSchemeFactory implements SchemeFactory {
+      public mkdir_resultStandardScheme getScheme() {
+        return new mkdir_resultStandardScheme();
       }
     }
 
-    private static class loadMetadata_resultStandardScheme extends StandardScheme<loadMetadata_result> {
+    private static class mkdir_resultStandardScheme extends StandardScheme<mkdir_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mkdir_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12352,8 +16956,8 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -12388,13 +16992,13 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mkdir_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -12413,16 +17017,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class loadMetadata_resultTupleSchemeFactory implements SchemeFactory {
-      public loadMetadata_resultTupleScheme getScheme() {
-        return new loadMetadata_resultTupleScheme();
+    private static class mkdir_resultTupleSchemeFactory implements SchemeFactory {
+      public mkdir_resultTupleScheme getScheme() {
+        return new mkdir_resultTupleScheme();
       }
     }
 
-    private static class loadMetadata_resultTupleScheme extends TupleScheme<loadMetadata_result> {
+    private static class mkdir_resultTupleScheme extends TupleScheme<mkdir_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, mkdir_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -12436,7 +17040,7 @@ public class FileSystemMasterClientService {
         }
         oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
@@ -12447,11 +17051,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, mkdir_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -12469,37 +17073,37 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class mkdir_args implements org.apache.thrift.TBase<mkdir_args, mkdir_args._Fields>, java.io.Serializable, Cloneable, Comparable<mkdir_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mkdir_args");
+  public static class mount_args implements org.apache.thrift.TBase<mount_args, mount_args._Fields>, java.io.Serializable, Cloneable, Comparable<mount_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField TACHYON_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("tachyonPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mkdir_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mkdir_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new mount_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mount_argsTupleSchemeFactory());
     }
 
     /**
-     * the path of the directory
+     * the path of tachyon mount point
      */
-    public String path; // required
+    public String tachyonPath; // required
     /**
-     * the method options
+     * the path of the under file system
      */
-    public MkdirTOptions options; // required
+    public String ufsPath; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the directory
+       * the path of tachyon mount point
        */
-      PATH((short)1, "path"),
+      TACHYON_PATH((short)1, "tachyonPath"),
       /**
-       * the method options
+       * the path of the under file system
        */
-      OPTIONS((short)2, "options");
+      UFS_PATH((short)2, "ufsPath");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -12514,10 +17118,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // OPTIONS
-            return OPTIONS;
+          case 1: // TACHYON_PATH
+            return TACHYON_PATH;
+          case 2: // UFS_PATH
+            return UFS_PATH;
           default:
             return null;
         }
@@ -12561,123 +17165,123 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.TACHYON_PATH, new org.apache.thrift.meta_data.FieldMetaData("tachyonPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MkdirTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mkdir_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_args.class, metaDataMap);
     }
 
-    public mkdir_args() {
+    public mount_args() {
     }
 
-    public mkdir_args(
-      String path,
-      MkdirTOptions options)
+    public mount_args(
+      String tachyonPath,
+      String ufsPath)
     {
       this();
-      this.path = path;
-      this.options = options;
+      this.tachyonPath = tachyonPath;
+      this.ufsPath = ufsPath;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mkdir_args(mkdir_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public mount_args(mount_args other) {
+      if (other.isSetTachyonPath()) {
+        this.tachyonPath = other.tachyonPath;
       }
-      if (other.isSetOptions()) {
-        this.options = new MkdirTOptions(other.options);
+      if (other.isSetUfsPath()) {
+        this.ufsPath = other.ufsPath;
       }
     }
 
-    public mkdir_args deepCopy() {
-      return new mkdir_args(this);
+    public mount_args deepCopy() {
+      return new mount_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
-      this.options = null;
+      this.tachyonPath = null;
+      this.ufsPath = null;
     }
 
     /**
-     * the path of the directory
+     * the path of tachyon mount point
      */
-    public String getPath() {
-      return this.path;
+    public String getTachyonPath() {
+      return this.tachyonPath;
     }
 
     /**
-     * the path of the directory
+     * the path of tachyon mount point
      */
-    public mkdir_args setPath(String path) {
-      this.path = path;
+    public mount_args setTachyonPath(String tachyonPath) {
+      this.tachyonPath = tachyonPath;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetTachyonPath() {
+      this.tachyonPath = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field tachyonPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetTachyonPath() {
+      return this.tachyonPath != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setTachyonPathIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.tachyonPath = null;
       }
     }
 
     /**
-     * the method options
+     * the path of the under file system
      */
-    public MkdirTOptions getOptions() {
-      return this.options;
+    public String getUfsPath() {
+      return this.ufsPath;
     }
 
     /**
-     * the method options
+     * the path of the under file system
      */
-    public mkdir_args setOptions(MkdirTOptions options) {
-      this.options = options;
+    public mount_args setUfsPath(String ufsPath) {
+      this.ufsPath = ufsPath;
       return this;
     }
 
-    public void unsetOptions() {
-      this.options = null;
+    public void unsetUfsPath() {
+      this.ufsPath = null;
     }
 
-    /** Returns true if field options is set (has been assigned a value) and false otherwise */
-    public boolean isSetOptions() {
-      return this.options != null;
+    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetUfsPath() {
+      return this.ufsPath != null;
     }
 
-    public void setOptionsIsSet(boolean value) {
+    public void setUfsPathIsSet(boolean value) {
       if (!value) {
-        this.options = null;
+        this.ufsPath = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case TACHYON_PATH:
         if (value == null) {
-          unsetPath();
+          unsetTachyonPath();
         } else {
-          setPath((String)value);
+          setTachyonPath((String)value);
         }
         break;
 
-      case OPTIONS:
+      case UFS_PATH:
         if (value == null) {
-          unsetOptions();
+          unsetUfsPath();
         } else {
-          setOptions((MkdirTOptions)value);
+          setUfsPath((String)value);
         }
         break;
 
@@ -12686,11 +17290,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case TACHYON_PATH:
+        return getTachyonPath();
 
-      case OPTIONS:
-        return getOptions();
+      case UFS_PATH:
+        return getUfsPath();
 
       }
       throw new IllegalStateException();
@@ -12703,10 +17307,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
-      case OPTIONS:
-        return isSetOptions();
+      case TACHYON_PATH:
+        return isSetTachyonPath();
+      case UFS_PATH:
+        return isSetUfsPath();
       }
       throw new IllegalStateException();
     }
@@ -12715,30 +17319,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mkdir_args)
-        return this.equals((mkdir_args)that);
+      if (that instanceof mount_args)
+        return this.equals((mount_args)that);
       return false;
     }
 
-    public boolean equals(mkdir_args that) {
+    public boolean equals(mount_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_tachyonPath = true && this.isSetTachyonPath();
+      boolean that_present_tachyonPath = true && that.isSetTachyonPath();
+      if (this_present_tachyonPath || that_present_tachyonPath) {
+        if (!(this_present_tachyonPath && that_present_tachyonPath))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.tachyonPath.equals(that.tachyonPath))
           return false;
       }
 
-      boolean this_present_options = true && this.isSetOptions();
-      boolean that_present_options = true && that.isSetOptions();
-      if (this_present_options || that_present_options) {
-        if (!(this_present_options && that_present_options))
+      boolean this_present_ufsPath = true && this.isSetUfsPath();
+      boolean that_present_ufsPath = true && that.isSetUfsPath();
+      if (this_present_ufsPath || that_present_ufsPath) {
+        if (!(this_present_ufsPath && that_present_ufsPath))
           return false;
-        if (!this.options.equals(that.options))
+        if (!this.ufsPath.equals(that.ufsPath))
           return false;
       }
 
@@ -12746,46 +17350,46 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int hashCode() {
-      List<Object> list = new ArrayList<Object>();
-
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
 
-      boolean present_options = true && (isSetOptions());
-      list.add(present_options);
-      if (present_options)
-        list.add(options);
+      boolean present_tachyonPath = true && (isSetTachyonPath());
+      list.add(present_tachyonPath);
+      if (present_tachyonPath)
+        list.add(tachyonPath);
+
+      boolean present_ufsPath = true && (isSetUfsPath());
+      list.add(present_ufsPath);
+      if (present_ufsPath)
+        list.add(ufsPath);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(mkdir_args other) {
+    public int compareTo(mount_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetTachyonPath()).compareTo(other.isSetTachyonPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetTachyonPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tachyonPath, other.tachyonPath);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetOptions()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+      if (isSetUfsPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -12807,22 +17411,22 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mkdir_args(");
+      StringBuilder sb = new StringBuilder("mount_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("tachyonPath:");
+      if (this.tachyonPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.tachyonPath);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("options:");
-      if (this.options == null) {
+      sb.append("ufsPath:");
+      if (this.ufsPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.options);
+        sb.append(this.ufsPath);
       }
       first = false;
       sb.append(")");
@@ -12832,9 +17436,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (options != null) {
-        options.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -12853,15 +17454,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class mkdir_argsStandardSchemeFactory implements SchemeFactory {
-      public mkdir_argsStandardScheme getScheme() {
-        return new mkdir_argsStandardScheme();
+    private static class mount_argsStandardSchemeFactory implements SchemeFactory {
+      public mount_argsStandardScheme getScheme() {
+        return new mount_argsStandardScheme();
       }
     }
 
-    private static class mkdir_argsStandardScheme extends StandardScheme<mkdir_args> {
+    private static class mount_argsStandardScheme extends StandardScheme<mount_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mkdir_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12871,19 +17472,18 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
+            case 1: // TACHYON_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+                struct.tachyonPath = iprot.readString();
+                struct.setTachyonPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // OPTIONS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new MkdirTOptions();
-                struct.options.read(iprot);
-                struct.setOptionsIsSet(true);
+            case 2: // UFS_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.ufsPath = iprot.readString();
+                struct.setUfsPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -12899,18 +17499,18 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mkdir_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.tachyonPath != null) {
+          oprot.writeFieldBegin(TACHYON_PATH_FIELD_DESC);
+          oprot.writeString(struct.tachyonPath);
           oprot.writeFieldEnd();
         }
-        if (struct.options != null) {
-          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
-          struct.options.write(oprot);
+        if (struct.ufsPath != null) {
+          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
+          oprot.writeString(struct.ufsPath);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12919,53 +17519,52 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class mkdir_argsTupleSchemeFactory implements SchemeFactory {
-      public mkdir_argsTupleScheme getScheme() {
-        return new mkdir_argsTupleScheme();
+    private static class mount_argsTupleSchemeFactory implements SchemeFactory {
+      public mount_argsTupleScheme getScheme() {
+        return new mount_argsTupleScheme();
       }
     }
 
-    private static class mkdir_argsTupleScheme extends TupleScheme<mkdir_args> {
+    private static class mount_argsTupleScheme extends TupleScheme<mount_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mkdir_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetTachyonPath()) {
           optionals.set(0);
         }
-        if (struct.isSetOptions()) {
+        if (struct.isSetUfsPath()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetTachyonPath()) {
+          oprot.writeString(struct.tachyonPath);
         }
-        if (struct.isSetOptions()) {
-          struct.options.write(oprot);
+        if (struct.isSetUfsPath()) {
+          oprot.writeString(struct.ufsPath);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mkdir_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          struct.tachyonPath = iprot.readString();
+          struct.setTachyonPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new MkdirTOptions();
-          struct.options.read(iprot);
-          struct.setOptionsIsSet(true);
+          struct.ufsPath = iprot.readString();
+          struct.setUfsPathIsSet(true);
         }
       }
     }
 
   }
 
-  public static class mkdir_result implements org.apache.thrift.TBase<mkdir_result, mkdir_result._Fields>, java.io.Serializable, Cloneable, Comparable<mkdir_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mkdir_result");
+  public static class mount_result implements org.apache.thrift.TBase<mount_result, mount_result._Fields>, java.io.Serializable, Cloneable, Comparable<mount_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
@@ -12973,8 +17572,8 @@ public class FileSystemMasterClientService {
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mkdir_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mkdir_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new mount_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mount_resultTupleSchemeFactory());
     }
 
     public boolean success; // required
@@ -13058,13 +17657,13 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mkdir_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_result.class, metaDataMap);
     }
 
-    public mkdir_result() {
+    public mount_result() {
     }
 
-    public mkdir_result(
+    public mount_result(
       boolean success,
       tachyon.thrift.TachyonTException e,
       tachyon.thrift.ThriftIOException ioe)
@@ -13079,7 +17678,7 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mkdir_result(mkdir_result other) {
+    public mount_result(mount_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetE()) {
@@ -13090,8 +17689,8 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public mkdir_result deepCopy() {
-      return new mkdir_result(this);
+    public mount_result deepCopy() {
+      return new mount_result(this);
     }
 
     @Override
@@ -13106,7 +17705,7 @@ public class FileSystemMasterClientService {
       return this.success;
     }
 
-    public mkdir_result setSuccess(boolean success) {
+    public mount_result setSuccess(boolean success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -13129,7 +17728,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public mkdir_result setE(tachyon.thrift.TachyonTException e) {
+    public mount_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -13153,7 +17752,7 @@ public class FileSystemMasterClientService {
       return this.ioe;
     }
 
-    public mkdir_result setIoe(tachyon.thrift.ThriftIOException ioe) {
+    public mount_result setIoe(tachyon.thrift.ThriftIOException ioe) {
       this.ioe = ioe;
       return this;
     }
@@ -13238,12 +17837,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mkdir_result)
-        return this.equals((mkdir_result)that);
+      if (that instanceof mount_result)
+        return this.equals((mount_result)that);
       return false;
     }
 
-    public boolean equals(mkdir_result that) {
+    public boolean equals(mount_result that) {
       if (that == null)
         return false;
 
@@ -13300,7 +17899,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(mkdir_result other) {
+    public int compareTo(mount_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13354,7 +17953,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mkdir_result(");
+      StringBuilder sb = new StringBuilder("mount_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -13403,15 +18002,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class mkdir_resultStandardSchemeFactory implements SchemeFactory {
-      public mkdir_resultStandardScheme getScheme() {
-        return new mkdir_resultStandardScheme();
+    private static class mount_resultStandardSchemeFactory implements SchemeFactory {
+      public mount_resultStandardScheme getScheme() {
+        return new mount_resultStandardScheme();
       }
     }
 
-    private static class mkdir_resultStandardScheme extends StandardScheme<mkdir_result> {
+    private static class mount_resultStandardScheme extends StandardScheme<mount_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mkdir_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13458,7 +18057,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mkdir_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -13483,16 +18082,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class mkdir_resultTupleSchemeFactory implements SchemeFactory {
-      public mkdir_resultTupleScheme getScheme() {
-        return new mkdir_resultTupleScheme();
+    private static class mount_resultTupleSchemeFactory implements SchemeFactory {
+      public mount_resultTupleScheme getScheme() {
+        return new mount_resultTupleScheme();
       }
     }
 
-    private static class mkdir_resultTupleScheme extends TupleScheme<mkdir_result> {
+    private static class mount_resultTupleScheme extends TupleScheme<mount_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mkdir_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -13517,7 +18116,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mkdir_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -13539,37 +18138,37 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class mount_args implements org.apache.thrift.TBase<mount_args, mount_args._Fields>, java.io.Serializable, Cloneable, Comparable<mount_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_args");
+  public static class remove_args implements org.apache.thrift.TBase<remove_args, remove_args._Fields>, java.io.Serializable, Cloneable, Comparable<remove_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_args");
 
-    private static final org.apache.thrift.protocol.TField TACHYON_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("tachyonPath", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mount_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mount_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new remove_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new remove_argsTupleSchemeFactory());
     }
 
     /**
-     * the path of tachyon mount point
+     * the id of the file or directory
      */
-    public String tachyonPath; // required
+    public long id; // required
     /**
-     * the path of the under file system
+     * whether to remove recursively
      */
-    public String ufsPath; // required
+    public boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of tachyon mount point
+       * the id of the file or directory
        */
-      TACHYON_PATH((short)1, "tachyonPath"),
+      ID((short)1, "id"),
       /**
-       * the path of the under file system
+       * whether to remove recursively
        */
-      UFS_PATH((short)2, "ufsPath");
+      RECURSIVE((short)2, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -13584,10 +18183,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // TACHYON_PATH
-            return TACHYON_PATH;
-          case 2: // UFS_PATH
-            return UFS_PATH;
+          case 1: // ID
+            return ID;
+          case 2: // RECURSIVE
+            return RECURSIVE;
           default:
             return null;
         }
@@ -13628,126 +18227,128 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private static final int __RECURSIVE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.TACHYON_PATH, new org.apache.thrift.meta_data.FieldMetaData("tachyonPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_args.class, metaDataMap);
     }
 
-    public mount_args() {
+    public remove_args() {
     }
 
-    public mount_args(
-      String tachyonPath,
-      String ufsPath)
+    public remove_args(
+      long id,
+      boolean recursive)
     {
       this();
-      this.tachyonPath = tachyonPath;
-      this.ufsPath = ufsPath;
+      this.id = id;
+      setIdIsSet(true);
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mount_args(mount_args other) {
-      if (other.isSetTachyonPath()) {
-        this.tachyonPath = other.tachyonPath;
-      }
-      if (other.isSetUfsPath()) {
-        this.ufsPath = other.ufsPath;
-      }
+    public remove_args(remove_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+      this.recursive = other.recursive;
     }
 
-    public mount_args deepCopy() {
-      return new mount_args(this);
+    public remove_args deepCopy() {
+      return new remove_args(this);
     }
 
     @Override
     public void clear() {
-      this.tachyonPath = null;
-      this.ufsPath = null;
+      setIdIsSet(false);
+      this.id = 0;
+      setRecursiveIsSet(false);
+      this.recursive = false;
     }
 
     /**
-     * the path of tachyon mount point
+     * the id of the file or directory
      */
-    public String getTachyonPath() {
-      return this.tachyonPath;
+    public long getId() {
+      return this.id;
     }
 
     /**
-     * the path of tachyon mount point
+     * the id of the file or directory
      */
-    public mount_args setTachyonPath(String tachyonPath) {
-      this.tachyonPath = tachyonPath;
+    public remove_args setId(long id) {
+      this.id = id;
+      setIdIsSet(true);
       return this;
     }
 
-    public void unsetTachyonPath() {
-      this.tachyonPath = null;
+    public void unsetId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
     }
 
-    /** Returns true if field tachyonPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetTachyonPath() {
-      return this.tachyonPath != null;
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
     }
 
-    public void setTachyonPathIsSet(boolean value) {
-      if (!value) {
-        this.tachyonPath = null;
-      }
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
     /**
-     * the path of the under file system
+     * whether to remove recursively
      */
-    public String getUfsPath() {
-      return this.ufsPath;
+    public boolean isRecursive() {
+      return this.recursive;
     }
 
     /**
-     * the path of the under file system
+     * whether to remove recursively
      */
-    public mount_args setUfsPath(String ufsPath) {
-      this.ufsPath = ufsPath;
+    public remove_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
       return this;
     }
 
-    public void unsetUfsPath() {
-      this.ufsPath = null;
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
     }
 
-    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetUfsPath() {
-      return this.ufsPath != null;
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
     }
 
-    public void setUfsPathIsSet(boolean value) {
-      if (!value) {
-        this.ufsPath = null;
-      }
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case TACHYON_PATH:
+      case ID:
         if (value == null) {
-          unsetTachyonPath();
+          unsetId();
         } else {
-          setTachyonPath((String)value);
+          setId((Long)value);
         }
         break;
 
-      case UFS_PATH:
+      case RECURSIVE:
         if (value == null) {
-          unsetUfsPath();
+          unsetRecursive();
         } else {
-          setUfsPath((String)value);
+          setRecursive((Boolean)value);
         }
         break;
 
@@ -13756,11 +18357,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case TACHYON_PATH:
-        return getTachyonPath();
+      case ID:
+        return Long.valueOf(getId());
 
-      case UFS_PATH:
-        return getUfsPath();
+      case RECURSIVE:
+        return Boolean.valueOf(isRecursive());
 
       }
       throw new IllegalStateException();
@@ -13773,10 +18374,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case TACHYON_PATH:
-        return isSetTachyonPath();
-      case UFS_PATH:
-        return isSetUfsPath();
+      case ID:
+        return isSetId();
+      case RECURSIVE:
+        return isSetRecursive();
       }
       throw new IllegalStateException();
     }
@@ -13785,30 +18386,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mount_args)
-        return this.equals((mount_args)that);
+      if (that instanceof remove_args)
+        return this.equals((remove_args)that);
       return false;
     }
 
-    public boolean equals(mount_args that) {
+    public boolean equals(remove_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_tachyonPath = true && this.isSetTachyonPath();
-      boolean that_present_tachyonPath = true && that.isSetTachyonPath();
-      if (this_present_tachyonPath || that_present_tachyonPath) {
-        if (!(this_present_tachyonPath && that_present_tachyonPath))
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
           return false;
-        if (!this.tachyonPath.equals(that.tachyonPath))
+        if (this.id != that.id)
           return false;
       }
 
-      boolean this_present_ufsPath = true && this.isSetUfsPath();
-      boolean that_present_ufsPath = true && that.isSetUfsPath();
-      if (this_present_ufsPath || that_present_ufsPath) {
-        if (!(this_present_ufsPath && that_present_ufsPath))
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
           return false;
-        if (!this.ufsPath.equals(that.ufsPath))
+        if (this.recursive != that.recursive)
           return false;
       }
 
@@ -13819,43 +18420,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_tachyonPath = true && (isSetTachyonPath());
-      list.add(present_tachyonPath);
-      if (present_tachyonPath)
-        list.add(tachyonPath);
+      boolean present_id = true;
+      list.add(present_id);
+      if (present_id)
+        list.add(id);
 
-      boolean present_ufsPath = true && (isSetUfsPath());
-      list.add(present_ufsPath);
-      if (present_ufsPath)
-        list.add(ufsPath);
+      boolean present_recursive = true;
+      list.add(present_recursive);
+      if (present_recursive)
+        list.add(recursive);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(mount_args other) {
+    public int compareTo(remove_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetTachyonPath()).compareTo(other.isSetTachyonPath());
+      lastComparison = Boolean.valueOf(isSetId()).compareTo(other.isSetId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetTachyonPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tachyonPath, other.tachyonPath);
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUfsPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -13877,23 +18478,15 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mount_args(");
+      StringBuilder sb = new StringBuilder("remove_args(");
       boolean first = true;
 
-      sb.append("tachyonPath:");
-      if (this.tachyonPath == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.tachyonPath);
-      }
+      sb.append("id:");
+      sb.append(this.id);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("ufsPath:");
-      if (this.ufsPath == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.ufsPath);
-      }
+      sb.append("recursive:");
+      sb.append(this.recursive);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -13914,21 +18507,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class mount_argsStandardSchemeFactory implements SchemeFactory {
-      public mount_argsStandardScheme getScheme() {
-        return new mount_argsStandardScheme();
+    private static class remove_argsStandardSchemeFactory implements SchemeFactory {
+      public remove_argsStandardScheme getScheme() {
+        return new remove_argsStandardScheme();
       }
     }
 
-    private static class mount_argsStandardScheme extends StandardScheme<mount_args> {
+    private static class remove_argsStandardScheme extends StandardScheme<remove_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13938,18 +18533,18 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // TACHYON_PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.tachyonPath = iprot.readString();
-                struct.setTachyonPathIsSet(true);
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.id = iprot.readI64();
+                struct.setIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // UFS_PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.ufsPath = iprot.readString();
-                struct.setUfsPathIsSet(true);
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -13965,92 +18560,85 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.tachyonPath != null) {
-          oprot.writeFieldBegin(TACHYON_PATH_FIELD_DESC);
-          oprot.writeString(struct.tachyonPath);
-          oprot.writeFieldEnd();
-        }
-        if (struct.ufsPath != null) {
-          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
-          oprot.writeString(struct.ufsPath);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI64(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class mount_argsTupleSchemeFactory implements SchemeFactory {
-      public mount_argsTupleScheme getScheme() {
-        return new mount_argsTupleScheme();
+    private static class remove_argsTupleSchemeFactory implements SchemeFactory {
+      public remove_argsTupleScheme getScheme() {
+        return new remove_argsTupleScheme();
       }
     }
 
-    private static class mount_argsTupleScheme extends TupleScheme<mount_args> {
+    private static class remove_argsTupleScheme extends TupleScheme<remove_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetTachyonPath()) {
+        if (struct.isSetId()) {
           optionals.set(0);
         }
-        if (struct.isSetUfsPath()) {
+        if (struct.isSetRecursive()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetTachyonPath()) {
-          oprot.writeString(struct.tachyonPath);
+        if (struct.isSetId()) {
+          oprot.writeI64(struct.id);
         }
-        if (struct.isSetUfsPath()) {
-          oprot.writeString(struct.ufsPath);
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.tachyonPath = iprot.readString();
-          struct.setTachyonPathIsSet(true);
+          struct.id = iprot.readI64();
+          struct.setIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.ufsPath = iprot.readString();
-          struct.setUfsPathIsSet(true);
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
         }
       }
     }
 
   }
 
-  public static class mount_result implements org.apache.thrift.TBase<mount_result, mount_result._Fields>, java.io.Serializable, Cloneable, Comparable<mount_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_result");
+  public static class remove_result implements org.apache.thrift.TBase<remove_result, remove_result._Fields>, java.io.Serializable, Cloneable, Comparable<remove_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mount_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mount_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new remove_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new remove_resultTupleSchemeFactory());
     }
 
     public boolean success; // required
     public tachyon.thrift.TachyonTException e; // required
-    public tachyon.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e"),
-      IOE((short)2, "ioe");
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -14069,8 +18657,6 @@ public class FileSystemMasterClientService {
             return SUCCESS;
           case 1: // E
             return E;
-          case 2: // IOE
-            return IOE;
           default:
             return null;
         }
@@ -14120,43 +18706,36 @@ public class FileSystemMasterClientService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_result.class, metaDataMap);
     }
 
-    public mount_result() {
+    public remove_result() {
     }
 
-    public mount_result(
+    public remove_result(
       boolean success,
-      tachyon.thrift.TachyonTException e,
-      tachyon.thrift.ThriftIOException ioe)
+      tachyon.thrift.TachyonTException e)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
       this.e = e;
-      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mount_result(mount_result other) {
+    public remove_result(remove_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
-      if (other.isSetIoe()) {
-        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
-      }
     }
 
-    public mount_result deepCopy() {
-      return new mount_result(this);
+    public remove_result deepCopy() {
+      return new remove_result(this);
     }
 
     @Override
@@ -14164,14 +18743,13 @@ public class FileSystemMasterClientService {
       setSuccessIsSet(false);
       this.success = false;
       this.e = null;
-      this.ioe = null;
     }
 
     public boolean isSuccess() {
       return this.success;
     }
 
-    public mount_result setSuccess(boolean success) {
+    public remove_result setSuccess(boolean success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -14194,7 +18772,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public mount_result setE(tachyon.thrift.TachyonTException e) {
+    public remove_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -14214,30 +18792,6 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public tachyon.thrift.ThriftIOException getIoe() {
-      return this.ioe;
-    }
-
-    public mount_result setIoe(tachyon.thrift.ThriftIOException ioe) {
-      this.ioe = ioe;
-      return this;
-    }
-
-    public void unsetIoe() {
-      this.ioe = null;
-    }
-
-    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
-    public boolean isSetIoe() {
-      return this.ioe != null;
-    }
-
-    public void setIoeIsSet(boolean value) {
-      if (!value) {
-        this.ioe = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
@@ -14256,14 +18810,6 @@ public class FileSystemMasterClientService {
         }
         break;
 
-      case IOE:
-        if (value == null) {
-          unsetIoe();
-        } else {
-          setIoe((tachyon.thrift.ThriftIOException)value);
-        }
-        break;
-
       }
     }
 
@@ -14275,9 +18821,6 @@ public class FileSystemMasterClientService {
       case E:
         return getE();
 
-      case IOE:
-        return getIoe();
-
       }
       throw new IllegalStateException();
     }
@@ -14293,8 +18836,6 @@ public class FileSystemMasterClientService {
         return isSetSuccess();
       case E:
         return isSetE();
-      case IOE:
-        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -14303,12 +18844,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mount_result)
-        return this.equals((mount_result)that);
+      if (that instanceof remove_result)
+        return this.equals((remove_result)that);
       return false;
     }
 
-    public boolean equals(mount_result that) {
+    public boolean equals(remove_result that) {
       if (that == null)
         return false;
 
@@ -14330,15 +18871,6 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_ioe = true && this.isSetIoe();
-      boolean that_present_ioe = true && that.isSetIoe();
-      if (this_present_ioe || that_present_ioe) {
-        if (!(this_present_ioe && that_present_ioe))
-          return false;
-        if (!this.ioe.equals(that.ioe))
-          return false;
-      }
-
       return true;
     }
 
@@ -14356,16 +18888,11 @@ public class FileSystemMasterClientService {
       if (present_e)
         list.add(e);
 
-      boolean present_ioe = true && (isSetIoe());
-      list.add(present_ioe);
-      if (present_ioe)
-        list.add(ioe);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(mount_result other) {
+    public int compareTo(remove_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14392,16 +18919,6 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetIoe()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -14419,7 +18936,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mount_result(");
+      StringBuilder sb = new StringBuilder("remove_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -14433,14 +18950,6 @@ public class FileSystemMasterClientService {
         sb.append(this.e);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("ioe:");
-      if (this.ioe == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.ioe);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -14468,15 +18977,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class mount_resultStandardSchemeFactory implements SchemeFactory {
-      public mount_resultStandardScheme getScheme() {
-        return new mount_resultStandardScheme();
+    private static class remove_resultStandardSchemeFactory implements SchemeFactory {
+      public remove_resultStandardScheme getScheme() {
+        return new remove_resultStandardScheme();
       }
     }
 
-    private static class mount_resultStandardScheme extends StandardScheme<mount_result> {
+    private static class remove_resultStandardScheme extends StandardScheme<remove_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14503,15 +19012,6 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // IOE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ioe = new tachyon.thrift.ThriftIOException();
-                struct.ioe.read(iprot);
-                struct.setIoeIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -14523,7 +19023,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -14537,27 +19037,22 @@ public class FileSystemMasterClientService {
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.ioe != null) {
-          oprot.writeFieldBegin(IOE_FIELD_DESC);
-          struct.ioe.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class mount_resultTupleSchemeFactory implements SchemeFactory {
-      public mount_resultTupleScheme getScheme() {
-        return new mount_resultTupleScheme();
+    private static class remove_resultTupleSchemeFactory implements SchemeFactory {
+      public remove_resultTupleScheme getScheme() {
+        return new remove_resultTupleScheme();
       }
     }
 
-    private static class mount_resultTupleScheme extends TupleScheme<mount_result> {
+    private static class remove_resultTupleScheme extends TupleScheme<remove_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -14566,25 +19061,19 @@ public class FileSystemMasterClientService {
         if (struct.isSetE()) {
           optionals.set(1);
         }
-        if (struct.isSetIoe()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
           oprot.writeBool(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
-        if (struct.isSetIoe()) {
-          struct.ioe.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
@@ -14594,32 +19083,27 @@ public class FileSystemMasterClientService {
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.ioe = new tachyon.thrift.ThriftIOException();
-          struct.ioe.read(iprot);
-          struct.setIoeIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class remove_args implements org.apache.thrift.TBase<remove_args, remove_args._Fields>, java.io.Serializable, Cloneable, Comparable<remove_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_args");
+  public static class removeBatch_args implements org.apache.thrift.TBase<removeBatch_args, removeBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeBatch_args");
 
-    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("ids", org.apache.thrift.protocol.TType.LIST, (short)1);
     private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new remove_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new remove_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new removeBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeBatch_argsTupleSchemeFactory());
     }
 
     /**
-     * the id of the file or directory
+     * the ids of the files or directories
      */
-    public long id; // required
+    public List<Long> ids; // required
     /**
      * whether to remove recursively
      */
@@ -14628,9 +19112,9 @@ public class FileSystemMasterClientService {
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the id of the file or directory
+       * the ids of the files or directories
        */
-      ID((short)1, "id"),
+      IDS((short)1, "ids"),
       /**
        * whether to remove recursively
        */
@@ -14649,8 +19133,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // ID
-            return ID;
+          case 1: // IDS
+            return IDS;
           case 2: // RECURSIVE
             return RECURSIVE;
           default:
@@ -14693,30 +19177,29 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __ID_ISSET_ID = 0;
-    private static final int __RECURSIVE_ISSET_ID = 1;
+    private static final int __RECURSIVE_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.IDS, new org.apache.thrift.meta_data.FieldMetaData("ids", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeBatch_args.class, metaDataMap);
     }
 
-    public remove_args() {
+    public removeBatch_args() {
     }
 
-    public remove_args(
-      long id,
+    public removeBatch_args(
+      List<Long> ids,
       boolean recursive)
     {
       this();
-      this.id = id;
-      setIdIsSet(true);
+      this.ids = ids;
       this.recursive = recursive;
       setRecursiveIsSet(true);
     }
@@ -14724,51 +19207,69 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public remove_args(remove_args other) {
+    public removeBatch_args(removeBatch_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.id = other.id;
+      if (other.isSetIds()) {
+        List<Long> __this__ids = new ArrayList<Long>(other.ids);
+        this.ids = __this__ids;
+      }
       this.recursive = other.recursive;
     }
 
-    public remove_args deepCopy() {
-      return new remove_args(this);
+    public removeBatch_args deepCopy() {
+      return new removeBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setIdIsSet(false);
-      this.id = 0;
+      this.ids = null;
       setRecursiveIsSet(false);
       this.recursive = false;
     }
 
+    public int getIdsSize() {
+      return (this.ids == null) ? 0 : this.ids.size();
+    }
+
+    public java.util.Iterator<Long> getIdsIterator() {
+      return (this.ids == null) ? null : this.ids.iterator();
+    }
+
+    public void addToIds(long elem) {
+      if (this.ids == null) {
+        this.ids = new ArrayList<Long>();
+      }
+      this.ids.add(elem);
+    }
+
     /**
-     * the id of the file or directory
+     * the ids of the files or directories
      */
-    public long getId() {
-      return this.id;
+    public List<Long> getIds() {
+      return this.ids;
     }
 
     /**
-     * the id of the file or directory
+     * the ids of the files or directories
      */
-    public remove_args setId(long id) {
-      this.id = id;
-      setIdIsSet(true);
+    public removeBatch_args setIds(List<Long> ids) {
+      this.ids = ids;
       return this;
     }
 
-    public void unsetId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    public void unsetIds() {
+      this.ids = null;
     }
 
-    /** Returns true if field id is set (has been assigned a value) and false otherwise */
-    public boolean isSetId() {
-      return EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    /** Returns true if field ids is set (has been assigned a value) and false otherwise */
+    public boolean isSetIds() {
+      return this.ids != null;
     }
 
-    public void setIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    public void setIdsIsSet(boolean value) {
+      if (!value) {
+        this.ids = null;
+      }
     }
 
     /**
@@ -14781,7 +19282,7 @@ public class FileSystemMasterClientService {
     /**
      * whether to remove recursively
      */
-    public remove_args setRecursive(boolean recursive) {
+    public removeBatch_args setRecursive(boolean recursive) {
       this.recursive = recursive;
       setRecursiveIsSet(true);
       return this;
@@ -14802,11 +19303,11 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case ID:
+      case IDS:
         if (value == null) {
-          unsetId();
+          unsetIds();
         } else {
-          setId((Long)value);
+          setIds((List<Long>)value);
         }
         break;
 
@@ -14823,8 +19324,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case ID:
-        return Long.valueOf(getId());
+      case IDS:
+        return getIds();
 
       case RECURSIVE:
         return Boolean.valueOf(isRecursive());
@@ -14840,8 +19341,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case ID:
-        return isSetId();
+      case IDS:
+        return isSetIds();
       case RECURSIVE:
         return isSetRecursive();
       }
@@ -14852,21 +19353,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof remove_args)
-        return this.equals((remove_args)that);
+      if (that instanceof removeBatch_args)
+        return this.equals((removeBatch_args)that);
       return false;
     }
 
-    public boolean equals(remove_args that) {
+    public boolean equals(removeBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_id = true;
-      boolean that_present_id = true;
-      if (this_present_id || that_present_id) {
-        if (!(this_present_id && that_present_id))
+      boolean this_present_ids = true && this.isSetIds();
+      boolean that_present_ids = true && that.isSetIds();
+      if (this_present_ids || that_present_ids) {
+        if (!(this_present_ids && that_present_ids))
           return false;
-        if (this.id != that.id)
+        if (!this.ids.equals(that.ids))
           return false;
       }
 
@@ -14886,10 +19387,10 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_id = true;
-      list.add(present_id);
-      if (present_id)
-        list.add(id);
+      boolean present_ids = true && (isSetIds());
+      list.add(present_ids);
+      if (present_ids)
+        list.add(ids);
 
       boolean present_recursive = true;
       list.add(present_recursive);
@@ -14900,19 +19401,19 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(remove_args other) {
+    public int compareTo(removeBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      lastComparison = Boolean.valueOf(isSetIds()).compareTo(other.isSetIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+      if (isSetIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ids, other.ids);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -14944,11 +19445,15 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("remove_args(");
+      StringBuilder sb = new StringBuilder("removeBatch_args(");
       boolean first = true;
 
-      sb.append("id:");
-      sb.append(this.id);
+      sb.append("ids:");
+      if (this.ids == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ids);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("recursive:");
@@ -14981,28 +19486,38 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class remove_argsStandardSchemeFactory implements SchemeFactory {
-      public remove_argsStandardScheme getScheme() {
-        return new remove_argsStandardScheme();
+    private static class removeBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public removeBatch_argsStandardScheme getScheme() {
+        return new removeBatch_argsStandardScheme();
       }
     }
 
-    private static class remove_argsStandardScheme extends StandardScheme<remove_args> {
+    private static class removeBatch_argsStandardScheme extends StandardScheme<removeBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
         {
           schemeField = iprot.readFieldBegin();
           if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
-            break;
-          }
-          switch (schemeField.id) {
-            case 1: // ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.id = iprot.readI64();
-                struct.setIdIsSet(true);
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list88 = iprot.readListBegin();
+                  struct.ids = new ArrayList<Long>(_list88.size);
+                  long _elem89;
+                  for (int _i90 = 0; _i90 < _list88.size; ++_i90)
+                  {
+                    _elem89 = iprot.readI64();
+                    struct.ids.add(_elem89);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -15026,13 +19541,22 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(ID_FIELD_DESC);
-        oprot.writeI64(struct.id);
-        oprot.writeFieldEnd();
+        if (struct.ids != null) {
+          oprot.writeFieldBegin(IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.ids.size()));
+            for (long _iter91 : struct.ids)
+            {
+              oprot.writeI64(_iter91);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
         oprot.writeBool(struct.recursive);
         oprot.writeFieldEnd();
@@ -15042,27 +19566,33 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class remove_argsTupleSchemeFactory implements SchemeFactory {
-      public remove_argsTupleScheme getScheme() {
-        return new remove_argsTupleScheme();
+    private static class removeBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public removeBatch_argsTupleScheme getScheme() {
+        return new removeBatch_argsTupleScheme();
       }
     }
 
-    private static class remove_argsTupleScheme extends TupleScheme<remove_args> {
+    private static class removeBatch_argsTupleScheme extends TupleScheme<removeBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetId()) {
+        if (struct.isSetIds()) {
           optionals.set(0);
         }
         if (struct.isSetRecursive()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetId()) {
-          oprot.writeI64(struct.id);
+        if (struct.isSetIds()) {
+          {
+            oprot.writeI32(struct.ids.size());
+            for (long _iter92 : struct.ids)
+            {
+              oprot.writeI64(_iter92);
+            }
+          }
         }
         if (struct.isSetRecursive()) {
           oprot.writeBool(struct.recursive);
@@ -15070,12 +19600,21 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.id = iprot.readI64();
-          struct.setIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list93 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.ids = new ArrayList<Long>(_list93.size);
+            long _elem94;
+            for (int _i95 = 0; _i95 < _list93.size; ++_i95)
+            {
+              _elem94 = iprot.readI64();
+              struct.ids.add(_elem94);
+            }
+          }
+          struct.setIdsIsSet(true);
         }
         if (incoming.get(1)) {
           struct.recursive = iprot.readBool();
@@ -15086,25 +19625,22 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class remove_result implements org.apache.thrift.TBase<remove_result, remove_result._Fields>, java.io.Serializable, Cloneable, Comparable<remove_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_result");
+  public static class removeBatch_result implements org.apache.thrift.TBase<removeBatch_result, removeBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new remove_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new remove_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new removeBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeBatch_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
-    public tachyon.thrift.TachyonTException e; // required
+    public List<FileOperationResult> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -15121,8 +19657,6 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
           default:
             return null;
         }
@@ -15163,98 +19697,84 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileOperationResult.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeBatch_result.class, metaDataMap);
     }
 
-    public remove_result() {
+    public removeBatch_result() {
     }
 
-    public remove_result(
-      boolean success,
-      tachyon.thrift.TachyonTException e)
+    public removeBatch_result(
+      List<FileOperationResult> success)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
-      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public remove_result(remove_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetE()) {
-        this.e = new tachyon.thrift.TachyonTException(other.e);
+    public removeBatch_result(removeBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<FileOperationResult> __this__success = new ArrayList<FileOperationResult>(other.success.size());
+        for (FileOperationResult other_element : other.success) {
+          __this__success.add(new FileOperationResult(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public remove_result deepCopy() {
-      return new remove_result(this);
+    public removeBatch_result deepCopy() {
+      return new removeBatch_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-      this.e = null;
-    }
-
-    public boolean isSuccess() {
-      return this.success;
-    }
-
-    public remove_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
+      this.success = null;
     }
 
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    public java.util.Iterator<FileOperationResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    public void addToSuccess(FileOperationResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileOperationResult>();
+      }
+      this.success.add(elem);
     }
 
-    public tachyon.thrift.TachyonTException getE() {
-      return this.e;
+    public List<FileOperationResult> getSuccess() {
+      return this.success;
     }
 
-    public remove_result setE(tachyon.thrift.TachyonTException e) {
-      this.e = e;
+    public removeBatch_result setSuccess(List<FileOperationResult> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.success = null;
       }
     }
 
@@ -15264,15 +19784,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
-        }
-        break;
-
-      case E:
-        if (value == null) {
-          unsetE();
-        } else {
-          setE((tachyon.thrift.TachyonTException)value);
+          setSuccess((List<FileOperationResult>)value);
         }
         break;
 
@@ -15282,10 +19794,7 @@ public class FileSystemMasterClientService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
-
-      case E:
-        return getE();
+        return getSuccess();
 
       }
       throw new IllegalStateException();
@@ -15300,8 +19809,6 @@ public class FileSystemMasterClientService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -15310,30 +19817,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof remove_result)
-        return this.equals((remove_result)that);
+      if (that instanceof removeBatch_result)
+        return this.equals((removeBatch_result)that);
       return false;
     }
 
-    public boolean equals(remove_result that) {
+    public boolean equals(removeBatch_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
-          return false;
-      }
-
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
-          return false;
-        if (!this.e.equals(that.e))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -15344,21 +19842,16 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
+      boolean present_success = true && (isSetSuccess());
       list.add(present_success);
       if (present_success)
         list.add(success);
 
-      boolean present_e = true && (isSetE());
-      list.add(present_e);
-      if (present_e)
-        list.add(e);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(remove_result other) {
+    public int compareTo(removeBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15375,16 +19868,6 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -15398,22 +19881,18 @@ public class FileSystemMasterClientService {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-      }
+        }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("remove_result(");
+      StringBuilder sb = new StringBuilder("removeBatch_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -15435,23 +19914,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class remove_resultStandardSchemeFactory implements SchemeFactory {
-      public remove_resultStandardScheme getScheme() {
-        return new remove_resultStandardScheme();
+    private static class removeBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public removeBatch_resultStandardScheme getScheme() {
+        return new removeBatch_resultStandardScheme();
       }
     }
 
-    private static class remove_resultStandardScheme extends StandardScheme<remove_result> {
+    private static class removeBatch_resultStandardScheme extends StandardScheme<removeBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15462,22 +19939,24 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list96 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileOperationResult>(_list96.size);
+                  FileOperationResult _elem97;
+                  for (int _i98 = 0; _i98 < _list96.size; ++_i98)
+                  {
+                    _elem97 = new FileOperationResult();
+                    _elem97.read(iprot);
+                    struct.success.add(_elem97);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new tachyon.thrift.TachyonTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -15489,18 +19968,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileOperationResult _iter99 : struct.success)
+            {
+              _iter99.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -15509,46 +19990,51 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class remove_resultTupleSchemeFactory implements SchemeFactory {
-      public remove_resultTupleScheme getScheme() {
-        return new remove_resultTupleScheme();
+    private static class removeBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public removeBatch_resultTupleScheme getScheme() {
+        return new removeBatch_resultTupleScheme();
       }
     }
 
-    private static class remove_resultTupleScheme extends TupleScheme<remove_result> {
+    private static class removeBatch_resultTupleScheme extends TupleScheme<removeBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileOperationResult _iter100 : struct.success)
+            {
+              _iter100.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          {
+            org.apache.thrift.protocol.TList _list101 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileOperationResult>(_list101.size);
+            FileOperationResult _elem102;
+            for (int _i103 = 0; _i103 < _list101.size; ++_i103)
+            {
+              _elem102 = new FileOperationResult();
+              _elem102.read(iprot);
+              struct.success.add(_elem102);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.e = new tachyon.thrift.TachyonTException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
-        }
       }
     }
 
@@ -29,6 +29,8 @@ import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.collections.Pair;
 import tachyon.conf.TachyonConf;
+import tachyon.exception.ExceptionMessage;
+import tachyon.exception.PreconditionMessage;
 import tachyon.util.io.PathUtils;
 
 /**
@@ -446,6 +448,31 @@ public abstract class UnderFileSystem {
    */
   public abstract InputStream open(String path) throws IOException;
 
+  /**
+   * Opens an {@link InputStream} at the indicated path, positioned at the given offset. Under file
+   * systems which can start reading a file at an offset should override this method; the default
+   * implementation opens the file at its beginning and skips to the offset.
+   *
+   * @param path The file name
+   * @param offset The offset in the file to start reading at
+   * @return The {@code InputStream} object
+   * @throws IOException if a non-Tachyon error occurs
+   */
+  public InputStream open(String path, long offset) throws IOException {
+    Preconditions.checkArgument(offset >= 0, PreconditionMessage.ERR_SEEK_NEGATIVE, offset);
+    InputStream inputStream = open(path);
+    long remaining = offset;
+    while (remaining > 0) {
+      long skipped = inputStream.skip(remaining);
+      if (skipped <= 0) {
+        inputStream.close();
+        throw new IOException(ExceptionMessage.FAILED_SKIP.getMessage(offset));
+      }
+      remaining -= skipped;
+    }
+    return inputStream;
+  }
+
   /**
    * Renames a file or folder from {@code src} to {@code dst} in under file system
    *
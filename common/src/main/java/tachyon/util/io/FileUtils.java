@@ -16,7 +16,10 @@
 package tachyon.util.io;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 
 import com.google.common.io.Files;
 import org.slf4j.Logger;
@@ -105,15 +108,59 @@ public final class FileUtils {
    * Moves file from one place to another, can across storage devices (e.g., from memory to SSD)
    * when {@link File#renameTo} may not work.
    *
-   * Current implementation uses {@link com.google.common.io.Files#move(File, File)}, may change if
-   * there is a better solution.
+   * The file is renamed when possible. Otherwise it is copied with
+   * {@link FileChannel#transferTo}, which lets the kernel copy the data between the devices without
+   * going through user space, and the source file is deleted afterwards.
    *
    * @param srcPath pathname string of source file
    * @param dstPath pathname string of destination file
    * @throws IOException when fails to move
    */
   public static void move(String srcPath, String dstPath) throws IOException {
-    Files.move(new File(srcPath), new File(dstPath));
+    File srcFile = new File(srcPath);
+    File dstFile = new File(dstPath);
+    if (srcFile.renameTo(dstFile)) {
+      return;
+    }
+    copy(srcFile, dstFile);
+    if (!srcFile.delete()) {
+      if (!dstFile.delete()) {
+        LOG.warn("Failed to delete {} after failing to move {} to it", dstPath, srcPath);
+      }
+      throw new IOException("Failed to delete " + srcPath + " after copying it to " + dstPath);
+    }
+  }
+
+  /**
+   * Copies the content of a file to another file with {@link FileChannel#transferTo}.
+   *
+   * @param srcFile the file to copy
+   * @param dstFile the file to copy to, created or truncated, and deleted if the copy fails
+   * @throws IOException when fails to copy
+   */
+  private static void copy(File srcFile, File dstFile) throws IOException {
+    FileInputStream in = new FileInputStream(srcFile);
+    try {
+      FileOutputStream out = new FileOutputStream(dstFile);
+      boolean copied = false;
+      try {
+        FileChannel inChannel = in.getChannel();
+        FileChannel outChannel = out.getChannel();
+        long size = inChannel.size();
+        long position = 0;
+        while (position < size) {
+          position += inChannel.transferTo(position, size - position, outChannel);
+        }
+        copied = true;
+      } finally {
+        out.close();
+        if (!copied && !dstFile.delete()) {
+          LOG.warn("Failed to delete {} after failing to copy {} to it", dstFile, srcFile);
+        }
+      }
+    } finally {
+      in.close();
+    }
   }
 
   /**
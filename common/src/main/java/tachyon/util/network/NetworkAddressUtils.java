@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -535,6 +536,26 @@ public final class NetworkAddressUtils {
     }
   }
 
+  /**
+   * Extracts the server socket from the non-blocking thrift socket. Like
+   * {@link #getThriftSocket(org.apache.thrift.transport.TServerSocket)}, this function uses
+   * reflection since the internal socket is not exposed in the API.
+   *
+   * @param thriftSocket the underline non-blocking thrift socket
+   * @return the server socket
+   */
+  public static ServerSocket getThriftSocket(final TNonblockingServerSocket thriftSocket) {
+    try {
+      Field field = TNonblockingServerSocket.class.getDeclaredField("serverSocket_");
+      field.setAccessible(true);
+      return (ServerSocket) field.get(thriftSocket);
+    } catch (NoSuchFieldException e) {
+      throw Throwables.propagate(e);
+    } catch (IllegalAccessException e) {
+      throw Throwables.propagate(e);
+    }
+  }
+
   /**
    * Parses {@link InetSocketAddress} from a String.
    *
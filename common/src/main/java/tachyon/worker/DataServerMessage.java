@@ -37,11 +37,11 @@ public final class DataServerMessage {
   // The size of the prefix of the header: frame length (long), messageType (int)
   private static final int HEADER_PREFIX_LENGTH = 12;
   // The request header is: HEADER_PREFIX, blockId (long), offset (long), length (long),
-  // lockId (long), sessionId (long)
-  private static final int REQUEST_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 40;
+  // lockId (long), sessionId (long), requestId (long)
+  private static final int REQUEST_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 48;
   // The response header is: HEADER_PREFIX, blockId (long), offset (long), length (long),
-  // status (short)
-  private static final int RESPONSE_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 26;
+  // status (short), requestId (long)
+  private static final int RESPONSE_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 34;
   // The error response header is: HEADER_PREFIX, status (short)
   private static final int ERROR_RESPONSE_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 2;
 
@@ -147,6 +147,23 @@ public final class DataServerMessage {
     return ret;
   }
 
+  /**
+   * Creates an error response message with the given status, for a request which cannot be
+   * served at all. The message is ready to be sent.
+   *
+   * @param status The status of the response
+   * @return The created error response message
+   */
+  public static DataServerMessage createErrorResponseMessage(RPCResponse.Status status) {
+    DataServerMessage ret = new DataServerMessage(true, RPCMessage.Type.RPC_ERROR_RESPONSE);
+    ret.mHeader = ByteBuffer.allocate(ERROR_RESPONSE_HEADER_LENGTH);
+    ret.mStatus = status;
+    ret.mData = ByteBuffer.allocate(0);
+    ret.mIsMessageReady = true;
+    ret.generateHeader();
+    return ret;
+  }
+
   private final boolean mToSendData;
   private final RPCMessage.Type mMessageType;
   private boolean mIsMessageReady;
@@ -165,6 +182,8 @@ public final class DataServerMessage {
 
   private long mSessionId;
 
+  private long mRequestId = RPCMessage.UNKNOWN_REQUEST_ID;
+
   private ByteBuffer mData = null;
 
   /**
@@ -208,6 +227,14 @@ public final class DataServerMessage {
     mHeader.clear();
     // The header must match the Netty RPC messages.
 
+    if (mMessageType == RPCMessage.Type.RPC_ERROR_RESPONSE) {
+      // The error response only has a status.
+      mHeader.putLong(ERROR_RESPONSE_HEADER_LENGTH); // frame length
+      mHeader.putInt(mMessageType.getId()); // RPC message type
+      mHeader.putShort(mStatus.getId());
+      mHeader.flip();
+      return;
+    }
     if (mMessageType == RPCMessage.Type.RPC_BLOCK_READ_REQUEST) {
       mHeader.putLong(REQUEST_HEADER_LENGTH); // frame length
     } else {
@@ -228,6 +255,7 @@ public final class DataServerMessage {
       // The response message has a status.
       mHeader.putShort(mStatus.getId());
     }
+    mHeader.putLong(mRequestId);
     mHeader.flip();
   }
 
@@ -272,6 +300,17 @@ public final class DataServerMessage {
     return mOffset;
   }
 
+  /**
+   * Gets the id of the request, which the response echoes back so the client can match it with the
+   * request. Make sure the message is ready before calling this method.
+   *
+   * @return The id of the request
+   */
+  public long getRequestId() {
+    checkReady();
+    return mRequestId;
+  }
+
   /**
    * Gets the sessionId of the worker making the request. Make sure the message is ready before
    * calling this method.
@@ -284,9 +323,11 @@ public final class DataServerMessage {
   }
 
   /**
-   * Gets the status of the response. Make sure the message is ready before calling this method.
+   * Gets the status of the response, or of a request which cannot be served. Make sure the message
+   * is ready before calling this method.
    *
-   * @return The {@link tachyon.network.protocol.RPCResponse.Status} of the response
+   * @return The {@link tachyon.network.protocol.RPCResponse.Status} of the response, or null for a
+   *         request which can be served
    */
   public RPCResponse.Status getStatus() {
     checkReady();
@@ -359,6 +400,14 @@ public final class DataServerMessage {
         // frame length
         mHeader.getLong();
         int receivedMessageType = mHeader.getInt();
+        if (mMessageType == RPCMessage.Type.RPC_BLOCK_READ_REQUEST
+            && receivedMessageType != mMessageType.getId()) {
+          // Only block read requests are served, e.g. not streamed reads. The rest of the request
+          // is not read, so the channel cannot be used for later requests.
+          mStatus = RPCResponse.Status.UNKNOWN_MESSAGE_ERROR;
+          mIsMessageReady = true;
+          return numRead;
+        }
         Preconditions.checkState(mMessageType.getId() == receivedMessageType,
             "Unexpected message type (" + receivedMessageType + ") received. expected: "
                 + mMessageType.getId());
@@ -369,6 +418,7 @@ public final class DataServerMessage {
           // Additional fields for block read request
           mLockId = mHeader.getLong();
           mSessionId = mHeader.getLong();
+          mRequestId = mHeader.getLong();
         }
         // TODO(hy): Make this better to truncate the file.
         Preconditions.checkState(mLength < Integer.MAX_VALUE,
@@ -376,6 +426,7 @@ public final class DataServerMessage {
         if (mMessageType == RPCMessage.Type.RPC_BLOCK_READ_RESPONSE) {
           // The response message has a status.
           mStatus = RPCResponse.Status.fromShort(mHeader.getShort());
+          mRequestId = mHeader.getLong();
           if (mStatus == RPCResponse.Status.SUCCESS) {
             mData = ByteBuffer.allocate((int) mLength);
           } else {
@@ -426,4 +477,17 @@ public final class DataServerMessage {
   public void setLockId(long lockId) {
     mLockId = lockId;
   }
+
+  /**
+   * Sets the id of the request. If this is a send message which is already ready, its header is
+   * regenerated to carry the new id.
+   *
+   * @param requestId The id of the request
+   */
+  public void setRequestId(long requestId) {
+    mRequestId = requestId;
+    if (mToSendData && mIsMessageReady) {
+      generateHeader();
+    }
+  }
 }
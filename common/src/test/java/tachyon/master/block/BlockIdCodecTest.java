@@ -0,0 +1,73 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.block;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+public final class BlockIdCodecTest {
+
+  @Test
+  public void emptyTest() {
+    ByteBuffer encoded = BlockIdCodec.encode(ImmutableList.<Long>of());
+    Assert.assertEquals(1, encoded.remaining());
+    Assert.assertArrayEquals(new long[0], BlockIdCodec.decode(encoded));
+  }
+
+  @Test
+  public void encodeDecodeTest() {
+    List<Long> blockIds = ImmutableList.of(BlockId.createBlockId(7, 1), 0L, Long.MAX_VALUE,
+        BlockId.createBlockId(7, 0), -1L, Long.MIN_VALUE, BlockId.createBlockId(7, 1));
+    long[] expected = new long[] {Long.MIN_VALUE, -1L, 0L, BlockId.createBlockId(7, 0),
+        BlockId.createBlockId(7, 1), BlockId.createBlockId(7, 1), Long.MAX_VALUE};
+
+    ByteBuffer encoded = BlockIdCodec.encode(blockIds);
+    int position = encoded.position();
+    Assert.assertArrayEquals(expected, BlockIdCodec.decode(encoded));
+    // Decoding does not consume the buffer
+    Assert.assertEquals(position, encoded.position());
+  }
+
+  @Test
+  public void consecutiveBlocksTest() {
+    List<Long> blockIds = new ArrayList<Long>();
+    for (long sequenceNumber = 0; sequenceNumber < 1000; sequenceNumber ++) {
+      blockIds.add(BlockId.createBlockId(123456, sequenceNumber));
+    }
+
+    ByteBuffer encoded = BlockIdCodec.encode(blockIds);
+    // The count and the first id take a few bytes, and each following id takes one byte
+    Assert.assertTrue(encoded.remaining() < blockIds.size() + 16);
+    long[] decoded = BlockIdCodec.decode(encoded);
+    Assert.assertEquals(blockIds.size(), decoded.length);
+    for (int i = 0; i < decoded.length; i ++) {
+      Assert.assertEquals((long) blockIds.get(i), decoded[i]);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void truncatedTest() {
+    ByteBuffer encoded = BlockIdCodec.encode(ImmutableList.of(1L, 1000000L));
+    encoded.limit(encoded.limit() - 1);
+    BlockIdCodec.decode(encoded);
+  }
+}
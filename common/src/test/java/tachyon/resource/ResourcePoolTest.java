@@ -16,6 +16,7 @@
 package tachyon.resource;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Assert;
 import org.junit.Rule;
@@ -23,6 +24,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
 
+import tachyon.Constants;
+
 /**
  * Unit test for {@code ResourcePool} class.
  */
@@ -43,7 +46,7 @@ public class ResourcePoolTest {
 
     @Override
     public void close() {
-      // no ops
+      markClosed();
     }
 
     @Override
@@ -75,4 +78,60 @@ public class ResourcePoolTest {
       testPool.acquire();
     }
   }
+
+  @Test
+  public void acquireClosedPoolTest() {
+    mThrown.expect(IllegalStateException.class);
+    TestResourcePool testPool = new TestResourcePool(2);
+    testPool.close();
+    testPool.acquire();
+  }
+
+  @Test
+  public void closeWakesUpWaitersTest() throws Exception {
+    TestResourcePool testPool = new TestResourcePool(1);
+    testPool.acquire();
+    AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    Thread waiter = startWaiter(testPool, failure);
+    testPool.close();
+    waiter.join(10 * Constants.SECOND_MS);
+    Assert.assertFalse(waiter.isAlive());
+    Assert.assertTrue(failure.get() instanceof IllegalStateException);
+  }
+
+  @Test
+  public void discardWakesUpWaiterTest() throws Exception {
+    TestResourcePool testPool = new TestResourcePool(1);
+    testPool.acquire();
+    AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    Thread waiter = startWaiter(testPool, failure);
+    testPool.discard();
+    waiter.join(10 * Constants.SECOND_MS);
+    Assert.assertFalse(waiter.isAlive());
+    Assert.assertNull(failure.get());
+    // The waiter created a new resource in place of the discarded one.
+    Assert.assertEquals(2, testPool.mPort);
+  }
+
+  /**
+   * Starts a thread acquiring a resource from a full pool, and waits until it blocks.
+   */
+  private Thread startWaiter(final TestResourcePool testPool,
+      final AtomicReference<Throwable> failure) throws InterruptedException {
+    Thread waiter = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          testPool.acquire();
+        } catch (Throwable t) {
+          failure.set(t);
+        }
+      }
+    });
+    waiter.start();
+    while (waiter.getState() != Thread.State.WAITING) {
+      Thread.sleep(10);
+    }
+    return waiter;
+  }
 }
@@ -76,4 +76,15 @@ service BlockMasterWorkerService extends common.TachyonService {
       /** the map of used bytes on each tier */  4: map<string, i64> usedBytesOnTiers,
       /** the map of list of blocks on each tier */  5: map<string, list<i64>> currentBlocksOnTiers)
     throws (1: exception.TachyonTException e)
+
+  /**
+   * Reports a chunk of the blocks of a worker ahead of its registration. The blocks are added to the
+   * blocks given to the next registerWorker call of the worker. The first chunk of a registration
+   * drops the blocks reported by an earlier registration which did not complete.
+   */
+  void registerWorkerChunk( /** the id of the worker */  1: i64 workerId,
+      /** the alias of the tier of the blocks */  2: string tierAlias,
+      /** the ids of the blocks, encoded by tachyon.master.block.BlockIdCodec */  3: binary blockIds,
+      /** whether the chunk starts a new registration */  4: bool firstChunk)
+    throws (1: exception.TachyonTException e)
 }
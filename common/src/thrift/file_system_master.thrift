@@ -42,6 +42,14 @@ struct MkdirTOptions {
   3: optional bool allowExists
 }
 
+struct FileOperationResult {
+  1: optional i64 fileId
+  2: optional bool success
+  3: optional FileInfo fileInfo
+  4: optional exception.TachyonTException e
+  5: optional exception.ThriftIOException ioe
+}
+
 struct SetStateTOptions {
   1: optional bool pinned
   2: optional i64 ttl
@@ -60,6 +68,12 @@ service FileSystemMasterClientService extends common.TachyonService {
       /** the method options */ 2: CompleteFileTOptions options)
     throws (1: exception.TachyonTException e)
 
+  /**
+   * Marks the given files as completed and returns the result for each file.
+   */
+  list<FileOperationResult> completeFileBatch( /** the ids of the files */ 1: list<i64> fileIds,
+      /** the method options, one per file */ 2: list<CompleteFileTOptions> options)
+
   /**
    * Creates a file and returns the id of the file.
    */
@@ -67,6 +81,12 @@ service FileSystemMasterClientService extends common.TachyonService {
       /** the options for completing the file */ 2: CreateTOptions options)
     throws (1: exception.TachyonTException e, 2: exception.ThriftIOException ioe)
 
+  /**
+   * Creates the given files and returns the result for each file.
+   */
+  list<FileOperationResult> createBatch( /** the paths of the files */ 1: list<string> paths,
+      /** the method options, one per file */ 2: list<CreateTOptions> options)
+
   /**
    * Frees the given file from Tachyon and returns whether the free operation succeeded.
    */
@@ -84,7 +104,9 @@ service FileSystemMasterClientService extends common.TachyonService {
   /**
    * Returns the list of file blocks information for the given file.
    */
-  list<common.FileBlockInfo> getFileBlockInfoList( /** the id of the file */ 1: i64 fileId)
+  list<common.FileBlockInfo> getFileBlockInfoList( /** the id of the file */ 1: i64 fileId,
+      /** whether to skip the locations of the blocks in the under storage */
+      2: bool skipUfsLocations)
     throws (1: exception.TachyonTException e)
 
   /**
@@ -98,6 +120,11 @@ service FileSystemMasterClientService extends common.TachyonService {
   FileInfo getFileInfo( /** the id of the file */ 1: i64 fileId)
     throws (1: exception.TachyonTException e)
 
+  /**
+   * Returns the file information for each of the given files.
+   */
+  list<FileOperationResult> getFileInfoBatch( /** the ids of the files */ 1: list<i64> fileIds)
+
   /**
    * If the id points to a file, the method returns a singleton with its file information.
    * If the id points to a directory, the method returns a list with file information for the
@@ -149,6 +176,12 @@ service FileSystemMasterClientService extends common.TachyonService {
       /** whether to remove recursively */ 2: bool recursive)
     throws (1: exception.TachyonTException e)
 
+  /**
+   * Deletes the given files or directories and returns the result for each of them.
+   */
+  list<FileOperationResult> removeBatch( /** the ids of the files or directories */ 1: list<i64> ids,
+      /** whether to remove recursively */ 2: bool recursive)
+
   /**
    * Renames a file or a directory and returns whether the rename operation succeeded.
    */
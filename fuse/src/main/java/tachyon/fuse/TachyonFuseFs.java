@@ -399,10 +399,9 @@ final class TachyonFuseFs extends FuseStubFS {
       return -ErrorCodes.EBADFD();
     }
     try {
-      oe.getIn().seek(offset);
       final byte[] dest = new byte[sz];
       while (rd >= 0 && nread < size) {
-        rd = oe.getIn().read(dest, nread, sz - nread);
+        rd = oe.getIn().read(offset + nread, dest, nread, sz - nread);
         if (rd >= 0) {
           nread += rd;
         }
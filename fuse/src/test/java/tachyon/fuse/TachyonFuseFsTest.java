@@ -44,8 +44,11 @@ import static jnr.constants.platform.OpenFlags.O_RDONLY;
 import static jnr.constants.platform.OpenFlags.O_RDWR;
 import static jnr.constants.platform.OpenFlags.O_WRONLY;
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -168,17 +171,21 @@ public class TachyonFuseFsTest {
     when(mTFS.openIfExists(expectedPath)).thenReturn(fake);
     when(mTFS.getInfo(fake)).thenReturn(fi);
 
+    // The data is returned in two positioned reads of two bytes
     FileInStream fakeInStream = mock(FileInStream.class);
-    when(fakeInStream.read(any(byte[].class),anyInt(),anyInt())).then(new Answer<Integer>() {
-      @Override
-      public Integer answer(InvocationOnMock invocationOnMock) throws Throwable {
-        byte[] myDest = (byte[])invocationOnMock.getArguments()[0];
-        for (byte i = 0; i < 4; i++) {
-          myDest[i] = i;
-        }
-        return 4;
-      }
-    });
+    when(fakeInStream.read(anyLong(), any(byte[].class), anyInt(), anyInt())).then(
+        new Answer<Integer>() {
+          @Override
+          public Integer answer(InvocationOnMock invocationOnMock) throws Throwable {
+            long pos = (Long) invocationOnMock.getArguments()[0];
+            byte[] myDest = (byte[]) invocationOnMock.getArguments()[1];
+            int off = (Integer) invocationOnMock.getArguments()[2];
+            for (int i = 0; i < 2; i ++) {
+              myDest[off + i] = (byte) (pos + i);
+            }
+            return 2;
+          }
+        });
     when(mTFS.getInStream(fake)).thenReturn(fakeInStream);
     mFileInfo.flags.set(O_RDONLY.intValue());
 
@@ -189,12 +196,16 @@ public class TachyonFuseFsTest {
     // actual test
     mFuseFs.open("/foo/bar", mFileInfo);
 
-    mFuseFs.read("/foo/bar", ptr, 4, 0, mFileInfo);
+    assertEquals(4, mFuseFs.read("/foo/bar", ptr, 4, 10, mFileInfo));
     final byte[] dst = new byte[4];
     ptr.get(0, dst, 0, 4);
-    final byte[] expected = new byte[] {0, 1, 2, 3};
+    final byte[] expected = new byte[] {10, 11, 12, 13};
 
     assertArrayEquals("Source and dst data should be equal", expected, dst);
+    // The reads are positioned, so the stream is never seeked
+    verify(fakeInStream).read(eq(10L), any(byte[].class), eq(0), eq(4));
+    verify(fakeInStream).read(eq(12L), any(byte[].class), eq(2), eq(2));
+    verify(fakeInStream, never()).seek(anyLong());
 
   }
 
@@ -17,6 +17,7 @@ package tachyon.client;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Assert;
@@ -315,6 +316,41 @@ public class FileInStreamIntegrationTest {
     }
   }
 
+  /**
+   * Test {@link FileInStream#read(long, byte[], int, int)}.
+   *
+   * @throws IOException
+   * @throws TachyonException
+   */
+  @Test
+  public void positionedReadTest() throws IOException, TachyonException {
+    String uniqPath = PathUtils.uniqPath();
+    for (int k = MIN_LEN; k <= MAX_LEN; k += DELTA) {
+      for (OutStreamOptions op : getOptionSet()) {
+        TachyonFile f =
+            TachyonFSTestUtils.createByteFile(sTfs, uniqPath + "/file_" + k + "_"
+            + op.hashCode(), k, op);
+        FileInStream is = sTfs.getInStream(f, TachyonFSTestUtils.toInStreamOptions(op));
+        Assert.assertEquals(0, is.read());
+
+        // Reads across block boundaries, in a random order.
+        for (int pos : new int[] {k / 2, 0, k / 3, k - 1}) {
+          byte[] ret = new byte[BLOCK_SIZE + 2];
+          int len = Math.min(ret.length, k - pos);
+          Assert.assertEquals(len, is.read(pos, ret, 0, ret.length));
+          Assert.assertTrue(
+              BufferUtils.equalIncreasingByteArray(pos, len, Arrays.copyOf(ret, len)));
+        }
+        Assert.assertEquals(-1, is.read(k, new byte[1], 0, 1));
+
+        // The position of the stream is not changed by positioned reads.
+        Assert.assertEquals(1, is.read());
+        Assert.assertEquals(k - 2, is.remaining());
+        is.close();
+      }
+    }
+  }
+
   private List<OutStreamOptions> getOptionSet() {
     List<OutStreamOptions> ret = new ArrayList<OutStreamOptions>(3);
     ret.add(sWriteBoth);
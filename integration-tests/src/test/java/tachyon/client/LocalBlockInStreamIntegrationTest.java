@@ -16,6 +16,7 @@
 package tachyon.client;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,9 +26,11 @@ import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.powermock.reflect.Whitebox;
 
 import tachyon.Constants;
 import tachyon.LocalTachyonClusterResource;
+import tachyon.client.block.LocalBlockInStream;
 import tachyon.client.file.FileInStream;
 import tachyon.client.file.TachyonFile;
 import tachyon.client.file.TachyonFileSystem;
@@ -289,6 +292,35 @@ public class LocalBlockInStreamIntegrationTest {
     }
   }
 
+  /**
+   * Test {@link tachyon.client.block.LocalBlockInStream#readBuffer(int)}.
+   */
+  @Test
+  public void readBufferTest() throws IOException, TachyonException {
+    String uniqPath = PathUtils.uniqPath();
+    for (int k = MIN_LEN + DELTA; k <= MAX_LEN; k += DELTA) {
+      TachyonFile f =
+          TachyonFSTestUtils.createByteFile(sTfs, uniqPath + "/file_" + k, k, sWriteTachyon);
+      long blockId = sTfs.getInfo(f).getBlockIds().get(0);
+
+      LocalBlockInStream is = new LocalBlockInStream(blockId, k);
+      int t = k / 3;
+      ByteBuffer buf = is.readBuffer(t);
+      Assert.assertTrue(buf.isReadOnly());
+      Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, t, buf));
+      // Byte reads and seeks are served from the same mapping.
+      Assert.assertEquals(t, is.read());
+      is.seek(2 * t);
+      buf = is.readBuffer(k);
+      Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(2 * t, k - 2 * t, buf));
+      Assert.assertNull(is.readBuffer(k));
+      is.close();
+      // The stream drops the mapping when closed, but the returned buffer stays readable.
+      Assert.assertNull(Whitebox.getInternalState(is, "mMappedData"));
+      Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(2 * t, k - 2 * t, buf));
+    }
+  }
+
   private List<OutStreamOptions> getOptionSet() {
     List<OutStreamOptions> ret = new ArrayList<OutStreamOptions>(3);
     ret.add(sWriteBoth);
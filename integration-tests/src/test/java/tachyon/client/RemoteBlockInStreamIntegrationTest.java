@@ -79,26 +79,36 @@ public class RemoteBlockInStreamIntegrationTest {
     // creates a new instance of RemoteBlockInStreamTest for each network type
     List<Object[]> list = new ArrayList<Object[]>();
     list.add(new Object[] {IntegrationTestConstants.NETTY_DATA_SERVER,
-        IntegrationTestConstants.MAPPED_TRANSFER, IntegrationTestConstants.NETTY_BLOCK_READER});
+        IntegrationTestConstants.MAPPED_TRANSFER, IntegrationTestConstants.NETTY_BLOCK_READER,
+        "true"});
     list.add(new Object[] {IntegrationTestConstants.NETTY_DATA_SERVER,
         IntegrationTestConstants.FILE_CHANNEL_TRANSFER,
-        IntegrationTestConstants.NETTY_BLOCK_READER});
-    // The transfer type is not applicable to the NIODataServer.
+        IntegrationTestConstants.NETTY_BLOCK_READER, "true"});
+    list.add(new Object[] {IntegrationTestConstants.NETTY_DATA_SERVER,
+        IntegrationTestConstants.FILE_CHANNEL_TRANSFER,
+        IntegrationTestConstants.NETTY_BLOCK_READER, "false"});
+    // The transfer type is not applicable to the NIODataServer. It rejects streams, so the reads
+    // fall back to one request per read.
     list.add(new Object[] {IntegrationTestConstants.NIO_DATA_SERVER,
-        IntegrationTestConstants.UNUSED_TRANSFER, IntegrationTestConstants.NETTY_BLOCK_READER});
+        IntegrationTestConstants.UNUSED_TRANSFER, IntegrationTestConstants.NETTY_BLOCK_READER,
+        "true"});
     return list;
   }
 
-  public RemoteBlockInStreamIntegrationTest(String dataServer, String transferType, String reader) {
+  public RemoteBlockInStreamIntegrationTest(String dataServer, String transferType, String reader,
+      String streaming) {
     mDataServerClass = dataServer;
     mNettyTransferType = transferType;
     mRemoteReaderClass = reader;
 
+    // A small chunk size makes the streams span many chunks.
     mLocalTachyonClusterResource = new LocalTachyonClusterResource(Constants.GB, Constants.KB,
         Constants.GB, Constants.WORKER_DATA_SERVER, mDataServerClass,
         Constants.WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE, mNettyTransferType,
         Constants.USER_BLOCK_REMOTE_READER, mRemoteReaderClass,
-        Constants.USER_BLOCK_REMOTE_READ_BUFFER_SIZE_BYTES, "100");
+        Constants.USER_BLOCK_REMOTE_READ_BUFFER_SIZE_BYTES, "100",
+        Constants.USER_BLOCK_REMOTE_READ_STREAMING_ENABLED, streaming,
+        Constants.USER_BLOCK_REMOTE_READ_CHUNK_SIZE_BYTES, "16");
   }
 
   @Rule
@@ -435,6 +445,33 @@ public class RemoteBlockInStreamIntegrationTest {
     }
   }
 
+  /**
+   * Test {@link RemoteBlockInStream#seek(long)} back and forth within a block, which cancels the
+   * streams left unfinished and reuses their channels.
+   */
+  @Test
+  public void seekRemoteTest() throws IOException, TachyonException {
+    String uniqPath = PathUtils.uniqPath();
+    for (int k = MIN_LEN + DELTA; k <= MAX_LEN; k += DELTA) {
+      TachyonFile f =
+          TachyonFSTestUtils.createByteFile(mTfs, uniqPath + "/file_" + k, k, mWriteTachyon);
+
+      long blockId = mTfs.getInfo(f).getBlockIds().get(0);
+      BlockInfo info = TachyonBlockStore.get().getInfo(blockId);
+      NetAddress workerAddr = info.getLocations().get(0).getWorkerAddress();
+      RemoteBlockInStream is =
+          new RemoteBlockInStream(info.getBlockId(), info.getLength(), new InetSocketAddress(
+              workerAddr.getHost(), workerAddr.getDataPort()));
+      byte[] ret = new byte[k / 4];
+      for (int pos : new int[] {k / 2, 0, k / 3, k - k / 4, k / 5, k / 2}) {
+        is.seek(pos);
+        Assert.assertEquals(k / 4, is.read(ret));
+        Assert.assertTrue(BufferUtils.equalIncreasingByteArray(pos, k / 4, ret));
+      }
+      is.close();
+    }
+  }
+
   /**
    * Test {@link RemoteBlockInStream#skip(long)}.
    */
@@ -120,11 +120,11 @@ public final class LineageMasterIntegrationTest {
       Assert.assertEquals(LineageFileState.COMPLETED.toString(),
           infos.get(0).outputFiles.get(0).state);
 
-      // Execute the checkpoint scheduler for async checkpoint
+      // Execute the checkpoint scheduler for async checkpoint, before the worker polls the plan
       HeartbeatScheduler.schedule(HeartbeatContext.MASTER_CHECKPOINT_SCHEDULING);
-      HeartbeatScheduler.schedule(HeartbeatContext.WORKER_LINEAGE_SYNC);
       Assert.assertTrue(HeartbeatScheduler.await(HeartbeatContext.MASTER_CHECKPOINT_SCHEDULING, 5,
           TimeUnit.SECONDS));
+      HeartbeatScheduler.schedule(HeartbeatContext.WORKER_LINEAGE_SYNC);
       Assert.assertTrue(
           HeartbeatScheduler.await(HeartbeatContext.WORKER_LINEAGE_SYNC, 5, TimeUnit.SECONDS));
 
@@ -132,15 +132,18 @@ public final class LineageMasterIntegrationTest {
       Assert.assertEquals(LineageFileState.PERSISENCE_REQUESTED.toString(),
           infos.get(0).outputFiles.get(0).state);
 
-      // sleep and wait for worker to persist the file
-      CommonUtils.sleepMs(5);
-
-      // worker notifies the master
-      HeartbeatScheduler.schedule(HeartbeatContext.WORKER_LINEAGE_SYNC);
-      Assert.assertTrue(
-          HeartbeatScheduler.await(HeartbeatContext.WORKER_LINEAGE_SYNC, 5, TimeUnit.SECONDS));
-
-      infos = lineageMasterClient.getLineageInfoList();
+      // the worker persists the file asynchronously, and notifies the master on a later heartbeat
+      for (int i = 0; i < 50; i ++) {
+        CommonUtils.sleepMs(100);
+        HeartbeatScheduler.schedule(HeartbeatContext.WORKER_LINEAGE_SYNC);
+        Assert.assertTrue(
+            HeartbeatScheduler.await(HeartbeatContext.WORKER_LINEAGE_SYNC, 5, TimeUnit.SECONDS));
+        infos = lineageMasterClient.getLineageInfoList();
+        if (!LineageFileState.PERSISENCE_REQUESTED.toString()
+            .equals(infos.get(0).outputFiles.get(0).state)) {
+          break;
+        }
+      }
       Assert.assertEquals(LineageFileState.PERSISTED.toString(),
           infos.get(0).outputFiles.get(0).state);
 
@@ -63,6 +63,8 @@ public class RPCMessageIntegrationTest {
   private static final long OFFSET = 22;
   private static final long LENGTH = 33;
   private static final long LOCK_ID = 44;
+  private static final long REQUEST_ID = 55;
+  private static final long CHUNK_SIZE = 66;
 
   // This channel initializer sets up a simple pipeline with the encoder and decoder.
   private static class PipelineInitializer extends ChannelInitializer<SocketChannel> {
@@ -144,6 +146,7 @@ public class RPCMessageIntegrationTest {
 
   private void assertValid(RPCBlockReadRequest expected, RPCBlockReadRequest actual) {
     Assert.assertEquals(expected.getType(), actual.getType());
+    Assert.assertEquals(expected.getRequestId(), actual.getRequestId());
     Assert.assertEquals(expected.getEncodedLength(), actual.getEncodedLength());
     Assert.assertEquals(expected.getBlockId(), actual.getBlockId());
     Assert.assertEquals(expected.getOffset(), actual.getOffset());
@@ -152,8 +155,22 @@ public class RPCMessageIntegrationTest {
     Assert.assertEquals(expected.getSessionId(), actual.getSessionId());
   }
 
+  private void assertValid(RPCBlockReadStreamRequest expected,
+      RPCBlockReadStreamRequest actual) {
+    Assert.assertEquals(expected.getType(), actual.getType());
+    Assert.assertEquals(expected.getRequestId(), actual.getRequestId());
+    Assert.assertEquals(expected.getEncodedLength(), actual.getEncodedLength());
+    Assert.assertEquals(expected.getBlockId(), actual.getBlockId());
+    Assert.assertEquals(expected.getOffset(), actual.getOffset());
+    Assert.assertEquals(expected.getLength(), actual.getLength());
+    Assert.assertEquals(expected.getLockId(), actual.getLockId());
+    Assert.assertEquals(expected.getSessionId(), actual.getSessionId());
+    Assert.assertEquals(expected.getChunkSize(), actual.getChunkSize());
+  }
+
   private void assertValid(RPCBlockReadResponse expected, RPCBlockReadResponse actual) {
     Assert.assertEquals(expected.getType(), actual.getType());
+    Assert.assertEquals(expected.getRequestId(), actual.getRequestId());
     Assert.assertEquals(expected.getEncodedLength(), actual.getEncodedLength());
     Assert.assertEquals(expected.getBlockId(), actual.getBlockId());
     Assert.assertEquals(expected.getOffset(), actual.getOffset());
@@ -171,6 +188,7 @@ public class RPCMessageIntegrationTest {
 
   private void assertValid(RPCBlockWriteRequest expected, RPCBlockWriteRequest actual) {
     Assert.assertEquals(expected.getType(), actual.getType());
+    Assert.assertEquals(expected.getRequestId(), actual.getRequestId());
     Assert.assertEquals(expected.getEncodedLength(), actual.getEncodedLength());
     Assert.assertEquals(expected.getBlockId(), actual.getBlockId());
     Assert.assertEquals(expected.getOffset(), actual.getOffset());
@@ -182,8 +200,26 @@ public class RPCMessageIntegrationTest {
     }
   }
 
+  private void assertValid(RPCBlockReadStreamCancelRequest expected,
+      RPCBlockReadStreamCancelRequest actual) {
+    Assert.assertEquals(expected.getType(), actual.getType());
+    Assert.assertEquals(expected.getRequestId(), actual.getRequestId());
+    Assert.assertEquals(expected.getEncodedLength(), actual.getEncodedLength());
+  }
+
+  private void assertValid(RPCBlockWriteCloseRequest expected,
+      RPCBlockWriteCloseRequest actual) {
+    Assert.assertEquals(expected.getType(), actual.getType());
+    Assert.assertEquals(expected.getRequestId(), actual.getRequestId());
+    Assert.assertEquals(expected.getEncodedLength(), actual.getEncodedLength());
+    Assert.assertEquals(expected.getBlockId(), actual.getBlockId());
+    Assert.assertEquals(expected.getSessionId(), actual.getSessionId());
+    Assert.assertEquals(expected.isCommit(), actual.isCommit());
+  }
+
   private void assertValid(RPCBlockWriteResponse expected, RPCBlockWriteResponse actual) {
     Assert.assertEquals(expected.getType(), actual.getType());
+    Assert.assertEquals(expected.getRequestId(), actual.getRequestId());
     Assert.assertEquals(expected.getEncodedLength(), actual.getEncodedLength());
     Assert.assertEquals(expected.getBlockId(), actual.getBlockId());
     Assert.assertEquals(expected.getOffset(), actual.getOffset());
@@ -223,17 +259,25 @@ public class RPCMessageIntegrationTest {
   @Test
   public void RPCBlockReadRequestTest() {
     RPCBlockReadRequest msg = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
-        SESSION_ID);
+        SESSION_ID, REQUEST_ID);
     RPCBlockReadRequest decoded = (RPCBlockReadRequest) encodeThenDecode(msg);
     assertValid(msg, decoded);
   }
 
+  @Test
+  public void RPCBlockReadStreamRequestTest() {
+    RPCBlockReadStreamRequest msg = new RPCBlockReadStreamRequest(BLOCK_ID, OFFSET, LENGTH,
+        LOCK_ID, SESSION_ID, CHUNK_SIZE, REQUEST_ID);
+    RPCBlockReadStreamRequest decoded = (RPCBlockReadStreamRequest) encodeThenDecode(msg);
+    assertValid(msg, decoded);
+  }
+
   @Test
   public void RPCBlockReadResponseTest() {
     ByteBuffer payload = BufferUtils.getIncreasingByteBuffer((int) OFFSET, (int) LENGTH);
     RPCBlockReadResponse msg =
         new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, new DataByteBuffer(payload, LENGTH),
-            RPCResponse.Status.SUCCESS);
+            RPCResponse.Status.SUCCESS, REQUEST_ID);
     RPCBlockReadResponse decoded = (RPCBlockReadResponse) encodeThenDecode(msg);
     assertValid(msg, decoded);
   }
@@ -250,7 +294,7 @@ public class RPCMessageIntegrationTest {
   public void RPCBlockReadResponseErrorTest() {
     RPCBlockReadResponse msg =
         RPCBlockReadResponse.createErrorResponse(
-            new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID),
+            new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, REQUEST_ID),
             RPCResponse.Status.FILE_DNE);
     RPCBlockReadResponse decoded = (RPCBlockReadResponse) encodeThenDecode(msg);
     assertValid(msg, decoded);
@@ -276,15 +320,32 @@ public class RPCMessageIntegrationTest {
     ByteBuffer payload = BufferUtils.getIncreasingByteBuffer((int) OFFSET, (int) LENGTH);
     RPCBlockWriteRequest msg =
         new RPCBlockWriteRequest(SESSION_ID, BLOCK_ID, OFFSET, LENGTH, new DataByteBuffer(payload,
-            LENGTH));
+            LENGTH), REQUEST_ID);
     RPCBlockWriteRequest decoded = (RPCBlockWriteRequest) encodeThenDecode(msg);
     assertValid(msg, decoded);
   }
 
+  @Test
+  public void RPCBlockReadStreamCancelRequestTest() {
+    RPCBlockReadStreamCancelRequest msg = new RPCBlockReadStreamCancelRequest(REQUEST_ID);
+    RPCBlockReadStreamCancelRequest decoded =
+        (RPCBlockReadStreamCancelRequest) encodeThenDecode(msg);
+    assertValid(msg, decoded);
+  }
+
+  @Test
+  public void RPCBlockWriteCloseRequestTest() {
+    RPCBlockWriteCloseRequest msg =
+        new RPCBlockWriteCloseRequest(SESSION_ID, BLOCK_ID, true, REQUEST_ID);
+    RPCBlockWriteCloseRequest decoded = (RPCBlockWriteCloseRequest) encodeThenDecode(msg);
+    assertValid(msg, decoded);
+  }
+
   @Test
   public void RPCBlockWriteResponseTest() {
     RPCBlockWriteResponse msg =
-        new RPCBlockWriteResponse(SESSION_ID, BLOCK_ID, OFFSET, LENGTH, RPCResponse.Status.SUCCESS);
+        new RPCBlockWriteResponse(SESSION_ID, BLOCK_ID, OFFSET, LENGTH, RPCResponse.Status.SUCCESS,
+            REQUEST_ID);
     RPCBlockWriteResponse decoded = (RPCBlockWriteResponse) encodeThenDecode(msg);
     assertValid(msg, decoded);
   }
@@ -16,6 +16,7 @@
 package tachyon.underfs;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
 
@@ -73,6 +74,25 @@ public class UnderStorageSystemInterfaceIntegrationTest {
     Assert.assertTrue(Arrays.equals(buf, TEST_BYTES));
   }
 
+  /**
+   * Tests that a file can be opened at an offset, and validates the data read from it.
+   *
+   * @throws IOException if a non-Tachyon exception occurs
+   */
+  @Test
+  public void createOpenAtOffsetTest() throws IOException {
+    String testFile = PathUtils.concatPath(mUnderfsAddress, "testFile");
+    createTestBytesFile(testFile);
+    for (int offset = 0; offset < TEST_BYTES.length; offset ++) {
+      InputStream inputStream = mUfs.open(testFile, offset);
+      byte[] buf = new byte[TEST_BYTES.length - offset];
+      int bytesRead = inputStream.read(buf);
+      inputStream.close();
+      Assert.assertEquals(TEST_BYTES.length - offset, bytesRead);
+      Assert.assertArrayEquals(Arrays.copyOfRange(TEST_BYTES, offset, TEST_BYTES.length), buf);
+    }
+  }
+
   /**
    * Tests a file can be deleted.
    *
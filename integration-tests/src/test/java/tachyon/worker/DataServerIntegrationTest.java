@@ -41,6 +41,9 @@ import tachyon.client.TachyonStorageType;
 import tachyon.client.UnderStorageType;
 import tachyon.client.block.BlockMasterClient;
 import tachyon.client.block.BlockStoreContext;
+import tachyon.client.block.RemoteBlockOutStream;
+import tachyon.client.file.FileSystemContext;
+import tachyon.client.file.FileSystemMasterClient;
 import tachyon.client.file.TachyonFile;
 import tachyon.client.file.TachyonFileSystem;
 import tachyon.client.worker.WorkerClient;
@@ -305,6 +308,37 @@ public class DataServerIntegrationTest {
     assertError(recvMsg, block.blockId);
   }
 
+  @Test
+  public void writeThroughClientTest() throws IOException, TachyonException {
+    if (mDataServerClass.equals(IntegrationTestConstants.NIO_DATA_SERVER)) {
+      // The NIODataServer does not support writes.
+      return;
+    }
+    final int length = 250;
+    TachyonFile file = mTFS.create(new TachyonURI("/writeThroughClient"));
+    FileSystemMasterClient masterClient = FileSystemContext.INSTANCE.acquireMasterClient();
+    long blockId;
+    try {
+      blockId = masterClient.getNewBlockIdForFile(file.getFileId());
+    } finally {
+      FileSystemContext.INSTANCE.releaseMasterClient(masterClient);
+    }
+
+    // The block is written in several requests, since it is larger than the client buffer.
+    RemoteBlockOutStream os = new RemoteBlockOutStream(blockId, Constants.GB);
+    for (int i = 0; i < length; i ++) {
+      os.write(i);
+    }
+    os.close();
+
+    BlockInfo block = mBlockMasterClient.getBlockInfo(blockId);
+    Assert.assertEquals(length, block.getLength());
+    RemoteBlockReader client =
+        RemoteBlockReader.Factory.createRemoteBlockReader(mWorkerTachyonConf);
+    Assert.assertEquals(BufferUtils.getIncreasingByteBuffer(length),
+        readRemotely(client, block, length));
+  }
+
   @Test
   public void tooLargeOffset() throws IOException, TachyonException {
     final int length = 10;
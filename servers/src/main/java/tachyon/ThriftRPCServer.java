@@ -0,0 +1,300 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.security.sasl.SaslException;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+
+import tachyon.conf.TachyonConf;
+import tachyon.security.authentication.AuthType;
+import tachyon.security.authentication.AuthenticationUtils;
+import tachyon.util.ThreadFactoryUtils;
+import tachyon.util.network.NetworkAddressUtils;
+import tachyon.util.network.NetworkAddressUtils.ServiceType;
+
+/**
+ * The server socket and settings of a master or worker RPC service. It binds the socket on
+ * construction and builds the Thrift server of the configured {@link Type} on demand.
+ *
+ * A {@link Type#THREAD_POOL} server dedicates a handler thread to each open connection. A
+ * {@link Type#THREADED_SELECTOR} server multiplexes the connections over a few selector threads and
+ * only hands complete requests to a bounded handler pool, so the number of threads no longer grows
+ * with the number of clients. It reads the framed transport which clients use with
+ * {@link AuthType#NOSASL}; the SASL transports need a blocking handshake per connection, so with
+ * SASL authentication the {@link Type#THREAD_POOL} server is used instead.
+ *
+ * The handler pool is metered: the number of queued requests, the number of active handlers and
+ * the time requests wait for a handler are exposed as a {@link MetricSet} for the metrics sources.
+ */
+public final class ThriftRPCServer implements MetricSet {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /**
+   * The types of Thrift server an RPC service can run.
+   */
+  public enum Type {
+    /** A server with a handler thread per connection. */
+    THREAD_POOL,
+    /** A non-blocking server with selector threads and a bounded handler pool. */
+    THREADED_SELECTOR,
+  }
+
+  private final ServiceType mServiceType;
+  private final TachyonConf mTachyonConf;
+  private final Type mType;
+  private final int mMinHandlerThreads;
+  private final int mMaxHandlerThreads;
+  private final int mSelectorThreads;
+  private final TServerTransport mServerTransport;
+  private final ServerSocket mServerSocket;
+  private final Timer mQueueTimer = new Timer();
+  /** The handler pool of the last server created, null before any server is created */
+  private volatile ThreadPoolExecutor mHandlerPool = null;
+
+  /**
+   * Creates the RPC server socket of the given service and binds it to the service's bind address.
+   *
+   * @param serviceType the service, either {@link ServiceType#MASTER_RPC} or
+   *        {@link ServiceType#WORKER_RPC}
+   * @param tachyonConf the configuration to read the server settings from
+   * @throws TTransportException if the socket cannot be bound
+   */
+  public ThriftRPCServer(ServiceType serviceType, TachyonConf tachyonConf)
+      throws TTransportException {
+    mServiceType = serviceType;
+    mTachyonConf = tachyonConf;
+    Type type;
+    switch (serviceType) {
+      case MASTER_RPC:
+        type = tachyonConf.getEnum(Constants.MASTER_RPC_SERVER_TYPE, Type.class);
+        mSelectorThreads = tachyonConf.getInt(Constants.MASTER_RPC_SELECTOR_THREADS);
+        if (type == Type.THREADED_SELECTOR) {
+          mMinHandlerThreads = tachyonConf.getInt(Constants.MASTER_RPC_HANDLER_THREADS);
+          mMaxHandlerThreads = mMinHandlerThreads;
+        } else {
+          mMinHandlerThreads = tachyonConf.getInt(Constants.MASTER_WORKER_THREADS_MIN);
+          mMaxHandlerThreads = tachyonConf.getInt(Constants.MASTER_WORKER_THREADS_MAX);
+        }
+        Preconditions.checkArgument(mMaxHandlerThreads >= mMinHandlerThreads,
+            Constants.MASTER_WORKER_THREADS_MAX + " can not be less than "
+                + Constants.MASTER_WORKER_THREADS_MIN);
+        break;
+      case WORKER_RPC:
+        type = tachyonConf.getEnum(Constants.WORKER_RPC_SERVER_TYPE, Type.class);
+        mSelectorThreads = tachyonConf.getInt(Constants.WORKER_RPC_SELECTOR_THREADS);
+        if (type == Type.THREADED_SELECTOR) {
+          mMinHandlerThreads = tachyonConf.getInt(Constants.WORKER_RPC_HANDLER_THREADS);
+          mMaxHandlerThreads = mMinHandlerThreads;
+        } else {
+          mMinHandlerThreads = tachyonConf.getInt(Constants.WORKER_WORKER_BLOCK_THREADS_MIN);
+          mMaxHandlerThreads = tachyonConf.getInt(Constants.WORKER_WORKER_BLOCK_THREADS_MAX);
+        }
+        Preconditions.checkArgument(mMaxHandlerThreads >= mMinHandlerThreads,
+            Constants.WORKER_WORKER_BLOCK_THREADS_MAX + " can not be less than "
+                + Constants.WORKER_WORKER_BLOCK_THREADS_MIN);
+        break;
+      default:
+        throw new IllegalArgumentException("No RPC server for service " + serviceType);
+    }
+    Preconditions.checkArgument(mMaxHandlerThreads > 0,
+        "The RPC handler threads of " + serviceType.getServiceName() + " must be positive");
+
+    AuthType authType =
+        tachyonConf.getEnum(Constants.SECURITY_AUTHENTICATION_TYPE, AuthType.class);
+    if (type == Type.THREADED_SELECTOR && authType != AuthType.NOSASL) {
+      LOG.warn("{} can not use the {} server with {} authentication, using the {} server",
+          serviceType.getServiceName(), Type.THREADED_SELECTOR, authType, Type.THREAD_POOL);
+      type = Type.THREAD_POOL;
+    }
+    mType = type;
+
+    InetSocketAddress bindAddress = NetworkAddressUtils.getBindAddress(serviceType, tachyonConf);
+    if (mType == Type.THREADED_SELECTOR) {
+      TNonblockingServerSocket socket = new TNonblockingServerSocket(bindAddress);
+      mServerTransport = socket;
+      mServerSocket = NetworkAddressUtils.getThriftSocket(socket);
+    } else {
+      TServerSocket socket = new TServerSocket(bindAddress);
+      mServerTransport = socket;
+      mServerSocket = NetworkAddressUtils.getThriftSocket(socket);
+    }
+  }
+
+  /**
+   * @return the type of the server
+   */
+  public Type getType() {
+    return mType;
+  }
+
+  /**
+   * @return the port the server socket is bound to
+   */
+  public int getPort() {
+    return mServerSocket.getLocalPort();
+  }
+
+  /**
+   * @return the host address the server socket is bound to
+   */
+  public String getBindHost() {
+    return mServerSocket.getInetAddress().getHostAddress();
+  }
+
+  /**
+   * Creates a Thrift server serving the processor on the server socket. The server authenticates
+   * connections with the transport of {@link AuthenticationUtils#getServerTransportFactory}.
+   *
+   * @param processor the processor of the RPC service
+   * @return the Thrift server, not yet serving
+   * @throws SaslException if the transport of the authentication type cannot be created
+   */
+  public TServer createServer(TProcessor processor) throws SaslException {
+    int stopTimeoutSeconds = mTachyonConf.getBoolean(Constants.IN_TEST_MODE) ? 0
+        : Constants.THRIFT_STOP_TIMEOUT_SECONDS;
+    TBinaryProtocol.Factory protocolFactory = new TBinaryProtocol.Factory(true, true);
+    if (mType == Type.THREADED_SELECTOR) {
+      // The selector threads read whole frames, so the default transport factory is kept and the
+      // handler pool queues requests instead of connections.
+      mHandlerPool = createHandlerPool(new LinkedBlockingQueue<Runnable>());
+      mHandlerPool.allowCoreThreadTimeOut(true);
+      TThreadedSelectorServer.Args args =
+          new TThreadedSelectorServer.Args((TNonblockingServerSocket) mServerTransport)
+              .selectorThreads(mSelectorThreads).executorService(mHandlerPool)
+              .stopTimeoutVal(stopTimeoutSeconds).processor(processor)
+              .protocolFactory(protocolFactory);
+      return new TThreadedSelectorServer(args);
+    }
+    mHandlerPool = createHandlerPool(new SynchronousQueue<Runnable>());
+    TThreadPoolServer.Args args = new TThreadPoolServer.Args(mServerTransport)
+        .minWorkerThreads(mMinHandlerThreads).maxWorkerThreads(mMaxHandlerThreads)
+        .executorService(mHandlerPool).processor(processor)
+        .transportFactory(AuthenticationUtils.getServerTransportFactory(mTachyonConf))
+        .protocolFactory(protocolFactory);
+    args.stopTimeoutVal = stopTimeoutSeconds;
+    return new TThreadPoolServer(args);
+  }
+
+  /**
+   * Closes the server socket.
+   */
+  public void close() {
+    mServerTransport.close();
+  }
+
+  /**
+   * @return the number of requests waiting for a handler thread
+   */
+  public int getQueuedRequests() {
+    ThreadPoolExecutor handlerPool = mHandlerPool;
+    return handlerPool == null ? 0 : handlerPool.getQueue().size();
+  }
+
+  /**
+   * @return the number of handler threads which are processing a request or, for a
+   *         {@link Type#THREAD_POOL} server, serving a connection
+   */
+  public int getActiveHandlers() {
+    ThreadPoolExecutor handlerPool = mHandlerPool;
+    return handlerPool == null ? 0 : handlerPool.getActiveCount();
+  }
+
+  /**
+   * @return the timer of how long requests wait for a handler thread
+   */
+  public Timer getQueueTimer() {
+    return mQueueTimer;
+  }
+
+  @Override
+  public Map<String, Metric> getMetrics() {
+    Map<String, Metric> metrics = new HashMap<String, Metric>();
+    metrics.put("RPCActiveHandlers", new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return getActiveHandlers();
+      }
+    });
+    metrics.put("RPCQueuedRequests", new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return getQueuedRequests();
+      }
+    });
+    metrics.put("RPCQueueTimer", mQueueTimer);
+    return metrics;
+  }
+
+  private ThreadPoolExecutor createHandlerPool(BlockingQueue<Runnable> queue) {
+    String nameFormat = mServiceType == ServiceType.MASTER_RPC ? "master-rpc-handler-%d"
+        : "worker-rpc-handler-%d";
+    return new MeteredThreadPoolExecutor(mMinHandlerThreads, mMaxHandlerThreads, queue,
+        ThreadFactoryUtils.build(nameFormat, true), mQueueTimer);
+  }
+
+  /**
+   * A thread pool which times how long its tasks wait before they run.
+   */
+  private static final class MeteredThreadPoolExecutor extends ThreadPoolExecutor {
+    private final Timer mQueueTimer;
+
+    MeteredThreadPoolExecutor(int corePoolSize, int maxPoolSize, BlockingQueue<Runnable> queue,
+        ThreadFactory threadFactory, Timer queueTimer) {
+      super(corePoolSize, maxPoolSize, 60, TimeUnit.SECONDS, queue, threadFactory);
+      mQueueTimer = queueTimer;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+      final Timer.Context queueTime = mQueueTimer.time();
+      super.execute(new Runnable() {
+        @Override
+        public void run() {
+          queueTime.stop();
+          command.run();
+        }
+      });
+    }
+  }
+}
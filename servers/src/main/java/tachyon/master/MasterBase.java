@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Preconditions;
 
 import tachyon.Constants;
+import tachyon.master.journal.AsyncJournalWriter;
 import tachyon.master.journal.Journal;
 import tachyon.master.journal.JournalInputStream;
 import tachyon.master.journal.JournalOutputStream;
@@ -62,6 +63,8 @@ public abstract class MasterBase implements Master {
   private JournalTailerThread mStandbyJournalTailer = null;
   /** The journal writer for when the master is the leader. */
   private JournalWriter mJournalWriter = null;
+  /** The writer which group commits the journal entries for when the master is the leader. */
+  private AsyncJournalWriter mAsyncJournalWriter = null;
 
   /**
    * @param journal the journal to use for tracking master operations
@@ -150,6 +153,7 @@ public abstract class MasterBase implements Master {
           mJournalWriter.getCheckpointOutputStream(latestSequenceNumber);
       streamToJournalCheckpoint(checkpointStream);
       checkpointStream.close();
+      mAsyncJournalWriter = new AsyncJournalWriter(mJournalWriter, getName());
     } else {
       // This master is in standby mode. Start the journal tailer thread. Since the master is in
       // standby mode, its RPC server is NOT serving. Therefore, the only thread modifying the
@@ -164,6 +168,11 @@ public abstract class MasterBase implements Master {
     LOG.info("{}: Stopping {} master.", getName(), mIsLeader ? "leader" : "standby");
     if (mIsLeader) {
       // Stop this leader master.
+      if (mAsyncJournalWriter != null) {
+        // Flush the pending entries before closing the journal.
+        mAsyncJournalWriter.close();
+        mAsyncJournalWriter = null;
+      }
       if (mJournalWriter != null) {
         mJournalWriter.close();
         mJournalWriter = null;
@@ -199,23 +208,39 @@ public abstract class MasterBase implements Master {
    * Writes a {@link JournalEntry} to the journal. Does NOT flush the journal.
    *
    * @param entry the {@link JournalEntry} to write to the journal
+   * @return the flush counter of the entry, to pass to {@link #flushJournal(long)}
    */
-  protected void writeJournalEntry(JournalEntry entry) {
-    Preconditions.checkNotNull(mJournalWriter, "Cannot write entry: journal writer is null.");
+  protected long writeJournalEntry(JournalEntry entry) {
+    Preconditions.checkNotNull(mAsyncJournalWriter,
+        "Cannot write entry: journal writer is null.");
     try {
-      mJournalWriter.getEntryOutputStream().writeEntry(entry);
+      return mAsyncJournalWriter.appendEntry(entry);
     } catch (IOException ioe) {
       throw new RuntimeException(ioe);
     }
   }
 
   /**
-   * Flushes the journal.
+   * Flushes the journal, waiting for all the entries written so far to be durable.
    */
   protected void flushJournal() {
-    Preconditions.checkNotNull(mJournalWriter, "Cannot flush journal: journal writer is null.");
+    Preconditions.checkNotNull(mAsyncJournalWriter,
+        "Cannot flush journal: journal writer is null.");
+    flushJournal(mAsyncJournalWriter.getCounter());
+  }
+
+  /**
+   * Waits for the journal to be flushed up to an entry. Flushes are shared by all the threads
+   * writing entries, so this should be called without holding the locks of the master, to let
+   * other threads write entries in the meantime.
+   *
+   * @param counter the flush counter returned by {@link #writeJournalEntry}
+   */
+  protected void flushJournal(long counter) {
+    Preconditions.checkNotNull(mAsyncJournalWriter,
+        "Cannot flush journal: journal writer is null.");
     try {
-      mJournalWriter.getEntryOutputStream().flush();
+      mAsyncJournalWriter.flush(counter);
     } catch (IOException ioe) {
       throw new RuntimeException(ioe);
     }
@@ -23,6 +23,7 @@ import org.slf4j.LoggerFactory;
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
 import tachyon.Constants;
 import tachyon.metrics.source.Source;
@@ -31,6 +32,7 @@ import tachyon.underfs.UnderFileSystem;
 /**
  * A MasterSource collects a Master's internal state. Metrics like *Ops are used to record how many
  * times that operation was attempted so the counter is incremented no matter if it is successful or
+ * not. Metrics like *Timer record the latency distribution of an operation, whether it succeeds or
  * not.
  */
 public class MasterSource implements Source {
@@ -89,6 +91,51 @@ public class MasterSource implements Source {
   private final Counter mUnmountOps =
       mMetricRegistry.counter(MetricRegistry.name("UnmountOps"));
 
+  private final Timer mCompleteFileTimer =
+      mMetricRegistry.timer(MetricRegistry.name("CompleteFileTimer"));
+  private final Timer mCompleteFileBatchTimer =
+      mMetricRegistry.timer(MetricRegistry.name("CompleteFileBatchTimer"));
+  private final Timer mCreateDirectoryTimer =
+      mMetricRegistry.timer(MetricRegistry.name("CreateDirectoryTimer"));
+  private final Timer mCreateFileTimer =
+      mMetricRegistry.timer(MetricRegistry.name("CreateFileTimer"));
+  private final Timer mCreateFileBatchTimer =
+      mMetricRegistry.timer(MetricRegistry.name("CreateFileBatchTimer"));
+  private final Timer mDeletePathTimer =
+      mMetricRegistry.timer(MetricRegistry.name("DeletePathTimer"));
+  private final Timer mDeletePathBatchTimer =
+      mMetricRegistry.timer(MetricRegistry.name("DeletePathBatchTimer"));
+  private final Timer mFreeFileTimer =
+      mMetricRegistry.timer(MetricRegistry.name("FreeFileTimer"));
+  private final Timer mGetFileBlockInfoTimer =
+      mMetricRegistry.timer(MetricRegistry.name("GetFileBlockInfoTimer"));
+  private final Timer mGetFileIdTimer =
+      mMetricRegistry.timer(MetricRegistry.name("GetFileIdTimer"));
+  private final Timer mGetFileInfoTimer =
+      mMetricRegistry.timer(MetricRegistry.name("GetFileInfoTimer"));
+  private final Timer mGetFileInfoBatchTimer =
+      mMetricRegistry.timer(MetricRegistry.name("GetFileInfoBatchTimer"));
+  private final Timer mGetNewBlockTimer =
+      mMetricRegistry.timer(MetricRegistry.name("GetNewBlockTimer"));
+  private final Timer mJournalFlushTimer =
+      mMetricRegistry.timer(MetricRegistry.name("JournalFlushTimer"));
+  private final Timer mLoadMetadataTimer =
+      mMetricRegistry.timer(MetricRegistry.name("LoadMetadataTimer"));
+  private final Timer mMountTimer =
+      mMetricRegistry.timer(MetricRegistry.name("MountTimer"));
+  private final Timer mRenamePathTimer =
+      mMetricRegistry.timer(MetricRegistry.name("RenamePathTimer"));
+  private final Timer mSetStateTimer =
+      mMetricRegistry.timer(MetricRegistry.name("SetStateTimer"));
+  private final Timer mUfsDeleteTimer =
+      mMetricRegistry.timer(MetricRegistry.name("UfsDeleteTimer"));
+  private final Timer mUfsGetFileLocationsTimer =
+      mMetricRegistry.timer(MetricRegistry.name("UfsGetFileLocationsTimer"));
+  private final Timer mUfsRenameTimer =
+      mMetricRegistry.timer(MetricRegistry.name("UfsRenameTimer"));
+  private final Timer mUnmountTimer =
+      mMetricRegistry.timer(MetricRegistry.name("UnmountTimer"));
+
   public void registerGauges(final TachyonMaster tachyonMaster) {
     if (mGaugesRegistered) {
       return;
@@ -181,6 +228,8 @@ public class MasterSource implements Source {
       }
     });
 
+    mMetricRegistry.registerAll(tachyonMaster.getRPCServer());
+
     mGaugesRegistered = true;
   }
 
@@ -289,4 +338,92 @@ public class MasterSource implements Source {
   public void incUnmountOps(long n) {
     mUnmountOps.inc(n);
   }
+
+  public Timer.Context timeCompleteFile() {
+    return mCompleteFileTimer.time();
+  }
+
+  public Timer.Context timeCompleteFileBatch() {
+    return mCompleteFileBatchTimer.time();
+  }
+
+  public Timer.Context timeCreateDirectory() {
+    return mCreateDirectoryTimer.time();
+  }
+
+  public Timer.Context timeCreateFile() {
+    return mCreateFileTimer.time();
+  }
+
+  public Timer.Context timeCreateFileBatch() {
+    return mCreateFileBatchTimer.time();
+  }
+
+  public Timer.Context timeDeletePath() {
+    return mDeletePathTimer.time();
+  }
+
+  public Timer.Context timeDeletePathBatch() {
+    return mDeletePathBatchTimer.time();
+  }
+
+  public Timer.Context timeFreeFile() {
+    return mFreeFileTimer.time();
+  }
+
+  public Timer.Context timeGetFileBlockInfo() {
+    return mGetFileBlockInfoTimer.time();
+  }
+
+  public Timer.Context timeGetFileId() {
+    return mGetFileIdTimer.time();
+  }
+
+  public Timer.Context timeGetFileInfo() {
+    return mGetFileInfoTimer.time();
+  }
+
+  public Timer.Context timeGetFileInfoBatch() {
+    return mGetFileInfoBatchTimer.time();
+  }
+
+  public Timer.Context timeGetNewBlock() {
+    return mGetNewBlockTimer.time();
+  }
+
+  public Timer.Context timeJournalFlush() {
+    return mJournalFlushTimer.time();
+  }
+
+  public Timer.Context timeLoadMetadata() {
+    return mLoadMetadataTimer.time();
+  }
+
+  public Timer.Context timeMount() {
+    return mMountTimer.time();
+  }
+
+  public Timer.Context timeRenamePath() {
+    return mRenamePathTimer.time();
+  }
+
+  public Timer.Context timeSetState() {
+    return mSetStateTimer.time();
+  }
+
+  public Timer.Context timeUfsDelete() {
+    return mUfsDeleteTimer.time();
+  }
+
+  public Timer.Context timeUfsGetFileLocations() {
+    return mUfsGetFileLocationsTimer.time();
+  }
+
+  public Timer.Context timeUfsRename() {
+    return mUfsRenameTimer.time();
+  }
+
+  public Timer.Context timeUnmount() {
+    return mUnmountTimer.time();
+  }
 }
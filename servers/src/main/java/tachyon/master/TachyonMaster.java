@@ -21,12 +21,7 @@ import java.util.Map;
 
 import org.apache.thrift.TMultiplexedProcessor;
 import org.apache.thrift.TProcessor;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.server.TThreadPoolServer.Args;
-import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TTransportFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +30,7 @@ import com.google.common.base.Throwables;
 
 import tachyon.Constants;
 import tachyon.TachyonURI;
+import tachyon.ThriftRPCServer;
 import tachyon.Version;
 import tachyon.conf.TachyonConf;
 import tachyon.master.block.BlockMaster;
@@ -43,7 +39,6 @@ import tachyon.master.journal.ReadWriteJournal;
 import tachyon.master.lineage.LineageMaster;
 import tachyon.master.rawtable.RawTableMaster;
 import tachyon.metrics.MetricsSystem;
-import tachyon.security.authentication.AuthenticationUtils;
 import tachyon.underfs.UnderFileSystem;
 import tachyon.util.LineageUtils;
 import tachyon.util.network.NetworkAddressUtils;
@@ -71,14 +66,10 @@ public class TachyonMaster {
     }
   }
 
-  /** Maximum number of threads to serve the rpc server */
-  private final int mMaxWorkerThreads;
-  /** Minimum number of threads to serve the rpc server */
-  private final int mMinWorkerThreads;
   /** The port for the RPC server */
   private final int mPort;
-  /** The socket for thrift rpc server */
-  private final TServerSocket mTServerSocket;
+  /** The socket and settings of the thrift rpc server */
+  private final ThriftRPCServer mRPCServer;
   /** The address for the rpc server */
   private final InetSocketAddress mMasterAddress;
   /** The master metrics system */
@@ -136,13 +127,6 @@ public class TachyonMaster {
   protected TachyonMaster() {
     TachyonConf conf = MasterContext.getConf();
 
-    mMinWorkerThreads = conf.getInt(Constants.MASTER_WORKER_THREADS_MIN);
-    mMaxWorkerThreads = conf.getInt(Constants.MASTER_WORKER_THREADS_MAX);
-
-    Preconditions.checkArgument(mMaxWorkerThreads >= mMinWorkerThreads,
-        Constants.MASTER_WORKER_THREADS_MAX + " can not be less than "
-            + Constants.MASTER_WORKER_THREADS_MIN);
-
     try {
       // Extract the port from the generated socket.
       // When running tests, it is fine to use port '0' so the system will figure out what port to
@@ -155,9 +139,8 @@ public class TachyonMaster {
         Preconditions.checkState(conf.getInt(Constants.MASTER_WEB_PORT) > 0,
             "Master web port is only allowed to be zero in test mode.");
       }
-      mTServerSocket =
-          new TServerSocket(NetworkAddressUtils.getBindAddress(ServiceType.MASTER_RPC, conf));
-      mPort = NetworkAddressUtils.getThriftPort(mTServerSocket);
+      mRPCServer = new ThriftRPCServer(ServiceType.MASTER_RPC, conf);
+      mPort = mRPCServer.getPort();
       // reset master port
       conf.set(Constants.MASTER_RPC_PORT, Integer.toString(mPort));
       mMasterAddress = NetworkAddressUtils.getConnectAddress(ServiceType.MASTER_RPC, conf);
@@ -210,7 +193,7 @@ public class TachyonMaster {
    * @return the actual bind hostname on RPC service (used by unit test only)
    */
   public String getRPCBindHost() {
-    return NetworkAddressUtils.getThriftSocket(mTServerSocket).getInetAddress().getHostAddress();
+    return mRPCServer.getBindHost();
   }
 
   /**
@@ -234,6 +217,13 @@ public class TachyonMaster {
     return mWebServer.getLocalPort();
   }
 
+  /**
+   * @return the socket and settings of the RPC service
+   */
+  public ThriftRPCServer getRPCServer() {
+    return mRPCServer;
+  }
+
   /**
    * @return internal {@link FileSystemMaster}, for unit test only
    */
@@ -285,7 +275,7 @@ public class TachyonMaster {
       LOG.info("Stopping Tachyon Master @ {}", mMasterAddress);
       stopServing();
       stopMasters();
-      mTServerSocket.close();
+      mRPCServer.close();
       mIsServing = false;
     }
   }
@@ -358,25 +348,14 @@ public class TachyonMaster {
     }
     registerServices(processor, mRawTableMaster.getServices());
 
-    // Return a TTransportFactory based on the authentication type
-    TTransportFactory transportFactory;
+    // create master thrift service with the multiplexed processor, the transport is based on the
+    // authentication type
     try {
-      transportFactory = AuthenticationUtils.getServerTransportFactory(MasterContext.getConf());
+      mMasterServiceServer = mRPCServer.createServer(processor);
     } catch (IOException ioe) {
       throw Throwables.propagate(ioe);
     }
 
-    // create master thrift service with the multiplexed processor.
-    Args args = new TThreadPoolServer.Args(mTServerSocket).maxWorkerThreads(mMaxWorkerThreads)
-        .minWorkerThreads(mMinWorkerThreads).processor(processor).transportFactory(transportFactory)
-        .protocolFactory(new TBinaryProtocol.Factory(true, true));
-    if (MasterContext.getConf().getBoolean(Constants.IN_TEST_MODE)) {
-      args.stopTimeoutVal = 0;
-    } else {
-      args.stopTimeoutVal = Constants.THRIFT_STOP_TIMEOUT_SECONDS;
-    }
-    mMasterServiceServer = new TThreadPoolServer(args);
-
     // start thrift rpc server
     mIsServing = true;
     mStartTimeMs = System.currentTimeMillis();
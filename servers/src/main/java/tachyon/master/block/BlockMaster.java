@@ -516,7 +516,9 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
    *        hierarchy
    * @param totalBytesOnTiers a mapping from storage tier alias to total bytes
    * @param usedBytesOnTiers a mapping from storage tier alias to the used byes
-   * @param currentBlocksOnTiers a mapping from storage tier alias to a list of blocks
+   * @param currentBlocksOnTiers a mapping from storage tier alias to a list of blocks, which
+   *        complements the blocks reported by {@link #workerRegisterChunk} since the last
+   *        registration of the worker
    * @throws NoWorkerException if workerId cannot be found
    */
   public void workerRegister(long workerId, List<String> storageTiers,
@@ -547,6 +549,33 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
     }
   }
 
+  /**
+   * Updates metadata with a chunk of the blocks of a worker which is about to register. Workers
+   * with many blocks report them in several chunks before calling {@link #workerRegister}, so that
+   * the locks of the master are only held while processing each chunk rather than the whole
+   * report. Called by workers via RPC.
+   *
+   * @param workerId the worker id of the worker registering
+   * @param tierAlias the alias of the storage tier of the blocks
+   * @param blockIds the ids of the blocks
+   * @param firstChunk whether the chunk is the first of a new registration of the worker
+   * @throws NoWorkerException if workerId cannot be found
+   */
+  public void workerRegisterChunk(long workerId, String tierAlias, List<Long> blockIds,
+      boolean firstChunk) throws NoWorkerException {
+    synchronized (mBlocks) {
+      synchronized (mWorkers) {
+        if (!mWorkers.contains(mIdIndex, workerId)) {
+          throw new NoWorkerException("Could not find worker id: " + workerId + " to register.");
+        }
+        MasterWorkerInfo workerInfo = mWorkers.getFirstByField(mIdIndex, workerId);
+        workerInfo.updateLastUpdatedTimeMs();
+        workerInfo.addRegisteringBlocks(blockIds, firstChunk);
+        processWorkerAddedBlocks(workerInfo, Collections.singletonMap(tierAlias, blockIds));
+      }
+    }
+  }
+
   /**
    * Updates metadata when a worker periodically heartbeats with the master. Called by the worker
    * periodically, via RPC.
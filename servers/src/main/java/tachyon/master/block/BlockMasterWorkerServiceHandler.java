@@ -15,10 +15,12 @@
 
 package tachyon.master.block;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
 import com.google.common.base.Preconditions;
+import com.google.common.primitives.Longs;
 
 import tachyon.Constants;
 import tachyon.exception.TachyonException;
@@ -60,6 +62,18 @@ public class BlockMasterWorkerServiceHandler implements BlockMasterWorkerService
     }
   }
 
+  @Override
+  public void registerWorkerChunk(long workerId, String tierAlias, ByteBuffer blockIds,
+      boolean firstChunk) throws TachyonTException {
+    // Decode the chunk before the block master takes its locks to process it
+    List<Long> decodedBlockIds = Longs.asList(BlockIdCodec.decode(blockIds));
+    try {
+      mBlockMaster.workerRegisterChunk(workerId, tierAlias, decodedBlockIds, firstChunk);
+    } catch (TachyonException e) {
+      throw e.toTachyonTException();
+    }
+  }
+
   @Override
   public Command heartbeat(long workerId, Map<String, Long> usedBytesOnTiers,
       List<Long> removedBlockIds, Map<String, List<Long>> addedBlocksOnTiers) {
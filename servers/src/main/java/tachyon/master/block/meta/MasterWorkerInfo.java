@@ -16,6 +16,7 @@
 package tachyon.master.block.meta;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -66,6 +67,8 @@ public final class MasterWorkerInfo {
   private Set<Long> mBlocks;
   /** IDs of blocks the worker should remove */
   private Set<Long> mToRemoveBlocks;
+  /** IDs of blocks the worker reported in chunks for its current registration */
+  private Set<Long> mRegisteringBlocks;
 
   public MasterWorkerInfo(long id, NetAddress address) {
     mWorkerAddress = Preconditions.checkNotNull(address);
@@ -78,6 +81,7 @@ public final class MasterWorkerInfo {
     mUsedBytesOnTiers = new HashMap<String, Long>();
     mBlocks = new HashSet<Long>();
     mToRemoveBlocks = new HashSet<Long>();
+    mRegisteringBlocks = new HashSet<Long>();
   }
 
   /**
@@ -88,7 +92,8 @@ public final class MasterWorkerInfo {
    *        hierarchy
    * @param totalBytesOnTiers mapping from storage tier alias to total bytes
    * @param usedBytesOnTiers mapping from storage tier alias to used byes
-   * @param blocks set of block ids on this worker
+   * @param blocks set of block ids on this worker, in addition to the blocks reported with
+   *        {@link #addRegisteringBlocks(Collection, boolean)} for this registration
    * @return A Set of blocks removed (or lost) from this worker
    */
   public Set<Long> register(final StorageTierAssoc globalStorageTierAssoc,
@@ -127,6 +132,10 @@ public final class MasterWorkerInfo {
       mUsedBytes += bytes;
     }
 
+    Set<Long> reportedBlocks = mRegisteringBlocks;
+    reportedBlocks.addAll(blocks);
+    mRegisteringBlocks = new HashSet<Long>();
+
     Set<Long> removedBlocks;
     if (mIsRegistered) {
       // This is a re-register of an existing worker. Assume the new block ownership data is more
@@ -134,18 +143,33 @@ public final class MasterWorkerInfo {
       LOG.info("re-registering an existing workerId: {}", mId);
 
       // Compute the difference between the existing block data, and the new data.
-      removedBlocks = Sets.difference(mBlocks, blocks);
+      removedBlocks = Sets.difference(mBlocks, reportedBlocks);
     } else {
       removedBlocks = Collections.emptySet();
     }
 
     // Set the new block information.
-    mBlocks = new HashSet<Long>(blocks);
+    mBlocks = reportedBlocks;
 
     mIsRegistered = true;
     return removedBlocks;
   }
 
+  /**
+   * Records blocks reported by the worker ahead of its next registration, which will consider them
+   * part of the blocks of the worker. The first chunk of a registration drops the blocks reported
+   * by an earlier registration which failed before completing.
+   *
+   * @param blockIds the IDs of the reported blocks
+   * @param firstChunk whether the blocks are the first chunk of a new registration
+   */
+  public synchronized void addRegisteringBlocks(Collection<Long> blockIds, boolean firstChunk) {
+    if (firstChunk) {
+      mRegisteringBlocks = new HashSet<Long>();
+    }
+    mRegisteringBlocks.addAll(blockIds);
+  }
+
   /**
    * Adds a block to the worker
    *
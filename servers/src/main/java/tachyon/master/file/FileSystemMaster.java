@@ -18,6 +18,7 @@ package tachyon.master.file;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,7 @@ import org.apache.thrift.TProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
@@ -51,6 +53,7 @@ import tachyon.exception.FileDoesNotExistException;
 import tachyon.exception.InvalidFileSizeException;
 import tachyon.exception.InvalidPathException;
 import tachyon.exception.PreconditionMessage;
+import tachyon.exception.TachyonException;
 import tachyon.heartbeat.HeartbeatContext;
 import tachyon.heartbeat.HeartbeatExecutor;
 import tachyon.heartbeat.HeartbeatThread;
@@ -63,6 +66,7 @@ import tachyon.master.file.meta.InodeDirectory;
 import tachyon.master.file.meta.InodeDirectoryIdGenerator;
 import tachyon.master.file.meta.InodeFile;
 import tachyon.master.file.meta.InodeTree;
+import tachyon.master.file.meta.LockedInodePath;
 import tachyon.master.file.meta.MountTable;
 import tachyon.master.file.meta.TTLBucket;
 import tachyon.master.file.meta.TTLBucketList;
@@ -91,9 +95,12 @@ import tachyon.thrift.BlockInfo;
 import tachyon.thrift.BlockLocation;
 import tachyon.thrift.FileBlockInfo;
 import tachyon.thrift.FileInfo;
+import tachyon.thrift.FileOperationResult;
 import tachyon.thrift.FileSystemMasterClientService;
 import tachyon.thrift.FileSystemMasterWorkerService;
 import tachyon.thrift.NetAddress;
+import tachyon.thrift.ThriftIOException;
+import tachyon.thrift.WorkerInfo;
 import tachyon.underfs.UnderFileSystem;
 import tachyon.util.IdUtils;
 import tachyon.util.io.PathUtils;
@@ -231,8 +238,13 @@ public final class FileSystemMaster extends MasterBase {
 
   @Override
   public void streamToJournalCheckpoint(JournalOutputStream outputStream) throws IOException {
-    mInodeTree.streamToJournalCheckpoint(outputStream);
-    outputStream.writeEntry(mDirectoryIdGenerator.toJournalEntry());
+    mInodeTree.lockTree();
+    try {
+      mInodeTree.streamToJournalCheckpoint(outputStream);
+      outputStream.writeEntry(mDirectoryIdGenerator.toJournalEntry());
+    } finally {
+      mInodeTree.unlockTree();
+    }
   }
 
   @Override
@@ -267,14 +279,16 @@ public final class FileSystemMaster extends MasterBase {
    * @return true if there is a directory with the id, false otherwise
    */
   public boolean isDirectory(long id) {
-    synchronized (mInodeTree) {
-      Inode inode;
-      try {
-        inode = mInodeTree.getInodeById(id);
-      } catch (FileDoesNotExistException fne) {
-        return false;
-      }
-      return inode.isDirectory();
+    LockedInodePath inodePath;
+    try {
+      inodePath = mInodeTree.lockFullInodePath(id, InodeTree.LockMode.READ);
+    } catch (FileDoesNotExistException fne) {
+      return false;
+    }
+    try {
+      return inodePath.getInode().isDirectory();
+    } finally {
+      inodePath.unlock();
     }
   }
 
@@ -286,18 +300,24 @@ public final class FileSystemMaster extends MasterBase {
    * @return the file id for a given path, or -1 if there is no file at that path
    */
   public long getFileId(TachyonURI path) {
-    synchronized (mInodeTree) {
-      Inode inode;
-      try {
-        inode = mInodeTree.getInodeByPath(path);
-      } catch (InvalidPathException e) {
-        try {
-          return loadMetadata(path, true);
-        } catch (Exception e2) {
-          return IdUtils.INVALID_FILE_ID;
-        }
+    LockedInodePath inodePath = null;
+    try {
+      inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.READ);
+      if (inodePath.fullPathExists()) {
+        return inodePath.getInode().getId();
+      }
+    } catch (InvalidPathException e) {
+      return IdUtils.INVALID_FILE_ID;
+    } finally {
+      if (inodePath != null) {
+        inodePath.unlock();
       }
-      return inode.getId();
+    }
+    // The path is loaded without holding its locks, since loading it locks the path for writing.
+    try {
+      return loadMetadata(path, true);
+    } catch (Exception e) {
+      return IdUtils.INVALID_FILE_ID;
     }
   }
 
@@ -310,14 +330,46 @@ public final class FileSystemMaster extends MasterBase {
    */
   public FileInfo getFileInfo(long fileId) throws FileDoesNotExistException {
     MasterContext.getMasterSource().incGetFileInfoOps(1);
-    synchronized (mInodeTree) {
-      Inode inode = mInodeTree.getInodeById(fileId);
-      return getFileInfoInternal(inode);
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.READ);
+    try {
+      return getFileInfoInternal(inodePath.getInode());
+    } finally {
+      inodePath.unlock();
     }
   }
 
+  /**
+   * Returns the {@link FileInfo}s for a batch of files. Called via RPC.
+   *
+   * @param fileIds the ids of the files to get the {@link FileInfo}s for
+   * @return the result for each file, holding either its {@link FileInfo} or the failure
+   */
+  public List<FileOperationResult> getFileInfoBatch(List<Long> fileIds) {
+    MasterContext.getMasterSource().incGetFileInfoOps(fileIds.size());
+    // Read locks are shared, so the paths are locked one at a time rather than holding the whole
+    // tree exclusively for the batch.
+    List<FileOperationResult> results = new ArrayList<FileOperationResult>(fileIds.size());
+    for (long fileId : fileIds) {
+      FileOperationResult result = new FileOperationResult();
+      result.setFileId(fileId);
+      try {
+        LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.READ);
+        try {
+          result.setFileInfo(getFileInfoInternal(inodePath.getInode()));
+          result.setSuccess(true);
+        } finally {
+          inodePath.unlock();
+        }
+      } catch (TachyonException e) {
+        setBatchFailure(result, e);
+      }
+      results.add(result);
+    }
+    return results;
+  }
+
   private FileInfo getFileInfoInternal(Inode inode) throws FileDoesNotExistException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while the path of the inode is locked.
     FileInfo fileInfo = inode.generateClientFileInfo(mInodeTree.getPath(inode).toString());
     fileInfo.inMemoryPercentage = getInMemoryPercentage(inode);
     TachyonURI path = mInodeTree.getPath(inode);
@@ -346,9 +398,12 @@ public final class FileSystemMaster extends MasterBase {
    */
   public List<FileInfo> getFileInfoList(long fileId) throws FileDoesNotExistException {
     MasterContext.getMasterSource().incGetFileInfoOps(1);
-    synchronized (mInodeTree) {
-      Inode inode = mInodeTree.getInodeById(fileId);
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.READ);
+    try {
+      Inode inode = inodePath.getInode();
 
+      // The children are not locked, but none can be added or removed while the directory is
+      // locked.
       List<FileInfo> ret = new ArrayList<FileInfo>();
       if (inode.isDirectory()) {
         for (Inode child : ((InodeDirectory) inode).getChildren()) {
@@ -359,6 +414,8 @@ public final class FileSystemMaster extends MasterBase {
       }
       MasterContext.getMasterSource().incFileInfosGot(ret.size());
       return ret;
+    } finally {
+      inodePath.unlock();
     }
   }
 
@@ -377,55 +434,116 @@ public final class FileSystemMaster extends MasterBase {
       throws BlockInfoException, FileDoesNotExistException, InvalidPathException,
       InvalidFileSizeException, FileAlreadyCompletedException {
     MasterContext.getMasterSource().incCompleteFileOps(1);
-    synchronized (mInodeTree) {
-      long opTimeMs = System.currentTimeMillis();
-      Inode inode = mInodeTree.getInodeById(fileId);
-      if (!inode.isFile()) {
-        throw new FileDoesNotExistException(
-            ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
-      }
-
-      InodeFile fileInode = (InodeFile) inode;
-      List<Long> blockIdList = fileInode.getBlockIds();
-      List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(blockIdList);
-      if (!fileInode.isPersisted() && blockInfoList.size() != blockIdList.size()) {
-        throw new BlockInfoException("Cannot complete a file without all the blocks committed");
-      }
+    long flushCounter;
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.WRITE);
+    try {
+      flushCounter = completeFileAndJournal(inodePath.getInode(), options);
+    } finally {
+      inodePath.unlock();
+    }
+    flushJournal(flushCounter);
+  }
 
-      // Iterate over all file blocks committed to Tachyon, computing the length and verify that all
-      // the blocks (except the last one) is the same size as the file block size.
-      long inMemoryLength = 0;
-      long fileBlockSize = fileInode.getBlockSizeBytes();
-      for (int i = 0; i < blockInfoList.size(); i ++) {
-        BlockInfo blockInfo = blockInfoList.get(i);
-        inMemoryLength += blockInfo.getLength();
-        if (i < blockInfoList.size() - 1 && blockInfo.getLength() != fileBlockSize) {
-          throw new BlockInfoException(
-              "Block index " + i + " has a block size smaller than the file block size ("
-                  + fileInode.getBlockSizeBytes() + ")");
+  /**
+   * Completes a batch of files. The path of each file is locked only while the file is completed,
+   * and the journal is flushed once after the whole batch. A failure to complete a file does not
+   * prevent the other files of the batch from being completed. Called via RPC.
+   *
+   * @param fileIds the ids of the files to complete
+   * @param options the method options, one for each file
+   * @return the result for each file, holding the failure if the file could not be completed
+   */
+  public List<FileOperationResult> completeFileBatch(List<Long> fileIds,
+      List<CompleteFileOptions> options) {
+    Preconditions.checkArgument(fileIds.size() == options.size(),
+        PreconditionMessage.ERR_BATCH_OPTIONS_SIZE, fileIds.size(), options.size());
+    MasterContext.getMasterSource().incCompleteFileOps(fileIds.size());
+    List<FileOperationResult> results = new ArrayList<FileOperationResult>(fileIds.size());
+    long flushCounter = 0;
+    for (int i = 0; i < fileIds.size(); i ++) {
+      FileOperationResult result = new FileOperationResult();
+      result.setFileId(fileIds.get(i));
+      try {
+        LockedInodePath inodePath =
+            mInodeTree.lockFullInodePath(fileIds.get(i), InodeTree.LockMode.WRITE);
+        try {
+          flushCounter = completeFileAndJournal(inodePath.getInode(), options.get(i));
+          result.setSuccess(true);
+        } finally {
+          inodePath.unlock();
         }
+      } catch (TachyonException e) {
+        setBatchFailure(result, e);
       }
+      results.add(result);
+    }
+    // The journal is flushed in order, so flushing the last entry flushes the whole batch.
+    flushJournal(flushCounter);
+    return results;
+  }
 
-      // If the file is persisted, its length is determined by UFS. Otherwise, its length is
-      // determined by its memory footprint.
-      long length = fileInode.isPersisted() ? options.getUfsLength() : inMemoryLength;
+  /**
+   * Completes a file and journals it, without flushing the journal. The path of the file must be
+   * write locked outside of this method.
+   *
+   * @param inode the inode of the file to complete
+   * @param options the method options
+   * @return the flush counter of the journal entry
+   * @throws BlockInfoException if a block information exception is encountered
+   * @throws FileDoesNotExistException if the inode is not a file
+   * @throws InvalidPathException if an invalid path is encountered
+   * @throws InvalidFileSizeException if an invalid file size is encountered
+   * @throws FileAlreadyCompletedException if the file is already completed
+   */
+  private long completeFileAndJournal(Inode inode, CompleteFileOptions options)
+      throws BlockInfoException, FileDoesNotExistException, InvalidPathException,
+      InvalidFileSizeException, FileAlreadyCompletedException {
+    long fileId = inode.getId();
+    long opTimeMs = System.currentTimeMillis();
+    if (!inode.isFile()) {
+      throw new FileDoesNotExistException(
+          ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
+    }
 
-      completeFileInternal(fileInode.getBlockIds(), fileId, length, opTimeMs);
-      CompleteFileEntry completeFileEntry = CompleteFileEntry.newBuilder()
-          .addAllBlockIds(fileInode.getBlockIds())
-          .setId(fileId)
-          .setLength(length)
-          .setOpTimeMs(opTimeMs)
-          .build();
-      writeJournalEntry(JournalEntry.newBuilder().setCompleteFile(completeFileEntry).build());
-      flushJournal();
+    InodeFile fileInode = (InodeFile) inode;
+    List<Long> blockIdList = fileInode.getBlockIds();
+    List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(blockIdList);
+    if (!fileInode.isPersisted() && blockInfoList.size() != blockIdList.size()) {
+      throw new BlockInfoException("Cannot complete a file without all the blocks committed");
+    }
+
+    // Iterate over all file blocks committed to Tachyon, computing the length and verify that all
+    // the blocks (except the last one) is the same size as the file block size.
+    long inMemoryLength = 0;
+    long fileBlockSize = fileInode.getBlockSizeBytes();
+    for (int i = 0; i < blockInfoList.size(); i ++) {
+      BlockInfo blockInfo = blockInfoList.get(i);
+      inMemoryLength += blockInfo.getLength();
+      if (i < blockInfoList.size() - 1 && blockInfo.getLength() != fileBlockSize) {
+        throw new BlockInfoException(
+            "Block index " + i + " has a block size smaller than the file block size ("
+                + fileInode.getBlockSizeBytes() + ")");
+      }
     }
+
+    // If the file is persisted, its length is determined by UFS. Otherwise, its length is
+    // determined by its memory footprint.
+    long length = fileInode.isPersisted() ? options.getUfsLength() : inMemoryLength;
+
+    completeFileInternal(fileInode.getBlockIds(), fileId, length, opTimeMs);
+    CompleteFileEntry completeFileEntry = CompleteFileEntry.newBuilder()
+        .addAllBlockIds(fileInode.getBlockIds())
+        .setId(fileId)
+        .setLength(length)
+        .setOpTimeMs(opTimeMs)
+        .build();
+    return writeJournalEntry(JournalEntry.newBuilder().setCompleteFile(completeFileEntry).build());
   }
 
   void completeFileInternal(List<Long> blockIds, long fileId, long length, long opTimeMs)
       throws FileDoesNotExistException, InvalidPathException, InvalidFileSizeException,
       FileAlreadyCompletedException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while the path of the file is write locked.
     InodeFile inode = (InodeFile) mInodeTree.getInodeById(fileId);
     inode.setBlockIds(blockIds);
     inode.setLastModificationTimeMs(opTimeMs);
@@ -466,20 +584,69 @@ public final class FileSystemMaster extends MasterBase {
   public long create(TachyonURI path, CreateOptions options)
       throws InvalidPathException, FileAlreadyExistsException, BlockInfoException, IOException {
     MasterContext.getMasterSource().incCreateFileOps(1);
-    synchronized (mInodeTree) {
-      InodeTree.CreatePathResult createResult = createInternal(path, options);
+    long fileId;
+    long flushCounter;
+    InodeTree.CreatePathResult createResult;
+    LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE_PARENT);
+    try {
+      createResult = createInternal(path, options);
       List<Inode> created = createResult.getCreated();
+      fileId = created.get(created.size() - 1).getId();
+      flushCounter = journalCreatePathResult(createResult);
+    } finally {
+      inodePath.unlock();
+    }
+    flushCounter = persistDirectories(createResult, flushCounter);
+    flushJournal(flushCounter);
+    return fileId;
+  }
 
-      writeJournalEntry(mDirectoryIdGenerator.toJournalEntry());
-      journalCreatePathResult(createResult);
-      flushJournal();
-      return created.get(created.size() - 1).getId();
+  /**
+   * Creates a batch of files (not directories). The path of each file is locked only while the
+   * file is created, and the journal is flushed once after the whole batch. A failure to create a
+   * file does not prevent the other files of the batch from being created. Called via RPC.
+   *
+   * @param paths the files to create
+   * @param options the method options, one for each file
+   * @return the result for each file, holding its file id or the failure
+   */
+  public List<FileOperationResult> createBatch(List<TachyonURI> paths,
+      List<CreateOptions> options) {
+    Preconditions.checkArgument(paths.size() == options.size(),
+        PreconditionMessage.ERR_BATCH_OPTIONS_SIZE, paths.size(), options.size());
+    MasterContext.getMasterSource().incCreateFileOps(paths.size());
+    List<FileOperationResult> results = new ArrayList<FileOperationResult>(paths.size());
+    long flushCounter = 0;
+    for (int i = 0; i < paths.size(); i ++) {
+      FileOperationResult result = new FileOperationResult();
+      try {
+        InodeTree.CreatePathResult createResult;
+        LockedInodePath inodePath =
+            mInodeTree.lockInodePath(paths.get(i), InodeTree.LockMode.WRITE_PARENT);
+        try {
+          createResult = createInternal(paths.get(i), options.get(i));
+          List<Inode> created = createResult.getCreated();
+          result.setFileId(created.get(created.size() - 1).getId());
+          flushCounter = journalCreatePathResult(createResult);
+        } finally {
+          inodePath.unlock();
+        }
+        flushCounter = persistDirectories(createResult, flushCounter);
+        result.setSuccess(true);
+      } catch (TachyonException e) {
+        setBatchFailure(result, e);
+      } catch (IOException e) {
+        setBatchFailure(result, e);
+      }
+      results.add(result);
     }
+    flushJournal(flushCounter);
+    return results;
   }
 
   InodeTree.CreatePathResult createInternal(TachyonURI path, CreateOptions options)
       throws InvalidPathException, FileAlreadyExistsException, BlockInfoException, IOException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while the parent of the path is write locked.
     CreatePathOptions createPathOptions = new CreatePathOptions.Builder(MasterContext.getConf())
         .setBlockSizeBytes(options.getBlockSizeBytes()).setDirectory(false)
         .setOperationTimeMs(options.getOperationTimeMs()).setPersisted(options.isPersisted())
@@ -511,17 +678,23 @@ public final class FileSystemMaster extends MasterBase {
    */
   public long reinitializeFile(TachyonURI path, long blockSizeBytes, long ttl)
       throws InvalidPathException {
-    synchronized (mInodeTree) {
-      long id = mInodeTree.reinitializeFile(path, blockSizeBytes, ttl);
+    long id;
+    long flushCounter;
+    LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE);
+    try {
+      id = mInodeTree.reinitializeFile(path, blockSizeBytes, ttl);
       ReinitializeFileEntry reinitializeFile = ReinitializeFileEntry.newBuilder()
           .setPath(path.getPath())
           .setBlockSizeBytes(blockSizeBytes)
           .setTtl(ttl)
           .build();
-      writeJournalEntry(JournalEntry.newBuilder().setReinitializeFile(reinitializeFile).build());
-      flushJournal();
-      return id;
+      flushCounter = writeJournalEntry(
+          JournalEntry.newBuilder().setReinitializeFile(reinitializeFile).build());
+    } finally {
+      inodePath.unlock();
     }
+    flushJournal(flushCounter);
+    return id;
   }
 
   private void resetBlockFileFromEntry(ReinitializeFileEntry entry) {
@@ -542,15 +715,18 @@ public final class FileSystemMaster extends MasterBase {
    */
   public long getNewBlockIdForFile(long fileId) throws FileDoesNotExistException {
     MasterContext.getMasterSource().incGetNewBlockOps(1);
-    Inode inode;
-    synchronized (mInodeTree) {
-      inode = mInodeTree.getInodeById(fileId);
-    }
-    if (!inode.isFile()) {
-      throw new FileDoesNotExistException(ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.WRITE);
+    try {
+      Inode inode = inodePath.getInode();
+      if (!inode.isFile()) {
+        throw new FileDoesNotExistException(
+            ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
+      }
+      MasterContext.getMasterSource().incNewBlocksGot(1);
+      return ((InodeFile) inode).getNewBlockId();
+    } finally {
+      inodePath.unlock();
     }
-    MasterContext.getMasterSource().incNewBlocksGot(1);
-    return ((InodeFile) inode).getNewBlockId();
   }
 
   /**
@@ -559,9 +735,7 @@ public final class FileSystemMaster extends MasterBase {
    * @return the number of files and directories
    */
   public int getNumberOfPaths() {
-    synchronized (mInodeTree) {
-      return mInodeTree.getSize();
-    }
+    return mInodeTree.getSize();
   }
 
   /**
@@ -570,9 +744,7 @@ public final class FileSystemMaster extends MasterBase {
    * @return the number of pinned files and directories
    */
   public int getNumberOfPinnedFiles() {
-    synchronized (mInodeTree) {
-      return mInodeTree.getPinnedSize();
-    }
+    return mInodeTree.getPinnedSize();
   }
 
   /**
@@ -588,18 +760,75 @@ public final class FileSystemMaster extends MasterBase {
   public boolean deleteFile(long fileId, boolean recursive)
       throws IOException, FileDoesNotExistException, DirectoryNotEmptyException {
     MasterContext.getMasterSource().incDeletePathOps(1);
-    synchronized (mInodeTree) {
+    // Locking the parent prevents the listing of the inode while it is deleted. The descendants of
+    // the inode cannot be reached while the inode is write locked.
+    boolean ret;
+    long flushCounter;
+    LockedInodePath inodePath =
+        mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.WRITE_PARENT);
+    try {
       long opTimeMs = System.currentTimeMillis();
-      boolean ret = deleteFileInternal(fileId, recursive, false, opTimeMs);
-      DeleteFileEntry deleteFile = DeleteFileEntry.newBuilder()
-          .setId(fileId)
-          .setRecursive(recursive)
-          .setOpTimeMs(opTimeMs)
-          .build();
-      writeJournalEntry(JournalEntry.newBuilder().setDeleteFile(deleteFile).build());
-      flushJournal();
-      return ret;
+      ret = deleteFileInternal(fileId, recursive, false, opTimeMs);
+      flushCounter = journalDeleteFile(fileId, recursive, opTimeMs);
+    } finally {
+      inodePath.unlock();
     }
+    flushJournal(flushCounter);
+    return ret;
+  }
+
+  /**
+   * Deletes a batch of files. Each file is locked like in {@link #deleteFile(long, boolean)} only
+   * while it is deleted, and the journal is flushed once after the whole batch. A failure to delete
+   * a file does not prevent the other files of the batch from being deleted. Called via RPC.
+   *
+   * @param fileIds the ids of the files to delete
+   * @param recursive if true, will delete all the children of the directories of the batch
+   * @return the result for each file, holding whether it was deleted or the failure
+   */
+  public List<FileOperationResult> deleteFileBatch(List<Long> fileIds, boolean recursive) {
+    MasterContext.getMasterSource().incDeletePathOps(fileIds.size());
+    List<FileOperationResult> results = new ArrayList<FileOperationResult>(fileIds.size());
+    long flushCounter = 0;
+    for (long fileId : fileIds) {
+      FileOperationResult result = new FileOperationResult();
+      result.setFileId(fileId);
+      try {
+        LockedInodePath inodePath =
+            mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.WRITE_PARENT);
+        try {
+          long opTimeMs = System.currentTimeMillis();
+          result.setSuccess(deleteFileInternal(fileId, recursive, false, opTimeMs));
+          flushCounter = journalDeleteFile(fileId, recursive, opTimeMs);
+        } finally {
+          inodePath.unlock();
+        }
+      } catch (TachyonException e) {
+        setBatchFailure(result, e);
+      } catch (IOException e) {
+        setBatchFailure(result, e);
+      }
+      results.add(result);
+    }
+    flushJournal(flushCounter);
+    return results;
+  }
+
+  /**
+   * Journals the deletion of a file. This does not flush the journal.
+   *
+   * @param fileId the id of the deleted file
+   * @param recursive whether the children of the file were deleted as well
+   * @param opTimeMs the time of the operation
+   * @return the flush counter of the journal entry
+   */
+  private long journalDeleteFile(long fileId, boolean recursive, long opTimeMs) {
+    DeleteFileEntry deleteFile = DeleteFileEntry.newBuilder()
+        .setId(fileId)
+        .setRecursive(recursive)
+        .setOpTimeMs(opTimeMs)
+        .build();
+    return writeJournalEntry(JournalEntry.newBuilder().setDeleteFile(deleteFile).build());
   }
 
   private void deleteFileFromEntry(DeleteFileEntry entry) {
@@ -641,7 +870,8 @@ public final class FileSystemMaster extends MasterBase {
    */
   boolean deleteFileInternal(long fileId, boolean recursive, boolean replayed, long opTimeMs)
       throws FileDoesNotExistException, IOException, DirectoryNotEmptyException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while the path of the inode and its parent are write
+    // locked.
     //
     // TODO(jiri): A crash after any UFS object is deleted and before the delete operation is
     // journaled will result in an inconsistency between Tachyon and UFS.
@@ -678,11 +908,16 @@ public final class FileSystemMaster extends MasterBase {
         try {
           String ufsPath = mMountTable.resolve(mInodeTree.getPath(delInode)).toString();
           UnderFileSystem ufs = UnderFileSystem.get(ufsPath, MasterContext.getConf());
-          if (!ufs.exists(ufsPath)) {
-            LOG.warn("File does not exist the underfs: {}", ufsPath);
-          } else if (!ufs.delete(ufsPath, true)) {
-            LOG.error("Failed to delete {}", ufsPath);
-            return false;
+          Timer.Context timer = MasterContext.getMasterSource().timeUfsDelete();
+          try {
+            if (!ufs.exists(ufsPath)) {
+              LOG.warn("File does not exist the underfs: {}", ufsPath);
+            } else if (!ufs.delete(ufsPath, true)) {
+              LOG.error("Failed to delete {}", ufsPath);
+              return false;
+            }
+          } finally {
+            timer.stop();
           }
         } catch (InvalidPathException e) {
           LOG.warn(e.getMessage());
@@ -712,8 +947,9 @@ public final class FileSystemMaster extends MasterBase {
   public FileBlockInfo getFileBlockInfo(long fileId, int fileBlockIndex)
       throws BlockInfoException, FileDoesNotExistException, InvalidPathException {
     MasterContext.getMasterSource().incGetFileBlockInfoOps(1);
-    synchronized (mInodeTree) {
-      Inode inode = mInodeTree.getInodeById(fileId);
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.READ);
+    try {
+      Inode inode = inodePath.getInode();
       if (inode.isDirectory()) {
         throw new FileDoesNotExistException(
             ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
@@ -726,9 +962,11 @@ public final class FileSystemMaster extends MasterBase {
         throw new BlockInfoException(
             "FileId " + fileId + " BlockIndex " + fileBlockIndex + " is not a valid block.");
       }
-      FileBlockInfo blockInfo = generateFileBlockInfo(file, blockInfoList.get(0));
+      FileBlockInfo blockInfo = generateFileBlockInfo(file, blockInfoList.get(0), false);
       MasterContext.getMasterSource().incFileBlockInfosGot(1);
       return blockInfo;
+    } finally {
+      inodePath.unlock();
     }
   }
 
@@ -741,22 +979,34 @@ public final class FileSystemMaster extends MasterBase {
    */
   public List<FileBlockInfo> getFileBlockInfoList(long fileId)
       throws FileDoesNotExistException, InvalidPathException {
+    return getFileBlockInfoList(fileId, false);
+  }
+
+  /**
+   * Returns all the {@link FileBlockInfo} of the given file, optionally without looking up the
+   * locations in the under storage of the blocks which are not in Tachyon. Called via RPC.
+   *
+   * @param fileId the file id to get the info for
+   * @param skipUfsLocations whether to skip the locations of the blocks in the under storage
+   * @return a list of {@link FileBlockInfo} for all the blocks of the file
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws InvalidPathException if the path of the file is invalid
+   */
+  public List<FileBlockInfo> getFileBlockInfoList(long fileId, boolean skipUfsLocations)
+      throws FileDoesNotExistException, InvalidPathException {
     MasterContext.getMasterSource().incGetFileBlockInfoOps(1);
-    synchronized (mInodeTree) {
-      Inode inode = mInodeTree.getInodeById(fileId);
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.READ);
+    try {
+      Inode inode = inodePath.getInode();
       if (inode.isDirectory()) {
         throw new FileDoesNotExistException(
             ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
       }
-      InodeFile file = (InodeFile) inode;
-      List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(file.getBlockIds());
-
-      List<FileBlockInfo> ret = new ArrayList<FileBlockInfo>();
-      for (BlockInfo blockInfo : blockInfoList) {
-        ret.add(generateFileBlockInfo(file, blockInfo));
-      }
+      List<FileBlockInfo> ret = getFileBlockInfoListInternal((InodeFile) inode, skipUfsLocations);
       MasterContext.getMasterSource().incFileBlockInfosGot(ret.size());
       return ret;
+    } finally {
+      inodePath.unlock();
     }
   }
 
@@ -774,17 +1024,35 @@ public final class FileSystemMaster extends MasterBase {
     return getFileBlockInfoList(fileId);
   }
 
+  /**
+   * @param file the file to get the info for, whose path must be locked
+   * @param skipUfsLocations whether to skip the locations of the blocks in the under storage
+   * @return a list of {@link FileBlockInfo} for all the blocks of the file
+   * @throws InvalidPathException if the path of the file is invalid
+   */
+  private List<FileBlockInfo> getFileBlockInfoListInternal(InodeFile file,
+      boolean skipUfsLocations) throws InvalidPathException {
+    List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(file.getBlockIds());
+
+    List<FileBlockInfo> ret = new ArrayList<FileBlockInfo>();
+    for (BlockInfo blockInfo : blockInfoList) {
+      ret.add(generateFileBlockInfo(file, blockInfo, skipUfsLocations));
+    }
+    return ret;
+  }
+
   /**
    * Generates a {@link FileBlockInfo} object from internal metadata. This adds file information to
    * the block, such as the file offset, and additional UFS locations for the block.
    *
    * @param file the file the block is a part of
    * @param blockInfo the {@link BlockInfo} to generate the {@link FileBlockInfo} from
+   * @param skipUfsLocations whether to skip the locations of the block in the under storage
    * @return a new {@link FileBlockInfo} for the block
    */
-  private FileBlockInfo generateFileBlockInfo(InodeFile file, BlockInfo blockInfo)
-      throws InvalidPathException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+  private FileBlockInfo generateFileBlockInfo(InodeFile file, BlockInfo blockInfo,
+      boolean skipUfsLocations) throws InvalidPathException {
+    // This function should only be called while the path of the file is locked.
     FileBlockInfo fileBlockInfo = new FileBlockInfo();
     fileBlockInfo.blockInfo = blockInfo;
     fileBlockInfo.ufsLocations = new ArrayList<NetAddress>();
@@ -792,16 +1060,19 @@ public final class FileSystemMaster extends MasterBase {
     // The sequence number part of the block id is the block index.
     fileBlockInfo.offset = file.getBlockSizeBytes() * BlockId.getSequenceNumber(blockInfo.blockId);
 
-    if (fileBlockInfo.blockInfo.locations.isEmpty() && file.isPersisted()) {
+    if (!skipUfsLocations && fileBlockInfo.blockInfo.locations.isEmpty() && file.isPersisted()) {
       // No tachyon locations, but there is a checkpoint in the under storage system. Add the
       // locations from the under storage system.
       String ufsPath = mMountTable.resolve(mInodeTree.getPath(file)).toString();
       UnderFileSystem ufs = UnderFileSystem.get(ufsPath, MasterContext.getConf());
       List<String> locs;
+      Timer.Context timer = MasterContext.getMasterSource().timeUfsGetFileLocations();
       try {
         locs = ufs.getFileLocations(ufsPath, fileBlockInfo.offset);
       } catch (IOException e) {
         return fileBlockInfo;
+      } finally {
+        timer.stop();
       }
       if (locs != null) {
         for (String loc : locs) {
@@ -843,7 +1114,16 @@ public final class FileSystemMaster extends MasterBase {
     List<TachyonURI> ret = new ArrayList<TachyonURI>();
     Queue<Pair<InodeDirectory, TachyonURI>> nodesQueue =
         new LinkedList<Pair<InodeDirectory, TachyonURI>>();
-    synchronized (mInodeTree) {
+    // Only the root is locked; the descendants are listed as they are found, which does not give a
+    // consistent snapshot of the tree.
+    LockedInodePath inodePath;
+    try {
+      inodePath = mInodeTree.lockInodePath(new TachyonURI(TachyonURI.SEPARATOR),
+          InodeTree.LockMode.READ);
+    } catch (InvalidPathException e) {
+      throw Throwables.propagate(e);
+    }
+    try {
       // TODO(yupeng): Verify we want to use absolute path.
       nodesQueue.add(new Pair<InodeDirectory, TachyonURI>(mInodeTree.getRoot(),
           new TachyonURI(TachyonURI.SEPARATOR)));
@@ -862,6 +1142,8 @@ public final class FileSystemMaster extends MasterBase {
           }
         }
       }
+    } finally {
+      inodePath.unlock();
     }
     return ret;
   }
@@ -921,59 +1203,111 @@ public final class FileSystemMaster extends MasterBase {
       throws InvalidPathException, FileAlreadyExistsException, IOException {
     LOG.debug("mkdir {} ", path);
     MasterContext.getMasterSource().incCreateDirectoriesOps(1);
-    synchronized (mInodeTree) {
-      try {
-        CreatePathOptions createPathOptions = new CreatePathOptions.Builder(MasterContext.getConf())
-            .setAllowExists(options.isAllowExists())
-            .setDirectory(true)
-            .setPersisted(options.isPersisted())
-            .setRecursive(options.isRecursive())
-            .setOperationTimeMs(options.getOperationTimeMs())
-            .setPermissionStatus(PermissionStatus.get(MasterContext.getConf(), true))
-            .build();
-        InodeTree.CreatePathResult createResult = mInodeTree.createPath(path, createPathOptions);
-
-        LOG.debug("writing journal entry for mkdir {}", path);
-        writeJournalEntry(mDirectoryIdGenerator.toJournalEntry());
-        journalCreatePathResult(createResult);
-        flushJournal();
-        LOG.debug("flushed journal for mkdir {}", path);
-        MasterContext.getMasterSource().incDirectoriesCreated(1);
-        return createResult;
-      } catch (BlockInfoException bie) {
-        // Since we are creating a directory, the block size is ignored, no such exception should
-        // happen.
-        Throwables.propagate(bie);
-      }
-    }
-    return null;
+    InodeTree.CreatePathResult createResult;
+    long flushCounter;
+    LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE_PARENT);
+    try {
+      CreatePathOptions createPathOptions = new CreatePathOptions.Builder(MasterContext.getConf())
+          .setAllowExists(options.isAllowExists())
+          .setDirectory(true)
+          .setPersisted(options.isPersisted())
+          .setRecursive(options.isRecursive())
+          .setOperationTimeMs(options.getOperationTimeMs())
+          .setPermissionStatus(PermissionStatus.get(MasterContext.getConf(), true))
+          .build();
+      createResult = mInodeTree.createPath(path, createPathOptions);
+
+      LOG.debug("writing journal entry for mkdir {}", path);
+      flushCounter = journalCreatePathResult(createResult);
+    } catch (BlockInfoException bie) {
+      // Since we are creating a directory, the block size is ignored, no such exception should
+      // happen.
+      throw Throwables.propagate(bie);
+    } finally {
+      inodePath.unlock();
+    }
+    flushCounter = persistDirectories(createResult, flushCounter);
+    flushJournal(flushCounter);
+    LOG.debug("flushed journal for mkdir {}", path);
+    MasterContext.getMasterSource().incDirectoriesCreated(1);
+    return createResult;
   }
 
   /**
-   * Journals the {@link InodeTree.CreatePathResult}. This does not flush the journal.
-   * Synchronization is required outside of this method.
+   * Journals the {@link InodeTree.CreatePathResult}, preceded by the state of the directory id
+   * generator. This does not flush the journal. The created path must be locked outside of this
+   * method.
    *
    * @param createResult the {@link InodeTree.CreatePathResult} to journal
+   * @return the flush counter of the last journal entry
    */
-  private void journalCreatePathResult(InodeTree.CreatePathResult createResult) {
+  private long journalCreatePathResult(InodeTree.CreatePathResult createResult) {
+    long flushCounter;
+    // Directories are created concurrently, so the state of the generator is journaled atomically
+    // with its snapshot to keep the journaled states in order.
+    synchronized (mDirectoryIdGenerator) {
+      flushCounter = writeJournalEntry(mDirectoryIdGenerator.toJournalEntry());
+    }
     for (Inode inode : createResult.getModified()) {
       InodeLastModificationTimeEntry inodeLastModificationTime =
           InodeLastModificationTimeEntry.newBuilder()
           .setId(inode.getId())
           .setLastModificationTimeMs(inode.getLastModificationTimeMs())
           .build();
-      writeJournalEntry(JournalEntry.newBuilder()
+      flushCounter = writeJournalEntry(JournalEntry.newBuilder()
           .setInodeLastModificationTime(inodeLastModificationTime).build());
     }
     for (Inode inode : createResult.getCreated()) {
-      writeJournalEntry(inode.toJournalEntry());
+      flushCounter = writeJournalEntry(inode.toJournalEntry());
     }
-    for (Inode inode : createResult.getPersisted()) {
-      PersistDirectoryEntry persistDirectory = PersistDirectoryEntry.newBuilder()
-          .setId(inode.getId())
-          .build();
-      writeJournalEntry(JournalEntry.newBuilder().setPersistDirectory(persistDirectory).build());
+    return flushCounter;
+  }
+
+  /**
+   * Persists the directories of a path created with the persisted option. The directories are
+   * created in the under file system without holding any inode lock. They are then marked as
+   * persisted with the tree locked exclusively, since the ancestors of the path were only read
+   * locked when the path was created. This does not flush the journal.
+   *
+   * @param createResult the {@link InodeTree.CreatePathResult} of a path which is no longer locked
+   * @param flushCounter the flush counter of the last journal entry written for the path
+   * @return the flush counter of the last journal entry
+   * @throws InvalidPathException if the path cannot be resolved in the under file system
+   * @throws IOException if the under file system fails
+   */
+  private long persistDirectories(InodeTree.CreatePathResult createResult, long flushCounter)
+      throws InvalidPathException, IOException {
+    List<Inode> directories = createResult.getPersisted();
+    if (directories.isEmpty()) {
+      return flushCounter;
+    }
+    TachyonURI path = createResult.getPersistedPath();
+    // Even if the directory already exists in the ufs, it is marked as persisted.
+    if (!mInodeTree.mkdirsUfs(path)) {
+      return flushCounter;
+    }
+    Inode lastDirectory = directories.get(directories.size() - 1);
+    mInodeTree.lockTree();
+    try {
+      // The directories are not persisted if they were deleted or renamed in the meantime.
+      if (lastDirectory.isDeleted() || !mInodeTree.getPath(lastDirectory).equals(path)) {
+        return flushCounter;
+      }
+      for (Inode inode : directories) {
+        if (inode.isPersisted()) {
+          continue;
+        }
+        inode.setPersisted(true);
+        PersistDirectoryEntry persistDirectory = PersistDirectoryEntry.newBuilder()
+            .setId(inode.getId())
+            .build();
+        flushCounter = writeJournalEntry(
+            JournalEntry.newBuilder().setPersistDirectory(persistDirectory).build());
+      }
+    } finally {
+      mInodeTree.unlockTree();
     }
+    return flushCounter;
   }
 
   /**
@@ -989,7 +1323,11 @@ public final class FileSystemMaster extends MasterBase {
   public boolean rename(long fileId, TachyonURI dstPath)
       throws FileDoesNotExistException, InvalidPathException, IOException {
     MasterContext.getMasterSource().incRenamePathOps(1);
-    synchronized (mInodeTree) {
+    // A rename changes two paths, which are not locked one after the other to avoid deadlocks.
+    // Instead, the whole tree is locked.
+    long flushCounter;
+    mInodeTree.lockTree();
+    try {
       Inode srcInode = mInodeTree.getInodeById(fileId);
       TachyonURI srcPath = mInodeTree.getPath(srcInode);
       // Renaming path to itself is a no-op.
@@ -1049,12 +1387,13 @@ public final class FileSystemMaster extends MasterBase {
           .setDstPath(dstPath.getPath())
           .setOpTimeMs(opTimeMs)
           .build();
-      writeJournalEntry(JournalEntry.newBuilder().setRename(rename).build());
-      flushJournal();
-
+      flushCounter = writeJournalEntry(JournalEntry.newBuilder().setRename(rename).build());
       LOG.debug("Renamed {} to {}", srcPath, dstPath);
-      return true;
+    } finally {
+      mInodeTree.unlockTree();
     }
+    flushJournal(flushCounter);
+    return true;
   }
 
   /**
@@ -1071,7 +1410,7 @@ public final class FileSystemMaster extends MasterBase {
    */
   boolean renameInternal(long fileId, TachyonURI dstPath, boolean replayed, long opTimeMs)
       throws FileDoesNotExistException, InvalidPathException, IOException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while the tree is locked.
     Inode srcInode = mInodeTree.getInodeById(fileId);
     TachyonURI srcPath = mInodeTree.getPath(srcInode);
     LOG.debug("Renaming {} to {}", srcPath, dstPath);
@@ -1083,13 +1422,18 @@ public final class FileSystemMaster extends MasterBase {
       String ufsDstPath = mMountTable.resolve(dstPath).toString();
       UnderFileSystem ufs = UnderFileSystem.get(ufsSrcPath, MasterContext.getConf());
       String parentPath = new TachyonURI(ufsDstPath).getParent().toString();
-      if (!ufs.exists(parentPath) && !ufs.mkdirs(parentPath, true)) {
-        LOG.error("Failed to create {}", parentPath);
-        return false;
-      }
-      if (!ufs.rename(ufsSrcPath, ufsDstPath)) {
-        LOG.error("Failed to rename {} to {}", ufsSrcPath, ufsDstPath);
-        return false;
+      Timer.Context timer = MasterContext.getMasterSource().timeUfsRename();
+      try {
+        if (!ufs.exists(parentPath) && !ufs.mkdirs(parentPath, true)) {
+          LOG.error("Failed to create {}", parentPath);
+          return false;
+        }
+        if (!ufs.rename(ufsSrcPath, ufsDstPath)) {
+          LOG.error("Failed to rename {} to {}", ufsSrcPath, ufsDstPath);
+          return false;
+        }
+      } finally {
+        timer.stop();
       }
     }
 
@@ -1167,32 +1511,38 @@ public final class FileSystemMaster extends MasterBase {
    */
   public boolean free(long fileId, boolean recursive) throws FileDoesNotExistException {
     MasterContext.getMasterSource().incFreeFileOps(1);
-    synchronized (mInodeTree) {
-      Inode inode = mInodeTree.getInodeById(fileId);
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.WRITE);
+    try {
+      return freeInternal(inodePath.getInode(), recursive);
+    } finally {
+      inodePath.unlock();
+    }
+  }
 
-      if (inode.isDirectory() && !recursive && ((InodeDirectory) inode).getNumberOfChildren() > 0) {
-        // inode is nonempty, and we don't want to free a nonempty directory unless recursive is
-        // true
-        return false;
-      }
+  private boolean freeInternal(Inode inode, boolean recursive) {
+    // This function should only be called while the path of the inode is write locked.
+    if (inode.isDirectory() && !recursive && ((InodeDirectory) inode).getNumberOfChildren() > 0) {
+      // inode is nonempty, and we don't want to free a nonempty directory unless recursive is
+      // true
+      return false;
+    }
 
-      List<Inode> freeInodes = new ArrayList<Inode>();
-      freeInodes.add(inode);
-      if (inode.isDirectory()) {
-        freeInodes.addAll(mInodeTree.getInodeChildrenRecursive((InodeDirectory) inode));
-      }
+    List<Inode> freeInodes = new ArrayList<Inode>();
+    freeInodes.add(inode);
+    if (inode.isDirectory()) {
+      freeInodes.addAll(mInodeTree.getInodeChildrenRecursive((InodeDirectory) inode));
+    }
 
-      // We go through each inode.
-      for (int i = freeInodes.size() - 1; i >= 0; i --) {
-        Inode freeInode = freeInodes.get(i);
+    // We go through each inode.
+    for (int i = freeInodes.size() - 1; i >= 0; i --) {
+      Inode freeInode = freeInodes.get(i);
 
-        if (freeInode.isFile()) {
-          // Remove corresponding blocks from workers.
-          mBlockMaster.removeBlocks(((InodeFile) freeInode).getBlockIds());
-        }
+      if (freeInode.isFile()) {
+        // Remove corresponding blocks from workers.
+        mBlockMaster.removeBlocks(((InodeFile) freeInode).getBlockIds());
       }
-      MasterContext.getMasterSource().incFilesFreed(freeInodes.size());
     }
+    MasterContext.getMasterSource().incFilesFreed(freeInodes.size());
     return true;
   }
 
@@ -1204,8 +1554,11 @@ public final class FileSystemMaster extends MasterBase {
    * @throws FileDoesNotExistException raise if the file does not exist
    */
   public TachyonURI getPath(long fileId) throws FileDoesNotExistException {
-    synchronized (mInodeTree) {
-      return mInodeTree.getPath(mInodeTree.getInodeById(fileId));
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.READ);
+    try {
+      return mInodeTree.getPath(inodePath.getInode());
+    } finally {
+      inodePath.unlock();
     }
   }
 
@@ -1214,9 +1567,7 @@ public final class FileSystemMaster extends MasterBase {
    * @return the set of inode ids which are pinned. Called via RPC
    */
   public Set<Long> getPinIdList() {
-    synchronized (mInodeTree) {
-      return mInodeTree.getPinIdSet();
-    }
+    return mInodeTree.getPinIdSet();
   }
 
   /**
@@ -1233,6 +1584,13 @@ public final class FileSystemMaster extends MasterBase {
     return mWhitelist.getList();
   }
 
+  /**
+   * @return a list of {@link WorkerInfo} objects representing the workers in Tachyon
+   */
+  public List<WorkerInfo> getWorkerInfoList() {
+    return mBlockMaster.getWorkerInfoList();
+  }
+
   /**
    * @return all the files lost on the workers
    */
@@ -1248,8 +1606,9 @@ public final class FileSystemMaster extends MasterBase {
   }
 
   public void reportLostFile(long fileId) throws FileDoesNotExistException {
-    synchronized (mInodeTree) {
-      Inode inode = mInodeTree.getInodeById(fileId);
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.READ);
+    try {
+      Inode inode = inodePath.getInode();
       if (inode.isDirectory()) {
         LOG.warn("Reported file is a directory {}", inode);
         return;
@@ -1257,7 +1616,8 @@ public final class FileSystemMaster extends MasterBase {
 
       List<Long> blockIds = Lists.newArrayList();
       try {
-        for (FileBlockInfo fileBlockInfo : getFileBlockInfoList(fileId)) {
+        for (FileBlockInfo fileBlockInfo : getFileBlockInfoListInternal((InodeFile) inode,
+            true)) {
           blockIds.add(fileBlockInfo.blockInfo.blockId);
         }
       } catch (InvalidPathException e) {
@@ -1265,6 +1625,8 @@ public final class FileSystemMaster extends MasterBase {
       }
       mBlockMaster.reportLostBlocks(blockIds);
       LOG.info("Reported file loss of blocks {}. Tachyon will recompute it: {}", blockIds, fileId);
+    } finally {
+      inodePath.unlock();
     }
   }
 
@@ -1286,10 +1648,7 @@ public final class FileSystemMaster extends MasterBase {
   public long loadMetadata(TachyonURI path, boolean recursive)
       throws BlockInfoException, FileAlreadyExistsException, FileDoesNotExistException,
       InvalidPathException, InvalidFileSizeException, FileAlreadyCompletedException, IOException {
-    TachyonURI ufsPath;
-    synchronized (mInodeTree) {
-      ufsPath = mMountTable.resolve(path);
-    }
+    TachyonURI ufsPath = mMountTable.resolve(path);
     UnderFileSystem ufs = UnderFileSystem.get(ufsPath.toString(), MasterContext.getConf());
     try {
       if (!ufs.exists(ufsPath.getPath())) {
@@ -1305,12 +1664,10 @@ public final class FileSystemMaster extends MasterBase {
             .setRecursive(recursive)
             .setPersisted(true)
             .build();
-        long fileId = create(path, createOptions);
         CompleteFileOptions completeOptions =
             new CompleteFileOptions.Builder(MasterContext.getConf()).setUfsLength(ufsLength)
                 .build();
-        completeFile(fileId, completeOptions);
-        return fileId;
+        return loadMetadataFile(path, createOptions, completeOptions);
       } else {
         return loadMetadataDirectory(path, recursive);
       }
@@ -1320,6 +1677,48 @@ public final class FileSystemMaster extends MasterBase {
     }
   }
 
+  /**
+   * Loads metadata for the file identified by the given path from UFS into Tachyon, by creating
+   * and completing the file under a single lock of its path and with a single flush of the journal.
+   *
+   * @param path the path for which metadata should be loaded
+   * @param createOptions the options to create the file with
+   * @param completeOptions the options to complete the file with
+   * @return the file id of the loaded file
+   * @throws BlockInfoException if an invalid block size is encountered
+   * @throws FileAlreadyExistsException if the object to be loaded already exists
+   * @throws FileDoesNotExistException if the created inode is not a file
+   * @throws InvalidPathException if invalid path is encountered
+   * @throws InvalidFileSizeException if invalid file size is encountered
+   * @throws FileAlreadyCompletedException if the file is already completed
+   * @throws IOException if an I/O error occurs
+   */
+  private long loadMetadataFile(TachyonURI path, CreateOptions createOptions,
+      CompleteFileOptions completeOptions)
+      throws BlockInfoException, FileAlreadyExistsException, FileDoesNotExistException,
+      InvalidPathException, InvalidFileSizeException, FileAlreadyCompletedException, IOException {
+    MasterContext.getMasterSource().incCreateFileOps(1);
+    MasterContext.getMasterSource().incCompleteFileOps(1);
+    long fileId;
+    long flushCounter;
+    InodeTree.CreatePathResult createResult;
+    // The new file cannot be reached by other operations while its parent is write locked.
+    LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE_PARENT);
+    try {
+      createResult = createInternal(path, createOptions);
+      List<Inode> created = createResult.getCreated();
+      Inode inode = created.get(created.size() - 1);
+      fileId = inode.getId();
+      journalCreatePathResult(createResult);
+      flushCounter = completeFileAndJournal(inode, completeOptions);
+    } finally {
+      inodePath.unlock();
+    }
+    flushCounter = persistDirectories(createResult, flushCounter);
+    flushJournal(flushCounter);
+    return fileId;
+  }
+
   /**
    * Loads metadata for the directory identified by the given path from UFS into Tachyon. This does
    * not actually require looking at the UFS path.
@@ -1354,29 +1753,34 @@ public final class FileSystemMaster extends MasterBase {
   public boolean mount(TachyonURI tachyonPath, TachyonURI ufsPath)
       throws FileAlreadyExistsException, InvalidPathException, IOException {
     MasterContext.getMasterSource().incMountOps(1);
-    synchronized (mInodeTree) {
-      if (mountInternal(tachyonPath, ufsPath)) {
-        boolean loadMetadataSuceeded = false;
-        try {
-          // This will create the directory at tachyonPath
-          loadMetadataDirectory(tachyonPath, false);
-          loadMetadataSuceeded = true;
-        } finally {
-          if (!loadMetadataSuceeded) {
-            // We should be throwing an exception in this scenario
-            unmountInternal(tachyonPath);
-          }
+    long flushCounter;
+    mInodeTree.lockTree();
+    try {
+      if (!mountInternal(tachyonPath, ufsPath)) {
+        return false;
+      }
+      boolean loadMetadataSuceeded = false;
+      try {
+        // This will create the directory at tachyonPath
+        loadMetadataDirectory(tachyonPath, false);
+        loadMetadataSuceeded = true;
+      } finally {
+        if (!loadMetadataSuceeded) {
+          // We should be throwing an exception in this scenario
+          unmountInternal(tachyonPath);
         }
-        AddMountPointEntry addMountPoint =
-            AddMountPointEntry.newBuilder().setTachyonPath(tachyonPath.toString())
-                .setUfsPath(ufsPath.toString()).build();
-        writeJournalEntry(JournalEntry.newBuilder().setAddMountPoint(addMountPoint).build());
-        flushJournal();
-        MasterContext.getMasterSource().incPathsMounted(1);
-        return true;
       }
-    }
-    return false;
+      AddMountPointEntry addMountPoint =
+          AddMountPointEntry.newBuilder().setTachyonPath(tachyonPath.toString())
+              .setUfsPath(ufsPath.toString()).build();
+      flushCounter =
+          writeJournalEntry(JournalEntry.newBuilder().setAddMountPoint(addMountPoint).build());
+    } finally {
+      mInodeTree.unlockTree();
+    }
+    flushJournal(flushCounter);
+    MasterContext.getMasterSource().incPathsMounted(1);
+    return true;
   }
 
   void mountFromEntry(AddMountPointEntry entry) throws InvalidPathException, IOException {
@@ -1412,30 +1816,35 @@ public final class FileSystemMaster extends MasterBase {
   public boolean unmount(TachyonURI tachyonPath)
       throws FileDoesNotExistException, InvalidPathException, IOException {
     MasterContext.getMasterSource().incUnmountOps(1);
-    synchronized (mInodeTree) {
-      if (unmountInternal(tachyonPath)) {
-        Inode inode = mInodeTree.getInodeByPath(tachyonPath);
-        // Use the internal delete API, setting {@code replayed} to false to prevent the delete
-        // operations from being persisted in the UFS.
-        long fileId = inode.getId();
-        long opTimeMs = System.currentTimeMillis();
-        deleteFileRecursiveInternal(fileId, true /* replayed */, opTimeMs);
-        DeleteFileEntry deleteFile = DeleteFileEntry.newBuilder()
-            .setId(fileId)
-            .setRecursive(true)
-            .setOpTimeMs(opTimeMs)
-            .build();
-        writeJournalEntry(JournalEntry.newBuilder().setDeleteFile(deleteFile).build());
-        DeleteMountPointEntry deleteMountPoint = DeleteMountPointEntry.newBuilder()
-            .setTachyonPath(tachyonPath.toString())
-            .build();
-        writeJournalEntry(JournalEntry.newBuilder().setDeleteMountPoint(deleteMountPoint).build());
-        flushJournal();
-        MasterContext.getMasterSource().incPathsUnmounted(1);
-        return true;
+    long flushCounter;
+    mInodeTree.lockTree();
+    try {
+      if (!unmountInternal(tachyonPath)) {
+        return false;
       }
+      Inode inode = mInodeTree.getInodeByPath(tachyonPath);
+      // Use the internal delete API, setting {@code replayed} to false to prevent the delete
+      // operations from being persisted in the UFS.
+      long fileId = inode.getId();
+      long opTimeMs = System.currentTimeMillis();
+      deleteFileRecursiveInternal(fileId, true /* replayed */, opTimeMs);
+      DeleteFileEntry deleteFile = DeleteFileEntry.newBuilder()
+          .setId(fileId)
+          .setRecursive(true)
+          .setOpTimeMs(opTimeMs)
+          .build();
+      writeJournalEntry(JournalEntry.newBuilder().setDeleteFile(deleteFile).build());
+      DeleteMountPointEntry deleteMountPoint = DeleteMountPointEntry.newBuilder()
+          .setTachyonPath(tachyonPath.toString())
+          .build();
+      flushCounter = writeJournalEntry(
+          JournalEntry.newBuilder().setDeleteMountPoint(deleteMountPoint).build());
+    } finally {
+      mInodeTree.unlockTree();
     }
-    return false;
+    flushJournal(flushCounter);
+    MasterContext.getMasterSource().incPathsUnmounted(1);
+    return true;
   }
 
   void unmountFromEntry(DeleteMountPointEntry entry) throws InvalidPathException {
@@ -1457,11 +1866,14 @@ public final class FileSystemMaster extends MasterBase {
    */
   public void resetFile(long fileId) throws FileDoesNotExistException {
     // TODO(yupeng) check the file is not persisted
-    synchronized (mInodeTree) {
+    LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.WRITE);
+    try {
       // free the file first
-      free(fileId, false);
-      InodeFile inodeFile = (InodeFile) mInodeTree.getInodeById(fileId);
+      InodeFile inodeFile = (InodeFile) inodePath.getInode();
+      freeInternal(inodeFile, false);
       inodeFile.reset();
+    } finally {
+      inodePath.unlock();
     }
   }
 
@@ -1475,7 +1887,16 @@ public final class FileSystemMaster extends MasterBase {
   public void setState(long fileId, SetStateOptions options)
       throws FileDoesNotExistException, InvalidPathException {
     MasterContext.getMasterSource().incSetStateOps(1);
-    synchronized (mInodeTree) {
+    long flushCounter;
+    // Persisting a file may also persist its ancestors, which are only read locked along the path
+    // of the file, so the persisted state is set with the tree locked exclusively.
+    LockedInodePath inodePath = null;
+    if (options.hasPersisted()) {
+      mInodeTree.lockTree();
+    } else {
+      inodePath = mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.WRITE);
+    }
+    try {
       long opTimeMs = System.currentTimeMillis();
       setStateInternal(fileId, opTimeMs, options);
       SetStateEntry.Builder setState = SetStateEntry.newBuilder()
@@ -1490,9 +1911,15 @@ public final class FileSystemMaster extends MasterBase {
       if (options.hasPersisted()) {
         setState.setPersisted(options.getPersisted());
       }
-      writeJournalEntry(JournalEntry.newBuilder().setSetState(setState).build());
-      flushJournal();
+      flushCounter = writeJournalEntry(JournalEntry.newBuilder().setSetState(setState).build());
+    } finally {
+      if (inodePath != null) {
+        inodePath.unlock();
+      } else {
+        mInodeTree.unlockTree();
+      }
     }
+    flushJournal(flushCounter);
   }
 
   private void setStateInternal(long fileId, long opTimeMs, SetStateOptions options)
@@ -1545,30 +1972,55 @@ public final class FileSystemMaster extends MasterBase {
     setStateInternal(entry.getId(), entry.getOpTimeMs(), builder.build());
   }
 
+  /**
+   * Records the failure of an operation of a batch in its result.
+   *
+   * @param result the result of the operation
+   * @param e the exception the operation failed with
+   */
+  private static void setBatchFailure(FileOperationResult result, TachyonException e) {
+    result.setSuccess(false);
+    result.setE(e.toTachyonTException());
+  }
+
+  /**
+   * Records the failure of an operation of a batch in its result.
+   *
+   * @param result the result of the operation
+   * @param e the exception the operation failed with
+   */
+  private static void setBatchFailure(FileOperationResult result, IOException e) {
+    result.setSuccess(false);
+    result.setIoe(new ThriftIOException(e.getMessage()));
+  }
+
   /**
    * This class represents the executor for periodic inode TTL check.
    */
   private final class MasterInodeTTLCheckExecutor implements HeartbeatExecutor {
     @Override
     public void heartbeat() {
-      synchronized (mInodeTree) {
-        Set<TTLBucket> expiredBuckets = mTTLBuckets.getExpiredBuckets(System.currentTimeMillis());
-        for (TTLBucket bucket : expiredBuckets) {
-          for (InodeFile file : bucket.getFiles()) {
-            if (!file.isDeleted()) {
-              // file.isPinned() is deliberately not checked because ttl will have effect no matter
-              // whether the file is pinned.
-              try {
-                deleteFile(file.getId(), false);
-              } catch (Exception e) {
-                LOG.error("Exception trying to clean up {} for ttl check: {}", file.toString(),
-                    e.toString());
-              }
+      // The expired buckets are taken out of the list before their files are deleted, which locks
+      // the files, since files are inserted into the list while they are locked.
+      Set<TTLBucket> expiredBuckets;
+      synchronized (mTTLBuckets) {
+        expiredBuckets = new HashSet<TTLBucket>(
+            mTTLBuckets.getExpiredBuckets(System.currentTimeMillis()));
+        mTTLBuckets.removeBuckets(expiredBuckets);
+      }
+      for (TTLBucket bucket : expiredBuckets) {
+        for (InodeFile file : bucket.getFiles()) {
+          if (!file.isDeleted()) {
+            // file.isPinned() is deliberately not checked because ttl will have effect no matter
+            // whether the file is pinned.
+            try {
+              deleteFile(file.getId(), false);
+            } catch (Exception e) {
+              LOG.error("Exception trying to clean up {} for ttl check: {}", file.toString(),
+                  e.toString());
             }
           }
         }
-
-        mTTLBuckets.removeBuckets(expiredBuckets);
       }
     }
   }
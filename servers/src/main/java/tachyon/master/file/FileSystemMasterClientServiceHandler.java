@@ -16,14 +16,17 @@
 package tachyon.master.file;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 
 import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.client.file.options.SetStateOptions;
 import tachyon.exception.TachyonException;
+import tachyon.master.MasterContext;
 import tachyon.master.file.options.CompleteFileOptions;
 import tachyon.master.file.options.CreateOptions;
 import tachyon.master.file.options.MkdirOptions;
@@ -31,6 +34,7 @@ import tachyon.thrift.CompleteFileTOptions;
 import tachyon.thrift.CreateTOptions;
 import tachyon.thrift.FileBlockInfo;
 import tachyon.thrift.FileInfo;
+import tachyon.thrift.FileOperationResult;
 import tachyon.thrift.FileSystemMasterClientService;
 import tachyon.thrift.MkdirTOptions;
 import tachyon.thrift.SetStateTOptions;
@@ -56,81 +60,155 @@ public final class FileSystemMasterClientServiceHandler implements
 
   @Override
   public void completeFile(long fileId, CompleteFileTOptions options) throws TachyonTException {
+    Timer.Context timer = MasterContext.getMasterSource().timeCompleteFile();
     try {
       mFileSystemMaster.completeFile(fileId, new CompleteFileOptions(options));
     } catch (TachyonException e) {
       throw e.toTachyonTException();
+    } finally {
+      timer.stop();
+    }
+  }
+
+  @Override
+  public List<FileOperationResult> completeFileBatch(List<Long> fileIds,
+      List<CompleteFileTOptions> options) {
+    Timer.Context timer = MasterContext.getMasterSource().timeCompleteFileBatch();
+    try {
+      List<CompleteFileOptions> completeFileOptions =
+          new ArrayList<CompleteFileOptions>(options.size());
+      for (CompleteFileTOptions tOptions : options) {
+        completeFileOptions.add(new CompleteFileOptions(tOptions));
+      }
+      return mFileSystemMaster.completeFileBatch(fileIds, completeFileOptions);
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public long create(String path, CreateTOptions options) throws TachyonTException,
       ThriftIOException {
+    Timer.Context timer = MasterContext.getMasterSource().timeCreateFile();
     try {
       return mFileSystemMaster.create(new TachyonURI(path), new CreateOptions(options));
     } catch (IOException e) {
       throw new ThriftIOException(e.getMessage());
     } catch (TachyonException e) {
       throw e.toTachyonTException();
+    } finally {
+      timer.stop();
+    }
+  }
+
+  @Override
+  public List<FileOperationResult> createBatch(List<String> paths, List<CreateTOptions> options) {
+    Timer.Context timer = MasterContext.getMasterSource().timeCreateFileBatch();
+    try {
+      List<TachyonURI> uris = new ArrayList<TachyonURI>(paths.size());
+      for (String path : paths) {
+        uris.add(new TachyonURI(path));
+      }
+      List<CreateOptions> createOptions = new ArrayList<CreateOptions>(options.size());
+      for (CreateTOptions tOptions : options) {
+        createOptions.add(new CreateOptions(tOptions));
+      }
+      return mFileSystemMaster.createBatch(uris, createOptions);
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public boolean free(long fileId, boolean recursive) throws TachyonTException {
+    Timer.Context timer = MasterContext.getMasterSource().timeFreeFile();
     try {
       return mFileSystemMaster.free(fileId, recursive);
     } catch (TachyonException e) {
       throw e.toTachyonTException();
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public long getFileId(String path) {
-    return mFileSystemMaster.getFileId(new TachyonURI(path));
+    Timer.Context timer = MasterContext.getMasterSource().timeGetFileId();
+    try {
+      return mFileSystemMaster.getFileId(new TachyonURI(path));
+    } finally {
+      timer.stop();
+    }
   }
 
   @Override
   public FileInfo getFileInfo(long fileId) throws TachyonTException {
+    Timer.Context timer = MasterContext.getMasterSource().timeGetFileInfo();
     try {
       return mFileSystemMaster.getFileInfo(fileId);
     } catch (TachyonException e) {
       throw e.toTachyonTException();
+    } finally {
+      timer.stop();
+    }
+  }
+
+  @Override
+  public List<FileOperationResult> getFileInfoBatch(List<Long> fileIds) {
+    Timer.Context timer = MasterContext.getMasterSource().timeGetFileInfoBatch();
+    try {
+      return mFileSystemMaster.getFileInfoBatch(fileIds);
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public List<FileInfo> getFileInfoList(long fileId) throws TachyonTException {
+    Timer.Context timer = MasterContext.getMasterSource().timeGetFileInfo();
     try {
       return mFileSystemMaster.getFileInfoList(fileId);
     } catch (TachyonException e) {
       throw e.toTachyonTException();
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public FileBlockInfo getFileBlockInfo(long fileId, int fileBlockIndex) throws TachyonTException {
+    Timer.Context timer = MasterContext.getMasterSource().timeGetFileBlockInfo();
     try {
       return mFileSystemMaster.getFileBlockInfo(fileId, fileBlockIndex);
     } catch (TachyonException e) {
       throw e.toTachyonTException();
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
-  public List<FileBlockInfo> getFileBlockInfoList(long fileId) throws TachyonTException {
+  public List<FileBlockInfo> getFileBlockInfoList(long fileId, boolean skipUfsLocations)
+      throws TachyonTException {
+    Timer.Context timer = MasterContext.getMasterSource().timeGetFileBlockInfo();
     try {
-      return mFileSystemMaster.getFileBlockInfoList(fileId);
+      return mFileSystemMaster.getFileBlockInfoList(fileId, skipUfsLocations);
     } catch (TachyonException e) {
       throw e.toTachyonTException();
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public long getNewBlockIdForFile(long fileId) throws TachyonTException {
+    Timer.Context timer = MasterContext.getMasterSource().timeGetNewBlock();
     try {
       return mFileSystemMaster.getNewBlockIdForFile(fileId);
     } catch (TachyonException e) {
       throw e.toTachyonTException();
+    } finally {
+      timer.stop();
     }
   }
 
@@ -142,18 +220,22 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public long loadMetadata(String tachyonPath, boolean recursive)
       throws TachyonTException, ThriftIOException {
+    Timer.Context timer = MasterContext.getMasterSource().timeLoadMetadata();
     try {
       return mFileSystemMaster.loadMetadata(new TachyonURI(tachyonPath), recursive);
     } catch (TachyonException e) {
       throw e.toTachyonTException();
     } catch (IOException e) {
       throw new ThriftIOException(e.getMessage());
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public boolean mkdir(String path, MkdirTOptions options) throws TachyonTException,
       ThriftIOException {
+    Timer.Context timer = MasterContext.getMasterSource().timeCreateDirectory();
     try {
       mFileSystemMaster.mkdir(new TachyonURI(path), new MkdirOptions(options));
       return true;
@@ -161,61 +243,88 @@ public final class FileSystemMasterClientServiceHandler implements
       throw e.toTachyonTException();
     } catch (IOException e) {
       throw new ThriftIOException(e.getMessage());
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public boolean mount(String tachyonPath, String ufsPath)
       throws TachyonTException, ThriftIOException {
+    Timer.Context timer = MasterContext.getMasterSource().timeMount();
     try {
       return mFileSystemMaster.mount(new TachyonURI(tachyonPath), new TachyonURI(ufsPath));
     } catch (TachyonException e) {
       throw e.toTachyonTException();
     } catch (IOException e) {
       throw new ThriftIOException(e.getMessage());
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public boolean remove(long fileId, boolean recursive)
       throws TachyonTException, ThriftIOException {
+    Timer.Context timer = MasterContext.getMasterSource().timeDeletePath();
     try {
       return mFileSystemMaster.deleteFile(fileId, recursive);
     } catch (TachyonException e) {
       throw e.toTachyonTException();
     } catch (IOException e) {
       throw new ThriftIOException(e.getMessage());
+    } finally {
+      timer.stop();
+    }
+  }
+
+  @Override
+  public List<FileOperationResult> removeBatch(List<Long> ids, boolean recursive) {
+    Timer.Context timer = MasterContext.getMasterSource().timeDeletePathBatch();
+    try {
+      return mFileSystemMaster.deleteFileBatch(ids, recursive);
+    } finally {
+      timer.stop();
     }
   }
 
   public boolean rename(long fileId, String dstPath)
       throws TachyonTException, ThriftIOException {
+    Timer.Context timer = MasterContext.getMasterSource().timeRenamePath();
     try {
       return mFileSystemMaster.rename(fileId, new TachyonURI(dstPath));
     } catch (TachyonException e) {
       throw e.toTachyonTException();
     } catch (IOException e) {
       throw new ThriftIOException(e.getMessage());
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public void setState(long fileId, SetStateTOptions options) throws TachyonTException {
+    Timer.Context timer = MasterContext.getMasterSource().timeSetState();
     try {
       mFileSystemMaster.setState(fileId, new SetStateOptions(options));
     } catch (TachyonException e) {
       throw e.toTachyonTException();
+    } finally {
+      timer.stop();
     }
   }
 
   @Override
   public boolean unmount(String tachyonPath) throws TachyonTException, ThriftIOException {
+    Timer.Context timer = MasterContext.getMasterSource().timeUnmount();
     try {
       return mFileSystemMaster.unmount(new TachyonURI(tachyonPath));
     } catch (TachyonException e) {
       throw e.toTachyonTException();
     } catch (IOException e) {
       throw new ThriftIOException(e.getMessage());
+    } finally {
+      timer.stop();
     }
   }
 }
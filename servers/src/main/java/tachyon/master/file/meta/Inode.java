@@ -15,6 +15,8 @@
 
 package tachyon.master.file.meta;
 
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
 import tachyon.master.journal.JournalEntryRepresentable;
 import tachyon.security.authorization.PermissionStatus;
 import tachyon.thrift.FileInfo;
@@ -130,6 +132,12 @@ public abstract class Inode implements JournalEntryRepresentable {
 
   private boolean mPersisted;
 
+  /**
+   * The lock guarding the position of the inode in the tree and its metadata. See
+   * {@link InodeTree} for the order in which inode locks are acquired.
+   */
+  private final ReentrantReadWriteLock mLock;
+
   protected Inode(Builder<?> builder) {
     mCreationTimeMs = builder.mCreationTimeMs;
     mDeleted = false;
@@ -146,6 +154,7 @@ public abstract class Inode implements JournalEntryRepresentable {
       mGroupName = builder.mPermissionStatus.getGroupName();
       mPermission = builder.mPermissionStatus.getPermission().toShort();
     }
+    mLock = new ReentrantReadWriteLock();
   }
 
   @Override
@@ -211,7 +220,7 @@ public abstract class Inode implements JournalEntryRepresentable {
   /**
    * @return true if the inode is deleted, false otherwise
    */
-  public boolean isDeleted() {
+  public synchronized boolean isDeleted() {
     return mDeleted;
   }
 
@@ -337,6 +346,34 @@ public abstract class Inode implements JournalEntryRepresentable {
     mPermission = permission;
   }
 
+  /**
+   * Acquires the read lock of the inode.
+   */
+  public void lockRead() {
+    mLock.readLock().lock();
+  }
+
+  /**
+   * Releases the read lock of the inode.
+   */
+  public void unlockRead() {
+    mLock.readLock().unlock();
+  }
+
+  /**
+   * Acquires the write lock of the inode.
+   */
+  public void lockWrite() {
+    mLock.writeLock().lock();
+  }
+
+  /**
+   * Releases the write lock of the inode.
+   */
+  public void unlockWrite() {
+    mLock.writeLock().unlock();
+  }
+
   @Override
   public synchronized String toString() {
     return new StringBuilder("Inode(")
@@ -17,11 +17,13 @@ package tachyon.master.file.meta;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,10 +57,38 @@ import tachyon.underfs.UnderFileSystem;
 import tachyon.util.FormatUtils;
 import tachyon.util.io.PathUtils;
 
+/**
+ * The tree of the inodes of the file system.
+ *
+ * <p>
+ * Operations on a single path lock the inodes along the path with
+ * {@link #lockInodePath(TachyonURI, LockMode)} or {@link #lockFullInodePath(long, LockMode)}.
+ * Inode locks are always acquired from the root down, and an inode is only reached through its
+ * locked parent, so operations on unrelated paths run in parallel. These operations share the lock
+ * of the whole tree, which {@link #lockTree()} acquires exclusively for the operations spanning
+ * several paths, such as renames.
+ */
 public final class InodeTree implements JournalCheckpointStreamable {
   /** Value to be used for an inode with no parent. */
   public static final long NO_PARENT = -1;
 
+  /**
+   * The modes in which the inodes of a path are locked. The ancestors of the inodes that are write
+   * locked are always read locked.
+   */
+  public enum LockMode {
+    /** Read lock all the inodes of the path. */
+    READ,
+    /** Write lock the inode at the end of the path. */
+    WRITE,
+    /**
+     * Write lock the inode at the end of the path and its parent. If the parent does not exist,
+     * write lock its deepest existing ancestor instead, under which the missing directories can be
+     * created.
+     */
+    WRITE_PARENT,
+  }
+
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
   /** Only the root inode should have the empty string as its name. */
   private static final String ROOT_INODE_NAME = "";
@@ -78,7 +108,10 @@ public final class InodeTree implements JournalCheckpointStreamable {
   @SuppressWarnings("unchecked")
   private final IndexedSet<Inode> mInodes = new IndexedSet<Inode>(mIdIndex);
   /** A set of inode ids representing pinned inode files */
-  private final Set<Long> mPinnedInodeFileIds = new HashSet<Long>();
+  private final Set<Long> mPinnedInodeFileIds =
+      Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+  /** The lock shared by the operations on single paths, and held exclusively by the others. */
+  private final ReentrantReadWriteLock mTreeLock = new ReentrantReadWriteLock();
 
   /**
    * Inode id management. Inode ids are essentially block ids.
@@ -165,6 +198,115 @@ public final class InodeTree implements JournalCheckpointStreamable {
     return traversalResult.getInode();
   }
 
+  /**
+   * Locks the existing inodes along a path. The inodes are locked from the root down to the end of
+   * the path, or to the first component that does not exist or is a file.
+   *
+   * @param path the path to lock
+   * @param mode the mode to lock the path in
+   * @return the locked path, which must be unlocked by the caller
+   * @throws InvalidPathException if the path is invalid
+   */
+  public LockedInodePath lockInodePath(TachyonURI path, LockMode mode)
+      throws InvalidPathException {
+    String[] pathComponents = PathUtils.getPathComponents(path.getPath());
+    int writeIndex = getWriteIndex(mode, pathComponents.length);
+    LockedInodePath inodePath = lockPathComponents(pathComponents, writeIndex);
+    int lockedIndex = inodePath.getInodes().size() - 1;
+    if (mode == LockMode.WRITE_PARENT && lockedIndex < writeIndex) {
+      // The parent is missing, so its deepest existing ancestor must be write locked instead. The
+      // read lock cannot be upgraded, so the path is locked again.
+      inodePath.unlock();
+      inodePath = lockPathComponents(pathComponents, lockedIndex);
+    }
+    return inodePath;
+  }
+
+  /**
+   * Locks the inodes along the path of an existing inode, from the root down to the inode.
+   *
+   * @param id the id of the inode to lock the path of
+   * @param mode the mode to lock the path in
+   * @return the locked path, which must be unlocked by the caller
+   * @throws FileDoesNotExistException if the inode does not exist
+   */
+  public LockedInodePath lockFullInodePath(long id, LockMode mode)
+      throws FileDoesNotExistException {
+    LinkedList<Inode> inodes = new LinkedList<Inode>();
+    Inode inode = getInodeById(id);
+    inodes.add(inode);
+    mTreeLock.readLock().lock();
+    try {
+      // The parents of the inodes do not change while the tree is shared, since renames lock the
+      // tree exclusively, but the inodes may be deleted.
+      while (inodes.getFirst().getParentId() != NO_PARENT) {
+        inodes.addFirst(getInodeById(inodes.getFirst().getParentId()));
+      }
+      int writeIndex = getWriteIndex(mode, inodes.size());
+      LockedInodePath inodePath = new LockedInodePath(mTreeLock.readLock(), inodes.size());
+      int index = 0;
+      for (Inode next : inodes) {
+        inodePath.lock(next, index >= writeIndex);
+        index ++;
+      }
+      // An inode is deleted while it and all its ancestors are locked, so it is enough to check the
+      // inode once the whole path is locked.
+      if (inode.isDeleted()) {
+        inodePath.unlock();
+        throw new FileDoesNotExistException("Inode id " + id + " does not exist.");
+      }
+      return inodePath;
+    } finally {
+      mTreeLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Acquires the lock of the whole tree exclusively, which waits for all the locked paths to be
+   * unlocked and prevents others from being locked. This is used by the operations which span
+   * several paths.
+   */
+  public void lockTree() {
+    mTreeLock.writeLock().lock();
+  }
+
+  /**
+   * Releases the lock acquired by {@link #lockTree()}.
+   */
+  public void unlockTree() {
+    mTreeLock.writeLock().unlock();
+  }
+
+  /**
+   * @param mode the mode a path is locked in
+   * @param pathLength the number of components of the path, including the root
+   * @return the index of the first component of the path to write lock
+   */
+  private static int getWriteIndex(LockMode mode, int pathLength) {
+    switch (mode) {
+      case WRITE:
+        return pathLength - 1;
+      case WRITE_PARENT:
+        return Math.max(0, pathLength - 2);
+      default:
+        return pathLength;
+    }
+  }
+
+  private LockedInodePath lockPathComponents(String[] pathComponents, int writeIndex) {
+    LockedInodePath inodePath = new LockedInodePath(mTreeLock.readLock(), pathComponents.length);
+    Inode current = mRoot;
+    inodePath.lock(current, writeIndex <= 0);
+    for (int i = 1; i < pathComponents.length && current.isDirectory(); i ++) {
+      current = ((InodeDirectory) current).getChild(pathComponents[i]);
+      if (current == null) {
+        break;
+      }
+      inodePath.lock(current, i >= writeIndex);
+    }
+    return inodePath;
+  }
+
   /**
    * @param inode the inode to get the path for
    * @return the path for a given inode
@@ -246,7 +388,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
     InodeDirectory currentInodeDirectory = (InodeDirectory) traversalResult.getInode();
     List<Inode> createdInodes = Lists.newArrayList();
     List<Inode> modifiedInodes = Lists.newArrayList();
-    // Directory persistence will not happen until the end of this method.
+    // The directories are only persisted by the caller, once the path is unlocked.
     List<Inode> toPersistDirectories = Lists.newArrayList(traversalResult.getNonPersisted());
     if (pathIndex < parentPath.length || currentInodeDirectory.getChild(name) == null) {
       // (1) There are components in parent paths that need to be created. Or
@@ -261,7 +403,6 @@ public final class InodeTree implements JournalCheckpointStreamable {
           new InodeDirectory.Builder().setName(pathComponents[k])
               .setId(mDirectoryIdGenerator.getNewDirectoryId())
               .setParentId(currentInodeDirectory.getId())
-              .setPersisted(options.isPersisted())
               .setCreationTimeMs(options.getOperationTimeMs())
               .setPermissionStatus(options.getPermissionStatus())
               .build();
@@ -284,9 +425,8 @@ public final class InodeTree implements JournalCheckpointStreamable {
     if (lastInode != null) {
       if (lastInode.isDirectory() && options.isDirectory() && !lastInode.isPersisted()
           && options.isPersisted()) {
-        // The final path component already exists and is not persisted, so it should be added
-        // to the non-persisted Inodes of traversalResult.
-        traversalResult.getNonPersisted().add(lastInode);
+        // The final path component already exists and is not persisted, so it should be persisted
+        // along with its ancestors.
         toPersistDirectories.add(lastInode);
       } else if (!(lastInode.isDirectory() && options.isAllowExists())) {
         LOG.info(ExceptionMessage.FILE_ALREADY_EXISTS.getMessage(path));
@@ -324,21 +464,32 @@ public final class InodeTree implements JournalCheckpointStreamable {
       currentInodeDirectory.setLastModificationTimeMs(options.getOperationTimeMs());
     }
 
+    // The path of the last directory is taken while the path is still locked, and the caller only
+    // creates that directory in the under file system, along with its missing parents.
+    TachyonURI persistedPath = null;
     if (toPersistDirectories.size() > 0) {
-      Inode lastToPersistInode = toPersistDirectories.get(toPersistDirectories.size() - 1);
-      String ufsPath = mMountTable.resolve(getPath(lastToPersistInode)).toString();
-      UnderFileSystem ufs = UnderFileSystem.get(ufsPath, MasterContext.getConf());
-      // Persists only the last directory, recursively creating necessary parent directories. Even
-      // if the directory already exists in the ufs, we mark it as persisted.
-      if (ufs.exists(ufsPath) || ufs.mkdirs(ufsPath, true)) {
-        for (Inode inode : toPersistDirectories) {
-          inode.setPersisted(true);
-        }
-      }
+      persistedPath = getPath(toPersistDirectories.get(toPersistDirectories.size() - 1));
     }
 
     LOG.debug("createFile: File Created: {} parent: ", lastInode, currentInodeDirectory);
-    return new CreatePathResult(modifiedInodes, createdInodes, traversalResult.getNonPersisted());
+    return new CreatePathResult(modifiedInodes, createdInodes, toPersistDirectories,
+        persistedPath);
+  }
+
+  /**
+   * Creates the directory of a path in the under file system, along with its missing parents. This
+   * does not access any inode, and should be called without holding inode locks since the under
+   * file system may be slow.
+   *
+   * @param path the path of the directory, see {@link CreatePathResult#getPersistedPath()}
+   * @return true if the directory exists in the under file system, false otherwise
+   * @throws InvalidPathException if the path cannot be resolved in the under file system
+   * @throws IOException if the under file system fails
+   */
+  public boolean mkdirsUfs(TachyonURI path) throws InvalidPathException, IOException {
+    String ufsPath = mMountTable.resolve(path).toString();
+    UnderFileSystem ufs = UnderFileSystem.get(ufsPath, MasterContext.getConf());
+    return ufs.exists(ufsPath) || ufs.mkdirs(ufsPath, true);
   }
 
   /**
@@ -657,17 +808,22 @@ public final class InodeTree implements JournalCheckpointStreamable {
     private final List<Inode> mModified;
     private final List<Inode> mCreated;
     private final List<Inode> mPersisted;
+    private final TachyonURI mPersistedPath;
 
     /**
      * Constructs the results of modified and created inodes when creating a path.
      *
      * @param modified a list of modified inodes
      * @param created a list of created inodes
+     * @param persisted a list of directories to persist
+     * @param persistedPath the path of the last directory to persist, or null if there is none
      */
-    CreatePathResult(List<Inode> modified, List<Inode> created, List<Inode> persisted) {
+    CreatePathResult(List<Inode> modified, List<Inode> created, List<Inode> persisted,
+        TachyonURI persistedPath) {
       mModified = Preconditions.checkNotNull(modified);
       mCreated = Preconditions.checkNotNull(created);
       mPersisted = Preconditions.checkNotNull(persisted);
+      mPersistedPath = persistedPath;
     }
 
     /**
@@ -685,10 +841,19 @@ public final class InodeTree implements JournalCheckpointStreamable {
     }
 
     /**
-     * @return the list of existing inodes that were persisted during path creation
+     * @return the list of directories along the path to persist, from the root down, which are not
+     *         yet marked as persisted when the path is created
      */
     public List<Inode> getPersisted() {
       return mPersisted;
     }
+
+    /**
+     * @return the path of the last directory of {@link #getPersisted()}, or null if there are no
+     *         directories to persist
+     */
+    public TachyonURI getPersistedPath() {
+      return mPersistedPath;
+    }
   }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file.meta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * The inodes along a path of the {@link InodeTree}, locked by
+ * {@link InodeTree#lockInodePath(tachyon.TachyonURI, InodeTree.LockMode)} or
+ * {@link InodeTree#lockFullInodePath(long, InodeTree.LockMode)}. The inodes are locked from the
+ * root down; the leading ones are read locked and the trailing ones may be write locked. The path
+ * also holds a shared lock on the whole tree. All the locks are released by {@link #unlock()},
+ * which must be called by the thread that locked the path.
+ */
+public final class LockedInodePath {
+  /** The shared lock of the tree, held until the path is unlocked. */
+  private final Lock mTreeLock;
+  /** The number of components of the path. */
+  private final int mPathLength;
+  /** The locked inodes, from the root down. */
+  private final List<Inode> mInodes;
+  /** Whether each of the locked inodes is write locked. */
+  private final List<Boolean> mWriteLocked;
+  private boolean mLocked;
+
+  /**
+   * Creates a new {@link LockedInodePath} and acquires the shared lock of the tree.
+   *
+   * @param treeLock the shared lock of the tree
+   * @param pathLength the number of components of the path, including the root
+   */
+  LockedInodePath(Lock treeLock, int pathLength) {
+    mTreeLock = Preconditions.checkNotNull(treeLock);
+    mPathLength = pathLength;
+    mInodes = new ArrayList<Inode>(pathLength);
+    mWriteLocked = new ArrayList<Boolean>(pathLength);
+    mTreeLock.lock();
+    mLocked = true;
+  }
+
+  /**
+   * Locks the next inode of the path.
+   *
+   * @param inode the inode to lock, a child of the last locked inode
+   * @param write whether to acquire the write lock of the inode rather than its read lock
+   */
+  void lock(Inode inode, boolean write) {
+    Preconditions.checkState(mLocked, "The path is already unlocked");
+    if (write) {
+      inode.lockWrite();
+    } else {
+      inode.lockRead();
+    }
+    mInodes.add(inode);
+    mWriteLocked.add(write);
+  }
+
+  /**
+   * @return whether all the components of the path exist, i.e. the inode at the end of the path is
+   *         locked
+   */
+  public boolean fullPathExists() {
+    return mInodes.size() == mPathLength;
+  }
+
+  /**
+   * @return the inode at the end of the path
+   */
+  public Inode getInode() {
+    Preconditions.checkState(fullPathExists(), "The path does not fully exist");
+    return mInodes.get(mInodes.size() - 1);
+  }
+
+  /**
+   * @return the locked inodes, from the root down to the last existing component of the path
+   */
+  public List<Inode> getInodes() {
+    return mInodes;
+  }
+
+  /**
+   * Releases the locks of the inodes, from the bottom of the path up, and then the lock of the
+   * tree. Calling this method on an unlocked path has no effect.
+   */
+  public void unlock() {
+    if (!mLocked) {
+      return;
+    }
+    for (int i = mInodes.size() - 1; i >= 0; i --) {
+      if (mWriteLocked.get(i)) {
+        mInodes.get(i).unlockWrite();
+      } else {
+        mInodes.get(i).unlockRead();
+      }
+    }
+    mInodes.clear();
+    mWriteLocked.clear();
+    mTreeLock.unlock();
+    mLocked = false;
+  }
+}
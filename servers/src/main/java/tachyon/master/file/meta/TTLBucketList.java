@@ -26,7 +26,9 @@ import tachyon.Constants;
  * Two adjacent buckets may not have adjacent intervals since there may be no files with ttl value
  * in the skipped intervals.
  * <p/>
- * Thread-safety is guaranteed by {@link ConcurrentSkipListSet}.
+ * Thread-safety is guaranteed by {@link ConcurrentSkipListSet}. Files are inserted and removed
+ * while holding the lock of the list, since buckets are not thread-safe; callers taking the files
+ * out of expired buckets should hold it too.
  */
 public final class TTLBucketList {
   /**
@@ -75,7 +77,7 @@ public final class TTLBucketList {
    *
    * @param file the file to be inserted
    */
-  public void insert(InodeFile file) {
+  public synchronized void insert(InodeFile file) {
     if (file.getTTL() == Constants.NO_TTL) {
       return;
     }
@@ -105,7 +107,7 @@ public final class TTLBucketList {
    *
    * @param file the file to be removed
    */
-  public void remove(InodeFile file) {
+  public synchronized void remove(InodeFile file) {
     TTLBucket bucket = getBucketContaining(file);
     if (bucket != null) {
       bucket.removeFile(file);
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.journal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+import tachyon.Constants;
+import tachyon.exception.ExceptionMessage;
+import tachyon.proto.journal.Journal.JournalEntry;
+import tachyon.util.ThreadFactoryUtils;
+
+/**
+ * Writes journal entries with group commit. Entries are appended to an in-memory queue, and a
+ * flusher thread writes all the queued entries to the {@link JournalWriter} and flushes them at
+ * once. Each appended entry is given a flush counter; an entry is durable once the journal is
+ * flushed up to its counter, which {@link #flush(long)} waits for. Since entries are written in the
+ * order they were appended, waiting for an entry to be flushed also waits for all the entries
+ * appended before it. This class is thread safe.
+ */
+public final class AsyncJournalWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final JournalWriter mJournalWriter;
+  private final Thread mFlusherThread;
+  /** The entries appended but not yet taken by the flusher, guarded by this. */
+  private List<JournalEntry> mQueue;
+  /** The counter of the last appended entry, guarded by this. */
+  private long mCounter;
+  /** The counter of the last flushed entry, guarded by this. */
+  private long mFlushCounter;
+  /** The failure of the flusher, after which no more entries are flushed, guarded by this. */
+  private IOException mFailure;
+  /** Whether the writer is closed, guarded by this. */
+  private boolean mClosed;
+  /** Whether the flusher thread has stopped, guarded by this. */
+  private boolean mFlusherStopped;
+
+  /**
+   * Creates a new {@link AsyncJournalWriter} and starts its flusher thread.
+   *
+   * @param journalWriter the writer to write and flush the entries with
+   * @param name the name of the journal, used to name the flusher thread
+   */
+  public AsyncJournalWriter(JournalWriter journalWriter, String name) {
+    mJournalWriter = Preconditions.checkNotNull(journalWriter);
+    mQueue = new ArrayList<JournalEntry>();
+    mCounter = 0;
+    mFlushCounter = 0;
+    mFailure = null;
+    mClosed = false;
+    mFlusherStopped = false;
+    mFlusherThread = ThreadFactoryUtils.build(name + "-journal-flusher-%d", true)
+        .newThread(new Flusher());
+    mFlusherThread.start();
+  }
+
+  /**
+   * Appends an entry to the journal. The entry is not durable until it is flushed.
+   *
+   * @param entry the entry to append
+   * @return the flush counter of the entry, to pass to {@link #flush(long)}
+   * @throws IOException if the writer is closed or failed to flush earlier entries
+   */
+  public synchronized long appendEntry(JournalEntry entry) throws IOException {
+    checkOpen();
+    mQueue.add(entry);
+    mCounter ++;
+    notifyAll();
+    return mCounter;
+  }
+
+  /**
+   * @return the flush counter of the last appended entry
+   */
+  public synchronized long getCounter() {
+    return mCounter;
+  }
+
+  /**
+   * Waits for the journal to be flushed up to the entry with the given flush counter, and all the
+   * entries appended before it.
+   *
+   * @param targetCounter the flush counter returned when the entry was appended
+   * @throws IOException if the entries failed to be flushed, or the wait was interrupted
+   */
+  public synchronized void flush(long targetCounter) throws IOException {
+    while (mFlushCounter < targetCounter) {
+      if (mFailure != null) {
+        throw new IOException(mFailure);
+      }
+      if (mFlusherStopped) {
+        throw new IOException(ExceptionMessage.JOURNAL_WRITE_AFTER_CLOSE.getMessage());
+      }
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+    }
+  }
+
+  /**
+   * Flushes all the appended entries, and stops the flusher thread. No more entries can be
+   * appended. The underlying {@link JournalWriter} is not closed.
+   *
+   * @throws IOException if the entries failed to be flushed, or the wait was interrupted
+   */
+  public void close() throws IOException {
+    long counter;
+    synchronized (this) {
+      counter = mCounter;
+      mClosed = true;
+      notifyAll();
+    }
+    try {
+      flush(counter);
+    } finally {
+      try {
+        mFlusherThread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+    }
+  }
+
+  private void checkOpen() throws IOException {
+    if (mFailure != null) {
+      throw new IOException(mFailure);
+    }
+    if (mClosed) {
+      throw new IOException(ExceptionMessage.JOURNAL_WRITE_AFTER_CLOSE.getMessage());
+    }
+  }
+
+  /**
+   * Takes all the queued entries, writes them, and flushes the journal, until the writer is
+   * closed and its queue is drained.
+   */
+  private final class Flusher implements Runnable {
+    @Override
+    public void run() {
+      while (true) {
+        List<JournalEntry> batch;
+        long batchCounter;
+        synchronized (AsyncJournalWriter.this) {
+          while (mQueue.isEmpty() && !mClosed) {
+            try {
+              AsyncJournalWriter.this.wait();
+            } catch (InterruptedException e) {
+              // Only closing the writer stops the flusher, since appended entries must be flushed.
+              LOG.warn("The journal flusher was interrupted");
+            }
+          }
+          if (mQueue.isEmpty()) {
+            mFlusherStopped = true;
+            AsyncJournalWriter.this.notifyAll();
+            return;
+          }
+          batch = mQueue;
+          batchCounter = mCounter;
+          mQueue = new ArrayList<JournalEntry>();
+        }
+        try {
+          JournalOutputStream outputStream = mJournalWriter.getEntryOutputStream();
+          for (JournalEntry entry : batch) {
+            outputStream.writeEntry(entry);
+          }
+          outputStream.flush();
+        } catch (IOException e) {
+          LOG.error("Failed to flush {} journal entries", batch.size(), e);
+          synchronized (AsyncJournalWriter.this) {
+            mFailure = e;
+            mFlusherStopped = true;
+            AsyncJournalWriter.this.notifyAll();
+          }
+          return;
+        }
+        synchronized (AsyncJournalWriter.this) {
+          mFlushCounter = batchCounter;
+          AsyncJournalWriter.this.notifyAll();
+        }
+      }
+    }
+  }
+}
@@ -23,6 +23,7 @@ import org.apache.hadoop.fs.FSDataOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 
 import tachyon.Constants;
@@ -341,13 +342,18 @@ public final class JournalWriter {
       if (mIsClosed) {
         return;
       }
-      mDataOutputStream.flush();
-      if (mRawOutputStream instanceof FSDataOutputStream) {
-        // The output stream directly created by {@link UnderFileSystem} may be
-        // {@link FSDataOutputStream}, which means the under filesystem is HDFS, but
-        // {@link DataOutputStream#flush} won't flush the data to HDFS, so we need to call
-        // {@link FSDataOutputStream#sync} to actually flush data to HDFS.
-        ((FSDataOutputStream) mRawOutputStream).sync();
+      Timer.Context timer = MasterContext.getMasterSource().timeJournalFlush();
+      try {
+        mDataOutputStream.flush();
+        if (mRawOutputStream instanceof FSDataOutputStream) {
+          // The output stream directly created by {@link UnderFileSystem} may be
+          // {@link FSDataOutputStream}, which means the under filesystem is HDFS, but
+          // {@link DataOutputStream#flush} won't flush the data to HDFS, so we need to call
+          // {@link FSDataOutputStream#sync} to actually flush data to HDFS.
+          ((FSDataOutputStream) mRawOutputStream).sync();
+        }
+      } finally {
+        timer.stop();
       }
       boolean overSize = mDataOutputStream.size() > mMaxLogSize;
       if (overSize || mUfs.getUnderFSType() == UnderFileSystem.UnderFSType.S3) {
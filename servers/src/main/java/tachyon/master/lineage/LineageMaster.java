@@ -182,7 +182,7 @@ public final class LineageMaster extends MasterBase {
       mCheckpointExecutionService =
           getExecutorService().submit(
               new HeartbeatThread(HeartbeatContext.MASTER_CHECKPOINT_SCHEDULING,
-                  new CheckpointSchedulingExcecutor(this), mTachyonConf
+                  new CheckpointSchedulingExcecutor(this, mFileSystemMaster), mTachyonConf
                       .getInt(Constants.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS)));
       mRecomputeExecutionService =
           getExecutorService().submit(
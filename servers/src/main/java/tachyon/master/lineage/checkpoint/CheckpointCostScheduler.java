@@ -0,0 +1,202 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.lineage.checkpoint;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import tachyon.Constants;
+import tachyon.client.file.TachyonFile;
+import tachyon.conf.TachyonConf;
+import tachyon.exception.FileDoesNotExistException;
+import tachyon.exception.InvalidPathException;
+import tachyon.exception.LineageDoesNotExistException;
+import tachyon.master.MasterContext;
+import tachyon.master.file.FileSystemMaster;
+import tachyon.master.lineage.meta.Lineage;
+import tachyon.master.lineage.meta.LineageFile;
+import tachyon.master.lineage.meta.LineageStoreView;
+import tachyon.thrift.BlockLocation;
+import tachyon.thrift.FileBlockInfo;
+import tachyon.thrift.WorkerInfo;
+
+/**
+ * This class checkpoints, in each round, as many lineages ready for persistence as the under
+ * storage bandwidth allows, most valuable first.
+ *
+ * <p>
+ * The value of checkpointing a lineage is its recompute cost, weighted by the memory pressure on
+ * the workers holding its output. The recompute cost of a lineage is the number of bytes its job
+ * reads and writes, plus the recompute cost of each of its parents which is not persisted, since
+ * losing the output would require recomputing them as well. Deep chains of unpersisted lineages
+ * thus get checkpointed first. The memory pressure is the highest fraction of used space among the
+ * workers holding the output, as the output of full workers is the most likely to be evicted.
+ * </p>
+ *
+ * <p>
+ * The lineages are packed into the round by decreasing value, until the total size of their
+ * outputs exceeds what {@link Constants#MASTER_LINEAGE_CHECKPOINT_BANDWIDTH} allows over one
+ * checkpoint interval. The most valuable lineage is always scheduled, so that large outputs are
+ * eventually checkpointed.
+ * </p>
+ */
+public final class CheckpointCostScheduler implements CheckpointScheduler {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final FileSystemMaster mFileSystemMaster;
+  /** The number of bytes that may be checkpointed in a round, or 0 for no limit. */
+  private final long mBytesPerRound;
+
+  /**
+   * Creates a new instance of {@link CheckpointCostScheduler}.
+   *
+   * @param fileSystemMaster the file system master, to look up the file sizes and the workers
+   */
+  public CheckpointCostScheduler(FileSystemMaster fileSystemMaster) {
+    mFileSystemMaster = Preconditions.checkNotNull(fileSystemMaster);
+    TachyonConf conf = MasterContext.getConf();
+    long bandwidth = conf.getBytes(Constants.MASTER_LINEAGE_CHECKPOINT_BANDWIDTH);
+    Preconditions.checkArgument(bandwidth >= 0, "%s must not be negative",
+        Constants.MASTER_LINEAGE_CHECKPOINT_BANDWIDTH);
+    long intervalMs = conf.getLong(Constants.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS);
+    mBytesPerRound = bandwidth == 0 ? 0 : Math.max(1, bandwidth * intervalMs / Constants.SECOND_MS);
+  }
+
+  @Override
+  public CheckpointPlan schedule(LineageStoreView store) {
+    Map<Long, Double> workerUsage = getWorkerUsage();
+    // The recompute cost of each lineage, filled in topological order so that the cost of the
+    // parents of a lineage is known when it is visited
+    Map<Long, Long> recomputeCost = Maps.newHashMap();
+    final Map<Long, Double> priority = Maps.newHashMap();
+    Map<Long, Long> outputBytes = Maps.newHashMap();
+    List<Lineage> candidates = Lists.newArrayList();
+    for (Lineage lineage : store.getAllLineagesInTopologicalOrder()) {
+      long output = getTotalLength(lineage.getOutputFiles());
+      long cost = getTotalLength(lineage.getInputFiles()) + output;
+      try {
+        for (Lineage parent : store.getParents(lineage)) {
+          if (!parent.isPersisted() && recomputeCost.containsKey(parent.getId())) {
+            cost += recomputeCost.get(parent.getId());
+          }
+        }
+      } catch (LineageDoesNotExistException e) {
+        // The lineage was deleted since the store was listed
+        continue;
+      }
+      recomputeCost.put(lineage.getId(), cost);
+
+      if (!lineage.isCompleted() || lineage.isPersisted() || lineage.needRecompute()
+          || lineage.isInCheckpointing()) {
+        continue;
+      }
+      double pressure = getMemoryPressure(lineage.getOutputFiles(), workerUsage);
+      priority.put(lineage.getId(), cost * (1 + pressure));
+      outputBytes.put(lineage.getId(), output);
+      candidates.add(lineage);
+    }
+
+    Collections.sort(candidates, new Comparator<Lineage>() {
+      @Override
+      public int compare(Lineage first, Lineage second) {
+        return Double.compare(priority.get(second.getId()), priority.get(first.getId()));
+      }
+    });
+
+    List<Long> toCheckpoint = Lists.newArrayList();
+    long scheduledBytes = 0;
+    for (Lineage lineage : candidates) {
+      long bytes = outputBytes.get(lineage.getId());
+      if (mBytesPerRound > 0 && !toCheckpoint.isEmpty()
+          && scheduledBytes + bytes > mBytesPerRound) {
+        // A smaller lineage further down the list may still fit
+        continue;
+      }
+      toCheckpoint.add(lineage.getId());
+      scheduledBytes += bytes;
+    }
+    if (toCheckpoint.size() < candidates.size()) {
+      LOG.debug("Deferred {} lineages to checkpoint beyond the budget of {} bytes",
+          candidates.size() - toCheckpoint.size(), mBytesPerRound);
+    }
+    return new CheckpointPlan(toCheckpoint);
+  }
+
+  /**
+   * @return the fraction of used space of each worker, keyed by worker id
+   */
+  private Map<Long, Double> getWorkerUsage() {
+    Map<Long, Double> usage = Maps.newHashMap();
+    for (WorkerInfo worker : mFileSystemMaster.getWorkerInfoList()) {
+      if (worker.getCapacityBytes() > 0) {
+        usage.put(worker.getId(), (double) worker.getUsedBytes() / worker.getCapacityBytes());
+      }
+    }
+    return usage;
+  }
+
+  /**
+   * @param files the files
+   * @return the total length of the files, skipping the files which no longer exist
+   */
+  private long getTotalLength(List<? extends TachyonFile> files) {
+    long length = 0;
+    for (TachyonFile file : files) {
+      try {
+        length += mFileSystemMaster.getFileInfo(file.getFileId()).getLength();
+      } catch (FileDoesNotExistException e) {
+        LOG.debug("File {} of a lineage does not exist", file.getFileId());
+      }
+    }
+    return length;
+  }
+
+  /**
+   * @param files the output files of a lineage
+   * @param workerUsage the fraction of used space of each worker
+   * @return the highest fraction of used space among the workers holding blocks of the files
+   */
+  private double getMemoryPressure(List<LineageFile> files, Map<Long, Double> workerUsage) {
+    double pressure = 0;
+    for (LineageFile file : files) {
+      try {
+        for (FileBlockInfo fileBlockInfo : mFileSystemMaster.getFileBlockInfoList(
+            file.getFileId())) {
+          for (BlockLocation location : fileBlockInfo.getBlockInfo().getLocations()) {
+            Double usage = workerUsage.get(location.getWorkerId());
+            if (usage != null) {
+              pressure = Math.max(pressure, usage);
+            }
+          }
+        }
+      } catch (FileDoesNotExistException e) {
+        LOG.debug("File {} of a lineage does not exist", file.getFileId());
+      } catch (InvalidPathException e) {
+        LOG.debug("File {} of a lineage has an invalid path", file.getFileId());
+      }
+    }
+    return pressure;
+  }
+}
@@ -17,6 +17,7 @@ package tachyon.master.lineage.checkpoint;
 
 import com.google.common.collect.Lists;
 
+import tachyon.master.file.FileSystemMaster;
 import tachyon.master.lineage.meta.Lineage;
 import tachyon.master.lineage.meta.LineageStoreView;
 
@@ -27,11 +28,11 @@ import tachyon.master.lineage.meta.LineageStoreView;
 public final class CheckpointLatestScheduler implements CheckpointScheduler {
 
   /**
-   * CheckpointLatestScheduler does not use the lineage store view.
+   * CheckpointLatestScheduler does not use the file system master.
    *
-   * @param storeView view of a lineage store
+   * @param fileSystemMaster the file system master
    */
-  public CheckpointLatestScheduler(LineageStoreView storeView) {}
+  public CheckpointLatestScheduler(FileSystemMaster fileSystemMaster) {}
 
   @Override
   public CheckpointPlan schedule(LineageStoreView store) {
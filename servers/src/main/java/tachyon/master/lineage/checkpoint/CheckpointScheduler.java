@@ -19,6 +19,7 @@ import com.google.common.base.Throwables;
 
 import tachyon.Constants;
 import tachyon.conf.TachyonConf;
+import tachyon.master.file.FileSystemMaster;
 import tachyon.master.lineage.meta.LineageStoreView;
 import tachyon.util.CommonUtils;
 
@@ -30,13 +31,15 @@ public interface CheckpointScheduler {
   class Factory {
     /**
      * @param conf TachyonConf to determine the scheduler type
+     * @param fileSystemMaster the file system master, to look up the files and workers
      * @return the generated scheduler
      */
-    public static CheckpointScheduler createScheduler(TachyonConf conf, LineageStoreView store) {
+    public static CheckpointScheduler createScheduler(TachyonConf conf,
+        FileSystemMaster fileSystemMaster) {
       try {
         return CommonUtils.createNewClassInstance(
             conf.<CheckpointScheduler>getClass(Constants.MASTER_LINEAGE_CHECKPOINT_CLASS),
-            new Class[] {LineageStoreView.class}, new Object[] {store});
+            new Class[] {FileSystemMaster.class}, new Object[] {fileSystemMaster});
       } catch (Exception e) {
         throw Throwables.propagate(e);
       }
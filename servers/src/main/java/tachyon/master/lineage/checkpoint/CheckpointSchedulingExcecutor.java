@@ -24,6 +24,7 @@ import tachyon.Constants;
 import tachyon.conf.TachyonConf;
 import tachyon.heartbeat.HeartbeatExecutor;
 import tachyon.master.MasterContext;
+import tachyon.master.file.FileSystemMaster;
 import tachyon.master.lineage.LineageMaster;
 
 /**
@@ -36,11 +37,12 @@ public final class CheckpointSchedulingExcecutor implements HeartbeatExecutor {
   private final LineageMaster mLineageMaster;
   private final CheckpointScheduler mScheduler;
 
-  public CheckpointSchedulingExcecutor(LineageMaster lineageMaster) {
+  public CheckpointSchedulingExcecutor(LineageMaster lineageMaster,
+      FileSystemMaster fileSystemMaster) {
     mLineageMaster = Preconditions.checkNotNull(lineageMaster);
     mTachyonConf = MasterContext.getConf();
     mScheduler = CheckpointScheduler.Factory.createScheduler(mTachyonConf,
-        mLineageMaster.getLineageStoreView());
+        Preconditions.checkNotNull(fileSystemMaster));
   }
 
   @Override
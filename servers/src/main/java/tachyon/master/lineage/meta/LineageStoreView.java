@@ -50,6 +50,14 @@ public final class LineageStoreView {
     return mLineageStore.getChildren(lineage);
   }
 
+  /**
+   * @return the parent lineages of a given lineage in the store
+   * @throws LineageDoesNotExistException if the lineage does not exist
+   */
+  public List<Lineage> getParents(Lineage lineage) throws LineageDoesNotExistException {
+    return mLineageStore.getParents(lineage);
+  }
+
   /**
    * @return all the lineages in topological order
    */
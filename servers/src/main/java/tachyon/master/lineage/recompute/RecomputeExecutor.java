@@ -15,6 +15,8 @@
 
 package tachyon.master.lineage.recompute;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -23,33 +25,58 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 
 import tachyon.Constants;
+import tachyon.client.file.TachyonFile;
 import tachyon.exception.FileDoesNotExistException;
 import tachyon.heartbeat.HeartbeatExecutor;
+import tachyon.master.MasterContext;
 import tachyon.master.file.FileSystemMaster;
 import tachyon.master.lineage.meta.Lineage;
+import tachyon.master.lineage.meta.LineageFile;
+import tachyon.util.ThreadFactoryUtils;
 
 /**
  * A periodical executor that detects lost files and launches recompute jobs.
+ *
+ * <p>
+ * The lineages of a recompute plan are launched as a DAG: a lineage is launched as soon as every
+ * lineage writing one of its input files has been recomputed, so independent lineages are
+ * recomputed concurrently, up to {@link Constants#MASTER_LINEAGE_RECOMPUTE_THREADS} jobs at a time.
+ * A lineage planned again while its previous recompute is still pending is not launched twice;
+ * the new plan waits for the pending recompute instead, and its lineages reading the output of the
+ * pending one wait for it as well.
+ * </p>
  */
 public final class RecomputeExecutor implements HeartbeatExecutor {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
-  private static final int DEFAULT_RECOMPUTE_LAUNCHER_POOL_SIZE = 10;
   private final RecomputePlanner mPlanner;
   private final FileSystemMaster mFileSystemMaster;
   /** The thread pool to launch recompute jobs */
-  private final ExecutorService mFixedExecutionService =
-      Executors.newFixedThreadPool(DEFAULT_RECOMPUTE_LAUNCHER_POOL_SIZE);
+  private final ExecutorService mFixedExecutionService;
+  /** The lineages waiting for their parents or being recomputed, keyed by lineage id */
+  private final Map<Long, RecomputeLauncher> mPendingLaunchers = Maps.newHashMap();
+  /** The pending lineages, keyed by the ids of their output files */
+  private final Map<Long, RecomputeLauncher> mPendingOutputFiles = Maps.newHashMap();
 
   /**
    * @param planner recompute planner
+   * @param fileSystemMaster the file system master
    */
   public RecomputeExecutor(RecomputePlanner planner, FileSystemMaster fileSystemMaster) {
     mPlanner = Preconditions.checkNotNull(planner);
     mFileSystemMaster = Preconditions.checkNotNull(fileSystemMaster);
+    int threads = MasterContext.getConf().getInt(Constants.MASTER_LINEAGE_RECOMPUTE_THREADS);
+    Preconditions.checkArgument(threads > 0, "%s must be positive",
+        Constants.MASTER_LINEAGE_RECOMPUTE_THREADS);
+    mFixedExecutionService = Executors.newFixedThreadPool(threads,
+        ThreadFactoryUtils.build("recompute-launcher-%d", true));
   }
 
   @Override
@@ -66,26 +93,101 @@ public final class RecomputeExecutor implements HeartbeatExecutor {
   Future<?> heartbeatWithFuture() {
     RecomputePlan plan = mPlanner.plan();
     if (plan != null && !plan.isEmpty()) {
-      return mFixedExecutionService.submit(new RecomputeLauncher(plan));
+      return launch(plan);
     }
     return Futures.<Void>immediateFuture(null);
   }
 
   /**
-   * Thread to launch the recompute jobs in a given plan.
+   * Adds the lineages of a plan to the pending lineages, and launches those which do not wait for
+   * any other lineage.
+   *
+   * @param plan the recompute plan, whose lineages are in topological order
+   * @return the {@code Future} representing completion of all the lineages of the plan
+   */
+  private ListenableFuture<List<Void>> launch(RecomputePlan plan) {
+    List<ListenableFuture<Void>> completions = Lists.newArrayList();
+    List<RecomputeLauncher> ready = Lists.newArrayList();
+    synchronized (mPendingLaunchers) {
+      for (Lineage lineage : plan.getLineageToRecompute()) {
+        RecomputeLauncher launcher = mPendingLaunchers.get(lineage.getId());
+        if (launcher != null) {
+          LOG.debug("Lineage {} is already pending recompute", lineage.getId());
+          completions.add(launcher.mCompletion);
+          continue;
+        }
+        launcher = new RecomputeLauncher(lineage);
+        // The plan is in topological order, so the parents in the plan are already pending
+        for (TachyonFile inputFile : lineage.getInputFiles()) {
+          RecomputeLauncher parent = mPendingOutputFiles.get(inputFile.getFileId());
+          if (parent != null && !parent.mChildren.contains(launcher)) {
+            parent.mChildren.add(launcher);
+            launcher.mPendingParents ++;
+          }
+        }
+        mPendingLaunchers.put(lineage.getId(), launcher);
+        for (LineageFile outputFile : lineage.getOutputFiles()) {
+          mPendingOutputFiles.put(outputFile.getFileId(), launcher);
+        }
+        completions.add(launcher.mCompletion);
+        if (launcher.mPendingParents == 0) {
+          ready.add(launcher);
+        }
+      }
+    }
+    for (RecomputeLauncher launcher : ready) {
+      mFixedExecutionService.submit(launcher);
+    }
+    return Futures.allAsList(completions);
+  }
+
+  /**
+   * Removes a recomputed lineage from the pending lineages, and launches its children which no
+   * longer wait for any other lineage.
+   *
+   * @param launcher the launcher of the recomputed lineage
+   */
+  private void onRecomputed(RecomputeLauncher launcher) {
+    List<RecomputeLauncher> ready = Lists.newArrayList();
+    synchronized (mPendingLaunchers) {
+      mPendingLaunchers.remove(launcher.mLineage.getId());
+      for (LineageFile outputFile : launcher.mLineage.getOutputFiles()) {
+        mPendingOutputFiles.remove(outputFile.getFileId());
+      }
+      for (RecomputeLauncher child : launcher.mChildren) {
+        child.mPendingParents --;
+        if (child.mPendingParents == 0) {
+          ready.add(child);
+        }
+      }
+    }
+    for (RecomputeLauncher child : ready) {
+      mFixedExecutionService.submit(child);
+    }
+    launcher.mCompletion.set(null);
+  }
+
+  /**
+   * Thread to launch the recompute job of a lineage.
    */
   final class RecomputeLauncher implements Runnable {
-    private RecomputePlan mPlan;
+    private final Lineage mLineage;
+    /** The pending lineages reading output files of this lineage, guarded by mPendingLaunchers */
+    private final List<RecomputeLauncher> mChildren = Lists.newArrayList();
+    /** The number of pending lineages this lineage waits for, guarded by mPendingLaunchers */
+    private int mPendingParents = 0;
+    /** Completed once the lineage is recomputed, or failed to be */
+    private final SettableFuture<Void> mCompletion = SettableFuture.create();
 
-    RecomputeLauncher(RecomputePlan plan) {
-      mPlan = Preconditions.checkNotNull(plan);
+    RecomputeLauncher(Lineage lineage) {
+      mLineage = Preconditions.checkNotNull(lineage);
     }
 
     @Override
     public void run() {
-      for (Lineage lineage : mPlan.getLineageToRecompute()) {
+      try {
         // empty all the lost files
-        for (Long fileId : lineage.getLostFiles()) {
+        for (Long fileId : mLineage.getLostFiles()) {
           try {
             mFileSystemMaster.resetFile(fileId);
           } catch (FileDoesNotExistException e) {
@@ -93,10 +195,14 @@ public final class RecomputeExecutor implements HeartbeatExecutor {
           }
         }
 
-        boolean success = lineage.getJob().run();
+        boolean success = mLineage.getJob().run();
         if (!success) {
-          LOG.error("Failed to recompute job {}", lineage.getJob());
+          LOG.error("Failed to recompute job {}", mLineage.getJob());
         }
+      } catch (RuntimeException e) {
+        LOG.error("Failed to recompute lineage {}", mLineage.getId(), e);
+      } finally {
+        onRecomputed(this);
       }
     }
   }
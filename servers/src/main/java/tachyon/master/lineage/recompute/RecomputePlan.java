@@ -26,8 +26,8 @@ import tachyon.master.lineage.meta.Lineage;
  * A plan for recomputing the lost files. It essentially contains a batch of jobs from the
  * corresponding lineages to execute.
  *
- * TODO(yupeng): in this version it simply returns a list of jobs to execute in sequence. In the
- * future, we will explore the possibility of executing jobs in in parallel.
+ * The lineages are in topological order. The {@link RecomputeExecutor} runs the jobs of lineages
+ * which do not depend on each other in parallel.
  */
 public class RecomputePlan {
   /** A list of lineages to recompute */
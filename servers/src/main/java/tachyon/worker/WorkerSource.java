@@ -18,12 +18,15 @@ package tachyon.worker;
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
+import tachyon.ThriftRPCServer;
 import tachyon.metrics.source.Source;
 import tachyon.worker.block.BlockDataManager;
 
 /**
- * A WorkerSource collects a Worker's internal state.
+ * A WorkerSource collects a Worker's internal state. Metrics like *Timer record the latency
+ * distribution of an operation, whether it succeeds or not.
  */
 public class WorkerSource implements Source {
   private static final String WORKER_SOURCE_NAME = "worker";
@@ -62,6 +65,19 @@ public class WorkerSource implements Source {
   private final Counter mBytesWrittenUfs = mMetricRegistry.counter(MetricRegistry
       .name("BytesWrittenUfs"));
 
+  private final Timer mDataServerReadBlockTimer =
+      mMetricRegistry.timer(MetricRegistry.name("DataServerReadBlockTimer"));
+  private final Timer mDataServerWriteBlockTimer =
+      mMetricRegistry.timer(MetricRegistry.name("DataServerWriteBlockTimer"));
+  private final Timer mDataServerWriteBlockCloseTimer =
+      mMetricRegistry.timer(MetricRegistry.name("DataServerWriteBlockCloseTimer"));
+  private final Timer mFreeSpaceTimer =
+      mMetricRegistry.timer(MetricRegistry.name("FreeSpaceTimer"));
+  private final Timer mMoveBlockTimer =
+      mMetricRegistry.timer(MetricRegistry.name("MoveBlockTimer"));
+  private final Timer mUfsPersistFileTimer =
+      mMetricRegistry.timer(MetricRegistry.name("UfsPersistFileTimer"));
+
   @Override
   public String getName() {
     return WORKER_SOURCE_NAME;
@@ -132,7 +148,32 @@ public class WorkerSource implements Source {
     mBytesWrittenUfs.inc(n);
   }
 
-  public void registerGauges(final BlockDataManager blockDataManager) {
+  public Timer.Context timeDataServerReadBlock() {
+    return mDataServerReadBlockTimer.time();
+  }
+
+  public Timer.Context timeDataServerWriteBlock() {
+    return mDataServerWriteBlockTimer.time();
+  }
+
+  public Timer.Context timeDataServerWriteBlockClose() {
+    return mDataServerWriteBlockCloseTimer.time();
+  }
+
+  public Timer.Context timeFreeSpace() {
+    return mFreeSpaceTimer.time();
+  }
+
+  public Timer.Context timeMoveBlock() {
+    return mMoveBlockTimer.time();
+  }
+
+  public Timer.Context timeUfsPersistFile() {
+    return mUfsPersistFileTimer.time();
+  }
+
+  public void registerGauges(final BlockDataManager blockDataManager,
+      ThriftRPCServer rpcServer) {
     if (mGaugesRegistered) {
       return;
     }
@@ -164,6 +205,8 @@ public class WorkerSource implements Source {
         return blockDataManager.getStoreMeta().getNumberOfBlocks();
       }
     });
+
+    mMetricRegistry.registerAll(rpcServer);
     mGaugesRegistered = true;
   }
 }
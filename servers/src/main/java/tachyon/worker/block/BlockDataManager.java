@@ -249,6 +249,13 @@ public final class BlockDataManager {
     return mHeartbeatReporter.generateReport();
   }
 
+  /**
+   * @return the {@link WorkerSource} collecting the worker metrics
+   */
+  public WorkerSource getWorkerSource() {
+    return mWorkerSource;
+  }
+
   /**
    * Gets the metadata for the entire block store. Contains the block mapping per storage dir and
    * the total capacity and used capacity of each tier.
@@ -352,6 +359,15 @@ public final class BlockDataManager {
     return mBlockStore.getBlockReader(sessionId, blockId, lockId);
   }
 
+  /**
+   * Registers a listener to be notified of the events of the block store.
+   *
+   * @param listener the listener to register
+   */
+  public void registerBlockStoreEventListener(BlockStoreEventListener listener) {
+    mBlockStore.registerBlockStoreEventListener(listener);
+  }
+
   /**
    * Frees a block from Tachyon managed space.
    *
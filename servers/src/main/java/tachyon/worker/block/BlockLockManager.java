@@ -15,17 +15,11 @@
 
 package tachyon.worker.block;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.google.common.collect.Sets;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 
@@ -38,31 +32,27 @@ import tachyon.worker.WorkerContext;
 /**
  * Handle all block locks.
  * <p>
+ * Blocks are hashed to a fixed number of lock stripes. Each stripe keeps the records of the locks
+ * taken on it, and the id of a lock encodes the stripe it was taken on, so locking and unlocking
+ * only synchronize on the stripe of the block, and allocate no object. Operations on all the locks
+ * of a session, which are much less frequent, go through every stripe.
+ * <p>
  * This class is thread-safe.
  */
 public final class BlockLockManager {
-  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
   /** The number of locks, larger value leads to finer locking granularity, but more space. */
   private static int sNumLocks =
       WorkerContext.getConf().getInt(Constants.WORKER_TIERED_STORE_BLOCK_LOCKS);
 
-  /** The unique id of each lock */
-  private static final AtomicLong LOCK_ID_GEN = new AtomicLong(0);
   /** A hashing function to map blockId to one of the locks */
   private static final HashFunction HASH_FUNC = Hashing.murmur3_32();
 
-  /** A map from a block ID to its lock */
-  private final ClientRWLock[] mLockArray = new ClientRWLock[sNumLocks];
-  /** A map from a session ID to all the locks hold by this session */
-  private final Map<Long, Set<Long>> mSessionIdToLockIdsMap = new HashMap<Long, Set<Long>>();
-  /** A map from a lock ID to the lock record of it */
-  private final Map<Long, LockRecord> mLockIdToRecordMap = new HashMap<Long, LockRecord>();
-  /** To guard access on {@link #mLockIdToRecordMap} and {@link #mSessionIdToLockIdsMap} */
-  private final Object mSharedMapsLock = new Object();
+  /** The lock stripes, indexed by the hash index of the blocks they lock */
+  private final LockStripe[] mStripes = new LockStripe[sNumLocks];
 
   public BlockLockManager() {
     for (int i = 0; i < sNumLocks; i ++) {
-      mLockArray[i] = new ClientRWLock();
+      mStripes[i] = new LockStripe(i);
     }
   }
 
@@ -87,26 +77,15 @@ public final class BlockLockManager {
    */
   public long lockBlock(long sessionId, long blockId, BlockLockType blockLockType) {
     // hashing blockId into the range of [0, sNumLocks - 1]
-    int index = blockHashIndex(blockId);
-    ClientRWLock blockLock = mLockArray[index];
+    LockStripe stripe = mStripes[blockHashIndex(blockId)];
     Lock lock;
     if (blockLockType == BlockLockType.READ) {
-      lock = blockLock.readLock();
+      lock = stripe.mLock.readLock();
     } else {
-      lock = blockLock.writeLock();
+      lock = stripe.mLock.writeLock();
     }
     lock.lock();
-    long lockId = LOCK_ID_GEN.getAndIncrement();
-    synchronized (mSharedMapsLock) {
-      mLockIdToRecordMap.put(lockId, new LockRecord(sessionId, blockId, lock));
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-      if (sessionLockIds == null) {
-        mSessionIdToLockIdsMap.put(sessionId, Sets.newHashSet(lockId));
-      } else {
-        sessionLockIds.add(lockId);
-      }
-    }
-    return lockId;
+    return stripe.addRecord(sessionId, blockId, lock);
   }
 
   /**
@@ -116,49 +95,34 @@ public final class BlockLockManager {
    * @throws BlockDoesNotExistException if no lock is associated with this lock id
    */
   public void unlockBlock(long lockId) throws BlockDoesNotExistException {
+    LockStripe stripe = getStripe(lockId);
     Lock lock;
-    synchronized (mSharedMapsLock) {
-      LockRecord record = mLockIdToRecordMap.get(lockId);
-      if (record == null) {
-        throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
-            lockId);
-      }
-      long sessionId = record.sessionId();
-      lock = record.lock();
-      mLockIdToRecordMap.remove(lockId);
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-      sessionLockIds.remove(lockId);
-      if (sessionLockIds.isEmpty()) {
-        mSessionIdToLockIdsMap.remove(sessionId);
-      }
+    synchronized (stripe) {
+      int record = stripe.findRecord(lockId);
+      lock = stripe.mRecordLocks[record];
+      stripe.removeRecord(record);
     }
     lock.unlock();
   }
 
   // TODO(bin): Temporary, remove me later.
   public void unlockBlock(long sessionId, long blockId) throws BlockDoesNotExistException {
-    synchronized (mSharedMapsLock) {
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-      for (long lockId : sessionLockIds) {
-        LockRecord record = mLockIdToRecordMap.get(lockId);
-        if (record == null) {
-          throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
-              lockId);
-        }
-        if (blockId == record.blockId()) {
-          mLockIdToRecordMap.remove(lockId);
-          sessionLockIds.remove(lockId);
-          if (sessionLockIds.isEmpty()) {
-            mSessionIdToLockIdsMap.remove(sessionId);
-          }
-          Lock lock = record.lock();
-          lock.unlock();
-          return;
+    LockStripe stripe = mStripes[blockHashIndex(blockId)];
+    Lock lock = null;
+    synchronized (stripe) {
+      for (int record = 0; record < stripe.mNumRecords; record ++) {
+        if (stripe.mSessionIds[record] == sessionId && stripe.mBlockIds[record] == blockId) {
+          lock = stripe.mRecordLocks[record];
+          stripe.removeRecord(record);
+          break;
         }
       }
+    }
+    if (lock == null) {
       throw new BlockDoesNotExistException(
           ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_BLOCK_AND_SESSION, blockId, sessionId);
     }
+    lock.unlock();
   }
 
   /**
@@ -173,20 +137,21 @@ public final class BlockLockManager {
    */
   public void validateLock(long sessionId, long blockId, long lockId)
       throws BlockDoesNotExistException, InvalidWorkerStateException {
-    synchronized (mSharedMapsLock) {
-      LockRecord record = mLockIdToRecordMap.get(lockId);
-      if (record == null) {
-        throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
-            lockId);
-      }
-      if (sessionId != record.sessionId()) {
-        throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_SESSION,
-            lockId, record.sessionId(), sessionId);
-      }
-      if (blockId != record.blockId()) {
-        throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_BLOCK, lockId,
-            record.blockId(), blockId);
-      }
+    LockStripe stripe = getStripe(lockId);
+    long recordSessionId;
+    long recordBlockId;
+    synchronized (stripe) {
+      int record = stripe.findRecord(lockId);
+      recordSessionId = stripe.mSessionIds[record];
+      recordBlockId = stripe.mBlockIds[record];
+    }
+    if (sessionId != recordSessionId) {
+      throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_SESSION,
+          lockId, recordSessionId, sessionId);
+    }
+    if (blockId != recordBlockId) {
+      throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_BLOCK, lockId,
+          recordBlockId, blockId);
     }
   }
 
@@ -196,22 +161,32 @@ public final class BlockLockManager {
    * @param sessionId the ID of the session to cleanup
    */
   public void cleanupSession(long sessionId) {
-    synchronized (mSharedMapsLock) {
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-      if (sessionLockIds == null) {
-        return;
-      }
-      for (long lockId : sessionLockIds) {
-        LockRecord record = mLockIdToRecordMap.get(lockId);
-        if (record == null) {
-          LOG.error(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID.getMessage(lockId));
-          continue;
+    for (LockStripe stripe : mStripes) {
+      synchronized (stripe) {
+        // Iterate backwards since removing a record moves the last record into its place
+        for (int record = stripe.mNumRecords - 1; record >= 0; record --) {
+          if (stripe.mSessionIds[record] == sessionId) {
+            Lock lock = stripe.mRecordLocks[record];
+            stripe.removeRecord(record);
+            lock.unlock();
+          }
         }
-        Lock lock = record.lock();
-        lock.unlock();
-        mLockIdToRecordMap.remove(lockId);
       }
-      mSessionIdToLockIdsMap.remove(sessionId);
+    }
+  }
+
+  /**
+   * Returns whether the lock used by a block is in use, i.e. whether this block or another block
+   * hashed to the same lock is currently locked. Unlike {@link #getLockedBlocks()}, this does not
+   * go through all the locks.
+   *
+   * @param blockId the ID of the block
+   * @return true if the lock of the block is held
+   */
+  public boolean isBlockLockInUse(long blockId) {
+    LockStripe stripe = mStripes[blockHashIndex(blockId)];
+    synchronized (stripe) {
+      return stripe.mNumRecords > 0;
     }
   }
 
@@ -221,39 +196,107 @@ public final class BlockLockManager {
    * @return a set of locked blocks
    */
   public Set<Long> getLockedBlocks() {
-    synchronized (mSharedMapsLock) {
-      Set<Long> set = new HashSet<Long>();
-      for (LockRecord lockRecord : mLockIdToRecordMap.values()) {
-        set.add(lockRecord.blockId());
+    Set<Long> set = new HashSet<Long>();
+    for (LockStripe stripe : mStripes) {
+      synchronized (stripe) {
+        for (int record = 0; record < stripe.mNumRecords; record ++) {
+          set.add(stripe.mBlockIds[record]);
+        }
       }
-      return set;
     }
+    return set;
+  }
+
+  /**
+   * @param lockId the ID of a lock
+   * @return the stripe the lock was taken on
+   * @throws BlockDoesNotExistException if the lock id is not a valid one
+   */
+  private LockStripe getStripe(long lockId) throws BlockDoesNotExistException {
+    if (lockId < 0) {
+      throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
+          lockId);
+    }
+    return mStripes[(int) (lockId % sNumLocks)];
   }
 
   /**
-   * Inner class to keep record of a lock.
+   * A lock stripe, with the records of the locks currently held on it. The records are kept in
+   * parallel arrays, guarded by the stripe, and looked up by scanning them: a stripe only holds the
+   * locks of the few blocks hashed to it. The id of the n-th lock taken on the stripe with index i
+   * is n * {@link #sNumLocks} + i.
    */
-  private static final class LockRecord {
-    private final long mSessionId;
-    private final long mBlockId;
-    private final Lock mLock;
+  private static final class LockStripe {
+    private static final int INITIAL_RECORDS = 4;
 
-    LockRecord(long sessionId, long blockId, Lock lock) {
-      mSessionId = sessionId;
-      mBlockId = blockId;
-      mLock = lock;
+    private final ClientRWLock mLock = new ClientRWLock();
+    private final int mIndex;
+    private long mNextSequence = 0;
+    private int mNumRecords = 0;
+    private long[] mLockIds = new long[INITIAL_RECORDS];
+    private long[] mSessionIds = new long[INITIAL_RECORDS];
+    private long[] mBlockIds = new long[INITIAL_RECORDS];
+    private Lock[] mRecordLocks = new Lock[INITIAL_RECORDS];
+
+    LockStripe(int index) {
+      mIndex = index;
     }
 
-    long sessionId() {
-      return mSessionId;
+    /**
+     * Records a lock taken on this stripe.
+     *
+     * @param sessionId the ID of the session holding the lock
+     * @param blockId the ID of the locked block
+     * @param lock the lock held, to release when the record is removed
+     * @return the ID of the lock
+     */
+    synchronized long addRecord(long sessionId, long blockId, Lock lock) {
+      if (mNumRecords == mLockIds.length) {
+        int length = mNumRecords * 2;
+        mLockIds = Arrays.copyOf(mLockIds, length);
+        mSessionIds = Arrays.copyOf(mSessionIds, length);
+        mBlockIds = Arrays.copyOf(mBlockIds, length);
+        mRecordLocks = Arrays.copyOf(mRecordLocks, length);
+      }
+      long lockId = mNextSequence ++ * sNumLocks + mIndex;
+      mLockIds[mNumRecords] = lockId;
+      mSessionIds[mNumRecords] = sessionId;
+      mBlockIds[mNumRecords] = blockId;
+      mRecordLocks[mNumRecords] = lock;
+      mNumRecords ++;
+      return lockId;
     }
 
-    long blockId() {
-      return mBlockId;
+    /**
+     * Finds the record of a lock. Must be called while synchronized on the stripe.
+     *
+     * @param lockId the ID of the lock
+     * @return the index of the record
+     * @throws BlockDoesNotExistException if no lock is associated with the lock id
+     */
+    int findRecord(long lockId) throws BlockDoesNotExistException {
+      for (int record = 0; record < mNumRecords; record ++) {
+        if (mLockIds[record] == lockId) {
+          return record;
+        }
+      }
+      throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
+          lockId);
     }
 
-    Lock lock() {
-      return mLock;
+    /**
+     * Removes a record, moving the last record into its place. Must be called while synchronized
+     * on the stripe.
+     *
+     * @param record the index of the record
+     */
+    void removeRecord(int record) {
+      int last = -- mNumRecords;
+      mLockIds[record] = mLockIds[last];
+      mSessionIds[record] = mSessionIds[last];
+      mBlockIds[record] = mBlockIds[last];
+      mRecordLocks[record] = mRecordLocks[last];
+      mRecordLocks[last] = null;
     }
   }
 }
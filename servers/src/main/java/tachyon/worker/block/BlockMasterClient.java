@@ -17,6 +17,7 @@ package tachyon.worker.block;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +30,7 @@ import tachyon.MasterClientBase;
 import tachyon.conf.TachyonConf;
 import tachyon.exception.ConnectionFailedException;
 import tachyon.exception.TachyonException;
+import tachyon.master.block.BlockIdCodec;
 import tachyon.thrift.BlockMasterWorkerService;
 import tachyon.thrift.Command;
 import tachyon.thrift.NetAddress;
@@ -161,4 +163,26 @@ public final class BlockMasterClient extends MasterClientBase {
       }
     });
   }
+
+  /**
+   * Reports a chunk of the blocks of the worker to the block master, ahead of the call to
+   * {@link #register} which completes the registration of the worker.
+   *
+   * @param workerId the worker id of the worker registering
+   * @param tierAlias the alias of the storage tier of the blocks
+   * @param blockIds the ids of the blocks
+   * @param firstChunk whether the chunk is the first of a new registration
+   * @throws IOException if an I/O error occurs or the workerId doesn't exist
+   */
+  public synchronized void registerChunk(final long workerId, final String tierAlias,
+      List<Long> blockIds, final boolean firstChunk) throws TachyonException, IOException {
+    final ByteBuffer encodedBlockIds = BlockIdCodec.encode(blockIds);
+    retryRPC(new RpcCallableThrowsTachyonTException<Void>() {
+      @Override
+      public Void call() throws TachyonTException, TException {
+        mClient.registerWorkerChunk(workerId, tierAlias, encodedBlockIds.duplicate(), firstChunk);
+        return null;
+      }
+    });
+  }
 }
@@ -16,12 +16,18 @@
 package tachyon.worker.block;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+
 import tachyon.Constants;
 import tachyon.Sessions;
 import tachyon.StorageTierAssoc;
@@ -59,6 +65,8 @@ public final class BlockMasterSync implements HeartbeatExecutor {
   private final NetAddress mWorkerAddress;
   /** Milliseconds between heartbeats before a timeout */
   private final int mHeartbeatTimeoutMs;
+  /** Maximum number of block ids to send to the master in a single RPC when registering */
+  private final int mRegisterChunkSize;
   /** Client for all master communication */
   private final BlockMasterClient mMasterClient;
   /** The thread pool to remove block */
@@ -82,6 +90,9 @@ public final class BlockMasterSync implements HeartbeatExecutor {
     TachyonConf conf = WorkerContext.getConf();
     mMasterClient = masterClient;
     mHeartbeatTimeoutMs = conf.getInt(Constants.WORKER_BLOCK_HEARTBEAT_TIMEOUT_MS);
+    mRegisterChunkSize = conf.getInt(Constants.WORKER_BLOCK_REGISTER_CHUNK_SIZE);
+    Preconditions.checkArgument(mRegisterChunkSize > 0, "%s must be positive",
+        Constants.WORKER_BLOCK_REGISTER_CHUNK_SIZE);
 
     try {
       registerWithMaster();
@@ -96,7 +107,9 @@ public final class BlockMasterSync implements HeartbeatExecutor {
 
   /**
    * Registers with the Tachyon master. This should be called before the continuous heartbeat thread
-   * begins. The workerId will be set after this method is successful.
+   * begins. The workerId will be set after this method is successful. The blocks of the worker are
+   * reported in chunks of bounded size ahead of the registration itself, so that the master does
+   * not process the whole block report at once.
    *
    * @throws IOException when workerId cannot be found
    * @throws ConnectionFailedException if network connection failed
@@ -104,10 +117,24 @@ public final class BlockMasterSync implements HeartbeatExecutor {
   private void registerWithMaster() throws IOException, ConnectionFailedException {
     BlockStoreMeta storeMeta = mBlockDataManager.getStoreMeta();
     try {
+      long workerId = WorkerIdRegistry.getWorkerId();
       StorageTierAssoc storageTierAssoc = new WorkerStorageTierAssoc(WorkerContext.getConf());
-      mMasterClient.register(WorkerIdRegistry.getWorkerId(),
-          storageTierAssoc.getOrderedStorageAliases(), storeMeta.getCapacityBytesOnTiers(),
-          storeMeta.getUsedBytesOnTiers(), storeMeta.getBlockList());
+      boolean firstChunk = true;
+      for (Map.Entry<String, List<Long>> entry : storeMeta.getBlockList().entrySet()) {
+        for (List<Long> chunk : Lists.partition(entry.getValue(), mRegisterChunkSize)) {
+          mMasterClient.registerChunk(workerId, entry.getKey(), chunk, firstChunk);
+          firstChunk = false;
+        }
+      }
+      if (firstChunk) {
+        // The worker has no blocks, but the blocks reported by an earlier registration which
+        // failed must still be dropped.
+        mMasterClient.registerChunk(workerId, storageTierAssoc.getAlias(0),
+            Collections.<Long>emptyList(), true);
+      }
+      mMasterClient.register(workerId, storageTierAssoc.getOrderedStorageAliases(),
+          storeMeta.getCapacityBytesOnTiers(), storeMeta.getUsedBytesOnTiers(),
+          Collections.<String, List<Long>>emptyMap());
     } catch (IOException ioe) {
       LOG.error("Failed to register with master.", ioe);
       throw ioe;
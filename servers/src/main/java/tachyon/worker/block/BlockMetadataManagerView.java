@@ -30,6 +30,7 @@ import tachyon.exception.BlockDoesNotExistException;
 import tachyon.exception.ExceptionMessage;
 import tachyon.master.block.BlockId;
 import tachyon.worker.block.meta.BlockMeta;
+import tachyon.worker.block.meta.StorageDir;
 import tachyon.worker.block.meta.StorageDirView;
 import tachyon.worker.block.meta.StorageTier;
 import tachyon.worker.block.meta.StorageTierView;
@@ -39,6 +40,13 @@ import tachyon.worker.block.meta.StorageTierView;
  * filtering out un-evictable blocks and un-allocatable space internally, so that evictors and
  * allocators can be developed with much simpler logic, without worrying about various constraints,
  * e.g. pinned files, locked blocks, etc.
+ * <p>
+ * The tier and dir views read the {@link StorageTier}s and {@link StorageDir}s of the manager
+ * directly, so a view stays up to date as blocks are added, moved or removed. A view created with
+ * a {@link BlockLockManager} also reads the state of the block locks from it when asked, and its
+ * pinned inodes are updated with {@link #updatePinnedInodes(Set)}, so a single view can be kept
+ * for the lifetime of a block store. The marks of blocks to move are not thread safe: the caller
+ * must not let two evictions use the same view at the same time.
  *
  * TODO(cc): Filter un-allocatable space.
  */
@@ -51,16 +59,17 @@ public class BlockMetadataManagerView {
    * {@link BlockMetadataManager}
    */
   private List<StorageTierView> mTierViews = new ArrayList<StorageTierView>();
-  /** A list of pinned inodes */
-  private final Set<Long> mPinnedInodes = new HashSet<Long>();
-  /** Indices of locks that are being used */
+  /** A set of pinned inodes, replaced as a whole when updated */
+  private volatile Set<Long> mPinnedInodes;
+  /** The manager of the block locks, or null if the locks are given by {@link #mInUseLocks} */
+  private final BlockLockManager mLockManager;
+  /** Indices of locks that are being used, when the view has no lock manager */
   private final BitSet mInUseLocks = new BitSet();
   /** A map from tier alias to {@link StorageTierView} */
   private Map<String, StorageTierView> mAliasToTierViews = new HashMap<String, StorageTierView>();
 
   /**
-   * Constructor of BlockMatadataManagerView. Now we always creating a new view before freespace.
-   * TODO(qifan): Incrementally update the view.
+   * Constructor of BlockMatadataManagerView, with a fixed set of locked blocks.
    *
    * @param manager which the view should be constructed from
    * @param pinnedInodes a set of pinned inodes
@@ -68,12 +77,25 @@ public class BlockMetadataManagerView {
    */
   public BlockMetadataManagerView(BlockMetadataManager manager, Set<Long> pinnedInodes,
       Set<Long> lockedBlocks) {
-    mMetadataManager = Preconditions.checkNotNull(manager);
-    mPinnedInodes.addAll(Preconditions.checkNotNull(pinnedInodes));
+    this(manager, pinnedInodes, (BlockLockManager) null);
     Preconditions.checkNotNull(lockedBlocks);
     for (Long blockId : lockedBlocks) {
       mInUseLocks.set(BlockLockManager.blockHashIndex(blockId));
     }
+  }
+
+  /**
+   * Constructor of BlockMatadataManagerView, which reads the locked blocks from a lock manager.
+   *
+   * @param manager which the view should be constructed from
+   * @param pinnedInodes a set of pinned inodes
+   * @param lockManager the manager of the block locks
+   */
+  public BlockMetadataManagerView(BlockMetadataManager manager, Set<Long> pinnedInodes,
+      BlockLockManager lockManager) {
+    mMetadataManager = Preconditions.checkNotNull(manager);
+    mPinnedInodes = new HashSet<Long>(Preconditions.checkNotNull(pinnedInodes));
+    mLockManager = lockManager;
 
     // iteratively create all StorageTierViews and StorageDirViews
     for (StorageTier tier : manager.getTiers()) {
@@ -94,6 +116,15 @@ public class BlockMetadataManagerView {
     }
   }
 
+  /**
+   * Replaces the pinned inodes of this view.
+   *
+   * @param pinnedInodes a set of pinned inodes
+   */
+  public void updatePinnedInodes(Set<Long> pinnedInodes) {
+    mPinnedInodes = new HashSet<Long>(Preconditions.checkNotNull(pinnedInodes));
+  }
+
   /**
    * Tests if the block is pinned.
    *
@@ -112,6 +143,9 @@ public class BlockMetadataManagerView {
    * @return boolean, true if block is locked
    */
   public boolean isBlockLocked(long blockId) {
+    if (mLockManager != null) {
+      return mLockManager.isBlockLockInUse(blockId);
+    }
     int index = BlockLockManager.blockHashIndex(blockId);
     if (index < mInUseLocks.length()) {
       return mInUseLocks.get(index);
@@ -18,24 +18,20 @@ package tachyon.worker.block;
 import java.io.IOException;
 import java.util.concurrent.Executors;
 
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.server.TThreadPoolServer.Args;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
 import org.apache.thrift.transport.TTransportException;
-import org.apache.thrift.transport.TTransportFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Throwables;
 
 import tachyon.Constants;
+import tachyon.ThriftRPCServer;
 import tachyon.conf.TachyonConf;
 import tachyon.exception.ConnectionFailedException;
 import tachyon.heartbeat.HeartbeatContext;
 import tachyon.heartbeat.HeartbeatThread;
 import tachyon.metrics.MetricsSystem;
-import tachyon.security.authentication.AuthenticationUtils;
 import tachyon.thrift.NetAddress;
 import tachyon.thrift.WorkerService;
 import tachyon.util.CommonUtils;
@@ -83,12 +79,12 @@ public final class BlockWorker extends WorkerBase {
   private final NetAddress mWorkerNetAddress;
   /** Configuration object */
   private final TachyonConf mTachyonConf;
-  /** Server socket for thrift */
-  private final TServerSocket mThriftServerSocket;
+  /** Server socket and settings for thrift */
+  private final ThriftRPCServer mRPCServer;
   /** RPC local port for thrift */
   private final int mPort;
-  /** Thread pool for thrift */
-  private final TThreadPoolServer mThriftServer;
+  /** Server for thrift */
+  private final TServer mThriftServer;
   /** Worker start time in milliseconds */
   private final long mStartTimeMs;
   /** Worker Web UI server */
@@ -116,8 +112,7 @@ public final class BlockWorker extends WorkerBase {
    * @return the worker RPC service bind host
    */
   public String getRPCBindHost() {
-    return NetworkAddressUtils.getThriftSocket(mThriftServerSocket).getInetAddress()
-        .getHostAddress();
+    return mRPCServer.getBindHost();
   }
 
   /**
@@ -178,11 +173,17 @@ public final class BlockWorker extends WorkerBase {
     WorkerSource workerSource = new WorkerSource();
     mBlockDataManager =
         new BlockDataManager(workerSource, mBlockMasterClient, mFileSystemMasterClient,
-            new TieredBlockStore());
+            new TieredBlockStore(workerSource));
+
+    // Setup RPC server socket
+    mRPCServer = createRPCServer();
+    mPort = mRPCServer.getPort();
+    // Reset worker RPC port
+    mTachyonConf.set(Constants.WORKER_RPC_PORT, Integer.toString(mPort));
 
     // Setup metrics collection
     mWorkerMetricsSystem = new MetricsSystem("worker", mTachyonConf);
-    workerSource.registerGauges(mBlockDataManager);
+    workerSource.registerGauges(mBlockDataManager, mRPCServer);
     mWorkerMetricsSystem.registerSource(workerSource);
 
     // Setup DataServer
@@ -195,10 +196,6 @@ public final class BlockWorker extends WorkerBase {
 
     // Setup RPC Server
     mServiceHandler = new BlockServiceHandler(mBlockDataManager);
-    mThriftServerSocket = createThriftServerSocket();
-    mPort = NetworkAddressUtils.getThriftPort(mThriftServerSocket);
-    // Reset worker RPC port
-    mTachyonConf.set(Constants.WORKER_RPC_PORT, Integer.toString(mPort));
     mThriftServer = createThriftServer();
 
     // Setup web server
@@ -277,7 +274,7 @@ public final class BlockWorker extends WorkerBase {
   public void stop() throws IOException {
     mDataServer.close();
     mThriftServer.stop();
-    mThriftServerSocket.close();
+    mRPCServer.close();
     mSessionCleanerThread.stop();
     mBlockMasterClient.close();
     if (mSpaceReserver != null) {
@@ -297,48 +294,35 @@ public final class BlockWorker extends WorkerBase {
       // The reason to stop and close again is due to some issues in Thrift.
       mDataServer.close();
       mThriftServer.stop();
-      mThriftServerSocket.close();
+      mRPCServer.close();
       CommonUtils.sleepMs(100);
     }
   }
 
   /**
-   * Helper method to create a {@link org.apache.thrift.server.TThreadPoolServer} for handling
-   * incoming RPC requests.
+   * Helper method to create a thrift server for handling incoming RPC requests. The type of the
+   * server and its transport depend on the configuration.
    *
    * @return a thrift server
    */
-  private TThreadPoolServer createThriftServer() {
-    int minWorkerThreads = mTachyonConf.getInt(Constants.WORKER_WORKER_BLOCK_THREADS_MIN);
-    int maxWorkerThreads = mTachyonConf.getInt(Constants.WORKER_WORKER_BLOCK_THREADS_MAX);
+  private TServer createThriftServer() {
     WorkerService.Processor<BlockServiceHandler> processor =
         new WorkerService.Processor<BlockServiceHandler>(mServiceHandler);
-    TTransportFactory tTransportFactory;
     try {
-      tTransportFactory = AuthenticationUtils.getServerTransportFactory(mTachyonConf);
+      return mRPCServer.createServer(processor);
     } catch (IOException ioe) {
       throw Throwables.propagate(ioe);
     }
-    Args args = new TThreadPoolServer.Args(mThriftServerSocket).minWorkerThreads(minWorkerThreads)
-        .maxWorkerThreads(maxWorkerThreads).processor(processor).transportFactory(tTransportFactory)
-        .protocolFactory(new TBinaryProtocol.Factory(true, true));
-    if (WorkerContext.getConf().getBoolean(Constants.IN_TEST_MODE)) {
-      args.stopTimeoutVal = 0;
-    } else {
-      args.stopTimeoutVal = Constants.THRIFT_STOP_TIMEOUT_SECONDS;
-    }
-    return new TThreadPoolServer(args);
   }
 
   /**
-   * Helper method to create a {@link org.apache.thrift.transport.TServerSocket} for the RPC server
+   * Helper method to create the {@link ThriftRPCServer} holding the socket of the RPC server
    *
-   * @return a thrift server socket
+   * @return the RPC server socket and settings
    */
-  private TServerSocket createThriftServerSocket() {
+  private ThriftRPCServer createRPCServer() {
     try {
-      return new TServerSocket(NetworkAddressUtils.getBindAddress(ServiceType.WORKER_RPC,
-          mTachyonConf));
+      return new ThriftRPCServer(ServiceType.WORKER_RPC, mTachyonConf);
     } catch (TTransportException tte) {
       LOG.error(tte.getMessage(), tte);
       throw Throwables.propagate(tte);
@@ -15,8 +15,8 @@
 
 package tachyon.worker.block;
 
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -24,51 +24,126 @@ import java.util.concurrent.locks.ReadWriteLock;
 /**
  * Read/write lock associated with clients rather than threads. Either its read lock or write lock
  * can be released by a thread different from the one acquiring them (but supposed to be requested
- * by the same client).
+ * by the same client). There is no limit on the number of concurrent readers. The lock is fair:
+ * once a thread is waiting for it, new readers and writers queue up behind that thread, so writers
+ * are not starved by a stream of readers.
  */
 public final class ClientRWLock implements ReadWriteLock {
-  // TODO(bin): Make this const a configurable.
-  /** Total number of permits. This value decides the max number of concurrent readers */
-  private static final int MAX_AVAILABLE = 100;
-  /** Underlying Semaphore */
-  private final Semaphore mAvailable = new Semaphore(MAX_AVAILABLE, true);
+  /** The synchronizer state while the write lock is held, otherwise it is the number of readers */
+  private static final int WRITE_LOCKED = -1;
+
+  private final Sync mSync = new Sync();
+  private final Lock mReadLock = new SessionLock(true);
+  private final Lock mWriteLock = new SessionLock(false);
 
   @Override
   public Lock readLock() {
-    return new SessionLock(1);
+    return mReadLock;
   }
 
   @Override
   public Lock writeLock() {
-    return new SessionLock(MAX_AVAILABLE);
+    return mWriteLock;
+  }
+
+  /**
+   * The synchronizer of the lock. Its state is {@link #WRITE_LOCKED} while the write lock is held,
+   * and the number of readers otherwise. Unlike the one of a
+   * {@link java.util.concurrent.locks.ReentrantReadWriteLock}, it does not track owner threads.
+   */
+  private static final class Sync extends AbstractQueuedSynchronizer {
+    private static final long serialVersionUID = 5407285580785290318L;
+
+    @Override
+    protected boolean tryAcquire(int unused) {
+      return !hasQueuedPredecessor() && compareAndSetState(0, WRITE_LOCKED);
+    }
+
+    @Override
+    protected boolean tryRelease(int unused) {
+      if (getState() != WRITE_LOCKED) {
+        throw new IllegalMonitorStateException("The write lock is not held");
+      }
+      setState(0);
+      return true;
+    }
+
+    @Override
+    protected int tryAcquireShared(int unused) {
+      while (!hasQueuedPredecessor()) {
+        int state = getState();
+        if (state == WRITE_LOCKED) {
+          return -1;
+        }
+        if (compareAndSetState(state, state + 1)) {
+          return 1;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    protected boolean tryReleaseShared(int unused) {
+      while (true) {
+        int state = getState();
+        if (state <= 0) {
+          throw new IllegalMonitorStateException("The read lock is not held");
+        }
+        if (compareAndSetState(state, state - 1)) {
+          return state == 1;
+        }
+      }
+    }
+
+    /**
+     * @return whether another thread is waiting to acquire the lock before the current thread
+     */
+    private boolean hasQueuedPredecessor() {
+      Thread first = getFirstQueuedThread();
+      return first != null && first != Thread.currentThread();
+    }
   }
 
   private final class SessionLock implements Lock {
-    private final int mPermits;
+    private final boolean mShared;
 
-    private SessionLock(int permits) {
-      mPermits = permits;
+    private SessionLock(boolean shared) {
+      mShared = shared;
     }
 
     @Override
     public void lock() {
-      mAvailable.acquireUninterruptibly(mPermits);
+      if (mShared) {
+        mSync.acquireShared(1);
+      } else {
+        mSync.acquire(1);
+      }
     }
 
     @Override
     public void lockInterruptibly() throws InterruptedException {
-      mAvailable.acquire(mPermits);
+      if (mShared) {
+        mSync.acquireSharedInterruptibly(1);
+      } else {
+        mSync.acquireInterruptibly(1);
+      }
     }
 
     @Override
     public boolean tryLock() {
-      return mAvailable.tryAcquire(mPermits);
+      if (mShared) {
+        return mSync.tryAcquireShared(1) >= 0;
+      }
+      return mSync.tryAcquire(1);
     }
 
     @Override
     public boolean tryLock(long time, TimeUnit unit) {
       try {
-        return mAvailable.tryAcquire(mPermits, time, unit);
+        if (mShared) {
+          return mSync.tryAcquireSharedNanos(1, unit.toNanos(time));
+        }
+        return mSync.tryAcquireNanos(1, unit.toNanos(time));
       } catch (InterruptedException e) {
         return false;
       }
@@ -76,7 +151,11 @@ public final class ClientRWLock implements ReadWriteLock {
 
     @Override
     public void unlock() {
-      mAvailable.release(mPermits);
+      if (mShared) {
+        mSync.releaseShared(1);
+      } else {
+        mSync.release(1);
+      }
     }
 
     @Override
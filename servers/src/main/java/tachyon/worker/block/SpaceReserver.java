@@ -16,8 +16,14 @@
 package tachyon.worker.block;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,46 +32,89 @@ import tachyon.Constants;
 import tachyon.StorageTierAssoc;
 import tachyon.Sessions;
 import tachyon.WorkerStorageTierAssoc;
-import tachyon.exception.BlockAlreadyExistsException;
-import tachyon.exception.BlockDoesNotExistException;
-import tachyon.exception.InvalidWorkerStateException;
-import tachyon.exception.WorkerOutOfSpaceException;
+import tachyon.conf.TachyonConf;
+import tachyon.exception.TachyonException;
 import tachyon.util.CommonUtils;
 import tachyon.worker.WorkerContext;
+import tachyon.worker.block.meta.BlockMeta;
 
 /**
- * SpaceReserver periodically checks if there is enough space reserved on each storage tier, if
- * there is no enough free space on some tier, free space from it.
+ * SpaceReserver periodically checks if there is enough space reserved on each storage tier, and
+ * balances the blocks among the tiers in the background, so that writers seldom have to wait for
+ * an eviction.
+ * <p>
+ * A tier with a high watermark is left alone until its used bytes cross the watermark. Then
+ * blocks are moved out of it, round after round, until the space to reserve on the tier is free
+ * again (the low watermark). A tier without a high watermark is freed as soon as less than the
+ * space to reserve is free. The bytes moved in a round are bounded by the configured bandwidth.
+ * <p>
+ * The bandwidth left in a round is used to promote the blocks read from a lower tier since the
+ * last round, most read first, to the tier right above it, as long as this tier stays below its
+ * low watermark.
  */
 public class SpaceReserver implements Runnable {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
   private final BlockDataManager mBlockManager;
   /** Association between storage tier aliases and ordinals for the worker */
   private final StorageTierAssoc mStorageTierAssoc;
+  /** Mapping from tier alias to the capacity of the tier */
+  private final Map<String, Long> mCapacityBytesOnTiers;
   /** Mapping from tier alias to space size to be reserved on the tier */
   private final Map<String, Long> mBytesToReserveOnTiers = new HashMap<String, Long>();
+  /** Mapping from tier alias to the used bytes above which blocks are moved out of the tier */
+  private final Map<String, Long> mHighWatermarkBytesOnTiers = new HashMap<String, Long>();
+  /** The aliases of the tiers which crossed their high watermark and are not freed yet */
+  private final Set<String> mTiersToFree = new HashSet<String>();
+  /** The number of times each block was read since the last round, guarded by itself */
+  private final Map<Long, Integer> mBlockAccesses = new HashMap<Long, Integer>();
+  /** The maximum number of bytes to move in a round, or {@link Long#MAX_VALUE} for no limit */
+  private final long mBytesPerRound;
   /** Milliseconds between each check */
   private final int mCheckIntervalMs;
   /** Flag to indicate if the checking should continue */
   private volatile boolean mRunning;
 
   public SpaceReserver(BlockDataManager blockManager) {
+    TachyonConf conf = WorkerContext.getConf();
     mBlockManager = blockManager;
-    mStorageTierAssoc = new WorkerStorageTierAssoc(WorkerContext.getConf());
-    Map<String, Long> capOnTiers = blockManager.getStoreMeta().getCapacityBytesOnTiers();
+    mStorageTierAssoc = new WorkerStorageTierAssoc(conf);
+    mCapacityBytesOnTiers = blockManager.getStoreMeta().getCapacityBytesOnTiers();
     long lastTierReservedBytes = 0;
     for (int ordinal = 0; ordinal < mStorageTierAssoc.size(); ordinal ++) {
       String tierReservedSpaceProp =
           String.format(Constants.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT, ordinal);
       String tierAlias = mStorageTierAssoc.getAlias(ordinal);
-      long reservedSpaceBytes =
-          (long) (capOnTiers.get(tierAlias) * WorkerContext.getConf().getDouble(
-              tierReservedSpaceProp));
+      long capacityBytes = mCapacityBytesOnTiers.get(tierAlias);
+      long reservedSpaceBytes = (long) (capacityBytes * conf.getDouble(tierReservedSpaceProp));
       mBytesToReserveOnTiers.put(tierAlias, reservedSpaceBytes + lastTierReservedBytes);
       lastTierReservedBytes += reservedSpaceBytes;
+
+      String tierHighWatermarkProp =
+          String.format(Constants.WORKER_TIERED_STORE_LEVEL_WATERMARK_HIGH_RATIO_FORMAT, ordinal);
+      if (conf.containsKey(tierHighWatermarkProp)) {
+        long highWatermarkBytes =
+            (long) (capacityBytes * conf.getDouble(tierHighWatermarkProp));
+        // The high watermark cannot be below the low watermark
+        mHighWatermarkBytesOnTiers.put(tierAlias, Math.max(highWatermarkBytes,
+            capacityBytes - mBytesToReserveOnTiers.get(tierAlias)));
+      }
     }
-    mCheckIntervalMs =
-        WorkerContext.getConf().getInt(Constants.WORKER_TIERED_STORE_RESERVER_INTERVAL_MS);
+    mCheckIntervalMs = conf.getInt(Constants.WORKER_TIERED_STORE_RESERVER_INTERVAL_MS);
+    long bandwidth = conf.getBytes(Constants.WORKER_TIERED_STORE_RESERVER_BANDWIDTH);
+    if (bandwidth > 0) {
+      mBytesPerRound = Math.max(1, bandwidth * mCheckIntervalMs / Constants.SECOND_MS);
+    } else {
+      mBytesPerRound = Long.MAX_VALUE;
+    }
+    mBlockManager.registerBlockStoreEventListener(new BlockStoreEventListenerBase() {
+      @Override
+      public void onAccessBlock(long sessionId, long blockId) {
+        synchronized (mBlockAccesses) {
+          Integer accesses = mBlockAccesses.get(blockId);
+          mBlockAccesses.put(blockId, accesses == null ? 1 : accesses + 1);
+        }
+      }
+    });
     mRunning = true;
   }
 
@@ -81,6 +130,7 @@ public class SpaceReserver implements Runnable {
       } else {
         LOG.warn("Space reserver took: {}, expected: {}", lastIntervalMs, mCheckIntervalMs);
       }
+      lastCheckMs = System.currentTimeMillis();
       reserveSpace();
     }
   }
@@ -94,22 +144,120 @@ public class SpaceReserver implements Runnable {
   }
 
   private void reserveSpace() {
-    for (int ordinal = mStorageTierAssoc.size() - 1; ordinal >= 0 ; ordinal --) {
+    // The reads are taken every round, so that a round without bandwidth left for promotions does
+    // not carry them over to the next rounds.
+    final Map<Long, Integer> blockAccesses;
+    synchronized (mBlockAccesses) {
+      blockAccesses = new HashMap<Long, Integer>(mBlockAccesses);
+      mBlockAccesses.clear();
+    }
+    long bytesLeft = freeSpaceOnTiers(mBytesPerRound);
+    if (bytesLeft > 0 && !blockAccesses.isEmpty()) {
+      promoteBlocks(blockAccesses, bytesLeft);
+    }
+  }
+
+  /**
+   * Frees space on the tiers which need it, from the bottom tier to the top one.
+   *
+   * @param bytesToMove the maximum number of bytes to move or remove
+   * @return the number of bytes left to move in this round
+   */
+  private long freeSpaceOnTiers(long bytesToMove) {
+    Map<String, Long> usedBytesOnTiers = mBlockManager.getStoreMeta().getUsedBytesOnTiers();
+    for (int ordinal = mStorageTierAssoc.size() - 1; ordinal >= 0; ordinal --) {
       String tierAlias = mStorageTierAssoc.getAlias(ordinal);
       long bytesReserved = mBytesToReserveOnTiers.get(tierAlias);
+      long usedBytes = usedBytesOnTiers.get(tierAlias);
+      long availableBytes = mCapacityBytesOnTiers.get(tierAlias) - usedBytes;
+      if (availableBytes >= bytesReserved) {
+        mTiersToFree.remove(tierAlias);
+        continue;
+      }
+      Long highWatermarkBytes = mHighWatermarkBytesOnTiers.get(tierAlias);
+      if (highWatermarkBytes != null && usedBytes < highWatermarkBytes
+          && !mTiersToFree.contains(tierAlias)) {
+        continue;
+      }
+      if (bytesToMove <= 0) {
+        // Out of bandwidth, the tier is freed in the next rounds
+        mTiersToFree.add(tierAlias);
+        continue;
+      }
+      long bytesToFree = Math.min(bytesReserved - availableBytes, bytesToMove);
+      bytesToMove -= bytesToFree;
+      if (bytesToFree == bytesReserved - availableBytes) {
+        mTiersToFree.remove(tierAlias);
+      } else {
+        mTiersToFree.add(tierAlias);
+      }
       try {
-        mBlockManager.freeSpace(Sessions.MIGRATE_DATA_SESSION_ID, bytesReserved, tierAlias);
-      } catch (WorkerOutOfSpaceException e) {
-        LOG.warn(e.getMessage());
-      } catch (BlockDoesNotExistException e) {
+        mBlockManager.freeSpace(Sessions.MIGRATE_DATA_SESSION_ID, availableBytes + bytesToFree,
+            tierAlias);
+      } catch (TachyonException e) {
         LOG.warn(e.getMessage());
-      } catch (BlockAlreadyExistsException e) {
+      } catch (IOException e) {
         LOG.warn(e.getMessage());
-      } catch (InvalidWorkerStateException e) {
+      }
+    }
+    return bytesToMove;
+  }
+
+  /**
+   * Moves the blocks read from a lower tier since the last round to the tier right above, most
+   * read blocks first, as long as the upper tier stays below its low watermark and is not being
+   * freed.
+   *
+   * @param blockAccesses the number of times each block was read since the last round
+   * @param bytesToMove the maximum number of bytes to move
+   */
+  private void promoteBlocks(final Map<Long, Integer> blockAccesses, long bytesToMove) {
+    List<Long> blockIds = new ArrayList<Long>(blockAccesses.keySet());
+    Collections.sort(blockIds, new Comparator<Long>() {
+      @Override
+      public int compare(Long blockId1, Long blockId2) {
+        return blockAccesses.get(blockId2).compareTo(blockAccesses.get(blockId1));
+      }
+    });
+
+    Map<String, Long> usedBytesOnTiers =
+        new HashMap<String, Long>(mBlockManager.getStoreMeta().getUsedBytesOnTiers());
+    for (long blockId : blockIds) {
+      if (bytesToMove <= 0) {
+        return;
+      }
+      BlockMeta blockMeta;
+      try {
+        blockMeta = mBlockManager.getVolatileBlockMeta(blockId);
+      } catch (TachyonException e) {
+        // The block was removed since it was read
+        continue;
+      }
+      String tierAlias = blockMeta.getBlockLocation().tierAlias();
+      int ordinal = mStorageTierAssoc.getOrdinal(tierAlias);
+      if (ordinal == 0) {
+        continue;
+      }
+      String upperTierAlias = mStorageTierAssoc.getAlias(ordinal - 1);
+      long blockSize = blockMeta.getBlockSize();
+      long upperAvailableBytes =
+          mCapacityBytesOnTiers.get(upperTierAlias) - usedBytesOnTiers.get(upperTierAlias);
+      if (mTiersToFree.contains(upperTierAlias)
+          || upperAvailableBytes - blockSize < mBytesToReserveOnTiers.get(upperTierAlias)) {
+        continue;
+      }
+      try {
+        mBlockManager.moveBlock(Sessions.MIGRATE_DATA_SESSION_ID, blockId, upperTierAlias);
+      } catch (TachyonException e) {
         LOG.warn(e.getMessage());
+        continue;
       } catch (IOException e) {
         LOG.warn(e.getMessage());
+        continue;
       }
+      usedBytesOnTiers.put(upperTierAlias, usedBytesOnTiers.get(upperTierAlias) + blockSize);
+      usedBytesOnTiers.put(tierAlias, usedBytesOnTiers.get(tierAlias) - blockSize);
+      bytesToMove -= blockSize;
     }
   }
 }
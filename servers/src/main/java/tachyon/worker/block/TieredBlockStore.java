@@ -20,10 +20,21 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -32,6 +43,8 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 import tachyon.Constants;
 import tachyon.StorageTierAssoc;
@@ -43,9 +56,11 @@ import tachyon.exception.BlockDoesNotExistException;
 import tachyon.exception.ExceptionMessage;
 import tachyon.exception.InvalidWorkerStateException;
 import tachyon.exception.WorkerOutOfSpaceException;
+import tachyon.util.ThreadFactoryUtils;
 import tachyon.util.io.FileUtils;
 import tachyon.util.io.PathUtils;
 import tachyon.worker.WorkerContext;
+import tachyon.worker.WorkerSource;
 import tachyon.worker.block.allocator.Allocator;
 import tachyon.worker.block.evictor.BlockTransferInfo;
 import tachyon.worker.block.evictor.EvictionPlan;
@@ -80,7 +95,10 @@ import tachyon.worker.block.meta.TempBlockMeta;
  * <li>Method {@link #createBlockMeta} does not acquire the block lock, because it only creates a
  * temp block which is only visible to its writer before committed (thus no concurrent access).</li>
  * <li>Eviction is done in {@link #freeSpaceInternal} and it is on the basis of best effort. For
- * operations that may trigger this eviction (e.g., move, create, requestSpace), retry is used</li>
+ * operations that may trigger this eviction (e.g., move, create, requestSpace), retry is used.
+ * The removals and moves of an eviction plan run in parallel on {@link #mMigrationExecutor}, with
+ * a bounded number of moves per storage dir. As soon as enough space is freed, the tasks not
+ * started yet are cancelled, and the caller returns once the running ones complete.</li>
  * </ul>
  */
 public final class TieredBlockStore implements BlockStore {
@@ -95,8 +113,12 @@ public final class TieredBlockStore implements BlockStore {
   private final Evictor mEvictor;
   private final List<BlockStoreEventListener> mBlockStoreEventListeners =
       new ArrayList<BlockStoreEventListener>();
-  /** A set of pinned inodes fetched from the master */
-  private final Set<Long> mPinnedInodes = new HashSet<Long>();
+  /**
+   * The view of the metadata given to the allocator and the evictor, kept up to date with the
+   * pinned inodes fetched from the master and the block locks. The evictor uses it under its
+   * monitor, since evictions run concurrently under {@link #mMetadataReadLock}.
+   */
+  private final BlockMetadataManagerView mMetaManagerView;
   /** Lock to guard metadata operations */
   private final ReentrantReadWriteLock mMetadataLock = new ReentrantReadWriteLock();
   /** ReadLock provided by {@link #mMetadataReadLock} to guard metadata read operations */
@@ -105,27 +127,60 @@ public final class TieredBlockStore implements BlockStore {
   private final Lock mMetadataWriteLock = mMetadataLock.writeLock();
   /** Association between storage tier aliases and ordinals */
   private final StorageTierAssoc mStorageTierAssoc;
+  /** The pool running the removals and moves of eviction plans */
+  private final ExecutorService mMigrationExecutor;
+  /** The maximum number of moves reading from or writing to a single storage dir at a time */
+  private final int mMigrationDirConcurrency;
+  /** The permits of moves on each storage dir, keyed by the location of the dir */
+  private final ConcurrentMap<BlockStoreLocation, Semaphore> mMigrationDirPermits =
+      new ConcurrentHashMap<BlockStoreLocation, Semaphore>();
+  /** The source of the worker metrics, timing the evictions and moves of blocks */
+  private final WorkerSource mWorkerSource;
 
+  /**
+   * Creates a block store whose metrics are not reported.
+   */
   public TieredBlockStore() {
+    this(new WorkerSource());
+  }
+
+  /**
+   * Creates a block store.
+   *
+   * @param workerSource the source of the worker metrics
+   */
+  public TieredBlockStore(WorkerSource workerSource) {
+    mWorkerSource = Preconditions.checkNotNull(workerSource);
     mTachyonConf = WorkerContext.getConf();
     mMetaManager = BlockMetadataManager.newBlockMetadataManager();
     mLockManager = new BlockLockManager();
+    mMetaManagerView = new BlockMetadataManagerView(mMetaManager, Collections.<Long>emptySet(),
+        mLockManager);
 
-    BlockMetadataManagerView initManagerView = new BlockMetadataManagerView(mMetaManager,
-        Collections.<Long>emptySet(), Collections.<Long>emptySet());
-    mAllocator = Allocator.Factory.createAllocator(mTachyonConf, initManagerView);
+    mAllocator = Allocator.Factory.createAllocator(mTachyonConf, mMetaManagerView);
     if (mAllocator instanceof BlockStoreEventListener) {
       registerBlockStoreEventListener((BlockStoreEventListener) mAllocator);
     }
 
-    initManagerView = new BlockMetadataManagerView(mMetaManager, Collections.<Long>emptySet(),
-        Collections.<Long>emptySet());
-    mEvictor = Evictor.Factory.createEvictor(mTachyonConf, initManagerView, mAllocator);
+    mEvictor = Evictor.Factory.createEvictor(mTachyonConf, mMetaManagerView, mAllocator);
     if (mEvictor instanceof BlockStoreEventListener) {
       registerBlockStoreEventListener((BlockStoreEventListener) mEvictor);
     }
 
     mStorageTierAssoc = new WorkerStorageTierAssoc(mTachyonConf);
+
+    int migrationThreads = mTachyonConf.getInt(Constants.WORKER_TIERED_STORE_MIGRATION_THREADS);
+    Preconditions.checkArgument(migrationThreads > 0, "%s must be positive",
+        Constants.WORKER_TIERED_STORE_MIGRATION_THREADS);
+    mMigrationDirConcurrency =
+        mTachyonConf.getInt(Constants.WORKER_TIERED_STORE_MIGRATION_DIR_CONCURRENCY);
+    Preconditions.checkArgument(mMigrationDirConcurrency > 0, "%s must be positive",
+        Constants.WORKER_TIERED_STORE_MIGRATION_DIR_CONCURRENCY);
+    ThreadPoolExecutor migrationExecutor = new ThreadPoolExecutor(migrationThreads,
+        migrationThreads, Constants.MINUTE_MS, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<Runnable>(), ThreadFactoryUtils.build("block-migration-%d", true));
+    migrationExecutor.allowCoreThreadTimeOut(true);
+    mMigrationExecutor = migrationExecutor;
   }
 
   @Override
@@ -277,23 +332,29 @@ public final class TieredBlockStore implements BlockStore {
       BlockStoreLocation newLocation)
           throws BlockDoesNotExistException, BlockAlreadyExistsException,
           InvalidWorkerStateException, WorkerOutOfSpaceException, IOException {
-    for (int i = 0; i < MAX_RETRIES + 1; i ++) {
-      MoveBlockResult moveResult = moveBlockInternal(sessionId, blockId, oldLocation, newLocation);
-      if (moveResult.success()) {
-        synchronized (mBlockStoreEventListeners) {
-          for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-            listener.onMoveBlockByClient(sessionId, blockId, moveResult.srcLocation(),
-                moveResult.dstLocation());
+    Timer.Context timer = mWorkerSource.timeMoveBlock();
+    try {
+      for (int i = 0; i < MAX_RETRIES + 1; i ++) {
+        MoveBlockResult moveResult =
+            moveBlockInternal(sessionId, blockId, oldLocation, newLocation);
+        if (moveResult.success()) {
+          synchronized (mBlockStoreEventListeners) {
+            for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+              listener.onMoveBlockByClient(sessionId, blockId, moveResult.srcLocation(),
+                  moveResult.dstLocation());
+            }
           }
+          return;
+        }
+        if (i < MAX_RETRIES) {
+          freeSpaceInternal(sessionId, moveResult.blockSize(), newLocation);
         }
-        return;
-      }
-      if (i < MAX_RETRIES) {
-        freeSpaceInternal(sessionId, moveResult.blockSize(), newLocation);
       }
+      throw new WorkerOutOfSpaceException(ExceptionMessage.NO_SPACE_FOR_BLOCK_MOVE, newLocation,
+          blockId, MAX_RETRIES);
+    } finally {
+      timer.stop();
     }
-    throw new WorkerOutOfSpaceException(ExceptionMessage.NO_SPACE_FOR_BLOCK_MOVE, newLocation,
-        blockId, MAX_RETRIES);
   }
 
   @Override
@@ -560,7 +621,7 @@ public final class TieredBlockStore implements BlockStore {
         checkTempBlockIdAvailable(blockId);
       }
       StorageDirView dirView =
-          mAllocator.allocateBlockWithView(sessionId, initialBlockSize, location, getUpdatedView());
+          mAllocator.allocateBlockWithView(sessionId, initialBlockSize, location, mMetaManagerView);
       if (dirView == null) {
         // Allocator fails to find a proper place for this new block.
         return null;
@@ -626,6 +687,11 @@ public final class TieredBlockStore implements BlockStore {
    * Tries to get an eviction plan to free a certain amount of space in the given location, and
    * carries out this plan with the best effort.
    *
+   * The blocks to remove are removed in parallel first. Then the blocks to move are moved in the
+   * order of their destination tiers, from bottom to top, and the blocks moving to the same tier
+   * are moved in parallel. Once a dir in the location has enough available space, the removals and
+   * moves not started yet are dropped, and this method returns once the running ones complete.
+   *
    * @param sessionId the session Id
    * @param availableBytes amount of space in bytes to free
    * @param location location of space
@@ -634,10 +700,31 @@ public final class TieredBlockStore implements BlockStore {
    */
   private void freeSpaceInternal(long sessionId, long availableBytes, BlockStoreLocation location)
       throws WorkerOutOfSpaceException, IOException {
+    Timer.Context timer = mWorkerSource.timeFreeSpace();
+    try {
+      evict(sessionId, availableBytes, location);
+    } finally {
+      timer.stop();
+    }
+  }
+
+  /**
+   * Plans and runs the eviction of {@link #freeSpaceInternal}.
+   *
+   * @param sessionId the session Id
+   * @param availableBytes amount of space in bytes to free
+   * @param location location of space
+   * @throws WorkerOutOfSpaceException if it is impossible to achieve the free requirement
+   * @throws IOException if I/O errors occur when removing or moving block files
+   */
+  private void evict(long sessionId, long availableBytes, BlockStoreLocation location)
+      throws WorkerOutOfSpaceException, IOException {
     EvictionPlan plan;
     mMetadataReadLock.lock();
     try {
-      plan = mEvictor.freeSpaceWithView(availableBytes, location, getUpdatedView());
+      synchronized (mMetaManagerView) {
+        plan = mEvictor.freeSpaceWithView(availableBytes, location, mMetaManagerView);
+      }
       // Absent plan means failed to evict enough space.
       if (plan == null) {
         throw new WorkerOutOfSpaceException(ExceptionMessage.NO_EVICTION_PLAN_TO_FREE_SPACE);
@@ -647,81 +734,172 @@ public final class TieredBlockStore implements BlockStore {
     }
 
     // 1. remove blocks to make room.
+    List<Callable<Void>> removals = new ArrayList<Callable<Void>>(plan.toEvict().size());
     for (Pair<Long, BlockStoreLocation> blockInfo : plan.toEvict()) {
-      try {
-        removeBlockInternal(sessionId, blockInfo.getFirst(), blockInfo.getSecond());
-      } catch (InvalidWorkerStateException ise) {
-        // Evictor is not working properly
-        LOG.error("Failed to evict blockId {}, this is temp block", blockInfo.getFirst());
-        continue;
-      } catch (BlockDoesNotExistException nfe) {
-        LOG.info("Failed to evict blockId {}, it could be already deleted", blockInfo.getFirst());
-        continue;
-      }
-      synchronized (mBlockStoreEventListeners) {
-        for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-          listener.onRemoveBlockByWorker(sessionId, blockInfo.getFirst());
-        }
-      }
+      removals.add(new EvictBlockTask(sessionId, blockInfo.getFirst(), blockInfo.getSecond()));
+    }
+    if (runMigrationTasks(removals, availableBytes, location)) {
+      return;
     }
     // 2. transfer blocks among tiers.
     // 2.1. group blocks move plan by the destination tier.
-    Map<String, Set<BlockTransferInfo>> blocksGroupedByDestTier =
-        new HashMap<String, Set<BlockTransferInfo>>();
+    Map<String, List<Callable<Void>>> movesGroupedByDestTier =
+        new HashMap<String, List<Callable<Void>>>();
     for (BlockTransferInfo entry : plan.toMove()) {
       String alias = entry.getDstLocation().tierAlias();
-      if (!blocksGroupedByDestTier.containsKey(alias)) {
-        blocksGroupedByDestTier.put(alias, new HashSet<BlockTransferInfo>());
+      if (!movesGroupedByDestTier.containsKey(alias)) {
+        movesGroupedByDestTier.put(alias, new ArrayList<Callable<Void>>());
       }
-      blocksGroupedByDestTier.get(alias).add(entry);
+      movesGroupedByDestTier.get(alias).add(new MoveBlockTask(sessionId, entry));
     }
     // 2.2. move blocks in the order of their dst tiers, from bottom to top
     for (int tierOrdinal = mStorageTierAssoc.size() - 1; tierOrdinal >= 0; --tierOrdinal) {
-      Set<BlockTransferInfo> toMove =
-          blocksGroupedByDestTier.get(mStorageTierAssoc.getAlias(tierOrdinal));
-      if (toMove == null) {
-        toMove = new HashSet<BlockTransferInfo>();
-      }
-      for (BlockTransferInfo entry : toMove) {
-        long blockId = entry.getBlockId();
-        BlockStoreLocation oldLocation = entry.getSrcLocation();
-        BlockStoreLocation newLocation = entry.getDstLocation();
-        MoveBlockResult moveResult;
+      List<Callable<Void>> moves =
+          movesGroupedByDestTier.get(mStorageTierAssoc.getAlias(tierOrdinal));
+      if (moves != null && runMigrationTasks(moves, availableBytes, location)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Runs removals or moves of blocks in parallel on {@link #mMigrationExecutor}, and waits for
+   * them until either all of them complete, one of them fails, or a dir in the given location has
+   * enough available space. In the latter cases, the tasks not started yet are cancelled, and the
+   * running ones are waited for, since they hold the locks of the caller's session.
+   *
+   * @param tasks the tasks to run
+   * @param availableBytes amount of space in bytes to free
+   * @param location location of space
+   * @return whether a dir in the location has enough available space
+   * @throws IOException if a task fails with an I/O error, or the wait is interrupted
+   */
+  private boolean runMigrationTasks(List<Callable<Void>> tasks, long availableBytes,
+      BlockStoreLocation location) throws IOException {
+    if (tasks.isEmpty()) {
+      return false;
+    }
+    CompletionService<Void> completionService =
+        new ExecutorCompletionService<Void>(mMigrationExecutor);
+    List<Future<Void>> futures = new ArrayList<Future<Void>>(tasks.size());
+    for (Callable<Void> task : tasks) {
+      futures.add(completionService.submit(task));
+    }
+    try {
+      for (int i = 0; i < tasks.size(); i ++) {
         try {
-          moveResult = moveBlockInternal(sessionId, blockId, oldLocation, newLocation);
-        } catch (InvalidWorkerStateException ise) {
-          // Evictor is not working properly
-          LOG.error("Failed to evict blockId {}, this is temp block", blockId);
-          continue;
-        } catch (BlockAlreadyExistsException aee) {
-          continue;
-        } catch (BlockDoesNotExistException nfe) {
-          LOG.info("Failed to move blockId {}, it could be already deleted", blockId);
-          continue;
+          completionService.take().get();
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw new IOException(ie);
+        } catch (ExecutionException ee) {
+          Throwables.propagateIfPossible(ee.getCause(), IOException.class);
+          throw Throwables.propagate(ee.getCause());
         }
-        if (moveResult.success()) {
-          synchronized (mBlockStoreEventListeners) {
-            for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-              listener.onMoveBlockByWorker(sessionId, blockId, moveResult.srcLocation(),
-                  newLocation);
-            }
+        if (hasAvailableBytes(availableBytes, location)) {
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      awaitMigrationTasks(futures);
+    }
+  }
+
+  /**
+   * Cancels the removals or moves of blocks which have not started, and waits for the others to
+   * complete. Their failures are ignored, since the caller has already returned or thrown.
+   *
+   * @param futures the futures of the tasks
+   */
+  private void awaitMigrationTasks(List<Future<Void>> futures) {
+    for (Future<Void> future : futures) {
+      future.cancel(false);
+    }
+    for (Future<Void> future : futures) {
+      if (future.isCancelled()) {
+        continue;
+      }
+      try {
+        Uninterruptibles.getUninterruptibly(future);
+      } catch (ExecutionException ee) {
+        LOG.debug("Ignored the failure of a block migration: {}",
+            ee.getCause().getMessage());
+      }
+    }
+  }
+
+  /**
+   * @param availableBytes amount of space in bytes
+   * @param location location of space
+   * @return whether a dir in the location has at least the given amount of available space
+   */
+  private boolean hasAvailableBytes(long availableBytes, BlockStoreLocation location) {
+    mMetadataReadLock.lock();
+    try {
+      for (StorageTier tier : mMetaManager.getTiers()) {
+        for (StorageDir dir : tier.getStorageDirs()) {
+          if (dir.getAvailableBytes() >= availableBytes
+              && dir.toBlockStoreLocation().belongTo(location)) {
+            return true;
           }
         }
       }
+      return false;
+    } finally {
+      mMetadataReadLock.unlock();
+    }
+  }
+
+  /**
+   * Acquires the permits to move a block out of and into the given locations, which bound the
+   * number of concurrent moves on each storage dir. Permits are only needed for specific dirs, and
+   * are always acquired in the order of the tiers and dirs so that concurrent moves cannot
+   * deadlock.
+   *
+   * @param srcLocation the location to move a block from
+   * @param dstLocation the location to move a block to
+   * @return the acquired permits, to release with {@link #releaseMigrationPermits(List)}
+   */
+  private List<Semaphore> acquireMigrationPermits(BlockStoreLocation srcLocation,
+      BlockStoreLocation dstLocation) {
+    List<BlockStoreLocation> dirs = new ArrayList<BlockStoreLocation>(2);
+    for (BlockStoreLocation location : new BlockStoreLocation[] {srcLocation, dstLocation}) {
+      if (location.dir() >= 0 && !dirs.contains(location)) {
+        dirs.add(location);
+      }
     }
+    if (dirs.size() == 2) {
+      BlockStoreLocation first = dirs.get(0);
+      BlockStoreLocation second = dirs.get(1);
+      int firstOrdinal = mStorageTierAssoc.getOrdinal(first.tierAlias());
+      int secondOrdinal = mStorageTierAssoc.getOrdinal(second.tierAlias());
+      if (firstOrdinal > secondOrdinal
+          || (firstOrdinal == secondOrdinal && first.dir() > second.dir())) {
+        Collections.reverse(dirs);
+      }
+    }
+    List<Semaphore> permits = new ArrayList<Semaphore>(dirs.size());
+    for (BlockStoreLocation dir : dirs) {
+      Semaphore permit = mMigrationDirPermits.get(dir);
+      if (permit == null) {
+        mMigrationDirPermits.putIfAbsent(dir, new Semaphore(mMigrationDirConcurrency));
+        permit = mMigrationDirPermits.get(dir);
+      }
+      permit.acquireUninterruptibly();
+      permits.add(permit);
+    }
+    return permits;
   }
 
   /**
-   * Get the most updated view with most recent information on pinned inodes, and currently locked
-   * blocks.
+   * Releases the permits acquired by {@link #acquireMigrationPermits}.
    *
-   * @return {@link BlockMetadataManagerView}, an updated view with most recent information
+   * @param permits the permits to release
    */
-  private BlockMetadataManagerView getUpdatedView() {
-    // TODO(calvin): Update the view object instead of creating new one every time.
-    synchronized (mPinnedInodes) {
-      return new BlockMetadataManagerView(mMetaManager, mPinnedInodes,
-          mLockManager.getLockedBlocks());
+  private void releaseMigrationPermits(List<Semaphore> permits) {
+    for (Semaphore permit : permits) {
+      permit.release();
     }
   }
 
@@ -868,9 +1046,92 @@ public final class TieredBlockStore implements BlockStore {
    */
   @Override
   public void updatePinnedInodes(Set<Long> inodes) {
-    synchronized (mPinnedInodes) {
-      mPinnedInodes.clear();
-      mPinnedInodes.addAll(Preconditions.checkNotNull(inodes));
+    mMetaManagerView.updatePinnedInodes(inodes);
+  }
+
+  /**
+   * A task removing a block of an eviction plan.
+   */
+  private final class EvictBlockTask implements Callable<Void> {
+    private final long mSessionId;
+    private final long mBlockId;
+    private final BlockStoreLocation mLocation;
+
+    EvictBlockTask(long sessionId, long blockId, BlockStoreLocation location) {
+      mSessionId = sessionId;
+      mBlockId = blockId;
+      mLocation = location;
+    }
+
+    @Override
+    public Void call() throws IOException {
+      try {
+        removeBlockInternal(mSessionId, mBlockId, mLocation);
+      } catch (InvalidWorkerStateException ise) {
+        // Evictor is not working properly
+        LOG.error("Failed to evict blockId {}, this is temp block", mBlockId);
+        return null;
+      } catch (BlockDoesNotExistException nfe) {
+        LOG.info("Failed to evict blockId {}, it could be already deleted", mBlockId);
+        return null;
+      } catch (IOException ioe) {
+        LOG.error("Failed to evict blockId {}", mBlockId, ioe);
+        throw ioe;
+      }
+      synchronized (mBlockStoreEventListeners) {
+        for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+          listener.onRemoveBlockByWorker(mSessionId, mBlockId);
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * A task moving a block of an eviction plan to another tier.
+   */
+  private final class MoveBlockTask implements Callable<Void> {
+    private final long mSessionId;
+    private final BlockTransferInfo mTransferInfo;
+
+    MoveBlockTask(long sessionId, BlockTransferInfo transferInfo) {
+      mSessionId = sessionId;
+      mTransferInfo = transferInfo;
+    }
+
+    @Override
+    public Void call() throws IOException {
+      long blockId = mTransferInfo.getBlockId();
+      BlockStoreLocation oldLocation = mTransferInfo.getSrcLocation();
+      BlockStoreLocation newLocation = mTransferInfo.getDstLocation();
+      MoveBlockResult moveResult;
+      List<Semaphore> permits = acquireMigrationPermits(oldLocation, newLocation);
+      try {
+        moveResult = moveBlockInternal(mSessionId, blockId, oldLocation, newLocation);
+      } catch (InvalidWorkerStateException ise) {
+        // Evictor is not working properly
+        LOG.error("Failed to evict blockId {}, this is temp block", blockId);
+        return null;
+      } catch (BlockAlreadyExistsException aee) {
+        return null;
+      } catch (BlockDoesNotExistException nfe) {
+        LOG.info("Failed to move blockId {}, it could be already deleted", blockId);
+        return null;
+      } catch (IOException ioe) {
+        LOG.error("Failed to move blockId {} to {}", blockId, newLocation, ioe);
+        throw ioe;
+      } finally {
+        releaseMigrationPermits(permits);
+      }
+      if (moveResult.success()) {
+        synchronized (mBlockStoreEventListeners) {
+          for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+            listener.onMoveBlockByWorker(mSessionId, blockId, moveResult.srcLocation(),
+                newLocation);
+          }
+        }
+      }
+      return null;
     }
   }
 
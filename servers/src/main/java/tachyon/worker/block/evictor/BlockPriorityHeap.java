@@ -0,0 +1,361 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.block.evictor;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A min-heap of block ids ordered by a priority, which also indexes the blocks by id so that the
+ * priority of any block can be looked up, updated or removed in O(log n) time. Blocks and their
+ * priorities are kept in primitive arrays, and the index is an open addressing hash table, so no
+ * object is allocated per block. This class is not thread safe.
+ */
+final class BlockPriorityHeap {
+  private static final int EMPTY = -1;
+  private static final int INITIAL_CAPACITY = 16;
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  /** The ids of the blocks in heap order. */
+  private long[] mHeapBlockIds;
+  /** The priorities of the blocks in heap order. */
+  private double[] mHeapPriorities;
+  /** The slots of the blocks in the hash table, in heap order. */
+  private int[] mHeapSlots;
+  /** The number of blocks in the heap. */
+  private int mSize;
+
+  /** The block ids stored in each slot of the hash table. */
+  private long[] mSlotBlockIds;
+  /** The heap index of the block stored in each slot of the hash table, or {@link #EMPTY}. */
+  private int[] mSlotHeapIndices;
+  /** The shift used to map a hash code to a slot, 64 minus the log2 of the number of slots. */
+  private int mSlotShift;
+
+  /**
+   * Creates an empty {@link BlockPriorityHeap}.
+   */
+  BlockPriorityHeap() {
+    mHeapBlockIds = new long[INITIAL_CAPACITY];
+    mHeapPriorities = new double[INITIAL_CAPACITY];
+    mHeapSlots = new int[INITIAL_CAPACITY];
+    mSize = 0;
+    initSlots(INITIAL_CAPACITY * 2);
+  }
+
+  /**
+   * @return the number of blocks in the heap
+   */
+  int size() {
+    return mSize;
+  }
+
+  /**
+   * @param blockId the id of the block
+   * @return whether the block is in the heap
+   */
+  boolean contains(long blockId) {
+    return findSlot(blockId) != EMPTY;
+  }
+
+  /**
+   * @param blockId the id of the block, which must be in the heap
+   * @return the priority of the block
+   */
+  double getPriority(long blockId) {
+    int slot = findSlot(blockId);
+    Preconditions.checkArgument(slot != EMPTY, "Block %s is not in the heap", blockId);
+    return mHeapPriorities[mSlotHeapIndices[slot]];
+  }
+
+  /**
+   * Adds a block to the heap, or updates its priority if it is already in the heap.
+   *
+   * @param blockId the id of the block
+   * @param priority the priority of the block
+   */
+  void put(long blockId, double priority) {
+    int slot = findSlot(blockId);
+    if (slot != EMPTY) {
+      int index = mSlotHeapIndices[slot];
+      double oldPriority = mHeapPriorities[index];
+      mHeapPriorities[index] = priority;
+      if (priority < oldPriority) {
+        siftUp(index);
+      } else {
+        siftDown(index);
+      }
+      return;
+    }
+    if (mSize == mHeapBlockIds.length) {
+      grow();
+    }
+    int index = mSize ++;
+    mHeapBlockIds[index] = blockId;
+    mHeapPriorities[index] = priority;
+    mHeapSlots[index] = insertSlot(blockId, index);
+    siftUp(index);
+  }
+
+  /**
+   * Removes a block from the heap.
+   *
+   * @param blockId the id of the block
+   * @return whether the block was in the heap
+   */
+  boolean remove(long blockId) {
+    int slot = findSlot(blockId);
+    if (slot == EMPTY) {
+      return false;
+    }
+    int index = mSlotHeapIndices[slot];
+    deleteSlot(slot);
+    int last = -- mSize;
+    if (index != last) {
+      mHeapBlockIds[index] = mHeapBlockIds[last];
+      mHeapPriorities[index] = mHeapPriorities[last];
+      mHeapSlots[index] = mHeapSlots[last];
+      mSlotHeapIndices[mHeapSlots[index]] = index;
+      siftDown(index);
+      siftUp(index);
+    }
+    return true;
+  }
+
+  /**
+   * Returns an iterator over the block ids in ascending order of priority. Each step of the
+   * iteration costs O(log k) time, where k is the number of blocks iterated so far, so taking the
+   * first k blocks does not require ordering the whole heap. The heap must not be modified while
+   * the iterator is in use, and the iterator does not support removal.
+   *
+   * @return an iterator over the block ids in ascending order of priority
+   */
+  Iterator<Long> iterator() {
+    return new AscendingIterator();
+  }
+
+  private void siftUp(int index) {
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (mHeapPriorities[index] >= mHeapPriorities[parent]) {
+        return;
+      }
+      swap(index, parent);
+      index = parent;
+    }
+  }
+
+  private void siftDown(int index) {
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= mSize) {
+        return;
+      }
+      if (child + 1 < mSize && mHeapPriorities[child + 1] < mHeapPriorities[child]) {
+        child ++;
+      }
+      if (mHeapPriorities[child] >= mHeapPriorities[index]) {
+        return;
+      }
+      swap(index, child);
+      index = child;
+    }
+  }
+
+  private void swap(int i, int j) {
+    long blockId = mHeapBlockIds[i];
+    mHeapBlockIds[i] = mHeapBlockIds[j];
+    mHeapBlockIds[j] = blockId;
+    double priority = mHeapPriorities[i];
+    mHeapPriorities[i] = mHeapPriorities[j];
+    mHeapPriorities[j] = priority;
+    int slot = mHeapSlots[i];
+    mHeapSlots[i] = mHeapSlots[j];
+    mHeapSlots[j] = slot;
+    mSlotHeapIndices[mHeapSlots[i]] = i;
+    mSlotHeapIndices[mHeapSlots[j]] = j;
+  }
+
+  /**
+   * Doubles the capacity of the heap, and rebuilds the hash table with twice as many slots.
+   */
+  private void grow() {
+    int capacity = mHeapBlockIds.length * 2;
+    mHeapBlockIds = Arrays.copyOf(mHeapBlockIds, capacity);
+    mHeapPriorities = Arrays.copyOf(mHeapPriorities, capacity);
+    mHeapSlots = Arrays.copyOf(mHeapSlots, capacity);
+    initSlots(capacity * 2);
+    for (int i = 0; i < mSize; i ++) {
+      mHeapSlots[i] = insertSlot(mHeapBlockIds[i], i);
+    }
+  }
+
+  /**
+   * @param numSlots the number of slots of the hash table, a power of two
+   */
+  private void initSlots(int numSlots) {
+    mSlotBlockIds = new long[numSlots];
+    mSlotHeapIndices = new int[numSlots];
+    Arrays.fill(mSlotHeapIndices, EMPTY);
+    mSlotShift = 64 - Integer.numberOfTrailingZeros(numSlots);
+  }
+
+  private int hashSlot(long blockId) {
+    return (int) ((blockId * HASH_MULTIPLIER) >>> mSlotShift);
+  }
+
+  /**
+   * @param blockId the id of the block
+   * @return the slot of the block in the hash table, or {@link #EMPTY} if it is not in the heap
+   */
+  private int findSlot(long blockId) {
+    int mask = mSlotHeapIndices.length - 1;
+    for (int slot = hashSlot(blockId); mSlotHeapIndices[slot] != EMPTY;
+        slot = (slot + 1) & mask) {
+      if (mSlotBlockIds[slot] == blockId) {
+        return slot;
+      }
+    }
+    return EMPTY;
+  }
+
+  /**
+   * Stores a block which is not in the hash table yet.
+   *
+   * @param blockId the id of the block
+   * @param index the heap index of the block
+   * @return the slot the block is stored in
+   */
+  private int insertSlot(long blockId, int index) {
+    int mask = mSlotHeapIndices.length - 1;
+    int slot = hashSlot(blockId);
+    while (mSlotHeapIndices[slot] != EMPTY) {
+      slot = (slot + 1) & mask;
+    }
+    mSlotBlockIds[slot] = blockId;
+    mSlotHeapIndices[slot] = index;
+    return slot;
+  }
+
+  /**
+   * Empties a slot of the hash table, moving back the following entries of its probe sequence so
+   * that they can still be found.
+   *
+   * @param slot the slot to empty
+   */
+  private void deleteSlot(int slot) {
+    int mask = mSlotHeapIndices.length - 1;
+    int hole = slot;
+    for (int next = (hole + 1) & mask; mSlotHeapIndices[next] != EMPTY;
+        next = (next + 1) & mask) {
+      int home = hashSlot(mSlotBlockIds[next]);
+      // The entry can fill the hole unless its home slot lies cyclically in (hole, next]
+      boolean homeInRange = hole < next ? (home > hole && home <= next)
+          : (home > hole || home <= next);
+      if (!homeInRange) {
+        mSlotBlockIds[hole] = mSlotBlockIds[next];
+        mSlotHeapIndices[hole] = mSlotHeapIndices[next];
+        mHeapSlots[mSlotHeapIndices[hole]] = hole;
+        hole = next;
+      }
+    }
+    mSlotHeapIndices[hole] = EMPTY;
+  }
+
+  /**
+   * Iterates over the heap in ascending order of priority, by keeping a secondary heap of the
+   * indices of the entries which may come next: the children of the entries already returned.
+   */
+  private final class AscendingIterator implements Iterator<Long> {
+    private int[] mFrontier;
+    private int mFrontierSize;
+
+    AscendingIterator() {
+      mFrontier = new int[INITIAL_CAPACITY];
+      mFrontierSize = 0;
+      if (mSize > 0) {
+        push(0);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return mFrontierSize > 0;
+    }
+
+    @Override
+    public Long next() {
+      if (mFrontierSize == 0) {
+        throw new NoSuchElementException();
+      }
+      int index = mFrontier[0];
+      int last = mFrontier[-- mFrontierSize];
+      if (mFrontierSize > 0) {
+        mFrontier[0] = last;
+        siftFrontierDown();
+      }
+      for (int child = 2 * index + 1; child <= 2 * index + 2 && child < mSize; child ++) {
+        push(child);
+      }
+      return mHeapBlockIds[index];
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    private void push(int index) {
+      if (mFrontierSize == mFrontier.length) {
+        mFrontier = Arrays.copyOf(mFrontier, mFrontierSize * 2);
+      }
+      int pos = mFrontierSize ++;
+      while (pos > 0) {
+        int parent = (pos - 1) >>> 1;
+        if (mHeapPriorities[mFrontier[parent]] <= mHeapPriorities[index]) {
+          break;
+        }
+        mFrontier[pos] = mFrontier[parent];
+        pos = parent;
+      }
+      mFrontier[pos] = index;
+    }
+
+    private void siftFrontierDown() {
+      int pos = 0;
+      int index = mFrontier[0];
+      while (true) {
+        int child = 2 * pos + 1;
+        if (child >= mFrontierSize) {
+          break;
+        }
+        if (child + 1 < mFrontierSize
+            && mHeapPriorities[mFrontier[child + 1]] < mHeapPriorities[mFrontier[child]]) {
+          child ++;
+        }
+        if (mHeapPriorities[mFrontier[child]] >= mHeapPriorities[index]) {
+          break;
+        }
+        mFrontier[pos] = mFrontier[child];
+        pos = child;
+      }
+      mFrontier[pos] = index;
+    }
+  }
+}
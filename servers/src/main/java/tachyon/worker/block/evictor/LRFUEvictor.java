@@ -16,18 +16,10 @@
 package tachyon.worker.block.evictor;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Iterators;
 
 import tachyon.Constants;
 import tachyon.collections.Pair;
@@ -50,20 +42,29 @@ import tachyon.worker.block.meta.StorageTierView;
  * combines LRU and LFU, it evicts blocks with small frequency or large recency. When
  * {@link #mStepFactor} is close to 0, LRFU is close to LFU. Conversely, LRFU is close to LRU
  * when {@link #mStepFactor} is close to 1.
+ *
+ * Since F(t) = exp(-c * t) with c = {@link #mStepFactor} * ln({@link #mAttenuationFactor}), all the
+ * CRFs decay by the same factor as time passes, so their order does not change between accesses.
+ * Instead of the CRF, each block is therefore given the priority log(CRF(T)) + c * T, which does
+ * not depend on the current logic time T, and the blocks are kept in a {@link BlockPriorityHeap}
+ * ordered by it. An access only updates the priority of the accessed block, and evicting k blocks
+ * costs O(k log n) time.
  */
 public final class LRFUEvictor extends EvictorBase {
-  // Map from block id to the last updated logic time count
-  private final Map<Long, Long> mBlockIdToLastUpdateTime = new ConcurrentHashMap<Long, Long>();
-  // Map from block id to the CRF value of the block
-  private final Map<Long, Double> mBlockIdToCRFValue = new ConcurrentHashMap<Long, Double>();
+  /** The blocks ordered by their priority, guarded by itself. */
+  private final BlockPriorityHeap mBlockHeap = new BlockPriorityHeap();
+  /** The blocks to remove from the heap once the current eviction is done. */
+  private final List<Long> mBlocksToRemove = new ArrayList<Long>();
   // In the range of [0, 1]. Closer to 0, LRFU closer to LFU. Closer to 1, LRFU closer to LRU
   private final double mStepFactor;
   // In the range of [2, INF]
   private final double mAttenuationFactor;
+  /** The rate at which log(CRF) decays per logic time unit. */
+  private final double mDecayRate;
   private final TachyonConf mTachyonConf;
 
-  //logic time count
-  private AtomicLong mLogicTimeCount = new AtomicLong(0L);
+  // logic time count, guarded by mBlockHeap
+  private long mLogicTimeCount = 0L;
 
   /**
    * @param view a view of block metadata information
@@ -80,41 +81,38 @@ public final class LRFUEvictor extends EvictorBase {
         "Step factor should be in the range of [0.0, 1.0]");
     Preconditions.checkArgument(mAttenuationFactor >= 2.0,
         "Attenuation factor should be no less than 2.0");
+    mDecayRate = mStepFactor * Math.log(mAttenuationFactor);
 
-    // Preloading blocks
+    // Preloading blocks, with a CRF of 0
     for (StorageTierView tier : mManagerView.getTierViews()) {
       for (StorageDirView dir : tier.getDirViews()) {
         for (BlockMeta block : dir.getEvictableBlocks()) {
-          mBlockIdToLastUpdateTime.put(block.getBlockId(), 0L);
-          mBlockIdToCRFValue.put(block.getBlockId(), 0.0);
+          mBlockHeap.put(block.getBlockId(), Double.NEGATIVE_INFINITY);
         }
       }
     }
   }
 
-  /**
-   * Calculates weight of an access, which is the function value of
-   * F(t) = pow (1.0 / {@link #mAttenuationFactor}, t * {@link #mStepFactor})
-   *
-   * @param logicTimeInterval time interval since that access to current
-   * @return Function value of F(t)
-   */
-  private double calculateAccessWeight(long logicTimeInterval) {
-    return Math.pow(1.0 / mAttenuationFactor, logicTimeInterval * mStepFactor);
-  }
-
   @Override
   public EvictionPlan freeSpaceWithView(long bytesToBeAvailable, BlockStoreLocation location,
       BlockMetadataManagerView view) {
-    synchronized (mBlockIdToLastUpdateTime) {
-      updateCRFValue();
+    synchronized (mBlockHeap) {
       mManagerView = view;
 
       List<BlockTransferInfo> toMove = new ArrayList<BlockTransferInfo>();
       List<Pair<Long, BlockStoreLocation>> toEvict =
           new ArrayList<Pair<Long, BlockStoreLocation>>();
       EvictionPlan plan = new EvictionPlan(toMove, toEvict);
-      StorageDirView candidateDir = cascadingEvict(bytesToBeAvailable, location, plan);
+      StorageDirView candidateDir;
+      try {
+        candidateDir = cascadingEvict(bytesToBeAvailable, location, plan);
+      } finally {
+        // The heap cannot be modified while it is iterated
+        for (long blockId : mBlocksToRemove) {
+          mBlockHeap.remove(blockId);
+        }
+        mBlocksToRemove.clear();
+      }
 
       mManagerView.clearBlockMarks();
       if (candidateDir == null) {
@@ -127,30 +125,23 @@ public final class LRFUEvictor extends EvictorBase {
 
   @Override
   protected Iterator<Long> getBlockIterator() {
-    return Iterators.transform(getSortedCRF().iterator(),
-        new Function<Map.Entry<Long, Double>, Long>() {
-          @Override
-          public Long apply(Entry<Long, Double> input) {
-            return input.getKey();
-          }
-        });
-  }
+    final Iterator<Long> it = mBlockHeap.iterator();
+    return new Iterator<Long>() {
+      @Override
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+
+      @Override
+      public Long next() {
+        return it.next();
+      }
 
-  /**
-   * Sorts all blocks in ascending order of CRF
-   *
-   * @return the sorted CRF of all blocks
-   */
-  private List<Map.Entry<Long, Double>> getSortedCRF() {
-    List<Map.Entry<Long, Double>> sortedCRF =
-        new ArrayList<Map.Entry<Long, Double>>(mBlockIdToCRFValue.entrySet());
-    Collections.sort(sortedCRF, new Comparator<Map.Entry<Long, Double>>() {
       @Override
-      public int compare(Entry<Long, Double> o1, Entry<Long, Double> o2) {
-        return Double.compare(o1.getValue(), o2.getValue());
+      public void remove() {
+        // The block is removed from the heap by onRemoveBlockFromIterator after the iteration
       }
-    });
-    return sortedCRF;
+    };
   }
 
   @Override
@@ -175,67 +166,40 @@ public final class LRFUEvictor extends EvictorBase {
 
   @Override
   protected void onRemoveBlockFromIterator(long blockId) {
-    mBlockIdToLastUpdateTime.remove(blockId);
-    mBlockIdToCRFValue.remove(blockId);
-  }
-
-  /**
-   * This function is used to update CRF of all the blocks according to current logic time. When
-   * some block is accessed in some time, only CRF of that block itself will be updated to current
-   * time, other blocks who are not accessed recently will only be updated until
-   * {@link #freeSpaceWithView(long, BlockStoreLocation, BlockMetadataManagerView)} is called
-   * because blocks need to be sorted in the increasing order of CRF. When this function is called,
-   * {@link #mBlockIdToLastUpdateTime} and {@link #mBlockIdToCRFValue} need to be locked in case
-   * of the changing of values.
-   */
-  private void updateCRFValue() {
-    long currentLogicTime = mLogicTimeCount.get();
-    for (Entry<Long, Double> entry : mBlockIdToCRFValue.entrySet()) {
-      long blockId = entry.getKey();
-      double crfValue = entry.getValue();
-      mBlockIdToCRFValue.put(blockId, crfValue
-          * calculateAccessWeight(currentLogicTime - mBlockIdToLastUpdateTime.get(blockId)));
-      mBlockIdToLastUpdateTime.put(blockId, currentLogicTime);
-    }
+    mBlocksToRemove.add(blockId);
   }
 
   /**
-   * Updates {@link #mBlockIdToLastUpdateTime} and {@link #mBlockIdToCRFValue} when block is
-   * accessed or committed. Only CRF of the accessed or committed block will be updated, CRF
-   * of other blocks will be lazily updated (only when {@link #updateCRFValue()} is called).
-   * If the block is updated at the first time, CRF of the block will be set to 1.0, otherwise
-   * the CRF of the block will be set to {1.0 + old CRF * F(current time - last update time)}.
+   * Updates the priority of a block when it is accessed or committed. If the block is updated at
+   * the first time, CRF of the block will be set to 1.0, otherwise the CRF of the block will be set
+   * to {1.0 + old CRF * F(current time - last update time)}. Since the priority of a block is
+   * log(CRF(T)) + c * T, the new priority is c * T + log(1.0 + exp(old priority - c * T)).
    *
    * @param blockId id of the block to be accessed or committed
    */
   private void updateOnAccessAndCommit(long blockId) {
-    synchronized (mBlockIdToLastUpdateTime) {
-      long currentLogicTime = mLogicTimeCount.incrementAndGet();
-      // update CRF value
-      // CRF(currentLogicTime)=CRF(lastUpdateTime)*F(currentLogicTime-lastUpdateTime)+F(0)
-      if (mBlockIdToCRFValue.containsKey(blockId)) {
-        mBlockIdToCRFValue.put(blockId, mBlockIdToCRFValue.get(blockId)
-            * calculateAccessWeight(currentLogicTime - mBlockIdToLastUpdateTime.get(blockId))
-            + 1.0);
-      } else {
-        mBlockIdToCRFValue.put(blockId, 1.0);
+    synchronized (mBlockHeap) {
+      mLogicTimeCount ++;
+      double decay = mDecayRate * mLogicTimeCount;
+      double priority = decay;
+      if (mBlockHeap.contains(blockId)) {
+        // log(CRF(currentLogicTime)), where CRF was last updated at an earlier time
+        double logCRF = mBlockHeap.getPriority(blockId) - decay;
+        priority += Math.log1p(Math.exp(logCRF));
       }
-      // update currentLogicTime to lastUpdateTime
-      mBlockIdToLastUpdateTime.put(blockId, currentLogicTime);
+      mBlockHeap.put(blockId, priority);
     }
   }
 
   /**
-   * Updates {@link #mBlockIdToLastUpdateTime} and {@link #mBlockIdToCRFValue} when block is
-   * removed.
+   * Removes a block from the heap when it is removed.
    *
    * @param blockId id of the block to be removed
    */
   private void updateOnRemoveBlock(long blockId) {
-    synchronized (mBlockIdToLastUpdateTime) {
-      mLogicTimeCount.incrementAndGet();
-      mBlockIdToCRFValue.remove(blockId);
-      mBlockIdToLastUpdateTime.remove(blockId);
+    synchronized (mBlockHeap) {
+      mLogicTimeCount ++;
+      mBlockHeap.remove(blockId);
     }
   }
 }
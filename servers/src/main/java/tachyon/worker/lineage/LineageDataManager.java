@@ -17,16 +17,28 @@ package tachyon.worker.lineage;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
 
 import tachyon.Constants;
 import tachyon.Sessions;
@@ -36,7 +48,7 @@ import tachyon.exception.BlockDoesNotExistException;
 import tachyon.exception.InvalidWorkerStateException;
 import tachyon.thrift.FileInfo;
 import tachyon.underfs.UnderFileSystem;
-import tachyon.util.io.BufferUtils;
+import tachyon.util.ThreadFactoryUtils;
 import tachyon.util.io.PathUtils;
 import tachyon.worker.WorkerContext;
 import tachyon.worker.block.BlockDataManager;
@@ -44,15 +56,33 @@ import tachyon.worker.block.io.BlockReader;
 
 /**
  * Responsible for managing the lineage storing into under file system.
+ *
+ * Files are persisted concurrently, each by the thread calling {@link #persistFile}. While that
+ * thread writes a file to the under file system, a read-ahead thread reads the blocks of the file
+ * from the worker storage, up to a bounded number of chunks ahead of the writes. The writes to the
+ * under file system of all the files are throttled together to a configurable throughput.
  */
 public final class LineageDataManager {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /** The size of the chunks the blocks are read in while they are persisted */
+  private static final int CHUNK_SIZE_BYTES = 4 * Constants.MB;
+  /** The chunk marking the end of the blocks of a file */
+  private static final ByteBuffer END_OF_FILE = ByteBuffer.allocate(0);
+  /** The interval to check the read-ahead thread when waiting for a chunk */
+  private static final long READ_AHEAD_POLL_INTERVAL_MS = 100;
 
   private final UnderFileSystem mUfs;
   /** Block data manager for access block info */
   private final BlockDataManager mBlockDataManager;
+  /** The files persisted since the last call to {@link #popPersistedFiles}, guarded by this */
   private final List<Long> mPersistedFiles;
   private final TachyonConf mTachyonConf;
+  /** The threads reading the blocks ahead of the files being persisted */
+  private final ExecutorService mReadAheadExecutor;
+  /** The maximum number of chunks of a file read but not yet written */
+  private final int mReadAheadChunks;
+  /** Throttles the writes to the under file system, null if they are not throttled */
+  private final RateLimiter mUfsRateLimiter;
 
   public LineageDataManager(BlockDataManager blockDataManager) {
     mBlockDataManager = Preconditions.checkNotNull(blockDataManager);
@@ -61,21 +91,150 @@ public final class LineageDataManager {
     // Create Under FileSystem Client
     String ufsAddress = mTachyonConf.get(Constants.UNDERFS_ADDRESS);
     mUfs = UnderFileSystem.get(ufsAddress, mTachyonConf);
+    mReadAheadExecutor =
+        Executors.newCachedThreadPool(ThreadFactoryUtils.build("lineage-read-ahead-%d", true));
+    long readAheadBytes = mTachyonConf.getBytes(Constants.WORKER_LINEAGE_CHECKPOINT_READAHEAD);
+    mReadAheadChunks = (int) Math.max(1, readAheadBytes / CHUNK_SIZE_BYTES);
+    long bandwidth = mTachyonConf.getBytes(Constants.WORKER_LINEAGE_CHECKPOINT_BANDWIDTH);
+    mUfsRateLimiter = bandwidth > 0 ? RateLimiter.create(bandwidth) : null;
   }
 
   /**
-   * Persists the blocks of a file into the under file system.
+   * Persists the blocks of a file into the under file system. This method may be called
+   * concurrently for different files.
    *
    * @param fileId the id of the file
    * @param blockIds the list of block ids
    * @throws IOException if the file persistence fails
    */
-  public synchronized void persistFile(long fileId, List<Long> blockIds) throws IOException {
+  public void persistFile(long fileId, List<Long> blockIds) throws IOException {
     String dstPath = prepareUfsFilePath(fileId);
+    long persistedBytes;
+    long startTimeMs = System.currentTimeMillis();
+    Timer.Context timer = mBlockDataManager.getWorkerSource().timeUfsPersistFile();
+    try {
+      persistedBytes = writeFile(dstPath, blockIds);
+    } finally {
+      timer.stop();
+    }
+    LOG.info("persisted file {} of {} bytes in {} ms", fileId, persistedBytes,
+        System.currentTimeMillis() - startTimeMs);
+    synchronized (this) {
+      mPersistedFiles.add(fileId);
+    }
+  }
+
+  /**
+   * Writes the blocks of a file into a file in the under file system.
+   *
+   * @param dstPath the path of the file in the under file system
+   * @param blockIds the list of block ids
+   * @return the number of bytes written
+   * @throws IOException if the file cannot be created, or the blocks fail to be read or written
+   */
+  private long writeFile(String dstPath, List<Long> blockIds) throws IOException {
+    // The file is created before the blocks are read ahead, so that the read-ahead, which holds
+    // the lock of a block, is always cancelled below once it is started
     OutputStream outputStream = mUfs.create(dstPath);
+    if (outputStream == null) {
+      throw new IOException("Failed to create " + dstPath);
+    }
     final WritableByteChannel outputChannel = Channels.newChannel(outputStream);
 
-    for (long blockId : blockIds) {
+    // The buffers cycle from the read-ahead thread to this thread through filledChunks, and back
+    // through freeChunks, which bounds the memory used by the file.
+    BlockingQueue<ByteBuffer> filledChunks =
+        new ArrayBlockingQueue<ByteBuffer>(mReadAheadChunks + 1);
+    BlockingQueue<ByteBuffer> freeChunks = new ArrayBlockingQueue<ByteBuffer>(mReadAheadChunks);
+    Future<?> readAhead =
+        mReadAheadExecutor.submit(new BlockReadAhead(blockIds, filledChunks, freeChunks));
+    long persistedBytes = 0;
+    try {
+      ByteBuffer chunk;
+      while ((chunk = takeChunk(filledChunks, readAhead)) != END_OF_FILE) {
+        if (mUfsRateLimiter != null) {
+          mUfsRateLimiter.acquire(chunk.remaining());
+        }
+        persistedBytes += chunk.remaining();
+        while (chunk.hasRemaining()) {
+          outputChannel.write(chunk);
+        }
+        chunk.clear();
+        freeChunks.offer(chunk);
+      }
+      outputStream.flush();
+    } finally {
+      readAhead.cancel(true);
+      outputChannel.close();
+      outputStream.close();
+    }
+    return persistedBytes;
+  }
+
+  /**
+   * Waits for the next chunk read ahead for a file.
+   *
+   * @param filledChunks the queue of chunks read ahead
+   * @param readAhead the task reading the chunks
+   * @return the next chunk, or {@link #END_OF_FILE} once all the blocks are read
+   * @throws IOException if the read-ahead fails, or the wait is interrupted
+   */
+  private ByteBuffer takeChunk(BlockingQueue<ByteBuffer> filledChunks, Future<?> readAhead)
+      throws IOException {
+    try {
+      while (true) {
+        ByteBuffer chunk = filledChunks.poll(READ_AHEAD_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (chunk != null) {
+          return chunk;
+        }
+        if (readAhead.isDone()) {
+          // Throws the failure of the read-ahead, if any
+          readAhead.get();
+          // Otherwise the read-ahead has queued all its chunks and the end of file
+          return filledChunks.remove();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfInstanceOf(e.getCause(), IOException.class);
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Reads the blocks of a file into chunks, to be written to the under file system by the thread
+   * persisting the file. The blocks are locked while they are read.
+   */
+  private final class BlockReadAhead implements Callable<Void> {
+    private final List<Long> mBlockIds;
+    private final BlockingQueue<ByteBuffer> mFilledChunks;
+    private final BlockingQueue<ByteBuffer> mFreeChunks;
+    private int mAllocatedChunks;
+
+    /**
+     * @param blockIds the ids of the blocks to read, in order
+     * @param filledChunks the queue to put the chunks read to
+     * @param freeChunks the queue of the chunks written, to be reused
+     */
+    BlockReadAhead(List<Long> blockIds, BlockingQueue<ByteBuffer> filledChunks,
+        BlockingQueue<ByteBuffer> freeChunks) {
+      mBlockIds = blockIds;
+      mFilledChunks = filledChunks;
+      mFreeChunks = freeChunks;
+    }
+
+    @Override
+    public Void call() throws IOException, InterruptedException {
+      for (long blockId : mBlockIds) {
+        readBlock(blockId);
+      }
+      mFilledChunks.put(END_OF_FILE);
+      return null;
+    }
+
+    private void readBlock(long blockId) throws IOException, InterruptedException {
       long lockId;
       try {
         lockId = mBlockDataManager.lockBlock(Sessions.CHECKPOINT_SESSION_ID, blockId);
@@ -83,7 +242,6 @@ public final class LineageDataManager {
         throw new IOException(e);
       }
 
-      // obtain block reader
       try {
         BlockReader reader;
         try {
@@ -95,10 +253,25 @@ public final class LineageDataManager {
           throw new IOException(e);
         }
 
-        // write content out
-        ReadableByteChannel inputChannel = reader.getChannel();
-        BufferUtils.fastCopy(inputChannel, outputChannel);
-        reader.close();
+        try {
+          ReadableByteChannel inputChannel = reader.getChannel();
+          boolean endOfBlock = false;
+          while (!endOfBlock) {
+            ByteBuffer chunk = getFreeChunk();
+            while (chunk.hasRemaining() && !endOfBlock) {
+              endOfBlock = inputChannel.read(chunk) == -1;
+            }
+            chunk.flip();
+            if (chunk.hasRemaining()) {
+              mFilledChunks.put(chunk);
+            } else {
+              chunk.clear();
+              mFreeChunks.offer(chunk);
+            }
+          }
+        } finally {
+          reader.close();
+        }
       } finally {
         try {
           mBlockDataManager.unlockBlock(lockId);
@@ -108,10 +281,17 @@ public final class LineageDataManager {
       }
     }
 
-    outputStream.flush();
-    outputChannel.close();
-    outputStream.close();
-    mPersistedFiles.add(fileId);
+    private ByteBuffer getFreeChunk() throws InterruptedException {
+      ByteBuffer chunk = mFreeChunks.poll();
+      if (chunk == null) {
+        if (mAllocatedChunks < mReadAheadChunks) {
+          mAllocatedChunks ++;
+          return ByteBuffer.allocate(CHUNK_SIZE_BYTES);
+        }
+        chunk = mFreeChunks.take();
+      }
+      return chunk;
+    }
   }
 
   /**
@@ -136,6 +316,9 @@ public final class LineageDataManager {
     return dstPath;
   }
 
+  /**
+   * @return the files persisted since the last call to this method
+   */
   public synchronized List<Long> popPersistedFiles() {
     List<Long> toReturn = Lists.newArrayList();
     toReturn.addAll(mPersistedFiles);
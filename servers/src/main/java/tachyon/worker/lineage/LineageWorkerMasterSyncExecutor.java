@@ -31,6 +31,8 @@ import tachyon.heartbeat.HeartbeatExecutor;
 import tachyon.thrift.CheckpointFile;
 import tachyon.thrift.CommandType;
 import tachyon.thrift.LineageCommand;
+import tachyon.util.ThreadFactoryUtils;
+import tachyon.worker.WorkerContext;
 import tachyon.worker.WorkerIdRegistry;
 import tachyon.worker.block.BlockMasterSync;
 
@@ -49,19 +51,20 @@ import tachyon.worker.block.BlockMasterSync;
 final class LineageWorkerMasterSyncExecutor implements HeartbeatExecutor {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
-  private static final int DEFAULT_FILE_PERSISTER_POOL_SIZE = 10;
   /** Logic for managing lineage file persistence */
   private final LineageDataManager mLineageDataManager;
   /** Client for communicating to lineage master */
   private final LineageMasterClient mMasterClient;
-  /** The thread pool to persist file */
-  private final ExecutorService mFixedExecutionService =
-      Executors.newFixedThreadPool(DEFAULT_FILE_PERSISTER_POOL_SIZE);
+  /** The thread pool to persist files, whose size bounds the number of files persisted at once */
+  private final ExecutorService mFixedExecutionService;
 
   public LineageWorkerMasterSyncExecutor(LineageDataManager lineageDataManager,
       LineageMasterClient masterClient) {
     mLineageDataManager = Preconditions.checkNotNull(lineageDataManager);
     mMasterClient = Preconditions.checkNotNull(masterClient);
+    mFixedExecutionService = Executors.newFixedThreadPool(
+        WorkerContext.getConf().getInt(Constants.WORKER_LINEAGE_CHECKPOINT_THREADS),
+        ThreadFactoryUtils.build("lineage-file-persister-%d", true));
   }
 
   @Override
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.netty;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import com.google.common.base.Preconditions;
+
+import tachyon.worker.block.io.BlockWriter;
+
+/**
+ * The state of a block being written remotely through a data server channel. The block writer is
+ * kept open across the write requests of the block, and space is reserved ahead of the writes.
+ * This class is not thread safe; it is only accessed by the event loop of its channel.
+ */
+final class BlockWriteSession implements Closeable {
+  private final long mSessionId;
+  private final long mBlockId;
+  private final BlockWriter mWriter;
+  /** The number of bytes reserved for the block. */
+  private long mReservedBytes;
+  /** The number of bytes written to the block. */
+  private long mWrittenBytes;
+
+  BlockWriteSession(long sessionId, long blockId, BlockWriter writer, long reservedBytes,
+      long writtenBytes) {
+    mSessionId = sessionId;
+    mBlockId = blockId;
+    mWriter = Preconditions.checkNotNull(writer);
+    mReservedBytes = reservedBytes;
+    mWrittenBytes = writtenBytes;
+  }
+
+  long getSessionId() {
+    return mSessionId;
+  }
+
+  long getBlockId() {
+    return mBlockId;
+  }
+
+  BlockWriter getWriter() {
+    return mWriter;
+  }
+
+  long getReservedBytes() {
+    return mReservedBytes;
+  }
+
+  long getWrittenBytes() {
+    return mWrittenBytes;
+  }
+
+  void addReservedBytes(long bytes) {
+    mReservedBytes += bytes;
+  }
+
+  void addWrittenBytes(long bytes) {
+    mWrittenBytes += bytes;
+  }
+
+  @Override
+  public void close() throws IOException {
+    mWriter.close();
+  }
+}
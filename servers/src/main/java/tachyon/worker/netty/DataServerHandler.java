@@ -18,10 +18,16 @@ package tachyon.worker.netty;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 
 import io.netty.channel.ChannelFuture;
@@ -29,15 +35,19 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 
 import tachyon.Constants;
 import tachyon.StorageTierAssoc;
 import tachyon.WorkerStorageTierAssoc;
 import tachyon.conf.TachyonConf;
-import tachyon.exception.BlockDoesNotExistException;
-import tachyon.exception.InvalidWorkerStateException;
+import tachyon.exception.WorkerOutOfSpaceException;
 import tachyon.network.protocol.RPCBlockReadRequest;
 import tachyon.network.protocol.RPCBlockReadResponse;
+import tachyon.network.protocol.RPCBlockReadStreamCancelRequest;
+import tachyon.network.protocol.RPCBlockReadStreamRequest;
+import tachyon.network.protocol.RPCBlockWriteCloseRequest;
 import tachyon.network.protocol.RPCBlockWriteRequest;
 import tachyon.network.protocol.RPCBlockWriteResponse;
 import tachyon.network.protocol.RPCErrorResponse;
@@ -47,6 +57,7 @@ import tachyon.network.protocol.RPCResponse;
 import tachyon.network.protocol.databuffer.DataBuffer;
 import tachyon.network.protocol.databuffer.DataByteBuffer;
 import tachyon.network.protocol.databuffer.DataFileChannel;
+import tachyon.util.ThreadFactoryUtils;
 import tachyon.worker.block.BlockDataManager;
 import tachyon.worker.block.io.BlockReader;
 import tachyon.worker.block.io.BlockWriter;
@@ -58,11 +69,21 @@ import tachyon.worker.block.io.BlockWriter;
 @ChannelHandler.Sharable
 public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMessage> {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /** The blocks being written through a channel, keyed by block id. */
+  private static final AttributeKey<Map<Long, BlockWriteSession>> WRITE_SESSIONS =
+      AttributeKey.valueOf("writeSessions");
+  /** The stream of a block being sent through a channel, which carries one stream at a time. */
+  private static final AttributeKey<BlockReadStreamer> READ_STREAM =
+      AttributeKey.valueOf("readStream");
 
   private final BlockDataManager mDataManager;
   private final TachyonConf mTachyonConf;
   private final StorageTierAssoc mStorageTierAssoc;
   private final FileTransferType mTransferType;
+  private final long mWriteReservationBytes;
+  /** Commits the blocks written remotely, since a commit blocks on an RPC to the master. */
+  private final ExecutorService mCommitExecutor =
+      Executors.newCachedThreadPool(ThreadFactoryUtils.build("data-server-commit-%d", true));
 
   public DataServerHandler(final BlockDataManager dataManager, TachyonConf tachyonConf) {
     mDataManager = Preconditions.checkNotNull(dataManager);
@@ -70,6 +91,8 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
     mStorageTierAssoc = new WorkerStorageTierAssoc(mTachyonConf);
     mTransferType = mTachyonConf.getEnum(Constants.WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE,
         FileTransferType.class);
+    mWriteReservationBytes =
+        mTachyonConf.getBytes(Constants.WORKER_NETWORK_NETTY_WRITE_RESERVATION_BYTES);
   }
 
   @Override
@@ -80,10 +103,22 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
         assert msg instanceof RPCBlockReadRequest;
         handleBlockReadRequest(ctx, (RPCBlockReadRequest) msg);
         break;
+      case RPC_BLOCK_READ_STREAM_REQUEST:
+        assert msg instanceof RPCBlockReadStreamRequest;
+        handleBlockReadStreamRequest(ctx, (RPCBlockReadStreamRequest) msg);
+        break;
+      case RPC_BLOCK_READ_STREAM_CANCEL_REQUEST:
+        assert msg instanceof RPCBlockReadStreamCancelRequest;
+        handleBlockReadStreamCancelRequest(ctx, (RPCBlockReadStreamCancelRequest) msg);
+        break;
       case RPC_BLOCK_WRITE_REQUEST:
         assert msg instanceof RPCBlockWriteRequest;
         handleBlockWriteRequest(ctx, (RPCBlockWriteRequest) msg);
         break;
+      case RPC_BLOCK_WRITE_CLOSE_REQUEST:
+        assert msg instanceof RPCBlockWriteCloseRequest;
+        handleBlockWriteCloseRequest(ctx, (RPCBlockWriteCloseRequest) msg);
+        break;
       default:
         RPCErrorResponse resp = new RPCErrorResponse(RPCResponse.Status.UNKNOWN_MESSAGE_ERROR);
         ctx.writeAndFlush(resp);
@@ -98,6 +133,19 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
     ctx.close();
   }
 
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    // The writes of the blocks still open on this channel are abandoned. Their temporary blocks are
+    // cleaned up with the session of the client.
+    Map<Long, BlockWriteSession> sessions = ctx.channel().attr(WRITE_SESSIONS).getAndRemove();
+    if (sessions != null) {
+      for (BlockWriteSession session : sessions.values()) {
+        closeQuietly(session);
+      }
+    }
+    super.channelInactive(ctx);
+  }
+
   private void handleBlockReadRequest(final ChannelHandlerContext ctx,
       final RPCBlockReadRequest req) throws IOException {
     final long blockId = req.getBlockId();
@@ -105,42 +153,88 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
     final long len = req.getLength();
     final long lockId = req.getLockId();
     final long sessionId = req.getSessionId();
+    // The timer is stopped once the response, including its data, is written to the socket
+    Timer.Context timer = mDataManager.getWorkerSource().timeDataServerReadBlock();
 
-    BlockReader reader;
+    // The channel is kept open after the response, since clients multiplex many requests over
+    // long-lived connections. Only the resources of this request are released.
+    BlockReader reader = null;
     try {
       reader = mDataManager.readBlockRemote(sessionId, blockId, lockId);
-    } catch (BlockDoesNotExistException nfe) {
-      throw new IOException(nfe);
-    } catch (InvalidWorkerStateException fpe) {
-      throw new IOException(fpe);
-    }
-    try {
       req.validate();
       final long fileLength = reader.getLength();
-      validateBounds(req, fileLength);
+      validateBounds(offset, len, fileLength);
       final long readLength = returnLength(offset, len, fileLength);
       RPCBlockReadResponse resp = new RPCBlockReadResponse(blockId, offset, readLength,
-          getDataBuffer(req, reader, readLength), RPCResponse.Status.SUCCESS);
+          getDataBuffer(reader, offset, readLength), RPCResponse.Status.SUCCESS,
+          req.getRequestId());
+      mDataManager.accessBlock(sessionId, blockId);
       ChannelFuture future = ctx.writeAndFlush(resp);
-      future.addListener(ChannelFutureListener.CLOSE);
       future.addListener(new ClosableResourceChannelListener(reader));
-      mDataManager.accessBlock(sessionId, blockId);
+      future.addListener(new ClosableResourceChannelListener(timer));
       LOG.info("Preparation for responding to remote block request for: {} done.", blockId);
     } catch (Exception e) {
       LOG.error("The file is not here : {}", e.getMessage(), e);
       RPCBlockReadResponse resp =
           RPCBlockReadResponse.createErrorResponse(req, RPCResponse.Status.FILE_DNE);
-      ChannelFuture future = ctx.writeAndFlush(resp);
-      future.addListener(ChannelFutureListener.CLOSE);
+      ctx.writeAndFlush(resp).addListener(new ClosableResourceChannelListener(timer));
       if (reader != null) {
         reader.close();
       }
     }
   }
 
-  // TODO(hy): This write request handler is very simple in order to be stateless. Therefore, the
-  // block file is opened and closed for every request. If this is too slow, then this handler
-  // should be optimized to keep state.
+  private void handleBlockReadStreamRequest(final ChannelHandlerContext ctx,
+      final RPCBlockReadStreamRequest req) throws IOException {
+    final long blockId = req.getBlockId();
+    final long offset = req.getOffset();
+    final long len = req.getLength();
+    // The timer is stopped once the whole stream is written to the socket, or fails
+    Timer.Context timer = mDataManager.getWorkerSource().timeDataServerReadBlock();
+
+    BlockReader reader = null;
+    try {
+      reader = mDataManager.readBlockRemote(req.getSessionId(), blockId, req.getLockId());
+      req.validate();
+      final long fileLength = reader.getLength();
+      validateBounds(offset, len, fileLength);
+      final long readLength = returnLength(offset, len, fileLength);
+      mDataManager.accessBlock(req.getSessionId(), blockId);
+      BlockReadStreamer streamer = new BlockReadStreamer(ctx, req, reader, timer,
+          offset + readLength);
+      ctx.channel().attr(READ_STREAM).set(streamer);
+      streamer.sendNextChunk();
+      LOG.debug("Started streaming remote block {} from offset {}", blockId, offset);
+    } catch (Exception e) {
+      LOG.error("The file is not here : {}", e.getMessage(), e);
+      RPCBlockReadResponse resp = new RPCBlockReadResponse(blockId, offset, 0, null,
+          RPCResponse.Status.FILE_DNE, req.getRequestId());
+      ctx.writeAndFlush(resp).addListener(new ClosableResourceChannelListener(timer));
+      if (reader != null) {
+        reader.close();
+      }
+    }
+  }
+
+  /**
+   * Cancels the stream open on the channel, if it is the one of the request. The stream is ended
+   * with its usual empty response once the chunk being sent is written, so the client receives
+   * no data after that response and can reuse the channel.
+   */
+  private void handleBlockReadStreamCancelRequest(final ChannelHandlerContext ctx,
+      final RPCBlockReadStreamCancelRequest req) {
+    BlockReadStreamer streamer = ctx.channel().attr(READ_STREAM).get();
+    if (streamer != null && streamer.getRequestId() == req.getRequestId()) {
+      streamer.cancel();
+    }
+  }
+
+  /**
+   * Handles a write to a block. The first write of a block opens a {@link BlockWriteSession} on
+   * the channel, which keeps the block writer open for the following writes until the block is
+   * closed with a {@link RPCBlockWriteCloseRequest}. Space is reserved in increments of at least
+   * the configured reservation size, so most writes do not need to request space.
+   */
   private void handleBlockWriteRequest(final ChannelHandlerContext ctx,
       final RPCBlockWriteRequest req) throws IOException {
     final long sessionId = req.getSessionId();
@@ -148,38 +242,171 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
     final long offset = req.getOffset();
     final long length = req.getLength();
     final DataBuffer data = req.getPayloadDataBuffer();
+    Timer.Context timer = mDataManager.getWorkerSource().timeDataServerWriteBlock();
 
-    BlockWriter writer = null;
+    Map<Long, BlockWriteSession> sessions = getWriteSessions(ctx);
+    BlockWriteSession session = sessions.get(blockId);
     try {
       req.validate();
       ByteBuffer buffer = data.getReadOnlyByteBuffer();
 
-      if (offset == 0) {
-        // This is the first write to the block, so create the temp block file. The file will only
-        // be created if the first write starts at offset 0. This allocates enough space for the
-        // write.
-        mDataManager.createBlockRemote(sessionId, blockId, mStorageTierAssoc.getAlias(0), length);
-      } else {
-        // Allocate enough space in the existing temporary block for the write.
-        mDataManager.requestSpace(sessionId, blockId, length);
+      if (session != null && (offset == 0 || session.getSessionId() != sessionId
+          || session.getWrittenBytes() != offset)) {
+        // The session does not continue with this write, e.g. the block is written again.
+        sessions.remove(blockId);
+        closeQuietly(session);
+        session = null;
+      }
+      if (session == null) {
+        session = openWriteSession(sessionId, blockId, offset, length);
+        sessions.put(blockId, session);
       }
-      writer = mDataManager.getTempBlockWriterRemote(sessionId, blockId);
-      writer.append(buffer);
+      long missingBytes = offset + length - session.getReservedBytes();
+      if (missingBytes > 0) {
+        session.addReservedBytes(reserveSpace(sessionId, blockId, missingBytes, false));
+      }
+      session.getWriter().append(buffer);
+      session.addWrittenBytes(length);
 
-      RPCBlockWriteResponse resp =
-          new RPCBlockWriteResponse(sessionId, blockId, offset, length, RPCResponse.Status.SUCCESS);
-      ChannelFuture future = ctx.writeAndFlush(resp);
-      future.addListener(ChannelFutureListener.CLOSE);
-      future.addListener(new ClosableResourceChannelListener(writer));
+      RPCBlockWriteResponse resp = new RPCBlockWriteResponse(sessionId, blockId, offset, length,
+          RPCResponse.Status.SUCCESS, req.getRequestId());
+      ctx.writeAndFlush(resp).addListener(new ClosableResourceChannelListener(timer));
     } catch (Exception e) {
       LOG.error("Error writing remote block : {}", e.getMessage(), e);
       RPCBlockWriteResponse resp =
           RPCBlockWriteResponse.createErrorResponse(req, RPCResponse.Status.WRITE_ERROR);
-      ChannelFuture future = ctx.writeAndFlush(resp);
-      future.addListener(ChannelFutureListener.CLOSE);
-      if (writer != null) {
-        writer.close();
+      ctx.writeAndFlush(resp).addListener(new ClosableResourceChannelListener(timer));
+      if (session != null) {
+        sessions.remove(blockId);
+        closeQuietly(session);
+      }
+    }
+  }
+
+  /**
+   * Closes a block written remotely. The commit of the block is sent to the master, so it runs on
+   * the commit executor instead of the event loop, and the response is written once it finishes.
+   * The close is timed until its response is written, including the commit.
+   */
+  private void handleBlockWriteCloseRequest(final ChannelHandlerContext ctx,
+      final RPCBlockWriteCloseRequest req) {
+    final long sessionId = req.getSessionId();
+    final long blockId = req.getBlockId();
+    final Timer.Context timer = mDataManager.getWorkerSource().timeDataServerWriteBlockClose();
+
+    BlockWriteSession session = getWriteSessions(ctx).remove(blockId);
+    final long writtenBytes = session == null ? 0 : session.getWrittenBytes();
+    try {
+      if (session != null) {
+        session.close();
+      }
+    } catch (Exception e) {
+      LOG.error("Error closing remote block {} : {}", blockId, e.getMessage(), e);
+      writeCloseResponse(ctx, req, timer, writtenBytes, RPCResponse.Status.WRITE_ERROR);
+      return;
+    }
+    if (!req.isCommit()) {
+      writeCloseResponse(ctx, req, timer, writtenBytes, RPCResponse.Status.SUCCESS);
+      return;
+    }
+    try {
+      mCommitExecutor.execute(new Runnable() {
+        @Override
+        public void run() {
+          RPCResponse.Status status = RPCResponse.Status.SUCCESS;
+          try {
+            mDataManager.commitBlock(sessionId, blockId);
+          } catch (Exception e) {
+            LOG.error("Error committing remote block {} : {}", blockId, e.getMessage(), e);
+            status = RPCResponse.Status.WRITE_ERROR;
+          }
+          writeCloseResponse(ctx, req, timer, writtenBytes, status);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      LOG.error("Error committing remote block {} : {}", blockId, e.getMessage(), e);
+      writeCloseResponse(ctx, req, timer, writtenBytes, RPCResponse.Status.WRITE_ERROR);
+    }
+  }
+
+  private void writeCloseResponse(ChannelHandlerContext ctx, RPCBlockWriteCloseRequest req,
+      Timer.Context timer, long writtenBytes, RPCResponse.Status status) {
+    ctx.writeAndFlush(new RPCBlockWriteResponse(req.getSessionId(), req.getBlockId(), 0,
+        writtenBytes, status, req.getRequestId()))
+        .addListener(new ClosableResourceChannelListener(timer));
+  }
+
+  /**
+   * Stops committing blocks. The commits already started still finish.
+   */
+  void close() {
+    mCommitExecutor.shutdown();
+  }
+
+  /**
+   * Opens the writer of a block written remotely. If the write starts at offset 0, the temporary
+   * block is created first; otherwise it must already exist.
+   */
+  private BlockWriteSession openWriteSession(long sessionId, long blockId, long offset,
+      long length) throws Exception {
+    long reservedBytes = offset;
+    if (offset == 0) {
+      reservedBytes = reserveSpace(sessionId, blockId, length, true);
+    }
+    BlockWriter writer = mDataManager.getTempBlockWriterRemote(sessionId, blockId);
+    return new BlockWriteSession(sessionId, blockId, writer, reservedBytes, offset);
+  }
+
+  /**
+   * Reserves space for a block being written, in an increment of at least the configured
+   * reservation size. If that much space is not available, only the needed bytes are reserved.
+   *
+   * @param sessionId the id of the session
+   * @param blockId the id of the block
+   * @param bytes the number of bytes needed
+   * @param create whether to create the temporary block with the reserved space
+   * @return the number of bytes reserved
+   */
+  private long reserveSpace(long sessionId, long blockId, long bytes, boolean create)
+      throws Exception {
+    long increment = Math.max(bytes, mWriteReservationBytes);
+    try {
+      reserveSpaceInternal(sessionId, blockId, increment, create);
+      return increment;
+    } catch (WorkerOutOfSpaceException e) {
+      if (increment == bytes) {
+        throw e;
       }
+      reserveSpaceInternal(sessionId, blockId, bytes, create);
+      return bytes;
+    }
+  }
+
+  private void reserveSpaceInternal(long sessionId, long blockId, long bytes, boolean create)
+      throws Exception {
+    if (create) {
+      mDataManager.createBlockRemote(sessionId, blockId, mStorageTierAssoc.getAlias(0), bytes);
+    } else {
+      mDataManager.requestSpace(sessionId, blockId, bytes);
+    }
+  }
+
+  private Map<Long, BlockWriteSession> getWriteSessions(ChannelHandlerContext ctx) {
+    Attribute<Map<Long, BlockWriteSession>> attr = ctx.channel().attr(WRITE_SESSIONS);
+    Map<Long, BlockWriteSession> sessions = attr.get();
+    if (sessions == null) {
+      // Only the event loop of the channel accesses its sessions.
+      sessions = new HashMap<Long, BlockWriteSession>();
+      attr.set(sessions);
+    }
+    return sessions;
+  }
+
+  private void closeQuietly(BlockWriteSession session) {
+    try {
+      session.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close the writer of block {}", session.getBlockId(), e);
     }
   }
 
@@ -191,40 +418,133 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
     return (len == -1) ? fileLength - offset : len;
   }
 
-  private void validateBounds(final RPCBlockReadRequest req, final long fileLength) {
-    Preconditions.checkArgument(req.getOffset() <= fileLength,
-        "Offset(%s) is larger than file length(%s)", req.getOffset(), fileLength);
-    Preconditions.checkArgument(
-        req.getLength() == -1 || req.getOffset() + req.getLength() <= fileLength,
-        "Offset(%s) plus length(%s) is larger than file length(%s)", req.getOffset(),
-        req.getLength(), fileLength);
+  private void validateBounds(final long offset, final long len, final long fileLength) {
+    Preconditions.checkArgument(offset <= fileLength,
+        "Offset(%s) is larger than file length(%s)", offset, fileLength);
+    Preconditions.checkArgument(len == -1 || offset + len <= fileLength,
+        "Offset(%s) plus length(%s) is larger than file length(%s)", offset, len, fileLength);
   }
 
   /**
    * Returns the appropriate {@link DataBuffer} representing the data to send, depending on the
    * configurable transfer type.
    *
-   * @param req The initiating {@link RPCBlockReadRequest}
    * @param reader The {@link BlockReader} for the block to read
+   * @param offset The offset, in bytes, of the data to read from the block
    * @param readLength The length, in bytes, of the data to read from the block
    * @return a {@link DataBuffer} representing the data
    * @throws IOException
    * @throws IllegalArgumentException
    */
-  private DataBuffer getDataBuffer(RPCBlockReadRequest req, BlockReader reader, long readLength)
+  private DataBuffer getDataBuffer(BlockReader reader, long offset, long readLength)
       throws IOException, IllegalArgumentException {
     switch (mTransferType) {
       case MAPPED:
-        ByteBuffer data = reader.read(req.getOffset(), (int) readLength);
+        ByteBuffer data = reader.read(offset, (int) readLength);
         return new DataByteBuffer(data, readLength);
       case TRANSFER: // intend to fall through as TRANSFER is the default type.
       default:
         if (reader.getChannel() instanceof FileChannel) {
-          return new DataFileChannel((FileChannel) reader.getChannel(), req.getOffset(),
-              readLength);
+          return new DataFileChannel((FileChannel) reader.getChannel(), offset, readLength);
         }
         reader.close();
         throw new IllegalArgumentException("Only FileChannel is supported!");
     }
   }
+
+  /**
+   * Streams a range of a block to the client as a sequence of {@link RPCBlockReadResponse}s of at
+   * most the requested chunk size, followed by an empty response marking the end of the stream.
+   * The next chunk is only written once the previous one has been flushed to the socket, so a
+   * slow client throttles the reads from the block instead of the data piling up in memory. A
+   * cancelled stream ends early, at the next chunk. The block reader is closed, and the timer of
+   * the read stopped, when the stream ends or fails. The streamer is only accessed by the event
+   * loop of its channel.
+   */
+  private final class BlockReadStreamer implements ChannelFutureListener {
+    private final ChannelHandlerContext mCtx;
+    private final RPCBlockReadStreamRequest mRequest;
+    private final BlockReader mReader;
+    private final Timer.Context mTimer;
+    private final long mEnd;
+    private long mPos;
+    private boolean mCancelled = false;
+
+    BlockReadStreamer(ChannelHandlerContext ctx, RPCBlockReadStreamRequest req, BlockReader reader,
+        Timer.Context timer, long end) {
+      mCtx = ctx;
+      mRequest = req;
+      mReader = reader;
+      mTimer = timer;
+      mEnd = end;
+      mPos = req.getOffset();
+    }
+
+    @Override
+    public void operationComplete(ChannelFuture future) throws Exception {
+      if (!future.isSuccess()) {
+        LOG.warn("Failed to stream block {} to the client", mRequest.getBlockId(), future.cause());
+        mTimer.stop();
+        mReader.close();
+        clearStream();
+        return;
+      }
+      sendNextChunk();
+    }
+
+    /**
+     * @return the id of the stream request
+     */
+    long getRequestId() {
+      return mRequest.getRequestId();
+    }
+
+    /**
+     * Makes the next chunk the end of the stream.
+     */
+    void cancel() {
+      mCancelled = true;
+    }
+
+    void sendNextChunk() throws IOException {
+      final long blockId = mRequest.getBlockId();
+      if (mPos == mEnd || mCancelled) {
+        RPCBlockReadResponse resp = new RPCBlockReadResponse(blockId, mPos, 0, null,
+            RPCResponse.Status.SUCCESS, mRequest.getRequestId());
+        end(mCtx.writeAndFlush(resp));
+        return;
+      }
+      long chunkLength = Math.min(mRequest.getChunkSize(), mEnd - mPos);
+      RPCBlockReadResponse resp;
+      try {
+        resp = new RPCBlockReadResponse(blockId, mPos, chunkLength,
+            getDataBuffer(mReader, mPos, chunkLength), RPCResponse.Status.SUCCESS,
+            mRequest.getRequestId());
+      } catch (Exception e) {
+        LOG.error("Error streaming remote block {} : {}", blockId, e.getMessage(), e);
+        resp = new RPCBlockReadResponse(blockId, mPos, 0, null, RPCResponse.Status.FILE_DNE,
+            mRequest.getRequestId());
+        end(mCtx.writeAndFlush(resp));
+        return;
+      }
+      mPos += chunkLength;
+      mCtx.writeAndFlush(resp).addListener(this);
+    }
+
+    /**
+     * Releases the reader and stops the timer once the last response of the stream is written.
+     */
+    private void end(ChannelFuture future) {
+      clearStream();
+      future.addListener(new ClosableResourceChannelListener(mReader));
+      future.addListener(new ClosableResourceChannelListener(mTimer));
+    }
+
+    /**
+     * Forgets this stream on its channel, so that a late cancel does not reach it.
+     */
+    private void clearStream() {
+      mCtx.channel().attr(READ_STREAM).compareAndSet(this, null);
+    }
+  }
 }
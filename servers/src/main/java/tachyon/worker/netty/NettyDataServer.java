@@ -67,6 +67,7 @@ public final class NettyDataServer implements DataServer {
     mChannelFuture.channel().close().awaitUninterruptibly();
     mBootstrap.group().shutdownGracefully(quietPeriodSecs, timeoutSecs, TimeUnit.SECONDS);
     mBootstrap.childGroup().shutdownGracefully(quietPeriodSecs, timeoutSecs, TimeUnit.SECONDS);
+    mDataServerHandler.close();
   }
 
   private ServerBootstrap createBootstrap() {
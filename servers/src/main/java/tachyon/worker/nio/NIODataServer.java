@@ -36,6 +36,7 @@ import com.google.common.base.Throwables;
 
 import tachyon.Constants;
 import tachyon.conf.TachyonConf;
+import tachyon.network.protocol.RPCResponse;
 import tachyon.util.network.NetworkAddressUtils;
 import tachyon.worker.DataServer;
 import tachyon.worker.DataServerMessage;
@@ -202,6 +203,17 @@ public final class NIODataServer implements Runnable, DataServer {
     }
 
     if (tMessage.isMessageReady()) {
+      // The request is complete, so a later request on this channel starts a new message.
+      mReceivingData.remove(socketChannel);
+      if (tMessage.getStatus() != null) {
+        // The request is not a block read request, e.g. a streamed read, which the client then
+        // retries as block read requests.
+        LOG.warn("Rejecting unsupported request: {}", tMessage.getStatus().getMessage());
+        key.interestOps(SelectionKey.OP_WRITE);
+        mSendingData.put(socketChannel,
+            DataServerMessage.createErrorResponseMessage(tMessage.getStatus()));
+        return;
+      }
       if (tMessage.getBlockId() <= 0) {
         LOG.error("Invalid block id {}", tMessage.getBlockId());
         return;
@@ -230,6 +242,7 @@ public final class NIODataServer implements Runnable, DataServer {
       DataServerMessage tResponseMessage = DataServerMessage.createBlockResponseMessage(true,
           blockId, tMessage.getOffset(), dataLen, data);
       tResponseMessage.setLockId(lockId);
+      tResponseMessage.setRequestId(tMessage.getRequestId());
       mSendingData.put(socketChannel, tResponseMessage);
     }
   }
@@ -296,7 +309,12 @@ public final class NIODataServer implements Runnable, DataServer {
       LOG.error(e.getMessage());
     }
 
-    if (sendMessage.finishSending() || closeChannel) {
+    if (!closeChannel && sendMessage.finishSending()
+        && sendMessage.getStatus() == RPCResponse.Status.UNKNOWN_MESSAGE_ERROR) {
+      // The rest of the rejected request was not read, so the channel cannot be reused.
+      closeChannel = true;
+    }
+    if (closeChannel) {
       try {
         key.channel().close();
       } catch (IOException e) {
@@ -306,6 +324,11 @@ public final class NIODataServer implements Runnable, DataServer {
       mReceivingData.remove(socketChannel);
       mSendingData.remove(socketChannel);
       sendMessage.close();
+    } else if (sendMessage.finishSending()) {
+      // Keep the connection open so the client can reuse it for later requests.
+      key.interestOps(SelectionKey.OP_READ);
+      mSendingData.remove(socketChannel);
+      sendMessage.close();
     }
   }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import tachyon.conf.TachyonConf;
+import tachyon.security.authentication.AuthType;
+import tachyon.thrift.WorkerService;
+import tachyon.util.CommonUtils;
+import tachyon.util.network.NetworkAddressUtils.ServiceType;
+
+/**
+ * Unit tests for {@link ThriftRPCServer}.
+ */
+public final class ThriftRPCServerTest {
+  private TachyonConf mTachyonConf;
+  private ThriftRPCServer mRPCServer;
+  private TServer mServer;
+
+  @Before
+  public void before() {
+    mTachyonConf = new TachyonConf();
+    mTachyonConf.set(Constants.IN_TEST_MODE, "true");
+    mTachyonConf.set(Constants.MASTER_RPC_PORT, "0");
+    mTachyonConf.set(Constants.MASTER_RPC_SERVER_TYPE,
+        ThriftRPCServer.Type.THREADED_SELECTOR.toString());
+  }
+
+  @After
+  public void after() {
+    if (mServer != null) {
+      mServer.stop();
+    }
+    if (mRPCServer != null) {
+      mRPCServer.close();
+    }
+  }
+
+  @Test
+  public void threadedSelectorServerTest() throws Exception {
+    mRPCServer = new ThriftRPCServer(ServiceType.MASTER_RPC, mTachyonConf);
+    Assert.assertEquals(ThriftRPCServer.Type.THREADED_SELECTOR, mRPCServer.getType());
+    Assert.assertTrue(mRPCServer.getPort() > 0);
+
+    WorkerService.Iface handler = Mockito.mock(WorkerService.Iface.class);
+    mServer = mRPCServer.createServer(new WorkerService.Processor<WorkerService.Iface>(handler));
+    Thread serving = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        mServer.serve();
+      }
+    });
+    serving.setDaemon(true);
+    serving.start();
+    while (!mServer.isServing()) {
+      CommonUtils.sleepMs(10);
+    }
+
+    // A NOSASL client talks to the server with the framed transport
+    TTransport transport =
+        new TFramedTransport(new TSocket("localhost", mRPCServer.getPort(), 10000));
+    transport.open();
+    try {
+      WorkerService.Client client = new WorkerService.Client(new TBinaryProtocol(transport));
+      client.accessBlock(1L);
+      client.accessBlock(2L);
+    } finally {
+      transport.close();
+    }
+
+    Mockito.verify(handler).accessBlock(1L);
+    Mockito.verify(handler).accessBlock(2L);
+    Assert.assertEquals(2, mRPCServer.getQueueTimer().getCount());
+    Assert.assertEquals(0, mRPCServer.getQueuedRequests());
+    Assert.assertTrue(mRPCServer.getMetrics().containsKey("RPCQueuedRequests"));
+  }
+
+  @Test
+  public void saslFallbackTest() throws Exception {
+    mTachyonConf.set(Constants.SECURITY_AUTHENTICATION_TYPE, AuthType.SIMPLE.getAuthName());
+    mRPCServer = new ThriftRPCServer(ServiceType.MASTER_RPC, mTachyonConf);
+    Assert.assertEquals(ThriftRPCServer.Type.THREAD_POOL, mRPCServer.getType());
+  }
+
+  @Test
+  public void threadPoolServerTest() throws Exception {
+    mTachyonConf.set(Constants.MASTER_RPC_SERVER_TYPE, ThriftRPCServer.Type.THREAD_POOL.toString());
+    mRPCServer = new ThriftRPCServer(ServiceType.MASTER_RPC, mTachyonConf);
+    Assert.assertEquals(ThriftRPCServer.Type.THREAD_POOL, mRPCServer.getType());
+    Assert.assertTrue(mRPCServer.getPort() > 0);
+  }
+}
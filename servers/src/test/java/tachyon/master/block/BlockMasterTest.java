@@ -162,6 +162,31 @@ public class BlockMasterTest {
     mMaster.removeBlocks(workerBlocks);
   }
 
+  @Test
+  public void registerWorkerChunkTest() throws Exception {
+    long workerId = mMaster.getWorkerId(NET_ADDRESS_1);
+    MasterWorkerInfo workerInfo = mPrivateAccess.getWorkerById(workerId);
+    addWorker(mMaster, workerId, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+        ImmutableMap.of("MEM", 0L));
+    for (long blockId = 1L; blockId <= 3L; blockId ++) {
+      mMaster.commitBlock(workerId, blockId, "MEM", blockId, 1L);
+    }
+
+    // A registration fails after reporting block 3
+    mMaster.workerRegisterChunk(workerId, "MEM", ImmutableList.of(3L), true);
+    // Re-register the worker with its blocks reported in chunks, block 3 having been lost
+    mMaster.workerRegisterChunk(workerId, "MEM", ImmutableList.of(1L), true);
+    mMaster.workerRegisterChunk(workerId, "MEM", ImmutableList.of(2L), false);
+    mMaster.workerRegister(workerId, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+        ImmutableMap.of("MEM", 2L), ImmutableMap.<String, List<Long>>of());
+
+    Assert.assertEquals(ImmutableSet.of(1L, 2L), workerInfo.getBlocks());
+    Assert.assertEquals(ImmutableSet.of(workerId),
+        mPrivateAccess.getMasterBlockInfo(2L).getWorkers());
+    Assert.assertEquals(ImmutableSet.of(), mPrivateAccess.getMasterBlockInfo(3L).getWorkers());
+    Assert.assertEquals(ImmutableSet.of(3L), mMaster.getLostBlocks());
+  }
+
   @Test
   public void workerHeartbeatTest() throws Exception {
     long workerId = mMaster.getWorkerId(NET_ADDRESS_1);
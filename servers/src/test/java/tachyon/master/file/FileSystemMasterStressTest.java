@@ -0,0 +1,221 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.master.MasterContext;
+import tachyon.master.block.BlockMaster;
+import tachyon.master.file.options.CreateOptions;
+import tachyon.master.file.options.MkdirOptions;
+import tachyon.master.journal.Journal;
+import tachyon.master.journal.ReadWriteJournal;
+import tachyon.util.IdUtils;
+
+/**
+ * Stress tests for the concurrency of {@link FileSystemMaster}. The throughput of concurrent
+ * metadata operations is logged for an increasing number of threads, which shows how the master
+ * scales with the cores it is given.
+ */
+public final class FileSystemMasterStressTest {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+  private static final int OPS_PER_THREAD = 200;
+  private static final int TIMEOUT_MINUTES = 2;
+
+  private BlockMaster mBlockMaster;
+  private FileSystemMaster mFileSystemMaster;
+  private CreateOptions mCreateOptions;
+
+  @Rule
+  public TemporaryFolder mTestFolder = new TemporaryFolder();
+
+  @Before
+  public void before() throws Exception {
+    Journal blockJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
+    Journal fsJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
+    mBlockMaster = new BlockMaster(blockJournal);
+    mFileSystemMaster = new FileSystemMaster(mBlockMaster, fsJournal);
+    mBlockMaster.start(true);
+    mFileSystemMaster.start(true);
+    mCreateOptions = new CreateOptions.Builder(MasterContext.getConf())
+        .setBlockSizeBytes(Constants.KB).setRecursive(true).build();
+  }
+
+  @After
+  public void after() throws Exception {
+    mFileSystemMaster.stop();
+    mBlockMaster.stop();
+  }
+
+  /**
+   * Creates files in a directory per thread, and reads them back, with an increasing number of
+   * threads.
+   */
+  @Test
+  public void createAndGetFileInfoTest() throws Exception {
+    for (final int threads : THREAD_COUNTS) {
+      final String base = "/create" + threads;
+      long elapsedNs = runConcurrently(threads, new Operation() {
+        @Override
+        public void run(int thread, int op) throws Exception {
+          TachyonURI uri = new TachyonURI(base + "/dir" + thread + "/file" + op);
+          long fileId = mFileSystemMaster.create(uri, mCreateOptions);
+          Assert.assertEquals(uri.getPath(), mFileSystemMaster.getFileInfo(fileId).getPath());
+        }
+      });
+      logThroughput("create and getFileInfo", threads, 2L * threads * OPS_PER_THREAD, elapsedNs);
+      for (int thread = 0; thread < threads; thread ++) {
+        long dirId = mFileSystemMaster.getFileId(new TachyonURI(base + "/dir" + thread));
+        Assert.assertEquals(OPS_PER_THREAD, mFileSystemMaster.getFileInfoList(dirId).size());
+      }
+    }
+  }
+
+  /**
+   * Reads the metadata of a shared set of files with an increasing number of threads.
+   */
+  @Test
+  public void getFileInfoTest() throws Exception {
+    final long[] fileIds = new long[OPS_PER_THREAD];
+    for (int i = 0; i < fileIds.length; i ++) {
+      fileIds[i] =
+          mFileSystemMaster.create(new TachyonURI("/read/dir" + i % 8 + "/file" + i),
+              mCreateOptions);
+    }
+    for (final int threads : THREAD_COUNTS) {
+      long elapsedNs = runConcurrently(threads, new Operation() {
+        @Override
+        public void run(int thread, int op) throws Exception {
+          long fileId = fileIds[(op + thread) % fileIds.length];
+          TachyonURI path = new TachyonURI(mFileSystemMaster.getFileInfo(fileId).getPath());
+          Assert.assertEquals(fileId, mFileSystemMaster.getFileId(path));
+        }
+      });
+      logThroughput("getFileInfo and getFileId", threads, 2L * threads * OPS_PER_THREAD,
+          elapsedNs);
+    }
+  }
+
+  /**
+   * Mixes creates, renames, deletes and reads of overlapping paths, which must neither deadlock
+   * nor corrupt the tree.
+   */
+  @Test
+  public void mixedOperationsTest() throws Exception {
+    final int threads = 8;
+    final MkdirOptions mkdirOptions =
+        new MkdirOptions.Builder(MasterContext.getConf()).setRecursive(true).setAllowExists(true)
+            .build();
+    runConcurrently(threads, new Operation() {
+      @Override
+      public void run(int thread, int op) throws Exception {
+        // Reads list the directory the renames happen in.
+        TachyonURI dir = new TachyonURI("/mixed/dir" + (op % 4 == 3 ? 1 : op % 4));
+        TachyonURI file = dir.join("file" + thread + "-" + op);
+        switch (op % 4) {
+          case 0:
+            mFileSystemMaster.mkdir(dir.join("sub" + thread), mkdirOptions);
+            break;
+          case 1:
+            long fileId = mFileSystemMaster.create(file, mCreateOptions);
+            mFileSystemMaster.rename(fileId, dir.join("renamed" + thread + "-" + op));
+            break;
+          case 2:
+            fileId = mFileSystemMaster.create(file, mCreateOptions);
+            mFileSystemMaster.deleteFile(fileId, false);
+            break;
+          default:
+            long dirId = mFileSystemMaster.getFileId(dir);
+            if (dirId != IdUtils.INVALID_FILE_ID) {
+              mFileSystemMaster.getFileInfoList(dirId);
+            }
+            break;
+        }
+      }
+    });
+    // Each thread leaves a directory in dir0, and a renamed file in dir1 every fourth operation.
+    int files = 0;
+    for (int i = 0; i < 3; i ++) {
+      long dirId = mFileSystemMaster.getFileId(new TachyonURI("/mixed/dir" + i));
+      if (dirId != IdUtils.INVALID_FILE_ID) {
+        files += mFileSystemMaster.getFileInfoList(dirId).size();
+      }
+    }
+    Assert.assertEquals(threads + threads * OPS_PER_THREAD / 4, files);
+    // The root, /mixed, its three directories and their children
+    Assert.assertEquals(1 + 1 + 3 + files, mFileSystemMaster.getNumberOfPaths());
+  }
+
+  private interface Operation {
+    void run(int thread, int op) throws Exception;
+  }
+
+  /**
+   * Runs an operation {@link #OPS_PER_THREAD} times in each of a number of threads.
+   *
+   * @param threads the number of threads
+   * @param operation the operation to run
+   * @return the elapsed time, in nanoseconds
+   */
+  private long runConcurrently(int threads, final Operation operation) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Void>> futures = new ArrayList<Future<Void>>(threads);
+      long startNs = System.nanoTime();
+      for (int i = 0; i < threads; i ++) {
+        final int thread = i;
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            for (int op = 0; op < OPS_PER_THREAD; op ++) {
+              operation.run(thread, op);
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get(TIMEOUT_MINUTES, TimeUnit.MINUTES);
+      }
+      return System.nanoTime() - startNs;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void logThroughput(String name, int threads, long ops, long elapsedNs) {
+    LOG.info("{} with {} threads: {} ops/sec", name, threads,
+        ops * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNs));
+  }
+}
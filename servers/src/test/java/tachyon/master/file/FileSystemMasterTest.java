@@ -42,6 +42,7 @@ import tachyon.exception.DirectoryNotEmptyException;
 import tachyon.exception.ExceptionMessage;
 import tachyon.exception.FileDoesNotExistException;
 import tachyon.exception.InvalidPathException;
+import tachyon.exception.TachyonExceptionType;
 import tachyon.heartbeat.HeartbeatContext;
 import tachyon.heartbeat.HeartbeatScheduler;
 import tachyon.master.MasterContext;
@@ -53,6 +54,7 @@ import tachyon.master.file.options.CreateOptions;
 import tachyon.master.journal.Journal;
 import tachyon.master.journal.ReadWriteJournal;
 import tachyon.thrift.FileInfo;
+import tachyon.thrift.FileOperationResult;
 import tachyon.thrift.NetAddress;
 import tachyon.util.IdUtils;
 
@@ -161,6 +163,63 @@ public final class FileSystemMasterTest {
     Assert.assertEquals(-1, mFileSystemMaster.getFileId(NESTED_URI));
   }
 
+  @Test
+  public void deleteFileBatchTest() throws Exception {
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    createFileWithSingleBlock(ROOT_FILE_URI);
+    List<Long> fileIds = Lists.newArrayList(mFileSystemMaster.getFileId(NESTED_FILE_URI),
+        mFileSystemMaster.getFileId(ROOT_FILE_URI), IdUtils.INVALID_FILE_ID);
+    List<FileOperationResult> results = mFileSystemMaster.deleteFileBatch(fileIds, false);
+
+    Assert.assertTrue(results.get(0).isSuccess());
+    Assert.assertTrue(results.get(1).isSuccess());
+    Assert.assertEquals(TachyonExceptionType.FILE_DOES_NOT_EXIST.name(),
+        results.get(2).getE().getType());
+    Assert.assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(NESTED_FILE_URI));
+    Assert.assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(ROOT_FILE_URI));
+  }
+
+  @Test
+  public void createBatchTest() throws Exception {
+    List<FileOperationResult> results = mFileSystemMaster.createBatch(
+        Lists.newArrayList(NESTED_FILE_URI, ROOT_FILE_URI, NESTED_FILE_URI),
+        Lists.newArrayList(sNestedFileOptions, sNestedFileOptions, sNestedFileOptions));
+
+    Assert.assertEquals(mFileSystemMaster.getFileId(NESTED_FILE_URI), results.get(0).getFileId());
+    Assert.assertEquals(mFileSystemMaster.getFileId(ROOT_FILE_URI), results.get(1).getFileId());
+    Assert.assertFalse(results.get(2).isSuccess());
+    Assert.assertEquals(TachyonExceptionType.FILE_ALREADY_EXISTS.name(),
+        results.get(2).getE().getType());
+  }
+
+  @Test
+  public void completeFileBatchTest() throws Exception {
+    List<Long> fileIds = Lists.newArrayList();
+    for (TachyonURI uri : Lists.newArrayList(NESTED_FILE_URI, ROOT_FILE_URI)) {
+      long fileId = mFileSystemMaster.create(uri, sNestedFileOptions);
+      long blockId = mFileSystemMaster.getNewBlockIdForFile(fileId);
+      mBlockMaster.commitBlock(mWorkerId, Constants.KB, "MEM", blockId, Constants.KB);
+      fileIds.add(fileId);
+    }
+    CompleteFileOptions options =
+        new CompleteFileOptions.Builder(MasterContext.getConf()).setUfsLength(Constants.KB).build();
+    List<FileOperationResult> results =
+        mFileSystemMaster.completeFileBatch(fileIds, Lists.newArrayList(options, options));
+    Assert.assertTrue(results.get(0).isSuccess());
+    Assert.assertTrue(results.get(1).isSuccess());
+
+    // completing a file twice fails
+    results = mFileSystemMaster.completeFileBatch(fileIds.subList(0, 1),
+        Lists.newArrayList(options));
+    Assert.assertEquals(TachyonExceptionType.FILE_ALREADY_COMPLETED.name(),
+        results.get(0).getE().getType());
+
+    for (FileOperationResult result : mFileSystemMaster.getFileInfoBatch(fileIds)) {
+      Assert.assertTrue(result.getFileInfo().isIsCompleted());
+      Assert.assertEquals(Constants.KB, result.getFileInfo().getLength());
+    }
+  }
+
   @Test
   public void getNewBlockIdForFileTest() throws Exception {
     long fileId = mFileSystemMaster.create(NESTED_FILE_URI, sNestedFileOptions);
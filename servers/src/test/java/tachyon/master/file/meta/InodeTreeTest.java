@@ -224,6 +224,26 @@ public final class InodeTreeTest {
     Assert.assertEquals("file", created.get(0).getName());
   }
 
+  @Test
+  public void createPersistedPathTest() throws Exception {
+    mTree.createPath(TEST_URI, sDirectoryOptions);
+    CreatePathOptions options =
+        new CreatePathOptions.Builder(MasterContext.getConf()).setBlockSizeBytes(Constants.KB)
+            .setRecursive(true).setPersisted(true).setPermissionStatus(TEST_PERMISSION_STATUS)
+            .build();
+    InodeTree.CreatePathResult createResult =
+        mTree.createPath(new TachyonURI("/test/nested/file"), options);
+
+    // the existing and the created directories are left to the caller to persist
+    List<Inode> persisted = createResult.getPersisted();
+    Assert.assertEquals(2, persisted.size());
+    Assert.assertEquals("test", persisted.get(0).getName());
+    Assert.assertEquals("nested", persisted.get(1).getName());
+    Assert.assertFalse(persisted.get(0).isPersisted());
+    Assert.assertFalse(persisted.get(1).isPersisted());
+    Assert.assertEquals(new TachyonURI("/test/nested"), createResult.getPersistedPath());
+  }
+
   @Test
   public void createRootPathTest() throws Exception {
     mThrown.expect(FileAlreadyExistsException.class);
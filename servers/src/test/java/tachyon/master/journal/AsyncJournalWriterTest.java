@@ -0,0 +1,151 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.journal;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import tachyon.proto.journal.Journal.JournalEntry;
+
+/**
+ * Unit tests for {@link AsyncJournalWriter}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(JournalWriter.class)
+public final class AsyncJournalWriterTest {
+  private JournalWriter mJournalWriter;
+  private JournalOutputStream mOutputStream;
+  private AsyncJournalWriter mAsyncJournalWriter;
+
+  @Before
+  public void before() throws Exception {
+    mJournalWriter = Mockito.mock(JournalWriter.class);
+    mOutputStream = Mockito.mock(JournalOutputStream.class);
+    Mockito.when(mJournalWriter.getEntryOutputStream()).thenReturn(mOutputStream);
+  }
+
+  @After
+  public void after() throws Exception {
+    if (mAsyncJournalWriter != null) {
+      mAsyncJournalWriter.close();
+    }
+  }
+
+  /**
+   * Tests that flushing waits for the appended entries to be written and flushed.
+   */
+  @Test
+  public void flushTest() throws Exception {
+    mAsyncJournalWriter = new AsyncJournalWriter(mJournalWriter, "test");
+    JournalEntry entry = JournalEntry.getDefaultInstance();
+    long counter1 = mAsyncJournalWriter.appendEntry(entry);
+    long counter2 = mAsyncJournalWriter.appendEntry(entry);
+    Assert.assertTrue(counter2 > counter1);
+    Assert.assertEquals(counter2, mAsyncJournalWriter.getCounter());
+
+    mAsyncJournalWriter.flush(counter2);
+    Mockito.verify(mOutputStream, Mockito.times(2)).writeEntry(entry);
+    Mockito.verify(mOutputStream, Mockito.atLeastOnce()).flush();
+  }
+
+  /**
+   * Tests that the entries appended while a flush is in progress are flushed together.
+   */
+  @Test
+  public void groupCommitTest() throws Exception {
+    final CountDownLatch flushStarted = new CountDownLatch(1);
+    final CountDownLatch flushAllowed = new CountDownLatch(1);
+    Mockito.doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        flushStarted.countDown();
+        flushAllowed.await();
+        return null;
+      }
+    }).doNothing().when(mOutputStream).flush();
+
+    mAsyncJournalWriter = new AsyncJournalWriter(mJournalWriter, "test");
+    JournalEntry entry = JournalEntry.getDefaultInstance();
+    mAsyncJournalWriter.appendEntry(entry);
+    flushStarted.await();
+    // The first flush is blocked, so these entries queue up behind it
+    long counter = 0;
+    for (int i = 0; i < 10; i ++) {
+      counter = mAsyncJournalWriter.appendEntry(entry);
+    }
+    flushAllowed.countDown();
+    mAsyncJournalWriter.flush(counter);
+
+    Mockito.verify(mOutputStream, Mockito.times(11)).writeEntry(entry);
+    Mockito.verify(mOutputStream, Mockito.times(2)).flush();
+  }
+
+  /**
+   * Tests that closing the writer flushes the appended entries, and rejects new ones.
+   */
+  @Test
+  public void closeTest() throws Exception {
+    mAsyncJournalWriter = new AsyncJournalWriter(mJournalWriter, "test");
+    JournalEntry entry = JournalEntry.getDefaultInstance();
+    for (int i = 0; i < 5; i ++) {
+      mAsyncJournalWriter.appendEntry(entry);
+    }
+    mAsyncJournalWriter.close();
+    Mockito.verify(mOutputStream, Mockito.times(5)).writeEntry(entry);
+
+    try {
+      mAsyncJournalWriter.appendEntry(entry);
+      Assert.fail("Appending to a closed writer should fail");
+    } catch (IOException e) {
+      // expected
+    }
+    mAsyncJournalWriter = null;
+  }
+
+  /**
+   * Tests that a failure to flush is reported to the waiting callers.
+   */
+  @Test
+  public void flushFailureTest() throws Exception {
+    Mockito.doThrow(new IOException("flush failed")).when(mOutputStream).flush();
+    mAsyncJournalWriter = new AsyncJournalWriter(mJournalWriter, "test");
+    long counter = mAsyncJournalWriter.appendEntry(JournalEntry.getDefaultInstance());
+    try {
+      mAsyncJournalWriter.flush(counter);
+      Assert.fail("Flushing should fail when the journal cannot be flushed");
+    } catch (IOException e) {
+      // expected
+    }
+    try {
+      mAsyncJournalWriter.close();
+      Assert.fail("Closing should fail when the journal cannot be flushed");
+    } catch (IOException e) {
+      // expected
+    }
+    mAsyncJournalWriter = null;
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.lineage.checkpoint;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import com.google.common.collect.Lists;
+
+import tachyon.Constants;
+import tachyon.client.file.TachyonFile;
+import tachyon.job.CommandLineJob;
+import tachyon.job.Job;
+import tachyon.job.JobConf;
+import tachyon.master.MasterContext;
+import tachyon.master.file.FileSystemMaster;
+import tachyon.master.lineage.meta.LineageFile;
+import tachyon.master.lineage.meta.LineageIdGenerator;
+import tachyon.master.lineage.meta.LineageStore;
+import tachyon.master.lineage.meta.LineageStoreView;
+import tachyon.thrift.BlockInfo;
+import tachyon.thrift.BlockLocation;
+import tachyon.thrift.FileBlockInfo;
+import tachyon.thrift.FileInfo;
+import tachyon.thrift.WorkerInfo;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({FileSystemMaster.class})
+public final class CheckpointCostSchedulerTest {
+  private LineageStore mLineageStore;
+  private Job mJob;
+  private FileSystemMaster mFileSystemMaster;
+
+  @Before
+  public void before() throws Exception {
+    mLineageStore = new LineageStore(new LineageIdGenerator());
+    mJob = new CommandLineJob("test", new JobConf("output"));
+    mFileSystemMaster = Mockito.mock(FileSystemMaster.class);
+    Mockito.when(mFileSystemMaster.getWorkerInfoList()).thenReturn(Lists.newArrayList(
+        new WorkerInfo().setId(1).setCapacityBytes(1000).setUsedBytes(100),
+        new WorkerInfo().setId(2).setCapacityBytes(1000).setUsedBytes(900)));
+  }
+
+  @After
+  public void after() {
+    MasterContext.reset();
+  }
+
+  @Test
+  public void recomputeCostTest() throws Exception {
+    mockFile(1, 100, 1);
+    mockFile(2, 10, 1);
+    mockFile(3, 50, 1);
+    long l1 = mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(1)), mJob);
+    long l2 = mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(new TachyonFile(1)),
+        Lists.newArrayList(new LineageFile(2)), mJob);
+    long l3 = mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(3)), mJob);
+    mLineageStore.completeFile(1);
+    mLineageStore.completeFile(2);
+    mLineageStore.completeFile(3);
+
+    // l2 reads and writes the least itself, but losing its output means recomputing l1 too
+    CheckpointPlan plan = schedule();
+    Assert.assertEquals(Lists.newArrayList(l2, l1, l3), plan.getLineagesToCheckpoint());
+  }
+
+  @Test
+  public void memoryPressureTest() throws Exception {
+    mockFile(1, 100, 1);
+    mockFile(2, 100, 2);
+    long l1 = mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(1)), mJob);
+    long l2 = mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(2)), mJob);
+    mLineageStore.completeFile(1);
+    mLineageStore.completeFile(2);
+
+    // The output of l2 is on the fuller worker
+    CheckpointPlan plan = schedule();
+    Assert.assertEquals(Lists.newArrayList(l2, l1), plan.getLineagesToCheckpoint());
+  }
+
+  @Test
+  public void incompleteLineageTest() throws Exception {
+    mockFile(1, 100, 1);
+    mockFile(2, 100, 1);
+    long l1 = mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(1)), mJob);
+    mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(2)), mJob);
+    mLineageStore.completeFile(1);
+
+    CheckpointPlan plan = schedule();
+    Assert.assertEquals(Lists.newArrayList(l1), plan.getLineagesToCheckpoint());
+  }
+
+  @Test
+  public void bandwidthTest() throws Exception {
+    // 120 bytes may be checkpointed in a round
+    MasterContext.getConf().set(Constants.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS, "2000");
+    MasterContext.getConf().set(Constants.MASTER_LINEAGE_CHECKPOINT_BANDWIDTH, "60");
+    mockFile(1, 100, 1);
+    mockFile(2, 10, 1);
+    mockFile(3, 50, 1);
+    mockFile(4, 500, 1);
+    long l1 = mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(1)), mJob);
+    long l2 = mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(new TachyonFile(1)),
+        Lists.newArrayList(new LineageFile(2)), mJob);
+    mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(3)), mJob);
+    long l4 = mLineageStore.createLineage(Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(4)), mJob);
+    mLineageStore.completeFile(1);
+    mLineageStore.completeFile(2);
+    mLineageStore.completeFile(3);
+
+    // Only l1 and l2 fit, l3 is deferred to a later round
+    CheckpointPlan plan = schedule();
+    Assert.assertEquals(Lists.newArrayList(l2, l1), plan.getLineagesToCheckpoint());
+
+    // The most valuable lineage is scheduled even if it exceeds the budget alone
+    mLineageStore.completeFile(4);
+    plan = schedule();
+    Assert.assertEquals(l4, (long) plan.getLineagesToCheckpoint().get(0));
+    Assert.assertEquals(1, plan.getLineagesToCheckpoint().size());
+  }
+
+  private CheckpointPlan schedule() {
+    return new CheckpointCostScheduler(mFileSystemMaster)
+        .schedule(new LineageStoreView(mLineageStore));
+  }
+
+  private void mockFile(long fileId, long length, long workerId) throws Exception {
+    Mockito.when(mFileSystemMaster.getFileInfo(fileId))
+        .thenReturn(new FileInfo().setFileId(fileId).setLength(length));
+    List<BlockLocation> locations =
+        Lists.newArrayList(new BlockLocation().setWorkerId(workerId));
+    Mockito.when(mFileSystemMaster.getFileBlockInfoList(fileId)).thenReturn(
+        Lists.newArrayList(new FileBlockInfo().setBlockInfo(new BlockInfo().setLocations(
+            locations))));
+  }
+}
@@ -18,6 +18,10 @@ package tachyon.master.lineage.checkpoint;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.google.common.collect.Lists;
 
@@ -25,11 +29,14 @@ import tachyon.client.file.TachyonFile;
 import tachyon.job.CommandLineJob;
 import tachyon.job.Job;
 import tachyon.job.JobConf;
+import tachyon.master.file.FileSystemMaster;
 import tachyon.master.lineage.meta.LineageFile;
 import tachyon.master.lineage.meta.LineageIdGenerator;
 import tachyon.master.lineage.meta.LineageStore;
 import tachyon.master.lineage.meta.LineageStoreView;
 
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({FileSystemMaster.class})
 public final class CheckpointLatestSchedulerTest {
   private LineageStore mLineageStore;
   private Job mJob;
@@ -39,7 +46,7 @@ public final class CheckpointLatestSchedulerTest {
   public void before() {
     mLineageStore = new LineageStore(new LineageIdGenerator());
     mJob = new CommandLineJob("test", new JobConf("output"));
-    mScheduler = new CheckpointLatestScheduler(new LineageStoreView(mLineageStore));
+    mScheduler = new CheckpointLatestScheduler(Mockito.mock(FileSystemMaster.class));
   }
 
   @Test
@@ -15,11 +15,17 @@
 
 package tachyon.master.lineage.recompute;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
@@ -64,4 +70,120 @@ public final class TestRecomputeExecutor {
     Mockito.verify(fileSystemMaster).resetFile(fileId);
     Mockito.verify(job).run();
   }
+
+  /**
+   * Tests that independent lineages are recomputed concurrently.
+   *
+   * @throws Exception if anything wrong happens
+   */
+  @Test
+  public void independentLineagesTest() throws Exception {
+    // each job waits for the other one to start
+    final CountDownLatch started = new CountDownLatch(2);
+    Answer<Boolean> waitForOther = new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) throws Throwable {
+        started.countDown();
+        return started.await(1, TimeUnit.SECONDS);
+      }
+    };
+    Job job1 = Mockito.mock(Job.class);
+    Mockito.when(job1.run()).thenAnswer(waitForOther);
+    Job job2 = Mockito.mock(Job.class);
+    Mockito.when(job2.run()).thenAnswer(waitForOther);
+    Lineage lineage1 = new Lineage(1, Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(1, LineageFileState.LOST)), job1);
+    Lineage lineage2 = new Lineage(2, Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(2, LineageFileState.LOST)), job2);
+    RecomputePlanner planner = Mockito.mock(RecomputePlanner.class);
+    Mockito.when(planner.plan())
+        .thenReturn(new RecomputePlan(Lists.newArrayList(lineage1, lineage2)));
+
+    RecomputeExecutor executor =
+        new RecomputeExecutor(planner, Mockito.mock(FileSystemMaster.class));
+    executor.heartbeatWithFuture().get(5, TimeUnit.SECONDS);
+
+    Assert.assertEquals(0, started.getCount());
+  }
+
+  /**
+   * Tests that a lineage is recomputed only after the lineages writing its input files.
+   *
+   * @throws Exception if anything wrong happens
+   */
+  @Test
+  public void dependentLineagesTest() throws Exception {
+    final AtomicBoolean parentDone = new AtomicBoolean(false);
+    Job parentJob = Mockito.mock(Job.class);
+    Mockito.when(parentJob.run()).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) throws Throwable {
+        Thread.sleep(100);
+        parentDone.set(true);
+        return true;
+      }
+    });
+    final AtomicBoolean childAfterParent = new AtomicBoolean(false);
+    Job childJob = Mockito.mock(Job.class);
+    Mockito.when(childJob.run()).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) throws Throwable {
+        childAfterParent.set(parentDone.get());
+        return true;
+      }
+    });
+    Lineage parent = new Lineage(1, Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(1, LineageFileState.LOST)), parentJob);
+    Lineage child = new Lineage(2, Lists.<TachyonFile>newArrayList(new TachyonFile(1)),
+        Lists.newArrayList(new LineageFile(2, LineageFileState.LOST)), childJob);
+    RecomputePlanner planner = Mockito.mock(RecomputePlanner.class);
+    Mockito.when(planner.plan()).thenReturn(new RecomputePlan(Lists.newArrayList(parent, child)));
+
+    RecomputeExecutor executor =
+        new RecomputeExecutor(planner, Mockito.mock(FileSystemMaster.class));
+    executor.heartbeatWithFuture().get(5, TimeUnit.SECONDS);
+
+    Mockito.verify(childJob).run();
+    Assert.assertTrue(childAfterParent.get());
+  }
+
+  /**
+   * Tests that a lineage planned again while its recompute is pending is not recomputed twice, and
+   * that its children in the new plan wait for the pending recompute.
+   *
+   * @throws Exception if anything wrong happens
+   */
+  @Test
+  public void overlappingPlansTest() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    Job parentJob = Mockito.mock(Job.class);
+    Mockito.when(parentJob.run()).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) throws Throwable {
+        return release.await(5, TimeUnit.SECONDS);
+      }
+    });
+    Job childJob = Mockito.mock(Job.class);
+    Mockito.when(childJob.run()).thenReturn(true);
+    Lineage parent = new Lineage(1, Lists.<TachyonFile>newArrayList(),
+        Lists.newArrayList(new LineageFile(1, LineageFileState.LOST)), parentJob);
+    Lineage child = new Lineage(2, Lists.<TachyonFile>newArrayList(new TachyonFile(1)),
+        Lists.newArrayList(new LineageFile(2, LineageFileState.LOST)), childJob);
+    RecomputePlanner planner = Mockito.mock(RecomputePlanner.class);
+    Mockito.when(planner.plan()).thenReturn(new RecomputePlan(Lists.newArrayList(parent)))
+        .thenReturn(new RecomputePlan(Lists.newArrayList(parent, child)));
+
+    RecomputeExecutor executor =
+        new RecomputeExecutor(planner, Mockito.mock(FileSystemMaster.class));
+    Future<?> first = executor.heartbeatWithFuture();
+    Future<?> second = executor.heartbeatWithFuture();
+    Assert.assertFalse(second.isDone());
+    Mockito.verify(childJob, Mockito.never()).run();
+
+    release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    second.get(5, TimeUnit.SECONDS);
+    Mockito.verify(parentJob).run();
+    Mockito.verify(childJob).run();
+  }
 }
@@ -26,6 +26,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -40,6 +41,7 @@ import tachyon.heartbeat.HeartbeatContext;
 import tachyon.master.MasterContext;
 import tachyon.master.block.BlockMaster;
 import tachyon.master.file.FileSystemMaster;
+import tachyon.master.file.FileSystemMasterClientServiceHandler;
 import tachyon.master.file.options.CompleteFileOptions;
 import tachyon.master.file.options.CreateOptions;
 import tachyon.master.file.options.MkdirOptions;
@@ -47,6 +49,7 @@ import tachyon.master.journal.Journal;
 import tachyon.master.journal.ReadWriteJournal;
 import tachyon.thrift.FileInfo;
 import tachyon.thrift.NetAddress;
+import tachyon.thrift.TachyonTException;
 import tachyon.underfs.UnderFileSystem;
 
 /**
@@ -338,6 +341,29 @@ public final class MetricsCountersTest {
     Assert.assertEquals(1, mCounters.get("UnmountOps").getCount());
   }
 
+  @Test
+  public void rpcTimersTest() throws Exception {
+    FileSystemMasterClientServiceHandler handler =
+        new FileSystemMasterClientServiceHandler(mFileSystemMaster);
+    long fileId = mFileSystemMaster.create(ROOT_FILE_URI, sNestedFileOptions);
+
+    Assert.assertEquals(fileId, handler.getFileId(ROOT_FILE_URI.getPath()));
+    handler.getFileInfo(fileId);
+    // failed calls are timed as well
+    try {
+      handler.getFileInfo(fileId + 1);
+      Assert.fail("getting the info of a nonexistent file must throw an exception");
+    } catch (TachyonTException e) {
+      // do nothing
+    }
+
+    Map<String, Timer> timers = MasterContext.getMasterSource().getMetricRegistry().getTimers();
+    Assert.assertEquals(1, timers.get("GetFileIdTimer").getCount());
+    Assert.assertEquals(2, timers.get("GetFileInfoTimer").getCount());
+    // only the RPCs are timed
+    Assert.assertEquals(0, timers.get("CreateFileTimer").getCount());
+  }
+
   private long createCompleteFileWithSingleBlock(TachyonURI uri) throws Exception {
     long fileId = mFileSystemMaster.create(uri, sNestedFileOptions);
     long blockId = mFileSystemMaster.getNewBlockIdForFile(fileId);
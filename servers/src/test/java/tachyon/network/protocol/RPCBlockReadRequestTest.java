@@ -28,6 +28,7 @@ public class RPCBlockReadRequestTest {
   private static final long LENGTH = 33;
   private static final long LOCK_ID = 44;
   private static final long SESSION_ID = 55;
+  private static final long REQUEST_ID = 66;
 
   private ByteBuf mBuffer = null;
 
@@ -82,6 +83,16 @@ public class RPCBlockReadRequestTest {
     assertValid(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, req2);
   }
 
+  @Test
+  public void encodeDecodeRequestIdTest() {
+    RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
+        SESSION_ID, REQUEST_ID);
+    req.encode(mBuffer);
+    RPCBlockReadRequest req2 = RPCBlockReadRequest.decode(mBuffer);
+    assertValid(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, req2);
+    Assert.assertEquals(REQUEST_ID, req2.getRequestId());
+  }
+
   @Test
   public void validateTest() {
     RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.network.protocol;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+public class RPCBlockReadStreamCancelRequestTest {
+  private static final long REQUEST_ID = 11;
+
+  private ByteBuf mBuffer = null;
+
+  private void assertValid(long requestId, RPCBlockReadStreamCancelRequest req) {
+    Assert.assertEquals(RPCMessage.Type.RPC_BLOCK_READ_STREAM_CANCEL_REQUEST, req.getType());
+    Assert.assertEquals(requestId, req.getRequestId());
+  }
+
+  @Before
+  public final void before() {
+    mBuffer = Unpooled.buffer();
+  }
+
+  @Test
+  public void encodedLengthTest() {
+    RPCBlockReadStreamCancelRequest req = new RPCBlockReadStreamCancelRequest(REQUEST_ID);
+    int encodedLength = req.getEncodedLength();
+    req.encode(mBuffer);
+    Assert.assertEquals(encodedLength, mBuffer.readableBytes());
+  }
+
+  @Test
+  public void encodeDecodeTest() {
+    RPCBlockReadStreamCancelRequest req = new RPCBlockReadStreamCancelRequest(REQUEST_ID);
+    req.encode(mBuffer);
+    RPCBlockReadStreamCancelRequest req2 = RPCBlockReadStreamCancelRequest.decode(mBuffer);
+    assertValid(REQUEST_ID, req);
+    assertValid(REQUEST_ID, req2);
+  }
+}
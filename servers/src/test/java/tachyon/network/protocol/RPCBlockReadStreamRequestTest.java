@@ -0,0 +1,119 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.network.protocol;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+public class RPCBlockReadStreamRequestTest {
+  private static final long BLOCK_ID = 11;
+  private static final long OFFSET = 22;
+  private static final long LENGTH = 33;
+  private static final long LOCK_ID = 44;
+  private static final long SESSION_ID = 55;
+  private static final long CHUNK_SIZE = 66;
+  private static final long REQUEST_ID = 77;
+
+  private ByteBuf mBuffer = null;
+
+  private void assertValid(long blockId, long offset, long length, long lockId, long sessionId,
+      long chunkSize, long requestId, RPCBlockReadStreamRequest req) {
+    Assert.assertEquals(RPCMessage.Type.RPC_BLOCK_READ_STREAM_REQUEST, req.getType());
+    Assert.assertEquals(blockId, req.getBlockId());
+    Assert.assertEquals(offset, req.getOffset());
+    Assert.assertEquals(length, req.getLength());
+    Assert.assertEquals(lockId, req.getLockId());
+    Assert.assertEquals(sessionId, req.getSessionId());
+    Assert.assertEquals(chunkSize, req.getChunkSize());
+    Assert.assertEquals(requestId, req.getRequestId());
+  }
+
+  private void assertValid(RPCBlockReadStreamRequest req) {
+    try {
+      req.validate();
+    } catch (Exception e) {
+      Assert.fail("request should be valid.");
+    }
+  }
+
+  private void assertInvalid(RPCBlockReadStreamRequest req) {
+    try {
+      req.validate();
+      Assert.fail("request should be invalid.");
+    } catch (Exception e) {
+      return;
+    }
+  }
+
+  @Before
+  public final void before() {
+    mBuffer = Unpooled.buffer();
+  }
+
+  @Test
+  public void encodedLengthTest() {
+    RPCBlockReadStreamRequest req = new RPCBlockReadStreamRequest(BLOCK_ID, OFFSET, LENGTH,
+        LOCK_ID, SESSION_ID, CHUNK_SIZE, REQUEST_ID);
+    int encodedLength = req.getEncodedLength();
+    req.encode(mBuffer);
+    Assert.assertEquals(encodedLength, mBuffer.readableBytes());
+  }
+
+  @Test
+  public void encodeDecodeTest() {
+    RPCBlockReadStreamRequest req = new RPCBlockReadStreamRequest(BLOCK_ID, OFFSET, LENGTH,
+        LOCK_ID, SESSION_ID, CHUNK_SIZE, REQUEST_ID);
+    req.encode(mBuffer);
+    RPCBlockReadStreamRequest req2 = RPCBlockReadStreamRequest.decode(mBuffer);
+    assertValid(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, CHUNK_SIZE, REQUEST_ID, req);
+    assertValid(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, CHUNK_SIZE, REQUEST_ID, req2);
+  }
+
+  @Test
+  public void validateTest() {
+    RPCBlockReadStreamRequest req = new RPCBlockReadStreamRequest(BLOCK_ID, OFFSET, LENGTH,
+        LOCK_ID, SESSION_ID, CHUNK_SIZE, REQUEST_ID);
+    assertValid(req);
+    req = new RPCBlockReadStreamRequest(BLOCK_ID, OFFSET, -1, LOCK_ID, SESSION_ID, CHUNK_SIZE,
+        REQUEST_ID);
+    assertValid(req);
+  }
+
+  @Test
+  public void negativeOffsetTest() {
+    RPCBlockReadStreamRequest req = new RPCBlockReadStreamRequest(BLOCK_ID, -1, LENGTH, LOCK_ID,
+        SESSION_ID, CHUNK_SIZE, REQUEST_ID);
+    assertInvalid(req);
+  }
+
+  @Test
+  public void invalidLengthTest() {
+    RPCBlockReadStreamRequest req = new RPCBlockReadStreamRequest(BLOCK_ID, OFFSET, -100,
+        LOCK_ID, SESSION_ID, CHUNK_SIZE, REQUEST_ID);
+    assertInvalid(req);
+  }
+
+  @Test
+  public void invalidChunkSizeTest() {
+    RPCBlockReadStreamRequest req = new RPCBlockReadStreamRequest(BLOCK_ID, OFFSET, LENGTH,
+        LOCK_ID, SESSION_ID, 0, REQUEST_ID);
+    assertInvalid(req);
+  }
+}
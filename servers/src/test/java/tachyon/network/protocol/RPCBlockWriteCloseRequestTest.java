@@ -0,0 +1,66 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.network.protocol;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+public class RPCBlockWriteCloseRequestTest {
+  private static final long SESSION_ID = 11;
+  private static final long BLOCK_ID = 22;
+  private static final long REQUEST_ID = 33;
+
+  private ByteBuf mBuffer = null;
+
+  private void assertValid(long sessionId, long blockId, boolean commit, long requestId,
+      RPCBlockWriteCloseRequest req) {
+    Assert.assertEquals(RPCMessage.Type.RPC_BLOCK_WRITE_CLOSE_REQUEST, req.getType());
+    Assert.assertEquals(sessionId, req.getSessionId());
+    Assert.assertEquals(blockId, req.getBlockId());
+    Assert.assertEquals(commit, req.isCommit());
+    Assert.assertEquals(requestId, req.getRequestId());
+  }
+
+  @Before
+  public final void before() {
+    mBuffer = Unpooled.buffer();
+  }
+
+  @Test
+  public void encodedLengthTest() {
+    RPCBlockWriteCloseRequest req =
+        new RPCBlockWriteCloseRequest(SESSION_ID, BLOCK_ID, true, REQUEST_ID);
+    int encodedLength = req.getEncodedLength();
+    req.encode(mBuffer);
+    Assert.assertEquals(encodedLength, mBuffer.readableBytes());
+  }
+
+  @Test
+  public void encodeDecodeTest() {
+    for (boolean commit : new boolean[] {true, false}) {
+      RPCBlockWriteCloseRequest req =
+          new RPCBlockWriteCloseRequest(SESSION_ID, BLOCK_ID, commit, REQUEST_ID);
+      req.encode(mBuffer);
+      RPCBlockWriteCloseRequest req2 = RPCBlockWriteCloseRequest.decode(mBuffer);
+      assertValid(SESSION_ID, BLOCK_ID, commit, REQUEST_ID, req);
+      assertValid(SESSION_ID, BLOCK_ID, commit, REQUEST_ID, req2);
+    }
+  }
+}
@@ -72,7 +72,7 @@ public class BlockDataManagerTest {
       mSessions = PowerMockito.mock(Sessions.class);
       mWorkerId = mRandom.nextLong();
       WorkerIdRegistry.setWorkerIdForTesting(mWorkerId);
-      mWorkerSource = PowerMockito.mock(WorkerSource.class);
+      mWorkerSource = new WorkerSource();
 
       mManager =
           new BlockDataManager(mWorkerSource, mBlockMasterClient, mFileSystemMasterClient,
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.block;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+
+/**
+ * Stress tests for {@link BlockLockManager}. The throughput of concurrent lock and unlock pairs is
+ * logged for an increasing number of threads, which shows how the worker scales with the readers
+ * it serves.
+ */
+public final class BlockLockManagerStressTest {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+  private static final int OPS_PER_THREAD = 100000;
+  private static final int TIMEOUT_MINUTES = 2;
+
+  private BlockLockManager mLockManager;
+
+  @Before
+  public void before() {
+    mLockManager = new BlockLockManager();
+  }
+
+  /**
+   * Read locks and unlocks a distinct set of blocks in each thread.
+   */
+  @Test
+  public void readDistinctBlocksTest() throws Exception {
+    runAll("distinct blocks", new Operation() {
+      @Override
+      public void run(int thread, int op) throws Exception {
+        long blockId = thread * OPS_PER_THREAD + op % 1000;
+        long lockId = mLockManager.lockBlock(thread, blockId, BlockLockType.READ);
+        mLockManager.validateLock(thread, blockId, lockId);
+        mLockManager.unlockBlock(lockId);
+      }
+    });
+  }
+
+  /**
+   * Read locks and unlocks the same block in every thread.
+   */
+  @Test
+  public void readSharedBlockTest() throws Exception {
+    runAll("shared block", new Operation() {
+      @Override
+      public void run(int thread, int op) throws Exception {
+        long lockId = mLockManager.lockBlock(thread, 1L, BlockLockType.READ);
+        mLockManager.validateLock(thread, 1L, lockId);
+        mLockManager.unlockBlock(lockId);
+      }
+    });
+  }
+
+  /**
+   * Mixes read and write locks on a small set of blocks, which must neither deadlock nor leak
+   * locks.
+   */
+  @Test
+  public void readWriteTest() throws Exception {
+    runAll("read and write", new Operation() {
+      @Override
+      public void run(int thread, int op) throws Exception {
+        BlockLockType type = op % 10 == 0 ? BlockLockType.WRITE : BlockLockType.READ;
+        long lockId = mLockManager.lockBlock(thread, op % 16, type);
+        mLockManager.unlockBlock(lockId);
+      }
+    });
+  }
+
+  private interface Operation {
+    void run(int thread, int op) throws Exception;
+  }
+
+  private void runAll(String name, Operation operation) throws Exception {
+    for (int threads : THREAD_COUNTS) {
+      long elapsedNs = runConcurrently(threads, operation);
+      LOG.info("{} lock/unlock pairs on {} with {} threads: {} ops/sec",
+          (long) threads * OPS_PER_THREAD, name, threads,
+          (long) threads * OPS_PER_THREAD * 1000000000L / Math.max(1, elapsedNs));
+      Assert.assertTrue(mLockManager.getLockedBlocks().isEmpty());
+    }
+  }
+
+  /**
+   * Runs an operation {@link #OPS_PER_THREAD} times in each of a number of threads.
+   *
+   * @param threads the number of threads
+   * @param operation the operation to run
+   * @return the elapsed time, in nanoseconds
+   */
+  private long runConcurrently(int threads, final Operation operation) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Void>> futures = new ArrayList<Future<Void>>(threads);
+      long startNs = System.nanoTime();
+      for (int i = 0; i < threads; i ++) {
+        final int thread = i;
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            for (int op = 0; op < OPS_PER_THREAD; op ++) {
+              operation.run(thread, op);
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get(TIMEOUT_MINUTES, TimeUnit.MINUTES);
+      }
+      return System.nanoTime() - startNs;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
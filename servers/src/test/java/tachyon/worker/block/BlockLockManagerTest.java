@@ -15,6 +15,9 @@
 
 package tachyon.worker.block;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -113,4 +116,61 @@ public class BlockLockManagerTest {
     // Because sessionId2 has been cleaned up, expect validating sessionId2 to throw IOException
     mLockManager.validateLock(sessionId2, TEST_BLOCK_ID, lockId2);
   }
+
+  @Test
+  public void manyReadersTest() throws Exception {
+    // There is no limit on the number of concurrent readers of a block
+    int readers = 1000;
+    long[] lockIds = new long[readers];
+    for (int i = 0; i < readers; i ++) {
+      lockIds[i] = mLockManager.lockBlock(TEST_SESSION_ID + i, TEST_BLOCK_ID, BlockLockType.READ);
+    }
+    Assert.assertEquals(1, mLockManager.getLockedBlocks().size());
+    for (int i = 0; i < readers; i ++) {
+      mLockManager.validateLock(TEST_SESSION_ID + i, TEST_BLOCK_ID, lockIds[i]);
+      mLockManager.unlockBlock(lockIds[i]);
+    }
+    Assert.assertTrue(mLockManager.getLockedBlocks().isEmpty());
+  }
+
+  @Test
+  public void writeLockExcludesOthersTest() throws Exception {
+    final long lockId = mLockManager.lockBlock(TEST_SESSION_ID, TEST_BLOCK_ID, BlockLockType.WRITE);
+    final CountDownLatch readLocked = new CountDownLatch(1);
+    Thread reader = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        mLockManager.lockBlock(TEST_SESSION_ID + 1, TEST_BLOCK_ID, BlockLockType.READ);
+        readLocked.countDown();
+      }
+    });
+    reader.start();
+    Assert.assertFalse(readLocked.await(100, TimeUnit.MILLISECONDS));
+    // The write lock can be released by another thread than the one which took it
+    Thread unlocker = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          mLockManager.unlockBlock(lockId);
+        } catch (BlockDoesNotExistException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    });
+    unlocker.start();
+    Assert.assertTrue(readLocked.await(10, TimeUnit.SECONDS));
+    reader.join();
+    unlocker.join();
+  }
+
+  @Test
+  public void unlockBySessionAndBlockTest() throws Exception {
+    mLockManager.lockBlock(TEST_SESSION_ID, TEST_BLOCK_ID, BlockLockType.WRITE);
+    mLockManager.unlockBlock(TEST_SESSION_ID, TEST_BLOCK_ID);
+    Assert.assertTrue(mLockManager.getLockedBlocks().isEmpty());
+    mThrown.expect(BlockDoesNotExistException.class);
+    mThrown.expectMessage(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_BLOCK_AND_SESSION
+        .getMessage(TEST_BLOCK_ID, TEST_SESSION_ID));
+    mLockManager.unlockBlock(TEST_SESSION_ID, TEST_BLOCK_ID);
+  }
 }
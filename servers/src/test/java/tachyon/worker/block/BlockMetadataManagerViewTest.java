@@ -178,6 +178,36 @@ public final class BlockMetadataManagerViewTest {
     Assert.assertTrue(mMetaManagerView.isBlockPinned(TEST_BLOCK_ID));
   }
 
+  /**
+   * Tests that a view created with a lock manager and updated with the pinned inodes follows the
+   * locks and pins without being created again.
+   */
+  @Test
+  public void isBlockPinnedOrLockedUpdatedTest() throws Exception {
+    long inode = BlockId.createBlockId(BlockId.getContainerId(TEST_BLOCK_ID),
+        BlockId.getMaxSequenceNumber());
+    BlockLockManager lockManager = new BlockLockManager();
+    mMetaManagerView =
+        new BlockMetadataManagerView(mMetaManager, Sets.<Long>newHashSet(), lockManager);
+    Assert.assertFalse(mMetaManagerView.isBlockLocked(TEST_BLOCK_ID));
+    Assert.assertFalse(mMetaManagerView.isBlockPinned(TEST_BLOCK_ID));
+
+    // Lock and unlock the block
+    long lockId = lockManager.lockBlock(1, TEST_BLOCK_ID, BlockLockType.READ);
+    Assert.assertTrue(mMetaManagerView.isBlockLocked(TEST_BLOCK_ID));
+    Assert.assertFalse(mMetaManagerView.isBlockEvictable(TEST_BLOCK_ID));
+    lockManager.unlockBlock(lockId);
+    Assert.assertFalse(mMetaManagerView.isBlockLocked(TEST_BLOCK_ID));
+
+    // Pin and unpin the block
+    mMetaManagerView.updatePinnedInodes(Sets.newHashSet(inode));
+    Assert.assertTrue(mMetaManagerView.isBlockPinned(TEST_BLOCK_ID));
+    Assert.assertFalse(mMetaManagerView.isBlockEvictable(TEST_BLOCK_ID));
+    mMetaManagerView.updatePinnedInodes(Sets.<Long>newHashSet());
+    Assert.assertFalse(mMetaManagerView.isBlockPinned(TEST_BLOCK_ID));
+    Assert.assertTrue(mMetaManagerView.isBlockEvictable(TEST_BLOCK_ID));
+  }
+
   /**
    * Assert if two TierViews are the same by comparing their contents.
    */
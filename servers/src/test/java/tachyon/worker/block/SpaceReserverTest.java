@@ -46,6 +46,7 @@ public class SpaceReserverTest {
   private static final long[][] TIER_CAPACITY_BYTES = {{400}, {1000}};
 
   private BlockStore mBlockStore;
+  private BlockDataManager mBlockDataManager;
   private SpaceReserver mSpaceReserver;
 
   @Rule
@@ -54,19 +55,23 @@ public class SpaceReserverTest {
   @After
   public void after() {
     mSpaceReserver.stop();
+    // Restores the defaults of the properties changed by the tests
+    WorkerContext.getConf().set(
+        String.format(Constants.WORKER_TIERED_STORE_LEVEL_WATERMARK_HIGH_RATIO_FORMAT, 0), "0.95");
+    WorkerContext.getConf().set(Constants.WORKER_TIERED_STORE_RESERVER_BANDWIDTH, "0");
   }
 
   @Before
   public void before() throws Exception {
     FileSystemMasterClient workerFileSystemMasterClient =
         PowerMockito.mock(FileSystemMasterClient.class);
-    WorkerSource workerSource = PowerMockito.mock(WorkerSource.class);
+    WorkerSource workerSource = new WorkerSource();
     BlockMasterClient blockMasterClient = PowerMockito.mock(BlockMasterClient.class);
     String baseDir = mTempFolder.newFolder().getAbsolutePath();
     TieredBlockStoreTestUtils.setupTachyonConfWithMultiTier(baseDir, TIER_ORDINAL, TIER_ALIAS,
         TIER_PATH, TIER_CAPACITY_BYTES, null);
-    mBlockStore = new TieredBlockStore();
-    BlockDataManager blockDataManager = new BlockDataManager(workerSource, blockMasterClient,
+    mBlockStore = new TieredBlockStore(workerSource);
+    mBlockDataManager = new BlockDataManager(workerSource, blockMasterClient,
         workerFileSystemMasterClient, mBlockStore);
     String reserveRatioProp =
         String.format(Constants.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT, 0);
@@ -74,7 +79,7 @@ public class SpaceReserverTest {
     reserveRatioProp =
         String.format(Constants.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT, 1);
     WorkerContext.getConf().set(reserveRatioProp, "0.3");
-    mSpaceReserver = new SpaceReserver(blockDataManager);
+    mSpaceReserver = new SpaceReserver(mBlockDataManager);
   }
 
   @Test
@@ -119,4 +124,116 @@ public class SpaceReserverTest {
     Assert.assertEquals(3 * BLOCK_SIZE, (long) usedBytesOnTiers.get("MEM"));
     Assert.assertEquals(7 * BLOCK_SIZE, (long) usedBytesOnTiers.get("HDD"));
   }
+
+  /**
+   * Tests that a tier is left alone until it crosses its high watermark, and is then freed down to
+   * its low watermark.
+   */
+  @Test
+  public void watermarkTest() throws Exception {
+    WorkerContext.getConf().set(
+        String.format(Constants.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT, 0), "0.3");
+    WorkerContext.getConf().set(
+        String.format(Constants.WORKER_TIERED_STORE_LEVEL_WATERMARK_HIGH_RATIO_FORMAT, 0), "0.9");
+    mSpaceReserver = new SpaceReserver(mBlockDataManager);
+
+    long blockId = 100;
+    BlockStoreLocation tier0 = BlockStoreLocation.anyDirInTier("MEM");
+    for (int i = 0; i < 3; i ++) {
+      TieredBlockStoreTestUtils.cache(SESSION_ID, blockId ++, BLOCK_SIZE, mBlockStore, tier0);
+    }
+    // Less space than reserved is free, but the high watermark is not crossed yet
+    Whitebox.invokeMethod(mSpaceReserver, "reserveSpace");
+    Assert.assertEquals(3 * BLOCK_SIZE, getUsedBytesOnTier("MEM"));
+
+    // Crossing the high watermark frees space down to the low watermark
+    TieredBlockStoreTestUtils.cache(SESSION_ID, blockId ++, BLOCK_SIZE, mBlockStore, tier0);
+    Whitebox.invokeMethod(mSpaceReserver, "reserveSpace");
+    Assert.assertEquals(2 * BLOCK_SIZE, getUsedBytesOnTier("MEM"));
+    Assert.assertEquals(2 * BLOCK_SIZE, getUsedBytesOnTier("HDD"));
+  }
+
+  /**
+   * Tests that the bytes moved in a round are bounded by the bandwidth, and that a tier keeps being
+   * freed in the next rounds.
+   */
+  @Test
+  public void bandwidthTest() throws Exception {
+    WorkerContext.getConf().set(
+        String.format(Constants.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT, 0), "0.6");
+    WorkerContext.getConf().set(Constants.WORKER_TIERED_STORE_RESERVER_BANDWIDTH,
+        Long.toString(BLOCK_SIZE));
+    mSpaceReserver = new SpaceReserver(mBlockDataManager);
+
+    long blockId = 100;
+    BlockStoreLocation tier0 = BlockStoreLocation.anyDirInTier("MEM");
+    for (int i = 0; i < 4; i ++) {
+      TieredBlockStoreTestUtils.cache(SESSION_ID, blockId ++, BLOCK_SIZE, mBlockStore, tier0);
+    }
+    for (int i = 3; i >= 1; i --) {
+      Whitebox.invokeMethod(mSpaceReserver, "reserveSpace");
+      Assert.assertEquals(i * BLOCK_SIZE, getUsedBytesOnTier("MEM"));
+    }
+    Whitebox.invokeMethod(mSpaceReserver, "reserveSpace");
+    Assert.assertEquals(BLOCK_SIZE, getUsedBytesOnTier("MEM"));
+    Assert.assertEquals(3 * BLOCK_SIZE, getUsedBytesOnTier("HDD"));
+  }
+
+  /**
+   * Tests that the blocks read from a lower tier are moved up when the upper tier has free space.
+   */
+  @Test
+  public void promoteTest() throws Exception {
+    long blockId = 100;
+    BlockStoreLocation tier1 = BlockStoreLocation.anyDirInTier("HDD");
+    for (int i = 0; i < 4; i ++) {
+      TieredBlockStoreTestUtils.cache(SESSION_ID, blockId + i, BLOCK_SIZE, mBlockStore, tier1);
+    }
+    // Reads the first block twice and the others once, MEM can take three blocks before its
+    // reserved space is used
+    mBlockStore.accessBlock(SESSION_ID, blockId);
+    for (int i = 0; i < 4; i ++) {
+      mBlockStore.accessBlock(SESSION_ID, blockId + i);
+    }
+    Whitebox.invokeMethod(mSpaceReserver, "reserveSpace");
+    Assert.assertEquals(3 * BLOCK_SIZE, getUsedBytesOnTier("MEM"));
+    Assert.assertEquals(BLOCK_SIZE, getUsedBytesOnTier("HDD"));
+    Assert.assertEquals("MEM",
+        mBlockStore.getVolatileBlockMeta(blockId).getBlockLocation().tierAlias());
+
+    // Blocks are only promoted once per read
+    Whitebox.invokeMethod(mSpaceReserver, "reserveSpace");
+    Assert.assertEquals(BLOCK_SIZE, getUsedBytesOnTier("HDD"));
+  }
+
+  /**
+   * Tests that the reads are dropped at the end of a round even if no bandwidth was left to promote
+   * the blocks read.
+   */
+  @Test
+  public void promoteWithoutBandwidthTest() throws Exception {
+    WorkerContext.getConf().set(
+        String.format(Constants.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT, 0), "0.6");
+    WorkerContext.getConf().set(Constants.WORKER_TIERED_STORE_RESERVER_BANDWIDTH,
+        Long.toString(BLOCK_SIZE));
+    mSpaceReserver = new SpaceReserver(mBlockDataManager);
+
+    long blockId = 100;
+    BlockStoreLocation tier0 = BlockStoreLocation.anyDirInTier("MEM");
+    for (int i = 0; i < 4; i ++) {
+      TieredBlockStoreTestUtils.cache(SESSION_ID, blockId ++, BLOCK_SIZE, mBlockStore, tier0);
+    }
+    TieredBlockStoreTestUtils.cache(SESSION_ID, blockId, BLOCK_SIZE, mBlockStore,
+        BlockStoreLocation.anyDirInTier("HDD"));
+    mBlockStore.accessBlock(SESSION_ID, blockId);
+    // Freeing MEM uses the whole bandwidth of the round
+    Whitebox.invokeMethod(mSpaceReserver, "reserveSpace");
+    Assert.assertEquals(3 * BLOCK_SIZE, getUsedBytesOnTier("MEM"));
+    Map<Long, Integer> blockAccesses = Whitebox.getInternalState(mSpaceReserver, "mBlockAccesses");
+    Assert.assertTrue(blockAccesses.isEmpty());
+  }
+
+  private long getUsedBytesOnTier(String tierAlias) {
+    return mBlockStore.getBlockStoreMeta().getUsedBytesOnTiers().get(tierAlias);
+  }
 }
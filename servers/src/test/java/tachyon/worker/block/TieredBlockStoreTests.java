@@ -33,6 +33,7 @@ import tachyon.exception.ExceptionMessage;
 import tachyon.exception.InvalidWorkerStateException;
 import tachyon.exception.WorkerOutOfSpaceException;
 import tachyon.util.io.FileUtils;
+import tachyon.worker.WorkerSource;
 import tachyon.worker.block.evictor.Evictor;
 import tachyon.worker.block.meta.BlockMeta;
 import tachyon.worker.block.meta.StorageDir;
@@ -47,6 +48,7 @@ public final class TieredBlockStoreTests {
   private static final long BLOCK_SIZE = 512;
   private static final String FIRST_TIER_ALIAS = TieredBlockStoreTestUtils.TIER_ALIAS[0];
   private static final String SECOND_TIER_ALIAS = TieredBlockStoreTestUtils.TIER_ALIAS[1];
+  private WorkerSource mWorkerSource;
   private TieredBlockStore mBlockStore;
   private BlockMetadataManager mMetaManager;
   private BlockLockManager mLockManager;
@@ -65,7 +67,8 @@ public final class TieredBlockStoreTests {
   public void before() throws Exception {
     File tempFolder = mTestFolder.newFolder();
     TieredBlockStoreTestUtils.setupTachyonConfDefault(tempFolder.getAbsolutePath());
-    mBlockStore = new TieredBlockStore();
+    mWorkerSource = new WorkerSource();
+    mBlockStore = new TieredBlockStore(mWorkerSource);
 
     // TODO(bin): Avoid using reflection to get private members.
     Field field = mBlockStore.getClass().getDeclaredField("mMetaManager");
@@ -267,6 +270,27 @@ public final class TieredBlockStoreTests {
     Assert.assertFalse(FileUtils.exists(BlockMeta.commitPath(mTestDir1, BLOCK_ID1)));
   }
 
+  @Test
+  public void freeSpaceManyBlocksTest() throws Exception {
+    long[] blockIds = {BLOCK_ID1, BLOCK_ID2, TEMP_BLOCK_ID};
+    for (long blockId : blockIds) {
+      TieredBlockStoreTestUtils.cache(SESSION_ID1, blockId, BLOCK_SIZE, mTestDir1, mMetaManager,
+          mEvictor);
+    }
+    mBlockStore.freeSpace(SESSION_ID1, mTestDir1.getCapacityBytes(),
+        mTestDir1.toBlockStoreLocation());
+    // Expect all the blocks to be moved out of mTestDir1, in parallel, and kept in the store
+    Assert.assertEquals(mTestDir1.getCapacityBytes(), mTestDir1.getAvailableBytes());
+    for (long blockId : blockIds) {
+      Assert.assertFalse(mTestDir1.hasBlockMeta(blockId));
+      Assert.assertFalse(FileUtils.exists(BlockMeta.commitPath(mTestDir1, blockId)));
+      Assert.assertTrue(mBlockStore.hasBlockMeta(blockId));
+      BlockMeta blockMeta = mBlockStore.getVolatileBlockMeta(blockId);
+      Assert.assertTrue(FileUtils.exists(blockMeta.getPath()));
+      Assert.assertEquals(BLOCK_SIZE, new File(blockMeta.getPath()).length());
+    }
+  }
+
   @Test
   public void requestSpaceTest() throws Exception {
     TieredBlockStoreTestUtils.createTempBlock(SESSION_ID1, TEMP_BLOCK_ID, 1, mTestDir1);
@@ -295,6 +319,9 @@ public final class TieredBlockStoreTests {
     Assert.assertFalse(FileUtils.exists(BlockMeta.commitPath(mTestDir1, BLOCK_ID1)));
     Assert.assertEquals(mTestDir1.getCapacityBytes(), tempBlockMeta.getBlockSize());
     Assert.assertEquals(mTestDir1, tempBlockMeta.getParentDir());
+    // Expect the eviction triggered by the allocation to be timed
+    Assert.assertEquals(1,
+        mWorkerSource.getMetricRegistry().getTimers().get("FreeSpaceTimer").getCount());
   }
 
   // When creating a block, if the space of the target location is currently taken by another block
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.block.evictor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BlockPriorityHeap}.
+ */
+public final class BlockPriorityHeapTest {
+
+  /**
+   * Tests the basic operations on a few blocks.
+   */
+  @Test
+  public void putRemoveTest() {
+    BlockPriorityHeap heap = new BlockPriorityHeap();
+    heap.put(1L, 3.0);
+    heap.put(2L, 1.0);
+    heap.put(3L, 2.0);
+    Assert.assertEquals(3, heap.size());
+    Assert.assertTrue(heap.contains(2L));
+    Assert.assertEquals(1.0, heap.getPriority(2L), 0);
+    assertOrder(heap, 2L, 3L, 1L);
+
+    heap.put(1L, 0.5);
+    assertOrder(heap, 1L, 2L, 3L);
+
+    Assert.assertTrue(heap.remove(2L));
+    Assert.assertFalse(heap.remove(2L));
+    Assert.assertFalse(heap.contains(2L));
+    Assert.assertEquals(2, heap.size());
+    assertOrder(heap, 1L, 3L);
+  }
+
+  /**
+   * Tests that the iteration order matches sorting the blocks by priority, after a random sequence
+   * of operations which grows the heap and removes blocks from it.
+   */
+  @Test
+  public void randomOperationsTest() {
+    Random random = new Random(0);
+    BlockPriorityHeap heap = new BlockPriorityHeap();
+    final Map<Long, Double> expected = new HashMap<Long, Double>();
+    for (int i = 0; i < 20000; i ++) {
+      // A small key space so that updates and removals hit existing blocks
+      long blockId = random.nextInt(5000) * 7919L;
+      if (random.nextInt(4) == 0) {
+        Assert.assertEquals(expected.remove(blockId) != null, heap.remove(blockId));
+      } else {
+        double priority = random.nextDouble();
+        expected.put(blockId, priority);
+        heap.put(blockId, priority);
+      }
+    }
+    Assert.assertEquals(expected.size(), heap.size());
+    for (Map.Entry<Long, Double> entry : expected.entrySet()) {
+      Assert.assertEquals(entry.getValue(), heap.getPriority(entry.getKey()), 0);
+    }
+
+    List<Long> sorted = new ArrayList<Long>(expected.keySet());
+    Collections.sort(sorted, new Comparator<Long>() {
+      @Override
+      public int compare(Long o1, Long o2) {
+        return Double.compare(expected.get(o1), expected.get(o2));
+      }
+    });
+    List<Long> actual = new ArrayList<Long>();
+    Iterator<Long> it = heap.iterator();
+    while (it.hasNext()) {
+      actual.add(it.next());
+    }
+    Assert.assertEquals(sorted, actual);
+  }
+
+  private void assertOrder(BlockPriorityHeap heap, Long... blockIds) {
+    List<Long> actual = new ArrayList<Long>();
+    Iterator<Long> it = heap.iterator();
+    while (it.hasNext()) {
+      actual.add(it.next());
+    }
+    Assert.assertEquals(blockIds.length, actual.size());
+    for (int i = 0; i < blockIds.length; i ++) {
+      Assert.assertEquals(blockIds[i], actual.get(i));
+    }
+  }
+}
@@ -15,9 +15,11 @@
 
 package tachyon.worker.lineage;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.channels.ReadableByteChannel;
-import java.nio.channels.WritableByteChannel;
+import java.nio.channels.Channels;
 import java.util.List;
 
 import org.junit.Assert;
@@ -25,7 +27,6 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.mockito.internal.util.reflection.Whitebox;
-import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
@@ -34,10 +35,12 @@ import com.google.common.collect.Lists;
 import tachyon.Constants;
 import tachyon.Sessions;
 import tachyon.conf.TachyonConf;
+import tachyon.exception.BlockDoesNotExistException;
 import tachyon.thrift.FileInfo;
 import tachyon.underfs.UnderFileSystem;
 import tachyon.util.io.BufferUtils;
 import tachyon.util.io.PathUtils;
+import tachyon.worker.WorkerSource;
 import tachyon.worker.block.BlockDataManager;
 import tachyon.worker.block.io.BlockReader;
 
@@ -45,7 +48,7 @@ import tachyon.worker.block.io.BlockReader;
  * Tests {@link LineageDataManager}.
  */
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({BlockDataManager.class, BufferUtils.class})
+@PrepareForTest(BlockDataManager.class)
 public final class LineageDataManagerTest {
 
   @Test
@@ -53,46 +56,83 @@ public final class LineageDataManagerTest {
   public void persistFileTest() throws Exception {
     long fileId = 1;
     List<Long> blockIds = Lists.newArrayList(1L, 2L);
+    // the first block spans several read-ahead chunks
+    int firstBlockLength = 2 * 4 * Constants.MB + 1;
+    int secondBlockLength = 10;
+
+    BlockDataManager blockDataManager = mockBlockDataManager(fileId);
+    BlockReader reader1 = mockBlockReader(blockDataManager, 1L,
+        BufferUtils.getIncreasingByteArray(firstBlockLength));
+    BlockReader reader2 = mockBlockReader(blockDataManager, 2L,
+        BufferUtils.getIncreasingByteArray(firstBlockLength, secondBlockLength));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    LineageDataManager manager = createManager(blockDataManager, fileId, outputStream);
 
-    // mock block data manager
-    BlockDataManager blockDataManager = Mockito.mock(BlockDataManager.class);
-    FileInfo fileInfo = new FileInfo();
-    fileInfo.path = "test";
-    Mockito.when(blockDataManager.getFileInfo(fileId)).thenReturn(fileInfo);
-    BlockReader reader = Mockito.mock(BlockReader.class);
-    for (long blockId : blockIds) {
-      Mockito.when(blockDataManager.lockBlock(Sessions.CHECKPOINT_SESSION_ID, blockId))
-          .thenReturn(blockId);
-      Mockito
-          .when(blockDataManager.readBlockRemote(Sessions.CHECKPOINT_SESSION_ID, blockId, blockId))
-          .thenReturn(reader);
-    }
+    manager.persistFile(fileId, blockIds);
 
-    LineageDataManager manager = new LineageDataManager(blockDataManager);
+    // verify the blocks were written in order
+    Assert.assertTrue(BufferUtils.equalIncreasingByteArray(firstBlockLength + secondBlockLength,
+        outputStream.toByteArray()));
+    // verify the blocks were released
+    Mockito.verify(reader1).close();
+    Mockito.verify(reader2).close();
+    Mockito.verify(blockDataManager).unlockBlock(1L);
+    Mockito.verify(blockDataManager).unlockBlock(2L);
+    // verify the persistence was timed
+    Assert.assertEquals(1, blockDataManager.getWorkerSource().getMetricRegistry().getTimers()
+        .get("UfsPersistFileTimer").getCount());
 
-    // mock ufs
-    UnderFileSystem ufs = Mockito.mock(UnderFileSystem.class);
-    String ufsRoot = new TachyonConf().get(Constants.UNDERFS_ADDRESS);
-    Mockito.when(ufs.exists(ufsRoot)).thenReturn(true);
-    Whitebox.setInternalState(manager, "mUfs", ufs);
-    OutputStream outputStream = Mockito.mock(OutputStream.class);
-
-    // mock BufferUtils
-    PowerMockito.mockStatic(BufferUtils.class);
+    // verify file persisted
+    List<Long> persistedFiles = (List<Long>) Whitebox.getInternalState(manager, "mPersistedFiles");
+    Assert.assertEquals(Lists.newArrayList(fileId), persistedFiles);
+  }
 
-    String dstPath = PathUtils.concatPath(ufsRoot, fileInfo.getPath());
-    Mockito.when(ufs.create(dstPath)).thenReturn(outputStream);
+  @Test
+  @SuppressWarnings("unchecked")
+  public void persistFileFailureTest() throws Exception {
+    long fileId = 1;
+    List<Long> blockIds = Lists.newArrayList(1L, 2L);
 
-    manager.persistFile(fileId, blockIds);
+    BlockDataManager blockDataManager = mockBlockDataManager(fileId);
+    mockBlockReader(blockDataManager, 1L, BufferUtils.getIncreasingByteArray(10));
+    Mockito.when(blockDataManager.lockBlock(Sessions.CHECKPOINT_SESSION_ID, 2L))
+        .thenThrow(new BlockDoesNotExistException("block 2 does not exist"));
+    LineageDataManager manager =
+        createManager(blockDataManager, fileId, new ByteArrayOutputStream());
+
+    try {
+      manager.persistFile(fileId, blockIds);
+      Assert.fail("persisting a file with a missing block should fail");
+    } catch (IOException e) {
+      Assert.assertTrue(e.getCause() instanceof BlockDoesNotExistException);
+    }
 
-    // verify file persisted
+    // verify the first block was released, and the file not reported as persisted
+    Mockito.verify(blockDataManager).unlockBlock(1L);
     List<Long> persistedFiles = (List<Long>) Whitebox.getInternalState(manager, "mPersistedFiles");
-    Assert.assertEquals(Lists.newArrayList(fileId), persistedFiles);
+    Assert.assertTrue(persistedFiles.isEmpty());
+  }
+
+  @Test
+  public void persistFileCreateFailureTest() throws Exception {
+    long fileId = 1;
+    BlockDataManager blockDataManager = mockBlockDataManager(fileId);
+    // the under file system fails to create the file
+    LineageDataManager manager = createManager(blockDataManager, fileId, null);
+
+    try {
+      manager.persistFile(fileId, Lists.newArrayList(1L));
+      Assert.fail("persisting a file which cannot be created should fail");
+    } catch (IOException e) {
+      // expected
+    }
 
-    // verify fastCopy called twice, once per block
-    PowerMockito.verifyStatic(Mockito.times(2));
-    BufferUtils.fastCopy(Mockito.any(ReadableByteChannel.class),
-        Mockito.any(WritableByteChannel.class));
+    // verify no block was read ahead
+    Mockito.verify(blockDataManager, Mockito.never()).lockBlock(Mockito.anyLong(),
+        Mockito.anyLong());
+    // verify the failed persistence was timed
+    Assert.assertEquals(1, blockDataManager.getWorkerSource().getMetricRegistry().getTimers()
+        .get("UfsPersistFileTimer").getCount());
   }
 
   @Test
@@ -110,4 +150,37 @@ public final class LineageDataManagerTest {
     Assert.assertTrue(persistedFiles.isEmpty());
   }
 
+  private BlockDataManager mockBlockDataManager(long fileId) throws Exception {
+    BlockDataManager blockDataManager = Mockito.mock(BlockDataManager.class);
+    FileInfo fileInfo = new FileInfo();
+    fileInfo.path = "test";
+    Mockito.when(blockDataManager.getFileInfo(fileId)).thenReturn(fileInfo);
+    Mockito.when(blockDataManager.getWorkerSource()).thenReturn(new WorkerSource());
+    return blockDataManager;
+  }
+
+  private BlockReader mockBlockReader(BlockDataManager blockDataManager, long blockId,
+      byte[] data) throws Exception {
+    BlockReader reader = Mockito.mock(BlockReader.class);
+    Mockito.when(reader.getLength()).thenReturn((long) data.length);
+    Mockito.when(reader.getChannel())
+        .thenReturn(Channels.newChannel(new ByteArrayInputStream(data)));
+    // the lock id is the block id
+    Mockito.when(blockDataManager.lockBlock(Sessions.CHECKPOINT_SESSION_ID, blockId))
+        .thenReturn(blockId);
+    Mockito.when(blockDataManager.readBlockRemote(Sessions.CHECKPOINT_SESSION_ID, blockId, blockId))
+        .thenReturn(reader);
+    return reader;
+  }
+
+  private LineageDataManager createManager(BlockDataManager blockDataManager, long fileId,
+      OutputStream outputStream) throws Exception {
+    LineageDataManager manager = new LineageDataManager(blockDataManager);
+    UnderFileSystem ufs = Mockito.mock(UnderFileSystem.class);
+    String ufsRoot = new TachyonConf().get(Constants.UNDERFS_ADDRESS);
+    Mockito.when(ufs.exists(ufsRoot)).thenReturn(true);
+    Mockito.when(ufs.create(PathUtils.concatPath(ufsRoot, "test"))).thenReturn(outputStream);
+    Whitebox.setInternalState(manager, "mUfs", ufs);
+    return manager;
+  }
 }
@@ -28,6 +28,7 @@ import com.google.common.io.Closer;
 
 import tachyon.Constants;
 import tachyon.TachyonURI;
+import tachyon.client.file.BatchResult;
 import tachyon.client.file.FileOutStream;
 import tachyon.client.file.TachyonFile;
 import tachyon.client.file.TachyonFileSystem;
@@ -147,44 +148,28 @@ public final class CopyFromLocalCommand extends AbstractTfsShellCommand {
           }
         }
 
-        Closer closer = Closer.create();
-        FileOutStream os = null;
-        try {
-          os = closer.register(mTfs.getOutStream(dstPath, OutStreamOptions.defaults()));
-          FileInputStream in = closer.register(new FileInputStream(src));
-          FileChannel channel = closer.register(in.getChannel());
-          ByteBuffer buf = ByteBuffer.allocate(8 * Constants.MB);
-          while (channel.read(buf) != -1) {
-            buf.flip();
-            os.write(buf.array(), 0, buf.limit());
-          }
-        } catch (IOException e) {
-          // Close the out stream and delete the file, so we don't have an incomplete file lying
-          // around
-          if (os != null) {
-            os.cancel();
-            fd = mTfs.openIfExists(dstPath);
-            if (fd != null) {
-              mTfs.delete(fd);
-            }
-          }
-          throw e;
-        } finally {
-          closer.close();
-        }
+        copyFile(src, dstPath, mTfs.getOutStream(dstPath, OutStreamOptions.defaults()));
       } else {
         mTfs.mkdir(dstPath);
         List<String> errorMessages = Lists.newArrayList();
         String[] fileList = src.list();
+        List<File> srcFiles = Lists.newArrayList();
+        List<TachyonURI> dstFiles = Lists.newArrayList();
         for (String file : fileList) {
           TachyonURI newPath = new TachyonURI(dstPath, new TachyonURI(file));
           File srcFile = new File(src, file);
-          try {
-            copyPath(srcFile, newPath);
-          } catch (IOException e) {
-            errorMessages.add(e.getMessage());
+          if (srcFile.isDirectory()) {
+            try {
+              copyPath(srcFile, newPath);
+            } catch (IOException e) {
+              errorMessages.add(e.getMessage());
+            }
+          } else {
+            srcFiles.add(srcFile);
+            dstFiles.add(newPath);
           }
         }
+        copyFiles(srcFiles, dstFiles, errorMessages);
         if (errorMessages.size() != 0) {
           if (errorMessages.size() == fileList.length) {
             // If no files were created, then delete the directory
@@ -200,4 +185,82 @@ public final class CopyFromLocalCommand extends AbstractTfsShellCommand {
       throw new IOException(e.getMessage());
     }
   }
+
+  /**
+   * Copies files from the local filesystem into a newly created directory in the Tachyon
+   * filesystem space. The files are created in batches, with a single request to the master for
+   * each batch, and then written one by one. Since the directory is new, the destination paths
+   * are not checked one by one.
+   *
+   * @param srcFiles the source files in the local filesystem
+   * @param dstPaths the {@link TachyonURI}s of the destination of each file
+   * @param errorMessages the list to add the message of each failed copy to
+   * @throws IOException if a non-Tachyon exception occurs
+   * @throws TachyonException if an unexpected Tachyon exception is thrown
+   */
+  private void copyFiles(List<File> srcFiles, List<TachyonURI> dstPaths,
+      List<String> errorMessages) throws IOException, TachyonException {
+    int batchSize = mTachyonConf.getInt(Constants.USER_FILE_METADATA_BATCH_SIZE);
+    OutStreamOptions options = OutStreamOptions.defaults();
+    for (int start = 0; start < srcFiles.size(); start += batchSize) {
+      List<TachyonURI> batch =
+          dstPaths.subList(start, Math.min(start + batchSize, dstPaths.size()));
+      List<BatchResult<TachyonFile>> created = mTfs.createBatch(batch, options);
+      for (int i = 0; i < created.size(); i ++) {
+        try {
+          // The stream is only opened once the file is copied, since it may hold resources of the
+          // under storage until it is closed.
+          TachyonFile file = created.get(i).getValue();
+          FileOutStream os;
+          try {
+            os = mTfs.getOutStream(file, options);
+          } catch (IOException e) {
+            mTfs.delete(file);
+            throw e;
+          }
+          copyFile(srcFiles.get(start + i), batch.get(i), os);
+        } catch (IOException e) {
+          errorMessages.add(e.getMessage());
+        } catch (TachyonException e) {
+          errorMessages.add(e.getMessage());
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes a file from the local filesystem to an output stream of the Tachyon filesystem space.
+   * The Tachyon file is deleted if the copy fails.
+   *
+   * @param src the source file in the local filesystem
+   * @param dstPath the {@link TachyonURI} of the destination
+   * @param os the output stream of the destination, which is closed by this method
+   * @throws IOException if a non-Tachyon exception occurs
+   * @throws TachyonException if an unexpected Tachyon exception is thrown
+   */
+  private void copyFile(File src, TachyonURI dstPath, FileOutStream os)
+      throws IOException, TachyonException {
+    Closer closer = Closer.create();
+    try {
+      closer.register(os);
+      FileInputStream in = closer.register(new FileInputStream(src));
+      FileChannel channel = closer.register(in.getChannel());
+      ByteBuffer buf = ByteBuffer.allocate(8 * Constants.MB);
+      while (channel.read(buf) != -1) {
+        buf.flip();
+        os.write(buf.array(), 0, buf.limit());
+      }
+    } catch (IOException e) {
+      // Close the out stream and delete the file, so we don't have an incomplete file lying
+      // around
+      os.cancel();
+      TachyonFile fd = mTfs.openIfExists(dstPath);
+      if (fd != null) {
+        mTfs.delete(fd);
+      }
+      throw e;
+    } finally {
+      closer.close();
+    }
+  }
 }
@@ -16,8 +16,14 @@
 package tachyon.shell.command;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
 
 import tachyon.TachyonURI;
+import tachyon.client.file.BatchResult;
 import tachyon.client.file.TachyonFile;
 import tachyon.client.file.TachyonFileSystem;
 import tachyon.client.file.options.DeleteOptions;
@@ -41,13 +47,41 @@ public final class RmrCommand extends WithWildCardPathCommand {
 
   @Override
   void runCommand(TachyonURI path) throws IOException {
+    runCommand(Lists.newArrayList(path));
+  }
+
+  /**
+   * Removes all the paths with a single batched request to the master.
+   */
+  @Override
+  void runCommand(List<TachyonURI> paths) throws IOException {
+    List<String> errorMessages = new ArrayList<String>();
     try {
+      List<TachyonURI> openedPaths = new ArrayList<TachyonURI>(paths.size());
+      List<TachyonFile> files = new ArrayList<TachyonFile>(paths.size());
+      for (TachyonURI path : paths) {
+        try {
+          files.add(mTfs.open(path));
+          openedPaths.add(path);
+        } catch (TachyonException e) {
+          errorMessages.add(e.getMessage());
+        }
+      }
       DeleteOptions options = new DeleteOptions.Builder().setRecursive(true).build();
-      TachyonFile fd = mTfs.open(path);
-      mTfs.delete(fd, options);
-      System.out.println(path + " has been removed");
+      List<BatchResult<Boolean>> results = mTfs.deleteBatch(files, options);
+      for (int i = 0; i < results.size(); i ++) {
+        if (results.get(i).isSuccessful()) {
+          System.out.println(openedPaths.get(i) + " has been removed");
+        } else {
+          errorMessages.add(results.get(i).getException().getMessage());
+        }
+      }
     } catch (TachyonException e) {
       throw new IOException(e.getMessage());
     }
+
+    if (errorMessages.size() != 0) {
+      throw new IOException(Joiner.on('\n').join(errorMessages));
+    }
   }
 }
@@ -48,6 +48,29 @@ public abstract class WithWildCardPathCommand extends AbstractTfsShellCommand {
    */
   abstract void runCommand(TachyonURI path) throws IOException;
 
+  /**
+   * Runs the command against all the expanded paths. By default, the command is run against each
+   * path in turn. Commands which can handle all the paths at once, such as with batched requests to
+   * the master, override this.
+   *
+   * @param paths the expanded input paths, in ascending order
+   * @throws IOException if the command fails for any of the paths, with all the failure messages
+   */
+  void runCommand(List<TachyonURI> paths) throws IOException {
+    List<String> errorMessages = new ArrayList<String>();
+    for (TachyonURI path : paths) {
+      try {
+        runCommand(path);
+      } catch (IOException e) {
+        errorMessages.add(e.getMessage());
+      }
+    }
+
+    if (errorMessages.size() != 0) {
+      throw new IOException(Joiner.on('\n').join(errorMessages));
+    }
+  }
+
   @Override
   protected int getNumOfArgs() {
     return 1;
@@ -62,19 +85,7 @@ public abstract class WithWildCardPathCommand extends AbstractTfsShellCommand {
       throw new IOException(inputPath + " does not exist.");
     }
     Collections.sort(paths, createTachyonURIComparator());
-
-    List<String> errorMessages = new ArrayList<String>();
-    for (TachyonURI path : paths) {
-      try {
-        runCommand(path);
-      } catch (IOException e) {
-        errorMessages.add(e.getMessage());
-      }
-    }
-
-    if (errorMessages.size() != 0) {
-      throw new IOException(Joiner.on('\n').join(errorMessages));
-    }
+    runCommand(paths);
   }
 
   private static Comparator<TachyonURI> createTachyonURIComparator() {
@@ -392,6 +392,20 @@ public class HdfsUnderFileSystem extends UnderFileSystem {
     throw te;
   }
 
+  @Override
+  public FSDataInputStream open(String path, long offset) throws IOException {
+    FSDataInputStream inputStream = open(path);
+    if (offset > 0) {
+      try {
+        inputStream.seek(offset);
+      } catch (IOException e) {
+        inputStream.close();
+        throw e;
+      }
+    }
+    return inputStream;
+  }
+
   @Override
   public boolean rename(String src, String dst) throws IOException {
     LOG.debug("Renaming from {} to {}", src, dst);
@@ -214,6 +214,21 @@ public class LocalUnderFileSystem extends UnderFileSystem {
     return new FileInputStream(path);
   }
 
+  @Override
+  public InputStream open(String path, long offset) throws IOException {
+    FileInputStream inputStream = new FileInputStream(path);
+    if (offset > 0) {
+      try {
+        // Positioning the channel also positions the stream, without reading the skipped bytes
+        inputStream.getChannel().position(offset);
+      } catch (IOException e) {
+        inputStream.close();
+        throw e;
+      }
+    }
+    return inputStream;
+  }
+
   @Override
   public boolean rename(String src, String dst) throws IOException {
     File file = new File(src);
@@ -45,11 +45,39 @@ public class S3InputStream extends InputStream {
   /** Position of the S3InputStream stream */
   private long mPos;
 
+  /**
+   * Creates a new {@link S3InputStream} reading an object from its beginning.
+   *
+   * @param bucketName the name of the bucket
+   * @param key the key of the object
+   * @param client the JetS3t client
+   * @throws ServiceException if the object cannot be requested from S3
+   */
   S3InputStream(String bucketName, String key, S3Service client) throws ServiceException {
+    this(bucketName, key, client, 0L);
+  }
+
+  /**
+   * Creates a new {@link S3InputStream} reading an object from an offset. Only the bytes from the
+   * offset onwards are requested from S3.
+   *
+   * @param bucketName the name of the bucket
+   * @param key the key of the object
+   * @param client the JetS3t client
+   * @param position the offset in the object to start reading at
+   * @throws ServiceException if the object cannot be requested from S3
+   */
+  S3InputStream(String bucketName, String key, S3Service client, long position)
+      throws ServiceException {
     mBucketName = bucketName;
     mKey = key;
     mClient = client;
-    mObject = mClient.getObject(mBucketName, mKey);
+    mPos = position;
+    if (position > 0) {
+      mObject = mClient.getObject(mBucketName, mKey, null, null, null, null, position, null);
+    } else {
+      mObject = mClient.getObject(mBucketName, mKey);
+    }
     mInputStream = new BufferedInputStream(mObject.getDataInputStream());
   }
 
@@ -88,7 +116,9 @@ public class S3InputStream extends InputStream {
   @Override
   public long skip(long n) throws IOException {
     if (mInputStream.available() >= n) {
-      return mInputStream.skip(n);
+      long skipped = mInputStream.skip(n);
+      mPos += skipped;
+      return skipped;
     }
     // The number of bytes to skip is possibly large, open a new stream from S3.
     mInputStream.close();
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.underfs.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.jets3t.service.S3Service;
+import org.jets3t.service.ServiceException;
+import org.jets3t.service.model.MultipartPart;
+import org.jets3t.service.model.MultipartUpload;
+import org.jets3t.service.model.S3Object;
+import org.jets3t.service.utils.Mimetypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+import tachyon.Constants;
+import tachyon.util.ThreadFactoryUtils;
+
+/**
+ * This class creates a streaming interface for writing a file in s3 with a multipart upload. The
+ * data is buffered in memory parts of a fixed size, and each part is uploaded by a pool of threads
+ * as soon as it is full, while the following parts are being written. At most one more part than
+ * the number of upload threads is buffered: once they are all in use, writes wait for a part to be
+ * uploaded. The upload is completed when the {@link #close()} method is called. A file which fits
+ * in a single part is uploaded with a single request instead.
+ */
+public class S3MultipartOutputStream extends OutputStream {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** Bucket name of the Tachyon S3 bucket */
+  private final String mBucketName;
+  /** Key of the file when it is uploaded to S3 */
+  private final String mKey;
+  /** The JetS3t client for S3 operations */
+  private final S3Service mClient;
+  /** The size of each part, except the last one */
+  private final int mPartSize;
+  /** The number of parts to upload in parallel */
+  private final int mUploadThreads;
+  /** The parts which were uploaded and can be reused */
+  private final BlockingQueue<byte[]> mFreeParts;
+  /** The results of the uploads of the parts, in the order of the parts */
+  private final List<Future<MultipartPart>> mUploadedParts;
+
+  /** The number of part buffers allocated so far */
+  private int mNumPartsAllocated;
+  /** The part being written */
+  private byte[] mPart;
+  /** The number of bytes written to the current part */
+  private int mPartLength;
+  /** The multipart upload, which is started once the first part is full */
+  private MultipartUpload mUpload;
+  /** The threads uploading the parts, which are started with the upload */
+  private ExecutorService mUploadExecutor;
+  /**
+   * The first failure of the upload, if any: of a part, of starting the multipart upload, or of a
+   * write interrupted while waiting for a free part. Once set, the file is never completed.
+   */
+  private volatile Exception mUploadFailure;
+  /** Whether the multipart upload was aborted, to ensure it is only aborted once */
+  private boolean mAborted;
+
+  /** Flag to indicate this stream has been closed, to ensure close is only done once */
+  private boolean mClosed;
+
+  /**
+   * Creates a new {@link S3MultipartOutputStream}.
+   *
+   * @param bucketName the name of the bucket
+   * @param key the key of the file
+   * @param client the JetS3t client
+   * @param partSize the size of each part, except the last one
+   * @param uploadThreads the number of parts to upload in parallel
+   */
+  public S3MultipartOutputStream(String bucketName, String key, S3Service client, int partSize,
+      int uploadThreads) {
+    Preconditions.checkArgument(bucketName != null && !bucketName.isEmpty(), "Bucket name must "
+        + "not be null or empty.");
+    Preconditions.checkArgument(partSize > 0, "Part size must be positive: %s", partSize);
+    Preconditions.checkArgument(uploadThreads > 0, "Upload threads must be positive: %s",
+        uploadThreads);
+    mBucketName = bucketName;
+    mKey = key;
+    mClient = client;
+    mPartSize = partSize;
+    mUploadThreads = uploadThreads;
+    mFreeParts = new LinkedBlockingQueue<byte[]>();
+    mUploadedParts = new ArrayList<Future<MultipartPart>>();
+    mNumPartsAllocated = 1;
+    mPart = new byte[partSize];
+    mPartLength = 0;
+    mClosed = false;
+    mAborted = false;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (mPartLength == mPartSize) {
+      uploadPart();
+    }
+    mPart[mPartLength ++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b) throws IOException {
+    write(b, 0, b.length);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkPositionIndexes(off, off + len, b.length);
+    while (len > 0) {
+      if (mPartLength == mPartSize) {
+        uploadPart();
+      }
+      int toCopy = Math.min(len, mPartSize - mPartLength);
+      System.arraycopy(b, off, mPart, mPartLength, toCopy);
+      mPartLength += toCopy;
+      off += toCopy;
+      len -= toCopy;
+    }
+  }
+
+  /**
+   * Does nothing: the data is uploaded a whole part at a time, and S3 only makes the file visible
+   * once it is closed.
+   */
+  @Override
+  public void flush() {}
+
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    try {
+      // A failed write left the data incomplete, so neither put nor complete a truncated file
+      checkUploadFailure();
+      if (mUpload == null) {
+        putObject();
+        return;
+      }
+      if (mPartLength > 0) {
+        uploadPart();
+      }
+      List<MultipartPart> parts = new ArrayList<MultipartPart>(mUploadedParts.size());
+      for (Future<MultipartPart> uploadedPart : mUploadedParts) {
+        parts.add(getUploadedPart(uploadedPart));
+      }
+      mClient.multipartCompleteUpload(mUpload, parts);
+      LOG.debug("Uploaded {} in {} parts", mKey, parts.size());
+    } catch (ServiceException se) {
+      abortUpload();
+      throw new IOException(se);
+    } catch (IOException ioe) {
+      abortUpload();
+      throw ioe;
+    } finally {
+      if (mUploadExecutor != null) {
+        mUploadExecutor.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Uploads a file which fits in a single part with a single request.
+   *
+   * @throws IOException if the upload fails
+   */
+  private void putObject() throws IOException {
+    try {
+      mClient.putObject(mBucketName, createPartObject(mPart, mPartLength));
+    } catch (ServiceException se) {
+      LOG.error("Failed to upload {}", mKey);
+      throw new IOException(se);
+    }
+  }
+
+  /**
+   * Uploads the current part in the background, starting the multipart upload if this is the
+   * first part, and takes a free part to write the following data to.
+   *
+   * @throws IOException if the upload of a part failed, or the multipart upload cannot be started
+   */
+  private void uploadPart() throws IOException {
+    checkUploadFailure();
+    if (mUpload == null) {
+      try {
+        mUpload =
+            mClient.multipartStartUpload(mBucketName, mKey, new HashMap<String, Object>());
+      } catch (ServiceException se) {
+        mUploadFailure = se;
+        throw new IOException(se);
+      }
+      mUploadExecutor = Executors.newFixedThreadPool(mUploadThreads,
+          ThreadFactoryUtils.build("s3-upload-%d", true));
+    }
+    final byte[] part = mPart;
+    final int partLength = mPartLength;
+    final int partNumber = mUploadedParts.size() + 1;
+    mUploadedParts.add(mUploadExecutor.submit(new Callable<MultipartPart>() {
+      @Override
+      public MultipartPart call() throws Exception {
+        try {
+          return mClient.multipartUploadPart(mUpload, partNumber,
+              createPartObject(part, partLength));
+        } catch (Exception e) {
+          mUploadFailure = e;
+          throw e;
+        } finally {
+          mFreeParts.offer(part);
+        }
+      }
+    }));
+    mPartLength = 0;
+    mPart = mFreeParts.poll();
+    if (mPart == null) {
+      if (mNumPartsAllocated <= mUploadThreads) {
+        mNumPartsAllocated ++;
+        mPart = new byte[mPartSize];
+      } else {
+        try {
+          mPart = mFreeParts.take();
+        } catch (InterruptedException ie) {
+          // The rest of the write is lost, so the file must not be completed
+          mUploadFailure = ie;
+          Thread.currentThread().interrupt();
+          throw new IOException(ie);
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates the object to upload the data of a part with.
+   *
+   * @param part the part
+   * @param partLength the number of bytes of data in the part
+   * @return the object to upload
+   */
+  private S3Object createPartObject(byte[] part, int partLength) {
+    S3Object obj = new S3Object(mKey);
+    obj.setBucketName(mBucketName);
+    obj.setDataInputStream(new ByteArrayInputStream(part, 0, partLength));
+    obj.setContentLength(partLength);
+    obj.setContentEncoding(Mimetypes.MIMETYPE_BINARY_OCTET_STREAM);
+    try {
+      MessageDigest hash = MessageDigest.getInstance("MD5");
+      hash.update(part, 0, partLength);
+      obj.setMd5Hash(hash.digest());
+    } catch (NoSuchAlgorithmException nsae) {
+      LOG.warn("MD5 was not computed for: {}", mKey);
+    }
+    return obj;
+  }
+
+  private MultipartPart getUploadedPart(Future<MultipartPart> uploadedPart) throws IOException {
+    try {
+      return uploadedPart.get();
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new IOException(ie);
+    } catch (ExecutionException ee) {
+      throw new IOException(ee.getCause());
+    }
+  }
+
+  private void checkUploadFailure() throws IOException {
+    Exception failure = mUploadFailure;
+    if (failure != null) {
+      abortUpload();
+      throw new IOException(failure);
+    }
+  }
+
+  private void abortUpload() {
+    if (mUpload == null || mAborted) {
+      return;
+    }
+    mAborted = true;
+    LOG.error("Aborting the upload of {}", mKey);
+    try {
+      mClient.multipartAbortUpload(mUpload);
+    } catch (ServiceException se) {
+      LOG.error("Failed to abort the upload of {}", mKey, se);
+    }
+  }
+}
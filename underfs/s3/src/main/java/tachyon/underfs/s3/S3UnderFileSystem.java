@@ -54,6 +54,8 @@ public class S3UnderFileSystem extends UnderFileSystem {
   private static final String FOLDER_SUFFIX = "_$folder$";
   /** Value used to indicate folder structure in S3 */
   private static final String PATH_SEPARATOR = "/";
+  /** The minimum size of the parts of a multipart upload, except the last one, set by S3 */
+  private static final long MIN_MULTIPART_UPLOAD_PART_SIZE = 5 * Constants.MB;
 
   /** Jets3t S3 client */
   private final S3Service mClient;
@@ -61,6 +63,12 @@ public class S3UnderFileSystem extends UnderFileSystem {
   private final String mBucketName;
   /** Prefix of the bucket, for example s3n://my-bucket-name/ */
   private final String mBucketPrefix;
+  /** Whether files are written with multipart uploads */
+  private final boolean mMultipartUploadEnabled;
+  /** The size of the parts of multipart uploads */
+  private final int mMultipartUploadPartSize;
+  /** The number of parts each file uploads in parallel with multipart uploads */
+  private final int mMultipartUploadThreads;
 
   private static final byte[] DIR_HASH;
 
@@ -96,6 +104,18 @@ public class S3UnderFileSystem extends UnderFileSystem {
     LOG.debug("Initializing S3 underFs with properties: {}", props.getProperties());
     mClient = new RestS3Service(awsCredentials, null, null, props);
     mBucketPrefix = Constants.HEADER_S3N + mBucketName + PATH_SEPARATOR;
+    mMultipartUploadEnabled =
+        tachyonConf.getBoolean(Constants.UNDERFS_S3_UPLOAD_MULTIPART_ENABLED);
+    if (mMultipartUploadEnabled) {
+      long partSize = tachyonConf.getBytes(Constants.UNDERFS_S3_UPLOAD_MULTIPART_PART_SIZE);
+      Preconditions.checkArgument(partSize >= MIN_MULTIPART_UPLOAD_PART_SIZE
+          && partSize <= Integer.MAX_VALUE, "Property %s must be between 5MB and 2GB: %s",
+          Constants.UNDERFS_S3_UPLOAD_MULTIPART_PART_SIZE, partSize);
+      mMultipartUploadPartSize = (int) partSize;
+    } else {
+      mMultipartUploadPartSize = 0;
+    }
+    mMultipartUploadThreads = tachyonConf.getInt(Constants.UNDERFS_S3_UPLOAD_MULTIPART_THREADS);
   }
 
   @Override
@@ -120,6 +140,10 @@ public class S3UnderFileSystem extends UnderFileSystem {
   @Override
   public OutputStream create(String path) throws IOException {
     if (mkdirs(getParentKey(path), true)) {
+      if (mMultipartUploadEnabled) {
+        return new S3MultipartOutputStream(mBucketName, stripPrefixIfPresent(path), mClient,
+            mMultipartUploadPartSize, mMultipartUploadThreads);
+      }
       return new S3OutputStream(mBucketName, stripPrefixIfPresent(path), mClient);
     }
     return null;
@@ -284,6 +308,18 @@ public class S3UnderFileSystem extends UnderFileSystem {
     }
   }
 
+  @Override
+  public InputStream open(String path, long offset) throws IOException {
+    try {
+      path = stripPrefixIfPresent(path);
+      // Uses a ranged GET request, so the bytes before the offset are not transferred
+      return new S3InputStream(mBucketName, path, mClient, offset);
+    } catch (ServiceException se) {
+      LOG.error("Failed to open file {} at offset {}", path, offset, se);
+      return null;
+    }
+  }
+
   @Override
   public boolean rename(String src, String dst) throws IOException {
     if (!exists(src)) {
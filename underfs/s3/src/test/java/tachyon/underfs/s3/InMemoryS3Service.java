@@ -0,0 +1,267 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.underfs.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jets3t.service.S3Service;
+import org.jets3t.service.S3ServiceException;
+import org.jets3t.service.ServiceException;
+import org.jets3t.service.model.MultipartPart;
+import org.jets3t.service.model.MultipartUpload;
+import org.jets3t.service.model.S3Object;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * A local stand-in for S3, which keeps objects in memory. It provides a {@link S3Service} client
+ * answering the requests used to read and write objects, including ranged reads and multipart
+ * uploads, so that the S3 streams can be tested without an S3 backend.
+ */
+public final class InMemoryS3Service {
+  /** The objects, keyed by bucket name and key */
+  private final Map<String, byte[]> mObjects = new ConcurrentHashMap<String, byte[]>();
+  /** The parts of the multipart uploads in progress, keyed by upload id */
+  private final Map<String, SortedMap<Integer, byte[]>> mUploads =
+      new ConcurrentHashMap<String, SortedMap<Integer, byte[]>>();
+  private final AtomicInteger mNextUploadId = new AtomicInteger(0);
+  private final AtomicInteger mPartsInFlight = new AtomicInteger(0);
+  private final AtomicInteger mMaxPartsInFlight = new AtomicInteger(0);
+  private final AtomicInteger mNumAbortedUploads = new AtomicInteger(0);
+  private final S3Service mClient;
+
+  private volatile long mPartUploadDelayMs = 0;
+  private volatile int mFailingPartNumber = -1;
+  private volatile boolean mStartUploadFailing = false;
+
+  /**
+   * Creates a new, empty {@link InMemoryS3Service}.
+   *
+   * @throws ServiceException if the client cannot be created
+   */
+  public InMemoryS3Service() throws ServiceException {
+    mClient = Mockito.mock(S3Service.class);
+    Mockito.when(mClient.putObject(Mockito.anyString(), Mockito.any(S3Object.class)))
+        .thenAnswer(new Answer<S3Object>() {
+          @Override
+          public S3Object answer(InvocationOnMock invocation) throws Throwable {
+            String bucketName = (String) invocation.getArguments()[0];
+            S3Object object = (S3Object) invocation.getArguments()[1];
+            mObjects.put(objectName(bucketName, object.getKey()), readData(object));
+            return object;
+          }
+        });
+    Mockito.when(mClient.getObject(Mockito.anyString(), Mockito.anyString()))
+        .thenAnswer(new Answer<S3Object>() {
+          @Override
+          public S3Object answer(InvocationOnMock invocation) throws Throwable {
+            Object[] args = invocation.getArguments();
+            return getObject((String) args[0], (String) args[1], 0);
+          }
+        });
+    Mockito.when(mClient.getObject(Mockito.anyString(), Mockito.anyString(),
+        Mockito.any(java.util.Calendar.class), Mockito.any(java.util.Calendar.class),
+        Mockito.any(String[].class), Mockito.any(String[].class), Mockito.anyLong(),
+        Mockito.any(Long.class))).thenAnswer(new Answer<S3Object>() {
+          @Override
+          public S3Object answer(InvocationOnMock invocation) throws Throwable {
+            Object[] args = invocation.getArguments();
+            return getObject((String) args[0], (String) args[1], (Long) args[6]);
+          }
+        });
+    Mockito.when(mClient.multipartStartUpload(Mockito.anyString(), Mockito.anyString(),
+        Mockito.anyMapOf(String.class, Object.class))).thenAnswer(new Answer<MultipartUpload>() {
+          @Override
+          public MultipartUpload answer(InvocationOnMock invocation) throws Throwable {
+            if (mStartUploadFailing) {
+              throw new S3ServiceException("Injected failure to start an upload");
+            }
+            Object[] args = invocation.getArguments();
+            String uploadId = objectName((String) args[0], (String) args[1]) + "#"
+                + mNextUploadId.incrementAndGet();
+            mUploads.put(uploadId, new TreeMap<Integer, byte[]>());
+            return new MultipartUpload(uploadId, (String) args[0], (String) args[1]);
+          }
+        });
+    Mockito.when(mClient.multipartUploadPart(Mockito.any(MultipartUpload.class),
+        Mockito.anyInt(), Mockito.any(S3Object.class))).thenAnswer(new Answer<MultipartPart>() {
+          @Override
+          public MultipartPart answer(InvocationOnMock invocation) throws Throwable {
+            Object[] args = invocation.getArguments();
+            return uploadPart((MultipartUpload) args[0], (Integer) args[1], (S3Object) args[2]);
+          }
+        });
+    Mockito.when(mClient.multipartCompleteUpload(Mockito.any(MultipartUpload.class),
+        Mockito.anyListOf(MultipartPart.class))).thenAnswer(new Answer<Object>() {
+          @SuppressWarnings("unchecked")
+          @Override
+          public Object answer(InvocationOnMock invocation) throws Throwable {
+            Object[] args = invocation.getArguments();
+            completeUpload((MultipartUpload) args[0], (List<MultipartPart>) args[1]);
+            return null;
+          }
+        });
+    Mockito.doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        MultipartUpload upload = (MultipartUpload) invocation.getArguments()[0];
+        mUploads.remove(upload.getUploadId());
+        mNumAbortedUploads.incrementAndGet();
+        return null;
+      }
+    }).when(mClient).multipartAbortUpload(Mockito.any(MultipartUpload.class));
+  }
+
+  /**
+   * @return the client to send requests to this stand-in with
+   */
+  public S3Service getClient() {
+    return mClient;
+  }
+
+  /**
+   * @param bucketName the name of the bucket
+   * @param key the key of the object
+   * @return the data of the object, or null if it does not exist
+   */
+  public byte[] getData(String bucketName, String key) {
+    return mObjects.get(objectName(bucketName, key));
+  }
+
+  /**
+   * @return the number of multipart uploads in progress
+   */
+  public int getNumUploadsInProgress() {
+    return mUploads.size();
+  }
+
+  /**
+   * @return the number of multipart uploads which were aborted
+   */
+  public int getNumAbortedUploads() {
+    return mNumAbortedUploads.get();
+  }
+
+  /**
+   * @return the maximum number of parts which were being uploaded at the same time
+   */
+  public int getMaxPartsInFlight() {
+    return mMaxPartsInFlight.get();
+  }
+
+  /**
+   * @param delayMs the time each part upload takes, in milliseconds
+   */
+  public void setPartUploadDelayMs(long delayMs) {
+    mPartUploadDelayMs = delayMs;
+  }
+
+  /**
+   * @param partNumber the number of the part whose uploads fail
+   */
+  public void setFailingPartNumber(int partNumber) {
+    mFailingPartNumber = partNumber;
+  }
+
+  /**
+   * @param failing whether starting a multipart upload fails
+   */
+  public void setStartUploadFailing(boolean failing) {
+    mStartUploadFailing = failing;
+  }
+
+  private S3Object getObject(String bucketName, String key, long offset)
+      throws S3ServiceException {
+    byte[] data = mObjects.get(objectName(bucketName, key));
+    if (data == null) {
+      throw new S3ServiceException("No such key: " + key);
+    }
+    int start = (int) Math.min(offset, data.length);
+    S3Object object = new S3Object(key);
+    object.setBucketName(bucketName);
+    object.setDataInputStream(new ByteArrayInputStream(data, start, data.length - start));
+    object.setContentLength(data.length - start);
+    return object;
+  }
+
+  private MultipartPart uploadPart(MultipartUpload upload, int partNumber, S3Object object)
+      throws Exception {
+    int inFlight = mPartsInFlight.incrementAndGet();
+    try {
+      while (true) {
+        int max = mMaxPartsInFlight.get();
+        if (inFlight <= max || mMaxPartsInFlight.compareAndSet(max, inFlight)) {
+          break;
+        }
+      }
+      if (mPartUploadDelayMs > 0) {
+        Thread.sleep(mPartUploadDelayMs);
+      }
+      if (partNumber == mFailingPartNumber) {
+        throw new S3ServiceException("Injected failure of part " + partNumber);
+      }
+      SortedMap<Integer, byte[]> parts = mUploads.get(upload.getUploadId());
+      if (parts == null) {
+        throw new S3ServiceException("No such upload: " + upload.getUploadId());
+      }
+      byte[] data = readData(object);
+      synchronized (parts) {
+        parts.put(partNumber, data);
+      }
+      return new MultipartPart(partNumber, new Date(), "etag-" + partNumber,
+          (long) data.length);
+    } finally {
+      mPartsInFlight.decrementAndGet();
+    }
+  }
+
+  private void completeUpload(MultipartUpload upload, List<MultipartPart> parts)
+      throws IOException, S3ServiceException {
+    SortedMap<Integer, byte[]> uploadedParts = mUploads.remove(upload.getUploadId());
+    if (uploadedParts == null) {
+      throw new S3ServiceException("No such upload: " + upload.getUploadId());
+    }
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    for (MultipartPart part : parts) {
+      byte[] partData = uploadedParts.get(part.getPartNumber());
+      if (partData == null) {
+        throw new S3ServiceException("Part " + part.getPartNumber() + " was not uploaded");
+      }
+      data.write(partData);
+    }
+    mObjects.put(objectName(upload.getBucketName(), upload.getObjectKey()), data.toByteArray());
+  }
+
+  private static byte[] readData(S3Object object) throws ServiceException, IOException {
+    return ByteStreams.toByteArray(object.getDataInputStream());
+  }
+
+  private static String objectName(String bucketName, String key) {
+    return bucketName + "/" + key;
+  }
+}
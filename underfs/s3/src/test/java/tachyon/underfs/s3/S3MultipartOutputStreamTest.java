@@ -0,0 +1,220 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.underfs.s3;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+/**
+ * Unit tests for {@link S3MultipartOutputStream}, against an {@link InMemoryS3Service}.
+ */
+public final class S3MultipartOutputStreamTest {
+  private static final String BUCKET_NAME = "test-bucket";
+  private static final String KEY = "dir/file";
+  private static final int PART_SIZE = 1024;
+  private static final int UPLOAD_THREADS = 2;
+
+  private InMemoryS3Service mS3;
+
+  @Before
+  public void before() throws Exception {
+    mS3 = new InMemoryS3Service();
+  }
+
+  /**
+   * Tests that a file smaller than a part is uploaded with a single request.
+   */
+  @Test
+  public void singlePartTest() throws Exception {
+    byte[] data = randomBytes(PART_SIZE / 2);
+    S3MultipartOutputStream outputStream = createStream();
+    outputStream.write(data);
+    Assert.assertNull(mS3.getData(BUCKET_NAME, KEY));
+    outputStream.close();
+
+    Assert.assertArrayEquals(data, mS3.getData(BUCKET_NAME, KEY));
+    Assert.assertEquals(0, mS3.getMaxPartsInFlight());
+  }
+
+  /**
+   * Tests that a file spanning many parts, written with writes of various sizes, is uploaded in
+   * parts and assembled back.
+   */
+  @Test
+  public void multipartTest() throws Exception {
+    byte[] data = randomBytes(PART_SIZE * 10 + PART_SIZE / 2);
+    S3MultipartOutputStream outputStream = createStream();
+    int pos = 0;
+    int writeSize = 1;
+    while (pos < data.length) {
+      int len = Math.min(writeSize, data.length - pos);
+      if (len == 1) {
+        outputStream.write(data[pos]);
+      } else {
+        outputStream.write(data, pos, len);
+      }
+      pos += len;
+      writeSize = writeSize * 3 % (PART_SIZE * 2) + 1;
+    }
+    outputStream.close();
+
+    Assert.assertArrayEquals(data, mS3.getData(BUCKET_NAME, KEY));
+    Assert.assertEquals(0, mS3.getNumUploadsInProgress());
+  }
+
+  /**
+   * Tests that a file of an exact number of parts does not upload an empty last part.
+   */
+  @Test
+  public void exactPartsTest() throws Exception {
+    byte[] data = randomBytes(PART_SIZE * 3);
+    S3MultipartOutputStream outputStream = createStream();
+    outputStream.write(data);
+    outputStream.close();
+
+    Assert.assertArrayEquals(data, mS3.getData(BUCKET_NAME, KEY));
+  }
+
+  /**
+   * Tests that parts are uploaded in parallel, while the number of parts buffered in memory stays
+   * bounded.
+   */
+  @Test
+  public void boundedPartsTest() throws Exception {
+    mS3.setPartUploadDelayMs(20);
+    byte[] data = randomBytes(PART_SIZE * 20);
+    S3MultipartOutputStream outputStream = createStream();
+    for (int i = 0; i < 20; i ++) {
+      outputStream.write(data, i * PART_SIZE, PART_SIZE);
+    }
+    outputStream.close();
+
+    Assert.assertArrayEquals(data, mS3.getData(BUCKET_NAME, KEY));
+    Assert.assertEquals(UPLOAD_THREADS, mS3.getMaxPartsInFlight());
+    int numPartsAllocated = Whitebox.getInternalState(outputStream, "mNumPartsAllocated");
+    Assert.assertEquals(UPLOAD_THREADS + 1, numPartsAllocated);
+  }
+
+  /**
+   * Tests that a failure to upload a part fails the stream, and aborts the upload once.
+   */
+  @Test
+  public void partFailureTest() throws Exception {
+    mS3.setFailingPartNumber(2);
+    S3MultipartOutputStream outputStream = createStream();
+    try {
+      outputStream.write(randomBytes(PART_SIZE * 5));
+      outputStream.close();
+      Assert.fail("Writing should fail when a part cannot be uploaded");
+    } catch (IOException e) {
+      // expected
+    }
+    Assert.assertNull(mS3.getData(BUCKET_NAME, KEY));
+    Assert.assertEquals(0, mS3.getNumUploadsInProgress());
+    Assert.assertEquals(1, mS3.getNumAbortedUploads());
+  }
+
+  /**
+   * Tests that a failure to start the multipart upload fails the stream, and that closing it does
+   * not upload the first part as the whole file.
+   */
+  @Test
+  public void startFailureTest() throws Exception {
+    mS3.setStartUploadFailing(true);
+    S3MultipartOutputStream outputStream = createStream();
+    try {
+      outputStream.write(randomBytes(PART_SIZE * 2));
+      Assert.fail("Writing should fail when the upload cannot be started");
+    } catch (IOException e) {
+      // expected
+    }
+    try {
+      outputStream.close();
+      Assert.fail("Closing should fail after a failed write");
+    } catch (IOException e) {
+      // expected
+    }
+    Assert.assertNull(mS3.getData(BUCKET_NAME, KEY));
+  }
+
+  /**
+   * Tests that a write interrupted while waiting for a free part fails the stream, and that closing
+   * it aborts the upload rather than completing it with the parts uploaded so far.
+   */
+  @Test
+  public void interruptedWriteTest() throws Exception {
+    mS3.setPartUploadDelayMs(100);
+    S3MultipartOutputStream outputStream = createStream();
+    Thread.currentThread().interrupt();
+    try {
+      outputStream.write(randomBytes(PART_SIZE * (UPLOAD_THREADS + 3)));
+      Assert.fail("Writing should fail when interrupted while waiting for a free part");
+    } catch (IOException e) {
+      // expected
+    } finally {
+      Assert.assertTrue(Thread.interrupted());
+    }
+    try {
+      outputStream.close();
+      Assert.fail("Closing should fail after a failed write");
+    } catch (IOException e) {
+      // expected
+    }
+    Assert.assertNull(mS3.getData(BUCKET_NAME, KEY));
+    Assert.assertEquals(0, mS3.getNumUploadsInProgress());
+    Assert.assertEquals(1, mS3.getNumAbortedUploads());
+  }
+
+  /**
+   * Tests that the file can be read back from an offset.
+   */
+  @Test
+  public void readAtOffsetTest() throws Exception {
+    byte[] data = randomBytes(PART_SIZE * 2);
+    S3MultipartOutputStream outputStream = createStream();
+    outputStream.write(data);
+    outputStream.close();
+
+    int offset = PART_SIZE + 10;
+    S3InputStream inputStream = new S3InputStream(BUCKET_NAME, KEY, mS3.getClient(), offset);
+    byte[] read = new byte[data.length - offset];
+    int pos = 0;
+    while (pos < read.length) {
+      int bytesRead = inputStream.read(read, pos, read.length - pos);
+      Assert.assertTrue(bytesRead > 0);
+      pos += bytesRead;
+    }
+    inputStream.close();
+    Assert.assertArrayEquals(Arrays.copyOfRange(data, offset, data.length), read);
+  }
+
+  private S3MultipartOutputStream createStream() {
+    return new S3MultipartOutputStream(BUCKET_NAME, KEY, mS3.getClient(), PART_SIZE,
+        UPLOAD_THREADS);
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] data = new byte[length];
+    new Random(length).nextBytes(data);
+    return data;
+  }
+}